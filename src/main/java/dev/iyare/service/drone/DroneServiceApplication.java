@@ -1,8 +1,5 @@
 package dev.iyare.service.drone;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
@@ -16,16 +13,7 @@ import org.springframework.boot.web.servlet.support.SpringBootServletInitializer
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import dev.iyare.service.drone.entities.EntityDrone;
-import dev.iyare.service.drone.entities.EntityMedication;
-import dev.iyare.service.drone.enums.Drone;
-import dev.iyare.service.drone.enums.DroneState;
-import dev.iyare.service.drone.repositories.EntityBatteryHistoryRepository;
-import dev.iyare.service.drone.repositories.EntityDroneRepository;
-import dev.iyare.service.drone.repositories.EntityMedicationRepository;
-import dev.iyare.service.drone.service.BatteryAuditService;
-import dev.iyare.service.drone.utils.SessionUtil;
-import dev.iyare.service.drone.utils.StringUtil;
+import dev.iyare.service.drone.service.SeedDataLoader;
 
 @EntityScan("dev.iyare.service.*")
 @Configuration
@@ -39,17 +27,11 @@ public class DroneServiceApplication extends SpringBootServletInitializer
 		SpringApplication.run(DroneServiceApplication.class, args);
 	}
 
-	EntityDroneRepository entityDroneRepository;
-	EntityMedicationRepository entityMedicationRepository;
-	EntityBatteryHistoryRepository entityBatteryHistoryRepository;
+	SeedDataLoader seedDataLoader;
 
-	public DroneServiceApplication(EntityDroneRepository entityDroneRepository,
-			EntityMedicationRepository entityMedicationRepository,
-			EntityBatteryHistoryRepository entityBatteryHistoryRepository)
+	public DroneServiceApplication(SeedDataLoader seedDataLoader)
 	{
-		this.entityDroneRepository = entityDroneRepository;
-		this.entityMedicationRepository = entityMedicationRepository;
-		this.entityBatteryHistoryRepository = entityBatteryHistoryRepository;
+		this.seedDataLoader = seedDataLoader;
 	}
 
 	@Override
@@ -68,92 +50,14 @@ public class DroneServiceApplication extends SpringBootServletInitializer
 			{
 				logger.info("+++++++++++++++++ Preloading required data in db");
 
-				preLoadDrones();
-
-				preLoadMedications();
-
-				new BatteryAuditService(entityDroneRepository, entityBatteryHistoryRepository).startService();
+				seedDataLoader.load();
 			}
 
 			@Override
 			public void contextDestroyed(ServletContextEvent event)
 			{
-				SessionUtil.getInstance().setStopAudit(true);
 				logger.info("+++++++++++++++++ ServletContextListener destroyed");
 			}
 		};
 	}
-
-	protected void preLoadMedications()
-	{
-		EntityMedication entityMedication = null;
-		List<EntityMedication> medications = new ArrayList<EntityMedication>();
-
-		entityMedication = new EntityMedication();
-		entityMedication.setName("PARACETAMOL");
-		entityMedication.setCode("PCM");
-		entityMedication.setWeight("100");
-		entityMedication.setImage(
-				"/9j/4AAQSkZJRgABAQAASABIAAD/4QFQRXhpZgAATU0AKgAAAAgABAEaAAUAAAABAAAAPgEbAAUAAAABAAAARgEoAAMAAAABAAIAAIdpAAQAAAABAAAATgAAAAAAAABIAAAAAQAAAEgAAAABAA+QAAAHAAAABDAyMjGQAwACAAAAFAAAAQiQBAACAAAAFAAAARyQEAACAAAABwAAATCQEQACAAAABwAAATiQEgACAAAABwAAAUCRAQAHAAAABAECAwCSkAACAAAABDIyMACSkQACAAAABDIyMACSkgACAAAABDIyMACgAAAHAAAABDAxMDCgAQADAAAAAf//AACgAgAEAAAAAQAAAPygAwAEAAAAAQAAARykBgADAAAAAQAAAAAAAAAAMjAyMzowMTozMSAxNTozMDowMwAyMDIzOjAxOjMxIDE1OjMwOjAzACswMTowMAAAKzAxOjAwAAArMDE6MDAAAP/tAHhQaG90b3Nob3AgMy4wADhCSU0EBAAAAAAAPxwBWgADGyVHHAIAAAIAAhwCPwAGMTUzMDAzHAI+AAgyMDIzMDEzMRwCNwAIMjAyMzAxMzEcAjwABjE1MzAwMwA4QklNBCUAAAAAABB/XKyquGt9YkTB/O2ls4hQ/+IbtElDQ19QUk9GSUxFAAEBAAAbpGFwcGwCEAAAbW50clJHQiBYWVogB+cAAQAWABIAEAAdYWNzcEFQUEwAAAAAQVBQTAAAAAAAAAAAAAAAAAAAAAAAAPbWAAEAAAAA0y1hcHBsAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAARZGVzYwAAAVAAAABiZHNjbQAAAbQAAAScY3BydAAABlAAAAAjd3RwdAAABnQAAAAUclhZWgAABogAAAAUZ1hZWgAABpwAAAAUYlhZWgAABrAAAAAUclRSQwAABsQAAAgMYWFyZwAADtAAAAAgdmNndAAADvAAAAYSbmRpbgAAFQQAAAY+bW1vZAAAG0QAAAAodmNncAAAG2wAAAA4YlRSQwAABsQAAAgMZ1RSQwAABsQAAAgMYWFiZwAADtAAAAAgYWFnZwAADtAAAAAgZGVzYwAAAAAAAAAIRGlzcGxheQAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAG1sdWMAAAAAAAAAJgAAAAxockhSAAAAFAAAAdhrb0tSAAAADAAAAexuYk5PAAAAEgAAAfhpZAAAAAAAEgAAAgpodUhVAAAAFAAAAhxjc0NaAAAAFgAAAjBkYURLAAAAHAAAAkZubE5MAAAAFgAAAmJmaUZJAAAAEAAAAnhpdElUAAAAGAAAAohlc0VTAAAAFgAAAqByb1JPAAAAEgAAArZmckNBAAAAFgAAAshhcgAAAAAAFAAAAt51a1VBAAAAHAAAAvJoZUlMAAAAFgAAAw56aFRXAAAACgAAAyR2aVZOAAAADgAAAy5za1NLAAAAFgAAAzx6aENOAAAACgAAAyRydVJVAAAAJAAAA1JlbkdCAAAAFAAAA3ZmckZSAAAAFgAAA4ptcwAAAAAAEgAAA6BoaUlOAAAAEgAAA7J0aFRIAAAADAAAA8RjYUVTAAAAGAAAA9BlbkFVAAAAFAAAA3Zlc1hMAAAAEgAAArZkZURFAAAAEAAAA+hlblVTAAAAEgAAA/hwdEJSAAAAGAAABApwbFBMAAAAEgAABCJlbEdSAAAAIgAABDRzdlNFAAAAEAAABFZ0clRSAAAAFAAABGZwdFBUAAAAFgAABHpqYUpQAAAADAAABJAATABDAEQAIAB1ACAAYgBvAGoAac7st+wAIABMAEMARABGAGEAcgBnAGUALQBMAEMARABMAEMARAAgAFcAYQByAG4AYQBTAHoA7QBuAGUAcwAgAEwAQwBEAEIAYQByAGUAdgBuAP0AIABMAEMARABMAEMARAAtAGYAYQByAHYAZQBzAGsA5gByAG0ASwBsAGUAdQByAGUAbgAtAEwAQwBEAFYA5AByAGkALQBMAEMARABMAEMARAAgAGEAIABjAG8AbABvAHIAaQBMAEMARAAgAGEAIABjAG8AbABvAHIATABDAEQAIABjAG8AbABvAHIAQQBDAEwAIABjAG8AdQBsAGUAdQByIA8ATABDAEQAIAZFBkQGSAZGBikEGgQ+BDsETAQ+BEAEPgQyBDgEOQAgAEwAQwBEIA8ATABDAEQAIAXmBdEF4gXVBeAF2V9pgnIATABDAEQATABDAEQAIABNAOAAdQBGAGEAcgBlAGIAbgD9ACAATABDAEQEJgQyBDUEQgQ9BD4EOQAgBBYEGgAtBDQEOARBBD8EOwQ1BDkAQwBvAGwAbwB1AHIAIABMAEMARABMAEMARAAgAGMAbwB1AGwAZQB1AHIAVwBhAHIAbgBhACAATABDAEQJMAkCCRcJQAkoACAATABDAEQATABDAEQAIA4qDjUATABDAEQAIABlAG4AIABjAG8AbABvAHIARgBhAHIAYgAtAEwAQwBEAEMAbwBsAG8AcgAgAEwAQwBEAEwAQwBEACAAQwBvAGwAbwByAGkAZABvAEsAbwBsAG8AcgAgAEwAQwBEA4gDswPHA8EDyQO8A7cAIAO/A7gDzAO9A7cAIABMAEMARABGAOQAcgBnAC0ATABDAEQAUgBlAG4AawBsAGkAIABMAEMARABMAEMARAAgAGEAIABjAG8AcgBlAHMwqzDpMPwATABDAER0ZXh0AAAAAENvcHlyaWdodCBBcHBsZSBJbmMuLCAyMDIzAABYWVogAAAAAAAA81IAAQAAAAEWz1hZWiAAAAAAAABhbAAAODIAAApCWFlaIAAAAAAAAG8cAACulQAAFplYWVogAAAAAAAAJk4AABk5AACyUmN1cnYAAAAAAAAEAAAAAAUACgAPABQAGQAeACMAKAAtADIANgA7AEAARQBKAE8AVABZAF4AYwBoAG0AcgB3AHwAgQCGAIsAkACVAJoAnwCjAKgArQCyALcAvADBAMYAywDQANUA2wDgAOUA6wDwAPYA+wEBAQcBDQETARkBHwElASsBMgE4AT4BRQFMAVIBWQFgAWcBbgF1AXwBgwGLAZIBmgGhAakBsQG5AcEByQHRAdkB4QHpAfIB+gIDAgwCFAIdAiYCLwI4AkECSwJUAl0CZwJxAnoChAKOApgCogKsArYCwQLLAtUC4ALrAvUDAAMLAxYDIQMtAzgDQwNPA1oDZgNyA34DigOWA6IDrgO6A8cD0wPgA+wD+QQGBBMEIAQtBDsESARVBGMEcQR+BIwEmgSoBLYExATTBOEE8AT+BQ0FHAUrBToFSQVYBWcFdwWGBZYFpgW1BcUF1QXlBfYGBgYWBicGNwZIBlkGagZ7BowGnQavBsAG0QbjBvUHBwcZBysHPQdPB2EHdAeGB5kHrAe/B9IH5Qf4CAsIHwgyCEYIWghuCIIIlgiqCL4I0gjnCPsJEAklCToJTwlkCXkJjwmkCboJzwnlCfsKEQonCj0KVApqCoEKmAquCsUK3ArzCwsLIgs5C1ELaQuAC5gLsAvIC+EL+QwSDCoMQwxcDHUMjgynDMAM2QzzDQ0NJg1ADVoNdA2ODakNww3eDfgOEw4uDkkOZA5/DpsOtg7SDu4PCQ8lD0EPXg96D5YPsw/PD+wQCRAmEEMQYRB+EJsQuRDXEPURExExEU8RbRGMEaoRyRHoEgcSJhJFEmQShBKjEsMS4xMDEyMTQxNjE4MTpBPFE+UUBhQnFEkUahSLFK0UzhTwFRIVNBVWFXgVmxW9FeAWAxYmFkkWbBaPFrIW1hb6Fx0XQRdlF4kXrhfSF/cYGxhAGGUYihivGNUY+hkgGUUZaxmRGbcZ3RoEGioaURp3Gp4axRrsGxQbOxtjG4obshvaHAIcKhxSHHscoxzMHPUdHh1HHXAdmR3DHeweFh5AHmoelB6+HukfEx8+H2kflB+/H+ogFSBBIGwgmCDEIPAhHCFIIXUhoSHOIfsiJyJVIoIiryLdIwojOCNmI5QjwiPwJB8kTSR8JKsk2iUJJTglaCWXJccl9yYnJlcmhya3JugnGCdJJ3onqyfcKA0oPyhxKKIo1CkGKTgpaymdKdAqAio1KmgqmyrPKwIrNitpK50r0SwFLDksbiyiLNctDC1BLXYtqy3hLhYuTC6CLrcu7i8kL1ovkS/HL/4wNTBsMKQw2zESMUoxgjG6MfIyKjJjMpsy1DMNM0YzfzO4M/E0KzRlNJ402DUTNU01hzXCNf02NzZyNq426TckN2A3nDfXOBQ4UDiMOMg5BTlCOX85vDn5OjY6dDqyOu87LTtrO6o76DwnPGU8pDzjPSI9YT2hPeA+ID5gPqA+4D8hP2E/oj/iQCNAZECmQOdBKUFqQaxB7kIwQnJCtUL3QzpDfUPARANER0SKRM5FEkVVRZpF3kYiRmdGq0bwRzVHe0fASAVIS0iRSNdJHUljSalJ8Eo3Sn1KxEsMS1NLmkviTCpMcky6TQJNSk2TTdxOJU5uTrdPAE9JT5NP3VAnUHFQu1EGUVBRm1HmUjFSfFLHUxNTX1OqU/ZUQlSPVNtVKFV1VcJWD1ZcVqlW91dEV5JX4FgvWH1Yy1kaWWlZuFoHWlZaplr1W0VblVvlXDVchlzWXSddeF3JXhpebF69Xw9fYV+zYAVgV2CqYPxhT2GiYfViSWKcYvBjQ2OXY+tkQGSUZOllPWWSZedmPWaSZuhnPWeTZ+loP2iWaOxpQ2maafFqSGqfavdrT2una/9sV2yvbQhtYG25bhJua27Ebx5veG/RcCtwhnDgcTpxlXHwcktypnMBc11zuHQUdHB0zHUodYV14XY+dpt2+HdWd7N4EXhueMx5KnmJeed6RnqlewR7Y3vCfCF8gXzhfUF9oX4BfmJ+wn8jf4R/5YBHgKiBCoFrgc2CMIKSgvSDV4O6hB2EgITjhUeFq4YOhnKG14c7h5+IBIhpiM6JM4mZif6KZIrKizCLlov8jGOMyo0xjZiN/45mjs6PNo+ekAaQbpDWkT+RqJIRknqS45NNk7aUIJSKlPSVX5XJljSWn5cKl3WX4JhMmLiZJJmQmfyaaJrVm0Kbr5wcnImc951kndKeQJ6unx2fi5/6oGmg2KFHobaiJqKWowajdqPmpFakx6U4pammGqaLpv2nbqfgqFKoxKk3qamqHKqPqwKrdavprFys0K1ErbiuLa6hrxavi7AAsHWw6rFgsdayS7LCszizrrQltJy1E7WKtgG2ebbwt2i34LhZuNG5SrnCuju6tbsuu6e8IbybvRW9j74KvoS+/796v/XAcMDswWfB48JfwtvDWMPUxFHEzsVLxcjGRsbDx0HHv8g9yLzJOsm5yjjKt8s2y7bMNcy1zTXNtc42zrbPN8+40DnQutE80b7SP9LB00TTxtRJ1MvVTtXR1lXW2Ndc1+DYZNjo2WzZ8dp22vvbgNwF3IrdEN2W3hzeot8p36/gNuC94UThzOJT4tvjY+Pr5HPk/OWE5g3mlucf56noMui86Ubp0Opb6uXrcOv77IbtEe2c7ijutO9A78zwWPDl8XLx//KM8xnzp/Q09ML1UPXe9m32+/eK+Bn4qPk4+cf6V/rn+3f8B/yY/Sn9uv5L/tz/bf//cGFyYQAAAAAAAwAAAAJmZgAA8qcAAA1ZAAAT0AAAClt2Y2d0AAAAAAAAAAAAAwEAAAIAAABWAS4B6wLEA4MEUwVABicHGggYCR8KPQtODGsNkA65D+wRLRJlE6MU4xYqF3kYvxoPG1ccpB3zHzwghCHNIxEkUiWNJssoACkzKmYrlyzKLfcvKDBRMYAyqzPVNQI2MTddOIo5tjrhPA09OD5gP4lAsUHcQwhENkVjRpBHuEjeSgFLJExHTWpOj0+0UNhR+FMWVDNVT1ZtV41YrlnLWuFb8Fz3XftfAGAKYRliLWNBZFJlX2ZlZ2FoU2k8aiBrAWvgbL9toG6Db2hwUHE4ciBzCHPvdNZ1vnaod5N4fnlsell7SXw9fTd+Nn85gEGBS4JXg2WEdIWFhpSHpIizicCKzIvWjN+N547tj/KQ9ZH2kvWT9ZT6lgSXFZgsmUeaY5t/nJidrp6/n8ug1KHaouCj6aT0pgOnFagqqUKqXKt3rJStsq7Rr/GxEbIzs1O0c7WQtqm3urjBucO6wLu7vLW9r76pv6PAncGVworDfMRqxVPGNscYx/nI4MnPysbLw8zBzbzOr8+Y0HPRQ9IN0tPTm9Rm1TXWBdbX16jYdtlA2gbax9uA3DXc592R3jve49+N4Dvg6+Gf4lLjA+Ov5FXk+eWU5izmv+dS5+Tohekv6eTqqOtu7DPs9e2v7mPvEe+18FDw5vF88hfyxvOP9G71YfZm94r45PrF/S7//wAAAFYBIwGwAmoDMgPoBLEFgAZYBz0ILQknCicLIgwwDToOUQ9jEH4RnxK+E+kVEBY4F2EYiBm0Gt4cCx0zHlsfgCChIb8i2yP1JQsmHyc1KEkpYCp5K5MssS3MLugwBDEhMjwzWjR0NYs2pDe5OM054jr0PAY9Gz4xP01AbEGPQrBD0ETtRghHHUgySUVKVUtjTG5NeE5+T4NQhVGGUohTilSMVYpWhFd5WGhZVFpEWz9cRl1aXndflWCwYcJiymPFZLVlnGZ7Z1doMGkMaexq0Gu6bKltm26Pb4JwcnFcckBzH3P7dNV1rXaGd2J4RXkweiR7HXwZfRV+EH8Gf/aA4oHKgrGDlYR3hV2GSodEiEyJYYqBi6WMxo3eju6P9ZD3kfWS85PwlO2V7Jbul/iZEJo5m26cpp3OnuOf6aDlod+i2aPRpMilvqa8p8qo7aohq12snK3ZrxSwTrGIssKz+bUutmS3m7jSugW7NLxfvYW+pr+8wL7BqsKQw33Ed8WAxo/HncijyZ7Kjst1zFPNLc4EztrPstCL0WrSUdNF1EXVUdZi13XYhNmH2n3bZtxD3Rrd7N6534fgWOEt4gji5uPD5J3lceZA5wzn1Oij6X/qaetk7Gjtbe5w73DwcPFy8nbzefR39Wn2R/cP97P4RfjL+Vr57frQ/Az92v//AAAAKwDEAUsB2AJlAwYDjwQrBM8FegYvBukHpQhoCS8J+QrKC58Mdw1SDjIPDg/2ENkRwBKpE5MUfRVnFlIXPRgpGRUZ/BroG9Icvh2uHqMfmyCWIZQijyOGJHYlYSZFJyAn+CjMKZ8qcytILCEtAi3pLtcvyDC6MaoymDOANGA1OTYGNs83lThYORk52TqdO2Q8Mj0GPd4+tj+PQGhBREImQxBEAETzRedG1ke7SJZJZUolSuBLmExPTQdNw06DT0lQGFDqUb5Sk1NoVDtVDVXeVq1XfFhKWRVZ31qoW29cNVz5Xb1egF9DYAhg0WGcYmtjPGQMZNplp2ZxZzhn/Gi/aYBqQGsAa8BsgW1DbgRuxW+FcEFw+HGrcllzAXOpdE909HWYdjx23neAeB14vXlgehZ62nurfIN9WH4ofvZ/w4CTgWeCRIMqhBiFC4YAhvSH44jNia+KjIthjDSNB43ajrCPipBrkUeSEpLGk1uT7JR6lUGWQpeImQiaipvknRmeMp85oDmhNaIvoyikIaUZphGnCqgJqQ+qIas9rGCth66tr9Ow/LIos1q0krXRtxS4Wbmcute8Bb0pvke/YsB/wZ7CvsPfxP/GIcdDyGfJjMqxy9bM/c4pz1vQl9He0zLUjdXu11PYudoh25XdL98O4Xfki+h57U7y9vlR//8AAG5kaW4AAAAAAAAGNgAAk5UAAFaNAABW6QAAkbcAACa7AAAXCgAAUA0AAFQ5AAKHrgACR64AAWuFAAMBAAACAAAAAQAEAAgADwAWAB8AKQA0AEAATABaAGkAeACJAJoArAC+ANIA5gD8ARIBKQFAAVkBcwGNAakBxQHjAgECIQJCAmQChwKsAtIC+gMjA00DegOoA9cECAQ6BG0EowTZBRIFSwWGBcMGAQZABoAGwgcFB0oHkAfYCCEIbAi5CQcJVwmoCfoKTQqhCvcLTguoDAQMYgzDDSUNiQ3uDlQOvA8lD5EQABBxEOQRWRHPEkYSvRM4E7YUOhTDFVIV4xZ1FwYXlhgmGLgZThnoGogbMRvjHJ8dYh4rHvgfxiCVIWQiNCMGI9sksyWPJmwnSygrKQ0p8CrVK7ssni1+LlwvOTAUMPAxzTKqM4k0aDVKNi43FTf/OO053jrSO8o8xT3EPsc/zkDaQehC9kQARQZGCEcISAhJCUoMSxRMIU00Tk5PblCUUbxS5VQNVTRWWVd9WKBZxFrnXAtdMF5WX3xgpGHOYvhkJGVTZoVnvGj6akNrmWz5bmNv0nFGcrx0NHWvdy14sXo8e9B9b38cgNaClIRMhfaHlIksisWMZY4Vj9+RzZPdlf+YIJo5nEyeX6B5oqCk2qctqaCsMK7gsaG0XrcLua68Xb8rwh/FRsiizAzPKNH21JHXKNnR3J7fl+LS5mDp+e0S76zyAPQw9jn3//mK+rj71Py7/aP+cP83//8AAAABAAUACgASABsAJgAyAD8ATQBcAG0AfgCRAKQAuQDPAOUA/QEWAS8BSgFmAYMBogHBAeICBAInAkwCcgKaAsMC7wMcA0sDfAOvA+QEGgRSBIsExQUBBT0FewW7BfwGPwaDBskHEAdZB6UH8ghBCJMI5gk7CZMJ7ApGCqEK/AtYC7QMEgxyDNQNOQ2gDgsOeA7nD1kPzhBGEMARPhG/EkMSyhNTE90UahT6FY8WKhbLF3EYFhi2GVEZ5hp5Gw0bpBxAHOQdkR5KHw4f3SCzIY4iaSNCJBgk6yW9JpAnZihCKSUqEisILAUtCC4OLxIwETEIMfky6DPXNMo1wTbBN8o42znyOw48MD1RPmk/dEByQWhCWENHRDlFNEY4R0dIX0l+SqFLx0zwThtPRVBrUYZSlFOXVJVVlFagV79Y8Vo1W4BczV4eX3Rgz2IjY2ZklWW1Zs5n5Gj7ahZrM2xUbXZumm/AcOpyF3NGdHZ1p3baeBB5TXqPe9h9Jn59f+OBZ4MQhMqGdIgGiYeLBIyIjhuPw5GCk1iVQ5c7mTubO505nymhBKLGpHamG6e9qWKrFazdrsWwz7L1tTG3fLnLvA++RMBywqbE6cdCybLMMc6c0N3S9NTx1ufY49ro3PTfAeEK4xTlJOdI6ZbsN++K86b3bPnO+4T8w/30/vn//wAAAAIACAARAB4ALQA+AFEAZgB9AJYAsADMAOoBCQErAU0BcgGYAcAB6gIWAkQCdAKmAtoDEQNJA4QDwAP9BDsEegS6BPwFQQWKBdcGKQaBBt0HPgeiCAgIbwjUCTkJnQoCCmoK1QtEC7sMOQzBDVAN5g6CDyEPwBBcEPYRkBItEs0TbhQNFKgVQhXcFnkXHhfOGI4ZYhpCGyocFBz7Hd0euB+SIG0hTCIwIxgkBiT5JfEm7yfzKP0qDiskLEAtYC6AL50wuDHTMvM0GjVJNoI3wzkMOlw7sD0HPmA/vkEiQpNEFkWuR1pJEUrRTJpOb1BVUjJT2lVaVsxYSFnTW2Zc+F6DYAFhcGLVZDdlnGcJaIFqCmujbU1vAHC3cm90HnXDd3V5ZHvufqSAeYHWgvyEAoUIhhCHM4hzidSLVYzpjoiQLpHZk4iVO5bxmKmaXpwKnaefN6C9oj+jwKVEpsqoUKnUq1Ss0K5Gr7mxKLKXtAi1fbb8uIm6JrvQvYK/NsDpwpzET8YEx7vJc8srzOTOntBY0hTT0tWP10rY/9qs3E/d6N914P3iguQD5YLnAuiD6gTrf+zu7kbvefCd8Y3ydfNE8/f0qvVO9dv2aPb293b36fhc+M/5Q/mr+g36cPrS+zX7mPvx/En8ovz7/VT9rf4D/lj+rP8B/1X/qv//AABtbW9kAAAAAAAABhAAAJzfAAAAAMoqyp8AAAAAAAAAAAAAAAAAAAAAdmNncAAAAAAAAwAAAAJmZgADAAAAAmZmAAMAAAACZmYAAAACh64AAAAAAAFrhQAAAAAAAkeuAAD/wAARCAEcAPwDASIAAhEBAxEB/8QAHwAAAQUBAQEBAQEAAAAAAAAAAAECAwQFBgcICQoL/8QAtRAAAgEDAwIEAwUFBAQAAAF9AQIDAAQRBRIhMUEGE1FhByJxFDKBkaEII0KxwRVS0fAkM2JyggkKFhcYGRolJicoKSo0NTY3ODk6Q0RFRkdISUpTVFVWV1hZWmNkZWZnaGlqc3R1dnd4eXqDhIWGh4iJipKTlJWWl5iZmqKjpKWmp6ipqrKztLW2t7i5usLDxMXGx8jJytLT1NXW19jZ2uHi4+Tl5ufo6erx8vP09fb3+Pn6/8QAHwEAAwEBAQEBAQEBAQAAAAAAAAECAwQFBgcICQoL/8QAtREAAgECBAQDBAcFBAQAAQJ3AAECAxEEBSExBhJBUQdhcRMiMoEIFEKRobHBCSMzUvAVYnLRChYkNOEl8RcYGRomJygpKjU2Nzg5OkNERUZHSElKU1RVVldYWVpjZGVmZ2hpanN0dXZ3eHl6goOEhYaHiImKkpOUlZaXmJmaoqOkpaanqKmqsrO0tba3uLm6wsPExcbHyMnK0tPU1dbX2Nna4uPk5ebn6Onq8vP09fb3+Pn6/9sAQwACAgICAgIDAgIDBQMDAwUGBQUFBQYIBgYGBgYICggICAgICAoKCgoKCgoKDAwMDAwMDg4ODg4PDw8PDw8PDw8P/9sAQwECAwMEBAQHBAQHEAsJCxAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQ/90ABAAQ/9oADAMBAAIRAxEAPwD9/KKK86+LPxBsvhR8M/E3xJ1GE3MPh3T57zyQ2wzPEhKRbsHaXbC5wcZzjik5JK7NadOVSahDdnotFfzS3/8AwU6/av1PV7m80q+0+1t5XBS0g06OSKJSwAUGTfKckgEs5JzxgkVvab/wVc/aXssLe2OgX+OplspkJ+vlzqPyArxVmtF9z9JfAuaWuuX7/wDgH9HlFfz5W3/BXP44KV+1+EfDsoA52JdoSfUZuWxXW6b/AMFevHisP7V+H2mzjH/LC7mi/wDQlkq1meH6sxlwNnPSmn81/mfvBRX4pWX/AAWBi5Go/C4nB4MOr449cNan8s11dp/wV48DyY+2/DvUYv8ArnewyfzjWtFmWGf2vzOWXBedp/wL/Nf5n7BUV+U9j/wVq+CkpX7f4R1+3yeSi2sgHr1nU/pXZ2n/AAVN/ZquMCa11+2z3eyhIH/fE7H9KtZhhntM5pcJZ1H/AJhpfmfpLRXwFaf8FL/2Vbg4l1fUbUesmnTH/wBADV1Fl/wUL/ZJvQD/AMJsbcnoJdPvl/8AaBH61p9dw9/jX3nJLhrN474Wf/gL/wAj7Vor5asv21/2V9QGYPiLpyf9dRND/wCjI1rprb9qr9m26A8r4m+Hxn+/qEMf/obCtVXpPaSZwyybMY/Fh5/+Av8AyPf6K8m0/wCPPwP1YhdM+IPh+7J7RaraufyEhrsbPxr4N1Egafr1hc56eVdRPn/vljWqnF9TgqYTEU9Jwa+R1FFVYr2ym/1M8b/7rg/yNWQQeQcirONproLRRRQIKKKKACiiigAooooAKKKKACiiigAooooA/9D9/K+YP20U8z9lb4mrjONGnbpn7pB/pX0/Xzj+17F537L/AMUEHONAv2/75iLf0rCvrSn6HqZa7Yyl/iX5n8rHw6n1OPWriHSNXTTJru2e3eKTzSL6KVlWS1Cxg7mdSWVSVJZRsYS+Xn6G8GWHxUt7oW9r4A8NeI99u4QXlvZPNIPKcLMTPIsxYH53DgOSCGAbkfHTH2Bx04qe2ubi1cy20rQuyPGWRipKSKUdSQQcMpKsOhBIOQSK/Oj+xK1Bzbtb+vmj6h8Qx/EqD7feX/w+0DTYrK2Mlx9ltoEEcEltcRMcpMWAZZGbg5DohXDKAce907x7qVqmkT/DuCUStdx25s7RxKs8pmcsphYhjHkkArsCKmAAEI+dw2SMZBrTg1LUYZY5YLuVHiOVZXYFTktkEHIOSTkdyT1NZyO2nh5KyTX4/wCZ77qumXely6rZxfCxdvmfZWaNru5t0mtJGjkMcoJfJYgMFlAOFBBBOb6WHh94mfVfhVf20UbXMcSwz3Bl8zcfKjdSFbaryBTKwYkgKAcba8MtvFnie3tb2wg1W4FvqMZjuIzIxDqziRgck4LMoJI5OSCSCRV4eOPGzrKjeINQKTEmQG7mw5Zt5LDdzlvmOep5681m5I64YWrayf4y/wAzumuvA/8AZ8Gn3vgzULW4ISYyxXJDMGiSIFRJEx8tpQWAycM2ASMKKWrp4Q0vWb+C68O6hpz2/wBkW3s7mQgh4kVbkXWQrnzWDNiMoVLEDAAFcrB438YQJ5KazdmIL5flvMzoULFypViVwSSSMYOSCCCRW9a/E7x+krTrrty7vLFOTI4kHmwsGQ4fIHzAFgOGI+YGsXJdT2KNCqnZa/8Abz/4J3Gnw/D/AFe0/tRfCWpRoY54CLSOae2NzkbCrtPuVkjMbFSXBd2JGwKtUNb03wGtjavo+k6vBdz2oliju0x57EDLK6AhkCkSKyqoJDAgAqBy0XxB8aJqK6sNVlN2pJ8whSTlIoyGBGGBWGMYII+UHGck7cPxe+IUdsllHqaJBHsCxra2ygeXGkSYCxjGI40UegUelZ80GrHbHCYqMk4v/wAmf+RvXfhL4TSzvfaZ4rvbPTQI2WK9sSZ3UkowR42w+GVhuCAKcA5wScqDw58NGnubabxc4VYo5IJ/sUwQuQ+6NowCxIIXLZUYJIyRisqw8d63Zz3U00UF8t40byxXKNJAzIXYkxbghDPI7lSCodiyhWAI6WD4tT27LKvhPw6ZE2Yb+zUBBRmYMAGABJbBIABCgY45lypv+mdioY2Ol398f8h2nfDzwlfwm6HjvT4oYhG0oeKVJRvUEBEcL5hByGCkkAZPYHzK4hFvcy26yrOImKiSMko4UkblJAODjIyAcYyAeK7tfiFAzr53hXRZMI8Z220ke4OSQT5cq4KhiARg4xkkhSNGy8deEprWGy8ReCrK5S288xvbSz2zkytJIFYq5LAMyqNxO1FwoySTjJU3azt956tCeKptucXJf9u/8A8wV8HgkE9xXTaZ4w8W6OCuka3fWIAwPIuZIv8A0BhWh4o8Q+FtZtLaLRPDMWiXERUSTJcyymREXao2NhQSMFmwWZhknJOeOB6e9ckm4v3Xc+io/vYfvYW8nb9LnrNp8cvjXaII7b4geIIUHQJqt2oH0AkFdTpXxz/aUvFafSvH3im4jiJyy6reFQRyRzLgn2GT7V4Euecc47V9l+Fr3UPDfhzw4NGu4NO0y5s/tUkskSutwbeVZ7lGd8jMcEbuVABKlhkk4rzsbmc8FR9trJ3tvbo3vZ9F2PzTjLNqeTxoxw+Hg5TvvFPRW6XW7a6mj8NP27f2ifAWvWl5qfiOfxPpcMgN1p+phZPPQAhlE7KZomAOVKtgMAWVhlT/AEReEvEumeNPC2j+MNFZn0/XLOC9tywKsYrmMSJkdQcMMg9DX8sfxXtRB4hsdVNotlLrFsbh4VUoFw/ynYxJXcrA4JPGO2K/pI/Zfl879nX4bt/d0GwX/vmFV/pX6Hw5jZ19W24ySkr62PwzxEo5fjMmwec4ahGnUlJxlyqydv8AhtOp7vRRRX35/MoUUUUAFFFFABRRRQAUUUUAf//R/fyvAf2qkEn7NHxSX08NaqfytZD/AEr36vCf2oU3/s2/FMf9SvrB/KzlNZVf4cj0cv8A97pf4l+Z/IO6jPHGDUe0HrwR6V7b4X+EA8UeCZvGCasYTBIsTQLbGQIZZDHG0j+YoWMkMztglUVmw2ADVvPhPLZ6hrVmbq4CaPIVYvaeW7qlpJdyOEaQABVjJGGOU+Y4YxpJ+bO6V+5/aDxNHncb7HkSIcD2qyoA5PQ8V7L4g+COvaBaX+oC8imtrCATSSPiJTumhhVAXbG4idWJPyADaGLECotU+CXinTPDsniZrm0ltECMEEjLKwldUXAZQoPzAkbumSCRjObTd9DrpYzD2TUtzyLBAGB0PNS42jdn2ro/EnhO/wDCzWP2yeG4XUYBcRmEuQELEAPvVCGIAbABwCASDkDn19CPzrBnu0WppSix2cgFTirMOckkfl0qBVYnjp6VeRcAD8fzrCTPZoQbd+w7OOelO3nPQfWm7ecZqTbk9OK5z1kn0JI3OcHJzVoAkDcKqBGOOwHarsfQbjWE7HqUE3owGB2pxBGCOc0vtjigZ5/SsjutbQcF6571IoGBk5I5qMA4HtUgGM+/FSzojvsTq2ACo6nvXsXw11+fR/BNtp+pa7oV7bFJ2Ww1Jpo5rbzY5LaRQREy5eJiODyr4J7V44pwOmcVKrFgPfmvawOOw1KhVwuLw6qwnZ2elrX2fzPzjjLgr/WRYdrEulKlezSvvbzXY3vF+r6zrvjcaprGp2WpGe0JjFhMZY4UDKAjEqpDYA4wBgcAYwP6dP2Spxcfs1/DqQdtIgX/AL4yv9K/l2iUljn04r+m/wDYquPtP7Lvw/k67bKWP/v3cSp/Svq8vx9LFY1yoUlTioKKitkl9x+K8fcNvIuE8NgnVdRqq3zNW3Tfdn1JRRRX2J/JwUUUUAFFFFABRRRQAUUUUAf/0v38rw39psZ/Zw+KY6f8UtrX6WUpr3KvFv2kAG/Z5+KA5/5FfWumc/8AHlL6VjW0pyPQwP8AvVP1X5n8y3wh/ZK+M/xy8L3HjL4fWNrdadb3cli7TXccDiaOOORhtcgkFZVwc4zkdq5T4r/s7/Gf4IrBL8RvDs+m2V45jiuY3juLZ3AJCebCzqrEZIViGIBIBAJH6E/szaxqmif8E+virq3h+9n07UbDVL2WG4t5GilidbWxO5XUhlPXGO3BzXW/AjxX41+Nn7FHxbt/jHPNr1lpVpftp19e5aVntbQ3KDzCQZDBOqMrElsnaSQAK+HjQpuKWt7X8j+ma+eY6jia05KLowmota82ttV0e5+ROjeGPFviuy1m/wBHt57+38P2hv74qS3lWxmjiaQgnJAkkUkAEgZYjCkjT8K6V45+ImvWfgnw89xqup61L5UNq1xtE0hJkwTKyoMsC2WIGec55r9dP2Evh94K8IfBRtT+IsS7/jbfy6Hbxy/IJLKK2uAsZJIKicpMAR94mIDJINfE/wAFfAGq/Cf9tzw38PdaJNzofiAW3mbdoljIJikAPIWWNlYd8MKweFsqbb0l/X5Hv0s9pzrYyjTWtJNrzstfuehyviz9j79qfRrK48QeJPBGoXMcQaSWSKaG+lwSWZisEsshySSxA6kk9yfmDb689K/bPxL8e/jRoH/BQJPhZoWqz3/ha+vtNt5dLZBLFFb3FnC88q4G9DGGaYkMBkHdlcg/Ff7Xnw1t7v8AbH1vwF4CtY0ufEl7pwihX5UF7qUMLOTgHAaWQux7biegxSxOHhGPNSvvyl5DnmKrVY0cfGK54e0Tje1uzTPj2/0LV9IsdM1LULZ4LbWYGurORgMTwpNJbsykHoJYpFOcHKnjBBOv4V8KeKPG2rQ6B4R0m61jUZ+Vt7SJ55SAQCdqAkKMjLHgDkkCv1z/AG2vg74Rv/gVZf8ACvw0938DpbXRbvIBlNlPa27ksU4Zl8yGRiQACZScYJPMfDzxFH+yh+w/p3xW8J2MDeNviBeeSLuVFl8oM8whIyBlI4ISyxkkCVySCMg5zwPLUcZuySv/AF8ztw/GHtcvhiMLTvUnPkjHbXdN+XLZn54eO/gZ8XPhjaR6l498Jaho9lIQouJYSYAxOAplXcisT0BIJ7A4p2k/A34y67pFtr+ieBNc1DTb1BJBcW+nXEscqHIDIyIQQccEcEcivoPT/wBvT4y3XgzxP4K+IMdj40tvENo9tE19BHH9maTAZisCoJF2k4VsFW2sGwCrfXnij4qfFj4XfsX/AAc1v4RTyQ39ysdtceVaJdkwiKU8q6SBQGUcgDnjPNZQw2Gqc0oydkvmehis/wA8wcaVKvh4KpOfKnzPlejfqtran5cP8Gfi9DqSaM/gbXUv5ImuFt20y6ExhRgjSCMx7ioZlBYDAJAJyQDaPwS+M0Y/eeAtfQ++lXY/9p17Re/tj/tN6Z4xt/FmsauLfW4LGWxjM+nQRn7LPKkjDyzGoOXiBDYyMEA8mvvz9oP9qH4wfDn4GfBrx74X1C2TVfF+nLPqby2sciSSm2t5cqpGE+Z2OFwMHGOBjOnhsLOEp8ztHyOnGcQZ/hquHo/V6bdXRe899X27H4u/YL5Xu0a2lVrIE3AKNmEBxGTIMZUB2VTnHzEDqQDDHFLMsjwxtIkShnIBIRSwUFiOgLMBk8ZIHUiv1V/Yz+Dui/EX4cfEXxb8RJIorv4pT3Hh/TpGiKsJRG99NJEeQQZVVlHGGtiMk4FeMfsReC7YftH6x8NfHOnx3CPpmraXqFpKNyEoVSRDnHQqcEcggEYIBrlWXyfsv759FLjGjGONjy+9hkm1301t6O6Pg4d16VII2ADYIBJGSOCRj/Gvsb4ufsfeO/Bfxu074X+EoDqth4rlaTQ7tiQjWwO6QTMAQGt1OZWAOVAcD5go+vPi9+yn4O07xF+z58CdGfZZXtzrLaneAbZbt447We7kJGcO8cJRMk7AFHIXBiOXV5KV1qrL5t2OvE8bZTRWHcZ8yqpy06RSbbf3WsfkRHayvFJOqM0ceA7AEhcnAyQMDJ6ZpFHXtiv1m+Jn7bA+DHj+9+Evwt8FaQvg7wrKdPmglR0e5eE7ZwhjIVAGyoZlckgswOcV1Nh8M/AVn+098F/jR8OdOSy8MfEi3vrh7IIoiguhp8rkBPurvEnKgbQyMRgEAaPLoTly0ql2mk9O+l/M46fG9ejR+sY7BOlCcJSpvmT5uWPNZ2XutrVbn47KWyuBX9KX7BMrSfsn+BtxJKjUlyeeBqNyAPwHFfgZ8e7RLD43+P7WJAix67qWABgAG5kIAHQAA8DoOlfvR/wT9fd+yf4NHXbJqY/8qFwf613cPxccZOPk/wA0fL+LeIWJ4WwuIWinOEvvhI+zqKKK/Tj+FQooooAKKKKACiiigAooooA//9P9/K8b/aKXd+z78TV9fDGtD062UteyV5D+0Cpb4DfEhR1PhrWB/wCSctZ1VeDPQwWmJp+q/M/JP9iXxla+AP2MfiN4zudMi1uPRtYvrprKZgqThLKyJRiVcAEZOSp6dK+cviH+1r8T/wBqWTRvgN4L0az8I6N4kvLWyNtbl5WcvKAolkCqBAjEOwSNSApJJAIr8/VuLmJXjjlZUf7yhiAeOcjODx61FE7xuHUlSpyCOCCORg9q/OpYubhGmtvzP6+p8MYZY2rjanvTk7xv9nTtez7n76fGa/8A2QtB1rwR8PvHHxC1DwrqPwj+yS6dZ2CSuIpIkhkgkmP2O5WRwsaH72RkgjJNc/8AGnwloHif9ob4EftMeAJo9R0PxLqVnp1xcxBlV3BZraQhgGDMgeNgwBUxqpAPFfhdJJLLIZJXLux5JJJPHcmtexbWr4LZafJPIIjvVELEKQc7gAcAgnOfU+tdEswbveC6fgeRh+DZUORwxLuk07pWtJa9uuurZ/R3Z/tCeHH/AGo/EX7Peo6XBo2rmyhbT9YQo0t3NJbRzmJ1ePAZUYmMMWVthBGSAfh39mn4R+KfDv7UnxF+Jnx5ujI/w0jub691KdT5U892jmK5UAcxm1EkqgDKfuxtBAA/Ll9M8UtcC8ltrt7kEESEOXymMENjPGBg54xx0q48Pjd1mV01BxcKFkyZSHXphuoIwSMHjmonmEpyjKcbtNv+vQ3wvBqwtGpSwtZL2kFGTtrfq076Jq+nc/db4Sav+ylr3jHx34a8K/Ee48Vah8YJJzfaZd7hCzukzSC2Bt4gh8t2UAsSVVQMkCvGPBvg3Rviv8GNe/Yi8Z6xHo3j/wCHWqTnSpbjIW9jSWSS3nRThjG0czIVXcyxMkgDcgfkTbaL4ntpkntbG7iljIKukcispHQggAg+hBq7Jp3i+5vf7Rntr6W6BVvNZZWkygAU7yCcgAAHtgYqHmF0lKHf7mddPgv2cm6WL/lcW0rxlHRPomraNH6EQ/8ABPebwH4V8SeMfj/430/w5punWjmxl09muS11klTIs0cRZSBhYozvdm4ZduG+4fgo3xrm/ZH+Gb/Aw6Mur+SRcHWvOMH2YPMDs8kbt+8KOcDGe+BX4Uas/wAQde8pNefVNSEX3BdNPOE7fKHLY/Crmn3HxL0y2jstNm1e0gjztjhe4jRckk4VTgZJJOAOTnvUUcbSoyfs4WVu+p25lwxmGZ0FHG4uEpKSlbl92yTVt7637n1t+3L4R+PFl4r8NeOPjo+iPe6rZy6faDQzP5QjsJPNYyLOAQxN1wQSCBjAxk+nftV21zqX7LH7OcFnE008tjFDGiAku72luqqAOpJGAPWvz21O3+IGu+V/bKapqPkZ8sXH2ibZuxu2h84zgZxjOBnpUzx/EWeOyglGrPHpxBtUb7QUgK4wYlJwhGBgqARgVxTxKbqaP3rH09DI6kaWBjKrC9CTeismmmklr5n7Y6/4W+FPww0D4RfDbxB8VrLwJqvwzMGrTWbGM/bbuUbpHcPIpWORmuAAMkrKfQZSDwLp2h/t1eFfip4YeO58P/EjRb26inhYPFJcw2w8woRxteMxSA5+Ysxxwa/Eq/0zxzrF2+oataalf3MoAaWdJpZCAAAC7gscAAAZ4HSt+1v/AIuWaWcdpda7AunAi1Ect2ggBUoREAQI8qSp2gZBI6GvQeZxur0tmmvl/wAA+ThwLiIwnJY1OVSM4yulb39emvxa6n6DaJ+3XrXwx8K+PPh3qlm2o+I9E1G9tfDd2yhkiie4dGSckggW4G6PAO8YjIAUE954n+KS/D3wh+yr8WvEUkl4lmt6b+ZsvKyXsEcNzKQASzBZHfA5JGB1r8nX8O+K7iZrifS76aWZi7yPDK7uzEkszEEkknJJOSTk81tXdt8StUsbXStQi1e8sdOBFtbyi4kggBABEcbfKmcDO0CuBZlXs1Lyt8nc+nnwFlftKc6TUbt+0804OLS7b39T9Cvjj+xd8Q/iJ8ULr4h/BqSx1/wp43nOoxXa3caJbG5O+RnJJLxlyWVog5wcFcjn3W817w94I+Nv7Pv7Omh6hHql14GWc6nPGcBbmWzeJUIBO1mJkcqSSoKg5J4/I3R/iD8T/A9pP4e0TxDq2g28hIltILue2TLckmNWUAkHJOATnOa5vTda1jStTXXNLv7iz1KNzIt1FK6ThznLCQEMGOTk5ycnms/7QoUpc9KFm2m/k72R3S4NzTG0YYXHYqMqVKEo07JptuLinL0T6H3l8ff2Sfj/AK38VvHHjTRfChutEvdRvb6K4F7ZoDA7tIGKPOHHHOCoPtmv03/4J5y+Z+yv4ZX/AJ53OpL/AOTkp/rX4NH42/GGaCS3l8ca28cqlXU6jcEMCMEEF8EEHBFfut/wTokV/wBl/RkXpFf6guPTMxP9a9TJ6lGeOcqSaunv6o+F8QsFm2F4Up4bM5QahOCjyX2UWtb/AC2Pumiiiv0Y/jMKKKKACiiigAooooAKKKKAP//U/fyvKPjwu/4H/ENB1Ph3Vh+dpLXq9eYfG1S/wZ8eqOraBqo/O0krOr8DO/Bf7xT9V+Z/KF8KvhXr3xe8TS+GPD93b2d1HEku+5WdkO+4it1UC2hmfJkmUkldqqGZiACa0dN+BPxM1jToNQsNJMz3f2NraFDl7iK+MiwyxuAYmDPEYwu8SFyAFJJI81tNU1TTRdLp11JbC9iME4jYqJIi6uUbGMqWVSQeCQPSuuX4r/Ez/Q1HinUgNOW0W3AupAIhYsZLYKA2B5TksmOjHI55r8ti4WSaP7wxFPGe0fspK3mjr9M/Z4+I2v8AhHw94t8M2q6yviMzfZ7S3WYXIEEksZJMkSRNl4ioEUjkM8SsA8sas/Uf2dvidZKLjStOOs2ojiZpbXIVWnuZbSOPEgjLyPJEQBHvHzICQzbR5/pPxC8d6JawWWj+IL+ygtFkSGOG5kRIll3FwgVgFDF2JxjJOTzgidfiL8Qfspsv+Ek1L7OTC3lm7m27oJWnhIG7AMcrNIpHKsSRgkktzp9iFRx/O3CUbX7Pa/6I7tP2c/i+uoafp99oJsDqVzHaxSXE8KRGWW4W2Qbt5zmR1xgElWV1BVlJ0779m/4kM9m3hu0OuQ3en6dqPmRJJbpFDqkayWwL3KxRuxVvn8pnVCsm5gI2I4LRfFnxH1ER6bp2t3ksWlWk7xRyXJ8mCCGNnbYJWCKVGSgGG37RH85Wtu20D44va3UMFlrxj1EQafNEFuQ1ytmpjigMf3pVt1i2BQCIgoXCjAMWg+jNG8bCXv1YL5f8G/47kd/8FPifo2iyeJNY0RrHTYY7mR5biWGLYLSZbeZWVpAwkWV1jEZAdmOFUkHHfeJf2XPiv4ev3sbGzTWUiEIlmgLQJE9xcy2kauLpYWAZ4i4cAoIWjlLBGBribzSfjhqlqdE1G18Q3UB3k2sqXbgieUTyHymB4kmUSMcYZwGOWANatnF8fJ/NWzuPEBnjnhLwrLd+d5okluo3KA5BjlLy7iAVd9+QXyVyw6xZ0+2xitKNaF/wtpbruGqfAL4ladd30UWmi6tLS5u7aO6E8KJO9pcC1YRh5AWZ5WVUjALuSAoY5xk+J/g98RvBdxFaeJNJNrPLDc3IjWeCZxBaAGSYiKRiIwD8rnCvg7C2DjotKk+MGsrc2D+K761ltpHjmtrq/uUZBqAa5md1yVWOWRMzMxAEjKZcZ3Cjr/gn4o+Ir+4vL6e48VLZNHE1+ly93CGnRZyBNIeQBKGcj5QSWJxljlKMWrxTO7D4rERmo160Lej+XWxpH9nn4ssYPsmkC5W5s9MvlKzxRkRauzR24KzMjbhLG6SAAhGRixCjdW/bfsvfF26mYW2lBoIZHtZ5TNCvk3kVuZ5LcoZNxZQNoYAoWKjcCRXIaRcfGnUtWubDTtR1kX9rDNeSAXM6vssmcs4IbLFZQ6rjJ8wkD5ia9AtY/wBpK58MXGgW95ePaJfPqLn7TGbpp5Y5beSRbjcZSpWJkZQ+1iV4JdSSMKTXwsK2JzCnp7ekvW/+Zyf/AAz38VvsiXX9lxD97FCyvd28ZV7iNZofmkkVG3xsZPkZtqK7PtVWI6e0/Zj8e32g3WoWxjOrWZgjm0xsrKks99JYrEZeYgxZRINzKrISQTjnD/4R/wCPcF5LaLe6iJ1MQZV1LOTEgeIhhLtYII1CkEhWVVyG2g39Q8GfF+28R21pf628c+pzwWrXaXchQtBI0UMknlgyMim3EgkCMFBRmIYihU6e7gzd4zFyso4qn301v5biT/s1fFe30jSr5dK8281O9vbNbRJ7cuhtEjYOxEpAEhZwoODhAwyroTXj/Z4+Kc9ol/YWFrewCDz5nh1CzKQJ9pltf3jmUIQJIiSysyqCpZhnFatz4I+MkNhYSWniGW7F/M9olut/PA6PcxG9dZBciFVEgQuSTh2UMMgqzcB4pPxJ8KTHR/FN/e276hELhomuzKJY5ZJG3MFkYEmRpCQ3O4sSMkk884Ulq4ux6+Er46q1CGIpt+jva/a5uzfBTx5B8PrT4jCyD6bcrPKwEsO6K2hSJklYeZuzJ5jYj2hwqFsbSDXcX37MfjyDXm0zTmiv7G21CPTrm9DpEkMrtGuSsjqSCXyMEnAJYLXgY8Qa6dPTSv7QuDYqjRrAZn8oI7iRlCZ2hWdQxAGCwBPIBqe38Q+ILcym31K6iM0gmcrM4LyhlfeSCMsGVW3HncoOcgEcilh1vFn0f1fM38NaN9fsvbp13R3viD4MfEfwlpV5rfiDSRa2di6RzuLm3kMbyMUUFY5GbJI7DoQehBP7jf8ABNqYSfs1xRg/6nV75fz8tv61/P5Lq2r3Xmrd3s8q3TK8weVmErpnazAk7iNxwTyMnB5Of3p/4Jj3Pnfs9alF/wA+/iG8j/O3tX/9mr3silD677nZn5V4sUq/+q7eIabU47K3Tzb6n6K0UUV+pn+fgUUUUAFFFFABRRRQAUUUUAf/1f38rz74sp5nws8ZRdd2i6iPztpK9BrmvGGlS654S1vRIGVJNQsbm3UvnaDLEyAnGTjJ5wOnSpmrxa7nVh5qNaMn0aP41juJLKeevSmKCGG3sD+Xev0pH/BM74sKd0vinREOc5U3J6/WEVbh/wCCZnxE3DzfGGlpx/DFOx5+qivzL6hif5D+33xnkX/QSvx/yPzOCkA44wDn2FKqnqOg7+1fqBD/AMEyPGJJ87xzYJnrttJW4/FxWrF/wTD13gzfEC3Xpnbpzn+c4qv7OxX8hn/rvkKtfEfhL/I/MDS9X1jQ5nutEvp7Cd12NJbytE5QkNtJQgkblBwTjIB6gV0UfxE+IC3KXi+JtTW4jLlZBezhwXJLENuyCxJJ9TnOa/S1P+CXt6SN3xHjHrjSSf53YqwP+CX0UCGe6+JqpGnJY6QFAHqSbzA+tNZdi/5fxRD424bk7yrf+Sy/yPzEj8a+MY5RcDXr9Zck7hdS5yRgnIbOcHrU9x448Z3V0L+4129a4CLGJBPIG2KOBkEdSSSepYkkkkk/dvij9jz4CeBRCnib43xGWVnURWemi8lGxS7s8dtPK6IqqSzMAoA5Ir0d/wDgn98JbQyLd/FOWQx6Y+st5dnGR/ZycG4BErAxk9CM5wcZway+oYltrr6o6nxnkEEpN/8Akkv8j8wrTxR4msTJ9h1a8t/PYySeXPIm9ypQs2CMkqSuTzgkdCc2bTxf4qtLtb+HVrrz0kSYM0rOC8YUIWDZDYCqACCMADoMV9+2f7LP7MdxpB1r/hZes/Z4xdtIr6TJBKosrZbuUmOWMOAYZI2QlcPuUKSSBXV2v7G37Ok/g3VPHB8a+IzZaJdJY3cD6d5F7FdyNEiQG1lhEvmMZkKqFOQwIzzWawNd7NfejolxtkcfiUu3wP8AyPzF/tDUTcy3puZftNwS0km873LEMSzZySWAJJJJPPWrn9t62WcnULglwQxMrknJYnJzzkuxOe7E9zn9J9N/ZM/Zs1e/0vT9G13xnqcmpQidjb2Ee2zj+1S2bG8324NuEmglVvMHAQnkDNat7+yD+zraaB4X1ywvfG+snxhBJdafa2MVnLdNbxKrtI8ZhG1QsiHOT94ZAzxKy6u1dNfeb/6/5InyyUv/AAH+ux+WiPKpLq5DEEEgkHBGCPoQcH1FTK82UcO2YuF5OV5J4Pbkk8dyT3r9Y9Z/ZC/ZU8MxeKG1HxF4kuJfB9vYS6jDHPZl431NmW2h4gA81iACCQqhlJYDJFrw7+yN+z34g8UW3hPT9C8aPN9mtLm9mlnsootO+1o8kcdzkBhJtTJWNWxleeaf9lYhu11r5mn/ABEnJEnK0/u/zfmfkoS7Y3ktgADJzwAAB+AAA9q0Lq/vb/yPt1xJc+RGsEXmOX2RJnaiZztUZOAMAZOK/c9P+CeP7PCfeXV5D73oH8oxV+P/AIJ9fs4oObLUnGe98/8AQCtf7Bxb3aOZeLeQR15Z/cv8z8Ghx7Yp46iv3yj/AGA/2a1+9o98/ub+cfyIq6n7BP7Myj/kX7pj76jdf0cVP+ruKfVf18jT/iMmQp/BU+5f5n4DISc/pX70f8Eunz8BvEKHt4kuP1s7T/Ct6P8AYQ/ZiXBPhaY/XUb3+kwr6m+C3wk8BfBzw3d+HPh5pzaZp93eNdyxtPNOTM0aIW3TO7DKoowCBxnGSa9jK8mr4bEe1qNWPzfjzxKyrPMnll+FhNTbT95K2no2ex0UUV92fyaFFFFABRRRQAUUUUAFFFFAH//W/fyobgZgk/3T/KpqjmGYmHsaAPnyVyT+VRBwR6/jVeaYD6jj9Kp/aPQ98cf5xXJc6oxbNUSY9R9KSe9tLKFrm8nSCMdWkcIuTwMk8D8az0n65PYmuV8SeNofDNtJcSaXfakIhkraRxyMfTAZ1JpOaWreh10qLnJRSOibx14LgGJtf09Mf3ruEY/NqryfET4dyo0TeJ9LIYEEfbYDwRj+9Xzp4U/am0nxxZWF14Y0S4El/wCKLbw9FBdMscpie2W7mu8JvG1YRIygMQwUHcM4FXxH+1PceGvGd/pDaD9r0eO+1HRrGSJ3Nze6rZW9rIlske0jMs87wqQThkJPGcczxdJK9z3o5XU53D2bv6r/ACOS+JnwZsPHni2DxF4c8eaNa28NpLbywxyxwPdLdzRLdQyyRCRhHJaiRA6neGfjClspffAHxVrOt+JPEkfjXSUfxTpV7oj21rA/l2GnTtbpBBBIuTIsUEBABSMb3ZsEsSNvQ/2ifix4pj1vRdF0XQ4tX8NC9uNQubi5mGnRW1lLJa4VlBkZ5bi3udrHaqxoGbJbAf4w/ak8U2EvgiHwrp2nG/8AEuh2GtSabePK93O2oTRRR2lmIiCZAGkZmZCoVNxAHXy5fVXeT/U+hi8cmqaW2m69ddCx4r/ZwS8Sf/hGPEM7yT2nlSXGp2txeyz3MtzaSTySeSka7GtrKG3WOMIqoCAB363XPhMdc8GT+H9S8R6qNX1fXItd1XU7XS7yKSW4gjCQpboinyVhMVuI/mYgRZJLMSPN/FX7ROjL4g8W+KPDs9rZXmmXOj6Bpuo6g7SWBtru6nF1d+SjqNoa3m+YMDIsSEHaQDgaN+0j8YfFV1DpJk0zwxKkbSXF7dWkhgWK0tpryacxySqypLBLYFVZsoZWyScADqYZNq25Co42UFJ7L0v0fb0OjsP2fptN15NYsvEt9bpFoo0lEj0HVBhzaSxyTk+aEdnubiW5IkRzucgMCS1bU3wP1rV7rwVda14vu7tPA8SwWUQ8OXEEYhVoCFIEgydsCKSc5Gcg8Ac9pP7QnxS8XaBZeNNPn0/RjaX2kaU2hPbmW61S9vEt5LkKzOGgRFnJjAViAjM5wMVU+JH7RXjrwxr/AIn1XQ9dtrnT9P1DUdOg0f7NG0qQWGnAtfGYHeANQIiAcFWLBRyQAnPDKLdtP68zRU8ZKpy/aXp923Znd237OrW48Qy2fizWZbnxbFEuqNdaXazpcuk00z5jmQKY2ad9qNuZPlAcqAtdN8N/gLpPw08fN460p9Sv2FlDYxwXFvZF0igt4raMfaGYS4CRAkAgFmY4AOK4v4OfGPV9a8a6NoPiLxi19Be6VNdyR6jDY2U0t3PcJbQQwxwcsFMFwwAJYhhuGAory7xB+0L4/tdc1zxB4R8UJqNkl9qVrdWLwwy22iWENzHY219M6L5isZWaXY74eMEgAKTVqdCKUrf19/mR7PF1JypX3Wv9W8j9FTruo87dCvXz0w9oB+s4pn9v6uRgeHr0895bP/5I/pXwJ4Z+NOo6N8U9L8PXnj+XXPBk93PPaandmFDqUsFoIZbSF4kRZYjdXERjCgjcjAEhTXBax8WviNq+kWviDwn4m1rVNY1qBrbXNPtx5UGmXN3dwR29pZhlQR3ccfm4JckqjO5AINdX16FtNWjz1lFRtLlX4/10P1VsLy4uoBJc2r2bkkeXIyMQAcA5jZl5+ufWtRX9TjNfPv7Pt7r958KtE1PxJfz6jPqImuoWu5PNuY7aeVngimkIBeWOIqrkj7wI5xk+7RSbse/rXq0580U+58niaPJUlHsaaN2rsNDOYJP97+griEPzehrtNB4gk9yD+lao82SN+iiirMwooooAKKKKACiiigAooooA/9f9/KjlIEbEkAAHk9KkqteDdaTL6ow/Q0DS2PhzVfjR8JLAst3410OAgnh9StkIH4yCuck+P/wRjPPj/QjzkgalbHp9JK/nROSxKjknn6VCccnOCDjHtX57/bNT+U/rheFWEikniJP5I/oouP2kfgVCpZ/Hejnjot3G5/8AHSf0ryv4i/HD9mLxxoN7omsePY7M3URgNxp7zCdI24cIVjZckEjJUkAkgggEfhWGBHHB7nPWnHrtPGcColm9SSs4o76PhngaclNV53+X+R+p0HiD9ijQb+C48OfEfxBov2KZZoFsX1AmF0thZgxzSW7ygCD92AJCAvyqAuAPUdL/AGjP2PdETS/L1m71GfRtRvdWt5rizu5Zftt+ZTPKzPEoYnzWCkj5cAjkA1+Lw69eBWzp+i6lqkE9xZRB0tyitmRFYvKTsRFYgu7bThVBY4OBxXMsxqJ+7BHsVOAsBNXr16j+a/yP1Jl+MH7DsUVhD5WrXMdjAbZkjF4iXcJne5KXaCSNbhTNI7kShgSxBBHFaviX9qj9kXXtZl8R6noOuXmpubYrPArW8kf2NZY4REyXUZjAWeQEKQGLZYEgY/Lk+BvGawvO+h3qpEQG3W8gIzv5wRkgeWwJxgEEEg4pi+EPFZeCL+yLsPchjEDCw80KAx2EjDcEEYznIxkkZl5hWW0Evkbw4Gyd/FWm/wDt/wD4B+lOjftV/sheF9VtNZ8MfDTUtOu7DyjE0FvbQLviWREkdEutryBZZBvdWbDHJ4GF1n9sH9mTWtUOt6n8MLrU703L3nmXaW7/AL+RI0aTDSOMlYkXpgBVAAAFfnlB8MvHc80tvFpEvmwypC6syKVd41lUEMwOCjBgemDnOAakl+GviyC01G7eCLbpQD3Ci4i3qhRmLAbuQCpUYzuPCbsEiHj8Tayireh2R4M4fc7ubb/xs/RGX9uv4OReKX8c2fwtz4iddh1Bmt0uiAuwAyiNm+6Auc5wAOgArm5/25vhzGuppp/wa04prbb7/fPAou33eZmcC0PmHf8ANlifm56818GeHvBOoeInuILS8s4riBbZliknXdKLnG0RldyllBG9Ad6k7SuQwWxbeAr+aFZ7jULC0jc4zNcgLndIgw6hlIJjIBUkHPBO2TZn9fxb17+SPQjwVw5B2lBtq32pfLqfbdr+3b4f0ye2utE+EOj2E9kMQSRyxq8QyWwhS1UqMsTwRySepNWI/wDgoVr1lbzWuk+AdItIpyS6h32uSMEsFVQSe+etfFsngC2W++zQeJ9IaJpnijke4KghCo3sFVgqkEkEnkKe+BTLPwRZXFi97N4j0yIIHPlmVi5CeYMhduSCUGAAWIYEAkgHP69jVopfkejT4O4aa5vYfjL/ADPsaT/gob8TAiR2PhfQrcRACMGO4YIB0AAlUAD0GKot/wAFDPjgx+TTtCjBPa1uDz683BzXyLL4f8JxQSyw+JY5ZURyqC2m+dwpIUMQAMttUE8YJJwQFPKIgwBjkc1yVMxxa3n+R9PhuCcgkrLCL5p/qfbj/t//AB8lz5Y0mHH9y0c4/wC+pTWfL+3h+0W4/datZQZ6FLCEn/x8NXx0kYJ6dasrECOR0rilmuKX/Lxn0FHgXIf+gOH3I+qn/bc/abnclfGAiHXCWFiAPzgz+tfp/wD8E+PjL8Rvi7o3jSX4i6ydYn0y4shAxhhh2JMsu4AQpGDkoOvPFfhJDa5JOPvV+wn/AASxUxxfEuLPAOjED3IvAf5CvVybMK9XH04VJtp3/I+F8TOEsrwfCWKxWGwkISjyaqKT1mlul5n630UUV+vH+bwUUUUAFFFFABRRRQAUUUUAf//Q/fyo5F3RuvqCP0qSigEfxbvKWkcR8EE59hVV50Ck5Gc4Nep6r8NdFa9lbT/E4hQkqFu4TA7vxwGRZ4lBJ6ySKAOp71xmrfDq/wBKsjql01ybEHaLuJoZ7QtnBVbiFZIiwPUBsjv2r8ldJQ+I/wBEo4/6wnKi0/ml+DOdFyCAoIBJwOev1p/2hS5EhwRn3OadDo+mbl8y5kl5AGZdoPT0RePfPArVGh6XgvGiypxgm/RCSBzwZc9eB6+3SsHOmmd0aeJsnKUV83+iZlidTzkYx1NbWma5qulZfS7uS1LskgaNirK6ElXUjlWUEgMCGAZgDhiDOmiaRDb7m0i+mYOSWSRigQDHDAuCScYPAGO+ci7a2Ni3leToNzLhiZMnJKEnAGUOCACSxz9OOcZVI9F+R6FKlKWk5x/F/oMXxb4lVppF1e7DXH+tInkBfAx8+Dzgcc9qY/ijXXjijk1W5KQMWjUzuQh5yVGcA8npitZrDTsrGulL5iq5ZZFt1cOA3yhSdxwykEkAnIwoJAPUw3OgxqXm8LQQBjDkJdiMps5kKsxbAk4GGViMnBBGK55V9f8AgnrxwdL+Zfd/wxwI8UayZvtP9qzmYSCbeZ3LeaAAHznO4AAA9cADOBWYLtHbcZNxJJPUk579zXp154o0uaZEs9Mt9OHnDcq3MzxhM9CDvbGDglWJOCQACAKQ16FbiaXTLKTy5H+RZ3W5xGCDtJEK5PByyhSQegGc4urJ6Naev/APZjg6EUnGr/5L/wAE4YNg4CSHjPyxuf5A1YQSHpDMee0T/wBVrsbLxLd6a13I1hayi7UowuLYyiMgh8xhgAjDgHHBBwQQQKxpNU04zXEs0dujXBLBQXQRkg52AOOmQQDnBA9wY5m90dUaUE9Kit/XmZqRzvjFtKOejJj+eKvLa3YIH2dsnkZZB/NquSeKIpgPtd8LhskhpZDIeRtIw7kcgDnGRgYIwc0W17TWVEeZMKSQQEByQO4BJAwOCcdcdTnGSnfRHp03hIr95V19UW0tLjHMOB3y8f8A8V61ZgtpHwSsaHB+/IACB9AazTr+jLndKDjsNwH4fKR1oTxRpkZ2xM4AwRgtg+2MAVg4Vmn7h6lPF5bBpuuvvX+RtLFJu2AQ4XkYkYn/ANF/1rq9G0vRrjzTq97JaAKSnkwGcu20kAgvGACQBnJIznBANcEfGdtExbLHGScrkfkWA/StKf4kX14qwBVSLYARFBFAHAxgN5YUsRjOWOc89SahUKu7iepHN8tjaPtf+AevQ6R8NFgjZ9d1UTBcso0mAqG9AxvwSPcrn2r9Jv8AgnJrfhfQ/E/jjw7pl3PdvqVnZXitPFDAQlq8iEBEnnYkm4GegXAzgsBX5b6R8e7nRNCvNFi8LaFdLc2otjc3Wnxz3Ub7nPnxyPuKy4cLn7mEU7dxZm7vTv2w/jJol9Dc+B5bHwikEYAj0nTrO2ik7/vVEJ831xIWAPIAJJr2MvUcLXjiJdO3/BZ+bcYSln2UYnJ6Mv4mzk9NGmn7sb7o/pyXUoXUsqscdgOfyNLFfxyDPlSLk45Qj86/m7f9v/8AarKb5PGgA4GBp2nZyfpbCsm//bV/ae1USLP43uxyB+4SK3PPXBhRMfhjFfey4kw615Jfh/mfyDS8Es3m7SxNL75P/wBtR/TL5yev6GneYn96v5apf2ifjvK5874ieIQXJwBq97jP083A57AYrLm+OXxn1BFiufG+uSozEFZNSuXBwB1DSEHrXE+KafSmz6aHgHi7pSx0flF/8A/qqLL1yMfWmiWJjtVwT7Gv5K77xNr2ptv1rUZ72UZbMzmQkY9WzzVGz1nU7W7t7uwne2njIdJIiUdWBOCrDBBGMgggiuZ8Wa6UdPX/AIB7q+j5Dl1zL3u3s/8A7c/rmor5j/Y68S6/4v8A2bvBev8Aie+l1PUporqOW4nYvLILe7mhQu7ZLEIigsSScZJJNfTlfodGp7SnGotmfxtmuXzy/HV8DUd3Tk4v5OwUUUVseOf/0f38qORtsbN7GpKr3RxbSt6K36CgaP5KU0fVPE+sw+H9IiE97f3GyFGdIwXLdCzkKoGOSSBjOTXkw1bWPDuuC/0W9msLlAfLlt5GikUHKkB0ORkcHB5BxX1xo2k6ZF8SvhgLGyKLenTp5wrBzPKb6RXYi42xrkKFxygADZOSK+dvij4S/wCEO8XXvh37Q10LFoh5rQPbF/MjSQjy5MMMbsA8hgNykqwNfn2Ihpfsf2PkFe9b2Qlr4xW7t4rXXtG0zVkijkVHmtI4pw8nPnPcW4imlkXkqZncc8g8Uf2ZpEyh/Der6hoVwkYAWUpPHJKTyxkhEDRJjnAjlPua4WFWUZXqD2Gf88V01izEZ/MjmvlKtWcHdO5++YLLsLiUqdSFvTT8jY8R+J/jjomky6reeL73W9G0pYw8kepSzwRI7LEgNvcMsiruZVyYQoJABORXjl/8RvFWp6g7300UsqRgAtCnGCeoCgH3yDmvUfF+T8NPF+M/8eloeOP+Yhada8e8DeEdY8e/EDQvA+jmKPU/El3aadbtcErEJbuRYoy7AMQuXBJAJA5APAr6LBWxNBVKkdf8rH4jxNCWUZtLCYWbUUou+l9b31VuxPJ428UTKyPe4Q4BCxxgYA44C8H1PfvmqK+INcVzKuoTI56mNyh9B93HQce3av0zX/gkl+0R9klkbxD4ZM/VYxdXmDjqN32QDJ468e/evgT4q/CDx78FPGV14F+IumNpmrWyhwpIeOWJyQksMikrJG2Dgg8EFSAwIHoSwsaerhb5HyGGzn62+SliOZrpdnDvq+sXIEUt/cOmSdplcgHHPBPU5NRHzTje7MemSSfwya938W/s9+KfBvwL8EfHe8cPpXjS6vbZYwhU2xtnKwlyTybgJKygADagOTnj2n9hv9mvwT+0z4913wp45v8AUNPttK037bG2nPDHK7ieOPDGaKVduHJwFBzjnFRGm3JQitT0JY2lTw88TUleMb3+Tt+Z8PeWTjcMEHoatpuwOQR+VftfL/wTw/Zc+INrrXh74HfFa4vvF2kB98NzeWV/HE6NtKzQW8EEqqWG0uGIUnJDEbT+PPiTwtq3g3xRqvhHxBAINT0W6msrqIkEJNbyGOQAjggMCARwRyDg1FanOmveR1ZVj8NjJShQb5lumrM58KcA8jGc81YVS+NvIxnI7V90/tSfsny/Az4YfCrxtBDIH13Thb61uBIh1V83SqxJIBMUjRKFUDFsWPLEnvf2Lf2bvhx4k8K+I/2ivj06jwF4QZ1jtXLql1PCiySPLsIZo49yKka5M0jbTwpR8PYVHU9lbU9P+18JDBPHqV4Xsrbt3tZep+cQt+Crc5ORn27fhViKFnUMMqc857gHnH1r9ntF/a3/AGGfiVdaj4A8afCm18MeGfJlFtfNYWqFUWNm6Waie2kYDCGFnYsQMjOa6j9i3xtoXwx/ZS+LfxI8HafJqVh4c8Qard6fFflIrmW0itLQwrO8asFcpgttBAYnAwapYWMpJKpda/h5HLU4hr4ehKpVwUoyukk2rPmdl72u3VH4rW/hnVrlDcQWE88cjIgZImYEuQqAEAjLMQAO5IA5OK9H0/4HfGrVoz/ZfgLX7kZABh0q7kyB3G2I5r7G+Jv/AAUh+K/xF0U+G/8AhF9G060W80++yXuZ5d+nXkV7GN29FIaSBVYbclSQCDgj7c/Zm/bA+Knxs+G/xc8T+J9P0ix1HwRpKXeniwgnRGleC7kxMJp5SwDQJgKV4JBzkYypYfD1ans1U1fkelmGd5zgMG8XPBRik9ffvu0lsu7PxR8W/DPx78Omsz488Naj4fbVQ5t11G1ltWlEWA5VZVUkKWGeOCR6isjU9H1vRLpbDVrR7K4McFx5cnDGC5iWeFsejxSKw74Ir6ij8d/Fj9tT4yeBPB3xDv474tdG2jWxtorY21pcMkl7Kp5LFIYi43FsbeAc4P1B/wAFH/h9ot5c+G/jN4OaJrC5e58NXxj4UXumSSxxjGMlgIpo2OcARKBxg15k8Kp0p16Tuo23/E+7wuf1cNj8JlePgo1aqk3yu6X8uvnZn5p3/hPWNE0vStf1Wzkh0/X45bmxmYfu547eaSCQoQSMpJGyspwRwSMMpLLGC91G5t7PT4XnnumCRxopd3djtRVAGSScAADJJAGa/Zn4I/BnwZ8dP2GfBHgPxNcR2GpyT6t/Y94cGWG+S9u5MKpwZFaNWMsYPzICQQyqy+f/ALH37Lt58P8Axve/Er45WS6SPDWpxaTpFvcA7bjU55lgjnUEEPGHkQQOAQzt5gK+WCR5PVnOmo7SSd+2moUfEfAYbDY54j3atCTiodZatRt69ex8DW3wH+Ik/wAVI/gzbaeLnxXG8UctvG4ZIHkiWZvMkHygRK37xgSoIO0sME/bbf8ABNrXBpkmn2vxD0qTxTHbiRtLEDiMOQCQZ/MMuwk4Dm3GRg7RnA9+0q4XwL8Xf2sfi7p0EM+ueE9KtpbLeMgA6Y12wYDna7wRE4PO01+O3hrxT4h8L+LrHx/pl9K3iW1uzfHUZWMtzJc7izySSMSz+YSd4Y4YMQQQSDNbD4TCJPERcnJvrsk/zNcszjiHiKbhlVeNBUoU3L3b885xUra3tHppqfRPwH/ZkvPiL8atW+EPxDluvDN9ollPPcxhEeUSQPEgQEkqVYShlkUsrLhlJUg18qo/7kFBt+VcE9cEZOSP6V+/l1penaf+3tbXlnGsM+p+BXluAoAaSRL0xCRyOSTHGiAnsgHavwPlTyZWhRcbQMj3A6f5NcGaYGGFpxS3u1+Vj6rgLirE59jKlWo7QdKnLl7SfMpW62bXU/ox/YUJP7K3gjPXGo/+nG5r64r5E/YRyf2U/A+euNRz/wCDG5r67r9ewP8AutP/AAr8j/PPjR34jzB/9Pan/pTCiiivQPhT/9L9/Kp6gcWFy3pG/wDI1crN1hvL0m9k/uwSH8lJpMqK1P5utNtvD8dn8OPGrxSXV5Z6lZWUsQka4hliSaWZ43EAedJmJChI1LLGVYIWYbvAfjrY/ZvH+rRNGsTkWzEJb/ZVDtbRO2IiSRliSWJJfl2ZixY/TWh2GnWfhf4aPYWCm/uda093adwIZ2eadACeYgrAKrB/mO0h/kxXzr8arOyj8bahBpylIEW0AJKElxaRB3ygCkOxLAgcg5ySc18Nifg0P664fd8b9/5nhtumCFxkH09eRXRWEQGFPGP1z14rLSELKduQATgdO5/z1rorROBxkV8BinZtH9aZPQu07FfxfGV+GXjEn/nytRz/ANhK0/Ksb9moyH9pn4VO2c/8JLoIGQegvYQMZ7YrofGwC/DLxfz1s7UY9f8AiY2hrH/ZlEp/aW+FXmZKDxPoiqCOABfREgZ96+ryaX+zRfm/0P558SKaWeV4/wDTuH/tx+lf/BSL4t/Fn4bftK+EV+G/ibVNIf8AsKynjtrS5lEElwL26ALW6ny5S4VVZWVgygKQRxXoH/BUTwO/jvxB8EdC0u0jHi3xHeXemRqpBJEz2gVGI52RySEgngZY55NfRH7VP7Tf7PP7PnxI0268eeBJPEvj+LS0u9NvUs7RzDAZpljjF3M3mwkSK5zGjYzkZJIr5P8A2UPH/ib9sD9rTVf2gviFFBYeH/hrpjtYWquTb2JufMS3UswG9hH58rytgl1BCqoVV+qqJOcqSd+Z/cfzxgpVY4ehjpU+WNKD1/mbVku+/c+zvip4G+H/AMV/hZ4z/Y38IkSax8PfD2kSWQkIBiuVjkNipOMhisCCVsfdm9Tz+dn/AASfaa2+PfiuymQxuvhyfcrAgqyXtqCCDyCCSCDz7V9o+B/iR+xD4Z/aA1b4t6N8VLnUvGnjeQWMqzPNLaEXMkaxQqI7VUWOMpGqM7kIqjc2Mk1Phl8LbP4L/wDBQ7xzqKNHZaD4z8K3etWzO5VEln1C0F1GWfADCdXcKDhUdQMCqaUqsKqa3tp+AUKs6GBxWBqRkueHMuZNe9pzWv8AeeQ/sm/s2fGPwj+1p4l+LfinRZvDnhSzuNbZZ7pki+2R3UkixKqbtxTBEpYqFAUc5Ir5e0Pw3on7UH/BQm+l8Pxrd+GLnXpb+eRQGilsNNwXkJHGy5MYUHr+9GeTx9s/C79rPw38ZPE/xg/Z7/aK1rT9O0e5uNStdM1BpYbCFrBJGtmgMxZV8xVCyxMSSxL5JCqD86/sm+I/g/8AslN8XvH3inxVo/iPX9K36VoNvY3avLqUEQE5eFozKqxXTG3AYbjGUkDAlSDwWpNQjF+7dtn1NKpjk8TXrQ/f8kYwUU7WfW/dN63PrrxL4q0n9szwp+0N8EbIi61TwhqayaEWCD5rWFY4xEfvHfeWtwruRxHOADg4Hguk2Fz4j/4JR3uk+HFM97o08zanBGp3qLfWftMokGMgxwMkrE4wi5PStTwH/wAFTvBr+KtM07V/htD4S0K8lK319b3v2qSFCCfMEMdpEXw2CwBJxkgEgA+L+FP21fCfwN+O3jq8+HNtL4o+FPjW+GoS2Mge2lgubhVNzLAkw2g7iw2HCugjUsu0EOpWov3nO904sjBZTmcIvDww/LyShVirppuOjV1pd7n54+FvCfiXxtr1h4X8IabNqur6lIUgtoFLSuQpc4A54VSSTwACSQAcfsd+w5D4Y0P9kn4uWvxa06eTQNO1TUBrFiVkin8iOxtxPGUVo5FcBSCAysCMZBGa4+6/by/Za+G1jqOv/s9/CU2HjG/jdEnurCysII94z80ltNLIYwwUtDGEV8Y3KcEeG/AL9v3W/hDpviyLxZ4WPjrVPF+rS6td3UuoCzAkmjRCnl/ZpwVGzCgFQq4UAACvPw6oYepeU779ND7XOJZtnOCnSp4RwScWk2lJtPXyX5nLftC/EH9kPxN4EttG/Z28CanoetwajFNcX13EfKNoscqtH5j3c0gLSNGQCoBwckEAH3n/AIJ8RtL8K/2hLcnPmaLbADvg22og/wA6474y/wDBRvxX8U/h7rfw407wNp+hadr1ubaSRr2W5ljRiCSgSKFdwA4yCAeoIr5X+D/7RPj74H6D4t0PwdHYTReMLaO1vWvYZJnSONZkBh2SxhWImbJYMMgcDnPL7ajDFKqndeSt0Z7kcszHE5BWwFSk4zbTXPPm2km9beT0Pt7/AIJkfDuLUvGvif4tXscRh8NWQs7OScFUF5egguH7bIkZG77Zh619daH+zfLN+zh45+AeoePbLx7r2pSXOs2LRbLaaC+LLOA/76Y+XJdAF3IXAlYHORj8QrL4t/EKx+F+o/BbT9SSDwhq9wl7e2i20BNzOjRMpaYr5oAMCHAYDjB4JBqeB/HPi/4cas+v+A9Wn8PanNA1s1xZMIZTHIQXQkA5BKg4IIyAeoBGdHH0KVKNJxutb/M9HM+Ec1zHH1sfTxCg7xcFa/wba7rW97dz9GNT1/XvB3/BP74WeK/Dl1Jp2r6F4tnubedQN8UqSalgkMCCCSQyspUglWBBIOZf/tb+KP2ivjp8EtGmsv7F0fRta0aW7gRspd6rLcRxyTAZJEUasRCrEsCzEknGPz71Lx7431vT00XWfEeqajpq3Ut0bSe8me1NzM7vJOYS3l+YzSOSwUEliSckk40KXNy4ijBdzIMKoySOgAA5JPpXmzzKpBxVP4bRv8j7TB8E4SqqtXHRTqudSUWvsqotn3sfr3qPxy8L/Bv9tz4raL4+UP4P8Ypp1lqJKGVYnGm25ikdACWjCySpIoBOHyAdpBzrL9nX9kf4Z+I0+LfiL4v6dqXgmxkW7s9LMtvPLK6EOkbSQyyPdLkHMSQBmGASQG3fl7beA/FVvCwtvDuoGJiZMraTEHgDOdvoKwI9kkyTmFd+3IfaCQe3OM8fWplmUW26tLmSbcb9L/ma0OCKkaUYZdj3Sk4Rp1OVJ86irJ6/C7aXR+mfwt/av8LeI/2udZ+OPxEvW8M+GJ9Ll03TUu1aWS3s4SphWQQq5V5ZDJMyjcFZyoYgAnnfH6/8E/tJ8F+JbjwR4h1XxJ4qks7o6YslvqAjF6yMYRuW1gi2iQjO4kY65Ga/PlC0apI7YKZJx6n3/Gr8bhAUAzgbueeTXDLNpSg41aak7t6+Z9bQ8PaNLEU62AxdSgowjG0Gve5btX69Xc/o3/YUz/wyt4Iz/wBRL8v7RucfpX1xXyL+wlk/sqeBmPUjUT/5ULmvrqv2DA/7rS/wr8j/ADq41f8AxkeYP/p7U/8ASmFFFFegfBn/0/38rB8UP5XhnV5R1S0nP5RtW9XK+OX8vwT4gk6bNPuz+ULGk9jWkrzR/PZosGsS6b8MbJbuOZpdX0427MjwGBpJpAIWQxyRyRg4YSk5bLJ5bBCw8A+KVi1l4uv7Zra0tXVLYmOyGLcF7aM5j+SM4bO4nackk7nzvf3xBfy+Ffh4EvpJ4X1CwUW1rE7tFKk04XZI3nESMMHy4rZ1BJYqz5WXyb40WkcXxD1FYyZBJFZSFigiLPLaxO52gAHLE4YAB+HGAwFfA4r4D+w+Ho2xlvX8z57WMiQMWyQSMnrkH/8AVW7ag5FUZUVZgMnkZIOeMn35rUtUwxGc55r4TH6SP7ByWF0it44Cj4Y+Lc9TaWoH1/tC0/pXiXhbxRr/AIL8W6X4v8Ozi31HQbuC/tJGRXEVzbuskbFWBVsMoJUgg4wQQa9v8dMF+GnioHA3WtsB+F/anj8q+dg826eIAmIsCQRxkAgEnsT096+iydv6mvV/ofz74i01/rJUT/kh/wC3HrPxc+NPxN+OfiSDxX8TdV/tbVLa0FlHL5EMAS2DPIECwxxrgNIxyQTzySAMc94c+JfxB8JeH9R8LeGPEeoaTpGsZF7a2lzLBDchkKMsyRlRICpKkMCCCRjk55QfamdCAxkKgLgckYwMevHFRpHL5JxkoCM8cA4OPxxmvV5r7vU+BVCMfdpqyXlp9w4TEuuABgDOM84759T/ADrTMt/qM53GW5uJDwSS7kn8yc0tnpWs6jf2+m6dZy3d7NhIoIozJK5HICooJJ4PAB9+lbNnqnjDwjLe6VZ3l9o0rMFuoEeS3bchIAkUbTlckYIyMkdzWLtoz1Kbkm49TWtPhz8Rby3FzZ+FtVliIyHjsp2QjrwQhBq1bfDrxpIfLudOOnE5BN/LHYgfU3LRgfnWV4f0XxD468Q2WhWDtdajqMqRK0rnGWIBZ3bOFUcsxOAASeBXZal8HPiHp2of2Ra6VNq93FBZzXEemK1/9la/IFvDcGAOI5ZCQFQnJLADJOKyautjujPkaUpr+vmY154B1zT/APj5utKIGMmPV9PnIBA5xFO5PuACfatK18GaHLD5tx440a0kUEmKRNRdifrDZyLkc/xfjWhB8D/ipJo8viKfw5dWmnQW893JcXIS2jEFuVWRiZmQfeYKoHLsGVQzKwHretfspeK7fw3oniPw3df2mmpaMNZuo7qJLAwQm0tbsNG8krLLEwuDFHKdheWGZQoKgtHJJ3aWiOn63QjZTq2b7f0zwe10nwnFd/ZtZ12RrfJIl0+0a5yM/wB25e0I9q1NXsfh1BCG8Pa1q19IMZS60yC0U88jel9cEZ9dp+navpXXv2LfHGnXllaWd7axqLVzfTXBuDHFexSQI0MYW3DFpftCC3TBeYpLs3YXd5L4u+EGk+C/B9v4k1LxdZXmo3kdq0GnWamSTfclmYyM7RtGkaKVchGZZw0TIoAkbGdKcfiR6eEzDDVpR9lUv00X56aHG6fe/DWO3MesaHq9zMT8rQarbwKDj+61hKcf8CqmNV8P290ZbDQluLZj/q764llbjPBa3NsCO3Cg574r1/QPBfwTHhHVrzWfFsct7aa1ttVVLiG9udItx5ZeKERTQxvctMrkTPvjWA4VgxNe1eCPAv7J+o69pnhUeMpJ4tabVvtdzfEWcVpHZytNpuJ57aIRm4iQLNgksSVUxsygYqlKel1+B6NTHUqClL2VR+il01erPkybxTpd0u208KaZp0gziSJ76RhxgHbPdSoeecFSPUVc07xbrkbi1tLTT5pJSAiNpVjM5LHAC7oGJJJwAOSa9qufFv7Pdn4fu9Mh0TVJNdstKt7Gxuo5QbYXZM7XzkiWNjFI0x8pmViUCgxxkHdU1X4o/CS3t9Vg8G+CFspLhrtbSeViWSC6sZLIQsHeVsx+aZRJ5h3SRK21TI2zlnFb86PcoYiclyfVZP8AxW/VnmGr6r8Q/D2otp9+Lvw/eoiubdIjpxAcblJhjWMAEEEHbyCDkir2pXPxPbxHP4H1jUtQfVorltOktJLp3IuRIYmj5cqTvBHBIJ7kV7d4o/ajTxJqmo6wngjTba5vb0XULyMZ5bUC5uLlhFKy+YrNJMXDqylZDIVAjdYo8DWv2n/Hmrz395HZafpt3fz3l3LPZC5hlM93PFP5gP2g5EZgRUQgxsozIsjAMM5exV/3n4HoYeWYy5ZTwkV395aP5fM8Wk8LeJLW0k1G40m7jtrYESzPBII0AlMJLuRgDzQY8nHzgr1GB6e3wJ+Idl4k0jw3qunyWJ1S806yE8kMqpFcajbx3UcEilA4lWOUbkC5DKwBIGTgeLfi/wCOfGVkNK1S7VLGCUXCQQRrGBIo2IdwBkJSMKgLMSQqkksNxNd+K3xF8USo+sa3M/l3CXkQiCQJFcxRLBG8awhFjKxxqqhAAAAQM5NcDdCO92fX045pNq3JHe+77W7edzsvCfwC8aeML5oLaBrTT7i41C0guLjy4pGubC3kuDE1uZPNRiEAb5Ts3c5IwcvX/hZrvhnwhb+Nr66s3tp7uCy8qOV2nEk9lHfKSNoQqIpVDENwxIwcZrz+z1/XLG1isbbU7iC2ifzBFHK6xiUqULhQQAxVmGQMkMRnBINSIquQOdgzz75rjqzo8vuxd/U+mweGzD2/NUrR5e3Lr163P6Nv2Ezn9lbwQT/1Eh+Wo3Ir65r5I/YU/wCTVvBH01H/ANONzX1vX7vgf92pf4V+R/lFxt/yUeYf9fqn/pTCiiiu8+DP/9T9/K4r4jv5fw88UydNml3p/KBzXa15/wDFhzF8LfGMg6ro2oH8rd6U9mdNBfvIrzPwWsntr/wV8PNP1v7XBZDWdNika5hT7J5BknLOhyySDDEgNtbhlZduGPg/xYsbew8bX1vYWcVlAiWhSKBJIoyDbxkuqTKsg3kliGLYJOJJBiR/X/7Oll8D+BbDU9NnvdLvdRsCZWZXJEstxG1pFa2zCWQSBSwYESsT5YIxHXlXxelvG8ZTyXwiSd7TT2IgkeSMB7KFlAeQA8KQCBlVOVUsoDH4DE/Cj+0OHadsZptr+aPDplP2g7s5xzn61pWoAI9qrXC/6SckHgHIPrV62HTNfBZjJc2h/YGSwfKjP8eDHw18T8ZzbW//AKXW1eBSTXRlu8AAS4LADgc8cdsHjrX0F45Ut8NvFA9LWAnj0vbevBJLiWS8mkiH+tXDAA4wAATz9M+1e7lH+6Lrq/0PwTxBX/GRT1t+7h/7efdfg/Wf2UfEXhj4deCfiHI2lNZWZudV1Oy04xTi4VrlfsouYUknuHl8yJ90iCOHyVVWIkcLy918Qv2fNLl8I6/o2jahL4k0K68NXd9dgLGHXT41jvIEgEiQnJjUowi3M2S0gBJPx2sUrpExYqjMQpJ4HOD9OaeISvmiRh5kZxjrk5wcH2r2nUZ+YQwEb3vKz89Nr/13PvvxB+1V8Lr/AF+XxjbeCpb/AMQtNpj29/qE4lvI4La0ghlje6BLFxLHMQ5QiWOYBkUxR1xOqftTaQ2lRW/hX4e6Ro+oiXV5Z72RIrmWY6jNJNbsD5CFZLR2iKsWYN5EYKhQVPx35cEbRYckEAsAMEHJyBng/nT4wu0kglieMHGOeeKl1Jam1PLcNGy5NvNvp6n1r4m/a18aeLBPb3mmWVhazWMtpHb6fvtoo2ktri1VyoLBliS6lMSkZTEYDYQA8jc/tGfGW8g1mEa/Oltq8WnW0oTJEUemBjaJAzZaFVLOSqFQxZiQc8cV8PPG3h3wdBqsWt+Go/EB1SKGACWcxosccgnYFRGxJaSOIkqysFRlziRsegWfx6OjWxs/D/hDR4bV54riVbi3WUyywG7WN38kQKT5d2ysAgUlRtVIyIxk5t7yPRp4WnT0p0F+Byet/Fz4p+KtEk0rW9cubvTmNwsisFCk39yL6VXdVBIkuE80KxIDBioALZtWi/GbU7ARWo1y7s2gltBGhuXQwL5FtLCqg4MY8u3idQCBtiRgMKBrwftC/E+0vL/UdO1GO0l1GAWreXDG4jtgSRBGJA+2MEnCjgZOMZNZ2v8Axv8AiT4lvNB1C81P7Pe+HYZYbS4tY0t5QJpJJSWaMDkb9qgYVVUbQDuJwk4vds9ulCvG0YQil6/pZdfMNJ+HHjPxBq89p4hkbRrpLW5uy+rLcI0y2WPPRVWOSR5I03OyhSQqk9gD2Y/Z78VS3FvBY3VvODHfTXVzIWhtLdLC4jt5cPIBJIVeVNwSIgbgAWKuE8gbxt40nuZbyXWb0zXBfzG+0SAnzGV2zg8gtHGSOhKqf4RjKlu7y9lee8neaV3LM7sWZixJJJPJJJJJJ5JOea5G4LdXPcpwxM2mqlvl/wAE7/xJ8P77wi1rBq2p2Xm3unQ6jEsTSyb/ADZjCYFcRhPNQhmZi3lFUJSRiUDd5B4A+FNl4jtrfXvHJfRkuIxLPaWwlYwF4FkxiQurKskrE+U64RShlLOsfhtxe3l66SX9xJcFESFDI5crHGu1VBJOFUDAA4AAAGKjV9xyAeTg5HYZ61zuUb/Ce3CjUlFRlVd/K36pnv8AZaD8BtIsJLjV/Ed/rl20bGOGytWhEbPHgFvOC7mViTgMFDADMigl2Q6x8GLLTJ7Wy0zVZ57nz2LXJtnMR+z3McKRuoGf3kkRkcoOUDhSVCP4ePMbGBjr9cf5FWI1bIbOMc/gc/yrCVbskj1KOW30lUm/nb8kj2GPx/4bs7DVdL0zw/JaW19I8kEYvSwty9lJbNhmiMjBnkMjqZAGVRERtLFtf/hclvN4hv8AU9Q8KaXqdvql0lxL9tgjmuzsjWNh54RQDIVLvtiVN7MVRVIUeH7VBGeSD9etXLS0nu2MduuSmMk8AZ9653iZxV7ntwybD1Z2ULt6btv8/LcVG3BcA4YkEnrx/wDXqwoY7ckDkn6jJ/8ArUlz4evZFCvclCf4Y/lA/HqfzA9qt6f4U0+E+ZcoZXHOXJJ5+teZKpSUb8x9tQwWOlU5FS07t2/K45UU5DEkk5H4YxV6LZuDAZL/AKgV+mX7M/hH9mf40+Frb4eeKPD8GleLLCMKs0TtE92B/HuDDcT3UYIPA4wT87/tQfs7v8C/EcUulb5NCvmIiLkMYn5IQHqVI+6TzwQSTyeWpGXslW+y3b0fZ9meFgOLMHLOZ5FXhKniI9JLSS7xet9D9if2Ezn9lbwTn/qJf+nG5r65r5I/YV/5NX8EfTUf/Tjc19b1/QmB/wB2pf4V+R/l3xt/yUeYf9fqn/pTCiiiu8+DP//V/fyvNfjM/lfCDxzJ/c0LUz+VrIa9Kryv46Ns+CXxBf8Au+HtWP5WktTP4GdmF/j0/VH4EWlprj6J8PryyvvM8nUbCOGNonmgRpZpXhMsJYyl1YSk+WoSSIrsPmK4Hk3xX1Gyu/GF5Np7RzosFohaLYUeSK3ijlIaMKpzIGJO1SerAMTXfweJvEYX4ZeGksw0UMum3dmqO5lnkW/nEZUiJwuXZl2rFOQy5AZi0deWfE668/xJJKbcWrfZbINGtubYB0t41YiMjgkqSzDKuxLKSGFfntdpx3P7o4foS+tpz8/zPNSyvMWXBGeOuMCtS27VkR4zweM9xz3rYtxjFfn2OleVj+tcpikkiv40Tf8ADrxSAcYs4j9cXcBxXgzXT/a0ltovnCbCMZBxkZwPb+VfQfiqPzPAXidM4JsCfrtmib+n514KZhHNC1vH+/iJyccMCeO/PUivdyv/AHTbq/yR+F8dxa4inrb93T/9KnsURHM8CEkiHeQCTwCQCf0/lT3hhheWJnBK42leQefUe1SLDNIkkvSMPgr0wT3x+OKnkhtoZpUBMowNjA8A8Hn9RXsOXS5+eRw/u81vv+ZF+7DRbY8kAbgckEgn8QCMU5Ek8l22/IWAJx0ODgA9u9Wg08r24hTEijCkDBOCcHJ6+lMKDyC4YZyAVOQemc+lZXO5Ura/8DoI0bAqrvjAGDnIAxkdM4/pRGnyjqTkDA/HvV2C3kupxBawvO7KSFUEscKSSAM5AwT9Bk967ST4beP7eC0lufDeo28V604gkks5kWX7McT7CV+byiDvxnZg5xUXdtEdHJBSd3Y4mNf3gGOOnvx1qyoKjHGCQMn3P+ArtfEfw98U+ErgQ+IrdbV3so9Rj8yWNWltZZRCjojMHLFs/uyokVQWZAqsR6P4r+Bv/CM3NlbL4r0m7FzObeRjKYxA4up7ZvMyCECCJXYSbGO5hGsixSOuXLKV7I7o16MLe9vt/SPB0wCSTweAPXr0qwqhRwPbmvbYPh18PtCvtEXxf4zt5YNTQyTjSwl6LVfJLATPG5IbzGRdgQkrvyVZQrXZvDvwHstCvHXxRqmpauqOLaOCyEEBf7MXUyNJlgvn4UkZJHygAfvRnKDt/wAE9CjioOyjGT+T/M8ORdwwvYce5qdVyCAADj3ODmvoXQ9Y/Z60nbeTeHtU1ea1t5GEF3KsUU9wWgEZLxMwUKBKzBlKtkAjkBeah8b+HbK6tLmw8JWsUFpJJJ5Uzm7DoTL5UbfaFk+QCXEgABcjcpjYI0fNJRW8j26FSvO/LQl87L9bnlSozfLnjGP/ANVWUXvjOePyzXYeGvh/448XqW8JeHtR1sAkE2NpNc89CP3StzmvW/Dv7Kf7RPiaYwad8PtYhIOCb22awU8Z4a78pT9RxXGqdSfwRbPfqY7A4bXEV4w9Wl+bPntfmwBnJ68V9+2XwHuZv2ftC8QaDB5r3sB1CaZf45XPCE9PkUBMZwCCSM9ef0P/AIJ9ftNancGG+0K00ZMjEl3qFs6EHrxbPO35rX3l8KvhH8ePgL8M7/wN48sLHxt4UkLyRx6HNLPqNhvDPI6wzQwmaMt/BEXl3HCowJx5mY5HjMVTulKPLrt16X8j4jN+N8Dh3SnleMpzqxkny8y95dbPa/Wzep+PjRlWKuCGBIIIwQRwQQe4oC8gDknivUvi3ovh/RPFN2+hXwmSWVjJbyqYbmByclJYXAdCDnIYAg8EDoPJbnVIFUGWRRtGBgAdgADgDPA7183T55JXWp/XWEzCjiMPHExdk1fXQ9i+Cmqf2J8QLHUvNEBi6EnB5III/L9a+hP2zPjzYfEmPSfBulFZf7MCy3Ui4IMuCAoPcgHJx0PHXIr5z+Ffwh8ZfFHWILbTk/sjTiw8zULpJAiKeSY0VTJKxAO0KApIAZ1zmv21+Dn7OHwX+HPh6ztNN0G21jUo/wB5JqmpWsct5LKwAYqZFJiTgBUTAA5OWLM3t5Vw/isZXlUjV5abtdd2ndfcfyr4icYcNZTnFDNaqdfEU01GMdlfq5bfIufsKc/sreCP+4l/6cbmvriqGnRQwWMMNvGsUaDCqoAAGegA4q/X9FYen7KlGn2Vj/OXO8x/tLMsRj+Xl9rOU7b2u27X+YUUUV0HgH//1v38ryX48uo+B/xDGeT4d1f/ANI5a9SmYgHFePfFnSL3xN8PfFPhu2lEMur6VfWauwJCG5geMMQOSBuyR3xUzXutHXhpKNaEm9Lo/nC0LUb7xN4j8HabPEh+yyWVhEqxedvT7SW+aGRgjsTIQVBVWAAOCWasH4j+Jl8U+JLjVxDLCDDa27LLK0zA20CQEgvhsEoSFPKggHpXYeMvhv8AEj4Q39tea7p8tg9jLG8F9CC8AlR8xsswGFbcAVDbW4HFeI305aQKwwSQSAACOTxgdPpX5lWcl7slqf6H8O0qFepHE0WnG1lb73+gkZJwOSc8+9bVt271gwNyfSt61OQB718DineTP6Zyu2g/xGu7wZ4kXbnOny/hgqc/pXh06RWxcKCbmGU4OOoBOM/Q44r6Hl086tpOq6cCVE9hdgkZ6CFmJI7gYzg45A5r9Pbb/glJ4KF5K9949vpoi2QI7GNHAz/fMrgn3219Tk+GrVsKvZRuk3+h/PPiZneX5Vn3Njp8rnShbRvaU77ddUfhoYLi4Nzct8gUgsvI5JI6H0969W8GeI/h5o+lz6d4h0+W6M95BJOY7WCeS5swVEkEc8xElmy4YiSEM0hYKxUICf2m0r/gnV+yvYXWqy654m1HVZdGjWTUY5dRtIUtECFw06xRK0SlQWy7AYBIOATXpPw2/ZH/AGIPEUcuseBNDsfEyWjGCWRdTubxFfrh4zOYwSBkErgjkZFfSwyzENpOy+Z+I4vjTLI05zhSqSirXly6a3a3atdH4haH8TPh34fgGnQ/D2C9t5L+a5Wa5uC5kt1Moto2imW4VPKEhyAx34USF8Etnt8Wr690bTvD+neENEgu7WOKIXUVnm8nMVxDcIXkBDOQYFjAOQELKAMgj+jl/g3+y78PoZtVvfB/hTRE0mEXEtzdWdnEbeEsVEryzLlFLAjcWAzxnNdTa/Ff4R2VpjQNWtL2JZIYFi0iJ71mlnjM0aRx2aSM7GJWlIUErEpkOEBau5ZVP7VRL5HyD4+w106OClL1l/wGfz92q/tleIrXS5NM8Ia7PFp0N1BDPFoMsquL+WOWd2kaB1Z3kjVy5IIYbgQSSfR7/wDZu/bt+JdvpNxqfhy7RNPiljRpbuy09yLiaSaQyIZo2JJkKkbRheAOuf3I0j4u+Edd1KfS9LF7PLFJqkSk2kyLLJo0wt7xYS6qZNkp8sFAVZgQpOM15pbftLaNrFrpk+g6TtOo2kV35mo3tvaW0CH7aZo5rmM3ESzQLYSeZECzKzKHCgSNHssspW9+o/6+88z/AF9xqd8Lg4Rt313v5rzPynsP+CbX7TPikpeeKNW0i0lACn7ffz3EqoCTgGGGYYGSQA2Mn3r1HRP+CUmvzBT4j+IVraNxlbTT5LkH1w0k0B+nH4V9mSftN6zq3jOfwv8ADnTh4gkGp6xbyLKjOILbSTYwPLH9kRmEBaeaUPKGaR4mgjBZ41Fyz+L/AMZtY0TTZk8NahBqfm2N1drHo08UT2Au7aC7ETStNGZGBuHjjExlMIWUqoIJcctwa6NmFbjriSSSjUhBf4V+tzwPRf8Aglf8KLZP+J/4w1q9bubVba2B/B45/wCdew6P/wAE7P2X9MjWO80e+1bA5N1qEyk/X7MYR+QFd7q0v7QfiLxSxtdKbS9BsvEmk3VkTcwxPPpSxSRahFdCGcPsDKs8YAZmZxG0ZjViMXT/AIL/ABWn8b2XiXxFq1rqOmWmtSXq2N7e3F+I4hdSTR3MH2mF1hmEbRxrDHtSLyg0cgLsB3xwOGjtSPl6vFWd1V+8x0l/hdvysdEn7N/7Jvw+tbZdQ8H+H7GKeVLeJtU2TebK+AkYa9ZyztkYUEkkjANeiSf8Kb+FOim/03StO0iyRIpFi0nThLKyTuI4mjgsonlcO7BVKockgDrXkemfsz6rp2sz6mvjAJFLevcGOCwEMkqSmQzG4mScNNPMGAllcFW25EQyQO6s/gZ4a07V7Pxl4l1u/wBU1TTtOt9MNzcSQwQ/ZLS5jvI0McUccYAliRiwAYgEFiCQeuFJRvywSPmsRjp17e3xE6nzf6mvdftA/CGxg1me48QRRDw9C89+jJJHJbojIgLxuqvmR5AkWFO9gyrllIHse5SAykMCMgjkEHuK+SNXvv2L7RNRsvEus+Er8zyyyXUN9f2t67M7QSOjRyPISpe1hcxgbS0att3DNUbv9uH9lnw9CNMsvFJnWxURJFa2F4yBUG0BHMIjIAGAQxGO9DxdKH8WcV8zpp8OZlirfUsJUl/263+SPrG7mvgpW2UAkcE14H8SfF2reExYt4g16PSotVuGtbYRxvIzyiKSbaBGrNkrGQOOWKqMswB+dNW/4KW/Bi3aSLSfD+uXzISFaSK2gjfHQgmdmAPuoPtXk2tft7X3j0pJoXwWTW1snLW81zK1+IyGVgwRLXCtuVTw+QQDnIFfP43GYKvH2ftn/wBu3/Q+9y3gDiSlJVamDtH+84r/ANKf6HU+K/HPw+8V6bNd3M//AAlYt54rWWO6hKBJpkkdEIugMnbC7HarAKpYkICwwtH0WOxmivPCnwcvpIJcqQtpHAVnSRkO+S0jng8sIoIZZGLbgAuBk8xB+1T+1vrdu9t4T8BaXoEAOEC2LwOoHAGLu4CkgDAIQDHQAVj/APCZ/t2eLYmg1DxQmkI5OFVLS3YAngB7OBm+h3E475r4lZNlzfMqU5P5/qz9RhlmbUoezrYyhSj29pd/dFH1bpNv8e7jTLu98M+ALfTQJrWWxjvbmNJZLYorTRzIzKVkLBlOVUqGAAypavojwRqPi3wl4b1HV/jtq2kaTNJfTyQeVIttaW9iAqQoXmOSx2s7lmbliAQoAH5gL8D/ANprxdaG18Y/EHV7mCTOY2ub69iOT6SvGuPwxWr4f/YOnnRRquo3cpPUxLDb/pIZCP1r6vDe3oJRw+G0XdpfkfL4vh/h+euYZxG99oU5P/yaTX6n7R+FfEfh7xPodrrHhrU7bVtPuA/lXNpMk8MmxijbJIyyttYFTgnBBB5BrpQc14D8DPAFv8MvhtongixDiDTFlA8xw7kyzPKzFgACWZiTgAAnAAAAHu0O7AzzX29NycE5rU/nfHU6EMTUhhZc1NN8re7V9G/kWaKKK0PPP//X/fiRc1zus2YmsblcctG4/NTXTVVu4w9vKpGcqw/MUDR8sa14UhvomglhEqyAqVIBBB4wQeCDXw38Uf2LfAHigyXnhuI+GdQwcNaoDbE4wN0HC47/ACbCTySa/U24sELRtjBXHI4OQTXLX+gKSQyjsfz5rirYeFVWmro+vyvOcZl9X2uDquD8v17/ADP52fiF+zf8XPhs0lzNpP8AbenJk/adP3SYUAkl4seYuAMk42j+9XhMPiS1gIE0MgwcZGCB/I/pX9M2o+FY5AQUz+HWvl34p/sr/Df4jCe51bSVt9QlyTe2oENzuwFDMwBEhAAAEgYADpXxWK4dpy1pH9N5B4y42glDHxuv5opfiv8AI/ITwJ4g0C+1prCW6ET3tnf28QdGG+ee0ljhQHGMtKyqDnAJySACR/UopO5j71/PT4q/Yv8AiF8Ptds/Evgwr4psdOuo7j7PkW13ticNtwxKNwMZBBJ6J2r7wuf+CgevI7WmnfBLxJLqBOTDP5kIGMZ+ZbeRunTKDPHTt0ZPGOXwnTrXX4/keN4j16vGOJwuOy1xm1FxeqjbW6upNNbst3P7PfirxhrXxLGieEP+EKt9ZsFtNIvLq5SUXoTUI7+5OobJ5bqSS+kBBZ1AhhVY8MSVr3TT/g94u8Tad8S9X8b2unaXqnxCsbbTRp1pLJLbQWtpC8S+dOiRNJJJ5jgkKVVAq4YAqflOT9tH9qnxK5XwZ8GotJBHB1Vp2xg9DuazPPY9PrXMT/FD/gol4ukDWb6P4R3AnbFBbzgH0/eLeEA+xzXfB4eMuaEZP5evp3PBzGtnWMoOhiq9GknZazvLTl85PVwi35rzd/sez/ZeWdbePxF4gicRRWBaTTbBNMumubW2sbaQi4gkBSFlsgYookTySwwx8qPHpXij4EeB/GOm3+la/Je3FtqNwk8m6cu5VbFdPaN3kDNIskKkuZCzlzvDBgpX827r4XftweMZo7jxH8WtQ0yUj5v7Mee2Tn0W3+yL+YrPm/YT8X+Lp4r34i+OtX1+7TOZ55Qz89cGdrgj867FVqNe5Q37v/hz4WWWYGEl9YzRXX8sW/u+FH3hP4Z/ZQ+Fmr3Nzq2u6Xod9fXt/qMsV7rzxCSfUXV7sm3kuQrRysq7oypQ7VBXAGOPb9o/9iL4bWkuh2GvaWbSW7F/9msbW4v7dLpERBLH5MUsUbfIGypXLlnOXZmPztoP/BPD4cWKINRNzqBHOZrlwfyhWIV614f/AGJfg/oy7F0G2nBOT9ojNycnrzcNIa0X1t/DCK/r5GDXDkb+2r1anpZL8bljVP8AgpN+z1p9zFY6Na6zq+8qiNb2kUUQJIAH7+aJgOey8AdKoXn/AAUAh1K/n0nwB8Pb3xDdwyzRssU0mUWFHJL+XbyDIZQCqszEElQxAU+x+HP2dvh/4YO7QtIgsCSGP2eGODJHc+WqnPHXNd1F8PPC9vIZZIIzIRvJdyxIJxuIJ5yT17k+tWqWMfxVLeiM5Zlw3TdqWBlL/FN/krfmfLUv7UH7RusoU0H4fW9mRfQW7GeOXKQzRq5kJmlgACltpJXO4dATgeeXHiz9unxQ1/PF4kt/DkEEl1Gbf7NYl8YH2YqyW80gDk4JLZCjPU4r9Arfwv4egYeVbRZDKp2xAkFyQuSBxkjqf6it2G0t/ls4YWOW5CqBwCRuJz0Bzj8eOlDwcpaTqv8Ar0LhxXQof7tl9JeseZ/+TXPzPn+A37S2v3Mg1v4u+JEjmnMEkcNxc+UwcZUhFlijCr0YBeR0C9sWw/4J6pfFb7xP4h1K8upTunmHko0hKkkjzPNI5AHLMSDziv1MW3+YBLcbSwAZmABBzyBjk+wPf1yKvLYXkZUvApQqrEqrE5LAFQBk8DJzj8PXN5VhpfGr/edS8Q89ppxw81TX92MV+SPznsf2Bfhvbaba74rq6lDOJHuLp9zgkkBhCI1BA4G0DIznJ5rvdD/Yw+F+lxiMaRbSjOT50RuT7/NM7GvuL+ytVlWVYisXXYxAJyCuAQRwCMjJB6+3O+mmLGoGM4AGTyTXRTy/Cw1jTX3Hh4njTPq91Vxcn82fKWhfs7+BdAjEWl6fHaITnbBFHCpJ9Qq+vvXWP8NvDWneXt04zs5IADMeQM8gHngE8DtX0IdNZvb8KryaQAC8r7QOprt9nGK91Hy08wxNWXNVqNnh8XhuwiQvHo0MZBAUlAxIwcn7ueDj6+orXj0zUSoSOKK3AzxjgDPA4J5xz3Hv2r0KaybpEu0dMsMn8u35/hVBtPu2PLsfTHH8qw5peh0woe01k/vOci0PUZFZHuMAkAFQAcAcnIxzz9OnSur0nRHtUZZZTOSxILdQCBx34Bzin21ldxMCpz6hhkH8/wD61dLDeLGgEkBV+4XGD9M1pCa6s5a2GktI6o3NPthHbpxyMj9TWsq7RVWxkE1rHIF25B4PbBxVyuo8pq2jCiiigR//0P38pknKMPUGn0jfdP0oAxGgDbD0IIAI69azp7TcSSM5A/lW/jpUUiLux2qbG8ZM5CbT1YEMv6Vi3GiI+flBz2r0F419KqvEnpUNHbCozya48LxSPvC4I5Jx6c1fl8FaZLM872ys7ckkdfcjpk/Su+aJNrcdjWqYoz1WnGK1M685cyseUw+GtJiJ8qKNSgJJCAYx74q/HpFuY3dYyDHyVIwfY846+tdqI0m3krjcmSB0yDVi1jSZXkkAJfCkY4ximmYSSWrOEFkiYPkcYHUgEEgEgg4xgHqSOR2GDUzWbYYWqLuBAGQWABXPIUnqeMjivQY7eHG4IFOMcDsOgqfy09Koxuux5/b6VePI28lAGfACgAgEBBkqc5HOQT9e1TQ6HdbAshJzhmBcod3IIyueANuAOuCTzXdiNMHimy4jB2iiwcxxq+GwZjIJGHzOMnJJRtp2jnBUYIwQRyeM4NXofD8MUSx/3WDcDGSCD3PcjJrQe+m6AAfTP+NIbiduC5A9gBU6GqUn1E/si1L+b5eH3h8gkHIGB07YJ46cmnjTLKI72RQQd2WwSCTnIJ6c9MdO1RtuPDOzfU5oESenek2X7N9ywFs4t21lBY5OOck9Scd/ekNxbD1P0BH88U+O3iI5Hb/CpVgi4yM//rp3Y+SHUqm7X+CIn6kCmNdz5+SNR9cmrghjHanrEnpS1L5YLoZjT3jfxBfoB/WrcMDtH5k7F2PQHoPcDpVsRJkcVaCLsHHak1oRKa6IwTb/ADGnrb5xgVtLEnpT/LQdqzVJGzquxlR2mSOPyqaezXaMdeK1Y0XGcc0rKCatU0jndVqSZHap5duif3c/zqxSKMClrY5nq2wooooEf//Z");
-		medications.add(entityMedication);
-
-		entityMedication = new EntityMedication();
-		entityMedication.setName("ANTIBIOTICS");
-		entityMedication.setCode("ANB");
-		entityMedication.setWeight("200");
-		entityMedication.setImage(
-				"/9j/4AAQSkZJRgABAQAASABIAAD/4QFQRXhpZgAATU0AKgAAAAgABAEaAAUAAAABAAAAPgEbAAUAAAABAAAARgEoAAMAAAABAAIAAIdpAAQAAAABAAAATgAAAAAAAABIAAAAAQAAAEgAAAABAA+QAAAHAAAABDAyMjGQAwACAAAAFAAAAQiQBAACAAAAFAAAARyQEAACAAAABwAAATCQEQACAAAABwAAATiQEgACAAAABwAAAUCRAQAHAAAABAECAwCSkAACAAAABDcwOACSkQACAAAABDcwOACSkgACAAAABDcwOACgAAAHAAAABDAxMDCgAQADAAAAAf//AACgAgAEAAAAAQAAAZegAwAEAAAAAQAAASKkBgADAAAAAQAAAAAAAAAAMjAyMzowMTozMSAxNTo0Njo0MwAyMDIzOjAxOjMxIDE1OjQ2OjQzACswMTowMAAAKzAxOjAwAAArMDE6MDAAAP/tAHhQaG90b3Nob3AgMy4wADhCSU0EBAAAAAAAPxwBWgADGyVHHAIAAAIAAhwCPwAGMTU0NjQzHAI+AAgyMDIzMDEzMRwCNwAIMjAyMzAxMzEcAjwABjE1NDY0MwA4QklNBCUAAAAAABCL7r6XEH+H+obr1fLOfQrc/+IbtElDQ19QUk9GSUxFAAEBAAAbpGFwcGwCEAAAbW50clJHQiBYWVogB+cAAQAWABIAEAAdYWNzcEFQUEwAAAAAQVBQTAAAAAAAAAAAAAAAAAAAAAAAAPbWAAEAAAAA0y1hcHBsAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAARZGVzYwAAAVAAAABiZHNjbQAAAbQAAAScY3BydAAABlAAAAAjd3RwdAAABnQAAAAUclhZWgAABogAAAAUZ1hZWgAABpwAAAAUYlhZWgAABrAAAAAUclRSQwAABsQAAAgMYWFyZwAADtAAAAAgdmNndAAADvAAAAYSbmRpbgAAFQQAAAY+bW1vZAAAG0QAAAAodmNncAAAG2wAAAA4YlRSQwAABsQAAAgMZ1RSQwAABsQAAAgMYWFiZwAADtAAAAAgYWFnZwAADtAAAAAgZGVzYwAAAAAAAAAIRGlzcGxheQAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAG1sdWMAAAAAAAAAJgAAAAxockhSAAAAFAAAAdhrb0tSAAAADAAAAexuYk5PAAAAEgAAAfhpZAAAAAAAEgAAAgpodUhVAAAAFAAAAhxjc0NaAAAAFgAAAjBkYURLAAAAHAAAAkZubE5MAAAAFgAAAmJmaUZJAAAAEAAAAnhpdElUAAAAGAAAAohlc0VTAAAAFgAAAqByb1JPAAAAEgAAArZmckNBAAAAFgAAAshhcgAAAAAAFAAAAt51a1VBAAAAHAAAAvJoZUlMAAAAFgAAAw56aFRXAAAACgAAAyR2aVZOAAAADgAAAy5za1NLAAAAFgAAAzx6aENOAAAACgAAAyRydVJVAAAAJAAAA1JlbkdCAAAAFAAAA3ZmckZSAAAAFgAAA4ptcwAAAAAAEgAAA6BoaUlOAAAAEgAAA7J0aFRIAAAADAAAA8RjYUVTAAAAGAAAA9BlbkFVAAAAFAAAA3Zlc1hMAAAAEgAAArZkZURFAAAAEAAAA+hlblVTAAAAEgAAA/hwdEJSAAAAGAAABApwbFBMAAAAEgAABCJlbEdSAAAAIgAABDRzdlNFAAAAEAAABFZ0clRSAAAAFAAABGZwdFBUAAAAFgAABHpqYUpQAAAADAAABJAATABDAEQAIAB1ACAAYgBvAGoAac7st+wAIABMAEMARABGAGEAcgBnAGUALQBMAEMARABMAEMARAAgAFcAYQByAG4AYQBTAHoA7QBuAGUAcwAgAEwAQwBEAEIAYQByAGUAdgBuAP0AIABMAEMARABMAEMARAAtAGYAYQByAHYAZQBzAGsA5gByAG0ASwBsAGUAdQByAGUAbgAtAEwAQwBEAFYA5AByAGkALQBMAEMARABMAEMARAAgAGEAIABjAG8AbABvAHIAaQBMAEMARAAgAGEAIABjAG8AbABvAHIATABDAEQAIABjAG8AbABvAHIAQQBDAEwAIABjAG8AdQBsAGUAdQByIA8ATABDAEQAIAZFBkQGSAZGBikEGgQ+BDsETAQ+BEAEPgQyBDgEOQAgAEwAQwBEIA8ATABDAEQAIAXmBdEF4gXVBeAF2V9pgnIATABDAEQATABDAEQAIABNAOAAdQBGAGEAcgBlAGIAbgD9ACAATABDAEQEJgQyBDUEQgQ9BD4EOQAgBBYEGgAtBDQEOARBBD8EOwQ1BDkAQwBvAGwAbwB1AHIAIABMAEMARABMAEMARAAgAGMAbwB1AGwAZQB1AHIAVwBhAHIAbgBhACAATABDAEQJMAkCCRcJQAkoACAATABDAEQATABDAEQAIA4qDjUATABDAEQAIABlAG4AIABjAG8AbABvAHIARgBhAHIAYgAtAEwAQwBEAEMAbwBsAG8AcgAgAEwAQwBEAEwAQwBEACAAQwBvAGwAbwByAGkAZABvAEsAbwBsAG8AcgAgAEwAQwBEA4gDswPHA8EDyQO8A7cAIAO/A7gDzAO9A7cAIABMAEMARABGAOQAcgBnAC0ATABDAEQAUgBlAG4AawBsAGkAIABMAEMARABMAEMARAAgAGEAIABjAG8AcgBlAHMwqzDpMPwATABDAER0ZXh0AAAAAENvcHlyaWdodCBBcHBsZSBJbmMuLCAyMDIzAABYWVogAAAAAAAA81IAAQAAAAEWz1hZWiAAAAAAAABhbAAAODIAAApCWFlaIAAAAAAAAG8cAACulQAAFplYWVogAAAAAAAAJk4AABk5AACyUmN1cnYAAAAAAAAEAAAAAAUACgAPABQAGQAeACMAKAAtADIANgA7AEAARQBKAE8AVABZAF4AYwBoAG0AcgB3AHwAgQCGAIsAkACVAJoAnwCjAKgArQCyALcAvADBAMYAywDQANUA2wDgAOUA6wDwAPYA+wEBAQcBDQETARkBHwElASsBMgE4AT4BRQFMAVIBWQFgAWcBbgF1AXwBgwGLAZIBmgGhAakBsQG5AcEByQHRAdkB4QHpAfIB+gIDAgwCFAIdAiYCLwI4AkECSwJUAl0CZwJxAnoChAKOApgCogKsArYCwQLLAtUC4ALrAvUDAAMLAxYDIQMtAzgDQwNPA1oDZgNyA34DigOWA6IDrgO6A8cD0wPgA+wD+QQGBBMEIAQtBDsESARVBGMEcQR+BIwEmgSoBLYExATTBOEE8AT+BQ0FHAUrBToFSQVYBWcFdwWGBZYFpgW1BcUF1QXlBfYGBgYWBicGNwZIBlkGagZ7BowGnQavBsAG0QbjBvUHBwcZBysHPQdPB2EHdAeGB5kHrAe/B9IH5Qf4CAsIHwgyCEYIWghuCIIIlgiqCL4I0gjnCPsJEAklCToJTwlkCXkJjwmkCboJzwnlCfsKEQonCj0KVApqCoEKmAquCsUK3ArzCwsLIgs5C1ELaQuAC5gLsAvIC+EL+QwSDCoMQwxcDHUMjgynDMAM2QzzDQ0NJg1ADVoNdA2ODakNww3eDfgOEw4uDkkOZA5/DpsOtg7SDu4PCQ8lD0EPXg96D5YPsw/PD+wQCRAmEEMQYRB+EJsQuRDXEPURExExEU8RbRGMEaoRyRHoEgcSJhJFEmQShBKjEsMS4xMDEyMTQxNjE4MTpBPFE+UUBhQnFEkUahSLFK0UzhTwFRIVNBVWFXgVmxW9FeAWAxYmFkkWbBaPFrIW1hb6Fx0XQRdlF4kXrhfSF/cYGxhAGGUYihivGNUY+hkgGUUZaxmRGbcZ3RoEGioaURp3Gp4axRrsGxQbOxtjG4obshvaHAIcKhxSHHscoxzMHPUdHh1HHXAdmR3DHeweFh5AHmoelB6+HukfEx8+H2kflB+/H+ogFSBBIGwgmCDEIPAhHCFIIXUhoSHOIfsiJyJVIoIiryLdIwojOCNmI5QjwiPwJB8kTSR8JKsk2iUJJTglaCWXJccl9yYnJlcmhya3JugnGCdJJ3onqyfcKA0oPyhxKKIo1CkGKTgpaymdKdAqAio1KmgqmyrPKwIrNitpK50r0SwFLDksbiyiLNctDC1BLXYtqy3hLhYuTC6CLrcu7i8kL1ovkS/HL/4wNTBsMKQw2zESMUoxgjG6MfIyKjJjMpsy1DMNM0YzfzO4M/E0KzRlNJ402DUTNU01hzXCNf02NzZyNq426TckN2A3nDfXOBQ4UDiMOMg5BTlCOX85vDn5OjY6dDqyOu87LTtrO6o76DwnPGU8pDzjPSI9YT2hPeA+ID5gPqA+4D8hP2E/oj/iQCNAZECmQOdBKUFqQaxB7kIwQnJCtUL3QzpDfUPARANER0SKRM5FEkVVRZpF3kYiRmdGq0bwRzVHe0fASAVIS0iRSNdJHUljSalJ8Eo3Sn1KxEsMS1NLmkviTCpMcky6TQJNSk2TTdxOJU5uTrdPAE9JT5NP3VAnUHFQu1EGUVBRm1HmUjFSfFLHUxNTX1OqU/ZUQlSPVNtVKFV1VcJWD1ZcVqlW91dEV5JX4FgvWH1Yy1kaWWlZuFoHWlZaplr1W0VblVvlXDVchlzWXSddeF3JXhpebF69Xw9fYV+zYAVgV2CqYPxhT2GiYfViSWKcYvBjQ2OXY+tkQGSUZOllPWWSZedmPWaSZuhnPWeTZ+loP2iWaOxpQ2maafFqSGqfavdrT2una/9sV2yvbQhtYG25bhJua27Ebx5veG/RcCtwhnDgcTpxlXHwcktypnMBc11zuHQUdHB0zHUodYV14XY+dpt2+HdWd7N4EXhueMx5KnmJeed6RnqlewR7Y3vCfCF8gXzhfUF9oX4BfmJ+wn8jf4R/5YBHgKiBCoFrgc2CMIKSgvSDV4O6hB2EgITjhUeFq4YOhnKG14c7h5+IBIhpiM6JM4mZif6KZIrKizCLlov8jGOMyo0xjZiN/45mjs6PNo+ekAaQbpDWkT+RqJIRknqS45NNk7aUIJSKlPSVX5XJljSWn5cKl3WX4JhMmLiZJJmQmfyaaJrVm0Kbr5wcnImc951kndKeQJ6unx2fi5/6oGmg2KFHobaiJqKWowajdqPmpFakx6U4pammGqaLpv2nbqfgqFKoxKk3qamqHKqPqwKrdavprFys0K1ErbiuLa6hrxavi7AAsHWw6rFgsdayS7LCszizrrQltJy1E7WKtgG2ebbwt2i34LhZuNG5SrnCuju6tbsuu6e8IbybvRW9j74KvoS+/796v/XAcMDswWfB48JfwtvDWMPUxFHEzsVLxcjGRsbDx0HHv8g9yLzJOsm5yjjKt8s2y7bMNcy1zTXNtc42zrbPN8+40DnQutE80b7SP9LB00TTxtRJ1MvVTtXR1lXW2Ndc1+DYZNjo2WzZ8dp22vvbgNwF3IrdEN2W3hzeot8p36/gNuC94UThzOJT4tvjY+Pr5HPk/OWE5g3mlucf56noMui86Ubp0Opb6uXrcOv77IbtEe2c7ijutO9A78zwWPDl8XLx//KM8xnzp/Q09ML1UPXe9m32+/eK+Bn4qPk4+cf6V/rn+3f8B/yY/Sn9uv5L/tz/bf//cGFyYQAAAAAAAwAAAAJmZgAA8qcAAA1ZAAAT0AAAClt2Y2d0AAAAAAAAAAAAAwEAAAIAAABWAS4B6wLEA4MEUwVABicHGggYCR8KPQtODGsNkA65D+wRLRJlE6MU4xYqF3kYvxoPG1ccpB3zHzwghCHNIxEkUiWNJssoACkzKmYrlyzKLfcvKDBRMYAyqzPVNQI2MTddOIo5tjrhPA09OD5gP4lAsUHcQwhENkVjRpBHuEjeSgFLJExHTWpOj0+0UNhR+FMWVDNVT1ZtV41YrlnLWuFb8Fz3XftfAGAKYRliLWNBZFJlX2ZlZ2FoU2k8aiBrAWvgbL9toG6Db2hwUHE4ciBzCHPvdNZ1vnaod5N4fnlsell7SXw9fTd+Nn85gEGBS4JXg2WEdIWFhpSHpIizicCKzIvWjN+N547tj/KQ9ZH2kvWT9ZT6lgSXFZgsmUeaY5t/nJidrp6/n8ug1KHaouCj6aT0pgOnFagqqUKqXKt3rJStsq7Rr/GxEbIzs1O0c7WQtqm3urjBucO6wLu7vLW9r76pv6PAncGVworDfMRqxVPGNscYx/nI4MnPysbLw8zBzbzOr8+Y0HPRQ9IN0tPTm9Rm1TXWBdbX16jYdtlA2gbax9uA3DXc592R3jve49+N4Dvg6+Gf4lLjA+Ov5FXk+eWU5izmv+dS5+Tohekv6eTqqOtu7DPs9e2v7mPvEe+18FDw5vF88hfyxvOP9G71YfZm94r45PrF/S7//wAAAFYBIwGwAmoDMgPoBLEFgAZYBz0ILQknCicLIgwwDToOUQ9jEH4RnxK+E+kVEBY4F2EYiBm0Gt4cCx0zHlsfgCChIb8i2yP1JQsmHyc1KEkpYCp5K5MssS3MLugwBDEhMjwzWjR0NYs2pDe5OM054jr0PAY9Gz4xP01AbEGPQrBD0ETtRghHHUgySUVKVUtjTG5NeE5+T4NQhVGGUohTilSMVYpWhFd5WGhZVFpEWz9cRl1aXndflWCwYcJiymPFZLVlnGZ7Z1doMGkMaexq0Gu6bKltm26Pb4JwcnFcckBzH3P7dNV1rXaGd2J4RXkweiR7HXwZfRV+EH8Gf/aA4oHKgrGDlYR3hV2GSodEiEyJYYqBi6WMxo3eju6P9ZD3kfWS85PwlO2V7Jbul/iZEJo5m26cpp3OnuOf6aDlod+i2aPRpMilvqa8p8qo7aohq12snK3ZrxSwTrGIssKz+bUutmS3m7jSugW7NLxfvYW+pr+8wL7BqsKQw33Ed8WAxo/HncijyZ7Kjst1zFPNLc4EztrPstCL0WrSUdNF1EXVUdZi13XYhNmH2n3bZtxD3Rrd7N6534fgWOEt4gji5uPD5J3lceZA5wzn1Oij6X/qaetk7Gjtbe5w73DwcPFy8nbzefR39Wn2R/cP97P4RfjL+Vr57frQ/Az92v//AAAAKwDEAUsB2AJlAwYDjwQrBM8FegYvBukHpQhoCS8J+QrKC58Mdw1SDjIPDg/2ENkRwBKpE5MUfRVnFlIXPRgpGRUZ/BroG9Icvh2uHqMfmyCWIZQijyOGJHYlYSZFJyAn+CjMKZ8qcytILCEtAi3pLtcvyDC6MaoymDOANGA1OTYGNs83lThYORk52TqdO2Q8Mj0GPd4+tj+PQGhBREImQxBEAETzRedG1ke7SJZJZUolSuBLmExPTQdNw06DT0lQGFDqUb5Sk1NoVDtVDVXeVq1XfFhKWRVZ31qoW29cNVz5Xb1egF9DYAhg0WGcYmtjPGQMZNplp2ZxZzhn/Gi/aYBqQGsAa8BsgW1DbgRuxW+FcEFw+HGrcllzAXOpdE909HWYdjx23neAeB14vXlgehZ62nurfIN9WH4ofvZ/w4CTgWeCRIMqhBiFC4YAhvSH44jNia+KjIthjDSNB43ajrCPipBrkUeSEpLGk1uT7JR6lUGWQpeImQiaipvknRmeMp85oDmhNaIvoyikIaUZphGnCqgJqQ+qIas9rGCth66tr9Ow/LIos1q0krXRtxS4Wbmcute8Bb0pvke/YsB/wZ7CvsPfxP/GIcdDyGfJjMqxy9bM/c4pz1vQl9He0zLUjdXu11PYudoh25XdL98O4Xfki+h57U7y9vlR//8AAG5kaW4AAAAAAAAGNgAAk5UAAFaNAABW6QAAkbcAACa7AAAXCgAAUA0AAFQ5AAKHrgACR64AAWuFAAMBAAACAAAAAQAEAAgADwAWAB8AKQA0AEAATABaAGkAeACJAJoArAC+ANIA5gD8ARIBKQFAAVkBcwGNAakBxQHjAgECIQJCAmQChwKsAtIC+gMjA00DegOoA9cECAQ6BG0EowTZBRIFSwWGBcMGAQZABoAGwgcFB0oHkAfYCCEIbAi5CQcJVwmoCfoKTQqhCvcLTguoDAQMYgzDDSUNiQ3uDlQOvA8lD5EQABBxEOQRWRHPEkYSvRM4E7YUOhTDFVIV4xZ1FwYXlhgmGLgZThnoGogbMRvjHJ8dYh4rHvgfxiCVIWQiNCMGI9sksyWPJmwnSygrKQ0p8CrVK7ssni1+LlwvOTAUMPAxzTKqM4k0aDVKNi43FTf/OO053jrSO8o8xT3EPsc/zkDaQehC9kQARQZGCEcISAhJCUoMSxRMIU00Tk5PblCUUbxS5VQNVTRWWVd9WKBZxFrnXAtdMF5WX3xgpGHOYvhkJGVTZoVnvGj6akNrmWz5bmNv0nFGcrx0NHWvdy14sXo8e9B9b38cgNaClIRMhfaHlIksisWMZY4Vj9+RzZPdlf+YIJo5nEyeX6B5oqCk2qctqaCsMK7gsaG0XrcLua68Xb8rwh/FRsiizAzPKNH21JHXKNnR3J7fl+LS5mDp+e0S76zyAPQw9jn3//mK+rj71Py7/aP+cP83//8AAAABAAUACgASABsAJgAyAD8ATQBcAG0AfgCRAKQAuQDPAOUA/QEWAS8BSgFmAYMBogHBAeICBAInAkwCcgKaAsMC7wMcA0sDfAOvA+QEGgRSBIsExQUBBT0FewW7BfwGPwaDBskHEAdZB6UH8ghBCJMI5gk7CZMJ7ApGCqEK/AtYC7QMEgxyDNQNOQ2gDgsOeA7nD1kPzhBGEMARPhG/EkMSyhNTE90UahT6FY8WKhbLF3EYFhi2GVEZ5hp5Gw0bpBxAHOQdkR5KHw4f3SCzIY4iaSNCJBgk6yW9JpAnZihCKSUqEisILAUtCC4OLxIwETEIMfky6DPXNMo1wTbBN8o42znyOw48MD1RPmk/dEByQWhCWENHRDlFNEY4R0dIX0l+SqFLx0zwThtPRVBrUYZSlFOXVJVVlFagV79Y8Vo1W4BczV4eX3Rgz2IjY2ZklWW1Zs5n5Gj7ahZrM2xUbXZumm/AcOpyF3NGdHZ1p3baeBB5TXqPe9h9Jn59f+OBZ4MQhMqGdIgGiYeLBIyIjhuPw5GCk1iVQ5c7mTubO505nymhBKLGpHamG6e9qWKrFazdrsWwz7L1tTG3fLnLvA++RMBywqbE6cdCybLMMc6c0N3S9NTx1ufY49ro3PTfAeEK4xTlJOdI6ZbsN++K86b3bPnO+4T8w/30/vn//wAAAAIACAARAB4ALQA+AFEAZgB9AJYAsADMAOoBCQErAU0BcgGYAcAB6gIWAkQCdAKmAtoDEQNJA4QDwAP9BDsEegS6BPwFQQWKBdcGKQaBBt0HPgeiCAgIbwjUCTkJnQoCCmoK1QtEC7sMOQzBDVAN5g6CDyEPwBBcEPYRkBItEs0TbhQNFKgVQhXcFnkXHhfOGI4ZYhpCGyocFBz7Hd0euB+SIG0hTCIwIxgkBiT5JfEm7yfzKP0qDiskLEAtYC6AL50wuDHTMvM0GjVJNoI3wzkMOlw7sD0HPmA/vkEiQpNEFkWuR1pJEUrRTJpOb1BVUjJT2lVaVsxYSFnTW2Zc+F6DYAFhcGLVZDdlnGcJaIFqCmujbU1vAHC3cm90HnXDd3V5ZHvufqSAeYHWgvyEAoUIhhCHM4hzidSLVYzpjoiQLpHZk4iVO5bxmKmaXpwKnaefN6C9oj+jwKVEpsqoUKnUq1Ss0K5Gr7mxKLKXtAi1fbb8uIm6JrvQvYK/NsDpwpzET8YEx7vJc8srzOTOntBY0hTT0tWP10rY/9qs3E/d6N914P3iguQD5YLnAuiD6gTrf+zu7kbvefCd8Y3ydfNE8/f0qvVO9dv2aPb293b36fhc+M/5Q/mr+g36cPrS+zX7mPvx/En8ovz7/VT9rf4D/lj+rP8B/1X/qv//AABtbW9kAAAAAAAABhAAAJzfAAAAAMoqyp8AAAAAAAAAAAAAAAAAAAAAdmNncAAAAAAAAwAAAAJmZgADAAAAAmZmAAMAAAACZmYAAAACh64AAAAAAAFrhQAAAAAAAkeuAAD/wAARCAEiAZcDASIAAhEBAxEB/8QAHwAAAQUBAQEBAQEAAAAAAAAAAAECAwQFBgcICQoL/8QAtRAAAgEDAwIEAwUFBAQAAAF9AQIDAAQRBRIhMUEGE1FhByJxFDKBkaEII0KxwRVS0fAkM2JyggkKFhcYGRolJicoKSo0NTY3ODk6Q0RFRkdISUpTVFVWV1hZWmNkZWZnaGlqc3R1dnd4eXqDhIWGh4iJipKTlJWWl5iZmqKjpKWmp6ipqrKztLW2t7i5usLDxMXGx8jJytLT1NXW19jZ2uHi4+Tl5ufo6erx8vP09fb3+Pn6/8QAHwEAAwEBAQEBAQEBAQAAAAAAAAECAwQFBgcICQoL/8QAtREAAgECBAQDBAcFBAQAAQJ3AAECAxEEBSExBhJBUQdhcRMiMoEIFEKRobHBCSMzUvAVYnLRChYkNOEl8RcYGRomJygpKjU2Nzg5OkNERUZHSElKU1RVVldYWVpjZGVmZ2hpanN0dXZ3eHl6goOEhYaHiImKkpOUlZaXmJmaoqOkpaanqKmqsrO0tba3uLm6wsPExcbHyMnK0tPU1dbX2Nna4uPk5ebn6Onq8vP09fb3+Pn6/9sAQwACAgICAgIDAgIDBQMDAwUGBQUFBQYIBgYGBgYICggICAgICAoKCgoKCgoKDAwMDAwMDg4ODg4PDw8PDw8PDw8P/9sAQwECAwMEBAQHBAQHEAsJCxAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQ/90ABAAa/9oADAMBAAIRAxEAPwD9/KKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooprMqjLEAe5xQA6iqj39lF/rbiNPq4H8zVJ/EGhR/f1G3GPWVf8aANiiudfxb4aT72p2/4SA/yqs3jjwon3tSjP0yf5A0AdXRXFv8QPCqji8L/SNz/Sqr/Ejw0PuNK/0TH8yKAO+orzhvibonRIJ2/BR/7NUZ+JmnfwWkp+pUf1NAHpdFeYn4kwH7liT9ZAP6VE3xFmP+rslH1cn+goA9ToryRvH+pt9yGFR7hif5imjxzq7doh9FP9SaAPXaK8kHjDV26SKB/uCl/4SjWX/wCW+Poqj+lAHrVFeRnX9Vf71yw+hA/kBUbalfScG5lHb75/xoA9gpCyjqa8Yae7P3pnP1Yn+ZqsxkP3mJ/E0Ae2NNCv3pFH1IFJHNDMD5Tq+ODtINeGNET94ZBpsElzZSia0laJxzwcZ+vYj2NAHvdFedad41dMRarHkf8APRB/Nf6j8q7m0vbS+j821lWVfY9PqOooAuUUUUAFFFFABRRRQB//0P38oor5o+K3ivxfpniN9O0HVWsI1ijYKERgSQSSSQT+R/CgD6Xor86tT+IvxTtSRea3cohOAyEKp9MFQMfQ4Nc7L8QPG9xnztfvmB7faZAP0IFArn6b1E00SfedR9Tivy9k8R65c5+06jcy5/vTO38ya8n+J+ofFaPSo7n4bvbzzx5M8c+WnYHGDEWYR5HJIbk8Y54Kbtqc9ev7Km6lm7dtz9j5NV0uH/W3kKf70ij+ZqjL4p8MQ/67V7OP/euIx/Nq/m/h+M/xji1K50/xJfz2ckKkGIQW0EiSnGwMJo8gHPJxwCDnAqwfjF4xKjzteu2YggqhtxtIJGSyhN2RggAAA45xkViqqaPzyXG+Ai7OMvw/zP6JJviD4HgB8zXbLjsJkY/oTWXL8Wfh5CTu1mNiP7qSN/JTX87l18R/Hl2m0a3fq+1jxLLGpXJGcxXJwQCCRgjOB0BJpy3vj2/02Q3GsagWlKurPPfsQZVLRxrgOhDgZUMTkAndgUOorHA+PcJf3IX+Z/Q9L8avh3GONQdvpDIP5qKyp/2gPhvb/fu5P++Mf+hEV/PTqehava3lvpmtw3U+p7wpiJdHD7xw0NxCGckEgAZ5HIIABuw+H73F06aVJKtmxtbmQ2USrbSMxUNIp8oxENgL5pAOWBGQQF7VHJLj6N3FUf8Ayb/gH72XX7UHwqtc+ZekY67ngQf+PSiuWu/2x/hDbZVdTtCV6hr62Uj6gOx/Svw8i8G+MpRPGujySxLtWQBSirFLgxuRFMFMRJO2Uja2cliTkLYeEtdEtnZXUtrp63sz24Mt6EjhKEFHf95IVUBxtcgqRyDkE0varU458fyulGkl9/8AwD9lb39uf4WWoPl3VpJ3Gy7Mpx06RRt34rnbj9vnwCmTDExGQuRa3rjJBIGRAByASOegJ7V+QGl6PHPL/ZongtZV3vG006PEdhBwAInCFlUIQdqsAAcDIPQ3fge1gYuNTsLkEqgW1gkMhiJI3BTBEhIJ2kOUYkDAK7TWMsZSh8UkiaPGWY4lOWFocy8k3+v6H6d3/wDwUM8FWMgjuUNsTnBksrocjGeCAehB6dCD3FX9M/br8L+IikOi6tYvO7BViaGWKQk+gmKlv+A5r8xbfwhfXpv4m1cTT2cjsii3uRFc7DvOySMK4BIzGGXaCfmKjmuK1bwJptkQ2lT2t8kuGAKTRzIXByrhyY8qT/C7A8HJGQPDxuZ0vYuNPERhLo9H+F9T6nAZpxHKqp/2bOrHqlCV/vV/yP2xHx28V3QiKXSxeecIEtwc8Z/iU8Y7jNSN8UfG0+caswwcEKkYwfQ4XIr8ovh/8UPiL4KeG3uB/b+nRAItvdvveJBwBDLksmBwASVA4xX214D8e6N42tmubAXFrdRKDPazncYyeMhuQRkcEH6gV8nkucZlLFLD4ipCrF9Y2T+av+R+xWjXoe2+p1sPJbqpCSXybVmexal8RPicZgmn3PnxEAlpLtoSDnBAVYmHA5BzyeDgcnIXxl8WLggXF5FACRki7nl4BBIA8uPk8gHPGQcHG05lzbC6C4nlhKnOY3254wQRyMfqDyCDXPXthpGnwx/2nfXrKWRVZrqZcuAQBuVlGSMgj+I44JxX6ueNc7X+2vH05dLnUowpUhXDTOd+QQShZRjGQRuz0Oewryt4kkH73Vot4bOfs7YIwRghpTk5IIII6Y5zxyCaZ4MvZY5ZJzLIxMarJdzMd+d2CrScMCcgEZGRjrWpH4M8Ixqy/wBkWrBxtO6JXyoO4A7geAcEDtgegoFYt381/bqZX1gp5agtHb26PIxAOdqnexJ7AAnPAyOK5l/FFoYnd9d1AI4GGEVtDwcgkCSMMOvOQCMAcEkHsxo+jfaWvFsLcXLnPm+Um8njktjOcgHr2HoKh+zSWyPJeXkMUZOCwhRACxPdsjJJGMg5yc5JGARzaeJtFSS2e51S+JQxAyG5twHCkYd443wVYEBiFwQQQASDU0/ibw9qV/Gy2t9NMAY1KXTpEeRkHypfLyeBk8ngc5APVCwmcLs1O4QcfdEOCOv/ADz7/wBBjvmm1xqEs0afZb8BDyfNgQEFgOdrZOBkj1Gc54oA519Zee4trXT/AA5czi/wI3uZr2IBASD5hEMnlFScYYgHJIJBBbobHxj4udYN3hhhGCiuBNJvVRuD4EkKbiuBtOcNnqAQTJINWEjRQ2c7hThZGvSoIA4JAJIyQBgqTz9a4zXItRJE+s3UbhVwVimb5EBJwwEbg7gcZIGTkAgHABnvdjfG7tYrhontzIM+XKArqc9CAcZ47E/WtBZK+Y7aPw5ZlJblgr5SSV2khIQLyNrsquVG0cYDFs44JI9ItPFWtwXVzby2ZvUgVyREEEhKkHgeaxI5wBt64JbBFA7nrDTSRxs0Sh3AJVc4yQOBntk9+1fOniz4+eJvB1/Jaa14ZstKhRiEk1HVxD5wAyGjWG3nJGOucEHtXutrfxXSB03LkZAdShwQD0IB79RxRqdja6xZPYXeRHLjJABIAIOPmBGDjByOQSKznGTtyuxhXhOdO1OXK+//AA58zr+1ylnZyX+reDr+SyCFhfaaJLyyAxwWkmitsLnqQDx0yap6f+0n4x1m1uPEGnppx0KGUxiW1sdRv50JG4CeMCARHbzksVJyASBmvYNK+DHw9sbiWe60iz1ESFiFuLK1IUsQeCsQJxjAz6nOTjHqGj6Zo+g2gsdEsYNOtgSRFbxLFHk9TtQAZPc4rJ06j+1oeBSoZm3y1qqt5LW/4aHyBe/tTfECx0w6xpulaNruneXkyLepp90hI5JtZpZXyDj5eueoFdN4E+MPiXx1oF/4pl8ZXmlW9m6q9uvhsOYjKGKgOklx55BUglcEcFlXcM/VwW2chmiUkdyATXMeKPBOleKSk00j288S7VaMgjGScFTweSemD7mvKzJ42lQlUwUPaT6Ju34mtLB4yMk6lfmWulra+Tvf5O58seNf2gfid4euIrTwhfQeNYbjO+NNGvtNvoQCMYZg8ZzyQSmcdjxnLu9K/a68U+HbHxZ4Y17VIrG4kLXGjXwtrDUYwjAMsc4iQNGwztZlRsDO0g8/YHhzwXZaLata3kv9oowACyopRcHOQpyc9s56cYrurVYLWIQWqLFGvRVAAH0AwBXHlUswxFJVcwpqnJ/ZTvb8LCeW15tqpXai+kbqz73u38np5HyVp/gP4veI9De78MeLfFPg3xDBGvmWmuyW+o2Uz4GRHKicqem7AI67RW34B8B+OdTv5dP+LvhS5E7AhdT07xDemzdvV7Q3qyKP90EE8bVGDX1UlxVlZQcHNfR+yV7s3hlijyP2juvufqmmvusfnp8X/hLrTajFYWdza+FriFzJa31jd65PckDBBcCOSMkcfx5HOCDnG74A+Kfx28F3kHh3xNptx8QdIQgDUILSeC7VDgcmSJFkIGcBhk95OePvVZanEu7vmpjR5XdOxxYrKKs63tsNW9m/T8N7P5p+pzeh6xb+IbAX8Ftc2gyVaK7ge3kBABI2uBkc9VJUnIBJBxtQyXFpIJbWRonHdTj8/WrZVT0NRtHXSfURTSSk9TrNN8ZSJiLVI9wH/LRBz9SOn5Y+ldzaX1pfRiW1lEin0PI+o6ivFWjH0p0Ms9tIJbZ2jdTwVOD+P+FBR7pRXnFh40MH7vVgCB/GuAQPcHg/hj6V29hqdhqkRn064SdAcEoc4OOh9D9aANCiiigD/9H9/K+UPi6MeNJD6wRfyNfV9fKXxf48ZN728X9aBM85WNJFKSKHU8EEZBHuK5rUfBdrchptOb7PIedpyUPsO4/DI9q6mEcVfjHFAM8Hv9M1DS5fKvYSmTgMOVP0I4P86riKcRiXY2xujYOD9D3r6K8iG6iaC5RZY3GCrAEH6g1xWqfD9HJutBmNtKDnyySFJ9mHIP1yPoK8PMZZhCPPgVFvqpX/AAav+R6GFjhm7Yhv5W/X/M8D8S+EPDXjC1Ntr1lHcEAhZQAJUz/dccjnnGcHuMdfCr/9nK2WcyaPqRaIniOdQCP+BKOfyr6h1yBNCP2a7SeO8xnYYiUI9VcHBHuPxrItNSu8FltAT2MgOPyOB+dfjuZeI+Sxp8mLp1I1OsbWa+dz6CHh48TW+tSpU5/3pJNP8NTwmz+E3jqytDp9hqirAXEmwSyAb1IKsCASCCMgjkHkYJrRk+FXjq6HlatrsmzDZU3VwR8xBOQQAQSAT2JHINe3Nc6jcf60ogPUABR+gFWYNsePMlAx6DP88V+MY3xOUcS3hKTdPtKck/wlb8D62n4eYWNJRqezT/u0qVvxhf8AE8bh+D1xcCD7VqMcssCCJZJEkchFOVAJkUALngAY9RmtSL4FWbzzXN5dx3L3IIlP2QtvLHcSS7Mc575zwCckZr2iF55iI7UyMfYAD+Zp11Z3bLi8uBCAOhnAP4gHNeFHxBzirNzWHjy+Sk/xbZ6UeEctpe63b7l+CSR5Avwf8K2wMF7cmGIqVOyCNDgnd8o2/Kc9CMYHAwOKgvvBHga1H+j3d3sVcHPljIAPOFjBzjnJySQOSQMdxqh0m0j3xXentKCMm6uSoA6E5BOSBggYwehI61yMvjXSLBgr674etmB+YC6R2AwDgE7TnORz2wfavAq5/neKcpJPXsl/kz34QynCJQdaSt/fa/U51NH8EkIYLS+uzgKrKk5GGGB/q04BBx1AOcZq7ZeF/DElyIlsb2IuhABF4qFAC+3Jwoz2BIGSO5GYtR+LmixSuo8WaYYgTtC7pSB2BKyYJHqAPpWVa/GLwTDE8up+MbfzRwqwWMz5OQQerDGMg5PuMGu+jHiGsv3Uaqf/AG9+kTyMVmuQxV8TXpv/ABSUv/SpHd2+h6CVjnt9AuJ3c7QZEO/oMEiRwQCMDJ6YwcYNdPH4NtI0D3HhpIC4JUMtvnIBwCA5Izgc47j0OPMNM+OfhC41M/2Z4mumBYMsUGnj5VBBILtESFPIzkEDGDkZPsXgddU8b6h52gXGravCuVllmjijtgSeC0nlp8wyOFJJAGQec/pHD/COIxjjLOMXKLltC8uf7nr87HkVcbRxFCdfK8PGpTjvNKPIvmtPlcdb6PZ28MAg8OWwY5DbxCChAyCSobOTxxnB9ua2on1a2IistNtYoSqk4nKEMSQw2rEQQBgg555Bx1rvk+CGrsuy51WU8kki7mB57fIEGB2Ax+J5rSHwYZlVJ9Sk2qCMCe4OQ2M5PmAk8cE5I7Yr+xKNGNKnGnT2Wh+M+ypqbqKKTfkcBptxrMjSDU7eCEDBQwytKTxyCGjTGD0IJyOwrWbypkMUyCRDwQwBB78g8V1EnwR0afBvLg3GABiTe+dowCd8nJA4ycnHerenfCLw/pErzWGIHkG1jHGFyM5weTxnp6dq2LODuYbkRu2nFUYgfIQApOckk7WIOCccEZx05rnJ9Q8TPI1skU0Ei4QFQjoxPIbeYyABg8AEjIyBkY95XwPYLjfcSn6bR/Q1OvhDSoxy0rEerD+gFAHjGk6h4g86S31WxOxAgWVGQlyAQzNyowTggBRwcYOK6WWKG4jMVwiyxt1VgCD9QeDXpA8N6QgH7on6sf6GntoWloOIB+JJ/maB6HjGtas+jpALaOd8ByIoLZ5g+0AgEopCdTjPXnHI5hg8VXFzHtk0K+IchceUoUggnJ8xkIGAQcqMHjuM+2f2VpwHEC/iM0fYbJekKf8AfIoEeHzW8VxaYj8OzRNG6lQrWyPkHO4ESYGCATkg9CMkcRQ6VI1wvmaJcOCwYySXi7iRgg4RiSc54yBxz1r3TyYVxtjUfQAU0gDOBigDwy50bxSjslhYRSIJCUZ76VCFUrsOPKkJPygnJHIIOckm1caF4tut5FvYwh8rgsZBtAyDgwA5JyCAcAEEEkc+yMcgVC4yPpQB5MvhHxEY7eZL21tbuLljHAShIOQRhkPXIIz3JBGRt7jRrfWrGNINRv0vUjjCBhCUcuCfmLGR8grgEHJJBJbnA2m61DQBbF0oxk4+lD6nBChklYhVGSTWXNLHBGZJThR1NclcSz6nJ8+Y7dTkL3Pua/M+LuMcJkNB8zvVe0f1fl+Z9nkWQ1cxnzS0prd/ovM7aHxNYy58sSEDvgAfzp7+K7SI/cc/kP61wU9ykC+XEM9qyHklkOc4r+RcZ4xZ821QlFfJH67T4Ny1u7i7ep6PN8QLaDpbM31bH8hWPL8U5EJ8qwB9CZCf5KK4kwA53jNRm3iAPyjivnZeK3E89HibekY/5HtU+E8mgtaN/m/8zrm+Kuq/8s7KIfUsf6ioG+KniH+CCBf+Asf61xkqoCeBwKoS4GcDiuOXiJxHU3xcvwX5I9Knw5lSty4ZHdN8VvFI+68KfSPP8yazZvir4vbIW7C/7sSf1Bri1tZrp8Rqcevatqy0WBWBnJJ7nGa4KvG2eNPnxs//AAJ/oepHJMppK8sPD7kaC/EHxrdHB1KUA/3Qq/yArSt9f8UTDfcancYP/TVgP0Ip1joq3l2llpkRlc9TU99Z/YpTbSDLpwfQH0p5ZX4iz7GQwWFrzbk93J20V3d37Hk5hiMrwNJ1XSikuyVxx1nVmXBvZiB1JkY5/M1RnvrubG+eQgerE/1qNutQN0r+4+EOBKWS2xGJqurX7vZei/U/nvOuIamO/dU48lPt1fr/AJCMzN94k/U5r6z/AGfv+Rb1H/r6/wDZFr5Kr61/Z/8A+RZ1D/r7/wDZFr9fPi0e90UUUFH/0v38r5T+MH/I5H/r3i/m1fVlfKfxg/5HNv8Ar2i/m1Amedw5ql4k1628K+GtU8S3kbSwaVazXUiR43skKFyFyQMkAgZIGepq9D0rifi7/wAkl8ZH/qD3/wD6Iapk7RZlVlywlJdC78Nfi14B+KFgt54Q1WO4lCBpLZ/3dzF6h425wDxuGVJ6EivWYq/K+8+FGn6P4iGreDZjo7aV4a07W3CFsvPOWjkMbAgxk4BGOOvrz+pGnMz2kLsclo1JJ7kgHNZUpuSd+h4OVY/EV5TpYiCTjbVbO9/mtia7tLW+hNveRLLGwIIYZHPp6H3HNfh/efG34oNcSquuugDMAFihXABOACEz+tfuSQB+Vfzx3X/HzN/vt/M14OZ5TgcTKNXE0IzkurSb/E+T4xzfH4JUIYSvOCfNflbV9uzO2vPin8R7/H2nxJfYHOEneMfkpArFl8ZeL5j+/wBcvn/3rmVv5tX1P4G8MaXrHwDnW20Kzj1hLXU9ReS9tlZ9Qs7SeHfd2l6MyQyWW0xtbHakqszZZjgeyTeDdI0vx3rq6VoNtHPaeMtbGmxC0QgvbaHNcWscaFcMqziNlQZUsV4ORnnhlGDgk40or5I/OIvMq9pTxEne3V9fmfnK+va3PnzNRuJAeuZWOfzNVpIr9oftsqSmIkDzGDFST0G48Z4PGe1fqV4T0A6d4wj8YeN9Ts4m8UaF4b0WWe4sHsJZm1uaQTLJHF54a7EFqys52Kdw3bOtcF441B9K+Bb/AA4vri8i1Ww8CWk0to06vpwMHiMwzEW5AIu1OAJQxzECu0cGvUjh4xWhy1cqm6cqtWpsm/u+fU/ObrRR1r0nwB8LPF3xE1SDTtCsJpzOwAEaFnYHuBjAUZGWYhQMkk4IrzMTiqWGh7SrKy/rbuceTZHmGcYpYPLqTnP8Eu7b0SXVtnncEE1zKsFujSyucKqgkk+wHNfRvwq/Zq8c/Em7QWdk7W4YCRwdkMXQnzJjkDA6qoLEHjmv0Q+C37FHhzwnDBqvj4LeXgwTZxHKZHI86UYLnPJVcKOmSK+4LHTdO0eyi07SbaOztYBiOKJAiKPQKBgVwww+OxtnL91T/wDJ3+kfz9D+mco4NyPJf3mPti8R21VKP5Ob+5ep8j/DH9kLwF4LtoJfEgGs3cRDCIApagjGAVyWkPqXOD3X1+qY7W2soEtbOFIIYwAscahEUDsAMAD2FaTDmqsgr6bBZbhsGmqEbN7vq/V7s+tzHNsXjeWNeXux+GK0jFdlFWSXoik3Wq7+9WX61WfPSvUPEZVYdqpSCrx4NUnoJKzdKhbkmpm6VE3WgCu1RuMj6VM3eom+6aAK7dKibrUx6VC1AEB6VE1SkcVE3WgCBuhFRt901K3eom+6aAKzVQu7qG0TfKcZ4AHUn0AqxdXCW0Rkc89h3JrjZY57+fz52wM8AdAPQV+H+IPiDQ4coeyo+9Xlsu3m/wDI++4e4fePl7au7Ul+PoE91Jdvvk5A6L2A/wAaQpLKuEGB0/Cta1s4cgMQAKmvprayhOCMgcV/ATxeJzWpUxuNq3vuz95punTSo0I2SOUngWE5kOTWW15FGTxk1Xvr955GI6Z4rJYmvCdKDleOx9PTouy5jZa/Q8YxUTXatnisjk9OtW7e3llYAAkmm6cEdCpxSuEjs4O0cmprXTGuGDyghf511Vro9vbQia8cKcZANNe5twR5AynTIBIz9a5ZV3qoI5Hir+7TRi6nf6N4Z059Q1adba3ToTyWPUAADJJ7AA1xzfECLykv7nSNQtNMcgC4MQCgE4DuNxYL3zg8V5d461LxDrHxBstFnitALKV3tklY+U65LKZjnqVUAj6jHJr06PxDq9l4f1/VPHf2K9sbK3EjRae3mP5eG8wMGYDkAYGRnB71/S/AXAWEx7jicU3J9NLwva/vf1qefxFVWU4KFaqlJyV5e9aSi3Zcqtv1uz1OwuZ9KuRd2bskgBGc569etV7m4lupXnlbLuck+pryLVvjDo2l3N1bvp91ILCDVrq4ceWAkOjOi3DAFssT5ilABk5wcYNY/wDwn+q+IfEdl4SWUeGpna7FxKpjuSXt4LS4jiheaMR7njutzZjJAicAEYcf2Zl3C2T5diHisFh4wm+36LZedj+TMTmmMxMOTEVHJHtLdagPSvnDVPjpe6be6hpVnb2movZRAx3QldEmeLUINPlDKVBUkzlgVyoKlQWA3V3fgzxtrviLxFqmiajb28SaVJcW8pVgkvnW7RKHWMuzmKUOzqxVdoCgFiSR9geQeo19b/s//wDIs3//AF9n/wBAWvkivrb9n/8A5Fm//wCvs/8AoC0DR71RRRQUf//T/fyvlX4wf8jl9baL+bV9VV8r/GHjxivvaxf+hNQJnnEdYPjzUrbR/AXiHVry0W/gstPuppLeT7kqpEzFG9mAwfY10Mf8NYPjm2u7vwNr9pY2wvLmewuY44CCRK7RsFQgEHkkDjH1FTP4WyZXs1HQ+R/hr8WLn4w2uo+Add8Kx6F4uvdKaKC5iQxQS28YEiIVky8akAbSCynnkcCvv2wjaC1ihc5ZEVTjpkAA18Yfs6/GW18VahYeA/Fvhp9I8X6PZfZRcGMfvIoEUNuL4kjZgoJXlSRkEcCvteOsaKum7ng5RNVKTqc/O9r2s1bo/Qmbp+FfzxXf/H3OPR2/ma/odbp+Ffzx3vF5P/10b+ZrPE7I/OOPlrh/+3v0Po/wtpfiqT4RadpEnxAk0jSPF2oy2ttoixXEqXEsUsCSO7qPLjXLqxUthioJBIGPW9b+C3jzVde0eO8+I+ta4dJi1trMrbXMt/BLoRjWRLOCS4BYSkqI3R1BK4OCMD570z4vXWk+DPBvhCynvYrPQtTuL7UbeOUpb3avNbyxAoGwzIYiRvGAcEd8esT/ALU8Go3c9zrum6jqRebxJHHKL8Q3MVjrvleVDHM0cxQ2+xioAK/NxjvyxcT4ilWwXs7VXf4e/lfr6/1vyXiz4ValD8Nrv4majceJNTc6hf20rXFiVSzks544wdRkadzDLK8xAX5iHDDJOTXzbBDc3twlvbq0sspwFHJPc/gOpPQdTX0Na+ILf4o+G9O+Ffh7wrfXd9Z3t/Pp1ydRMsiDUZInZZ41tlE7ARABgUySTgAHH6Y/s6fsU+H/AIe21t4k+Ikcepa3w4tiA8MRxkeZgkOwPRQSo/2iM15devKU/YYVc0/wXr/lufaZFwcs0ccdiJezw3828pPqop7u+72XrofH37Pf7FviXx6tt4m8Xg6ZozgSK8i5aVSf+WKH72R/GwCDOQG7frn4I+HXhD4caSNH8J2C2kZwZJD80srAY3SOeSfQcAdAAK7wqqKEQBVUAAAYAA6AD0FRPz+FduDyunRn7eo+ep3fTyS6L+mfvaxFLDYX+z8up+yofyreT7ze8n66LokZ7gjrVeTpVuTqfxqq3HNe6eayo3WqsvAq2/XNVpASOaAZReq0gzVl6rvQJlVuuKpyDk/WrjdaqSev1oEVH71C3Wp271A3rQBC3eoiM1M3WoqAK9QtU1RHpQBA3eoW9anbqRULdKAIG71BI6xoXfoP1qK/v7ewiaWZunYf1PauEn1y61SQw2wKIeCfb2/xr8V418RMBkNOVCD56/8AL29f8j7vI+GsRj2qs9Kffv6Fy6uGvboojZUcHHT6CriW77flBNXNH0gkKSOO5PeumuYYbWAnABHTFf594injs9xE8finuftUqtKgo0KK0R51fSNbg9jXH3d3NOxXJI6d62NZvN87qOADWNbIpkDsMjvXzcKSpto+ww1PlhzNDF064kUOEJB6VVeB4zhgQRXq9jJYw2pknwABXn2pXUd7dt5C4TPGK+sx+Xww1KFSNS7fQrD4udSbjy2SM2GHJ5rftpYLMZAy/bFWrDSQYTc3OUiXr6knsK0EYwgGztFHcF8E/XBxXh4XAYrMKnssLSlUfaKbf4HFjMwo01+8kkvN2/MpfZvNT7fq5YRk4jiGQzk9OPStj+27m20/7L9kgS0j5EYTLj3LDqfXqKpbbmaX7TeOGdRhQOijvj3qRgCDX9d8HeFMquWVK2ZOVOpNNRW3L5y769D8dzjixRxEaeHSlGO/b0X+Z85/FLwHa3GoQ+MvDOnyXiTymbULUOzF2ZizFQPmAPIIXJAIIHU1e0M+ALvRr/SfDWh3Fy2sRC3u7R0lCbSGUrNIxKqoDNkqSTngE4Fe74C4VQAB0A4FR5zX7Rw5wVPKKcH7dSn1bir9fhfTR26hmvH08ywiwWJpycY7e+0mt0pr7VntazOIsPAXhHTJRdWmmRifE6mSRnlYi7KmcFpCxIlKqXzncQCcnmpl8IeFI7BNJXRrM2UTiZYDBGYxKBgOFKkBgOAcZA4ziuoPSomHev18/FzH/sfSUledbGBZZCSzCJQzE4JJIGSTgcn0HoKssi7mZQAWxkgYJx6mrDVCetAEVfW/7P8A/wAixf8A/X2f/QFr5Ir63+AH/Ir3/wD19n/0BaCke80UUUFH/9T9/K+WvjH/AMjfH/16xf8AoT19S18t/GP/AJG+P/r0i/8AQ3oA83j7Vg+Odfm8KeB/EHie1QPNpOn3N3GrZwXhiZ1Bx2JAB9q3o+1UPE+m6frHhfV9K1aQRWV7aTwzyN0SJ4yrMc8YAJJz6UpXs7ESTcbI+Vf2d7/4kWXjWPSvjHbx3mqarpjX+l6jIsbTiJjGZoBIgBIwVJU/dK4BIIA+6Y+lfDGheP8ASviFqHga5+G2pLcjwdb3Nrd3d2q27eZLDHbITG5yRKN0i4BAK4OCCB9zQ/cHOeByO/vXl4fF05V54aO8Un99/wAdDxcq/hNKXNG+jbvfRdetnclPQ96/nmvhi9uPUSP/ADNf0Mt/F9K/nnv/APj/ALn/AK6v/OujFbI/NePv+Yf/ALe/Qp16f8J/hL4w+MPiiDw14RsnndyDLLgiOJB1Z36KAOpPqBySAdL4KfBXxd8cfGEHhbwvCRGMPdXTAiK3iBALOcEZ7AdSeADX9Cnwc+DHg74JeEoPDPha3HmYBurpgPNuJQOWY9Quc7VzgZ7kknxnCpWbp0tF1fb08/yOThPheGJtj8wX7rpH+f8Ayj3fXZdWuH+A/wCzf4L+BehxJp0KXmuyqRcXzKN5LABkjzyq8DPc45OAAPfm6Vck5FUz0r3aGHp0IezprQ/eq1aVVpy0tolskuyWyXkim/eoWHU1YfqarnoK6TmZRfkn8arN0q1J1qs3SgGU361Xk71Zeq796BMoSd6rv0qy/P51WfpQNlV8dqpuOT9auP1qrL1oIKbfzqFulTt1qA9KAIT1qKpm61DQBARjPtUJ6VMepqI96AIW61A3Q1O1VpX8pGk/ugn8ua83McUsLhKuJb0imzsw1F1q0aa1uzz/AMTTm7ujYrxFAcMR/G/cn2HQfSo9ItFyqLx0zVW4BEzbuSTkk9c966XRYAuHbg1/knjZ1sdmM3iHq27n9WStQwypw2R2dqFtoRu4wB1rD1PVLeTKEjJqrrOomCAqp5Aryi5v55ZiST1r7Ovm8MPFUKSucGBy51n7SWhv39ikrGROc1gOvkEk8AcVp2982z5z061h3Ekl9ctg7UWvkMU6NT95T0Z9hQjNe7J6D3nnuCIkJI7DPFdf4e8Om7nAyM9yegrMtNP8i3F06lVPAJ4HFYDeLjFK8GmuWBJBbOAe3HOTXmwXPPlafKZ1eerF08Poeua8LSKSHSrMh1gG6Rh0Lelc/cSiGF5iMhATj1wOlc5o2rk7o7s/fOQ3cE+vqPft/LpnVZEKnDKwIPcEEV/ffhfSwEskrPLKi+sTvzf3Xa0V6Le/mz+d+J6dehj6cMZG9OO3n3+ZS+2wC2gikBFyxO8j7p3cgD0x0qQ9KqahZKkKXMHJU8g+oqyrB4ww6EA/nVeF2a5i54zJ83m3WpNPXV2ej17XX4i4qwmG5aONwcfcn2GN61DUzUwqevQZAzg9T0HGSa/oTF4ujhaMsRiZqMI7t6I/OqVKdWap01eTKjDGR6VC3WrDggn0PIqBulXh8RSxFONajLmjLVNbMmpTlTk4TVmiBu9Qt61O3eoGroMiGvrn4Af8itff9fZ/9AWvkc9a+t/2f/8AkV77/r8P/otaCke8UUUUFH//1f38r5b+MY/4rCP3tYv/AEN6+pK+XfjH/wAjfD72kX/oclAHmsfauS+KNrdXvwy8V2diCbifSb1IwOpYwMABjvXXx5yAaz/Eut2/hrwxqviK7j82DS7Se6kQc7lhjLkfiBipkrxZnNLlfNoj4T8C+E/CNl40sdK8FmKG71u0EZtkkyTbjSbK/hnKEkjzJ1cbyMMWYZJHH3X8MtUu9R8NrBfqyXNhI0DBwQ2FAIyDyCAcfhXx1+zP4kl8W/FHVda8f+Hl0rxbcWKPazxK0UDWgSHCLCxIDrE8RDA5KHBAOS36CxqBnAx3r5aGUxlmUczhKz5XFrur3X3M+ayNRdKcobOT0ta22679R0n3T9K/Cz4efDDxV8X/AIhxeCPCFv515eTOXkYHy4Ilb55ZCOiqPxJwBkkA/um/Kn3Faf7Mf7PGifAnwk4cR3niTWWM2oXqrgnJJSCMnJEcYOOo3NliBkAfQ16bnZJnJnOTf2jisP7Rfu43v+Fl8zvvgh8FPCXwM8FweEvDEQklID3d46gS3U2OXfHQDoqg4UcDnJPrx75p8Z6/lXzj8ZPHvinwR8TvhBZ6ddiHw/4n1q70nU4iiN5ry2UsloAxBZSskZPykZAwcit4QjTjyxR9olZJJH0BKVjRncgKoJJPAAHUk+lZlteWmoWyXthOlzbzAPHJEwdHB6FWXII9wcV88/tMa54qt0+HngvwfqT6Zd+MPE9rp9zJGFZjp6QTXF2mGB4MUZJIwQB1HWvL/A2pyfAP4hfD34Fat4rtf+ET0zwPezSXFz5NpFcXlre2sUcm92JU+XJIAocgjJOSMiwPtOTvVc9a5LQ/iX8OfFuoz6R4V8U6XrN9bRGeWCyvYLiRIgQpdkjZiFBIBJGASBnmvM7P9qP9nrUb2/07T/H+lXNxpo3TrHOGwN6x5UgEOAzAEoTjOTxzQJo9tk5Jqq3SvG/Gv7R3we8D6vc+HNa1tpdbtJRBJp9pbXF3eb2jWbiGCN2IEbBiwG0AjJBOK5C9/au+Esljp9x4OfUfG9zqcDXaWWgWEt7dxWyOY2lniwphVZFK4kKsSCADQDPWfFnjXSvCWoeGtM1KKaSXxTqQ0q1MQVlSc2091ukJYELsgYZAJ3EDGCSOofBBPtXiv/C0/hV410n4d+LraL+27PxNq5g0WcwAta6gltdlmcSFWiZI4p4mIBYMSuMEkeVt+1Zc+IRqD/C34ca74xh0K4ubXVJIDBAttLbSNGYkLufPlKqJAkeSFdM4YkABo+sXrxv4l/Gbwv8ADO90vQ76y1HXNc1kSvaaZpFo17eSxQ48yTYCqrGpIBZmAJPGcHHd+DPGGh/EDwjpPjXw3KZtM1m3S5gYgBgrjlGAzhlOVYZOGBHavH9It4br9qDxXe3CB59N8J6JBAxAyiXV9qLzAHtvMKE+u0Z6CgXTU674bfFHw18VNJvdS8Px3dlPply9ne2OoQm2vbS4QBjHNC2SpKsCCDgg8HIIGP8AGv4h3Xwz8Cza9pVouo6xeXFtp2m20hKRy3t7IIYRIw5CKSWbHJVSByRSeFfh5q3h34v+PfiBJNAdN8WwaUsUMZcyrLYRSRyNICoUZ3DaQxJAOccCsf8AaM8G6x4z+F96nhlBJruhXFtrOmxkEiW606VZ1iIHJMqqyD0LA9sUBoeY6vqvxv8AhDqXhvxF468V2fi7QNb1K00vU7aPTksTp8l/IIYZrWRGZpI1lZVYS5YqQRznH1U3ftXmemXHgj49fDvQPErQNdaNqn2PVII2co8c9vIsyKxQj5opUwwBIJUjkdfTW70CZ8+eLLn9pRNc1A+FIvCdtoETbrefUJb43HlBQWaVYkCAg54DEYA5zmuI+Fmp/FD4uWvwu+Lmp3FvY2CRay+p2ts80MVwk5aGydYXLbsBQ53sCpJI5OK9J/aI8Tz+Ffg94jubAF9R1OFdKslBwTd6m62kRHrsaTeR3CmvO9Ytbn4ffEr4L/Dfw7ez2+iWumavaPAsjKk62VjGIWlUYDMpG4Eg4YkjBNAj6hcgNhiATnj1qleXdpYQtdX08dtCvV5GCKM9MkkAV+fXgb4OQ/ED9nuD4p+NtX1K98aDS7m507UBfTo1gLQSC1EYVwpJEavIzAszMxJ6Y7DwvY2/7Qni3wqvxLjGraRpXg3TNXfT5Mi2n1LVJJI2nkjUhWKLbsFBGAXJGOchVj7SinhuokntpFlicZVlIZSD3BGQR9KzNUl2QMueuB/U/wAhXjnwg8Cax8NvE/jbwxY2jWnghrm0u9DQyB0iaeHN5FGCzOsaygEKcAEkrnJr1XXZMKFHXn+Qr8a8Tsc8JkTkno5Jfm/0PteFqSqZgrrZNnIhTPc5HIzj8K7CBDDCMDHFYOl2+6XJ5wa7Ewgriv8AOvA0qmJnKt1Z+6YyqrqHY4fWmZlbJ9a4t4RvzXourW+I2z6E1wc7Bc1hjaE6NX3up72An7mhmzN/yzXkmuo07Tls4ke8TJkUNg8ZBPH51kaTZi7vojKfkLAH6Z5q9468TldZnt9PQBECKuegCjAGB3PWsPYe0oycXZ3X6/kddaUp1I0KfqxPH/iRLqyt9NsoxCgXbtHZR1J9yePpmvKIo9pBHarEsk91KZp2LsepPp6DpgVIq4xXr803eVR3bO6hQjh6apxNqxuNoG7tXVWt6yjCSYB5x1H61xcRGB9KvJLggZrnpYivhqqrYWo4SXWLs/vRliKNLEQcKquvM7oXBljKuwIOPQYqOGQQEo3KHkHrg/4GuSW5ZRw2PxqVb+ZT94Ee9exl3Eea4HMlm1Ks5Vurld8y7PujwMTk2GrYZ4WUfcfbS3odluDKGUgg9609Fvbay1RLi5G5bdWYAjOXbgZ+gGfxrgk1AfxgA+orUtJ9mZY8E9cnk89T9f61+tcReKeKzzCUsBOiqXvpyldtaeVtr67s+LwHCNPAVZ11Pm0aS2/H8DVvnNzdzTKm3znLBQOgOOMfWqk9vcW20XETRFxkBgRkeoz1FPku5LNGuoV3MgyMcnGeSP8APTNaF14ol8SaWr3cQSSJkWNgMDaAQwx9SM+9f0hlWeU8mzHC8K04Oa5b8/e922rdD81xeX1MbhaucSdtbW7WsrepgHrULdKmPWoGr92Pz8iPWvrj9n//AJFa+/6+z/6AtfJDda+t/gB/yK19/wBfZ/8AQFoKR7vRRRQUf//W/fyvl/4ygf8ACWwe9nF/6Mkr6gr5h+M3/I2W4/6co/8A0ZJQB5pH94VkeLtDPibwjrXhxSFOqWVzagk4AM0bICT6ZPNa8f3hV+PqKGrpoVk9GfHPgw+JLD42aRoGtaULNdEt4r69vy5EGZ9HtrFoVYqFKi4RcHdyeigjNfcy9K5DxLoMXifw/daJK5iFyEwwBOCjrIOhBxlRnnpXVWkTQ28ULuZWRQpZurEAAk+56mohHlOHC4VYfmXNe7v+St+BM3ANfU1r/qIvdR/KvllvumvqS2/1Mf8Aur/KrO8ux+1fK/7X4tdL+Gmj/EK64HgHxNoWuk+kUV5Hbz89v9Hnlr6oTtXhH7UPhmTxf+zx8R/D9vF589zoV+0UYGS8sMLSxqPcsoA96BnlvxqmGtftDfD7w+hyPD3h7xPrco9Hmgj0+A4+kswBr5M+APgnwf4/8Q/AjRvHGi2mv2EXwyv7hYL6BLiITJqFoqyBJARuCswBxkAkd691+Fuqf8LJ+J3iP4iM5l/sz4a6Babicgy6sk99IB7gIhPswrzL9lP/AJHH4F47/C3Uh+WpWVT2DY9q/aZ+H/gf4dfs8eObz4eeHtO8MXuoWttpslxp1pDay/Z7+9gt5V3RqpIKuTgnGQDjiuf/AGwfhj4E0P8AZruItC0W108eFLvRjpxhiVGgDahbW7gMBkh4pGVsn5s5PPNa37afj/SLb4c678MHhnOq32n2WrpIFXyBBa63p9u6lt24OWmUgBSMA5IOAeo/bVz/AMM4eKv+vnRv01e0pi13OT+C+jaef2nvj1r7QKb1J9CtklIG9YnsFdlB6gMQpIGAcDPQYu/s5+E9B0Lxx8btU0qzS3ubvxjJFIyKATGLG1uQvHQCW5lbA4yxNT/BY/8AGQvx9B/5/tA/9Norc+BXHiv4yj/qdJf/AE1adSSEz5V8GDytb0u1TiG2+N2spGo6IraTeOQB2BZicDuSe9fRH7KNrBbfCu9eFAjT+IvEUkhAwWf+07hcn1O1QPoAO1fO/hEj/hI7Ig9Pjjq4/PR7qvpD9lfP/CqbnvjxB4j/APTtdVRb+FmL+x7x+z5oSDomoa+gHoF1m9AA9gAAPatrQf8Ak5fxvnv4Y8Of+lmrVjfsfD/iwGjf9hLxAP8Ays3tbGiusX7TfjGGQgPP4T0B4weCyx3upq5HqAWAPoSPWgh9T3FutfO3x2v9a1a68IfCbQL+TSpfHd7PBeXcJ2zRaZZW7XF2IW6rJIoWJWAyu8kYIBHX+GviJqHiD4ueOPh69rCtj4TttLkSdCxleS/jkkdHySo2hBgAZwTnNef/ABp1C08M/FP4QeMdYkFvpNvqOpaZNO3CRTanZNHblj0CtJGFJPALAnAzQJHL/C3T7T4JfFLVfghATB4Y8QRNrfhmMszJAUCpf2Ss5Jyr4mQZOVdiTnOfY/AfjWfxlc+LIJrVLUeHNcudIjKsW81IIYJPMOcYJMpBAyBgc9a4D9p2wFt8OT8RdPuYLDXPAM6a1p1xO4jVmh4mtixIyt1EWiKZwzFR1AIq/suyzav8Lf8AhOrooJ/G+qalrskcbiQRfbbhikRYcbo41VGHUEEHkGgH3I/iuLbxX8WPhl8N5V82GC7ufEt4oPRNKj22oYejXUqHnqEI71k/FH/k4f4Rn/p38R/+ka1W8NeLfBdz8d/iF408Q61Y6cNAhsvDVk11cxQEiJTd3pAkYHBllSMkd4j61k+L/FXhjxb8fPhRfeFNXtNZtoI/EcMktlPHcIkosY2KFoywDBWBIJzgg9xSYmX/AIO4/wCGSdK9f+Eeuwf++Ja4v9mXjXtO9/h94W/9HX1dr8HQf+GStJUAknw/d4HfO2WvGPh14xtPg83gbxr40hntvC/iPwRpWnNfxwSTJbX1g8kqRyiNWKiWO4YqSOSuB0OF2H3PvuVljjZ3IVVGST0AFcRJfRapPJs6ZwPoOB+eK81+E2ra/wCONX8Z/ES9N6nhbWbi0i0S0uxJGTa2kO2W5SB+Y1uJCSMgFgoJGCM9rZBIr2QwH93uOO2BngfhX8b+N2dYmn7DActqT971eq/BfmfsPBuDpeyqYn7a0Oq0608klj3q9cXaQ/K1JAwKA+1YWrSkFuucV/PNBLDYVVaaPu4xdWp7xW1jUYmgO3GTwK88mcsMnvWxNvdTk5Gc1mtbOw3cY96+RxuPWKqKbWh9nhKcaUbXOo8E2q3moIsnCRKzsT6KCf51wmrw/a9SuZyM7nOD7DgfoK6exu20yGWRH2F1Kkjrg9h9a1PsVmfD1xcTsDceahjx/dPX9K56VTmjyU1rq/w/4Bi5unXdV9bI8qNrtyMHil8oAZPAHcmvL/iX8bPDng6R9M0pV1PU1yGVWxFER2dhnJ9h07kV8ha58RvG3i+V/wC0L6QROSRBCSkQHYBRjOPUkn3r9ByrhnG42Cqz9yHn/kfhvF3jNkmSzlhqC9vVW6j8KfnL/JM/QRb+w3lFuoyw4IDjI+ozSLrGkPN9nF7AZQQCokXdk9BjOf0r88tF8X6v4cclmaSKVT8hYgEnIBB68c9Pfnk5xo7O/wDE98/2eLLuS2IwcAk5JA7nr9a+3/1Fw/Kv3zv6H4d/xMHinytYJW7cz/Ox+nBbHuKb5nOK/PrQvH/j/wCHGopp9zcyT20ZA+y3JLpsJx8uTleAcEEDPY19u+F/E1h4q02O/s/kcgF4yeVPT8Rnv+dfF5twpjMBB1vjh3XT1R/QnB3idlfEUvq6vSrfyy6+j6/gdcjA+1allOYpACeG4rETKkZq7G2Sa/PZxVmj9r1+R2wVvLBAPy8/h/8AWqs3etjw5JFqMBs3wJ4uVz/EP8RT73SnVz5QwQeVPHPtX9oeG3HlGGDp5dm07cukJvt/K+1ujPwTibIKjryxGFW+6/VHPN1qFu9WpYpIjiRSp9CKaoKYcD52+5x09/rnp71/RGe8RYLKMulmVeV4ra32n0S9T87y/La+MxKwtNa/l6jfscm0u5CEDoSc/iADj8a+rfgGpXwrfKeovG9/+WaV8/aHqiafp9zEbZZmkUqGOCckdyTxivob4Esr+Gr8r0+2EcdOIkGfxxX5lwJxbm+dYytDHUlGCV7WacXfRNve6u+mx9RnmUYTBUYOhO7v3Tuu/ke4UUUV+8nwZ//X/fyvmH4y/wDI223/AF5xn/yJJX09XzH8ZR/xVdscf8uaf+jJKAPKp7u1sLWW/vpVgt7dGkkkkIVERBlmYnAAABJJ4ArVgkjmjSaJg8cihlZSCCCMggjggjkEda4jxtPJaeCteu4WKPDp906spwQViYgg7JMEEf3G/wB09D514HP/AAj3iDxTLYY+xW9jpK29qZFRFl+ypHGoVcqAwCL5hPP3fuoCRkrY+kUOQPYVeToK/N6H9ozWbTxV9p8gHTRKP3peU3LJu5kIMgjIYc+VtCAHClSAw/Qfw1rdr4k0Sz1qydXjuow2VJIBI5wSASO4JwSCDgZr5/Lc5wmPc44eWsT6/OeG8xyhU5Y6FlPbW/yfmbL/AHa+prU/uYx/sj+Qr5Zf7tfUtuf3EWP7g/lX0B8kXFBzj3FJNFHMjQyoHRwVZWAIIIwQQeCCOCKF60+Q0AfnJ+xJoF/p/wAJ/iPJfxMLiDUZNEj3AljDoOnQafGB3IJjYj3J715v8NF8SfCTwj8APjPfeH9R1DRNP8LXfh/WorO2knvLFLuSK4hna2UeYyCSHD7VJUEcEkCv1ZKrHkRqACScAY5PU8VUkyGpWA/NLx34Z8YftXaj478V+EdGvNE0W18KjRdAn1aBrKXUdRN/DqTyLFNh1hDWsMYaRVBJJBIyA34weOPjR+0H8MJfhtoHwq1zQdUklsLjV5dRSGC2As7qKdobOQyHzy0kakHCgRhiSTgH9JpOc1Tcc5pjufOHwx8D+KPD3xm+L/ivWLI2+leJ7rSJNOmLo3nra2QhmIVWLLtfj5gCeoBHNbnwx8Ga34U1/wCI2o6ukaw+JfEb6nZlHDk2xsLO3BYD7reZA4wecAHvXtr/AHfzqi3Wgm58e6B8A/FemapFf3V5Z7IfiNfeMAFaQk2VzYzWqR8oMShpASPugA4YnivW/g94Bv8A4beDpvDmo3Md1LJqeqXweIEKEv7yW5RfmAOVWQA8YyDjivXZO9cfe+MNAsPFumeB7mcrq+r21zd20QRiHhtDGszFh8oKmVAASCc8A4OANzhvg18OJ/hP8PLLwNc366lJZ3Oo3BnSMxAi+vZ7sKELMRsEoUnPJBOBnA5r4lfB278Y+KNN8f8Ag7xRdeDfFmmW0lit9bwRXcU1lK4kaCe3mG1wHAZTkFW5weMeyeI9ZsvDeh6l4i1EMbTS7aW6lEYBcxwIXfaCQCcA4BIye9ZPhTxLp3jPwxpHi7SBILHWrSC8gEoCyCKdBIgYAkA4IyASAe5oEupxPw0+GGn/AA10/UQNRudc1nXbo3up6nelDc3dwUCAkIAqRoqhY41AVBkDkknovF3hHw5458PXvhXxZYRanpV+myaCUZUgHIIIwVZSAVYEFSAQQQCOrevF/iV8bvBnwsvEsPE0GpyyPbm6LWWnXN3GkQLAs8kMbIuNpJDNkAZOAc0CRw2g/sufCvQNUstUmXUtbGmuJLS21XUbi+tLZ1+60cErGPK9VLA4IBHIBHr3hfwh4c8EadJo/hayXT7Ga4nujErOUEtw5kkKBiQoLEkKuFGeABXHfDn40aB8VJ8eHdG1q1s5LUXkV7f6bNaWk8TlQvkzSYEhYMGUDIKgkHA59L1Kd7WwubmMAvDG7qDyMqpIz7ZFAO55xefBj4RX+q3euah4K0a71G9laae4nsLeWWWRzlndnUkkk5JJ5NdJpfhDwloPlDQtDsdNELOyC2tYoQjOoViNijBZQASOSAAcgDGD8IfFep+O/hZ4U8Z60scd9remWt5OsIKxiSaMOwQEkgZJwCSQO5rAk8U66Pj9F4K+040ZvC0uomDYnN0L6OESbsbuIyRjOOc4zzQHkeqJbW9tAlvbRLFCgwqIAqgegAAAFMZE2iMqNnTGBjjpx0q1J90fWvLvBfj248V+KvG/huWzW2TwlqEFlHIrljOJbWK4LMCAFIMhUAE5AznnFAj0Rq4XXbQWN0l/CMRynDgdA3r+P8/rXcvgZOcDGcms+9tor+zeAnKuOGGCAR0I+hr81464Yp5/lFXCW/eLWD7Nf57M+myPMngMXGo37r0l6f8AA3MTT71GBUnGeRVDWACS3UVzjPPZuYn+V4iVPsRV2TURcWYBPzA4Of0r/N/DYxxwdTA11aUf6sf0gsPaaqQ2KJTcMCoptNurm1kaAldoPzAE4468VOrDcOeKz9d8V6h4bRZ4VEen58uSVyFQuQCV3HgHDDr6jvXgZfSjUknKN7dEd0qkoK6a+Zk6X4a1O6t5rg5YwqWIIJyB15zkfU/pXzL8cfitqOjxDwV4WlZb24Q/aJYzlo0IP7tAOQxByWHKjpycj6dvPiUdItbiLT4JJ7m5iZNsS+YeQT/DkDOMZJA96/Ifx18X5tT8S6nLp1qdMeaR0kZgRMFJ+ZcN93JByCM/Q5r9m4P4bnjMQ8Ti6duXaL+dmfzX4ocZ4iGW/Ussqa1HZyj0it0ntd+pdu7G6tgsl/8AumkOAZGAJP4n+daGj6vpOmJK1y++aTEakchFOd5yATkjAGB3JryWPUzeubiaZpZGHViWJzz1NbCSKwAXAz3/AM96/fpYblep/nzPCcjWux9FaX4k+EkqY8RLczE8nyoSCAowFBOMA45PPXv37zwp4s+BuhxiY30ySsSzKLSQgsegLYJCgHsDn0r5NtYGnIUE5Y4H49zViWB7OcwSDkHBwc8Y9uD7Gpi4xlojop4uNJq0E2j6e8W6j8LvEsFxeaTrFv555IlV4nJ6gAOozjGODjPHApPhfrt7o2pLJkzWzcqw5TaeADjIwR19896+b7W2tjIGuzsiIBDAdeQCMn616d4H1e+0PxDZpoxkuopnxtAJDoSAQVxyeD2GOa0WJhze8rI9fA5i1ioV4rlfkfoPG9vdW8V9aHfBOMr6gjqD7j9Rg1YiHJrQ8Lwafd6RJZ3kK6feSLuiHRGcYIDAHCkjIBOOTz2IpDiv5Y4ry3C4PGt4GalTltZ3s+q+R/qzwnmOKxuXQljoONRb3Vr9n8y7a3EtrKlxAxR0III9q9Is/EljqcYS/AinAxuHQ15h1HFRFiv4V8dhsTUo3UHp2PrK+GhWtzHqV0VIPkTqQe3BH61j/ZS773fJPf8ATj6dq4VbuUYGSK6rQrlp5BA5yTnB9xXQ8XUlONujutevocksIoQZRnjeJzG4wVOCK+tPgB/yKl9/1+N/6LSvmLWYeUnxz91vqOn9a+nvgB/yKl7/ANfjf+i0r/UThfO45zldHHx0clr6rR/ifypmWCeDxU6D2X5HutFFFfXnln//0P38r5m+M3Hii197NP8A0ZJX0zXzR8Zv+Rns/wDr0T/0ZJQB4B4748B+IjtZwNOuzhGVHP7luFZgVU+hIwDyeK8Wu75Lzw/8QNZsPOVLnRbC4hkkTAmBsS0cwcACRtwCls5BUAAAAn6G1XSLHX9LudH1JDJbXaFHAOCOcgqRyGUgFSOQQCORXC/8IPdRXPitPs0B03VLS1WJYyRNM9tCIyrjCqoIQKAAcA5yM7RhiIOdKUVu0dWGqqlWhUkrpNM+IvFOn69r3wy8H+J9SgE9w9xPpVtJGgDvawJEttG20DLK6yhSckjqTxX2D+zXPrOmaNqngfxPCbTUtGmAETEF9josgJIJBwsiAHspUdsCn+zi+ha74Al8E6xDFdXfhfUZC0MiglGEpkjlAIyCH3AHqCCDwecr4FWT6Z8V/iBpxmadLe4dEZ2LEqZCTknqQAgz9BX5NkuD9hisNi4yv7VWfyjrf5o/oTirM/rWAxmXzgl7CfNHzUppK3b3ZfO59atzxX1Na4+zxf7o/lXyw5xX1Na/8e8X+6v9K/YD+cLlta82+MvxJtfhB8Ndd+Il5ZvqI0iFDFaxHD3E8siwwxA4OC8jqucHGcgE16QD0NfN37W/PwcUHofEHhcMOxH9uWWQfagZ59dfFX9on4Ya74Q1P42WPh648M+MdTttIkj0cXKXekXd7kW/mSTO0c8YYbJGUKQeVBHB739nbWdX1vRvHMusXs989p408R2sRnkaUxwQXrrHEhbJVEUAKowABgACvU/iV8NdA+KGkado/iJ50g03UrLVIjA4RjPYyeZGGJDZXcPmAAJHAIr4N+EHwGg+Luo/FTU/G+u6va6XZ+N/EdrpVnpmoT2EcT/a2klu3EDKZJTI+1Q+VVUHByaBrU/Rxxn8aotJFtEu8bScA5GM5xjPTrX5leFNU8WfGfwz8G/g1491m6urC61PxLBrs0czwz6nbeGHMMEM0kZVisjSRmU5BfaSTuOa5D9qf4UaR8I9YGlfCa3bRtI8SaBqWs3GmQSP9mW88I3FlqSzxxsSFkeIvEduMgnjJJIFj9UtU1PTNItjeatdxWVvuSPzZ5FiTfIQqLuYgZZiABnJJAHJrK1vXNH8PWi3+vXsVhbPNDbiSdwiGW4kWGGMEkAtJIyqo6liAOTXxD+3pq83iX4SeHfDfhiUyza5Jd63EYyQZLXRdMuNQBXHJJkEJHvXbfG/Xn8Y6f8ABSysSJE8T+INP1d1HSS206ym1Jh9Mxqc9iBSuSj0XxB+0l8C/DPiqTwTrvjOxtNZhlWCWAsxEUrkAJLIqmONiSBhmBB6ivCPHnxg+Hlj8afhh8TDqouPD+oeHtfS0mgilmkupJbmwjjjghRTLJI7AhVVSTgnGATXUfs6+E9B1n9kvSBq9lFev4u0mfUNVklQO93dX++WaSUkZZiWwCckAADAAx8/fs/aNp2o6n+zTJeRCVtM8LeI7mDdyFlE1vEGwe4WRsehweoodwT3R9J698ZfBfxJ+HvxE8P6QL3Tdc0rQr6W603VLOawvY4pLeTZJ5MygtG3ZlJAJAOCQK4fwT8YrTwF8HfhR4T0nRL7xX4q1nw5YT2ul6eEEn2eG2jEk80krLHFErELuY5LEAA4JB+0NawWnxTtNQt0CXGo+APGMFw4GDJHbCzkiUnuFaVyM9Nx9a4X4CeIfC3h7xR4e1HxTqlnphi+GPhSK2ku544BtlmvWmVTIRnJjjLAegz2pdRpbn018L/i3YfEo6xpdxpN34b8ReHZUh1HSr8J58HnLuikDRlkkjkUEqynnByBxnS+LRJ+F3jH/sD3/wD6IevFvAHiPw54l/ao8c6h4V1O11Wzfwzo4kls5knjMyXN0CC0ZI3BdoIJyAR2xXtHxZ/5Jf4w/wCwRf8A/pPJVEW1PnTw58Rtb8J/BX4KeDvBNhBqfizxfoemQWMd27x2sENtp8Ulxc3DINxjiUr8q/MxYAHgmrMPxH+MGlfEfTvhR8R9M0t49Y0vU76PVNMEywzrbRqPKSOZmaOSNmy+SwZXQgqcg8L8PefFH7M2Rkf8INcEexNhZjP5V638UMf8Ls+HX/YJ8U/+ibOl0KPnr4Or+0bdfs+eGfGfhjXdN0aw0fRojYaNNY/aGvYLKLbvuLkuGRrgoWQRrhVZcknJrorn4w6f/wAJlF8b7ezY25+Fs+rrasw3bzeRSCAsBjO/92WAxnnGK9i+BvP7Lvg738MW3/pMK+ETn/hUdsOp/wCFPzfpqUVLsG9z6R8T6V8Y/APwvHxtvfH9/qmuaVBFquo6S6QJpU1tw89rFEIw8ZWMkLKXJJAJAzxH4P8Ah1ZfEL4q/FnU38Sa7pMEer2QWLStRksYpQ+nW7hpFj5LYIGc8DitTxjJ+0D8SPhTqHgO1+HlhpcGt6WbMXVxrschRZYwok8uO3OTg52lh6ZrrPgZbvaePvi1aS43w6vp6Ng5GV0q1Bx7ZFPyDocJ4v8AhzpcPj7wR8GJ9Z1a48NeIf7U1XUY7zUrmea/lsooUitjMzmQRDcZGjUhTtJIzyO9+Gfw/v8A4YfEzxH4b8NWlxb+Ab6wtL21jklaWC31EO8c8cJkZmUPGFdhkgEAjGcV0XxI8H6H8XIjb+Gdd/szxf4JvBLZ39uA8lhevEGEcyHh45Y2XzIzkMpHcCm/Cf4l6v4sl1XwZ4609dG8beGTGuoW0ZLQTxS58m7tmP3opQCcclGyrc4yxO51niyy2lL6McP8r49R0P4jj8BXCecwwgP1HrXtl1bxXUD2065Rxgj+RHvnkV5U+nf2dq62t5jYTlWPAIPQ/wCI9a/g3xV4Plgsz/tagv3NV+9/dl1+/f1uf0LwbnUK2GeEq/HDbzX/AABiPnn0FeI+Jb/TbnxALSTUILvRru5ia706VPMilnXaiSq7fKjIyqcgEEqCepz6D41nXVZ5dL8N3QFs+I2kBwXY8MEPdBzluhPA4xnzG98My3V9beHo72W2eIrcC4tyIpQ0TBlAZAGAJABAIyM+lfhmW0/qNeUvaa6rTt3P1mWT0cZhJe1dpNNry032f3FGW38V+Lri70Fra50DTIGaOa4GUuZQCAFTI+RWU7twySpGMEnFXUv2cfhfr8Sfb9HV5I4xGJgzLLgcbmcHLNnnLZyfrX0PYrmEz3G6WZ5Ms7EszHjkk5JJpfLjLsqhixIyoyDjOc89uMc1xf25iaUv9lfs0v5Wy6+I9vhVgcRCMoLdW0b7tO58UeJv2ONCDyTeErm4REUsI5JRkEY4GVOQT0JIxXhd58Hv+EZ1r+ztdnu/sgCEzrEqoN6hiMkkZBIU9s9+mf1diiWSMiTgE4HTJIHA9cYOTmuT8QaJp2rIftECShFyCCAO4yOeeDyAOPTivrst4+zKm/Z4mXOvx+8/Ll4e8I4utfG4Ff8AbrcfwTt+B8gaF+y1Ya5BJqmieKsQoAVikhG9yDhwCWAJHOBjJwRjINb95+zda6iwkvdfkaRQBuFqgJA7fKw/WvTtOh1PwLqh1DT2L2cjFmiAAAcKFUjIIHygAnGMehGT7JH9m1nT21azcF0C+YqrhDgAEoQADtOAeOevXIH2+P4gxWIoLEZfOzivejp96v8Aijycd4NcKYebnHD81OX96WnlufMGn/s1+Do1xqN/eXRznClIlOOmRhj+IINew+GPA3hPwfEY/D+nR27sMNKRvlb2Ltk49gQPauvSCeXPkxs4H90E9fpUptbxVDNbyAHplDg498V+TY3PcwxkeWtVdu235HuZRwVw/lE1UwOGjGS67v5N3aKLnAqFSSTnnNXTGDkMMH0PFM8r0r55M/Q+zBTmnFd1CoRUyrx7VDdtUNK+pEkAY9K27AfZpo5l/gIJ/DtVGMd60YGGMGuec5LVboifwtb3Ov1qzDofLGRKokQjnPGePr0/GvfvgCP+KTvP+v1//RaV8+2N7HcWQ0+5OHiJMTE9Qeqn+lfSfwUjSPw5e7BgtduSO2didK/sfwc4oh9Yq5LLVT9+Pk/tL9UfgnFuWtKOKW60f6M9kooor+yz8lP/0f38r5p+Mv8AyNFn/wBei/8AoySvpavmv4zD/ipLI/8ATqv/AKMegDy2LqKvxcnFUIuoNX4utAHxr8TfAPj3wb43k8X/AAwnlhn1EMHjh2hnHBICn5ZCBgFSC3yhzuJYj1X9nXwXquiafqOv+I5DNqt/LKZXzuw8rAyqzDIdgY1JKkhWLKTkED6Bltba8jMF3Ek8TYysihlOPUEEVfhiigiWGBFjjQYVVAAAHQADAAHtXzNDJKFHGPFwb66dE3u0vM+1xXE+MxOXRy2qo2Vvet7zS2TfZA9fUtr/AMe0X+6P5V8tSV9R2f8Ax6xf7o/lX0x8Sy8OTXzZ+1xx8GCR1HiDwwf/ACuWVfSKn9K+Zv2yJxY/s+a3rTozw6Lf6JqM4QFmEFjqtrcTEAcnbHGx/CgZ9NN0x7V8r/swcaP8Rfbx74n/APS0mqH7RnxI+0aT8PPDvw18Q51rxd4m0hbddOuQZZ9OWTzrpz5ZyYBCpMh+7tPPFXv2YM/2R8Rx6ePvE4/O7JoA+H/hxZ+OL3xN8MLb4ealZaTrB1j4lBbi/tnu4FQXsBceVHLESxAwDuwD1Br6o1H9n74oeMPE1t4q+KXjmz8QHTNJ1vTbSystJFjGBrVusMxLmeRmA8tCAQcYPqa+aPAGuJ8PIvh98Xtahk/4RbQPF3jvTtWu40aVbGPVbllhnlCAkRiWEKzEYAbJ5wK+mvD3xNi+N/x+8Pap8K9TuNQ8CeD9K1I6nfQGWPTrzUL8wJbwAMFWd4EjeTIDBNxGQTgg7niv7PdwnxUv/hFa6vH58fhT4cXCzrIMkXF5PHpShgehaOyuA2eTVD4DeID411H4YeFtQy198M/CfiGKcHkpLDeLotsW9zBazZ7nea9b/Ze+HuteDviL8Yb3U7CWysBrT2OlGRGRXsRcXWoKYyQA0am92grxkEZyCA74FfBrVPAnx3+NXifUrRl0jW7u2GlyMCFkiu2n1C8CZ/hWe6KccAqR2qewLdm/+zCM/sneAv8AsXYf/RZr5t/Zw/4//wBnnPX/AIRDxJ/6V2td94HuPjv8L/AMf7PGm/Dy51W70qK403S/EQuYE0prJ2YW9zPlvNVoo2AeIKWdlIUjcCOb8J/BT47eDNG+DGt6HYWZ1f4e6NqtvqOn3V2iJdvezRAWwmjEgUtGGkWQBlV0UMMEkNsS6ncftH/8lJ0b38C+OP8A0XYV5h8DPAXgbxx4l8Pr410DT9dFl8NPCL24vraO5EReW/DmMSKwBOFBIxnAz2r2OP4a/FX4k694i8e/Ei0svDV1ceHL3w/oukQXRvRbfbwDPcXNyiKpZ2RAFRSAq8kkc5I+BPxP8I2ngbxH8M9f0208V+G/Dlv4b1GHUIZp9Ov7aHa6sPLZJFaOUMyNjJDEHAyCW1Ej2Pww3wv8PeNNT+H3g3RrLR9YsrK2vrqOyso7ZDb3DyJFl41UMd0bfLyQOe9Wfix/yS/xf/2CL/8A9J3rnPhV8Mte8J6lr/jjx9q0Wt+MfFDQC9ntYjBaQQWqFILe2jYswRQzEsxLMxycYFekeJtDg8TeHdU8O3UjRQ6raz2rumN6LOhjJXORkA5GRjNMXU+GfADCLxN+zC8p2CfwTcxoT0Zxp9oxA98DNerfE67tT8efh3pyyqbldG8TytGCNyo0dqFYjqASrAHuQcdDXY6x8BvCuq+AfCXgaW+vrSfwPDax6Vq1nKINQt3tIBAJFkClf3iDDqVKN3HArO8MfADwn4d8Sx+ONQ1LVPEPidIZ7d9T1O5Es7wTqFMWFVY1jQAlFRVALMTknIQXRxnwO8QaR/wyR4Z1v7Un2Kw8MhZ5MjajWkDRzAnsVZGBB6EV8iW3h7V7v4bWejQWzvfSfBqeVIQCXYG9imUBepZlxgYySQOtfY0P7JXwVtms4odPu10+1WANp4v7hbC4a3VVSSe2VxHIxCguSMOclgSST7p/wjOhL4iXxWtkg1VLM6es4yCLQyCUxAA7QC4B6ZyAM44ot3FfqeBeOPi/YaR8ArfxV4D1W3uNa1ewtrfQ44zHM89/chY4Y1jOdzKxy6kHaFbcBg1zPhLxf4a+GHxh+Jui/EXWbTRJdbm07VrKe9lS2hu4BYxW8zRtIVUmOWJgyg5wQQMdPbdF+C3wm8O+JpfGOheEtOstZlYsbmKBA6s33mQY2xs2TkoATk5Jya6vWfDHhvxGIl8RaRZ6qIDujF3bxzhD6qJFbB46jBpj0Pgvwf8AEp/B/wAU9X+MWtXc9p8MPHmoajawXLRN9mE1rDZR2l5IQpZUm8i4jjJABBBIwcj2D4f6rY/Ez48ax8U/B5Nz4XsdAg0Vb4IyRXl2blrhxFuALrEpCsw4ycAnnH1E1paG1FkYIzbhQvllRsCjoAuMYHYYxTUhigQRQosaIMBVAAA9ABwKAuNbpXk/xL1GMxWmh24DXdwTIzc5jhT7xOMY3dMnjGe4BHrBGa+Tr7VzrGv6trUjfJJKYovTyEBVMZ9Rkn+XNfhXirnKweTPCxXvVdPktW/yP13w9yn63mDxT2pK/wA3ov1fyL9laRiR7okYQCKNQcAbepx1I6AZPat20tBHfC7kyso4yAc7TgEfXA7YqxpFnNPp6eUAFkcRiTH97BIHbgEZJ7/jXZHRp444pokbyGH7slRvIOcHBIGCQQCTxjp0r/OfEYqzabP6FxWNUZOLfkUDGu/eoIGM8gjPBxx3P/1qdbW8X2ovOWMYYAhFJcgkZAAwPpkj1qzMCWV2YARkAlxkAjABYezMAcgZ4+lTWF7uu5bmWZo5Z43kkYKVQyTAqAR2VQQx25I7AnFcVKKlu9zw3KXI2h+l2x1G3nu0je1EbAMY8u4dhkE5IAC7cE5zyOuMVRvbCS4uFgs0kd8hQoBLlgwULgZIOTwR2+hrWshc62sWj2R+0vKQoihDRrIWjALM55ADYIIHIzkgHFeu3F54X+E1mL3VStzrc4BMakkxoScDJJ2jJPPU844r6LL8p+tP2zlyU4fFL9EurfRHhYrMJ4eqoU481SXwxX6nn2hfAm+1AC88ZXA06zcZZEIMgAGcsTkL1OcZxj8rw8QfB3wXdRQ+G9IbU3iGxppDvRt2Rkl8nnnOAK8y8S+PPEHia8udSF6XEAJVULhVySBtU4AAAAPGc9T3PnNtDDPuv4y0bo4DKCCBkdACBx3ByeRjHGa+neaUMPF08BTtZ3U52cvLTZfc/U9ejlGMxacszrO38kdF8+rPprT/AI7RLfxQx6JbwWobJVQyHBYZI6DIBzgjqPfNW3+Mt5cXaNNBZPbQylVYlg7EYOVxyQBjJ4HQYzxXzfH5X2+1muUlnjQb2EZKkhQSVxzk4DdcgAAnpTobeztbiVfMYQFgm3I8yQAgKoc8A88k4BweMmuCrnmPqU3SlVdnrbS3z72srXInwtld21T6ef8AmfU3/CX/AAt8WMYdXsRbTyDmRYtwAJHOfvAk5x7c+tZfiL4LymNtT8KzpPbSjekZJPykZGGJOQe2Sa+ckuzY3El1cASOqsEt94OTglWJyQR3IBOc9R0r0Pwb8QNa0W7iuLWdZA2AylsqwHLDZkcY6cZHY9q0jmOFxGmZ0d/twtGS+Xwy+5ep5FfIcVgl7TLKrt/LLVP/ACOYurG6sbhrS8iMUqHBVhgj/wCtVmKwMqcDJ9q+lvEOiaH8SfDz+I9IYR3dvkMMcq6jJViOvBBB9Pyr56gleyuDDOpV0JBU9cjivCzTLZ4GtGE5XhL3oyW0o9/LzT1R2Zbmv1ym9OWpH4kZrWUsR5BxQi4PpXf2r2d4gDYqte6CrDzLcgHrj1rSeUVZU/a0HzI7Fjkny1NDj8sor6w+BLu/he8Ltki7YA+3lx18qyxSQMUkGCK+qvgPj/hFrzH/AD+P/wCi46/V/B5NcTwT0ajL8j5DjCzyxvzR7dRRRX+jx/OR/9L9/K+b/jMP+KgsMd7Yfo7V9IV84/Gcf8T2wP8A07/+zmgDymPtVCy8S6Fd3ep2dveo02ikC8U5HkZTeCxIAwV5yCRjvWhD1FeEyX1/Z/8ACy9aukJNo8PlhiXUwQLuMZbABDAElBkKH5OWYCKk1CLm+hcISnJQhuy1b/tCeHf+Ep/sCe4iEhnMBiCOAmCQB9oJ2tLwAybAgYlRI2AzfSNtPDdQR3MDB4pVDKR3BGQecEfQ81+THwj+H938UPGMekvIEtYgbi8lc8iMEDjuWZiAPqT2r7w/Zy8X3HirwCLe/cveaVIIJt3JBwcHJyTuALEnuSAAAK/PeHc/xGOk1iYpc1+X5WuvxP2LjLhDCZRFPBVHJxtzp9HK9n87PTpoe8SHFfUlp/x7Rf7i/wAhXy1J3+lfUlkc2sX+4P5Cv0U/Gi8vaor6xstUsbjTdSt0urS6jaKaGVQ8ckbjDKysCGUgkEHOQaevSp1J2kUAeN+BP2f/AIK/C/WJ/EXgDwbp2h6ncBka4t4QJQjn5lViSVU9wuAfSvRrHSNJ0dLhNJs4bJbqeS6lEKLGJJ5TmSRguMux5Zjkk8kmtphkcVVfgE0AZaWdpBC9tBBHHE5YlVQBSXJLEgAAkkkknqetQJDDbRLBbosUacKqABQPYDgVoN3qpIKAK5GOlUpR196utwMDtXl3j3x7D4XX7JZoJ75lzhs7IwehbGCSewBz6kcZ8DOM6weUYSWMx0+WC/qyXVk33Z3TDIqq9UPD2ptrOg2OqSAB7mJXYAYG7GDgemQcVfevVw2IhiKMK9N+7JJr0eoKzK0hGKpSVecDBx1qnJzXUCKrdKqvVpulVXoE9ypIOf1qm3er0nX8KpN1oEQN0qFu9Tt3qEjn60AQ1XqxULfeNAEB6VE3Wpm71C3rQBh6/ejTtD1HUMgfZreWQZ45RSR+or49sJjb2ltbZzvUHJ6kgE8+mcYJ7fpX1X4+DHwVruwZP2Ofj22nJ/AZNfI0EqmSJBhsAKBnGSwA4Pr3/Ov5A8YpSni8NTeyi3+J/VnhZQi8BiKnVy/JafmfRemQeaLexV1WKEbn5PysSSxY4xkAjI7HAAruJ7P7P8l0g3zIWVQQxZcDKhh8oJ4PAB7e9cf8PZbSSzla6QSO8W/dIwwpQtyQcjgEFjwCAMkYNdnrV1HJcrFEFCyiV3OQQQ4DZXBOAAASQcbgAM44/hvEUleV3sdOOlP606XRHm3iFFguXWF2VABncd2dw3EEEdu3YnkdsZLaq0kST3cgcpgsGJUEJ8qheOSABgE9gORxWhr90jxJKSGBRW25OCCTjJIGcAcdenoOeZ0G0OteI9N0u2Ab7TNCpHIBUEMxI9xk59BXtYanzU/Q+uw9OPsOeppyn1r4SstP8C+EJPHerhjd3UamKI8YjHCqoPQsME+gwAOOfnDXtftdc1qW/wBauZLZXmBYCAz5DH+IblJA4AA7fr7p8ftZtLSx0nw0qPnaZWCNsCoSFHUHJOCB0xn6ivl23S1knDyys6yZG04YEDghUDHJ6EHPGM1+hcRQp4SvDLqS9yilt1m0nJvzvp8j43hfC+3pTzSvdSqXt5RWyRpvpVzDBNdAR3qHGwwEggHjO07SBnp19Ca09DSGA3MiRKiyqYp4SxLjOCDHwOhUEeh9sZ0bK3sLIhkilkmVgCqvmRAcjDAAjcewJJAByOleoeCvCUOta1btq1nHd2LsQ7XDiJwCMkIVZWY54xgjn8vhcNQq4zEwwUPim0v+Htf1Z7uPzOFCjOdXb+vOxwy+CNfnuhGtpMtvbxSy+eAWWQPE4QKQDuYlsAA5znI4NY8+kXmlQJcahE9pLOqtFGwBdy7YMjAnKqBkhTyTzjHJ+7bXS0W4t444TDZQMk0ChyoDiMoV2jqoHJBPXnnFee/EbQfC66cNf1ZCmo3DJErsGceYOCAmQCcAgHpgcZ4r9wzrw3lgssljKda7he/NorLt6tqy0PzXBcZSrYiNGcNHbbX+vM+PhYzlBcxxjN0QrRnkFByAxzkjIyegyOTjiqN/bTRzIkjLPnAZYyCkYwMBiMkk5GRxg8dsV2+uLGwJjucqCA21dgPHGcMAFz2HTPSuOmhtmBV3VAOQMsQcHBGAGznHHpX4FRquWrP13DV3NKbPRPhz4v1DwzrVnHeThrC4byp41OE2OCA23nleMAehGckius+KHhwafq63VsBsn6YOQQckH69j+FeGaYkMlzHAJolkdggAYDLA8HJAPOcEEA55yMYr6n+LCnTfD2hW1wQ8qKiM46EqmCQT6kZ/GvqIYeeJyuq3tRaaf+N2a9Hv8vM+IzSKw2bUKlLR1Lp+dtbnz6JLm0bdggV0mna+Wwkpx2qLTruz1iJ7CUbZ4+nuPaufvbSSxmZSMAHg150JYjBctWlLRnuOMKzdOotUddfrb3cZYYB68da+hPgSpXwteg/8/r/+i0r5RhvnVdrnI9a+r/gTJ5nhW8cdDeP/AOgJX9AeFlejieI6dZK0uWR8HxZSlTyyUel0e20UUV/e5/PJ/9P9/K+cvjNn+3bD/r3P/oZr6Nr50+Mo/wCJ5p5/6dz/AOhmgDyeLrXl+o+DLqO38d3N00X2XXlikBUtvEcUe2UMuAoIUHGCS2eT0A9Riq7GiyAo4yCCCD3BqZRUouMkXCbi1KLs0fn/AOBvHWo+GPCkur+FtFso30KFINYSNDHdySbiIZjMwfdGzLmRFAI2MchSCOz/AGPrq5a61+3dyYIhESM9ZJ8kEjvgQnB7ZPqa4vxbYS/CjxT4v067gYaP4qsbuKKTqi3OwyIAQMDJJAXqFkAJOCa9G/ZF0S+hg1TXWQpa3QA5GMmM7YnXI5B3TKT2Iwa/D8pjXhm1DDzetPmuu2m/o9Gf1NxJUwlXhzFYylHSs6bi+r1TafnF8y9D7Rl719SWLf6LF/ur/IV8ty9zX1FY/wDHrF/ur/Kv3I/lbuX19K4Xx98T/CHwytbO78WzyxLfu8UKwQSzs7INzZEatgAc5OB713SDr718Fft7X/8AZvhTwlcg4zfTqfxhz/SonNQi5PY+X4izCtl+WVsZh0nOK0vsewz/ALVnw0TPkW+oTDjnyY4+o44klU59jg16h8PPiPoXxP0CTxBoEU0UEc8tuyzhQ4eJip+4zKRkZGCeCD3r4b+EVh+yNdfDXQNU+Jeo6C2vz24a5ju76Myh8nG+MPkNjBIIBz1Gc16p8bfjRo37L+i+E9O+HnhuyudL8Qi7mCrI0SBbZbcKVKBsllkABOQAoABGAONV20pvRHl4PMcRhcPUx2a4iEoJL4E9G2rXd2++lj7DbvVR/evAvil8aL/w38Abr4weEraE3OyzaKK8RnjUz3UdvIGEbRk7QzYIYAkAkYyD5hY/tYpD+zzH8XvEOmRDV5rh7CG0gYrDPdh3RSC5LKm2MyMCWIAIBJxnd16eivufQ182wuHrzw9Z2cYc7/w3t+fQ+gfE/jxPC/iOy0q/tCbK8jDfaATlXLFSMYwcAAnocH8/nDxlJe6z4uubWENPNJMVVRySzHgD6DAHoBXzJZ+If2tfjZp8/i7R91zpySM8EMUFtHCCOqwrKjE4GP8AWMWIIJJBBOj8Svjj4w0m18O+GNGsF0Lx74giil1O7QENEZWMKxQBgxiZ2VjIVBIGBGSGyP5s4u4TzXP8ZGFXFL6qpcyVveWlnays/K/c8H/WJPCzrzw9SMdOW6tzX2S13e68tT9LtB0s6NolnpZILW0SoxHQsByR7ZzV2QYzntX5V+NfEPxz/Zt1vw54i13xnca/b6mZHmtLi7kuUxCUMkMsckkgUsr/ACuhBBBwRjnQ/aL+M2pfEL4jWXwp0/WE8PeHRHAt5JNOIIZZbiITP9okJAMUasECtwWBJDZUD+gsPUpYehGjCLSikkvJGEuJfZQqRq0XGrGUY8t1vLb3k7W01Z93fFC91z/hGkPheVsyz+XPJA5BRTG5QNJGGaNGlCK8iglVJPAywh+F7+J28KofE+8yiQCAylmlMYij8zezFmYCfzRGxJLRCMkkkk/mIdR0f4CfFPw9P8JfGtv4jstQMC3ptZI2RgZQkkM4h+RlKkMhI3A5IwQDX69291DfWcF9Bny7hFkXPXa4BGfwNd9Gvz3TVmezk+aSxyqqcOWVN2dnda7WfmNbpVVv51aYfpVV8iuo+k2KsvNUmGDV2Tp+dVHoEV2HWoWqdutQt0oAhPWoG4NTkYNQyfeH0oAhbvULdKnbrUDdKAMjWrEalpN/prdLuCWI/SRCv9a+CoHaCWNJSRtxu4PBBxz6cA+nNfoMetfHPxS8Pvonia5eIYtr0mdOAR85JYc8cNnpjgiv5s8WsulOjh8bFaJuL+eq/Jn9L+EmZQjWr5fPeVpL5aP819x1HgnxX/ZjjzS06bdhBIUAuML8x4wScEYIwcngE11Gr6/bRkFBsGSJSke1GUyAhN6swYcclSNwXAAxmvmKHXcgKCAc46HJIGBnnB9Dnj2raa/ZlLqVyeMLwDnpwOAORnj8+tfxfXydOr7Tuf0FieH4yr+1asd3qXiIXUiSx8CIBQDjjYDgsDg9RwOg4A9a2Ph3raR/EPQp5eFExGSDyXQhTngcA4/nXkpu3LheAATnJByTk4A7kAnOOa6fw7oXiua/s9S0jSrueK3lEgkjgfyiFJYjdjGcDgZBPTkmu14JKlJQVtGa4vAUI4WdKbSTi196PuL4+6Ppkkml+ILyRncwmAQIQhcBs5DlgFxux0J5zjjj5mtLWeO7CFYmMRwDK/mgA8gExsysPUgnJzxmvoz4jXWm+MvBelWMl01tqttIrNGwGSjAB1OcDPQgeowfUeeQ+G9N0yKI3btEiEgQRgbySfvNjB5zjPQAcA0uKs0w2Lx0sXh2mqijLR3s2ldPzvfQ/D+HcU8NlsaFZvmTat89LHPRu6uVnlWNgSStqDGCACcMgABGBnBBPbrxXX2t0mjTpPdB5JEIZY3JBXGCGk+bKgjHA559OR0fhTxJp3hrXIytggjEnlmdXJYhxgAkjB9QOuQBmsv43xrp2sW+pEYS9jcFgSQSgyCo6AlepxngDjjPxqwlOph1XjP3lK3LbZWunf71Yp4l18dHBThZSTs+53U3xV1tdMtP3UKXpZ23EkxhDhVyCRyTkdeOw544TxL451zULu4l1EsEnKBYC26JHRcSAqwKnBGRkA8jkEV5lp+oSzfuJgSsKorMSCGKDGBnPUncSST0APXNafUJ79H0W6dd8bMsT85iAwSBwAA3AIHA4PrXrYrOc1xUfY4qu5R06+Vr/cdWF4fwtCreNNf1qRS3c0F7E8062zozhldHIKFSOGwwweMfOcEZAzikmuNQWDdqNvE0SuyiXBIBIP3dpwc9sc5HOMgltvcrqcYtbki3wrKpk5AJXIUnBI54yQec54pLW1uLHUjpcMPmtMVCxKPMRwcYAKlgcggqRkdCDzXAo3tdan2NorRqzX9b/wDDm54H8Np4m8TWGiWrm2R5PMchyQQpJYgFRnIXGDnHA69faPjn4ghvL600i2JItCS2cYDYwRkHnHH0rr7fS/D/AMItAvPFmqkvq2oqGYSspdSQMxptAzyAWI6+uAK+Tb3X73xBcNfTuXErvIuf9sgk/kBX3+ZUKmWZf/ZtR/vKrUpr+VL4Yvz1u+2h8DhJPOMwWPgv3VLRecnuRvdTWF1FqEBIZCAR6ivS7xotVsI76LqwycfrXmZHnRlGHNb/AIU1DbFLpsp4UnaPb0r42lUTpSoy2PrMbRbSqx3RC+UYrX138ADnwjee164/8hx18nX8e2U47mvq79n3/kUb3/r+f/0XHX7B4Ov/AIySH+GX5H5/xk75S2u6PeKKKK/0VP5qP//U/fyvnj4zjGr6c3/TFv0f/wCvX0PXz38Z/wDkJ6b/ANcX/wDQhQJnkMXY1fg6iuc1fWdP8PaTca1qrmK0tF3ysqM5VcgE7VBYgZycAnHNZOgeILjVPGOoWNnci50uK0t51JCcPMoZGiZTl4pFJOWH3wwViBgAzo9e8H6L4phEOqwrJgEEtHHKCM5AZZUdSAeQSMg5wRk51tA8P6f4csjZ6eCFJBJIUdAFUBUCoqqAAFVVUcnGSSca28aaFJqAsVkkALFFlMbCIsDjhscKTwHICE8BiSBXaVkow5uZLUv2knHkvpvbp6leQ9TX1FYZ+zQj/YX+Qr5ck6GvqCw5tof9xf5CtTN9TTQ4PNfm/wD8FJrv7F8PvCEp/wCgpKvHvAx/pX6PjrXxb+2z8EvHfxw8G+HND8BQQzXWn6i9xL58vlKIzCygg4OTkgYrCur03ofN59hamKy6rQpxvJr9TwT4H/sYeBfiP8NfD3jvVtVukfV7VJnhA4DEYYBgy8EgkDGQCBkkZOR/wUftv+Ea0L4V6dC7SpZRanbByACwRLMAnAwCQucD8K5vQv2UP219P0200O28byaRplmgjigttVnVI0A4ComwAD6ivedT/ZG+IPxD+CyfD34qeK5NR17Rr43mlalL++dEkUrLBIWdmkQkgglgQQoGFXB8mnShGFlF3+Z8tXy+ristrZfhsGqSaX8q5nFq1+r66syvjbq9jafsFo0lxGj6hFp32VWcAzk6hHMBGCct+7Uvxn5QT0FfE/ikanL+xl4L1i3BNtb+IbtZgMkBpDcBGPsNrDnu2O9fSnh//gnNqclrPZeMvFjXEUELrYrGGRYpWIJIQmRVUnkkHnJ+XOCPrr4e/s1eF/Cvwaufgx4qK+INIuWlZvMBVgXkMgYMNpDIxyrAAjAPWqjTc+VW2R1YrJsdj6tatioRpudPl+JPXmT6HM/s1/E/4dWf7OvhjULzXrGwh0ewjgvjLPHGYZ4RtcOCQQWIyARlgQRnNfnt+2VeaXqPxp8P+PEle88IeJ9OsriG6hBCywxkpKEJAO9V2sV4IDKTjIr6Zb/gm54BGq+evie/axDbhEyRlyM52FwAcdsjBx6Gvq3Uv2e/hhq3w6sPhlrWlLf6RpgAtzISJYmxjcjjDKcADgg4ABJPNbqM5R9ny6I6MVleNzHB+wxfJFxtbd3a76aKx+euveCf2HfC2gQa5deKLjxA1y0Sx2thck3BEhAJePOYwoJLbypABABYgHyn9ofw3pXw5/aHsvEPibT5tX8Ea0lneRYJBubYQpHKAw2jzFYFivHBUnAYV+gvh/8AYm+B3h3VItUi06W5aFw6rLK7qCDkAh2YY9x8w7EV9CeJ/AXg3xfokfhvxLo9tqGmwBRFBLGGSPYMLtBHy4HAxjjjpURw7d/dt8xVuH518M6c1ThLmUkoR93S/wAV7X32Pzbk+Jv7G+matoWm+BfCh1681C6gjaT7L5H2RWcAyF5ow7OucgICOCSwwCf00hhgtraK2tl2QxIqoOeFUAAc88ADrzXmnhf4CfCTwZff2poHhq1t7wZAl2DcATnAwMYyB1B6V6pIMGuqhTlFtyS1PrcFQq0KbhVkt9orliv8/mUz3qq/FW2/nVVuv512naypIMr9KpvV9wcGqL9KBFc9ahbpU7dagbv9aAIm61DJ2qZutQydjQBCw71FtZjtUEknGByTUrVWlvFsCl07bVSSPJxkAFgCTntivn88zJ5bluIx6jzezg5W72V7HXhqDrVo0k93Yfc289rg3KGLPA3AjJHXr6VxPjbwdD4s0uPTpwY5fMDRSYOATwQSBkgjqBzkA4OMH2r4jr5+m6drVikckA3ByTg5bGDkgjBwQc+3rXjUmp3PmtOm0luMqERBxx8pBOD2Jxk54zX8Ucc+KWZynWypUYezkk09XeLSd0729PM/VeG8p9m6eYUZtTi/uaPCm/Z4nWRZp9ZWNSyoSsDEEg54yVweRkc5r0nQvgz4GtpbaK6uJb1AAZ2lkIRACM5WJVYZPABY5HsQT18F3cySG4YtK6fLlgPLT2G4DIwc8ADjt2tRX7hhA07Msx+byiQCMngjpnAz29CeM1/M087xVSVpy0+78rO3zP2HF53m1ePJOs16WX5I9h8P+EvhZ4EV59CsLYzzxGeJSPNuZPl3YRpSWAIAwowM59eNDx7rWmWuivp+pJLax3bssJUAEmIjJIBxsJIABIJByAOteANd3iTi8hbF3G6hMnG0KRhTkdgMe3fjJF681e8ngkS9lNyzymRQQCAzFiSO4JyAQAc9ecDP61iPEr22V1cBDCxhzJrTaz3vfXXXrofmsskqTxEMTXqub63epnebA25rEhYySo6MTg7sYzz0B5AIxkgcYrQMYkLrK6+a29mJMQwGJBJQhsA84BxkDrjAb58jRCWDEbOwG0gZJ6dQNxAOM56ceozWurlvNLXNo7NGDI0kRaQFQNoJGCBgjJBAwBjqMV+J4eNS/NT3/wCHPu4023ylOWV7n93JchlfhFUALuIAHy8AkjHOT6k5ruvjRai70Xw8s8ZjdnQySEnAAhLtkAEgArg4BPOMZxnk9Ptr7UZYLfTkkeSRo1U7VKYHJLlRhSOgBJzzkdMe5eJ/FPhLQbuO08VxpLbXaPGUl5GMqc4P0Hp19a+iy6MJRcatRRUmtd+/ZN/dqeNjsROjjsO6MOZxu7Lfb+vuPiq1lnbDIxVjln4JyoGSQByCTzn2OehrQZ70T/brNGnluiQECEgllJKZByCVGeCDjGB6fSza78ArTyryGwiIAJADvtBxggKWxxyOnf3Nc5qP7Qvw08Nmb/hFtKgWdOFYIqtkAgHgZ4OQOeR35r7SOUYLmvUxkWv7sZyf4xS/E+shnOMxMrYXATb87Jfqc2fgj8Qdc1pNShtotN066RJwbqTDwF0DMoVDuyrEgZA98da9Nm134b/BbTmWe5XUdbRdhk2AkOBxtXkKCeuDnk5Pavkfxv8AtO+KtbEtutwLK2YEMEfGUJPBPTnqR6Y5r5xbxD4j8a67BpWmCS6ubrvyQMnqx5AAHJJwB9a+uwGHjCpD+yaDjLpKdpS/7dS0T83dn0VDg3Ncxoqed1VTowWqjpov5pM+m9d8feIPjH4hFrO7JY253MQMAKOCcDAJOMD/AOtXYx6WkGPlBAwBjjgdsVS8HeFbbwjo0WnxES3DANPLz87kc4zyFHQD05PJJrppOgr+kMt8KMvq4Ff2nzOu9XK+qv63TffzPwjOeOPZYv2GTxSw0NIq2/d99TIubCN1EsRwR1Fc4zSWGpI/3d2M110oYglOCB+ftXO64guNOg1GIfPExRsewyP0r+YeMuDamQY72N7wkrxfddfmj9K4fzuGZ4fntZ7Ndv8AgGxczCdAw6nvX1h+z3/yJ97/ANfzj/yHHXxXFfKLcMWHSvsr9nCXz/Bd83/T/IP/ACHHXueEFNx4kj/hl+R4fGlPlymXqj6Dooor/RA/mU//1f38r57+M5/4mWmj/pk//oQr6Er59+M4/wCJjpnvFIP/AB4UAfP/AIqcx+E9bkCiQrY3JCkMQSI2IBCEMQemFIPoQcGvM/Det22nadf2X2BdMvbXQtIJuEeMO8UsZjDmOPAPkNuAYKFOAqnAwPWNY0i31/Rb7RLwkQ38EkDFSQQJFK5BBBBGcggg5FeRLaWssfiTwzbqk9zoWl2Fg92pMbOCql/NhB2hlCBwwXAVgASAazqNqDcTSmouSU9Ez48s/O8QbfF2k3s6+JGeed8yK8SCIM6xlCpYK0SlVBO0hSuNuSP0N+D/AI0HjnwNY6s2BMg8qQAk/MnBBySRggjkkkAN0Ir8+fCM0Wp+GofD1pbFJZPNW7liiP2kQne6upURlwrBQQ0hXOAVAOT9Bfsl3lxZXHiXwu7K6WkoZ3U5QuCVTafQhXOe4A9K/E+FsXKGLhDpUWv+JK/373P6j8QMtpVMvnXtaVGSt/gbtb0vay6fM+y5ehr6g08/6LB/uL/IV8vy9DX1BY/8e0P+4v8AIV+4H8sGmD+tTJ1qAdqlHWgCSQc8VXYnp3/+tVh/6f1qCQZoApSdaqyDNWpBgmqzjvQBUPWqz5IPtVlhyDVd+lAdSg3Bqs4q0/Wq0lBLKrd6qydatt1qpKOaAZTbrVV6tMMGqzjtQJlVuh7VSkA5q8/Q/Sqb9DQIqt1qFu9Tt0qFuaAIG61FJ0HtUzDoaif7tAFdqxNftHvtIu7WPO9kyoHUlSGA/EjFbh6VCetcGOwdPGYaphKvwzTi/Rqx1YavKhWhWhvFp/ca3w08R6f4z8Kv4W1za52bWBbGMHIweuQRkY9K8m1u0fRtavNJSKSIWwIKKmQVAJDEgAdMEEknrgcg1yOp6hffD/xgL20wlldEyBQMBgc7lBz1B7Y6Y9a+hJ7bR/ivoyatpJhGpxIQ3mAgOowQrAHIIOACORkjHNf5hZxluKnUeT4lXr0Lxh/ejf4fVbx8mz+iEoYKoswp64atr/hl5/keK+fcwWqS3w8sH5vKaVnxnAHHQEg5wMgDvnFWYLqT7MdyMokAWPBJJ3Ac5PGAM8dSSemOHavpU2kXktjcW7R3KEM4diSgO4BkbIDbtp9cA+uCMRJsi4Kswa3JiQEkEO4wxGepBOCRkADIPBx+VVKLTcJRs0fYQjCrDmia8d9CLtLOdybe4VI5VAxIoLDlCQcHIwfQZOfW1K8UsUhMZd0dizE5QAk4wpAJJweehPTGKxjeM82+TbHPhVVpEJGEUbDnHG7GBjkj2NPEphuQ0sRWJ1dgeckgljkE8kDK8cccZIpzpu1l0E6PW1mX2v4ndVkYW8keWDHlHzxkYJIOBnB5wO/FRQNZXGoStqMKqy27FZc4AB5VgoIyxIIAOQSQDjJNZOoKIIop2lyZVcOiqC2AcLjOdpk4IPAORg8mtXR/C3ijXZy+l24c2xjEiu4jWJChVt2drAgAHADZIzzgZ9TBYSp7RKnG77DlGlTpOc5cq77HdfC21P8AwkX2ggBLJp1k+TYNhBKEHjO4sxIIOCAATjNfEX7W/wAY7CP4lDwpYziRNJhCS4OQJZzuIyPRQp5I6+or9GNRns/Cnho2Vkwl1IxgeZgL5smMZYg5IHAHoMd6/MjX/wBkhvE+tXfiDW9Zknvr2V5pZSxyzuSWPsMngDgDgYFf0Z4f8EVM4TrTcfZ029V1m0k1/wBupa+bPi8m4yy7K87/ALTx1B1I8topO3z1+Z4dd/FZhYwiKcNvDBcnaAOvJwSADxyM8+xNcbd/EmVlbyhvl+XcQw+Yk4wDgEnnsMdOc8V9R2n7HXhyHBvNUlkUDnJOMD3PavS/CP7JHgCSGS7s4nuShJO4cNjv1J/Sv1nE8J5XldanQx2IjGU9lZt/h+p+8UvGLKpUZVMvy2c7fzSSX6nxn4R0LXPHknl3d4mm2rsHaWQF3AOfljQEknpy20DB45xX3b4B0Twj4M04WOhxO8rgebcSANLKQOrHsMkkKMAZ6ZyT0emfDvwtogEVnZqgU46AHIrp4rG0t8eVEq8elfu+UcOYHL/3lGN5d3+nY/l3jDxIzjiO9Cu1Tor7EdF8+r+YLKsqhlz+IocZH0qQjj6VoaZpcuqvNHCQPJXc3IHH1Nenm+c4PKsP9ZxsrRbts22+ySu2flOFwlbEz9nRV2YZGWx61zayMlnJbEZjdgeenGRxXU3UfkfNuDJnGQenOCD6Edf8a19UstOuLWO00za7soBK8gZ9SOK/jrxdz3BZjUwv1OqpKMW7r+9ZW9dNj9y4Lw1XAwq/WI2cml93/Dnz1ZteXV6NNgUySOxVFHU/59a/Rj4EaBN4e8GSWlycyy3Tyt9SiDj24rwfwv4a8O+DIpNWuwJ7+UdTggewHYfqe/bH0j8JtVOsaBd3bdrt1H0CIf61l4W0qUM9g5S99xen+Z0cZZjLE4JwpK0E1r3PUqKKK/uc/ns//9b9/K+f/jQMX2lH1jlH5Ff8a+gK8G+M0ErS6VOEJjRZQWA4BJXAJ7ZwaAPGUrDtPCsI8Qaxrc0olTWLSC1eMoAUSHzAQHByVPmEgHoSSDzxuxgYFX4QAPwoCx+feqWc+m38vw1nm8qC3u5pZ0kZVSWxnZ3dl81im+I9SqA5TeCygbe8/ZZ0z+zPEXiW1TJi8yLy2JV+LZZFdCyfKSpuEBI4OCRxXt3xS+DmkfEiOK5nUi6iBAZHETgkAAhijgjAAKtweCCpB3dF8LvhzY/DnRpLC1jVDKQT83mOQByzvhQzMSSdqqAAqgHbuP5vhchrUczjXt7kb2fqrWt5H7RmPF9DFZFLBq/taluZW00d3K/nba2h6LJX09YH/Rof9xP5V8wSc1buv2v/ANm/QlFrf+NrfzoAEdIoLmYhl4IzHEwyCMda/R20t3Y/DK+LoYdJ15qPq7H1QOMVKvWvijUP2/f2arJT9n1m9vyO0FhOM/Qyqg/OuXX/AIKK/CC7lni0Lw54i1U20UlxJ5NpCQkMQLSSN+/JCqBlmIAA5JFRzx7o8iWfZdFpOsm/v/I/QNug9xULntXwVrH7dY0zR9K17/hVPiUadrrpFYXE0aRR3LyjMaxkbtxccqB94cjIqDxF+2f418J+MPDXhPxj8JLzQD4nuobe3mu9SjIKySrE7BY4WBaMsCyFgwyAQMg0e0iQ8/wCV+e+3R9dunU+8JutVX6VbmFVHrQ+lKrdaryDt61O9QtzQHUz271Wkq09V36UCfQpPVaWrTdTVeUZ60CZRfg1WerT9arOKAZVPWqUg61dPWqcg60ElVulRMO9TN3qFqAIG6VE3INSkdfaoz0NAFc9KibrUx6VC1AHMeKPD1r4m0mXTrlijn5opAMlHHQj27Edx6HBHzHo3ijxZ8KfEv2a93RBG5UA7ZVJBDKTnIwMZHoQQOlfXUjpGCXYKPU1xPihvCWrWL2GvBJ4j06hlPqrDBB+h56HivxzjXgPD59FV6fu1l179r9mujP1XhTi5ZZGWCx1P2mHnuuq81/l+R6r4Y8ffD34m6dBa6qYpJkAwshw4YEjIIwRnHUHBqhr/wAIpricXvha5t57YF2WFmKEbskKrgMOSeTgcAHnnP58eKItG8I373nhnW22A/KrgrKpJyfnXIPPTgfjWz4b/aY8S6PLH5uoRXQjwBuI3EgHn1z25Jr+U834czPBwVDNMF7VL7a92Vv8STUtO5+pYTJaGIk63DeOi0/+Xcnr9z1+Z9cf8K6+IbQ/ZL3TFuYp0BIMiEBwMA4ZsAgAAEDPAHGM1qTfC7xml00bRJdowZlYunyHGVAycgBjk8dcnByK8NX9s64hVfNiDPjBw4A5/wB4enTj0+tc9cftnawbqW4s9OLl+DtBcnHoFznt0HPOK+Sp5HhsQ4ww+Eryd+8NvK173fQ7q+U8TUU6mIhTpxXVuy/Fn09b/B6+uruW/wBWv4YHONwTOSOuCBtC88Daeg7cY7C21DRvAelPo/h5C8neRjl2bvn0AzgAZA569T8KWHx7+KHiy7Bh0S6igYglmQRk5xnOSxx+Rr1jTdY8W3aK1xZGMkZO7k/iTya/XuFfC/NK041sYvq0OuvNUkuy0tDza1Px3O85k/3M6yq26R+H/gno15e3F5KZrly7kk+3PpVE9DSada6xeq2+IDYNxxk4H0GT+lSSIYwc8gg4PY/nX9bZW8qwKjlGAlGPItIJ7f11PzyrSxE4/WakXZ9TLvY3mtJYk+86kD6kHAqt4S8QX+mkLAxA6Ee9aLkKpJOAOSfSsCBkju2mRdqOxOP51/L3jVy4bF4LHU6lqmqt1sne/wCJ+tcEz9ph6+GnC8dH/wAA1523Ss3qSfzqu3WrdzD5LhM8EZB9R6iqjV/VWSZhRx+ApYmg7ppflt8j8lxlCdCvKnNapkNZdtfXMMk/kOyGTIbBxkZ4H0FabssYLMcAfrWfBD5spMQ6kk+2a/lfxwzGnJYTB0avvptuKevSzfbqfrXAuHaVatUho7Wf5kQuXXKMfvmt+2aO1hFx3xxiufuYFEvXJU84ro4LdbyxBUgEcHHqK/j2jRnXnyx3R+v4jl5U9rmPe6hNdt8xOB0FfVPwE/5E+7z/AM/r/wDouOvky4j8iQoexxmvrH4BH/ij7v8A6/pP/RcdfuXg/dcTR5v5ZHxHGEYrKny6ao9xooor/Rc/nE//1/38rI1rRrHXbCTT75cxyAjIOCCe4PrWvRQB8ReOvD/i34ZzSahfWkmt+Ghk/bLVC9zbDP8Ay2hXllA6smSMcqc5pNF1XTNbsItT0e6jvLWUZWSJgyn2yOhHQg4IPBGa+22VXUq4yDwQeQfwr5k8efs721zf3Hi34VXq+FvEE53zRbC+n3pHa4gHQn++mGGTg0AYEXFTN0/CvN7HxvdaRrMfg/4laa3hbX5W8uBZW3Wl6extbjAVif7hw46YPWvSG6fhQBSev5//ABD/AMh/Uv8Ar5m/9DNf0APiv5//ABB/yH9S/wCvmb/0M1w4rofjXHvwUPn+hj19W/swa1e22nfF3QIhF9mv/A2tTSsYlMu63iAULIQWVT5hLKCAxCkglRj5Sr2b4M+OdB8DTeNpNeeRRrvhXV9ItvLQuTdXqKsQbBGFJByx6CuCLs1qflOXVFTxMZN2t/kfcfgPx14j10eFfEHxARdOl8feL/ByaDpIkciKy0RhDNdxxOSY4pSVAIADtkjK4NeT391cXXhz4Z3d5I88qfEvWPmYl2+e4snYAnJ5YkkdySTyaxvGXxg+D+s/EPw38V/CEXiK88R+HpdDNtp00FtHpyRaUIVeJGSSSUB/LZlwoAZiSMGt/Urq78deKPh/4f8AhX4A8S2Xh3S/EkmtXM+oWzyu1xqFzA0nzQx7EihSIBSWJIJLcjJ7XJbH2MqyqXhGfN+Ld5J3/Nn6tj9oTwDc6e9/Gl6GSxv9REDQBJjBptytnMdrsoBM7bVDEA7WOQBmnXfxv8Mx6La6zbWd1Il3PpkCpIYYSH1QkRbmeQIAuDvO4jP3d2Rnye9/ZRvbvULvUG8UBBc6ZeaX5JtDJD5F5e6hevuQyAMTJdw5GRkQ4435XtLf4Avb2Vlp6eI3htrIaVIscNnCoFzpTFkdQ/mKsbAlRFghRjBJANegf0UWtP8AjDq2oeKtH8MzeGTZjVbzVbYyS3sYKppciws0ahSsjtIWJiDhhGpkG4Age3t/OvOpvhboz6xpmrtf3oGl315qCW4kTyJJ72Z5izqYycxs7BCrKdpKsWBIPobk4oE+5ScHpVZ+lWpOpNVX6UCZVfhqrSdPxq09VpOh9qBsoPVd6syDt6VXeggqNVWUck1bYCqstAFJu9QtU561Cc0AQHvURGc+9LcTwWql7mRIVAJJchR+ZxXH3/xD8A6USup+JdNtCvUS3kKEY65BYGgZ1B5qJuleYy/HD4QQkqfGGmOQcYjuUlP5ITVP/heXwulyLbWTcnqPItrmXP02RGgD06a3imyJFBzWLceHtIuB+9twc/WuN/4W54cuP+Qbpus6gT0EGk3hz9C8aj8zTf8AhYHiO440v4b+KrsHofsMcQPPrJMp/MUBY07r4e+D7vP2nTY3z6ishvhJ8PXOX0WAn3XNWU1v4w3v/Hh8J9XAPQ3NxawevUCRq0INO/aEvP8AVfDqC2B6G41aMY47hImoCxkxfDHwDbcw6Hagg9fLFbUHhrw/aEC106CLHTCAf0q4ngH9pG8z5ej+H9Pz0M17PPj6hI0z+dTD4M/tIXZBl1/w1YA9RHZ3UpH4tKAfyoCwLBBH8scaoPYAfyFNarKfs6/Gu5wb/wCJNrBnqLbSo/TsZGatKH9l7xhL/wAhL4o6k/qILS0i/I+WSKB2OE1TVdRtJnjs5miUqAwU4yMf4ms6y1+dVFtcHzVzkbuo9cH/APXXrP8AwyRo90wfWPHHiO7PfbdrACM56RouKup+x18J2ULqN3reoBegn1W5YfkGAr+S6vhRm39qVcww+Ycl5uUdHdXd+5+wU+LMEsHHDVcPzWST2PKJp4LoxwRyhBIfmycEAepPFZGs+JPDFnOtn9tt4xB8pZpUHPfJJ9a9/t/2Pf2foSGm8Mi6I7z3E0pP13PXTWX7MvwFsMfZ/BGm5Hd4Q5/8eJr0M08JcXm1V4jM8x56mivydF0Wunc4cLxXRwkVTw2HtH16/cfKK/EP4f8A2b+ztW8RadAUGYna7hBGexy2cVxV98V/h/aSNEPEdvc46G3LXGe/BiDH/OK/RSx+Efwu03H2HwnpkOOhW0iH/stdTbeGfDlmALXS7WED+5Ai/wAhXRg/BvDUIKP16p/27aP+ZjPi+q3f2MfnqflkvxW8HXL4tTqN4T/zx0y9fP0PlYP511uneP7Z4Cum+FfEV47DgppUwB7AZcLx3r9NEtbWPiOJE9goH8qnwB04r18L4OZDQn7SUpyfm1+iRjV4yx80o8sUvT/gn5hRzfEDUCTp3w68QSljkGSCGEc+7yg/pXSaXpHx3G8Wfw1mCPyPtWo28OD7hRJ+Nfo1RXq4Xwm4aoVPa+yk35yf6WOWtxbmVRcvMl8kfAFr8Mvjvq9wH1Dwzp+mRk851ESkD6LEBX1z8MfCl/4P8NnTtSKm5lmaZwh3KCQq4BwOy16NRX2mU8F5JlWI+t4DDqM+929/Vs8XF53jsXS9jXqXj8gooor7w+fP/9D9/KKKKACiiigDlvF3gzwx460ebQfFmmw6lYzAgpKoOD6qeqkdiMGvkbxB8L/iT8JAbrwe83jXwlECWsZnB1S0TriCVj+/RecI/wAwHAbAAr7iooA+FPDfjDw/4wsjd6Hc+YYjtmgkBjngfkFJonAZGB7EDPUEjBr0fTP2Wv2e4ALv/hBNOnmn/eO06NOS78knzWcck9Bge1dX8S/gH4X8d3Z8S6TLJ4b8VxqVj1SyAWRh12ToQVmjJAyrg9B6VzY+F/7QNyix3HxVis0UAAWmjW2QB05l3mlZPdHNVw1Kq17WKdu6OzsPgT8FLHBtPAWhxEDgjTrfP5lM12Fj4B8Dadj7B4c062x0MdpCmPphRXkEfwR+J03/ACE/jFrkueogtrG3H4bIcir8XwBvXx/aHxJ8WXPrs1IwA/8AflVxRYVPC0YfBBL5HvdvZ2lum23gjiAHRUCj9AKJrmC3BM8qxgc5Ygfzrwl/2a/A14CNZ1fxBqoPUXWt3sgP1HmAGqifsk/s+7t114RgvW6k3MksxJ9Tvc0zpseqX/jfwXYZ+3a/p9sR18y6iTHfuw7VyF38ZvhHZ5+0+NdGjI65v4M/kHzTbH9m/wCA+m4Nn4F0lCOhNsjH9Qa7Ky+GHw403H2DwxpsGOmy1iGP/HaBnkt7+0V8ErXIPi+znI4xb+Zcn8oVc1gyftNfCljtsJdU1AnoLfRtQcH6EwAfrX0/b6Jo9oALWxghA6bIkXH5CtFY0QfKoH0GKAPkU/tAaZdn/iVeDPFN7nuulOgP/fxl/Wp0+K/i69H/ABLvhf4kkz0MsdtAPx3T5H5V9bUUAfJbeLfjXd/8g74VTqPW71W2g/MKshqFpP2mr0EW3gnQ9PB6G41d5iPwjgXv719dUUAfIS+Ff2pbw5eTwrp4PYJdzkfjvUH8qtx/DD9om6x9r8Z6JZ56i30yR8fQyTf0r6yooA+Vl+CHxcuh/wATD4pyxA9RbaTZp27F1c/rSN+zVrN5/wAhb4oeIp/UQPBag/8AfmNa+qqKAPldP2TvCMhzqXirxRfk9RJrFwAfwQitCH9kv4ODH2211C/Pf7RqN1Jn6gyV9MUUAfP9r+y38A7Ug/8ACG2UxHeYNKT9d5NdXZfA74Pabj7F4N0qLHcWkZP6qa9VooA5S18C+CrEAWeg2EGOmy2iGPyWtyHS9NtwBBaRRgdAqKP5Cr9FADFRF4VQPoMU+iigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooA//0f38ooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKACiiigAooooAKKKKAP/2Q==");
-		medications.add(entityMedication);
-
-		entityMedication = new EntityMedication();
-		entityMedication.setName("ANTIMALARIAL");
-		entityMedication.setCode("ANM");
-		entityMedication.setWeight("300");
-		entityMedication.setImage(
-				"/9j/4AAQSkZJRgABAQECYQJhAAD/2wBDAAEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQH/2wBDAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQH/wgARCADlAYsDAREAAhEBAxEB/8QAHgAAAgEFAQEBAAAAAAAAAAAAAAECAwUGBwgECQr/xAAdAQEAAgEFAQAAAAAAAAAAAAAAAQIHAwQFBggJ/9oADAMBAAIQAxAAAAH7+AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAACEkQkiElCKgwAAAiaFw12vGtaLz33hr32/h42q5IkODkQCaAQCEAiEpQnCydQ5bA8P9qcTO0OYerCsdoQol1tDTladoxJCCWRvBePdqVyTV08557jtt5W66ABqHGnP8TfNTPVXi9boH31hra3pvHkERWjEVZmcQTAkhOYaHEyJglgNLQGAYJ7jz74AzTLZatGLQ07RrMaKGy1FExiYaUiYQJIUiJUkiFp82tB2jjfpz9ZfNwAGqcXdi4V+Y3oCrS28veeGvlx6Wx/9Gd7o9ITElfRLkDa6u/d3pZ1VSqrWjm+mrvzU0/nzjL0ladjyWMbblOr+54m0D1zv991dli2y5jENryn0U65gjjbwrlPUPd+I62wr2yEhDTCwBKkAlkJsCIyJUyleKndOI+mX1d83gAaxxh2Hg75h+ga+nbafujD3CfqzHVLQaD1LU9m15qX6J1dLBqzZKW0PpTlus/RDyO0y2Y5G6Xmf5pYj9UdP9txVnXJdft+nuN+9kx98xsReqelO1Yt7c6bh75X+fub6ZxL2ShqN0dD5rSWQODzPgd3SuxTmdvlfC7rDee2u2el8rq/t/GXHaalt3elfOP3Ni5DRVovOw171x+tk3Ebr3ZD4T6SfVDzmABrrGnP8DfL70JXpO5vcWIfkT6nxzoKLbw3MaU2FrxvZ+rE7bhKmrn2tTQGz1a2s/Q3v9pVh8XcG+0t2cz1PQHXMhdO9vxXa9HdaX693fcnYOmc8dVyP9TeM8zfMTzR2js3BHceKM+9M7p88d60XkLgsB7JsMw4TdXLaa+b9f3ui8icJuPovM6SyBwmacBvrVvtHanTeVtG808I7FsdvdI5jUXd+H39jPsN4yh176MfUTzwABgOOOd4C+XHoecN5e3cS3D1/izPLxhdZqDlsCrEpUESSlNgVszXOy7JkGtsrNpb7KtxxFGL2TS3141NnatPeUMD8xzZ83c7QvHr0LC061ERkL07ypmVSFMxtaKCZSqkIoXX/AC31r6JfTjz4ABg+Peb+fvyz9E1Kxuv2ninBPYWLLdebFWMys8MsV07ZNMZfevRd9OKEkQ0sFmNAJM0a98/d35s+b2dvVo2nFRMZkRKIhaVNlNlJCBMJhikJjZBGS5m6t9CvpdgAADDOhcx8+vlb6LnE7m9lYrp+z8T7A1GNUm5TDtPorW2xbILUyRPuVaEuKtZpagAkyW1/5/7pzf8ANzO3p0pEuIYDhGUbTGbpBMpKkgIyCNlOWX5w6l9APpJgQADEej8t89flR6OnDcPsPF+rvamJdfUm/akWaFt0LX/Xi5TFztHX86d0mElpRIESQlxCJmvvP/dub/m5nf06UsIiMmOJJiCVNmtG0KZiAhSUgp2Zlnfp3fn0dwQABi/T+T+d/wAoPSNSrbXrzGW//ceH4QcpTWUTGpoSRCSIByISAEoCScA8/wDdOb/m3nf0aUtNO8TpIgBKmUlTKI2lAlSigFKFmc+geld6fRTBgAGO9V5D52fJn0nOraXrPG/QXuvDkJhpc0IljiqWaGCRDS1WsJaiSIktr/z/AN25w+bWda+nMolwBCkplkZIF1MxkplIUkIpakbD9D9H7r+huEAALF1vffOr5I+lJROzPVGO+hvfGGIWgpLmrk6w7QVswAciJZJAkQIJhxbAPP8A3Xm/5tZ39GlMoAhhJRKtMZkQLCYyjJTMZgEQtGyPSnQ+4/oFhQACzcBvPnR8i/S8obH9PY+6K+gWFaUpDirkJdqyiCtgFmgSElWlJFXKUMA8/wDduYfnDnO9bDV8O5p79tYi3k16+rRv5dasLR69HUEkPJr1rUtCUZQlIjKnZs707j/t33zhcAC18NufnH8hfTU4bD9KdC6O+huEaaGkRKAO9ZUkS5qRZpECWAAhk04D5/7p8zfHWTfTpW92hPnuwDs2xy7hN1XpbA+wbLpfE3ZecMrdcvGy1btsdevp36fw92qEkKyMkU7tr+psd9p+8MNgAeDi9f5xfH705KJzz0d0bpT6L4MhQWEJQEOUoNLtUrYBDTISBKmHEzMC8/8AdOM/n5mbIOL3Nk5HQq6c+/banm1q19O3l1qyTZt/oY5yu2y3gt9sbqnJee6NykFORKnZtz1hjfsv3Rh8ADybHV+cHx39PSrOcehuldL/AEhwRGokE0OTJVmUFJgKUqkMAAZgfn7unBHhjLJMXvj9Wpp31r2/j8q4XcuJxPm9rsjqW/tu7p4txW37mvQOLeyU7oSUgUoyp2bf9cY17F9xYhAAoba/zi+N/qCVZzDPvT+nvpZgONSk7GOYkl0OwFB1ADkrHQhjMD8/9z50+aOePRomOCmUlTZTCkTZDKcoWKUQIyjJWbh9h4y6+9s4kAAp6U/OL42+onpTlWcep9SfTrz/ABoLglJhB1ORIqBjgAACsnVgfn/ufOfzPztWpcg0CEtGbE1FlaVEkokZKSkiEkKzdPszF/WntLE4ACh84/jZ6iW2tkuZusdUfUbz0qHcSYQYQkEipwAHJQdhAlKrAvP/AHPnP5n53q6dp1iNruKIUlN0EkK1klEZlTEZQmAUt2+0cW9X+zsUgAB85/jh6hpbDVyDL3Wurfqf52UiDk4OAOxjCpwIKUpFSkpOqRgXn/ufOXzPzxUpNXTlSBTMZhWsCmUBGZQLKUZQmpMQlvP2vinqn2Ri0AAPnT8ePT3n4ndX3KnXes/qz5xgAyQxjHByIKRCVTghSQ4TNf8An/unOXzPzxX0rtLgSjJSilzCFMoK3VoJmEo2QkiNq759vYl6k9gYvAAD53fH/wBN+Pgd7d8k8F139ZfNdJISGMcJScCUYSkEqGKxVECUoYB5/wC6c5fM/PXp0bKYlWQhYl4yCNoUnSRMZRvaNqhCyJGa7+9w4j6e9fYxAAD55fIv0t4Op8lce+8T2H9c/MlNKJkgJAMQQcokoOBIoQSZgXn7unz38R5Whq1v/E7vH+V2lu32jtPofOYJ2bj8Z5zZ7B6fyWM81tsY5zabX6HzWK89sfDuHRGIu1xkprCxSpzXob3NiDpb1zjMAAPnJ8o/R1PHvNe3t3Hdl/X/AMv05kJDGADAYAIACBAk4YB5+7pyT86c45Fw+8Zbd5oxl7Ntq+Dd6Xp0L+vQ1bdu9FxPu22vC0YV2Pj8165yVOwTTtFO8Ur06e92YZ6S9T47AADXWPubsvB76WvTOstdXcwQJOJY0SGJMhIYkgogmRCSi38TurD1DlqpJEph2Fodkph2h2K1S41Ku8VbVrWVpirMT1Iq61L5y20qXgAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAD//xAA2EAAABQIEBQMDAQcFAAAAAAAAAQQFBgIDBxESFhATFSA1FCFAMDI0MwgkMTY3QWAXGCMlJv/aAAgBAQABBQL/ABnMhmQzIaqRrp+h/ALJ+1W66prbrCJ7VuNJLHMi9Y5D1jkCVuQ9U5D1LgPUuA9SvHqF457gOcvHNXDmLhzFw1rRrWDUrGtWNaoFUqDktrQJ9z2BuawNypxuRONxpRuJINxpBuJINwoxuJGNxIhuJGNxIxuJGNwojG4UQ3CgHXm8xak6ZOLc8t0BtmTU4V9k7uX7UWpue3OMhD7hmg1DUY1GNRgqjGqoa6hrrHMqHMqHMqHMqHNqHNrHOrHPrHPrHPqHOrHNrMSZTcttXU1ANeqMGvVVA1qkx61Tl6xTnz7uXPumDvXTHMuDmVjmVjXWNdY11jXWNdY1VjXWDOsWarnqeyblnFqPtEYU20TOgxhxwl6HCSe3MR4bavJ74ru2LdZ6aasbZm8QqCxBzvvMSs30yimpUjoKq8novO8jeKXlqVVuKBViFiJKpSlxufKoQvneLkVb8SZs7x9lkOMTqol7lOsQpRNG/GqQ7NXTTF+NNLurJyi8mk1mLEu6hTjRlwyGQyGQyGQyGQyGQyGXHIGEtOpd2TIs4zR/ANlOuLfstIbDvh/jJEEmEuD7PHSwwxUxIgydgEmXvUjZcacHWKA4a4gsNEHwRaSi8TxWYoahdsHZOxk1RdYwolihPatJba9sh+ElulmXWMOMV/6WTb/sX/GcqSxAdm+G4VXbbM4WsO8S/wCjp/yFLrlc5xJVINeIlqUelmQdZomYpO5L1iZ5kL7SyWn5dKGBtuOShyjrbLCWwRBSu9JGZZS/uk2eFsejKV4eE8pfbj4lsRZZIHdsd3pwRy2WvdccYWz1lYqDdTqdOyWlnHaeEasmqa8EMQY9hyy2k74uwJVShqmOJDe4Rdck1ETF+1DSdWFuKD61ybAhDLcPK5xC8v8AbrOjL/Ren7C9ze5IwSTEzEyXR6ZwGczhmkEEsU1rMZcaz/8AeSmSsL/iniHMo9NsPphOmd+w+v2rqeEUt9+GYofu1Vd9Irm2KYvpG94lLO1yJjk89bHG8bvIkTqwxlo29H2hgXo5XKVt5M0ubSoiT/idTWqguSyMP0lr1RmEUVWog+0XasQndWlSJoK0GzXjDQWp67JQWcfLhDPseYBB5ErJoaKWxkgkKjau7BoVfcNjwzlLUaRzTI4lFW9CzQ6JR2qxEImmb78RialFwrhsQu3ETCxNtCSIRJAqJtbaV6xpaXC/ci0XvXEbMzNxJovGEimU+JIchPo4Z8TqM+OZjMyGYzGfDMx78DDF57skngS4Qz7t/OFLyjkc0XOCfFN0utq+VTRBWqxIWk6JHKb3FF/EN2pqjssf5G6/UlXiC+GYjxZyDskPgi4QszK6khkRVV7catFEEjdND0mjSK1ehrDfVbeYG++4xuNekRx1mRWkye0jTfTlPiKfhmIyWcj7H73ZCBiGfrs7xbjz0hN6eWB6OQM9pEkvvFdmQqq31c0rK49yrqpKqTuR2k65Ktq+nKvEU/DMRb3kvY9lmzkDEO/LzMZmMzGZjVUMzGoxmf1ZT4injn7/AFzESLOT9jv7tRAxEPzvhkJT4gviQ7+Z+x08aQMRHyPxJT4gviQss5L2OHugLhEvKH8MhKPEXFSVPdFalNbGQyFu9YvVH7FZu2lNm1fsKBkNIyFdy3Rc7jEI/mPsW/hlwinlviSjxD8nfHxyUuCtzRp6PQvTOjXLQueXGpmULypvR644u1bi7uBNTFUdFCd0dagrW3aVDdQuW3k6LS9dxiDFnIexV+NSDEW8ufxJP4l0kFlpXKH1mRqk0nb1qjdsZF+TMSWjciGxXVJGTSUoaLdu/KGBOocZCzKG5ie48S69Km6pOefeYgfnuy/+iXCMeZ+JJ/ELIib1f2+8KWqtmcanBoYVLeL0TkJtVbG+0XWCNLm01cTkN1tJiU6aoyrrWXo05rUtuJr66j7zEB852XP0y4Rv2efiSfxFPxMP/MdlX2/3Ef8AM/ElHiS+JAPK9tX3Bi8z8ST+JL4mH3ku2v7wy+Y+JJ/EkP7/AAsPS/fe27+sGfyx/By4yfxBGC+Hh4X7z2qfyQ1+zmf0sy+lJ/EU0mMhnSQLI+z2zzLMzIiqMqTy+jh4X/N2q/zQg9nA+OXflwy+hJ/EuCJOveDcbimXTBtblFiQO11iI3FWgqj121TYkiZuXr19KYxeTUO7bfqa+m3Ubamtq1TnYZba15s3Gt8VqVfdh4Xv237xVLtRBHUXrTMs8y4ZkMyGZDMhmQzIZkMyGZD2GZDOkZkNRDOkaqRqpEnro6RU2Ml1RVUnqrrNPcK+la1Vz0rUV4iRlVeSNKm5Vab675VWCovWG2+KrTbUVV1PUNaUJmhCmWepsj1Ngepsg1NgeqsA1icYd+9rtXxRhcr2xIyKYLGaT6UiHS0Q6WiHS0Q6WhHS0Q6YiHTUQ6cjHTUQ6cjHTkY6cjHTkQ6aiHTUQ6aiHTUQ6YhHTEIUMLQrt7OjBDaEaG0o2NpxwbTjg2nGxtSODascG1Y4NrR0bVjg2rGxtWNja0bBRmOkNusAJhYyHRGUdGZwTU1kKaaaC/yf/8QAYxEAAQMBBAQHBg0MDgkFAQAAAQIDBBEABRIhBhMxUQcQFCIyQWEWIEJxkaEVIzAzNlV0gZSxs9HSJCU1QFNiZHOywdPwJjRSY3J1hJOio6S04eMnYGWCg5K1w/E3Q0SlwsT/2gAIAQMBAT8B/wBZmNC7+faS8GGkBYxBK320rod4rkew7Nhzt3E6Qj/4aT/KmPpWvO7JlzuNtT2dU48guNpDiHKoCsOIlBIGYIzzsVqOwUtiXvtVe+1V7zaq95tVe82qvebVXvNqr3ny2qrefLaqt5tzt58tqq3m3O32528+W3O3+e3O3+e3O3/Hbnb/AD252/z2ua7JN7S+RxtXrS0t0a1eFOFuledRW/dbuDvz8C+EH9FbuDv38C+EH9FbuDv7dC+E/wCXbuDv7dC+E/5Vu4S/vucT4Un6Fu4S/wD7lF+FI+jbuFv/AO4xPhaPo27hb/8AuMT4Uj5rdwt/fcovwpH0bdwl+fcovwpH0bdwV+HwIfvyR9C3cDfn7mD8J/y7dwN+boPwk/ordwN9/gPwk/ordwN9/gPwg/ordwV+boXwj/Lt3B37uhfCf8u3cLf37iGf5UPoWOg9/wDWzEV/Kk/Hht3C399wYHilsq+PCbTtFb6gNl52NjbCVrWWVBzVobGJSnMOQFNyj3ui7Tb9/Xe26MSdYtWEioKm2XHEV/3kg+O0dvC1TPJTgGeVNYog5dh37LYfH5TbhHFL3hdt3fFJetW1c+8ratgeKtq2rbO1TbO2dqncLZ9nktU9libaCth6/wBCV4gOSSlcxa21VAR4TZSqmeythdrGdFzM/wAPmn43z5rC746aevkBKkDFKlKyVtrV7M7lHnDqIsiCwjDTW83Z9USD1k51dOLb4VeobALCGwKCjnNVizffOZ21OsqR96eb2W5IxXFhVUbPTXabKdHHh81uSs0pQ05vhueDSnh9WEePwq511Sa1/OfnsG0im3KvWev3/wDx1UsEJGwecn4zbCN1qC1LUFqdlqdlqWpxUtQfr+vVa9ED0PmV2cmer/NqPe6J+yG7fxjv92esnZxcJQ+ul2/fQFD+0q+lYhpJCChRKvCqRXq35Z+OyxgVQbDQ9v8AjY1HV5RbPdX3jbbZCQVc4dR21HzWI5xHaaD9dtqEZEEea1Fbj5Dah20NN9MrBIw7ATSuZ280qoMxupsUa50oKWNEk7gK+9StofB5we6MaL3Hfenki8n5F/clQ2Ii5CWIz01jlSGktQ8K9WwxnIkvLVVXQbzSm0jgMuYabXTAYlzu5yfdd4Xo8yXkqlpcu96G1yRmXgryeQZzDmtUgvISl1AUcSVJg8H/AASaU3hpBozcsa9Id76Pr5PLmJfmAId1qoxdjqkyJDMxtuSgocDjLeLwOacQ4NtBbq0hvvSuHpBylyFo1AluLVEfMVSpEaY4zjKwFcwtRn1YPFnlbR3gYuxjRC9760j1c+8HbpkXrdbMKXIQ3dsf0NdmRNcpBa5RJcxNuOhxvVJCEpRjBWTdugPB7oxoXcelGnyrxmO36mEUpiKkBuMq8GFSmWm2Ii2VqDMZJckyHXFZgpab6KTP4Drg7stHosGTNRo7e0G858qPr9Y+k3aIikMxpS061LEwTWiS4FPNJbcwLqpOCFoNwQaSXvf+iF2XXeES97gGCXMQ/MbwrDojrcivPSpDcnUPqSHA/HQlfghaedbRKCbu01nXcV6w3eb4haymHWclkajWU6serxU6q0teN4puzkrjyax5ElEVavDaU6Dq108JNRRY2gc4VpSzxk918VoPPcmVdq3yyHFakrRrG6lFcNa4Ts29/S1Oq1LUsB3/AGWvk4bqnq3RJHySu90V9kF2fjl/IO2Gzi4SR9cbpO+I75pKfns9kpG8A+UKs0SpSiTUhGR8ZGylhiU25iNaFXmzH/mzalqoQFIQkU8HCd1Ouu23W74wabKnBU1s2pS1885U+LZ5KmyFHGupqU81GWwYv1z96xx4FazbtGzs2U98fPtspSsaRXqNfer/AIeeySrGsE80Yeb1c4Z5e/bPsy3gGnitSta9da+/a7Lw0w4XHdHtD3GYCLsuFyNJenRojjPI4cdkQy7MdL7qXXXGAW2GkpQp+Qa5ISsp9Gbuf4Sbu0fivIelXPope788IVi5IZs65ExozlMg/qY5eW30m0LaKgCu3BIP9LHCin8Kln/79357aD/W3R/h1vzoqQ9e0FtXaPRXL+cmNZeK3ApVXB5wjhSlKOCWmqlFSj+x11IzUTkBkN1rnvDTThZa0e0EKYAum5BBeXMZhFkwIMONyEPzZGtWHVqYUptlkJQqRJIpRIWUuXzdrnCPcOjUR5Lsu5tGr8kTkpKVcl5SbnZiRnqdGQpphTy2zzkNlsqA1gtwYD/TPwn/AMK8f+uMWun/ANS9Iv4y0k/6g5a9VKvvSKFc6P2tdx5ZNO9acKsPvJKGh984vdZ1it/RZNOjdctv3zJY/Mo2ReeC913RJoFOsiVCdGQeb52sZWPuzRSrCR64gZjEM7S74bhXk1DkJwR3mWyiXnq233HHEoaePRSHQj0teXOBByNn33W5cFlGDVyjIDhUklSdS1rRgooDndE1BpttPmiGhgJTrZEt9MWKzXCFvLz5ys8LbaQVuGhNBQCptNkXlAjrmUjS22RrJEdDa2XNUPXCw6XXMSkJqrC4gYgNoNlSnJF38rgFC1OR+URw4k4HOZiShWFQUCro5HJW+0a9Q9cqb0y1hjlRbSk5SQdXycJJrXX0bArXMG0fXalvlGDXFCS6GwQhK6c4JqVHCDkCT22u29RPk3gxgwcmcSY5+7xF81MgfeqdQ4B97htfMx677ukTGNWXGAghLqSpCsTiEUNFJI6Vag2amy0Xm1d8gNOokQly232UKbKC0pCVtuoK3E4TjGrWlQrsItNM1puQ+y8whpmOtwNrYU4tSm0LWqqw6jCk0CQMJ61VzoLreny40Ka87H1clhLzjKI6kLSXEVThdLy60O2qMxaVNfZva64SC3qZqJancSKuJ5MgLGBWIDnYqGoNOq17TfQ6C7LABwKZSVKCihoOupbU+sDnFtkKxkClaUqLRtcQVqktSmXEoWw42hKMiDizQSlaDzSg5EZg128WkPNuW8z+BSPk1DvdFvZBdfuj421iw4uEsUl3Qr94leZ1k2WgrKVIzHxCta9tlEa2n3p97nCg8mduil2vhFdP94UHv9likkop0Ad/iw/n/wDNLeE74k+ds2Z6Y/gkWSmjigrIKrT/AJq21eHEVE1rlzyR746/FX3qWX66j+Cv89k5PL/4fxDirlXsra4Lgv7Rzgzu+NoLFhHSa+o0SbOvCY62xqlzo+udlpLiSl16I2pqLBZV6U1XXlKilQXwX6K6Q6E8IDLmlaoyZOkt0X0iI6LwROemzI793y5Otc6RfWgqdGIlTtF06NtBNDL40e0+070jvDkqbtvx9xy7ltyAtxbb14LnLW83QcmDLZCV6w9KpTVPOtIebh8DWnc1lYUjSPTi8UsuJNUvR3L6jtIUk9aS3FcpSoINuBI/sD4Rga0wSdn8QSLaKaPX7o9wV3azoNGhDSe/YcK8Jl4TnEs6pU9jXLkpUptYedgsKajQWV+lNKKpGFRCkr4N9EdIdBuES7pGlr0TX6S3ff0eI8m8eWvTJ7fI5b4ecWlCi+6iq0VK1uqBAztoboPe9wcImnGlE1UQXVfZeN3lt/E9hkTm5qzIbKUiOGEtlCytVCc01Rna4n2pPCLfklhYcZkTdIXmXE5pcacnKU2tJ60rSQoHYQa2THcujSaTeDyVG771bKOVBJUiK96WQh8j1tBUjJZGCihmKGxwFSX6pyQUhVRTAopUTirSnNGdaWcZevjSeJNjJV6H3UnCqWahuQ6CtSm45NNaMSwgqTVFAo12V6rONMS7xnxZLYcYdu6IhSFJOFRD0kqAXSmsQFJVkcSapVaHGvCHeUOE9ilQWEy3IM5WbiUFjByST++N1Grc8NA7KC/I8hRu2fGbL67rmcoXHT03mFJ1bwbHW4kc5KfCzAztLvBqVBfbh45EmQytlpjVuJWFvJKPTwtKdQhGKrinMIABpU0Fruh8hgQ4dcRjR22ireoDnEdmKtOy0SA+zekqJq/rYJKb4aPg690EcmHVRuSlUmm9KN9r0eW3FUhquvkqTGaISpWrL5DanjQGiWUFS6nKqRaRFcumddc1tb8hkJ9C5KQykluKpOJl0pjtgkNOJqpSgaA+O2kgU5cktDaVuqd1KUJaSpa1enNqOEJBOSQVbNgsEu3ZORK+qJt3zWWmXHCFvyLvW3XVnYXVQ3KnWAAlp2q+u15K+ts0oBWVRHwhKUqUVlbSgkBI51SSKZWuUFN03chSVJU3EYbWlSShSFpQApKkqAIIPZacFd0FyrwOFtli8NY4G1lttTqEBoLWBhBXQ0qbTHGWmgH2lOsPK1DoDSnkhC0qzdQlKjqsglRwmmIVtcUQw1Xg2xrU3WX0Ku9t4LBRVH1TqkuALEfW0DeIDFQkVGZtpQrDcV6H8EdHlSe90Z+z91+6k+cEcfCaPTbnP3kwf0o5t75z3Ej4rD9f/O21PGfGSfjtTx+U08lvL5T+p4vfPltT3/GTY+/5Tb3z5TxVs1pnpcw2201pPf7TbKEttNt3pMShttCcCEISHaJSlICQAMhkLTdIL9vJcZ28L6vWa7DUXIbsqfKeciLVhJXGWtwrZWShNVNFJ5ozytL0x0tnxVQpuk1+yoi04VxnrzlLaWnZgcTrfTEEZFK8QIyINlXneRgIusz5irsbc1rd3GS8YKHaqVrURcepS5iUo4gitVKPXaJe97Xew/HgXnPhR5eUtiJLkR2ZIKC2de20tKXatkt88HmEp6Js1pXpOw22wzpJfrTLKEtNMtXtOQ222gBKG20JfCUIQkBKUpASkAAZWmX3fN5KZVeF7XnOVGVrIypc+VIVGWcNXGFOuqLKzhTz28KuanPIWk6VaTy4xhS9Ir9kxFJwKjPXrNcZWjZhWhT1Fp6ildQesG2gHsiR7il/E3xBtFCnAnCfBwjD5KUtTqHV5LbOv1M228XXx6WH6w3l7nI73Rv7PXV7tZ85px8Jg+w57Zo/uxthGe0EYesVNSB0fB21FTaiaOAVqCACfGdwy8vktQVw4vCCdoJ3HIbPfNgAcG3nLwdXZns7dnntQClSKkE9IdtBh2nZv97Kxw55f+2g7c68zrp176b8uq1BtOzm+EE9IV2kfmz7LKoBtJzVTdlTPrrt2e/W231AWPFW3B/7Ike4pfxN8Xi4h2228dbZd6O8rx6YGlwT+1sDyqHe6PfZy6fd8bzuDj4TB6Vc5/fpo/q2D+axx1zO0DdsyIrln47Z559LpdvXap/dHzbRs8dO22fUejz+qg2c7zCwJp0t/n257c7VPRrkQBTs3eXZap6juHV7wzyy7bV3k7/97fav+Px2J4ve788WgHsiR7il/E3YeoCv69XFzuz1LTQ0uCb/AMIe+XB3tw/Zu6f4wifLI4+Ez9rXSd0mSPKyj5rHMZUrRvrHUmhHz2qKjoU1vZ0Ob/R22BFM6VxLpsHgjDXqpXZW1dvRBw51KTXPKtE7af49VqDPNJyTTogbU1oNuytanxjZauZ2c11OHZkmqq+9stXoVwnnnEebsqnI9VP8bVHNGVMKq7NtV7Tv2UtSnELbLC1bbeLqt22rxaAeyJv3FL+Juw9R6vU9NjS4ZefW18qnvbkyvi6v4xh/3hvj4Sh9Q3Yd013zx1fNaneDxcW+1LfPx5cXi4hbIW2cegB/ZG37imfE3Ycdc9hzrn1Dx59fVt7e8PFstUd5299pyfrDI/GMfKo726DS9bsP+0If94b4+EgfWu7zuvA+eM783e7LV4t3HTi2cXZ3vbbQH2Rt+4pn5KLD1L9fHYcY70207+wTv46P8sjvbr+yd3e7on94bsNnFwjD6zxDuvFHnYf7zK2zt4xY2Hf0tTj0A9kTXuKZ8SLDv6WpagytmPF3p73T40uUj90+z5lA97d2V4QTumRvlkcRtwi/YNnsvFjztSB3lLb7DvB6gRxUtoD7Im/ccz4kWLjbZbQtxCVvEpaSpQCnFBOIpQk9IhIqQOq22xdaTkVpzWGgMQzcOYb29MjPDtpxUshbaytKVAqQQlwA5pVhCwFbjhIV4iLZbfP4rJUhaUuIVjQoBSVDYUnMEdm6yFoWV4FBWBZbXQ9FaaEpO5QxA07R3hUkFKSoBS8WBJOasIqrCOvCMzTYNvqHCB9iE+6W+9hZTIh/CWPlU2HFwhD6wDsnxfieHfHiFj6kOLQH2Rte45n5KLTm5s2RJeiMNucgCGojjjxaUmYytEp9TaNUvHio1HJxIrRxFaFVnJD8lu8J7MiU2lhuE9EZSohAK2G3FhTdPTMSiUONrxAc6gSrOycTEmWG3X9Yq+4+tQpa1UZcjJUFBKq0Qs1TiG0NpRXmWiNSHfQsuzJ55bHlLlDXOJzbwFoc2mpw4si3q1LHTK+t6bIMRFZEhEpq7i6gqfdZ1rwW8ErbaYZUqZIo0kOocOqSCklPpiiHZGFTpKnEIkzmlaxLyorKwLqjLAdkNoLoStXraWsOscGErCQQbvXJl6jWSZWFmJMWpKVup1jzM5SGA6pSUuqwNBPNXhW4KF2tc5MyQmO2dbJRKau+E6MT76MS1I1jrjUdlv6pO1MhT5UhGwoSkKJu8kIvFzCs/V0pxFBVS06popwVyVipzeomzcuUSsxXJClvXc6qmtkSneUJcjKUTrG0MNzW2Fv0YYSkBScOEgIq4+vHLTdsiYtpMSGpZdVLUGwqYtMp1krSt/FqAdaWwpTZrgAWmgi8pfUw3yh8xFziPSHZZGrTBeU43yt2jrjKng2rmqohZU2ldeaGmiJ13KeMopYl3pHZUtyQaJx0jBw1osEVCVu1xoASpSgAPUOEM/WxjtlJH9FR72L+2Y/49n5RPHwgCujrnZNhn+mofn9Sp6noD7I2/ccz8lNpN4IiPxmS2pevUNY4KYYyFOJZbdd3pcfWloU++Uckmy58Jp3UuyWUO4kJ1ZUAQXKYAoeDjqMBVTETQZ2RekZ5biGykliWmI5jVq+cU4sSKjnZ1SEZFRSrqpX0Xu7P6sYVlXmqJqK05gAOPCengxYfCpZd4wGtWVyWgHUhxs4sQLasg5VNcLZ2Y1YU9uRp6Ix0GTrlBlLEhMZJJKi6osNv8xCAVE0c6KQrJJVs2G8oNEUlMkvpxMjFUujZVIAJoFZLPgUOOlLeicNIY1r7SHHW2nAkEuJAepgJcCQEtuH1tbmrDnULKvS70LLapbQWlZbI52TiRXV4gnDrCOi3XGrwUm0q8oS46iVIfjqZlawBa0O0jgY0obCNZjBNFV1a28jn1QJ13JfS21rg9KhpmLfkLdWrVoqdWtx3ooRiWraEVKiecqpXesfV42FpfIeitKTz2yEyn0tIdGNAKkc4qQtIKF0oFeo8In2OiD8K/wC2vvWMn2fxrf5Y49PRXRyT2SIZ/rgO+Hq+gPsja9xzPyUWfuczVznJEh5syMLLKWHaIRGaT6SVjD64XVOumhoMQFTS3odLcjXgH9SZM1uIMdap1jLKG1knBUJxBRRlWh8djAkl1z1rV+ibM5CsZxFCWEtONlGHmqSUApoohQPg0ziXctr0Kx6o8ijyW3aeEt4NUKObn0DUmh2Wcui8VRjFSpkpVB5MDyhxlLb1XypTgbaxyEKDiQhJWEI9Mqjnkld3z8WJGqIckh51kPKZUU8ijx6JkpaUpGBxpZUGwnWIKecM02u+6X4+b+oxJiSoySlS15vS3JCVVWnHQpUnFiqrEnadtn7ovFccxgphSeRw2Wzyh5hDa4zbYcC22mvqjWrRVC3llKEkDV83nJu5yicWqqL39EDtPpdScHRzXs7MtuyyroeW865rGgla7xUOlVIloYQ1lTajVHF71LLuqS82lt1bCAu6l3e8W1OEoX4DrfMTjSrwwdWodRV1t3Q+Tjc1SHAYSR9VTJZU3HlIkuc+Rk2leD0tpKDhV0nDs9R4Rv2jD91f9p3vW/XG/wCGn4xYbOLToV0andi4h/tLf2roD7I2vccz8hNh3lbV4q+q8I5+pIA/ClfJOd6npDxiyKFKe0Di02FdGry7Exz5JTP2roD7I2vckz8hNh3vxW81qWHqnCOfSYA/flfJnvmfWmz94n8mxtpiK6NXr+JbPkkM/augPsjZ9yTPyE2HGfH47Ut+vl4uriNga7e9/P3vCP63d/4x3zIHz99GzjsfiW/yRaltLRXRu9/chPkWg/augPskZ9yTPyE8VLUsK2ItStqd9n3p4+Ec5XcPv3vMlHz99CNYcU747J/q08WlA/Y9fA/AXT5KH832roD7I2fckv8AIT6hTvB6gbcI/Su5PbIPmZ767TW74J3xI5/qk8WkYrcV8D/Z8n5Mn7V0B9kbPuSX+QmyeLLePKO8y4sq0qK7uum+m62QFaim+uXltXZszNM8s9w7ezvNnenZbhH9cuzxSv8A+fvrnOK6rtO+DG+RRxX6nFc16/xdM+QX9q6AeyRn3LL+TFpTCH5riY63FTUyYq1zFOYG7ubb1a+TNUPPW82CSwlJxF/FIXTCkmU47fUFTjcxkY5rDLKmH0N4EoA1yjh1alOqTjSsKIQ1hTzarKr8iRnG4zrjLS3DeF3M41IGItqlthTeLbhUFEFOwgm14zl3fr0QVIabgMtOKjoZYS0C6tSqPOPOIVhWlJwIioxg1JJKgmyZMiMb0kMy2zqr2CeQlCFF7WJjJwVqXUuuYvSNXQVpiDmy11rSGnUlacarwvQpSVDEoJmu4sIrU4ajFTo1Fr0bjyJDzCaOTXGGkBx5wJZutBK8Ehs5LTIWqq0pbqtwtp1im2wFWfCKT3VqT6JtXtDaiqKvqgJrDDCGh0tU6hTqlpSMDgU8VVoqjjXLYl4S1uOt69DiWVMOKaVyaMlaUUUKEIeXrXsiKpcTXZZ0xOSXSl5CZT5u5Ijw3XEJjZssJclP6yoGqyQldHF+mKDTalqyWzGbTJYvB1t/ktxx+SOuLrn9Va16MVEnWBaWEBaSXU0ZGKpFX3pbcC7cLmqkvuXey8taErUNaE6/mqyxnnUOdFZ0OyyZU9CsSpusS1fCbvwKYYTrWF4aqcKUJOuTj5qm9WnmirZqomHeLzz91VnpWucuRyqCGmhybVx3nNWkhIeb1LiUtua1SlOKz5vR4qbbUsLHi4SPX7rH3ko+eP32jywu5brNRXkUfzIA/NxXtzrsvJO+BMH9ncsNg+1NAPZIz7ll/Jixgwlu69USMXSoL1pZbK8QpReKmLFkKGvULFKCUqKUlSa4VUFU16WE9Veum2ykoXTElKqEKFQDRSc0qz2FJzB2g5izkWK8rG7HYdXhwY3GkLVgNaoqpJOE1OWzO3JYuMOcnY1iei5qm8YypkvDUZZZHZYNNAhQbbBTjwqCE1TrDVyhpljIBXTpHM1s5EiOq1jsaO4vLnuMtrVls5xSTl1WLLBWHSy0XUjClwoRrAnMYQumIDMigPXYJSE4QAEgYQjCAnDSmEDZSnVusuNGdw6xhheAUTjbQrCNyajIZbBllYxo51YLLKgzm1VtB1VKet83mbB0d1uaaYgDTMVFaEdY7e22Fv8AcJ6WPojp/utnS++22Zu1lqQJCn3nlNlwta0t8xTowqWpaWkOvrwVbQp9bhQhSgNpNqjeLVTvFsuy1RvsVDstUW4Q30Oy4CUnnNtyMacsScSmqVTtAIFU12jvoOkd83c1qIk1aGR0W1oaeCOxGuQvAPvU0HZbu00k9sP7NF/Q2XphpC4lSFz6pWkoUOTReclQoQfSesWwi2BO62BO62BO62BO62FO62BO62BO62BO62FO62BO62BO62BO62FO62FO4WwJ3WwJ3WwJ3WwJ3Wwp3WiS5MB7Xw3lR3glSQ4jpYVdIZ1227p9IPbWV/zD6Nu6jSD22l/84+a3dPpB7bTP5z/C3dNf/ttM/nLd0t/+203+eNu6W/8A22nfz6rd0l/e2874Qv57d0d/e28/4Q589u6K/fbe8PhLv0rd0N++294/C3vpW7oL89t7x+Fv/Tt6P337b3j8Mf8Ap29Hb69trx+GyP0lvRu+fbW8fhkj9Jb0Zvf21vH4bI/SW9GL39tLx+Gyf0lvRe9vbS8fhsn9Jb0XvX2zvD4bJ/SW9FbzO28Z5/lcj9JY3hPO2dMPjkvH/wDdiSokqJJO0k1J8Z/1o//EAG0RAAEDAgMCBgkKDggRDAMAAAIBAwQFEQAGEhMhBxAUIjFBCCAyUVJhkZKhFSMwN3GBlbHB0RYXGCQlM0JDU1ZydcLUJmKUorKztNM0NkBGVWNlZnR2haOkpcTS8ERFYGRzgoS1w9Xh4lST8f/aAAgBAgEBPwH/AKTT+Hvgzp016C/WJTjkd0mXXI1Lmvs6gWxaHEbRHBRU7oeavSKkiouA4f8AgnVP6YnUXvlR6qn+zrjKecMt53iSZ+W56zokOSkSQ8USTG0yFaR7ZoMltsi9bIVVRTTv6b4EWE6d/vLi0fvJ5FxaP3k8i4tH7yeTH1v4Kebj1jwU83HrHgj5mLseAnm4ux4Cebi7HgJ5uLs+APmYuz4A+Zi7PgD5iY1NeCnmY1NeCnmJjU14I+YmNbfgp5qY1teCnmpjW34P71Ma2+9+9xnfONFyPRPV6t8pSCMuPDXkcdJD21lI4rfrauNJpsyeote7ost0wvZM8GSfdZg+CGvlnJj6prgx8LMKf5JY/wDcMfVN8GH4TMHwQ3+v4+qa4L+t2vp7tID5J1/RhOyX4LV/5ZWk/wAjr8klcJ2SnBZ/ZGr/AAM98j2PqlOCz+yNY+BXv53H1SnBZ/ZGr/Ar387heyV4Leqo1j4Fc/nsfVLcF/8A+fWV/wAjH8r+F7Jngy6pVdX3KQnyy0x9U3wZ/hq/8Et/r2PqnODT8JmD4KZ/X8fVOcGvh5h+Cmf1/H1TvBr4WYfgtn/3DH1TXBn+FzB8Ft/r2E7JjgyXper6e7Sh+SauE7JTguLupdbH8qkL8klcD2R3BUv/ADlVx/yO78jq4+qL4LF6KxUf+/RZg+kNp8WKBw08HeY5vqfBrgtyTcjMMJNZdhpLkS3diyxG24g445rVBK7YCKknO7XhfmyoHBzmaREMm3eTRmFcElAxalT4sZ/Sqb7ky6Ye4S4q8tJUx55EAlc2REWhdWoYzLRjvRB3G2pKoCiKSqoko2xf8lL/ALQb+XTfHYrFqyHXBW3reanU3CIrzqVTi36UTV171utt17JjTiyYti2LYtiyYti2LcVsWxbxri2LeNfLi3jXy4t41xbxr5cafGuOyNlvQODKS9H2KmVbo7SpJixprWguVEvrEtp5nVdtOcoahS+lUvgs31ctN2aBzN6fsVyyN7XVNWmkopb1vvuira97YdzTVndaEVMFXHmpCo1QqEwu0ZRUDTsaaCiFlXU0Fmj3bQCsmHcx1V7bbRyEu3vtF9SKOJbxEV0EMBCa3An2pQ616TPUVfqRK4ZORbuti0VqZTB5opZNKBCRGzt98BBcXpUlXHq5Utgcfas7I0RDTkMDUtiU09c5LtLoSrvQr/c307sLWJynrV5rXd5dSRIYr9cbTa9zHS2ranbwbpo06Rsrzihs+boQ9pbZNd1pQb6tGpdyJuVbddr4J0y1KujnKBLZpoU9bTSPcgnV027td5ai34ccV3TrUV0302ER7pbr3Ij19F+joTciYsnxr5enGgfBTGzBPuUxoHwUxoDwUxoDwUxpDwUxoDwUxoDwUwgB4KYGydHve/0//OMnqqZoy+TfNMavT9Kp0ivKm03eXd2vDT7WOa/FFhL5KrAXDi84vdxfHYqPaMk5pXpRrMYu261+xLG739nbActKOss5INpv9bFsPuUQjQbtmultCRNZuCpr3KdSNrqZFxbJe9+pLitl9xOv38CQn3BCVvBJC+JVwpAm5TFC8FSRF8l74unRdLr0JdLr7ideJDlhHZuoiq5pVR0Gu4SVU36k6bX3XTG5E7pLII6lUk3LpS+pehPR72BMDS4GBInSokhInuqi7sbRtLLtG+ctkXaDZV7yLfeviTGsNWjWGu19GpNdu/pvq9GN+pN5b1tusiDz1HnXEtSrZStdN1hROk8Dv0+PBV7M1aqlSh0Io0Nim7b7aDJOP7FzZJcngf5zxbwFBaBtNxlu1q3n2oLl+TIJtj1TZlsRBd2fremQ3IdR0mdwbQUimPQLdzAlaXSQlJredKKxTKpNnxpcWpoBhGVpgkETFtwRc2cZgh1A595cVR61Rd2M0VybAhUhymEDUiqSG0TaNg9Zo2RLTY7pdHHWt6b1S6br4qmc5516BT4CPQ4qS24r5PNMqU1eUo06VjBzZtJpVG9mYmuotdi0oL1ezJW6/UKRQXo8BunLITU6DRK7yV5GDUjeafX1xwk2aCICIqmvoI8Rs91P1Dqbj4sFUYT8SO0/sxQfrnb6icaD1ojaSMWlUERVXQ1tloXXIrGc6VBptckVVqTEqSioRjaYJB2iK42jgDFa3E3v9Ye1Im5SAsdkg/ynggGVp0coq+XpGm99O2YlO6b9dtVr9dsZTyo9nBa5DgOqFUplHerMRkhvHnNQzBJcMj7piQYOCcR3nNEYEy4I6xcGn+pZcA1blrAglVmc3Rae3UCiMLPBiUUKWjYylBXhHSjo6EPuVIehVTF8XxfF8XxfF8XxfF8alxfF8X7QVxkJtHs5ZYa8Ot00f9La7Xhm38GObv8AAGF8lQhr8mHOni7FY/2G51HwavHPzqW5b+BiOiOU9sCS4mbwkl+lCBm6XxUEBW4jAtoDKPHcEUlQl0EfO1KuqxWVEXm3RN27GybbqKsNDoEW9yqV1VVB3r0p0q2habWG9kvbBhGjNqyqtypzrgkaoDl2hLnGThFuS9106780UFscKyByYaKv22K2inZCUE2piqh3lt6cSW47Qs7JlG9K7Eblq0iWt0t9h3qSJeyIlurExplOTNI2gghE6aXVdo5oDnH1LbpFLWRbL02wPJTkO8nFBb2TybkNL6QcXfr3l0CS9SrvsnQgtMJFFzYipqYgh+CPrXcp3KXUiUt11W3RbeTLQLF0NohOWccNVUjI7t71VVXovZLWRBFE6sKiXW/f8IxRenpQSRF99L23Lu3Yvvv1/wDHoxUEomTo0+qtiYzJwug20T2pZL5rtOaNk0tgek3XN+keal3DETKmyomUjnyBJsahWIXJxNLETLESoXe/JMnbCvXpLGcv6VcpL/aonphMfNit6pdVyDCToFuJJcT9qSxN/uaYx4zyq/RLlj/tI/uf0diojQcn8vrqNkM6YsgRBXiIpb77qPkIAu4AR1BNxyyo0G5LkQgY06azlWo1SUBNhUajASNrTSriNBOJx23gKpiIEiWJUPfzcZp/pFyn/wCB/kB47IX2lIX+HZX/AJI/jJIBwe8FWYc/Pp9mM1tFQ6CC9IR3Cejtn+S48Emc532YTA/d4h1HRwYV2k6vtmdKBJRP2vqRVNS+dGDD2UEmZFYzzSNSswZpUfM1PJVNYMtNnyWpxT7rkM1t5jbMncosk10GTBIjWKNkKVmLKM2v0h5JFVp1Qltu0K48pnUuJEhvyJtOD7Y+9BOUnKmE1KTJgTdnB0uUqmwJdCzNUZHKeVUVqlHEFp5sGHSqNQSCSSANg3LMJ66OzcBTLmFZN+MsZdLMD9RcdkLCpNDpkis1ueLW2ONBj2FAjs6gR6ZMfNuNEbIwDaHrcNGwLGXafk/MlVjUEvVigSqk4kWlVaRNi1OKk5zdFaqsMIMMm2ZDmhpXoT92XDTmOBvw1So1KzQtCzWMhhiHVvUurHCeAHoiDI2LstknWXm3QbFdugmCbRrrFcVXJiwOER3JgqfJgqjbTcl11OdRjbGZ6qG+LSAgJTdcwzFrQOghRFRMVIqfy6X6lJISmC+6kJZZi7KOMJkjLz6ttsgjrraI4TYNoLaloS9r4zZkwst0jLFTR/lPqtFfZqwot0plfjEL71KO3cuMwJUNTArlthkdW5MgUOBmbNlJoNS5SMWpOPtG7DeFp9jZRH5KGG0aeArqzoISDuSVUVFRMTKHQ5OUJ2Z6UU+DIpWYo9CmU2fJZnMywmsPvxpcCS3GiOi62jB8qjutmgj64Dlt2MvN5dmSaVTKhT6pIm1CqsQ3JUWqtQmGGJchiOzs45U+WTzjepx0zN1sSuLaDzVNc4Qcs0SrZioFPg1UZdIqjsCJUZNVZksvjFkbN8n4Q06OoE63q2atyCRs0S4ki7qHQaXNyXnHMEluUs/L71EahbOVs47vqtJcYPlDOxIiWOga29m63qVbOXTGSsvhmnMUOiuOmHKGZ74ttE23ImOw4T8tqnRnHUJtuROcaGO24YmjetT0GooK1fkAbNhqjS6JUor0pipw5Et+UlwVrYWGU22/Hfb9eCQ2WoD9bcb0IqjhMcFzaO8IOUAte9dp62/JkNl6Ldrwxe1lnD81382THX5MFxdifz8uZ4Z8Ko0y3uuQZ4fo4bkI3AVgkPaIjmkUFb3cAQsXgqJD0rbdvwTKtwoa6ETVIdO6Ja4KyjSH+SriEI9W5bYA9vVFeBC0I1dVJLb223iIrb+YmpEVei+5MMmDUEwQV5S6QEZ6NblroTqqSouzuaKrpbi0og303FUX66pv+DD6HzxNT1sfE6l/McTyb8SXEe2LoXUAJRK4qm/Zhfp6U6lXoutr45U4+6821oFjYvXLkwCdtDl012HSOnQGq3SttSrjdyIO8hh/6GHV/oJf2iehW8F0r7q46V9GJVVps/NkuVmFZBwILjrMOKAa215M7s2gJLjZs01SHLLdw1UVVBVNOa6vCzJl531IF9waXNhuyBJjZI2y6zMZb0CKkmkSFBslkG4paypiuVyJVqHl2lRBeKXCFgH0UNyG2y2xYVRVUtaoRDu3J3Vl3YaacdzvRW3LitKobAON+A4MJ8lRf+9Ib8iYzwl8w5Y/7Rn+WYqVTgTc4S36/wApep1OdejxYzAoQqUV7ZCKipt2bcJHH3VRdZlzL6dKt5lrELMuW5gUlmSqU1+E8+BsA3ojkMloNmLbjnNBbIqWTQPivasV2LU8t5fo0ZuRyuATKPagHTdhpY6adJES69WpNyWRN9sdkS0bPAxGacHS41UcstuCvSJhGkCQr40JFRfHgqlGz3wRUrK1PeaHNWTZIvpRXHAaerNOaSU2r1LQyFJkkGJKEcVtVka2HEFstq3e8sW3KbsnUVyUy6UdW3Ee5QwD7QBsNO012kGmnTqvutiNNhZA4Hq9l2sPMlmrOzput0ETFyVS4bjcZhqTVGwUkhGjLJyEYf0yNqbDehCFzRiPMqdEyhlit0qUcKowM3V6Sy+w6HKGBcp1FbaccZ1a+SySYfYXahsJCC40uroxXKvlfMOUcyZjgC1Rsz1M6DEzJl1pBCHIkt1TlK1+joq3GPKUVSbFBC5PILUthPW7wb1alsDmzLVZltUyJnPL5Uliqv3SNAqbDvKaecwkurcN531p522lpVAj5l1SiZXn0fMdMl5hWPSaTSqjEqE6qrNhyIrkaC+Em1MKM+6tTfl7JGobUNHCcNwVPZghkOa639E2Za9X9krI1epypgMFvVphwtLDZW3akZEEPq16rbsVrMlNnZMote5Rqzk5RnuD+a3u2qU2CbbhVhxb60clUh1qjgduej8qxXaVMZPgMS6y1Kmo0tNo7b1YnNuvNNcrGmtFKYprSOmO2fqMhtmILTaGatuOFawLilVqLnXLedcuzI9MpFQee+jWkPHPkA3Kr7TuzqERHqrNdBtyoRHtmyyyTaGQ7xXSOngmJuJwhUOTMejw2IJVB2S/MfZjsM/Y6Y0KOOvGLfOeMG0TVziJETClCzbl2RRnCpWX80ZdnzqjDiNlGpVIzPGlqPKm7awgN5hiI23yR5TFJ0L63EtQ4yo0gZsy8L5AwLFdpjklx51ppphqPNZcfN10zRoQaACIiU9Nk3Xxn9wXc7ZqktuNPsS67UZUeQw62+zIjvSDNp5txozAgMN6Khe7bGXnGk4Ms/x1kxQmT6llgocRyVHblSmYEh52Y5HjuOi66EdDFTURXrtey4ocKZMlkVOmNQ6jBY9UIJHNap7rsiM8zZqHJfdYAZiCZSGQ2gk5sSEbluxwi1sa6xlaTUlhPZxbpspjNEqAbDgv6JSDR+XORFKKVU5GhFLRgjRtDbA9JethjgeDacJWT0/uzGLzF1fEna8LyX4NM5/mV9fNNsvkwvF2JLn2Ozw33pdBc85qqD8mEXxCv5QAXk1IuCUjXUS6l8fi6PFZOpOhO9jWSIopYULukERDVbwtKIq+/hDJEVEsiL3XNG5eIltdU8SrZetMbQ76r861r6R3J3k3bvewi234UyW1+ro3CnoRLeXCmSppvzfBQRFF91BRL+/jUq26Ob3PNGye9a3oxrK977+joHo8W7d73GtOpxKqlT4BKS3IihxlVVVbqqqrV1VV3qq4bjRmUJGY0ZkXNzgtMNNi4m/cYgCIab13FfpXDdPp7Lm2ZgQmXfwjUSO24i99DFtCRfGi42TW0V5GmtsqaVe2YbZR8FXdOtR3JuUrbk72DYYcITcYZdMO4Nxltww335hGKqG/fzVTfvwsKES3KFCIlVSUiiRyJSXeqqStqqqq9KrvXrw2xHZ1bGPHZ193sWGmtf5egB1JvXcV+lcBChNntW4UNtzp2jcVgHL99DFtCRfHfHZN+1XI/wAYKL8UzC9/vb08Sp0KneVO/wBWFkyVcR5ZMjbClhe27u2RO8juraInuF0Y769ardVXepL1qq9Kr416eKydPX3/AJMe97nv8SAN9wonvYtxWT3cWRcW8SWxZOi2LJ0YsnViyYsnWmLe8nFwJBr4TMrftZ2rzWz7XhYTVwbZ0T+4E5fNb1fJguLsRy5mem+v9jp/+bjhDPSp7iTYyHRXQYtespq0g6Spt924iBtB1IulVFEIl1tnqcNLDHccIGwW19bFkQicTUSatKmoIm89ArcVwqvICmo/ehcS7bjQIpKHM1Eqk5uPuhEVXSS6NNsHrDb88CRi33sk16tXVtV0ImhedciW48wbFj11XCRAXQj5M/ay081UAnCeUkEedewaV5ibzRSsgIa7G7nO+u1IlG6JYnBTm7TnElrIhEgilt+5VVCcJUEUW+gyJRZJy+l1WkRAQ003VFVVUi0pZEQr3QdaquqwoKBzbXNScBStfVYUC29ecV+bpTeqeydk17Vcj/GCi/FMwXRhe073Hu9hvx8BA6+E3Ln7V2QfuaY7na8KSX4Oc7f4tVVfNiuF8mFwmOxHJeVZ7H/quXy99JFUT9LAgzpTQ2OlRMEXndwupogHfuHco2Gw81OnSll3lqUUVURUTxIVuro6k6bpuTGgE+9jvsm+63G6LpS6rpFVRFVA06rJe9kwSpvQhRVeNBVNKqrhb7BYd9ral8SalXdiyalNQFS1arrfuvCQb6Lp1KoqqbrdCY5oJfSI21863h92vx+Ve/ghHoILoN93PTpVVLuFQt6qt068WSyjoFEXcoomlLImhB3dCIm5ETHo8SdCeJPZOya9qqT+f6L/ALZg/Yff9j7H0NfCbRevS1MLyRnO14Sx1cHmd0/vWrfop764XCY7Egvsnnce/TKOfmzZKf8AqYb5qBdD+0OIIoJFzuXOruQUXnEC83rUejCtkjLhKJ7VI8PZ84+a5sDI7Ii2VxTtruhe533G9JuCKKLSOx9S3dLm3kbVLoSnvQG9ppJFsq9Gq+ED7UelVsb6jcDFEFGF6EV0lUVO6XLmrfZju1XsSitgcFSYeVdzpFtNGsUN0lQVPp5oAIhawXRLq40lnhQVtsEVd7iqriGNrrqvtF39C77dzbdgxvygkErrYGe7TSKj0il7613XIrkl16CVcaN5LZdayisty3BrAbCl7IGm97J39+7F7799t/Sip0Lbr6u8vQvV7J2TPtVSvz/Rf9rwXHbjt7N2O6X4SqXu6I05fc+tz9Ha8IQ6sh50H+9av/8AlcpcLhMdiSX2eziHhUKCXmVIE/TxfF+Pf/UHZM+1XK/P1F+OVgr8V8IlxItQoo6eaqrrPUq9xuVF0WudyGyLu1cd/ZOrCY7HBL8JELxQKh731uS/J2ueU1ZKzgPfyvX0/wBVS8KuEx2JpWzTmkPCy2C+bVYX+9xrjpTG/FvZ+yZ9qqX+fqL8crBcXyYvxp7N2NQ34RGV71OqH8mPtc5Jqyhmoe/luuJ5aZKwuEx2KB2ztXw8PKr6+ZVaX8+N/GmF4l9ktxdkz7VUv8/UX45WCwvGi26kXcqb77rpa+5elOlPSi8SYvi/b37ROnHYxtqWe3i6m6XKXygoe93V/et2uak1ZXzIPhUGsJ5afITj7FQ7cINUD8JlOoL5lRpK8XTjdxJxqnsvZNe1VL8Veon8KSny4bhTZLMyTGiyH49OaB+e800bjcNlxwWG3pJiiiy2bxC0JmqIpqgpv4giS3NStxnzQIrk4lRo7JCZLQ7Muqb4zZ803RuCEije6KmL4vh1mQwEZ59lxtuY0T8VwxsEhkHnI5OtL90Avsusqv4Rsk6sJvVETpVURPGqrZE9/Ehl6JIeiyWyYkR3DZfZc3ONPNlpcbNOowJFRfHh6NIjbBX2TZSVGCZGU0tt4rpGLchvvtmTRiJd8FxfGrGrAMvONOvg24bMfZbd0RVW2duSgztTTmhtTRQb1KmskVBv26Y7F5P2aVBe9SnfSva5jTVl+uj4VGqaeWE+nFfHYslbhKkJ4eVqunkfp52/e397CcSYX4+O/H0+x9kz7VM38+0T+HIxlqVl7LtKosOuVSZDLMzsmoV2HFpozWpOX58aTQ6XHmSOXR1i7IXJ9YEFYkKCuxJGjU2CYiUuDSJ2UcsT6XQpR1Cbmem1+e+w0/LkNxapLhw3I81TvB2bIBJhyY2ydLU2pOONIIYln6o0Kiuy4VNSLH4MK5yOUxFjML6qwqo+CtK62qEUmO2Tb+wPoeluyRFVkkuK9Pp0D6OeQ0LKw/Q9VaEzQi9Soj6tBN5S3PM9prGo7dGRIklJIZjGuuMDHMtTqDShr76tUukv0aXm8IUtpmm0+oJBp5wqW67HmzapObj5fpJuTXzguwWznPGLgA+ixmGsRqYpMQBajxZEqjZYqDQQTp8auVNozzzWY6lT6VOlMQXJEdlPrt+fthhxHVkAwThA4OaWqVQwqvI6PRdtUq9l1lh12PBkrDp9Qys1JqZU9thx2Eyj88nvXY+0YhPo4kJWlQCGlUOmFWXwSBSJVFqGbczQZGxp9HfCPFZkLEgxalVqlME6S1vFykMUWOEiQho6kh1wmwbzGAm7lCKrjIKOVqHDfJxz1uO7y2eDqSSbVSa2Knd/7sAuVr2xKo9GHZBWoVMYjU7OFOjo/wAjotIgLSnoVVba2SwJkipyctzKmzTQcqNWkOuG05tdq2RyFSFTmSi0F3ONLoEWoO13MbUcKdHoMcpTsfLjT9EhTxiOtUtWFqRosBqa401JRWuVGTDiEVUdp1PjVGYtKhM1+PlcSJKrDy7tVlOZmpzESaVFpm0psWpMwCkiiK0rkmKjcmRH07zlT1KgZsZgBRhdqWXMi1eeyxEpLam+4yXq29GbUB2JtrsnnY0HSUSQZvsMsuGa9pfF+JMdiwN811kvApPxvIna1tNVGqw+FTJ6eWK6mCwmOxeK3Cg2nh5frY/5po/0cdHGvHb2NePsmvaonfnyifxj+KNlaRXKbWKi3LajrTmy5FFcAyerUxiI/UZcCGorYXotLivzTU7iqI0wibR4MRctZgnQvVKHR50mBsn3hlNtamnG4mrlSsb0J/k2zNXgYEzbEFMhQN+JmTqpT4sObObcbZqOXn8wxSYZ5TZth7ZbGVodTk46dm+5L57TTchlLEamIfQNm/m3y9UATXsruA00LRqOsUkE46IxEdDeyUlWQkfeCc3Yj5RzLMOW1Hoc5xyDJOFKbVsWjbmNIpnCRt42yflgPP5Kwjr+lUJG7GKr9CdSfbpBU9o57lTpDtYeARCOFPZbqculqkqRIdbYAVcij686bKKb4MIinbUGUsxapqLRZrYUt7k1TNWhQYJ6AfUHSIwDWbBi7HAS+ukIOTqepMLk2uPOVBINKmSo1PmToe0daYiyHjp2rlLbcNyQrj0mM3z5caGssot9JF0KsfJuZ5UVqZHosp2NIjNzWjFY4q5CeXQM4WyeF1YSLzXZmjk0f7+63ZbUnKtfj1ZptuO/TqzGn0FITitQnoSerDzgxpT0wpKxCjuNtEcfQkpicgusKo7kPMeXM0rTX35g03kNGzJJoDFNo7FLiMnMkIO0nx4FONNq9OMIzKjsnJltkPNZZURjZMqqSxjVJgqc2cCtzWpArGltq9Raa/PfhkUWQ42zK9aBqQw6YSI6OoZs23KNty2Tv+/3/d8fEnGmP+PHxdiqP7JMwn/cptP9IHtammqm1Ae/Blp5WHMLxdjKenhVpyfhKTXB/wBXuH+jxbuLr4rcS8SYti2L+wdk17VE7890T+NexT89jl+PliNR6XTJiUZxypzX6tT0eku1me99kUiOo/63FSnMxKeyRCpGjbjigiHpx9FNAh1vKL1PCpeo2Wp+YHkadaAXxiVSpSpcVtoEfICdbjPNMPqpjqVvpIbYDMVJClxGk5by0MjVPKchnkzSMDJeqbk6JKbk8ou4w628YPCrDZsGG7ao5urmaIVT+jpGQlomZ6rRJsLaoPNYphS1cGXZwtJ2eb2KDtB5q7xsOIuecqhW2666xPCQzmf1YMXaTBqj8qFsac001BcmTeTUSU0UR8pLzUZ6RKEmFCSJMgIBmXLLrCRZQTNUajFT4U5+lR6lHF76JapVjN6ivz2o0jlMGZHbZclG+kCWDhI0dxeTNGcKZVlJIA1FGXsxUSuPBJYixuZTKBDpJs7KK6rCutvR3Dj7MG2Ebds2LVtOKfnjKkerNVo41RZkJXsw1CUKUmm1GTJjViVIOIcadNmfYhYcd9AlRYLAHKeAjSZdzW2eZoW0PQ3LUfpfDk4FIWxJZQgAK+o7VdEQ9JEqIROc7uF3rgM4QW6fCi8klE7EjZHZ+9I2RZWqVSnTLLrVUGSMxsIy6e6E9qIpa8fN9Gp8x6bDj1F84+fGc400JLENsJDJgQSoM7S+9yZ9pHD5K8yklpwkFXAbuqI9nimtjyaLy+TFcDMLhitGy/RBalVaiSaTD9YpI/XTzPKVKZOdkDtGrAxDRUuo9XH1doOOxTT7O5kXqSltfylrtZiXiSk78d5PK2WD6VTCY7G1zRws0BPwkOuN/wCp5pfo4W/b9fGvaJi/a9k17VE/890T+OewXyf1J2KI/ZPNB9+nxk/0lte1eS7Tqd9s0/erh5LOuJ3jP+EvF2O56OFzKv7f1XDy0SoY93t1wnHfxY8fGna9k17U9Q/PVE/j3cF/8ewJ7GmOxPT1/M5dewYT/Otr2q70VPFiYmmXKTvSHk8jhcXAAWnhcyZ45k4fOo9QH5eNO1thL8V+Ppxbi8XFfi7Jr2pqj+eaH/HuYXCp4+2vjr4k9hTHYnd1mhf7XF3+64v+76e2qqaalUR6NM6WnkfcTCY4Ci0cLGSF/uso+85Ekh+l2ypi3aWxbtUxZePsmvamqP55of8AKHMFhehE/qJMdiePrWaC/wAERffJy3xdtXh01usD4NUnp5JbqcXAqWjhTyKvfr8QfP1B+l7KvaXxfj7Jr2pqh+eqJ/HuYLC8W7tL8V+K+OvF+2THYninIc0n/bKeK+/ypfk7bNI7PMuYA8Ct1QfJOfTCY4InNnwm5FL++ekJ50sA/S9jvxrxWwvEvF2TXtTVH880T+UHgi/493oxffhBcLuQNU6LiJKnubkwqKi2JFRe8qKi+Rcb0wu7q8e/0dPVjeqKqIq6UuW6+lO+XeTquu7G/SpWXSioilbcir0Iq9CKvUi71xYtOuy6L6dVl0arX06ujVbfpve2+1sIJkWkQIi380RJS3dPNRL7uvvdeBEiQ9IkWgdZaRUkEfCO3cj+2WyYVb8SdsmOxNT7G5tXd/RFK/gz+2z03ss55rb8HMVZT/WD/FwZubPhCyQfezXQfTU4yfLhelfdX2br7TpxbHZN+1NUvzxRP5SWKRU5dJy/EkVRllnL7tIrMeHQI8PlEjN0uVyxj1YqKk2SR40GWbYt1F14CD1MBilsK5tnRSjMw+D7MrESVl+aqR8rVSfUWanT3ppy3ZrhLT2m9pymOzCZPk2wUQOdP5SdjQWEHg4rFWiTKvEi1KbHiBlXN00YzT5iwMtqhyDalI0i6EfbcbbMHrawIBJFS2Mo5fj5oKkyMyMSp8nM9RqMRuqv1GqvT3W6dHabvAjQIr7QORHSHbyK5ISOQbMWmRaBxwio9PqoZFpU+gTBSfkRDPMwyJTLcDkR1x9JQMiHIDjQiaEamMzW4aGSA5HXZXzgy+cyDIFhxWGMrZMB94Gj2DRyMvw1aRxxB0Nk/pPZoaoTmgtN9K4yfLq1JpVOqjovRsuxqpOeWHToT0mdnSUDbAyKXMFAcjnSozWiK8/N0xooSn9gzKmmojSylouVIbDToZQm5Hrk+usA0q0k5ChmAqm9MLSrSzIUpmCzGcfLlMY2oQMqOoEKLNOg1rKlGbjQZTlMkQXKizUYbU6OtcrEiI7M1x3btm/ToyQ6c2RIuycjv2TnriONa9Wc8v0+RIo9NDNTy1SuU6JJk1gVCo1JyJR6aMP10ymEhyHI2piMqxWXZshthtAOPUKtNdpFRy1BmU31Z4SKn6uQokfSTYWoyQoVZBptA5MUJypSHY0gG4JOOzzRvSK6KfBosrMmblOIk6k02Dmyp0+M1IdjNmkB01p3rzNnOTihNqoiqa2uaijdCR6m5bkNIy1QWoLk3g9czYstuoVJ1YFSZ22kYjT8hxv1OMY6baPKGS7d41bkggNoNZyxT4VPzsI5adjsZbYpKUXMiyp6+qqy6nCjLKc2jq0+aNRivOSo/IG22ojaoK7TceE4k40x2JqfYjNy/wDXKSn+bqPbcKcXk/CFnEEFUT6IqqqJ+XKNxF99DvjQXexkRSaztk9zo0ZooBX9yqxbr5ML3Z/lL8f9QWxbiXHZNIq8E9SROn1Yom7/AMSf/wDcBW8xsxBgNVisNQQaJgIbc+WMUWT1a2RYFzZC0Ws9TaDpXUV03rgRlA240G2Bp7RtmhUkbd2S6mtqCc1zZkupvUi6F3jZcNJKZUiYJ5kiA2TJojbUmnhUHWiUFRVbdBVBwFXSYqokipiLPrcFnk8Ko1OHH2qSNjFmSo7W3C2l7ZtOAG1HSNnLauaO/mpb1Qrhx3YhVKqFEe3PRVnSljOpqU7OMK7sjHWSlpUVRSVVVL4U55gbRvSyacRhHGyedVtxIoqEXWClpPkwqox0JF2AqotaUxGqNdhtcmiVKqxI6KSixGnTI7KKW81Rpp0QuXSS25y9OAfqrcY4YSp4Q3HNq7ECRIGK47dF2hsIaNGd0RdRApXFN+5MEMknVeJXSeI1dV0iJXVdUtauq5fWrmvnKerVq33viPLrEXacknVKKrx7R7k0uUxtnPwjuycHaHvXnnqLf04CRVwWSQS6i2U5FSaQSpIrMve/K1FxOUXut9trvde+uBZkhfQjoahUC06h1Nl3QFp7oF+6BeaXWmNnN78j7XsO7c+0fgencz0+tfa/FiZmCpTKe7TQp0KAzJGKMxYTUsdu3DNHWmgYelPxIDCyBGU+zTmIrT8gAMx0ggY5K/8Agj81cckkfgj81cckkfgj83CRJH4I/Jjkcn8EfkxyGSv3pzzVx2LdNlQKFmU5AWCVOpxMOChK04jbMtHNm7ZBNWzLQ4g9wW5eke2zDwWZCzTPKqVrL0aRUDSzspp6XDcf3IiFI5G+wL7iCKCjrqE5pRB1aURE+kTwWp/WwPwlVv17EbgT4M4b7MqPlsW347zb7LiVGq3bdZNHGzG861xMUXo6sbVy977736E+bG2c7/70fmxtXO/+9H5sbZzv/vR+bG1c8L0D82Nq54XoT5sbVzwvQPzY2p9/0J82Nqff9CfNjan3/QnzY2p+F6E+bG1Pv+hPmxtT7/oT5sbU/C9CfNjan4XoT5sbU/C9CfNjan4XoT5sbVzwvQnzY2rnhfFjaueF8WKxSKbmCEVNrUJiowTcbeKLJHU0TjN1bNUS28Lrb3cfSq4OvxQo/wD+gv8Afx9Krg6/E+i/uf8A+2PpVcHP4n0T9y//AGx9Kvg6/E6h/uRPnwnBbwdp/WdQv3EGPpYcHv4nUH9wNfNj6WPB7+J2X/g5j/dx9LPg+/E7L3wZGX4wx9LXg/8AxNy58ExP5vH0t8gfiblv4HhfzOPpd5CT+s7LfwPB/mcJwfZFToyflr4Fp/8AMYTIeSE6Mo5a+BKd+r4+gfJf4pZb+BKb+rY+grJ34qZb+BKb+rY+gzJ/4qZb+A6Z+rY+g7KP4q5c+A6Z+rY+hDKX4r5d+BKb+rYTKmVx7nLdAT3KPTk/2fAZdy+39roVGD8imQh+JjAADQi22AtgKWEAFBEU7wiNkRPc/wClH//EAGEQAAICAQEEAwYNDgkKAgsAAAIDAQQFEQAGEhMUITEVIjIzQZMHECAjQFFhcXSRktHSJDA1QlJic5Sho7Gys9MWNENEcoGiwuIlU2NkZXWCtLXhYMEIJoOElaTDxNTw8f/aAAgBAQAGPwL/AMNdsbdsfHt4UfHt4Q/HH1jWeqI7Z2JVPiscMyM2CBkJ1idO8GI42D7Rd5E9o8Ude38ekP6FYoiPjGfy67GdW4wwWXAZSHDoUxrppIxr1bePaU+3PDH9emm3jmfKj5tvHs+VG3jm/L263N+Xt1vd5ydvHu85t493nJ+fbx7/ADk/Pt453nC+fbxzvOl8+3jn+eL59vHO88X0tvHO88Xz7eNd54vn28a7zx/Pt413ni28Y3zxbeMd52dvDb5ydosOY/ghgr7wpKdT106uKPa28Zd/L+828O58U/vNvDufJL6e3h3Pkl9Lbxlv5B/S28Za82fz7eNs/IP59vGWfNn8+3jLPmz+fbxlnzR/Pt4Vrzc/T27bXmv8e38681/j2/nXmv8AHt2Wur/R/wCPbss+a/x7fznzP+Lb+ceZn6W3rT7ivchR8PyNZGfi27/16I+6ruUc/wDEEGH5vYFFzajTYCg58Ry2GwuEIA4ni74pge/WHX2+pyhVz4Dka4EUTpPJbbQtsRMfdAUjP3szsGgr61q7R69eCOrbwV/IHaz1D/G/IMf5le3ZHxbdkfFG3k+KNvJ8W3k+Lb/tG3/aNv8AtG3k+KNvJ8UbeT4o2+1+TG3YPyY27A+QPzbfafID5tuwPNj823YvzYfNt4K/Nj823YvzYfNt2B/UA/NsUjCtekIjvkqLt4vIQzHk9rbxdP8AEakfoV17a+sx30FqNSsPWPZ2K6o9seyfLG06yrr7fqevHtdmi407PJp+Xae+X1xw+ITHV7neRpPux17cPGOk/wCiV7/bwa/l21448v8AJr+211+092fe8nk204ur3h+bbwv7I+T+rbrL9Efojbwp28Lbwp28KdvCnbwp28Kdu2dvCnbwp28Kfj2qd+X8cqxHn1+pyv8AQrfku1to97T0svcdxcmlzrjeHwuVWpy9nD5OKQXPD7u28u9e6mN3fVu1u5JOt12VKzX16vKK1Com1YG1kLCqY861KIXGmvLGNRDZOftVk08gi3axuTTWkui9JqQtnSEcwiNabFd6ncszLklxhxkIxOxdHsV7HB4c13qfwf0+URcP/FpsC2vQpjPFqa9S2M/BrMoM/wDhiduEiASnsEigSn3hmdZ6/a2dnt2blJeTVm8bQImpr5ABVY5/SFEg5IYbHCvt79fua7bt5m6xR2sjgMZkLrQgFK59mkp1g+Ae8SHMIp4eoQjq7I2JlazWsgHUbK9hLwCfaM1GYjPvzGwmdymAsPlrI7dcRYz/ADayJkQbOuO8GZLSY6uvYapWK42jjiCsT1DZMfugRJQ0h7esQmOrYKtRrK1WbR1F8imuyC5VmKmEOzlGOpWQFbLdqWAmbmGDoiwEbjLbx5da0YAtreYtoLmSVD69htV3JKe+JBNSZJku+5Uhxdeu2dwm4KMXXrbv9Llk3F1yfZVSsdENptucQQdh/VXrJAdB05jNeItsrffTo/wjo5TH4xL4SQVCVkE23dLbU45jn1ugvXyhOEsMlFIxEGE4DebNW8XdxOeHpFSmVenPGrlDZ5NiKqK7qbG1zg1ktzOHsPvo4dt1be7/AEZd7eS/UUA268W4GvZpg7hgJkY44bYQPH7/AFd9th8Lu3zKGOTlkYrKOu06xsyb+6SqduUQcN6PWXAsWsls5pScmfBoAxm92Nwe5tJOCK7BFcCuTbI498VXNY+2DgGXWShdaupQ97oTWeEUbw2btaie8WKvY2jVsQjloIclNsTdZqCXLl9OaTYiFyKXExfGOglx4He/JZXHXMTnp46tI69NmoyqbALtJTUrsrc5AlK5RZIl/bSJdW1DIQHLi+nF3eXrxcvpVeH8vi8vBzOHXy6a7Ye1dXx47IZVOJstGdHU22xOa1oQ7HVxNZDaDvWCBQ0JnhkCw9aLtwca3dexdOiNl3QjdXG5Vk5rQfJkuOVFxSE99Az26ew8ePt5Cj/zK/U5X8Er8llM+nvYH3WMycfKxNqNt/MRa4+j5DKBQsSooFsIvYGKzeWUwUCfARcEyJQJeSezY8FunbzCaWb3uqsyM3LnHYeE42xx1eclNb6kYVCtLFcOhyEwcyM8O3oOxg8tkmJ3vxu7mQy4uJYA0c2wq1+jy0QANpSJQSQfBsWYifMkoEo38z/olbzVbO+mXsDc3Dx+My9i5c4WX2kXdGl0UJqUV0OQiuRMVWVwHCJI4HX0BWHlLQ5a3UyeFTlCcwrKyr72hjqNpjeLmMbWVKu/kuZPKieLinXanbx+UzWQu43eCFy285HJtFnYHpzXISke+g8aia0y0iXxt4zbJRMblhgsnlhRv3ksbmc+t9qCFrv4Ni0KiYUtMjjwb670U5ZBGASZFwxtuxQ9DTeR+UwWd3fbTz2l2bKW3LmLyq7tR8CquBcJLrW0rNZTWdMcs4jqjfHfK3ayE5HdjO4mli6g2P8AJoKyHQRvMZWIC1e+Hh66slyPR1eFG3oQ+iGvK5q1vLvM955G7dvG+VThblVGNikekOrhWrAKOHmnBAMT1dcS6zzb9Q7oj04Mfcmqq9oIRE2Q4D0ZwgsZfVKs8hWvibMrXIpRXWCU1wBaVBGgLWuIgAGPaGI9+fL19e28G963XzyWeCzWVSsW1u6ZcsOK7yqioSslLB8wx7SIxRWjSdTkILIZ2yolVcvvRiU0ZKNOlRTpZmbNlWvajnWISDPBMwbwzMBt6Gc/6tV/6Crb0D8J2wacVfYPuf5L65/9nTb+Xb0OpiBHv6paQMRHXvCqZ6o07Z11+PbP78QV7urmZupCo65DYv3blnp0oqI5YcoIeIsc2SIa1aJ11mQgs5vFaTKquY3iwlemRDI9K6PGXdaspifCri14pA/BM4ZAzPBO3oa/0cf/ANEftu9/urd//p6tsFuSiZ7lbtMHMZs4+3eAqewPfBRV6Yf6W2+ftdsNk+Hxe6ObrzP305TG8MfJeeztzspww25TjK7vXRjhi5Wnj6Tj7A+DF2maXSloaDZrj3ww4dWbVMLlFcjGXqNUgzXX0ankrVm2mvTvn4CVXArT0d88MC4CE+8LiDd6gno/R8s3JBalijJy4oUZujKCFwB69McsuMDgR74dZ6tqALR0vJZjIIxOIpSzlDYuv1KSe3hOVVKqROxaYIGcAHAsZYY7PzQ9ys3Xx65s5LGJp2MfZmmvrssxlsrtuGNQvibCraPXQCe/Aurbuzu1KHutY3ujiwuKMlWZJHOVWcK2qYsmT6zJCc8tvkKNlb2TA88saxp11rnvcsBzV7mimWScmWQ4KgDLOOeMS1jXat3SlE5CUrm5FYCXXCyQxLVJg2MLlrPUBMjmTiOKdNdNt4sfKeR3MsIbjCntyOEsCSU5IevrBt2tagJjSOUSOrWdZyebocgrOPBLAXaWTUt5tlFeQPgYox6m8UEJdsR1abU93clFK7XyWCsZmrkKVd1NtY6bkpfWu1zsWlytkvDoz1sCZLvDDXr2yWRo3sdXqUMa+0FZ+NZbc51VDnt43xeqwpZ8ILARUyR0JnF30DGBzd27jSrZTGru2qCMY1DUlZRxqhFsr7+MVM4eODQPMDskZjSd1MJXOvFLOKzDLfMr8x6+5lcHh0dvMER50nwM41nwxGode1rLgsT5DaSSNgmxNRdu2mqy/YBejGIpA2XsWBDLOCA4hgpKGOZla2XoWVV3Y60ismvOhQznddZhpek/WjQcaEOrFnxzHF6WKj/alD/mV+pyvwePyNXPp52oPh2UMrhr91Yp2Ej/AFcRRt6Im729tixismbJKpXmpZY192rRuY19COSsuRbB/J4efyQ4Sk+Z3m28eUvHft1I9EHd4UWbb7NqIFOIyVS1KmPJnCkLNyshhBPBzz4J7+NNvQCHd5rLtjC4zdHE5Nc1nJ5ORo3Rbar+uDHNFCVmxjl8SODr45jXT0ZMnv0/pO/Vtb6+6/dCLD2zkW37K73Ro4ZWFunC0KXLpCKVQThHDEHp/wCj2evgZ3Ohr/Q34oF/e2vdWvBvHgyn2oiX2Q1n2o1OI19uYjy7eh4WEuBfPde3h8VnxULRLE5Bu7r0qr2uYsIiWMTIgYSaynhiD1KI23KwHof7kbnZEb+GS3JbwJxd1GZw2T7mXSyBVi1UoW0lKhj3GlgAbDiWFt6LQa+BvHu4X5zGfNt6A5dXeWc+Pybw/NsH9AP1Y2/r2yNnfq3cjdrCWbdKhj6amP5w0LHIXUKFTBKTbaDbd9o6MdpCIIYkZBw7q9IKtu3l8Kdxc486SaVOym/UqysPBFAHArnhgRVqGumu2427+Pm0WSwqADIrZXkABiseNEQQzXSxLWd8HLjwdInQ54dtxqDRkT3d3IxxvUXhJsLw1hpCUeQhZaVEx7e3oc/0q3l/2/X+fbJt34tXf4NYK5cx9OhRWTubFB/KGsQiYSpd14ts3nBPNZEDXghjhIMgjdNVrkbt5DA2LiSx/Q006DOmVEykAIohCi4QPQRBIcMz1bblbs0otTlMNCoyEGjhTEoospgNdkEXSJeTIIIAddOotC0jbB13BK3Ix2CS1ZdRA1dFYmBR5CEokSjyTGm2S3kuqYW7e9dckllgAmpxN9k1mQrIyETNWub68iNlmiOBwSRjy2aLv8xcwuu1Yuhi+VyXGlplzdeDg1QE8XFw6deu2GzuLU2N290VgtmaICXVyNtZ2HNr44y06YEucKJcriRy1uPj0lfHtvFiMlWG3Qu7r4Wu5LlnyXEF/LG1YN04OkIFyXetnzkSS2Rw9U7YDA3Sblt3scGas4DPMmStIrsx3R+4eVmI0J9biiadkpjnoHhjUh4F7s7wYqqzIWt084OTdjU6dIvY9yuj3hqjOkMtKV64pXhM74R77SJyNbBQ/J5PJULNGnjeiWkWAsXElXiciNhK4x6a3M5lptqQEAAoDmFIQWFwnM5pYvH16pOjsY5Y6uMfvZbJyHl4dNsvhuRpumGVTvxTZ18qchcA1xiQjThkK+VWzKmOveymtrHrkTsyvTlkZDKmrFUzWpjOilkGRXbkGSsS5SaCDbZJrOEIMFjrqUbbo56o/IZOipf8EcooaSCZWwjVcdC1KsZUWbAoWlcbWtFkhBeFHFOuZr1VPtOtjRWhNRLXvd9X1WFy1qAmTwqA2TOneiMzOycqA5HN7uZ2nTo27JjYyeV3dsVYLox+Ad08Fakz6SqBKadz18h4S2zspE3E7C5EK4KWxjHMfTaCQWoBlhGwygRGB169t2q7AYl1bC0K70uWxLkvUgRYpi2iJiQl1TExtuQ8a9k6tLH7xRatBWeytWbdQldUHvBZLWT5AoDiL39Ndhi/VZao229BuCFRt5akvU3VlqulTjKpJCKXFy5EOcJF3u28iMfFtW6rMhWdu7Wui4JTJ1uLK9DXagbIY3pUiNaWiPMkDIOIfXD2w0f7UpfkcM+pyvwUvyEM+nkY++rz+RsbdPzu6eCyl6dOK5aoKmyzh6h5zg4DfpppHOk+rq7Nu4g4vHxhuRNXuTFKv3O6NPajoXL6Py5nrkeDrLv/AA+vYr+A3VweJukJBNulQUuzAH4YLdPEahPsKFSEFHez1dW1zLO3T3fbk8gtyr15mMqlYtLshK7MOKQ0KbC5kHs4eY0ZKDOdZ2x9f+Cm7/IxDGOxau5dbl45rnDZc2kPBpXNlgAeZL0kmiJz1xs+nkale/TsjwWat1K7NZ4a68LkuElnHFET3w9RREx1xG13GUd28HVx2SkZyNBGMqBTvSEcITarcrlPkI6glgzI/a6bOZgd2sJh2WQJVhtDHV0NaovCSbRHmcovtlQULLyjtcxNfdrBIxeQNbb+NVjKgUbrU6cllqsKoU41cI8sjGZHhjTs2pY2xu1gn47FywsbRdjKjKlAnTxNmmglSuvLS62csR4p7doj2ur4uz0mNbuvgGMaZMaw8TTI2GZcZmZSrUjM5kiKeuS652sqx+GxVJV0IXcXVoVkrtrHi4QsgC4F4RBnoLIKI4i9vaLtLdnBVbgTxhZTjKgNAvully/Wy9og4ZjtjY8rGPpRlGL5TMjFZXTjVoI8o7XBzyXwgEcEnpoIxp1bV7N/GY+7YqfxR9umiw6tocMjo7GgRq0ZEM7yY7+ILt2Y527mCa5rCa5rMTRNjWmXEbGGSJIzMpkiIpmSKZmZ2eOPxOMojaHgsjUoVa42Aji0B4qUMODvi71kEPfF1dc7Rcq7u4OvbEuMbKcVSW4D+7AxTEgWv2w6THk2L4Sj+/tp7fVPve1PubcrkI5UzrKuSHKn318PBPydojyR1REdkR7Ue1Huelp5Pa9Ptn0+3b5vS19R1enhf95V/wAha+pyvwJv6PTyEfBv0ujZdWa+IsUbdreOkjoHdiwyk/CY7J5CvN3MzWHA2zuRjGKs4/HtmzQNnBzHnWfpuDk7a8HjMPn8XmctbxNZ2Rt2ugqw1DJDFh0iuu3IIWbGU4TEIWbZU8nacez8t3DB1Z+7mVz+PUuhvJU6AdGl3RqUczk8jj0Yy1GRq6iNzFN4FWx5S1WUGFnbPLPH7qHOB3ar73skbGZ4bGPd3Q4sOuOGJHILnGWP8ql9SHBp/wAnRqfDcXQxB2sdjMnj8Xarjid4rWTtzbRj33LdPI0qLMDWDHDkll0W47mWl1nmbqXNrQWDF17Evul6Je+uGT32TDH9ApY7P+t31Qzm3KtAkLPF1VksphaYc8WxLop4oaVJWb6RvOnI2l4zePNYkI3ayicVx1aWGS7KD3TdZSyCtMFePXzBM7bZQDK9YMNVxVFOFxGWy/dGb0ZRTsk3MVDxlOrKkaENnFxYVaugr6hPQ6vSGxyfrhfCUf3/AGLh/hoT8UFPqct8AsfkXM+nkNPuK0x8tmy7dIrz1Y7K5RlRKs5lDx2KyLGXambq0qU2ejVFvbZvIyFUF8spMwHgHq2wACly/wCDHBGFlNu0o6qwqDRlDSW0Zt1nVABNmvb5ybAjEtEp69rCejXDqvpX8cqi/K5J1DHUcpHBkK+HptsknFhZHvCmmIStfrKJUnvNr13NyFZWXx1XdS0xjbX1XTadsauNUpHEyXsK7b4Srr6TMERSXArUBtnWtR31A31VZLIJxl92LBS8dYyeMVZGjkbFMK9eFtspMjhCIfzYUvhdmTXNeVZO5vI1779rodTIPpWamRyIKc+alQX1bFgrkAC65sKbLA5owyG3rEWaC6tjK5w8pj8lksfcrllNH5dwXse9dqKt2AA7FUCKuXLWQJg1rmHBQpxWTaxVXEM5LbA642qNvoqhPmcazHp9s+kiUWja6WscTYgor00cUIqITWTDGsccJQsVLg3OI3NPgGOJrTNjJ1IyIpmfrhfCa/8Ae9i4mP8AWCn4lHPqct/u+3+xP07/AOBT+0L59lsy9tuOwdjP+ijWMnDY6C3Jfwlx13HCUCBQVp1Wch3P1jWxHPVW4yLhm3ds5belFmj6GPdrHiq9kaDBzycvvXyrllQ8DLN9a6lJRUrfMWSuELFVnrel4MLfzbV5DdPdLM5Nt+/lbhVifvD0XeTIU3Au5bxrixLJK2rE1+KqgJtU6QNSM7YeWZN+QxNH0R93YxTMPmt6rVWoFnFXu6il53IRTuZOqt412QZFZXimWLdILYw9iBq2KuQyaW37e+mOylK3lM7dySW9y86WGr5THdEr7uYCQv06vcKvjx6Wa+Tw2rHFZM61Xpm8t+d5fQlzt7MDZymWsstZ6jj8HapMgObpStmy5crHTpjWXdryVV9ZwjMbbz3sXl94jx+H9DnD2t2UqyOXhE5Oxh94l2bpc0otZC8s0LUCbJN6O6Ft5PSIQYb157p28PdHE71bsxhVBfyQ00UXVd0e6CVYxZxUuVbkXMhF3pCLAxPM4JSSyna70QyPoN+zjrHEpyuC1VkecsectfNAeMNHp5iGa+ttPSdPrZfCK/8Ae9i4n8I+firs9TlY/wBn3P8Al2end+DB+1j59u3/APY7Pi2/Lt2+7/X7e3b5NP6va27Z+Pbt8uv9ft7a6z2666+X2/f297b8n1wvhNf+96gY4Sni4u+jThHT7rr1777Xhguvt09g4z/3qfirN9Tk4/2fc/5dnp2/gn6HL9il8Ir/AKS9i4/3F3J/+Vb6nI/Abf7Bnpv+Bl+1V7FP4RX/AEl6n5vc8n9f/wDPYFT72vbn8yUf+fqb3wOz+xP02fA2/rq9in8Ir/pLaqh9hKX3mEmmprBBlpwLlzFVxKdWmChJhCOswEa+lEG9IyVkKcRzB1m22OJdXt6nmPfCqdCkZgtNJj03qU0DZVYKbIBOpIaSgeK2R9qUpatsR9wYz5dpmeyOufejt2VYrmLkPWLUtDrBijjiAxn7konWNnwloMms86r+CdeVYXAEaT9pgiwJmPaKPULSbAFr+ZyVkUQxvJGDbyxnrPljMEzh8AZ1nT6wn3Klr9XT1Nv4M/8AZF6c/BX/AKVz7FP4RX/SW2XtYfH1rMYBdejh7Vi+VRlfN0rFfM5B9ZHQ3xZ5hro4si5yIKFWUcWhkW2828NPIZiuFGpu/kMJSS5ia6TsY2pbtLfVgNLnG0zr2q9jmLHRsCAMKT2yqqtu/wBIf6ImH6XXdZsOjuZbxyChnLZqIoeYsRzg6pXWXXktK4xtuf0zMbwl3cx2YZmY7pWkQwqnRzpCPBwTQ5UsKIKrNd1ge9sG7vtUQzI5NWVrbrHbqsbkL9Erl4LOSWt9SnjaZvzeTEKaRtruMGmoSWRpnpDmbXiY96K2V3hpsK4N6ziMewB3OxLhi7kqVd1wEvbP1KmjyptWV8gnCAks8bFrKZWU0MPnWuUt1xHSb1DeRlfHBeNwLuN5NGF+tWOB1tJLm5DI4oJJzdyaMtR3Y3fuI517KJY+y2t0q3aoYzH1uDJMjSV5R2WcaESErlC1wZM3osQthwW8mYspgA1N6+h0SXNcS0hnN4dE/aGWg69uzDxFvINsXt177pV0rLZS5GSVaxjGczp1VOPRvBUx7sgQUMZXWsWBy+WwRRG2YXutkMy+gvDYNjjuuzToQt2eYnMW6RWVtyXPjHh9WsqLYyvPNmqIvWQxRqxkbTcK/eGRjubbzvJisvd7INt1Qy2R5eQsUG3RrFPCzgRZk0IscU8IbtsuFlSXQzu+OMpNdZybIBIMHuQmwcHPNBkcxan3OKLKFglrmrEY+sa/c0X/AJSCPU2PwDv2ZemPu17H6sexS+EI/SW2MpMQbouGPS7AGIrxVV1lNCtcswUamqxkbKakQMjMeuunvEnt0G1k6iLnMUua7GaMBlnhlEN6tE8/mBCjdIAwigRKS6trNSoYG2lm04SxDm8jv3K5nNr8S55xcXGkKveMYxLp1EYEjLTN0j7zmd4TWS0InhmUQCymzKynRw14aaP5YV7VmPy9QAuIG3WODJgHUZMCNuTUDITVKe96S+Vp4okePUS0ycXWRTDH5NeLUcybjutZj6uSjo6ELNxlAWS9bUDZgUk6ZgeypMZSqc5BfOoDBlJWx4yTBLEQI+EXAS3EQ/U0ifP4OGdqXS8jWrvuVadvgWx1lCgv6chh2gRC1V3s72tYt9FixpxDHbEMqvytdb0vZUYEw+YC0qOIqZMFUqi3MdaqnH0h/wDILZrGzDNyr2LsU8z0sOO2q3PctQTYrLqwiLQvA2CD+PozqeqnRBa6ipVab/S8rgUZp2QyjsjZaFVElwUn3b4zy1UxOw2C5i6uvNLra2JIn0GxeMbmIqsSUWKpwnLZBNJNoYsoA21vXDalywKu+VSAN8sTGvuf1fWGf7ub+1V6l34Jn6s+mn8FY/ZT7FP4Qj9M7Z9+TyGQrd1BDH1k427K0BiqafqLpK5T65Y6a21eYMFEDLACCnh123kXeKj3Uz9LDKJimHKCs4/H16tg2HyYMVssKa5McJ8MM7ILXawz6l6IW9+P3kS3nslxIVj11LNY0SnhW4DQJKIXGDgPr5Uh326HMKt/6v47K1bPLkut18asCVbVY6jqpnNIuXPfR1FrOxYhbqhpbu/OLiQydzHqr25bkDYy2upU5+XrsG0mEJbZUisQugkELTI5s1yr6PykXrVNOSfj3SruBjcYILyyKTLCeRbqOJoVwTN2sS9WhpKZgrc0pYrC5fEqJDbDuvI5u1lIbzLC+dCzU5YO5hsdLF6mTNeLY8UL6TU9xcLRrzOSv0kV7GMqpXZF9KpV0yfSnqkq1m64grKOAmpMK4GDxHXif4bTvQcRJzHR5IihMTy44rI97ETMQHe68cdm1ux0iuIWbG9zf5STGN4aGPp1tY4YiSRNQyfHF4MjwSXXoqpZdSSDtzm7rXyQ60wkMEhKtbp8SFdIUzgHpCWzWMI1hZs259joaLAHhAGe62by8mjHZitlLfr2TL6mW7o4xWpqSXAzvnWpjq+s2Pcxp/t0epP+gX6PTre8+PzJ+xT/AA9f9M+xb3uY/wDTZV6kven9G0+/p6VP32x+ZZ7FP4Qj9afYuQn/AFEI/PB83qi/pT+n0qH4QvyqZ7FP8PX/AFp9i5P4Kn9p6o/6Zfpn0sf+H/ulHsU/w6P1p9i5af8AQ1o+Mj9U78Kz9efSx/wlfsVn4dH60+xcxP3lSP23qrPwh/7QvSx8/wCtp/Xj63prGv1o/wAOj9afT6yGPfmI21idY9zs9OPd6o92faj258u0R1azrMRr1zEdsxHbOnlnybcOscWmvDrHFprprw9vDr1a9mvVtrMxA9XfTMRHX2d9PV1+T2/JtGukcU8MazEal9yOvhF97HX9azU/Af8A7n1V33LdmPz5+lRn/W6/7UfrfZ9aZ+Hr/rTtYVRNjcuGRxjbGYdY5Kd266Oit7m0dDGXvt1xMjoqWQl3QJuSbC+UssK2xXy9b1/O0alVlC6usFUKsD0ph8HR3MtNHpEuiTCpT6OHEMk+Sx9mxRqOsFnt3KkvalZNmszLoA68mUcUpYJmBL14SEyiYmJ2yKcK1FNGCo1LJUE08aqktltrWcNx1x6mEFkB9Zr4hPOEpM2NlhguN68hVy1b6j3r4IwcprsK50kMUrkE2Z6YNi3DPqCa3AAEMSYPjmaXEy1cNbvBvPKlkweYwU5m1DJWGvEYq1HmSMTAcQ8WmsbXaIcl+ZfQqqizesqTT3XQROlN+sUkDgyLz4rKk1OKxYOumXNrVRiZ3gssNZbx196sRVxTTMe6Iq4sLGPVVjWGDWtIbbY4FRyHw24TYKIPTeDJm+2hd5VkKTaVllR3cnGKsrrcLl6MFN582rpwMxzFvT197G26i7iEZO8W76egYm6+unFzBUqAWMnfK160sK0cCFu0c+OksXUrsccyGQp523UvRjdyKPcy1YZEiUzOU6ZaxZNYRc8bK6KVOSZXBFdMZZqUcW7sDY6LkL1rd6hbexIPMZtrCL3rTe9586HpJeCzrmJ0kZ5h5dloK2+St3YrsqUAi3SdKeIrLFIWfThl/rTq811RCg40HJMKd2CLOKe7NOv91MJCKcdzor0bjorBwLi7VKlYWus/pjDZZYMkPB3w+rzM/f0Y/s2fVZHs+yF38llsf+W3btUnX+dV/wBqPqe3bt27du3bt27du3bt27du2Nu2Nu2Nu2Nu2Nu2Pj28KPj2Z30ePr+X76dptNxuMbalgtKydOsViWjpwslpLk5MeEdD14o4Y0nqjYGFyyYvi5ZzAya+ZHCfAXaHGPenwzHFHVPVtENhTIEwYMMgTiGLLiWyILXQ1lEEBx3wF1jMTtzrVKhZdCyTDbFau5nJPXiVxsAi5ZcRahrw98XV1zsux0LH9IV4qx0Wvz1TpA6rbwcwZ4YgdYKOrq2FkLrwYc3gOFrgwmxPFY4SiOIeeUQTpiY5pRqzinbnWaWOsN0iJa+pVc2YHwY5jFkeg+Tr6vJsNo0UytLDlhZJKZsAvrjgB0jzRHSZjhEojSZ9udoUPLhUDy4WMDC4XEcMLgPBgOHveDTh4erTTYOkVaL+UPAvn1q7eWH3C+YBcA/ehpHubIE69Ioq9dWCroKK0x2dHiQmEaaRpyuHsj2to4iWWhQQ8XCWhx2FGvYUeQo649vb+Q8Pm+CHW3/O9njP9J4f32y7xXrVtiJfNaLR1p5RWBlbGMaquqzdcKSKul191liUGYjOpSW3jA+VG3jQ+PbxgfHt4wfj28YPx7eND49sqyOtbG1OA9J4S4QdxaF2Fwz26dnl7Y9VNizQHnF4Zoa6rLJ+6Z0di4Yf35RJe7t/EW/j9/8A/J2goot1GYKJ6ff6pidYn+M+3t4B+fd9PbxZeed9PbxZ+ed+828WXnnfvNvFT51309vFT5137zbxU+dd+828T+cb9PbxP5xv09vE/nG/T28T/bZ9PbxP9tn09vE/nG/T28T/AG2/T28RHy2fT28RHy2fT28RHymfT28RHy2fT28RHymfT2/i8fKZ9Pbk2aS3K1guAibpxD2T4fk2+w9b87+82+w9X+39Pb7D1Pkl9Lb7EU/kT9Lb7D0/N/8Afb7D0vN/99vsNR8zG32GoeYHb7DUPMDt9hcf+LB8232Exv4qv5tvsHjPxRP0dvsHi/xNP0dvsFivxJH0NurB4r8Rrfu9vsLivxCr+726sNiv/h9T91t9iMZ+IVf3W32Kxv4jV/dbdWNoR71OvH/09oEYgRjsEY0iPeiOr/xR/8QAKRABAAIBAQcEAwEBAQAAAAAAAQARITEQIEFRYXHwgZGhwbHR8eEwYP/aAAgBAQABPyH/AMxZzJ1D3n9An85P4L9zxr7muTJvqBQAqNAGVVwAascnI4lJJtGoPIos5a5dnLT6lAL5A4jC2YbMHGADnTX9A5uC/qc8/Hk81nSfm9tIn0P25+kymDxqvnf9Q4Y8OH3DFlxxXvhzi57P63j56TD8ldR1P0q7cUeDf1IZVsc+lB+LwPXtxZs03jUr76Mb9Pp9vH8e8PLL5Z+c80+48G/iNdcefpwlHl/M+zvmzVKYF5Aat23DnHp1+j0n+/5uUs/cePzL3wufpnMLvytCHBN/UTP8t8fFbK3VIXmHnxjk+6hnOj7Eqi0VffsrNnB45Tx2vm34igTObJ6r1JzBsqdRrsZwpFxxKYVuia/isNFGBndWkx1rh5j7iPjAzctooAasBxwa8Y4Xar9UtU6eju0toy94r/HPzEPP+qC8MOiD+9JykPDlOSnl0nWPDXGdij1MvH5f7PzvCpjr8vjypwtTv+jo9Os6OXa8d5g83vHN2EXanG8uWOInXJvx8I9XYUtJdnKcjNJB6vByR681wfxLmgLhFCUR1MHPZqa5XCRwdGjqXxVrLIaoQMYBc4h8WZGgL1ML6rx4MaRTUOM7N9h8dUxslr63fPThpHgGaug6NDWNTAuW2ai8ao43Q+6ldGL0/UX4ufnhLPZj2yYPtnqNXmNnM6z2bW44uJ1i2PkmNwb0WL14yoljlHVLzju1Hqe4+p7ceyVNAU03XUuQMOMbxBt+38k8mWMngqG9o9T94lW6stAoCBaBk94DJOLluIaGxrgynBmICypW7qin0UFvGuJT6FtbyUyqFqRyBzdGaGvWnSoMxfVTFoRC0zC8Jpe+U64CyZyGgmrTH6XC7cUGcMXQthCWCTDAuXS2NyPiw3L1umCQ2Lhi9bfMBB1/FasXpIlyrIYBoph5K4v3Ued1SVjvV/4AIX5Z0aVeEInxBVV1Uxo1lLk3XXp4yt6nwCKBtvpcilaq0qpdJWjtMBziCLKuFxUfyyZNFP8A5EQmLIRjIxk6KKvhK98/MznJOGo7lftK7gqVHigljaG9z/O7Ret43KaRy89tlF+L/fSMCXVNrjTGALWoCrMn5gewcgHh8Ly1dSMIPHg3I4FZ1c6ig+jqkDLRVtnMMJZErwlV1qPOUL5qntw09U/G+Z9+YF9VkokQZQ9lLeCrWqzEfCZN8ddiXQFBixhiyASShxd8g3T/ALYIMrqJSquX7jyfmmwDVwx3qGszoKlMGG+C4135Hr6QmnYOt6YLx7Iygs2tea6sWixtcrYxzetyDzGkxxiwd2oZGBCdTxQnM9Px9IKgJEDGYwU6jt0geFKi8CVvDRHK44vozTVgoBr9Go715i56uLugrBDVXlt98ZVlIGxx5GRQcAVDfB3YthQWOCcNg7M4OMgjdMFFmmm4+NqoEZCYUNTREY7fnNcowZ4yrcpGutkEA3ahKaCuLe6ykzVQjYMefsk0MpwC351enolJh11rZLWhENkWMLqp2UuUTmFJSo6qUWuTkrCDASW5jc6Jur3wDA4TiOOH1/rdo3V8blBWyrXLwDOzoZJ0rLCSh0qhQC71FIpUluW/MzpKj4FfLU8DD6ZUxkkgU0LZgm0IOzGB+vui5LfrHIQchdsfr2xx8Ebg78qJntLNrWKSonEXhRZgBcgezNL0Lll/U1miXjw11p0jtebHZeCgNUB6tTWpc1T11AGMGDTliorgeh+DLucOqVIU282B1nxSPnLsgQA5gGhaZYHt8rpFAK2zxJP8JAxMY4wUzXuwIq6mCx7RbNI0BoVTbcKrH2WsZUswte5ZczxNgrU1ZNZGMC9I2MqCszUwp2AqWwWIH2qqWGmVV4kHnc6+CmDeToEvvaWTPtCXgS7OEI2VjgaNT0RKmDi+0G3JfitWDcTrqwCOCgucFMFQxMmPXToRlVMGj/UgOTeBAQ2yFkY8NMItAS4w+0xepqvyZBb0As1+eMdFhmhJ0dF8l72CpBOG+oujoBkMQvlkfgL3gKuIWMX8R3BgaM82w3XXwTpndoHW8DlPrPWPwa/rTEZkNRwAouoTSCaTPo6xBbmSuVccAR8wIANwfKyQsbFQt4cBLb22Im1tsPL5Io2X1u1wcQUNmAmRJjpTYrkuW2QJ+wzdJ+XyLEXu/tVohnSqspNUemWy+YtZWZgAKAANAFA5AFBwIKN3XXiVyjIbaX7uwIXKKsLml3AC6QOsWUyDAhPdbFchRkGVBmU4tuoCNODESsKmol6OxTcRjMdT8nsrMQirCZlx441FZjVxVs/yoNurWFuyhjev8tw9eRRzWoaKNSqeJAmCpIUu7yi851Zl0aB6ALQDHABQbLVk8WWBnr39Iv8AYFljkq9uP8ly8Vmr078fxKtEXhrl1hkCnDJPx1lzItvEalryb53n3lru2+f+6xVbX1u5Ri0u9LghtPcw/EXVcvXXZFh1PB03Tfffa31t583ji/yPQl4/FmWMFs75GNc1lBnLiWalcOqgcSn4pFBqLnLClCrMjmbCNGl3HyXC5kBXKuV1jJSMzixMtoj234HWSeBm5+mMzKlIye2Y4mEdRNfXmbnHZe25cGP6HXWP5h77PzNJreymZ3PnYjinv221xdrtvud3DfcfC5bDj2xLC0nOhKfmOAebAralTPUyuNzWvaUcNJaSjNPxP5n+PkNtBxaLMMf2O8Zi3cy9AQFMgqKu+ZZdFB3AaAhaBVp4mVGpc+ofWrhb0rhh+EWORbQ7tXX/AMieQ57ap550nO/+Gp55wnTd+/PiZeeeu8F+NDyGmmdEVF1vaQzkGyuKf3DZN5JGWdny3TPNni65tuBd053YnWp/6ZhpR0pQrtYaDa6VhkPDlt6VeigvEtr7T3WtV0YsuIK1UkmQjb9l8sF5Cfil/wCJkmdhPFc9yuXLlx03cTruabKQ0s/Ymd3qZszo9o8PNvaDqOHHw5OXCPOdcl46X3wZ6ECyIRpS4/A9dZZqu4/w6TFWLGLVjT2oDsTrM2ZcjIuuXMVct1CXRq7DPQ5TMZbGG3F3f5dOfWWtWrQC+AaByDlp/wAHypUcQnkOcg67O8aVRYhhxLIGdZIOPLUqV879RN2kqPL5VujqxzMBHi528HWOJxn5h3mOX/Izsd0p0kHYG5fn+7PCdNxjGfrY8YL3RAWXMveQ2HR8/hk1tMyof9jZILAfOWwiXxTI6M2tyHGh41qHOxOvxK3Kn6lax21P1HSWr/Q3eNLmPvsjpmYdT4H2F2G02HnnSeaypnf12DcIGLH3VCHQ2DKgefmKMy58Fwmn1FAD/jYA1gU2gy8jLpsAQYFOQWnoFrG6k2ndPLGeixIoLk2Pb309fGfnLcSLHRvHfhwnFkMyQ7SyNCtnd4TE5IL64+P23TZ8z946PxEjwcy8HSMqVK3q2eHadJUqd5+tpsBU4fJtmsKmBlWHGgD+KGK6R3ZSwksoei8nku80Rpop1RkSo2QP0hAag5Z/Wzke/wC72H4u3Lp0OWYeZsWYzOQagmK1yL2K416itGM0/OCwYVOKbVz0w/1Q4DPJ3IorAmQZ15iLbCrIEDMghR474JSRH4I9bPxKlSp8p3wvA57ps+Ze8KVByjo+S66n1vKlXKlbCdpU80msqdI7TNlwzoZfSw7mpBNMtMaZqOwmOMZTMlemsbOo0KXZAUhITewRRxBTBIbvpel6JKqlrX7jvm8CwGbNA91uzKJnOCTMtU7QFuaTsPYExkDWEC1ZQ5s45IV9dY40kChom5hzI2+xSztu5pWUpFTKK3Bihc+dRinp02JO+x0lY2BfTT4vvdFlzD32dIq6hfL9RlSp2lSpUBlQJUqVsrbWwNgdRrnYaWLnuYueS2KQfglK0aJzQU1O2jPQ42D+OT2tFGq42aHNxVpw7WFR3i33ZAgU0n8UjrO1IpSEQmNXFZGkvMAY9KiFdhwu9QqtRqCghCEAl9jTCVWm9lm/WGLCqNP6gKSoSNPy1TslX0cfnGayvbYythgt/wCkj73TY8x+cNHaOn7nqfzP6jKlSswJUqdN+pU8889Nps1/xMG3SeeeVvtRNlSvSOxhVq1zPPdOYc/zp+RGsddf30q2VDcNtStNyttQ4bGvDs0l7Hgf8HbWPnaw9t7h905HtBXS/KjHSdP2E4/9Q3dIbfETSuE1lZ/G3SVOG96cZTt/WzU8j97/AFvDHOY67E9/sR136+dytlZvjXnntKJWywrrsNraGT2/G4vnnL/g7GX2n4mIzsX3g+t7E+R+0XSKu3e6n3Buhv1K2/mNtTT42G7EmZ55/drsrd8+Z12VsZ2P7pX1vCj5F7HsXZH3CGVsrYStwdog1Byd97G7UoXT3r39uM0Rx0NaU70pj4lAAmixXZLO814/hrpKHRHUw30rGielaNTAhovStNV08jILazHVaFC7ABwBXEk8BISewda1ky74at6yDLjLktAFvSutmhFnCzohX3lbe8djGe0HxvMA/wAYYx9EkjL0lSocUrSVKlbK4e8AaA7Gxs+e27W0SIcgnwOqKmzkphgiTGG00+s5I30tJYUuQjQhEazhUexDEGgtsxL0O27Q8lNxkKINLk2oa5MZWBNPiPLRjGy3VR9caidNu8lzTEFyHNeC2/SGp+puMIipajChTKMocYU0lnP61Wu8BpWHTmBUf/XIaxUImmSmh9oPyxM1WG3ZTHE6xndfsG3s2Dqc3+XOig6TCe07jOtzqSzpDmE6b3nQe86CdNOi95m0e86KdFL5HvP6kP8AaJ/cJ/UJ/aJ/CT+YhvYZ+aXhDJa7UUNpUh1QJ8w91RoDtwhvSKziQCmAAgMCkKrwOGsGcAwuq0M5CjnDYIADUV1zGosajChKgY+TwMhSLgwWpxSIZQt8I1WtRXVAk4bpJkIFoBR0SU4ehDKqCt0cpOAiqfKdZZsaArg0Tuq5S6/luIy0LnS0dQBTbiNHYOAhkya9+rxiQP6H3Q/kY/52f4tE/wBaB/Rmu3AJTDAiUUtzDJu5IQVJN03ZxTosmGooHTNIph0AfTcNyY1f/DV142nxJW6f/hkbASJIgKLxjNIfbORFuzWYaT3X+Zo/Tt9bL/VTIH+/8x5p97KOBs9VzU7rtjGdUNo54yB6SujCGrSPq0KDx+LlAE9og3IADoH/AKj/2gAMAwEAAgADAAAAEAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAADHmtIAABCY3fMNn/AN5+187m9OAoE48NgAdlITRCafe8eIbsLd5YKO+c5AAEgTk1EYt7qXIB9bhPd0wLRQgAZwEZKkzshdS7MN1U9CN+In1gABDHtAoP5RKY4AqPYrt9gIGpgARSLrazxmM6n9zg2Q+he2BNjgAROPbmik2wygwn5uRtoSD1QDAAVg+Lhoy2UgimG2cAICNAACQAAfSxlsEY0yUi2RAulF9EQABBgAXQOnL8k0KCmGGslW8+fbj7YAAe0BQMv8xngEUr1I7/AJyWLC0YABLgM3+IFcBIBm/N5HEJAsAVYAHK4wICMMMEMro3ZT8Zmgg6mgAFh2q9hW9lEkImKP5fJCE8A0oADIw2iOYYDgKAg/vJhMSKACioAFOWSnjAgCWGQmf+gtuKoiSg4AHAiGGEAUQgminHjKzgw2GQwwAHQuyQEwWwAS0B6xs9Zy+S2wQABxaQASw0Ayg0Dug+Z98UB1wAAACeGCUACyiSmj99sZYWrZHt4AAqKEgECmgmgWGemSPNFzUkBQAAwrAkiCgkCE0ioY2VRPW1AzwAAaTAkAECkyQGFpqhi0mAesnoAAzbkkkggkEAiBtG+1zy6NxvQAApdrqHJgpA8sjz/bjU+McTEwAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA//EACoRAAIBAgUDBQEBAQEBAAAAAAERIQAxQVFhcfCBkaEQILHB0fHhQDBg/9oACAEDAQE/EP8A5ZjMUxnTGYpjOmMxTGdMZ/8AkF2FKAxOiuRlAAIBKcLAJPQB8qhj2q4xgJUAgSYFWwHQs9ya1HitZ4r+wK/sV/Yr+xX9j0B17jGsPyn5p+Js7603A6keKZYu6/K4Crc7q3e6t3vTc7q3e6jcxO4c5aMQBdojT7C/H931Wk/R/usI9MumEvNUrH63o3srVdtTMOdKudeoNst/RzCnYG9/phis/XrDF+E86HwH6B/PpTFYXDkU7DdwdH9VkjqNXKpznXGYr7ojsQLKHuGGTdG4ZmMrRBGF+lG8hpAvgWVjTCJC15YMDDJRQj2jllXCEAwhtgURlSAQYgE8AOwIBoPLyI4HaX56VjGAokmRIyFmBBo5M0eanlqBXbbXrqs6LAP53Y/30KXm9qx+KZcddz805I0fMq2zy3P2n5ztQIwaMii8sOdaZgOw/Y5nQOjtxcVPIDbAb4aj4d6BMDcU8II5JRvLJYX55vRUkHmAqVPBCtSMyhIKUGChQ6BBm0GEVGK0HFsut8LHoMlOLp5AhNQSDsSO7CJM0sMAACIgIMgRsFkyEMAqDnYUvgWEHKddR4E95/MbqblEpCClFttKHhymqQJWWe9m5Y2JZsRFaoJg2QQuf7czNYqOkQqTjrQrkqGShMDSjZGtIbPnML0Vuv8APFR2BeJEvATJpFQJLKCARqoZAvr7TU6j7h+6TqJOXM/SWCuZsEAWlCRvUOGAV4kUAbAAmOdTsSADGKEVcCCirGgFcHEg7NUHDixPgJEUiAutASBf5VIjw7cAAsGF6UECABSZwBc4A51oyCSZBI90/mhZByJxgNQoG8USMJikRYE2BGTp8SAYwECgi1gSFwC9LQWJzODAg6ujZDmkA5wsgGKiPrIG6KEwqQcVEbOgIhCyS3LAjqAA+Z6NCaaDJPeTcPRuKmYKEFRRmNNzBiaxvmubHOr0nQKZQxUI2+c0sw0LslyDkTPjKmMBgjBqo+BM2IbRnCRgKwghkPYAkFaxhkANwPRHvb0/lG93tQBP3pzmsipAF3djR5z80Jkrp/7sKejav8nDwJ3oEHxce9A2XjvPBR8a8z2/MYgq16TewL0yGVJsGdGKBMgxfA4UOmXhAIlYAKJRQImikwyCIQ2MCLIiRvWKOAVQhCEgRWJBJM04AIJo3VsGJb7CIo8ASTpWdSZYC8ZEQIJ8cCZIyhiTBRZndTQMl50gQKEEW4qCbg5pgEiXOab3hgBYSYKPbQAAAKiJskS2SS6BAATkmjFyIJWKs5TNFYGSoFiRd1orHtEFlkN+xFMqaMowHkYPBkRQQdgNbD8SuO9TiWuAXFOJOvExdEJBEAgBHCQBgshFIZkdEAI1SyNFIeqzJUGc8aHBAHWhxfnfDBikL8E9O9TSl8CAkV5kQMqKWg8ESIfbg4ZVowIQVgBbChDqgQZKP1aFRO5pUkq8siB5YHzAQKOQpEIMEJpul4nZlJ/w3IVC5iXnY6ogYYBWmG2y0hRKByU4AUXkkAauF7o9ws1KTQBoY/GZMDNRCpNgIIhfFElRDZ2ZryuCFiSLgJF0yzy3y3S0BMu9HjwbXITVQUAGgoITrzSIYFahJiWCJFGHAtokAMCrA5GiwnDQ/OUjxKIRYcWy2YvD6aU+KHdUcg1ochGs+0l0PCzqweniKHMfnCjMXSWZICHYnZl0VKGHgK4pdUN1JsgixBYIIFpsd1QxWdoAFhXuAEglxJSKAgGow0DPTrR4F94SrciixgEbEwIPA5ggGChRCEUIMgpAhLXKFACsUhFmxjRFjCqBugUqCi3xTAe55yaKGWDOgdFXoRTTn/2tVcxomkhWZT0HbEhUuM7BK2oMcRkEstfDawbSIiWdDAQsCxLWeg+aAXkcLhiPhIFF8QIyj44qDNlALHmlFg6EWFgDUiLkQAtmBJoAIVE1hCAkJSV8MRJMKgaCefeCqRAmgPwQ4MBBZUI6aNmE5Pnen9FJcXIC03Ag0VclAUZWEZRUaTQCy6pJnAgvjlLQKBcEy3Vv4/BREJY2ltO3ACxHEGFEKb5t0iIYwMESsZEhO2JE+vrAQmahvt7EA97Igyw153l2GWg2EJoUBnJ3IRmYEAihCFTyIbSQUAIklEUGg0+iIQEEGhQIlHkymVAIhAkOhBgMGobRFCHEAqQibDZB1ghx6IRLJ3yXyfaa2fhZ+vA9fYosAgByeEIMCgHycWP9MSWakWSi0ZmQCIBNI29l5eGQOLABCYINATeMYBGRmGEk0ha0uI8ik0GpqRWd2ulIyZIzK7Mk03YgZeE6o1MdySLMt7UChbyOj630xdG4EMHA+RiwaCLK6yR24wDAIFGQPIKJ4QlEnsVBWpW7EYgGGSK2l0bDhR5PGZoYzyCoCP5MBSUkFBpZq/vyowSAAUadNuKMxkSkOUoXJlQl0sQAsUMPZaGSVpp0FIJXCInEG4O+OdbGJeLufmjW80huDILAIQCiAIAA2tQELO16JKU47b/1VI1zvx/y1CFFjr4sub0EXc8i99OCn2MP+eoJFivFBtPOQcN8aYif3eNr0gW/Jx70Qm/9rQE04NBRj+8dHV9fRWOD3UZ+0k2yOLWgvEekWOMm4Z8U7AZkEjsgIQIQkJgOLlD9wYWio1DNBo0DqBi65l0BIEMAgRksGotElziA664UjiohAMyWSxgl1xxFAmNIGHbMwyZRc2GciiQ7JBInvgKSCkZhQHEOiMEBQMFFhEQeCESrGzfWKSiiUcoR5ss+/olkettaEmMFe+tS7demFEhTY8kccqiUXdlyKIW1ccvRKUfzl9caDPITznSpUYLD5qblYS9QYHOtTz/DFEGGjI2+OdqElZWtbmJmjB+6gcj8FMgLDTn9oFgJ+jj7GqaFjzeiXNM5n0amCNec3Ppv09T+j/D7SRtDs/uhYbek0k+SFQmAsksMUJuEkQRakGnkMCJvMFBaSIcV3QHyBQDNDG5xoCJVKSEEmKGYSU4AZmGZZALDBoDEAQJOdShhAUmQUQyAGYjDKhYIylvaIu0kTIpzigSxmV90C7EAJCgRDMkkmwF4h1NgqY+E0KAHR2NET1nfGgghR1sj45/lMFtrDSl2wePHRlHPT5VBIQ35akMB2ozuvpsBZxxprGbZU8M14dvSedcN0a/p6nn5NfXTn3U7c3jt1oLA/vUaIKTkY5rPepJkgctO3S1TiWTf/PS/t50w9BYhjoDOPN/aaJp9xffqL+sjXXfSmewlBAKIyLFJtlRCssIEgGIKGQcROAD1omRDO0GDBegCZhsOAZJAixKQBGoCyJAogUARBoIKEVuGFEhgAN7KggsWMILEC4kujMWCdUsiIrsgoRQY4TEOwY0GmLjMUSRqQCEQYOxKOYMjEUjfCzpJeVGF5P8AtIjnfnPkVe9Fzl6N2nWhFTIyxFsXwxbvQw4scTh4ow3EY8WNEkATPNK639irPQBsWfy/01mLj55/mfsxokOHzmdI4gRic5kBcxPuT9ogrj8SvOHtJvL1Z2HDe8omVIDC9IX05vVr36IcOFA5TN+FQAZjnPvpiBjxjjSJmFlj5tnDdYIfhG1EAXt/s83oiIthl+vepPDLioDHDm1NEmgxlRWq3D/rVYBL0/f9I6UwXS+n3uKIBIWN/wDO+tADWAuC/IrtBHI1YK5jfbn3TC12/fyoAGXoQbBdiBkQgVIw3Nnjy9c5xU5HxyN7ikwC527UMH0U0AMX0P7XDL2ajd8xokRpwa08fUmNn+0mdMYWoy99fboMesSBR3VOyA9CJUJujIVEShQbd+Okkgl/zz3rrzmXWrkhZanAvAfyiCMumFJh9BMef81ohh/ecFAB6c2pIfD5eg7Z0Il/nz+WqM9Vzvn5olmgpfSnC1dAmStz+V3v6NAbxFuc8030v847fHS3BlUSXksOnzpV/ioe08+6/wBj95jWOQyfXf8A040Sz8aCiMjWtAgayPWUYY8zoiSsPZYVUddk6EZ8PtJEyP2oCHf/AD6opTanfkKe0o0aXobPrn1RNlmvx0g/SozNhYH6XoSQz+D+0OPfeiCRz5z/AGjprq1xdhQBD1sLf5UkliOn1RAiI6IUTIEdZ5HzRDrf4/2mF4Gdf2osA8Z7nvapfsJdcUgG/wA1znmuGs+c5vR/MLqaRJQ54IX3ekilmzhzmFd2IXXPGAPzAWMmbpFO2HMzRZqj7PdUUSLoGPDC1rKE8vTemjHmiB+/bCphviW0v7S1J9j0LCrDQMu8/wBT154w2rD3a5H5rWZMa817UTtF5+ptv9UQjWVFqRj/AJ+UGOnaX18Xih264cwpYmfj/PipmSfrnas+f2lMC17Y5eYo2JH5U4rtQE5+hQEZ5kWxH7/VUCwY81f8n0eklQUVGcCSQBJigOzwMaIpy8kh6IQhKApEeggS9db7/wBG6oAO6BPCWIGGasRRQE0hJktXReKC2JEY1pmBBLI60/YAHKZHBVwGdRld+3pPL1D2oIWMC4iWJBeyT9eyIc07T+SAMj7T0Y/YtMg7qjYxTjZ/Z/dolVFc59TvQtprfWiHzzQaPPmN3SviXn0oMMpXNKB0A1hM5/3Kl+9f5++i3k8tbl6yVuePYUAjY5vvHbrXF57/AF6yh3U+oklcgUQ1QAYzi6uRSVYCBoBCiyNaEAjGEAgAFwAClOSsIEQg7pFUApncQVFIjMLiG8iC2UsrQWC8T4ylRwhhIUeYKyY/BdfIqJSOAhMHBmo0ANOnDUdKQPSTMR7QYR5OjZEDg4NCoS9jwcHpWsE84GlJF9AFDJ/RDxKFecvcoXRMvrdV7TR8jdiUCgOnowaRjiDwz6mQj6guiVg3xc8UM7Z7bRPH6XE8d+W29fF+cTy9oJc8vzI2FfXrfHumKAMAyF+YJIisUZjZxQr2AAIYAc9qCiRjrUmCBKgLAoXxn2KIAccCIocP67OEEmEXKCJVFocxFnMlMgDpqLOtvIgVkBFJoUASWtO8W0UCk7gE/pFA8mRdMHzQyGbR3BCEJ0FKDOgyRCbKgZCLN4KiLMsGgGsG1wMbTIJOZyG3/gaYuPVcf32mzkbtSLD0czFlwTnnz7SdCdFyKgoM6fPO1L/XPuX/AIeJctqB60rGMXEJoLmDBDK6Nj5ApaIFmWPYD7lTkhkq1SMBhIWkOAkl6I2aIaQE3oYe76AKKwAoognDXsptIW5CCn0RkkZSRLQmVylEPhbJ5MLQMREYUKcBiKWEqI2BSIFwjIMJIQAUAZVErwH9Z9uA8MkTqFIj4X86hFE8CIaEyfZb2HD+YH2LHYX9po2R+1RMDpj6cpI/fz7paG+2GPf/AICPy4KuVmPwc+ornOOmscfynS1vzyetFiCLDPXMduKgSctZ0wqVjOWeV390Dh3Od3hiutHmP/neFyaofcc/aSLkbyKykU8pAPGqQDTub1ZGI8GXfT/lbu3coiuqD5brTUiFXna9EHIo4j9+P5VoxwW2G2s0MyHL4a0edBAMXYPVDniiVs2c9+vihIeTgG+FW+anpj2KnAP0Tenpakbz7etPsH79ogg5GrwJOXkMUTNkx1PMKEHlaZj/AJbjkarGp9Pk2X8z6GgJGYDq+sLwcorcUJK18/eN6lHQ+eo/2hlPe/O0xQJ3NG+dzztQJJRYxyO2o/Kaw70SxOnE9rz6YHCB15P8pET1pFMpI6lb1YZfD9dELLmnsPR+oe4beZMMTYUWnweeM6g8rUwxA6P/ANuc7e8HxHQLUxEY25h1phrp55MYUAXkmLpDS9u9MNr3OHWMPNEymwEHU4m/MDThb9uuNtL50rnlucHtW5UiSz1tzvNDZc5FKkPjxV0DnPukcj2oiV0d57iv6RYB4/ntYWYb4lc35fdU3IYaw6n4/wCbIAS1hQCA2Gd8c0BuvajkaBqlvQDtQEzhflqDFjnTMehHce5Fv9UZGEnc8T7sTZDcvpq2fWPr+KFht/yCxVlls/F+2OXoSFwbgOeJFCbI7F/2r26zztQWY79+Z1BWBwlE7Z0wwGGZAYZGYFyMzTyAZcNYCukCGk4eFEvAZgCUCRU2EybUQEiEBgR1BDxIyRagF6hXdOTUlnmXsvaT2o4dXx7qlxPoEDiV6fz6DrQsNv8Ak8H4bUXotgEgxDoEBnXKAAJEzKEKGnz6A0MkRdlC+JIAQXWc/wDzf+bBWjFihcGWDAJEEyvginBjIOsSqgiQmKP0eDbYoxK0Onhpcgq99ACEMfRpQACwSjlERMM2BTOiBAKmCdeHWGhWM0rmUpQd+m3RohNJJTBjIAwIAJOWNIUJMrHPWM6oP9jLBpCTUGi06EP6zryWpF3/AJ0oHt80CwQ3c7+hhS3xn69wzETYIuk6QWFXJtzzQC75BpV4A+P+SJVFISEOSy4YzIJ1hcCFSshRhCAyCREAOCAAsUNASPDTAIAKQBhIEBFJ/h43ZX5DswxNAYevNoF5IGAUAcUQIRABAGGxnIgoNCiNDgVDbKTYBKEKBRX2SUkRunEEooEEoAAAABCCCAhAEAqvuTDzvdpgMAoSbgBClBKQRQSZCiuTgjZQQ2EmAkO4okChIphl4o2INA2UJMAGB9JJm/3BTv2HPunnTxlWWHL0kZ6gT9L+biiMNjLmVAQJyFgqcXoAMKxXtHzRYEpJaykkkrSTIknlT2qGwctJC/UQgzjRLhtcLauAmtH5/a0fn9rgJ/a5Cf2tH5rR+f2tH5/aAreR/a0Pn9rR+f2tH5/aVg8+laOtHWj81oaxkoYMgkAEgJCChxWk7D+PQt/kKEl5Nf5X+WH4r+E/fooJ/wAL4o30Jxb+F8UbSye9YJr1Z/qOjhbWT5SG+aQ4m36x0eIzLEZkZJ1J/wDqP//EACoRAAEDAgQGAwEBAQEAAAAAAAEAESEx8EFRYXEQgZGhscHR4fEgMGBA/9oACAECAQE/EP8Al2OSY5FMcimOR6JjkeiY5HoqVj/AlpMASScE+4CBQY/yEoWWQx3AA0YdHgdMD2YNsw6iXgqgARhINJ7Y1Nh7XduVd0XJbJWx3x+UWWLdaeafwnUH4Ufh1+D+FJ6d27r0kPLV2VODOB9I4e5J4juvxShxa0WpFFSuOXj9o4fiv6QyG6/SI3LPV1vNPuQPSKX50dkx2sPXLkEcwAQSBCXMB3sO5QeohV/VyckzjaMnuGcHR0DGHzJHJzqwPKdpmp4xciRiqhvrDmwgZoMzhfPXtCbefH9aftBP0LtIEiO+qIKbaHdnmzhBHmLKmqlocQiPRxDOmHFarWWB+9AU22acD03kcszi5zn71U/Vx3+a4TCx52VonIbo369tSisasnD6h39IewMO7Dr3Q2NW2k4wCogCTv8Ay8/dMdowiMxhEFEhPFkgyacWniUGQQzx8FRwCgyBLO5FUalvOAT0qUGSFgBRA76PLq6UxmTUxNWgmIDj7TP1MPaIn3d7JuZ7fCJ1Gw5W49VW/reOFd+7P5zV218kGfJc6oMx24SOy8gQaQLmUcM54KKhBAgPODYAAKp6uLOBZZB7iTACTLAUGQFi9bE41R5wpH45z057sUgcyDDgungBEYABgyLEIA04AwYRCwIIxSS1yhGjkzmCiOd1g+gCAYIgQaFGBCDihxCWgaMANgMGBAMjW0cidlKSXCQSWAnOBcpx0WApwSSS5xXp980xggGgxzc+F3g0k+bzQxQTEU9b4aM6BARj9z35dUCYzBFuRkojAAHIMzYQyJAoqzSVKbNs4COQhwLDD+Qe8I8IzzkuZndubdqUQ1DuZQGeLbABOwmhjGZzZA8EygQSIk905cdDt2j+aiYoOJIFRajtm6K3iIqDsxqLSQSwYTgiMgh1AEjSF5RArCPg5ZhmxeAV0FHRZkmhGyADGJJLQGQUIHjc3ghzNjkiMQQcTLZ40EOQkPqiACATBDLINwagkSVADWNjQk9AwClw0OIpRyWcSYNRNCHzQ3Zm4QIxItjJQcSSe9B+kaiV4whJF1cVqSEARBwZxUVOnGk8BUBTABmRB6SKhjXAUsQkjwqJpE7Qzj2XUGd7wkCbIdDeAaYH8TGCMAIRYdMpN04eiRjmWi1BMD4M+BhTJvDQMIZnSCky+gsgAxcmb6p1WLeW/V8W5hOrgewxso1g223dxOCD9RphtcLNnXXdBuWNMzh9ap3MXM+kGPqcbtkXG75D60y6jPo3vmr3sgPLC/Cfg56KTGtdOvVErIPB2kty8YPmD/IbHuJ5SUiMVwxu6ITXr81/ck8MXI0TBDd1zm6ZxABB0NGILFnEh85RgHI1QdBhhQskxPblAEniQCBKA0ABLxM7SCwxDFAIowK+ckER3A7EgMQXuTJKOgwkhhQB1EYGwkCGvAQpmy53uyghAgYYYFkrMTTMerSKYKJeJzSASwW6xBTPrgCafbQwLSQqUDEsTgNQgI6gkOQicQ9mgQwAAAgMAAAFAAAAAwDBGzi0HZB0ejjhN088surEFgx04YAE0R2kPJ7yjy8D7l4dUAGQMyny5IjBchPdqz3qgJYTOVWQSQC2jAJWJlXCkHQGlIjrx7+mHzXVaL/N5Q/zT0nAGYZ1HUpoEv3JEbbSzzB2yCMWYkIvAEgo/hYNQ22QWrYtwxcI7T9+0KPIHAU4i4JWgM4GoPXd5fTwiSX23sulwLWDjuTbFlR4PDFcHuk0UquxZBLsNC8cmhqNMXReyBc3rDmbANi0IdzJIxss8s5AJRq+1gAuduggg16rPfDiNmj4UDm3REgVWQmx7qF09CfWPDng4QZBUkGiix6r/CMo5DdmpoJ4wGRDkHauvlGCL2zTMtm7Dl/IPorUT9c5yrcLMcuVSng2dmzCKyAWB96VTN1NSXFGsWQa4AQXexAlGT9JlQBBEQyB3MDBMZA49Txh5EQ5O0tLSKQhhwuzzDwqc+ZZELILFMBLCYcnB2TFSCimBBmTtgJIU1kM0VCAF5cARJRJQIHDQfy3nrGgLrU5ROatmZQDAxJAcyiSz9OWsdORUIazdqIcI1OwSuHTte+4SkIIAGIjaICfRFONgSUlFKGDkEhph2pQmdZhD5lyByVeyQgABh6JlDgGBBYIDSRuLOjSyqiC8JoRgkep1swQMGAqdanhRPJ9KYKKnfU0MCq9sgLiU5IC24IQ7IIQo0RF6ptcJiYwjcotVOow+ongqNLIjYUxNZmWJ3zJJgScu/oiFBcAKoqh4muZoiJ1eoFiFgHajo1WlxOA+DcpwsQcZO+Bp7TqktmjbqWRG3CwnFuy/wDEYEElAymq7zADUx4EhgXNIH7ewBXQBN+oVzDmg6MhBa3bZv2gh8krOcqtN6rqrwEBXOzDEP5cTleKi/1Nizgg4MQzQtJ8/wAsbJEB9Xu/aBm+elyE4KevJrBBJ4oSo3Min6CAAvcNQYwpAAYDAEIGsJOHAIJBljIdizgJlvWY2AvifAJMakQHHYAyAOxaYc4JJNUQmYF6OOYMNujJEKoCB2eATsHYaDJO2Di5KKriZg0myL6SWdyDTjkGSAyFpCVIKAC1mgaqsmpnrwOdI8fhySASSXJJdD3gAGAABGAACDAoSpkq48UAiByKAwEzQ4UKiDzAQZhVMVLJO4V9wI0NQHK7t4k4lJJElNoSwAAAOAAEEAAAAAAYlS9VguqkQSwDqp7lbzQsQEE3wZkFVKkAQSoi3LyEZM6inAAACaiqTEmdxGrS6khJVPAiJaAUQDkam+UewM4Bx6RFd0BnVr79uiAAkGMgAWNWLY98V2aY5Jg7w8btMeW5p5iRByHGOmXVEdiAZBkO3XR8idk2hIFAQCMaW2VJcEDZMCGwi67JgQjJh4w0UBAMIwGMYD5QMXYFiDIBpk8ilYRNADLyHB6+PtYAAxgIFYjBCud3VUmIJ1lnWBI5fzokuEiIbpnTRuAS/gWNCXorlYR4INFThbPULwKVcjeIaVAXEAojKEghulyAzEAGZ4ooElSKHkGABsCYTb1eUAkBhJwAx3TAGyRNZgXmlMI4AvcW7sEVpVCZLT6XWThkI8PZcpQQ4ERiD7/X6HW0q6SEz2v9xdYmbleOal7s/axa7sKrv0reKMGilG02zbeKqjH5/TeSBGI5p/12e4QbOj43e7p724ZS09sYx7bhWLuUCGkbb6+800shGWvK5UoETiafR7cBmhjEO07kN8JP8t/JNGNu+enQcipUq/e/BUxVHFKps3VkAYnIunI2mLCERAR1IQWAAwIIUwICcBwCgEwdAhAoItBu4MGgAkgBSXAbESAjAAA5YAkF2LbETPOMTVwgzBKMIQGSIM5yEkiaiAGoORJIZUO49VWTwDMgMYCZZSFNlIaB8SwfGVGAAUAGAIAMABA/0s1oewpjl0D69fK78DvenpThMy+Gn4iCzvqA2N5okmM+7069s1N4fKwvY6qK6Hb71UvWhvth+Kr9LvNUL3jR45GP4wqdm92Vu3Tl0+ECbznD84OFmCiagOj17afzrSW2yVZ/FCs1R8P155Z2pDnRQkx5FNlDMXDREUZlRTUlXPEEsKkYODqa1PHA0gmgTmGHmfsjuGIGJwRQP3uA4CdKIBuXSS+vAEBnCKTQkRIYGQBQDahGwv4uIKMHslopwBiF3SEwSS+gwAGACICQcMgACXAwMSRE/wCn1Db+c1622fDZVYXRsOfyr68GZLxMX3WlbwUiGystPx3Qcu74G72QMm7prVXZ+P4Dsd6j7PXnhCrLgES15w9hHTFpPNB95hOulwHNFtgynAx/Opna9Bbb69hVO1qbNWogh3QYqHjcM3crGxNOgZmOh9sgzPqnYku2Ix8ekSTNe5OWKeVWDtnMtjF4Jz7T6nTT+gxGuf8AhOnHhcPflHyesPhGnzHn6notE3fmiCTbkRqCwCgoIJiQCS/eTeiBlnw77qgnJRXnx6Xk0fOFUDsHxyyj5Qp7vtgnuvhS83c2ODnO9c+FPDzdGrqnY8gjwgzjEs8hmz/z+ucrC7Rnhhv11RF+nRTp6O9hPgAxlujjbfqq0GYxF8xdUcBNeiDsUQU1DmgYNPdtV3wZuOR34bf2/qew9pCOTj6s0CIcz0odendYxTymjoup93tkpxu21U1zjPxTz7dTK2rvmmeuCN3fxXhTW6XigTmMend/KfKe3Y5U2xhDLBzVqfu/JDHQ8L2VChb+2Qm0yHqxbE667fz+ISvaNzeN4qF9j61R3UgMb1JI6PQk4x+fpFmrsdeBAY1yFOqB6NBt0YMUHr4Tmegyx5/zUUpgNdtf7dlfVNLcIRByanPX37oiEz+39rPtfbXFkUIi7gIEwoFgl2Rw4DBwQ3PDlneyL0Kn7UPWTfXymEt4ppxfgPNcPpkDgL71wGC7srprXIcfrC/tVk8UArhyWgaJEc4Jf+b4XvKNSHN/qx+FVWhcjPc4cACBrFAmoDvdeBMbhFuQjeZ8oMRogZt3++G95fX8WF5/gFnzgXp9cAndnHX5zXyZC1c+EjyPBCaC9H62ENAh8GgQAEE0STMa+0k1sHXZN0ByN2Si0WFGwqBC2AqZMZEnCYyIZkiAMyUEPQ4ND3LAblgQtqlG6on0AtCrNMtr9qWI1Li7ZCDuCM3iK+M8EIE1G6tHFtGQMEHdxd2ycG50OoLUNCh56/qJsXfJBwVjKfzgzdgHDNi+jY/zbxp5RLVwr1EtnnNOqk41qa7cvhTT3c+WdGxBXaO4RcN5CFzsoU3X14kB6W5zsd+iCYlduj14b/4V2RBe2KlvombkJSbrrYTmF8bETAZeaz7bG/P2THMlbBOvRyDCe5f5NylX3TxV4iCtmbOqLlsXFEQFn0F45nvu4aTqgwg8Y74CE8Qqgnb6Qy7kicarCOZocWYXBG4kQBoAlGsFz/q/JBcPH67PehTK3D6HPJgfBEMWg09YaHi+8dPvRFg1pzCq3OLw8o8FyfOtd256/wA2kreUZqwM0P0in1eC1LzwmuNUwAm79qNReEJhg/I3OnZVX4qmprwGbJ9US99zrwkiMbv1xaH/AIAcoACZnLjeKLblV/oDBttVIvZYqyMSiZYI8Y91qCs+IyHJU15Zn4SKFj9AygACSBEKw7VShCQUTFUFveLe5XgAsURidYNuNuq1AxeNZ6iYpxDuE5CgPJ6LfMt5SoMbFVOWApnoMIPtJNPzELTlEJkLpEH+yklj3GLAgSo2jg5IHM9FUIz0vJkRxfW+VOfD2imobtl73hcwcHE4qeEKjfK7whHOCFDiS8o8/wA/mUr2jNH5XF6oFsspU/sKvLd/604QBxmM0BAemTPdcEWgYINve6LBiIpl99Ux3WhkshAMdMuDsESE6oOnDG7hG3sUQx6dU1dODEVHx9rlx5/1fv1GLH2z9QMNgQRRIymPvbgFTDYxQgaVO6XJyZxRAraDb1CslvETL0XXUF45GWFDaaaoDmFgS03VB9K0HYk4tG4CONVCbMYHvaokOtq7AhoTgmIk5I/Jip4ByoW8MCXM4slApgAsToDEjhQYagqYFZoGY8htqcB0OflPmm8vHpDCQHbC3Jh8kLuzwYDqjn0wJHfL+fw3miIkQSDyLTsLhFNb17yh/aZI6InpTI4AmppuQ/zbqTUR+/SbhfpHkogANc00gqrYTrboxSleo4kyAH26JcvwAfh3bZumAxhLPphki5MV1vugAwauN0spmAESfx7zwlEvB6ZPr8phV6ReD94KDkNWenx78vGowgVyrIqoMClvVs6rDI9u3niH5UfnjdE77b4VvLg7wL/bwU74erxQM+eXwhLw9ddhYQ00s/aODiCArSxgP5D4iMf5/TGEs6gugOzYoROqZGfm0u4HatFh3WECxcd1WvT+CxqpYM2dURYzrT3dEKUvTSEXIET+/CITDkmjJvxY8psUGxRIDEYvUa344/DrXdpWnhGuXrMDBvOafKny/VEcwx2ys8uAl+2Dbuh3nGkawjO7R76+tVimjaXRRfdF43nhGV9EKk4Z+WPjysHZyzbjGltKfrd+U7RynPTweFPCLPf0yDUclY+UDyEfyGoEOoZE0HtnyzQvQzGaIWD40XXZGJNUzieyYvTqnNLac+MCqcOzupO+NEAfqJaUSOnGSQjrgOAIMsTffREARu2lxVMAHf3XgPUhzH76qb3WnRQAsEs9WvdGCJgRFivJPBZ3acf3EystbxvJP5a/KrTWdKck7p4iPlV+35coySBjXlTqiOjDO76p/F1vnxnOvK9fpdQ1QzPr6OaGG3QYz541RJ9IHZFwPI0DcS/oHJA8k2humyqFcQ135RX+T0p+bB5hTj/GyId7vFAWmvC7vnwZNtOHhSLUAz50zQg0p2vBEl8n5bJ410szy9OXxQgvmnKsGFjH6TKis3MWKfGxuqN94T10nDPTJSIgzvlyVA1Nav7dNQb1oDm8XggDd49Rmm0jYJqTrb3KEEjobvZVzDzthVbsqdr+lf79puHLt7w2lNMExD+tL0fzbfqnS/PZVeEMY2Nk6ZGL3nKk/wBMzQGMfqrog9D1sBHdYdej8G5o1O/+Dgc/4B5xFE5t53onPAMdP0TmdffC67yCuq9unSnjRRQWN9vSIJ2eNo9VypkhN06r8u8NFhLVMfOX42a9n7vdE8ikbaZt0hOxjbDK2Tg44sPzyaq2WrXkpqqDTzWkekzQtECtb2Q0voqQcxz35YIHkGfl+3nwY/xrm+VumTEvmcOcWEqc8P5IxVMZRGWFu6KgTklgJutIanf/AAx09354MdgQc5pxhFXmwgB0rN0vRnXp2bNAAwElaFovmmYc+HI/XoDkOIbHqUq0ZyzpzuZbQV1y5oe7mqa1GnStEbCeoyfMAIfUSgWIZw4JBDiZGeTiERKSDsDCCxDkAxyq8uJBZQqH4ED7AwBmgw6HQGM6bl65zBgAr0G82m14ynIBUa1KKxc3DRk2hgR0AOIomoJaMEoTU4J08Uwp9Qrz/ERet4d1Zb51+kzhxg0YaxXdA4YvHuctB9q+qFvfmFV+eb3QGJKAs7ig+4Hb+mtw3MMy3whUboR6dJzncuwOhP8AkwFBxIBqvD3fJHPQ32UngBLDJqIsVVcz7T8NGJUz+2P1I+ZyAzXAGqqvtz4rV8lxniYSj31cYdtCWGmKYuSVFBGnA50lnVVBMeCLGRGy/G0CAgmuj9cE2RsYtnS0H6U++4gKV6Au4UwdHrix0xRIukm8LqGj07KFY12YHyggWgBvSE7HmkYySYjVEQsXSkdqpa6elF+XhTqnsQiYpwaYaeOizsdeue6xaY5C6Bcr8RgYl6y4gk0hv6KAAxDAHwrCHQuhmd6X5UyhPkIANJkA51EVoL/wMvHdAgaRe5RfAOnGcqjDce8tk6waNJMjNjAPIorfOFzsCCUxZzPVCeryDmAIUzBRmN4TpJaMPHkIsdzv3GN2TQyoiHS5JVHhJN2BBQ7itGYNiH4uwkIFdwWPBvKSEJI5klBRHBFht5fOCZGDufrngZEypFqiIm4ILSElqcqhYigjwAc8BAL92tujT7r4nEGIAcAAcZdQgaBPFpjuDEcZURsUzB0MnkhCBj6g+uS7GJAXxhryQc8JWztYVD3cfSBPM7sgdW2oYCk2cEf4EkNIjnjEjdIIf5DRW2lZnqQ6mgBNzSc91Obt5FKEam5B5AiFMN5OGqSXfqWhR0qOhTibgkVwX+b5ppJppBBBLERajp8FqOnwT3htAiSMmMbw7hJ/c+V5UgDL9Q46EgiTh3f8uvtT03QA0syeSQAX6/YECAKc0vk19mXsUFINdiZMjRVbioEXDscqnAWAqARA4AUQKg2iAxkt0uZCizlXdy75uKdVp0rO4GjAB/1H/8QAKBAAAgEDAwQCAwEBAQAAAAAAAREhADFBUWFxgZGh8LHB0eHxECBg/9oACAEBAAE/EP8Ay7Go71/YFfw35r3L7r3X7/yMQ3DyOgIAEBAwQWCDYgiCDr/2PyBIfJMAASQgAAklVcpGRs8NwsrqNCIbgrKYNEwkmhXTLrSynN0DMilgKBFBFOAyhBpmT7pzsjYXLXXCaJL6A+UAEtNeoDcF6RCNJxuJXSCqSaO7huAGogsMpihZIFhgEEcxhiWGzobZcQuEwxuEyAYdcwzeFjR5gchQOU5MjsgRJnMQUJBpqM4SFizsib6BZqSC2YQC5EKxBuS4FAjJpQcaAG5b5ipAhXkrMkpHlPMPIDAyPG4MkIZgvCrCBZd1OgtqvBShAXCIRCZFiUKMHKxRMCQd6JhZ2vEF6xFDkhGgNwJPGoiSBSTJQARd1Ut+ORcpTBySIG0rATYjc0CPIiKOW+QgohGssS4kKYS5kimtFA9yklvCUEA4EggSQAzMLO6iSkNbLEOcoFiFhFjAnuuBOxglumG5WBJ2DdyxlanEsljBDDtmwQJZDh0QgsxwvkXeGyJEom9WKr4GcC4kztuQ9cpubDynzVt02DD2DOAxZz1rdpyqGjYZufFRyHqZw4BT40oGCSJKGI01rr4rFIB0MF4EvU8UXEoQhOIMasCaan+QHiHUxUEe8jGR26eKQLoF2TiGTtsbRSgdK9FaxtQeBchIohAE3ScioYSlFp1pBAM0P+Qv2PaTwAF9hPxQZyAV35kQw0CjJbLhvYUSrF4iQyBthrvjmgCACw2OLAV34hDBOEic20Aoy8LzY620o4AAyfwdVFjwBGRtG954dQxEWUe7aPEbUG4KRr9U0UgQSQUgLa721ExGCQh2xhSkdm1EQBNzZgPbGlqLDkLoOIUFaKZoCGSLk5srkWUrcQqmEZGTmTbZgNoRQzgVJNM20iMgkRBFRGCQYA2QsPZLI3CTV4zlZwPABNDTC9JQ2AGXxm64vmasagAYemv5wBV0X0CZdpAjeMrag4AOAO3LAPUQTmgog4sqISZQuMm9HUI072E1gQEQeKBmyQU4BJSaMSRmU2CAVPDBCY4u1FQkiyZdHAQX1xPLTJoV0akTJOgTKspmsOsBFmhBIkYNG2BRYtbZCFAAAERAmFMDgIMewCFhUEjY06LMiJGnkgiQIAIGCZKTCAkFZFGQGcwQEIoiACELs8IGgDDrBZZ5GzJjwk0m0IQJUk+fVtIdlmIi+Y53mi3GOjbtAX7Na0AE0SCBYbnXV00NoEjxrbrAe1ZBzjqLsWi53oIlZH4RcgYlRxQo7kgyfNw4tbWiwCz5ABcAc90BFBi+ZpCJBLDDg2av/mC3WUAIUIxaBY6CyGj2oxsQdYayOvs0KkiDgliiLYaDYoehrGPkQK8dEjiYuhuGYUU8SY6oaOyTb+BYChMGh+aCBiBHN5uWVa2K15cZTZtqGTqdNKQ45GjVVebfyGibo4QI0VzUQOGBgg4DAiotuSe4Tp9CUokgvCK8k13X+uFDbnox/wDc6911CKcRmMIY7i5jP6Ul+AxauS6vEZbfHoLQb0OeLueLGMikykh7+hd0BYEi1EMEF/6hhCKJOsHJl+GtxAJthSTE7mobTSWEvhZHch2w031L6asTSC/iJkIBQEQo+makFqkvwr4ec1tUTjobHAnAyuiQMjsOpwKAjI4CwUN0ngj81AhJ3swfuiAyht59uM1FmCxcW4ettZdQBXevdrzqelatIAELf5eFOaIGb6vPHN+ZhUoXxobj+WcUQKgwkOxzladaRnEZZ7wziiiIGvRWHEVOex6TOmn7NKELljxnwaKWGGCTm5AxmPzRiC8Hsph4THmkXInUG+B7jmrk4RuQe1500xSoatTIgPQpvC/5jF2/pKdERwH700fmjAYF8Nm94Wl3SBSEGpQLcOQVooNVgKvdMweL1EaMkCohj/PesMzsHYKaVdpDkqKVyNlf0UBXFfGRy7xTCaHR1FY5YbUgoDVleIXN0R5WjUw0ehrxQdBHH2TrWSYBwhJ8BqD/APNkT/TU8BBYmtBUq6jGe5Gx5yCpOq9lfwK09W9LY7qWsRamOaOEKdZoCKOhhCJ5Srgm8AJuHvGABEBQezAWBUD3ZZeekigxaQmgjUjpCfCgItGcYtFnnFjGpa4gIEBAvdoC7nYZ2oIaIQLSIJ0/lKgIHf0hBu2LA6QAIjHGZZgXlQ/MLRYRiqAC9ufQXiJ3dAAq8vugbVVraBIiZeABES5MwqS81cIGgT6EwUjQBlQC5oaeCqYvbwmk9jKWlNEKKuZwG8g96dBRrULqwz8ZNUEAZMFvYh6IQVUhxVXqBE/JBX6kiolFkhxzAg/w+lOjI221zSoVYu+miBvmn/Z6SoH3JII5U0BFU62Mr3gaVrekRhA29DEhpi/cbLbXl0zAQQo7TNgW6Xz/ANLlBgIBcTkxMPsOm7cCAEGcXtONxxFEuO4AedTAlGIhT5ea06trSMxoa3ZdUlDJkeakrLlodUoRxZrnBiXW+NtSlhyhMIZxiFQAY6yZyi/61AhDbH6HAvv8q4+MXg6bWiMvjQYiCMGkQiqBLCNLOBc7uACi1UoaAFDGG4LRcBQY/XkhCfPt6OnNI6gC25oflLOMK55+kTxMl86hrGCCiAViiEF3yS9ikgK3aQcpDywDigFTmCYAhggjdIDkoAL/AAld9bd5WK09Or8Ceis7gUUoYu/5zQwjIkFHJaiJOonFwcqGiXy7gUTg6kRREehh1TBZKWkAA0ZdpQQe1doRjUclybr8dZ+dKNIgEZ3ATFCwUm4kmY8I/MuY1mvgGga5tijP/hK9S7mMc6rLYh2vxDAJAjoCngBf2ZYt/eN596TbBaTt4oRUDtKn8kxTfcwJovH50OeECJJKBQDbdCNd95N6CqEfNclB5DJ0BeghSXOyiQIs089jkCditMgdL1xeZ8C6oI7lGQT4BqcoF/Qemb2MqOCnNvmiTRBqGhJ9Pxf9Xkg/Q2adqIKhlfjD16SNcUlOY2IqZizvSPeFTNHfUDWKkYY+OJiHBET1gtAGj0hl3XduJUaBmZ9Xg0PADhVSykjE/QQfyeUElTWWqoEHq4yZD4iKNQWDBUSAbCG/IIJjKCKAQjNd46OgzfbHDjkXVSYQmw75qglZSMFYNhAAgUNARAggCQQmCQkHT6o6ZhWSnMXdeIgKIkofWwzACs2VURPYDIGHErq3S3/+Ixr+KUFBVmr8hznoAbSeVnTyT3uCYEDFbYAy8JEQgKFdoUvEZZSpoE6JJHZJJJGJJLJee5opDmDJsCIo2oFIBRKjfIJMqaACJCRBTUJQUcAPHpCEQBUS4Gk3ODmT8UE3gg9jIFnvBgS6ZAUASDiDu1RmpAMX2fhBUUA2IYISAslmx2V564n6085bJIw6AQFm6bYCgzaTBAJXgQxq31opLwWIEASHdstpagwLdII82Jm570kd1dOXAufc00gBK9G10kTZ0AFEq4iCtJPodKBMhEAmCVY55FBQAiGGxqhPT8UUyCXMi3JLZOXQKBD7vXg21dXsfrW0tf8AlVpc6MzmZ/bPSiULMLN726dOlHeG8AZzBAZFmwzZM0u3iSkvjpGKSgQbqHQ2cKippNVr00EZdbYF89gwB8PDkcBWAA+Q/gx6TtqsKcfYuX+AY3L2v8rFBj1Vo8NGwZz/AFdHhN9UIpIEEIQiCEiCAMYDu/8AL0CxQKhb38xRPxE+bx5INezP315pkwBu3e64j2aJgEBHI13109ioM8A3MPHnFB37us8/VZvIJv7rTL+yOq2vY2eKuBza76spmLZrEGB+784bNIRcSURf9dJ4o2YclrOI7fdK6TN0i8m7hwKDAFDktFXvfaLd6TCgO5C7bR6KR/E/0jzR9XvB5P3tRa/Prna9ASHfN7ce60iWjH0LcPTmlcBEjFpUToXvxRAnWHLnTDzMlUHqCJt3WEGcU2CSBK+XF76ZWKMu8GOqtpPWiUAuMZV+ojnFe8HxvUmEsTbc80vXBbc32SaCnYf8rulNAgppQGPeervShJgWL6z7maYgVAMlmHkED12dInSgpLCUycaC3LHli8iKolwrRPsGBZYtME0vSnDeGYqm1/kR2zVcSFa8fmm/aJMWNzVTok4PrXTvQddDAZNMnkDAmV+BOF/3Zj1XxNp6xjtRnn39V7vPOlXuwV6HrmMM6f51h9cdHorzMUIzsbSc8J3ApsBkcqXsPFEgWuR9Rx4raJ11et8UJJJXnx9b3zQADOzOw+ulGBOpF1JA0xpyYoAF3u7RLjf9Yq4O89vzFDQ7I2vdu2p6mtjhTHN+9MQJIaPU+bKgAZiNkiNM+2qJjI6/QvZUU+k7k2HbH06Lsow47n5orA91664Lyqshsx0txsaNhQb7hjT4Sai7b5126UTY7IbfkemjCEY9961mBF/c3U1GHlzgh99D5dEDDQDbczMYHwJqI22nI19bbmJAXQw3gwMlf877l9DSrIs8ASPXFAxw0Obr1Vk9660E4Iy/dOE7cdl+eVyEoIPrE4iSnv8AYn+1vRkfT40KG8B9VyzOeZm5Dt+tM2i1oAVo1Kd2KMrmZbuANtvHJImrU8iLwPMGNLPiqeUfQ/XpJMiKMj/gRxKm/uMUV19tRv8AeFFgvcUomM2Wr52FAcBIyT+cA3pO+Z+vYpMjQbWSh33/AHRLv6No60CgLo73wf1vXbp7COnUUALLDn1xMx+axdjvtvYDCm9C4U26LcwOk607kqAZN8krFttKteDI8sHXi/NqdGbjfD24Bfim31/GL3JMTpTOScjrCJtvamsuCmNPrpN+KSvieXvkjvpUE6+IM32qIQ16TuLl+dKI7yHHPr+bEZYtKQ9y9qVwP48y/FXatfYG2fqjHXeXfHXpRvqDjfJ/po7CWx242a4ir3cA5nVcH1VAcCZ0KZ760SXIxWCc/A2k5/5yJwrE+qSz6aezeyoBYgF/QidDxigA+6PYeNvtSrBYGCamHy18KIIMt4EqBdZtknIgEkYiDGzCOD1BUb43WSRZkbyybCZIdMIjxXKAYEonUACCgFcugTcRDIkgKQSSCzQOQMhBJSAiSCLwLJ0FAxg9ATnEAOG8gkXOVHPTgThKQ1AwwJr31iucW3OnA/NGo+IOTQlP9Ifd6UO/2fq3SKWfX708UEPuGZ3/ABxIrB9Rv51m9Ak+8jz80l3EdVb1UY5yCP5b9RW6bkcaW+FQHIcDP9/vNK7RgBRPi3B5o4MKQ1ADfwoMhCoAp1ICA6Ar+zRJDniN8Ze1Zgl9lr9V91tcsDVDWbrL6WojVnwtCr4m1xcUA1DWmvthtmow5F18u/Xi9FHxm4Bu426+CJ0D+Nevt6kE+nG8/boCAGC19+eaSnOmuvvwFSkR9a9J0pLMBrh++ayXlX5Nl6auiZbODm4v996QAYAxWjLqjpj/AJ/ulVWraMfrjhUAL6t6xqde+BSw2FJwsenW5CtaJzRuOEnxnWgRqkY44tfRTNZfa5+jWUARqeaFlcSu35hXvTtjVz0HHiiQAVeI9xQ9+6Hx09Eeuu3v9oML8ef5Qk3k34+/ZrB2/PLlVA7L3n2auCDvx7tfWg3XQfmOavN9gSDOtp9BmkyyZGOsfuoRi44076ddhwzrakP5/NDkvJflnIV99FACABIEWYgRacQdE5ovJLRmIGvT0UBknfiP0oqDa7Xs7vBqGs8Lzm9EDUzbqvdb4pgDgE/l/gN6TzBje1n81tZFQPF4ttMqpZumQABvzew2D1JDyrdDk3PRfZogMQT6r0r8H0nf5xSJiCAJ6ALsFpJkh1JFSfb+raoQIKAIHtvxrUaCdHTa0baVJERzdCAnPq4dICbZb3B+fM0MVWIrOTICe2M/8/w2lUQTleOltc0McnjSR1nVdDQODurofALZiRQwe6IuFTyiX+/fTSQJhyRNgMfqgIOxfbJKFsgVJ6o8P9560ymTwp9yaTHT5pT/ADz7wa1eD+vO3WlcrAnYf0+aWs8YNzf3esAn9/mNMUcItnXHv8pcxh/jNnP1QBV94W++9Io/w2Gvf+0T+u36oqI1768j2KvV3T79iv1txWQACgLFEFApcZ0WorSCHPg3nPwTS/D9xP4oOTv77zR1APB5BwZVlAnAAkYYUbeD0tf6dWA27Y5JjwAN3V2GhsWuwgtG0SVRBGwEzeR7vMUYCLbupBJ7YY4q6uDZ6ku84tlvioQW877e4OtEdmMk2jtzr1owJ2uw/YOB80GdgwDF4t3J0GtJi2/Y3/GwGlG5y9MEfq+maEJyCt/fdjYtwXmrTELhatZ9xRmsFirqA8G48DX/AJ/m8n7ooETbOKmR8ouf4KJPS7N70Ag9BRAMT9m/3QLEIc6fFYPEqVqqSTOtylYWzPmgDa986nVPHfvRHWQ3AH10/tEdo6t5GP3USIsehlH8VcemO/5UZjW7R4JXcR2phzj3C/NAdF38vW3opYjpxq4euakEaW4t2Pg0yc2/I06URqb54zdLWkA0X8ZJ382FBgiRGg039dFFpzHp1fWKuSxxs7zcVwMiTFu3Gk5oZnZEuMtpPqdPDXJ2H6dHrQLa7opR8A4FVdt3gLdOm2tMXDAZYxzaxc6VEW2mJPHWICsUhMVAKNKhARCKAyqedxWPWJ3I21KZINNOADqd/VJoNgEwwRtGwtFEJl6ggq4bGluhAVBoAAslCUDuFwo0WBWH1FESufpioIhQ8WW+CLHW7xsQEic+5jnWaRQ4lWVkNJ0uKIAIK0ZoM4PfMo/vSiCCMkkWdo7dfmoNMHXu+et65CgIOQNUfh/z/DedA2kZ0Wzt9xpSQHpay39GDBogzF2oDA4uC3oSzsfq3mrjEP39E9dKgQQSPM9vb0ABMP4CcV09v7vQC9GnHvatMA399FEDVWnVX+qgW8fjEikE+iWPvNAE69rmNNJ3HFAHN9GdELzfelJLj8PrsqQLMnlj7+KkB7f39ZpYKV3AeVHrqSQOhXt8FYXzSR6W+jzpoO4TzLv7peaRrVdL8eKCZfMvzH2f80Ff80+lfe4Fb4C4TKRp6mRGtJy9KxloBxLhMI4NJqqg/wDVUzcTVmHUqlOm0Sre2S3ECOpMXM4i/wD5fD9qu08AO3+FsRMJtFKHgM5LFCjh788lngS1XXHqj7rR3B7DOZ+sMFgfaatU72Pkq1dYphWg/eXiiJZCEAcjPE318LoAQLypvgCKW0caZJ06dYwNthkmNdXUGsnj0+xQwUN2e2saw69jbPfhZr/n+HwPugQGUsOIBKy82oSyGX+IZryMOynp8nSrj1f1PSvfzSEHR2/H3/gEb6fn++HTR945rsY4/cUxL17b+IrL84+vb4AY+DFo5n90logeXvqr4pZw1iCcR9ZqRIiLEK/F/NIjHX6aUkH3+D6xzRL+juO870RoDsCPx86a0EAAxE2sQTOw/dAMsqDdiQc8eRQEn99T7isGESkA5sC61trT4P4OIBmIP6j8LekOA7pCs1KDTIAkEkYwMtWIiQJjN3f2PQIbJrSM1KioYbxDsAbAqg53jC7m7s6Kg+0iQU/9BA18/Pgno3Riij5/ItxwKkS4qbUXhy7aFa4r2ESAYcGgvC56lQMN1KFLjNokjAR01qgoGlktvWfxQTbVjR8Y9tSXQItn0KiLoBgH6xt5oSICVqMyPq8SKky0YOIvuBM4OKBNaQtZ7fG9NF96v62en/P8vxUIMrA9kO150CIpoHfA297lOice7Ow7jFCZefP1zrTqWPvzesrePKtSncN7dpoaovGdbffSg/Rx7hKh3Zi+knuvDpiVrsvr5r0lr9ChfiOeRS7NvR9vdqwCgW+9OmKAaJ9Dwcb5NLxt59+qQYdv7/PNXFjrxt9Vhm6n5P5NENg38KkB2VTPEr75nzQjZ6vnxfPaC/BuuARyKYvfF3xF8seIQVKSpPJAk0JBWszYRnsboi5Sk9cIycBatp2gknjaTJHH5o2jusOpZP8AiKlokhSEL/b9hUO2Lkv/ADexKTEjKkCogZaDntLoge1Riphh1NcqDCvF2SdcRiYNP+sSaQJJwSLt9lRhHFjj4+KORepbR2c5dZRtnzy4HfegEsHus843ogRdQ3C99FEYyOvjg6qiLbV5N/fukQM4+onDKx/z/T0HSSFlERBncjMvahTZL8gtlRd32XAx6vQvEiXg7/PmrRcqOg6DpU4hEZ2wYj70rSUhD3vbxV0MKz30iD880IkPsSPxjuaELbSeNPfqMI8d/d/9v77ekLxvrstfFLHpur4pX23ptMZ99VXLPu1JY929OaI6bz8fq9ECMd5ft+xNBIvnRb+9taEQXOTWL21DF8w0fs0EM221M0SWZYwu/t8U2yywAj8r4oBmzu7nQzeb9KJKSkr5fb7RRXUB2Uuycsdq63Yc+7d6t+6zt9e4pyo213+q+KErjWM207xsKCBzYIvSD48UgCrS1HHuKWS0XrCkrcemtFyf2doNnigxyPT80YXI+33oQAzxmBge9KMkgIFJIMbIegf8hsi7gosC0KzIJY/PpoggZiFox72nNTUi0FgrqzbP3R1aHXpnxQDh3mOLTkfJmjAasmcae6Vk3Oi9hUBBTvxytqASsNvbAf5q+bdfdKT0C398a0iZP4Vq4Rpn0YplyXJ+gp5orTAPa/7p3YVnu/miT2He696Vqg3Bj5+OlDQb5tp40pIDMp6HX2+abbfIQstNNM1fD7fFuK7C7HoDQwWwXXm5380JGv3udD8aUsoK6Y6AbZoBwWFk2n3WpIdsLfX7ZorDeqcxZCaMPyxefiPnQU1ogZ3HXSjj+jo+f89Hu1Fr3r2mOgoziWbBtdfZoo3vxLkbQ1YuKYsLF+F15y4pB66c/wBtSsdm4NyfofiinPaYP3e+Zpfz33pQEjA5H3jM0MgcZAzmp+HP/IIakO4oAJEAcEJMeNHQ9SOVjRexiiDIu28B1ccUWdA11J092oCNdNROD7pUGXbPs2oQGB7j9n/F3pYnP6+H4oS44uL6+zURkPlaemZxQDCOY9vVwcFe/NSvdVPvap/OfX+6QQzafx89aenLOmh8BDSi5evff3XesY0n277CkwoNyPx3pGQ07dPelAIMz6g4nvUPct/TpUEYDPGuAS572p4yGWjB0yfh9aBQhYJn1RSIVD2cxGsbua2tB7iJ4xqXfK3xnTPlc0JEmJsfZfoFBsrIPddv7sYhrorQ/FApORgazNwRFIavRT4NEXV/xp/bOaSNzck5TLvEbeJogJS4ev744dEA6CEZF8W391qxk95n4XzUj7vvO2PXRmT99L4v90ccPvrK/lGL2TzHSgcrO+z8L/8ARBfIMwYF9WZIqw2xJwX7ND0Bg8Vwi+NqAAlRzJ6fToW/xauQe7j6qbRaRuXniG6IJP4yZ2B44vRZggwRRRkXgsEdx5pCzS4n3bWgHIEPj1RrSBtBt+vxxvQhulso619AjRnp8fNIQKwhcgItsWNgiRGhmoBxN+lGGm/FEBBkq4AJzZR0mrhBZYZ8cihAWnbDn2/WgkKMyitfNvxUcec/Zf3isAgCNuoJnOcUYRsBIxuxO+tPPF/X7FXLM6Jjs4w3rRIk34ufdKBpfFnx9LcUS4zebR86UJcaj5JgfO1GQD3HD/f06toVHPSmrfzX2KYMm0nb3fvSCQQJv199dEmpZJy9DaJ2gZrqOo8FkvE2oJm/bsKIIMZFZ5391KIPoM6pnuPNEob5Atf69mkEufHeb9dKZ7vXz/6FoEu2WWyXjV0MvSLY+etDOYHvzWG9opB0Md8uffiDb3evc+96199+qhTqLt49jWkM/Fjn3bvQ99z+aJmNJI93pd9lj2/evf7rtasNd/kexmiY9C+Rbf5oSvoTsevzINdxPga7T3VLwA99aOZz37RSjUvVQSB2GTDB2neaFrKc7/tYvQ+pf0u9WH87KN9aEh2fqqxIa7mXl/vJCo6o8nqo59vQtZH2Rtm2DmiF82uO/izStyrO/wB7jxWTOhM2/PbnSoHZL5XvakETrzd7P3mss/av896tg64YxzfFEOzG+nPt6URdXfvekXFiJlfAP4o2Jg988tsZoycl4xpnV4ojNy0vPxtFFIWr9104vUhWj3F89qZctvr5pxl+hgPasY/6SiCgDHbBFu9EC/692dIjB1t3HB6upOpxcioWG9X1v2H9oAxeTY9Vxt9URI2Mrt7/AGgI3w873zQyxpn58Xo2DHQ4dmPh+KtoWU+nnFqA9i/B39dExIRB2QBOk5GaQzaD6bADPHSrGNs3OvvWgE1jGun6drs1d7jHXp90UDsfH7oACSAcEj3veetLSSTHnu+1AN4/PzS761p5jCYn+0KkIGBZLbBXAK6VgE7uhAbixOpNtpRm+cUahIwYm5oAyBlNEHUQubsishKMYpBkBAKIBYhkA0RdGbRMizgMQhBJEWYuCxMBWRAIuAIjIIImRoMFRMGcgXMSyKNORBqz7TVwndm5KYUKjxA0oZIQADkQwQKEFeJZECaACQShkFcIqSRYW7m/nikSch4VrevpSfo+9opKMskE6hLga93mpDa5jU39B3rVNjG35+5xMk6PJgMfO5/NfyM4x9770eSM21mNPRSLKF6M08oLP/QzMHp248AD11oHvNYgBPMMd/TVtlj8zFSvGeIfehwaYnIS68VACOqZVtdZ61f1ePxNRhOXOTb3nehWw66nz780jKPuvNESMgcs+813OgDXQUuvNbADc5XwetAAWH+i/JrACOOse7qkLzjx7PP+Od1v69aHqgoTDEfwSkmgqte009imNaJpe7/Qohui2MalPsEjaaKzsCMRQ3MvHUisaVgQGEPKURbmsVCkNqsTMwJhhqd8nxQOGoQYR6olGZC8YCpIfCF7mgknWXVHGnLkSki2PmoYqao9SGlPPcS6rkBtEr54ROXgLISlMYWioISNWl5X48URhMoTb2M0UFXT9LQOfnCBg0z4d/c7RUIdmt5iewO9CEomdzyeQqR++BLNznp/0dgAAgKYGmdOQKi0N2tbe5pGdxKIbl490qAhKbDQJ+fb0EEECdyBNlU5La9wZI+c+bVdzaMY+DvQmOrhj6mj+pfuhbEG4r+yKBtw6MbULKHQK8yII0+54tXE4EeZcfVHjBdOyeH5mlt9rus7v4rVHGN79Otfkvq9HzWF2mpG+fc0Yl5Dm9WdRemfxSTlMT+T1b0cCKw0ElQmhK8nMyeKO2RCwJkDLWFLYhIAnCgQH+THk6IDCRWKgAWvq04VcHOUmOQFtQJcCBRH/vcMYQoLBQBR38RXATwFAUrC1r/fWlAagTx3JjlBhsRYKAwXFtQnGGADWACosf8Aai4V423tDTDaEt2mcW6YhidkBIBOIAIOIMrFYUd9OpJTlDRwxSSnuLZ08Uy7J0yBZF51zNI4HLn83zm9XTwPa9xGbUGSX8XML10FLCcZFu10u1QkfUGFJuqSuRn/AEBtJm8Ez2DFxIQANIF+6L9/1QC3LTg5mANhgxWd0uSM751vPNTbeB0GstSY0mbOT19D+KAU416bulAOfU/ydAYVUTlkCdd10AggIH+dH/IERsEraHk1SW/YvIagKLG980vZ7/7rQ67H7vQyHRUeoMIYJLPhLEmKGK7cmdyHpagMAEi0/wAt1pH5Du58WoDt4ntCtU/BdiY63qydYvk1CvY1ketANtGiCxvJPkHtagEsNyyvll3ol1Z5bqdNIJMQEGb5PvesRJyb5h0oQhccknqdHGUJk4vWSqyOXck81TwjIWbmgsHwH4oPAIXxuPejgJMEEE4CCwQQyCAQcEUkuSP/AAQgP/Uf/9k=");
-		medications.add(entityMedication);
-
-		entityMedicationRepository.saveAll(medications);
-	}
-
-	protected void preLoadDrones()
-	{
-		EntityDrone entityDrone = null;
-
-		List<EntityDrone> drones = new ArrayList<EntityDrone>();
-
-		entityDrone = new EntityDrone();
-		entityDrone.setSerial_number(StringUtil.generateUniqueId(7));
-		entityDrone.setModel(Drone.LIGHT.getModel());
-		entityDrone.setWeight_limit(Drone.LIGHT.getWeightLimit());
-		entityDrone.setBattery_capacity("25");
-		entityDrone.setState(DroneState.IDLE.getDescription());
-		drones.add(entityDrone);
-
-		entityDrone = new EntityDrone();
-		entityDrone.setSerial_number(StringUtil.generateUniqueId(7));
-		entityDrone.setModel(Drone.MIDDLE.getModel());
-		entityDrone.setWeight_limit(Drone.MIDDLE.getWeightLimit());
-		entityDrone.setBattery_capacity("30");
-		entityDrone.setState(DroneState.IDLE.getDescription());
-		drones.add(entityDrone);
-
-		entityDrone = new EntityDrone();
-		entityDrone.setSerial_number(StringUtil.generateUniqueId(7));
-		entityDrone.setModel(Drone.CRUISER.getModel());
-		entityDrone.setWeight_limit(Drone.CRUISER.getWeightLimit());
-		entityDrone.setBattery_capacity("50");
-		entityDrone.setState(DroneState.IDLE.getDescription());
-		drones.add(entityDrone);
-
-		entityDrone = new EntityDrone();
-		entityDrone.setSerial_number(StringUtil.generateUniqueId(7));
-		entityDrone.setModel(Drone.HEAVY.getModel());
-		entityDrone.setWeight_limit(Drone.HEAVY.getWeightLimit());
-		entityDrone.setBattery_capacity("70");
-		entityDrone.setState(DroneState.DELIVERING.getDescription());
-		drones.add(entityDrone);
-
-		entityDroneRepository.saveAll(drones);
-	}
 }
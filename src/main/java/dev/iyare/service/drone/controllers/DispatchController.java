@@ -1,17 +1,16 @@
 package dev.iyare.service.drone.controllers;
 
-import java.util.Arrays;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,8 +18,12 @@ import org.springframework.web.bind.annotation.RestController;
 import dev.iyare.service.drone.entities.EntityDrone;
 import dev.iyare.service.drone.entities.EntityMedication;
 import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.journal.FleetJournal;
 import dev.iyare.service.drone.models.request.LoadDroneRequest;
 import dev.iyare.service.drone.models.request.LoadedDroneRequest;
+import dev.iyare.service.drone.models.request.MedicationRequest;
 import dev.iyare.service.drone.models.request.RegisterDroneRequest;
 import dev.iyare.service.drone.models.response.AbstractResponse;
 import dev.iyare.service.drone.models.response.DroneBatteryLevelResponse;
@@ -28,10 +31,16 @@ import dev.iyare.service.drone.models.response.DronesAvailableResponse;
 import dev.iyare.service.drone.models.response.LoadDroneResponse;
 import dev.iyare.service.drone.models.response.LoadedDroneResponse;
 import dev.iyare.service.drone.models.response.RegisterDroneResponse;
+import dev.iyare.service.drone.models.response.v1.DroneView;
+import dev.iyare.service.drone.models.response.v1.MedicationView;
 import dev.iyare.service.drone.repositories.EntityDroneRepository;
 import dev.iyare.service.drone.repositories.EntityMedicationRepository;
+import dev.iyare.service.drone.service.DroneLifecycleService;
+import dev.iyare.service.drone.service.DroneLoadingService;
+import dev.iyare.service.drone.utils.JsonRequestReader;
 import dev.iyare.service.drone.utils.JsonUtil;
 import dev.iyare.service.drone.utils.RegExPatternUtil;
+import dev.iyare.service.drone.utils.StringUtil;
 
 @RestController
 @RequestMapping("/drone/app/v1/service")
@@ -41,35 +50,45 @@ public class DispatchController
 
 	EntityDroneRepository entityDroneRepository;
 	EntityMedicationRepository entityMedicationRepository;
+	JsonRequestReader jsonRequestReader;
+	DroneLoadingService droneLoadingService;
+	FleetRegistry fleetRegistry;
+	DroneLifecycleService droneLifecycleService;
+	FleetJournal fleetJournal;
 
 	public DispatchController(EntityDroneRepository entityDroneRepository,
-			EntityMedicationRepository entityMedicationRepository)
+			EntityMedicationRepository entityMedicationRepository, JsonRequestReader jsonRequestReader,
+			DroneLoadingService droneLoadingService, FleetRegistry fleetRegistry,
+			DroneLifecycleService droneLifecycleService, FleetJournal fleetJournal)
 	{
 		this.entityDroneRepository = entityDroneRepository;
 		this.entityMedicationRepository = entityMedicationRepository;
+		this.jsonRequestReader = jsonRequestReader;
+		this.droneLoadingService = droneLoadingService;
+		this.fleetRegistry = fleetRegistry;
+		this.droneLifecycleService = droneLifecycleService;
+		this.fleetJournal = fleetJournal;
 	}
 
 	@PostMapping(value = "/register-drone")
-	public @ResponseBody String registerDrone(@RequestHeader HttpHeaders headers, @RequestBody String request)
+	public @ResponseBody String registerDrone(InputStream request)
 	{
 		String response = null;
 		RegisterDroneResponse registerDroneResponse = null;
 
 		try
 		{
-			if (isHeadersValid(headers) == false)
-			{
-				return JsonUtil.toJson(invalidHeader(new RegisterDroneResponse()));
-			}
-
-			RegisterDroneRequest registerDroneRequest = JsonUtil.fromJson(request, RegisterDroneRequest.class);
+			RegisterDroneRequest registerDroneRequest = jsonRequestReader.readRegisterDroneRequest(request);
 //			logger.info("registerDroneRequest: " + JsonUtil.toJson(registerDroneRequest));
 
 			String serialNumber = registerDroneRequest.getSerial_number();
 			String model = registerDroneRequest.getModel();
-			String weightLimit = registerDroneRequest.getWeight_limit();
-			String batteryCapacity = registerDroneRequest.getBattery_capacity();
-			String state = registerDroneRequest.getState().toUpperCase();
+			int weightLimit = StringUtil.parseInteger(registerDroneRequest.getWeight_limit(), "weight_limit");
+			int batteryCapacity = StringUtil.parseInteger(registerDroneRequest.getBattery_capacity(),
+					"battery_capacity");
+			DroneState state = DroneState.fromDescription(registerDroneRequest.getState());
+			if (state == null)
+				throw new IllegalArgumentException("Invalid Drone State: " + registerDroneRequest.getState());
 
 			EntityDrone entityDrone = new EntityDrone();
 			entityDrone.setSerial_number(serialNumber);
@@ -78,7 +97,10 @@ public class DispatchController
 			entityDrone.setBattery_capacity(batteryCapacity);
 			entityDrone.setState(state);
 
-			entityDroneRepository.save(entityDrone);
+			DroneSnapshot registered = DroneSnapshot.of(entityDroneRepository.save(entityDrone));
+			fleetRegistry.put(registered);
+			droneLifecycleService.scheduleAfterCommit(Collections.singletonList(registered));
+			fleetJournal.appendDrones(Collections.singletonList(registered));
 
 			registerDroneResponse = new RegisterDroneResponse();
 			registerDroneResponse.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
@@ -103,109 +125,59 @@ public class DispatchController
 	}
 
 	@PostMapping(value = "/load-drone-with-meds")
-	public @ResponseBody String loadDroneWithMeds(@RequestHeader HttpHeaders headers, @RequestBody String request)
+	public @ResponseBody String loadDroneWithMeds(InputStream request)
 	{
 		String response = null;
 		LoadDroneResponse loadDroneResponse = null;
 
 		try
 		{
-			if (isHeadersValid(headers) == false)
-			{
-				return JsonUtil.toJson(invalidHeader(new LoadDroneResponse()));
-			}
-
-			LoadDroneRequest loadDroneRequest = JsonUtil.fromJson(request, LoadDroneRequest.class);
+			LoadDroneRequest loadDroneRequest = jsonRequestReader.readLoadDroneRequest(request);
 //			logger.info("loadDroneRequest: " + JsonUtil.toJson(loadDroneRequest));
 
 			String serialNumber = loadDroneRequest.getSerial_number();
 
-			EntityDrone entityDroneFound;
-			if (Objects.nonNull(serialNumber))
+			if (Objects.isNull(serialNumber))
 			{
-				entityDroneFound = entityDroneRepository.verifyDroneAvailable(serialNumber);
-				logger.info("entityDrone: " + JsonUtil.toJson(entityDroneFound));
-
-				if (Objects.nonNull(entityDroneFound))
-				{
-
-					if (Integer.parseInt(entityDroneFound.getBattery_capacity()) < 25)
-					{
-						loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
-								entityDroneFound.getModel() + " battery Level is below operating capacity");
-						response = JsonUtil.toJson(loadDroneResponse);
-						return response;
-					}
-
-					List<EntityMedication> medications = Arrays.asList(JsonUtil
-							.fromJson(JsonUtil.toJson(loadDroneRequest.getMedications()), EntityMedication[].class));
-
-					int totalMedicationsWeight = 0;
-					for (EntityMedication medication : medications)
-					{
-						boolean medName = RegExPatternUtil.matchMedName(medication.getName());
-
-						if (medName == false)
-						{
-							loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
-									"Invalid Medication Name");
-							response = JsonUtil.toJson(loadDroneResponse);
-							break;
-						}
-
-						boolean medCode = RegExPatternUtil.matchMedCode(medication.getCode());
-						if (medCode == false)
-						{
-							loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
-									"Invalid Medication Code");
-							response = JsonUtil.toJson(loadDroneResponse);
-							break;
-						}
-
-						totalMedicationsWeight += Integer.parseInt(medication.getWeight());
-
-						medication.setDrone_serial_number(entityDroneFound.getSerial_number());
-					}
-
-					int droneWeightLimit = Integer.parseInt(entityDroneFound.getWeight_limit());
-					if (totalMedicationsWeight > droneWeightLimit)
-					{
-						loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
-								"Medications weight exceeds Drone's carrying capacity.");
-						return JsonUtil.toJson(loadDroneResponse);
-					} else if (totalMedicationsWeight < droneWeightLimit)
-					{
-
-						entityMedicationRepository.saveAll(medications);
-
-						entityDroneRepository.updateState(DroneState.LOADING.getDescription(),
-								entityDroneFound.getSerial_number());
-
-					} else if (totalMedicationsWeight == droneWeightLimit)
-					{
-						entityMedicationRepository.saveAll(medications);
+				loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(), "Drone not available/found");
+				return JsonUtil.toJson(loadDroneResponse);
+			}
 
-						entityDroneRepository.updateState(DroneState.LOADED.getDescription(),
-								entityDroneFound.getSerial_number());
-					}
+			List<EntityMedication> medications = toEntities(loadDroneRequest.getMedications());
 
-					loadDroneResponse = new LoadDroneResponse();
-					loadDroneResponse.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
-					loadDroneResponse.setResponseMessage(AbstractResponse.SUCCESSFUL);
-					loadDroneResponse.setResponseDescription("Medications Loaded!");
-					response = JsonUtil.toJson(loadDroneResponse);
+			String invalid = medications.isEmpty() ? "No Medications to load" : validate(medications);
+			if (invalid != null)
+			{
+				loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(), invalid);
+				return JsonUtil.toJson(loadDroneResponse);
+			}
 
-				} else
-				{
-					loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
-							"Drone not available/found");
-					response = JsonUtil.toJson(loadDroneResponse);
-				}
-			} else
+			switch (droneLoadingService.load(serialNumber, medications))
 			{
+			case LOADING:
+			case LOADED:
+				loadDroneResponse = new LoadDroneResponse();
+				loadDroneResponse.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
+				loadDroneResponse.setResponseMessage(AbstractResponse.SUCCESSFUL);
+				loadDroneResponse.setResponseDescription("Medications Loaded!");
+				break;
+			case BATTERY_LOW:
+				loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
+						"Drone " + serialNumber + " battery Level is below operating capacity");
+				break;
+			case OVERWEIGHT:
+				loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
+						"Medications weight exceeds Drone's carrying capacity.");
+				break;
+			case CONFLICT:
+				loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(),
+						"Drone is being updated by another request, please retry");
+				break;
+			default:
 				loadDroneResponse = (LoadDroneResponse) failed(new LoadDroneResponse(), "Drone not available/found");
-				response = JsonUtil.toJson(loadDroneResponse);
 			}
+			response = JsonUtil.toJson(loadDroneResponse);
+
 		} catch (Exception e)
 		{
 			e.printStackTrace();
@@ -218,38 +190,38 @@ public class DispatchController
 	}
 
 	@PostMapping(value = "/check-loaded-medlist-for-drone")
-	public @ResponseBody String checkMedicationsForDrone(@RequestHeader HttpHeaders headers,
-			@RequestBody String request)
+	public @ResponseBody String checkMedicationsForDrone(InputStream request)
 	{
 		String response = null;
 		LoadedDroneResponse loadedDroneResponse = null;
 
 		try
 		{
-			if (isHeadersValid(headers) == false)
-			{
-				return JsonUtil.toJson(invalidHeader(new LoadDroneResponse()));
-			}
-
-			LoadedDroneRequest loadedDroneRequest = JsonUtil.fromJson(request, LoadedDroneRequest.class);
+			LoadedDroneRequest loadedDroneRequest = jsonRequestReader.readLoadedDroneRequest(request);
 			logger.info("loadedDroneRequest: " + JsonUtil.toJson(loadedDroneRequest));
 
 			String serialNumber = loadedDroneRequest.getSerial_number();
 
-			EntityDrone entityDroneFound;
+			DroneSnapshot droneFound;
 			if (Objects.nonNull(serialNumber))
 			{
-				entityDroneFound = entityDroneRepository.findBySerialNo(serialNumber);
-				logger.info("entityDrone: " + JsonUtil.toJson(entityDroneFound));
+				droneFound = fleetRegistry.get(serialNumber);
+				logger.info("drone: " + JsonUtil.toJson(droneFound));
 
-				if (Objects.nonNull(entityDroneFound))
+				if (Objects.nonNull(droneFound))
 				{
 
 					List<EntityMedication> medicationList = entityMedicationRepository
-							.findByDroneSerialNo(entityDroneFound.getSerial_number());
+							.findByDroneSerialNo(droneFound.getSerial_number());
+
+					List<MedicationView> medicationViews = new ArrayList<MedicationView>(medicationList.size());
+					for (EntityMedication medication : medicationList)
+					{
+						medicationViews.add(new MedicationView(medication));
+					}
 
 					loadedDroneResponse = new LoadedDroneResponse();
-					loadedDroneResponse.setData(JsonUtil.toJson(medicationList));
+					loadedDroneResponse.setData(JsonUtil.toJson(medicationViews));
 					loadedDroneResponse.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
 					loadedDroneResponse.setResponseMessage(AbstractResponse.SUCCESSFUL);
 					loadedDroneResponse.setResponseDescription("Loaded medication list found!");
@@ -280,24 +252,24 @@ public class DispatchController
 	}
 
 	@GetMapping(value = "/get-available-drones")
-	public @ResponseBody String availableDrones(@RequestHeader HttpHeaders headers)
+	public @ResponseBody String availableDrones()
 	{
 		String response = null;
 		DronesAvailableResponse dronesAvailableResponse = null;
 
 		try
 		{
-			if (isHeadersValid(headers) == false)
-			{
-				return JsonUtil.toJson(invalidHeader(new LoadDroneResponse()));
-			}
+			List<DroneSnapshot> dronesList = fleetRegistry.inStates(DroneState.AVAILABLE);
 
-			List<EntityDrone> entityDronesList = entityDroneRepository.findAvailableDrones();
-
-			if (Objects.nonNull(entityDronesList) && entityDronesList.size() > 0)
+			if (Objects.nonNull(dronesList) && dronesList.size() > 0)
 			{
 				dronesAvailableResponse = new DronesAvailableResponse();
-				dronesAvailableResponse.setData(JsonUtil.toJson(entityDronesList));
+				List<DroneView> droneViews = new ArrayList<DroneView>(dronesList.size());
+				for (DroneSnapshot drone : dronesList)
+				{
+					droneViews.add(new DroneView(drone));
+				}
+				dronesAvailableResponse.setData(JsonUtil.toJson(droneViews));
 				dronesAvailableResponse.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
 				dronesAvailableResponse.setResponseMessage(AbstractResponse.SUCCESSFUL);
 				dronesAvailableResponse.setResponseDescription("Available Drone(s) Found!");
@@ -322,25 +294,21 @@ public class DispatchController
 	}
 
 	@GetMapping(value = "/get-drone-battery-level/{serial_number}")
-	public @ResponseBody String droneBatteryLevel(@RequestHeader HttpHeaders headers,
-			@PathVariable String serial_number)
+	public @ResponseBody String droneBatteryLevel(@PathVariable String serial_number)
 	{
 		String response = null;
 
 		DroneBatteryLevelResponse droneBatteryLevelResponse = null;
 		try
 		{
-			if (isHeadersValid(headers) == false)
-			{
-				return JsonUtil.toJson(invalidHeader(new LoadDroneResponse()));
-			}
-
-			EntityDrone entityDrone = entityDroneRepository.findBySerialNo(serial_number);
-			if (Objects.nonNull(entityDrone))
+			DroneSnapshot drone = fleetRegistry.get(serial_number);
+			if (Objects.nonNull(drone))
 			{
 				droneBatteryLevelResponse = new DroneBatteryLevelResponse();
-				droneBatteryLevelResponse.setBatteryLevel(entityDrone.getBattery_capacity());
-				droneBatteryLevelResponse.setModel(entityDrone.getModel());
+				// an unknown level is left out, as it was when the column was text
+				droneBatteryLevelResponse.setBatteryLevel(
+						drone.getBattery_capacity() == null ? null : drone.getBattery_capacity().toString());
+				droneBatteryLevelResponse.setModel(drone.getModel());
 				droneBatteryLevelResponse.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
 				droneBatteryLevelResponse.setResponseMessage(AbstractResponse.SUCCESSFUL);
 				droneBatteryLevelResponse.setResponseDescription("Drone Found!");
@@ -365,41 +333,50 @@ public class DispatchController
 		return response;
 	}
 
-	private boolean isHeadersValid(HttpHeaders headers)
+	static List<EntityMedication> toEntities(List<MedicationRequest> medicationRequests)
 	{
-		boolean emptyValues, validValues;
-		try
-		{
-			String contentType = headers.get("Content-Type").get(0);
-			String publicKey = headers.get("PublicKey").get(0);
+		List<EntityMedication> medications = new ArrayList<EntityMedication>();
+		if (medicationRequests == null)
+			return medications;
 
-			emptyValues = Objects.isNull(contentType) || contentType.contentEquals("") || Objects.isNull(publicKey)
-					|| publicKey.contentEquals("");
+		for (MedicationRequest medicationRequest : medicationRequests)
+		{
+			EntityMedication medication = new EntityMedication();
+			medication.setName(medicationRequest.getName());
+			medication.setWeight(StringUtil.parseInteger(medicationRequest.getWeight(), "Medication Weight"));
+			medication.setCode(medicationRequest.getCode());
+			medication.setImage(medicationRequest.getImage());
+			medications.add(medication);
+		}
+		return medications;
+	}
 
-			if (emptyValues == true)
-				return false;
+	/**
+	 * @return why the medications cannot be loaded, or null if they all have a
+	 *         valid name, code and a weight above zero, and weigh less than
+	 *         {@link Integer#MAX_VALUE} together
+	 */
+	static String validate(List<EntityMedication> medications)
+	{
+		long totalWeight = 0;
+		for (EntityMedication medication : medications)
+		{
+			if (RegExPatternUtil.matchMedName(medication.getName()) == false)
+				return "Invalid Medication Name";
 
-			validValues = contentType.contentEquals("application/json")
-					&& publicKey.contentEquals("TXVzYWxhIHNvZnQgSW50ZXJ2aWV3");
+			if (RegExPatternUtil.matchMedCode(medication.getCode()) == false)
+				return "Invalid Medication Code";
 
-			if (validValues == true)
-				return true;
+			// a weight of zero or less would take weight off the drone
+			if (medication.getWeight() == null || medication.getWeight() <= 0)
+				return "Invalid Medication Weight";
 
-		} catch (Exception e)
-		{
-			e.printStackTrace();
-			return false;
+			totalWeight += medication.getWeight();
 		}
+		if (totalWeight > Integer.MAX_VALUE)
+			return "Medications weight exceeds Drone's carrying capacity.";
 
-		return emptyValues ^ validValues;
-	}
-
-	AbstractResponse invalidHeader(AbstractResponse response)
-	{
-		response.setResponseCode(AbstractResponse.FAILED_CODE);
-		response.setResponseMessage(AbstractResponse.FAILED);
-		response.setResponseDescription("Missing or Invalid Header(s)");
-		return response;
+		return null;
 	}
 
 	AbstractResponse failed(AbstractResponse response, String message)
@@ -0,0 +1,642 @@
+package dev.iyare.service.drone.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.google.gson.stream.JsonWriter;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.history.BatteryRollups;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.models.request.TelemetryRequest;
+import dev.iyare.service.drone.models.response.v2.ApiResponse;
+import dev.iyare.service.drone.models.response.v2.BatchRegistrationView;
+import dev.iyare.service.drone.models.response.v2.BatteryHistoryView;
+import dev.iyare.service.drone.models.response.v2.BatteryLevelView;
+import dev.iyare.service.drone.models.response.v2.DispatchView;
+import dev.iyare.service.drone.models.response.v2.DronePage;
+import dev.iyare.service.drone.models.response.v2.DroneView;
+import dev.iyare.service.drone.models.response.v2.ImportView;
+import dev.iyare.service.drone.models.response.v2.MedicationView;
+import dev.iyare.service.drone.models.response.v2.PlanView;
+import dev.iyare.service.drone.models.response.v2.ReconciliationView;
+import dev.iyare.service.drone.models.response.v2.RegistrationResult;
+import dev.iyare.service.drone.models.response.v2.TelemetryView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.EntityMedicationRepository;
+import dev.iyare.service.drone.service.BatteryAuditScheduler;
+import dev.iyare.service.drone.service.DispatchPlanningService;
+import dev.iyare.service.drone.service.DroneLifecycleService;
+import dev.iyare.service.drone.service.DroneLoadingService;
+import dev.iyare.service.drone.service.DroneRegistrationService;
+import dev.iyare.service.drone.service.FleetTransferService;
+import dev.iyare.service.drone.service.LoadedWeightReconciler;
+import dev.iyare.service.drone.service.TelemetryService;
+import dev.iyare.service.drone.utils.JsonRequestReader;
+import dev.iyare.service.drone.utils.JsonUtil;
+
+/**
+ * v2 of the service API. Responses use the typed {@link ApiResponse} envelope
+ * and are written once, straight to the servlet output stream.
+ */
+@RestController
+@RequestMapping("/drone/app/v2/service")
+public class DispatchControllerV2
+{
+	private static final Log logger = LogFactory.getLog(DispatchControllerV2.class);
+
+	static final String NDJSON = "application/x-ndjson";
+	static final String CSV = "text/csv";
+	static final String GZIP = "application/gzip";
+
+	EntityMedicationRepository entityMedicationRepository;
+	DroneJdbcRepository droneJdbcRepository;
+	DroneRegistrationService droneRegistrationService;
+	JsonRequestReader jsonRequestReader;
+	LoadedWeightReconciler loadedWeightReconciler;
+	FleetRegistry fleetRegistry;
+	DroneLoadingService droneLoadingService;
+	DispatchPlanningService dispatchPlanningService;
+	BatteryAuditScheduler batteryAuditScheduler;
+	BatteryRollups batteryRollups;
+	TelemetryService telemetryService;
+	DroneLifecycleService droneLifecycleService;
+	FleetTransferService fleetTransferService;
+
+	@Value("${drone.registration.batch-size:500}")
+	int registrationBatchSize;
+
+	@Value("${drone.available.max-page-size:1000}")
+	int maxPageSize;
+
+	@Value("${drone.available.fetch-size:500}")
+	int availableFetchSize;
+
+	@Value("${drone.history.max-buckets:10000}")
+	int maxHistoryBuckets;
+
+	public DispatchControllerV2(EntityMedicationRepository entityMedicationRepository,
+			DroneJdbcRepository droneJdbcRepository,
+			DroneRegistrationService droneRegistrationService, JsonRequestReader jsonRequestReader,
+			LoadedWeightReconciler loadedWeightReconciler, FleetRegistry fleetRegistry,
+			DroneLoadingService droneLoadingService, DispatchPlanningService dispatchPlanningService,
+			BatteryAuditScheduler batteryAuditScheduler, BatteryRollups batteryRollups,
+			TelemetryService telemetryService, DroneLifecycleService droneLifecycleService,
+			FleetTransferService fleetTransferService)
+	{
+		this.entityMedicationRepository = entityMedicationRepository;
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.droneRegistrationService = droneRegistrationService;
+		this.jsonRequestReader = jsonRequestReader;
+		this.loadedWeightReconciler = loadedWeightReconciler;
+		this.fleetRegistry = fleetRegistry;
+		this.droneLoadingService = droneLoadingService;
+		this.dispatchPlanningService = dispatchPlanningService;
+		this.batteryAuditScheduler = batteryAuditScheduler;
+		this.batteryRollups = batteryRollups;
+		this.telemetryService = telemetryService;
+		this.droneLifecycleService = droneLifecycleService;
+		this.fleetTransferService = fleetTransferService;
+	}
+
+	/**
+	 * Registers many drones in one call. The body is either a JSON array of
+	 * register-drone requests or NDJSON with one request per line. Every drone
+	 * gets its own result; one invalid drone does not reject the others.
+	 */
+	@PostMapping(value = "/register-drones", consumes = { MediaType.APPLICATION_JSON_VALUE, NDJSON })
+	public void registerDrones(InputStream request, HttpServletResponse response)
+			throws IOException
+	{
+		ApiResponse<BatchRegistrationView> apiResponse;
+
+		try
+		{
+			final List<RegistrationResult> results = new ArrayList<RegistrationResult>();
+			final Set<String> seenSerials = new HashSet<String>();
+
+			jsonRequestReader.readBatch(request, registrationBatchSize,
+					reader -> jsonRequestReader.readRegisterDroneRequest(reader),
+					(List<RegisterDroneRequest> chunk) -> results
+							.addAll(droneRegistrationService.register(chunk, seenSerials)));
+
+			apiResponse = ApiResponse.successful("Drone batch registration processed!",
+					new BatchRegistrationView(results));
+
+		} catch (Exception e)
+		{
+			logger.error("register-drones failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	/**
+	 * Without parameters, returns every available drone. With {@code limit},
+	 * returns one keyset page of drones whose id is greater than {@code after},
+	 * read from the fleet registry's id-ordered index from {@code after} on.
+	 * With {@code Accept: application/x-ndjson}, streams one drone per line
+	 * straight off a JDBC cursor.
+	 *
+	 * In every mode {@code min_battery} and {@code min_weight_limit} narrow the
+	 * result, in SQL for the stream and against the registry's snapshots
+	 * otherwise, e.g. {@code ?min_battery=25&min_weight_limit=300} returns only
+	 * drones that can be loaded with 300g right now.
+	 */
+	@GetMapping(value = "/get-available-drones")
+	public void availableDrones(@RequestParam(required = false) Long after,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(defaultValue = "0") int min_battery, @RequestParam(defaultValue = "0") int min_weight_limit,
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, HttpServletResponse response)
+			throws IOException
+	{
+		if (accept != null && accept.contains(NDJSON))
+		{
+			streamAvailableDrones(min_battery, min_weight_limit, response);
+			return;
+		}
+
+		if (limit != null)
+		{
+			availableDronesPage(min_battery, min_weight_limit, after == null ? 0 : after, limit, response);
+			return;
+		}
+
+		ApiResponse<List<DroneView>> apiResponse;
+
+		try
+		{
+			List<DroneSnapshot> dronesList = fleetRegistry.available(DroneState.AVAILABLE, min_battery,
+					min_weight_limit, 0, Integer.MAX_VALUE);
+
+			if (Objects.nonNull(dronesList) && dronesList.size() > 0)
+			{
+				List<DroneView> drones = new ArrayList<DroneView>(dronesList.size());
+				for (DroneSnapshot drone : dronesList)
+				{
+					drones.add(new DroneView(drone));
+				}
+				apiResponse = ApiResponse.successful("Available Drone(s) Found!", drones);
+			} else
+			{
+				apiResponse = ApiResponse.failed("No Drone(s) available");
+			}
+
+		} catch (Exception e)
+		{
+			logger.error("get-available-drones failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	private void availableDronesPage(int minBattery, int minWeightLimit, long after, int limit,
+			HttpServletResponse response) throws IOException
+	{
+		ApiResponse<DronePage> apiResponse;
+
+		try
+		{
+			int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+			List<DroneSnapshot> dronesList = fleetRegistry.available(DroneState.AVAILABLE, minBattery, minWeightLimit,
+					after, pageSize);
+
+			List<DroneView> drones = new ArrayList<DroneView>(dronesList.size());
+			for (DroneSnapshot drone : dronesList)
+			{
+				drones.add(new DroneView(drone));
+			}
+
+			Long nextAfter = dronesList.size() == pageSize ? dronesList.get(dronesList.size() - 1).getId() : null;
+
+			apiResponse = ApiResponse.successful(
+					drones.isEmpty() ? "No Drone(s) available" : "Available Drone(s) Found!",
+					new DronePage(drones, nextAfter));
+
+		} catch (Exception e)
+		{
+			logger.error("get-available-drones page failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	private void streamAvailableDrones(int minBattery, int minWeightLimit, HttpServletResponse response)
+			throws IOException
+	{
+		response.setContentType(NDJSON);
+		response.setCharacterEncoding("UTF-8");
+
+		final Writer writer = response.getWriter();
+		final JsonWriter jsonWriter = JsonUtil.newJsonWriter(writer);
+
+		try
+		{
+			droneJdbcRepository.forEachAvailableDrone(minBattery, minWeightLimit, availableFetchSize, rs ->
+			{
+				try
+				{
+					JsonUtil.toJson(new DroneView(rs.getString(1), rs.getString(2), (Integer) rs.getObject(3),
+							(Integer) rs.getObject(4), DroneState.fromCode(rs.getInt(5)).getDescription()), jsonWriter);
+					writer.write('\n');
+				} catch (IOException e)
+				{
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (RuntimeException e)
+		{
+			// the status line has already gone out, all we can do is stop
+			logger.error("get-available-drones stream failed", e);
+		}
+
+		writer.flush();
+	}
+
+	/**
+	 * Loads the medications onto whichever drone fits them best instead of one
+	 * named by the client. The body is a load-drone request; its
+	 * {@code serial_number}, if any, is ignored.
+	 */
+	@PostMapping(value = "/dispatch", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public void dispatch(InputStream request, HttpServletResponse response) throws IOException
+	{
+		ApiResponse<DispatchView> apiResponse;
+
+		try
+		{
+			List<EntityMedication> medications = DispatchController
+					.toEntities(jsonRequestReader.readLoadDroneRequest(request).getMedications());
+
+			String invalid = medications.isEmpty() ? "No Medications to dispatch"
+					: DispatchController.validate(medications);
+			if (invalid != null)
+			{
+				apiResponse = ApiResponse.failed(invalid);
+			} else
+			{
+				String serialNumber = droneLoadingService.dispatch(medications);
+				apiResponse = serialNumber == null ? ApiResponse.failed("No available drone can carry the medications")
+						: ApiResponse.successful("Medications dispatched!",
+								new DispatchView(fleetRegistry.get(serialNumber)));
+			}
+
+		} catch (Exception e)
+		{
+			logger.error("dispatch failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	/**
+	 * Packs a wave of orders onto the fleet in one call. The body is a JSON
+	 * array or NDJSON of load-drone requests without serial numbers; each
+	 * order's medications travel together on one drone. The whole plan is
+	 * committed at once, and orders no drone had room for come back unassigned.
+	 */
+	@PostMapping(value = "/plan-dispatch", consumes = { MediaType.APPLICATION_JSON_VALUE, NDJSON })
+	public void planDispatch(InputStream request, HttpServletResponse response) throws IOException
+	{
+		ApiResponse<PlanView> apiResponse;
+
+		try
+		{
+			final List<List<EntityMedication>> orders = new ArrayList<List<EntityMedication>>();
+			jsonRequestReader.readBatch(request, registrationBatchSize,
+					reader -> DispatchController.toEntities(jsonRequestReader.readLoadDroneRequest(reader).getMedications()),
+					(List<List<EntityMedication>> chunk) -> orders.addAll(chunk));
+
+			String invalid = orders.isEmpty() ? "No orders to dispatch" : null;
+			for (int i = 0; i < orders.size() && invalid == null; i++)
+			{
+				invalid = orders.get(i).isEmpty() ? "No Medications to dispatch"
+						: DispatchController.validate(orders.get(i));
+				if (invalid != null)
+					invalid = "Order " + i + ": " + invalid;
+			}
+
+			if (invalid != null)
+			{
+				apiResponse = ApiResponse.failed(invalid);
+			} else
+			{
+				PlanView plan = dispatchPlanningService.plan(orders);
+				apiResponse = plan == null
+						? ApiResponse.failed("Drones are being updated by other requests, please retry")
+						: ApiResponse.successful("Dispatch plan committed!", plan);
+			}
+
+		} catch (Exception e)
+		{
+			logger.error("plan-dispatch failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	@GetMapping(value = "/check-loaded-medlist-for-drone/{serial_number}")
+	public void checkMedicationsForDrone(@PathVariable String serial_number,
+			HttpServletResponse response) throws IOException
+	{
+		ApiResponse<List<MedicationView>> apiResponse;
+
+		try
+		{
+			DroneSnapshot droneFound = fleetRegistry.get(serial_number);
+
+			if (Objects.nonNull(droneFound))
+			{
+				List<EntityMedication> medicationList = entityMedicationRepository
+						.findByDroneSerialNo(droneFound.getSerial_number());
+
+				List<MedicationView> medications = new ArrayList<MedicationView>(medicationList.size());
+				for (EntityMedication entityMedication : medicationList)
+				{
+					medications.add(new MedicationView(entityMedication));
+				}
+				apiResponse = ApiResponse.successful("Loaded medication list found!", medications);
+			} else
+			{
+				apiResponse = ApiResponse.failed("Drone not available/found");
+			}
+
+		} catch (Exception e)
+		{
+			logger.error("check-loaded-medlist-for-drone failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	@GetMapping(value = "/get-drone-battery-level/{serial_number}")
+	public void droneBatteryLevel(@PathVariable String serial_number,
+			HttpServletResponse response) throws IOException
+	{
+		ApiResponse<BatteryLevelView> apiResponse;
+
+		try
+		{
+			DroneSnapshot drone = fleetRegistry.get(serial_number);
+			if (Objects.nonNull(drone))
+			{
+				apiResponse = ApiResponse.successful("Drone Found!", new BatteryLevelView(drone));
+			} else
+			{
+				apiResponse = ApiResponse.failed("Drone not found!");
+			}
+
+		} catch (Exception e)
+		{
+			logger.error("get-drone-battery-level failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	/**
+	 * Takes battery readings pushed by drones, as a JSON array or NDJSON of
+	 * {@code {"serial_number", "battery_capacity"}}. Readings are queued and
+	 * applied in batches shortly after the response; the response counts the
+	 * readings accepted, invalid, and dropped because the queue was full.
+	 */
+	@PostMapping(value = "/telemetry", consumes = { MediaType.APPLICATION_JSON_VALUE, NDJSON })
+	public void telemetry(InputStream request, HttpServletResponse response) throws IOException
+	{
+		ApiResponse<TelemetryView> apiResponse;
+
+		try
+		{
+			final TelemetryView counts = new TelemetryView();
+			jsonRequestReader.readBatch(request, registrationBatchSize,
+					reader -> jsonRequestReader.readTelemetryRequest(reader),
+					(List<TelemetryRequest> chunk) -> telemetryService.offer(chunk, counts));
+
+			apiResponse = ApiResponse.successful("Telemetry received!", counts);
+
+		} catch (Exception e)
+		{
+			logger.error("telemetry failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	@GetMapping(value = "/get-telemetry-status")
+	public void telemetryStatus(HttpServletResponse response) throws IOException
+	{
+		write(response, ApiResponse.successful("Telemetry status", telemetryService.status()));
+	}
+
+	@GetMapping(value = "/get-lifecycle-status")
+	public void lifecycleStatus(HttpServletResponse response) throws IOException
+	{
+		write(response, ApiResponse.successful("Drone lifecycle status", droneLifecycleService.status()));
+	}
+
+	/**
+	 * Min, max, average and last battery level per {@code step} bucket, from
+	 * the battery rollups. {@code from} and {@code to} take the response date
+	 * format or ISO 8601 and default to the last day; {@code step} takes a
+	 * duration such as {@code 15m}, {@code 1h} or {@code 1d} and must be a
+	 * whole number of minutes.
+	 */
+	@GetMapping(value = "/battery-history/{serial_number}")
+	public void batteryHistory(@PathVariable String serial_number, @RequestParam(required = false) String from,
+			@RequestParam(required = false) String to, @RequestParam(defaultValue = "1h") String step,
+			HttpServletResponse response) throws IOException
+	{
+		ApiResponse<BatteryHistoryView> apiResponse;
+
+		try
+		{
+			long toMillis = to == null ? System.currentTimeMillis() : JsonUtil.parseDate(to);
+			long fromMillis = from == null ? toMillis - BatteryRollups.DAY : JsonUtil.parseDate(from);
+			long stepMillis = DurationStyle.detectAndParse(step).toMillis();
+			long resolution = BatteryRollups.resolution(stepMillis);
+
+			if (resolution == 0)
+			{
+				apiResponse = ApiResponse.failed("Step must be a whole number of minutes");
+			} else if (fromMillis >= toMillis)
+			{
+				apiResponse = ApiResponse.failed("From must be before To");
+			} else if ((toMillis - fromMillis) / stepMillis >= maxHistoryBuckets)
+			{
+				apiResponse = ApiResponse.failed("Too many buckets, at most " + maxHistoryBuckets);
+			} else
+			{
+				BatteryHistoryView history = new BatteryHistoryView(serial_number, fromMillis, toMillis, stepMillis,
+						resolution);
+				if (batteryRollups.query(serial_number, fromMillis, toMillis, stepMillis, history::add))
+					apiResponse = ApiResponse.successful("Battery History Found!", history);
+				else
+					apiResponse = ApiResponse.failed("No battery history for drone");
+			}
+
+		} catch (IllegalArgumentException e)
+		{
+			apiResponse = ApiResponse.failed(e.getMessage());
+		} catch (Exception e)
+		{
+			logger.error("battery-history failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	/**
+	 * Rebuilds every drone's loaded_weight from its medications and reports how
+	 * many had drifted.
+	 */
+	@PostMapping(value = "/reconcile-loaded-weight")
+	public void reconcileLoadedWeight(HttpServletResponse response) throws IOException
+	{
+		ApiResponse<ReconciliationView> apiResponse;
+
+		try
+		{
+			apiResponse = ApiResponse.successful("Loaded weight reconciled", loadedWeightReconciler.reconcile());
+		} catch (Exception e)
+		{
+			logger.error("reconcile-loaded-weight failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	/**
+	 * Reloads the in-memory fleet registry from the drone table, for changes made
+	 * outside the application.
+	 */
+	@PostMapping(value = "/rebuild-fleet-registry")
+	public void rebuildFleetRegistry(HttpServletResponse response) throws IOException
+	{
+		ApiResponse<Integer> apiResponse;
+
+		try
+		{
+			apiResponse = ApiResponse.successful("Fleet registry rebuilt", fleetRegistry.rebuild());
+		} catch (Exception e)
+		{
+			logger.error("rebuild-fleet-registry failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	/**
+	 * Streams every row of {@code table}, one of {@code drones},
+	 * {@code medications} or {@code battery-history}, as {@code ndjson} or
+	 * {@code csv}, straight off a forward-only cursor. With {@code gzip=true}
+	 * the body is a gzipped file.
+	 */
+	@GetMapping(value = "/export/{table}")
+	public void export(@PathVariable String table,
+			@RequestParam(defaultValue = FleetTransferService.NDJSON) String format,
+			@RequestParam(defaultValue = "false") boolean gzip, HttpServletResponse response) throws IOException
+	{
+		if (!FleetTransferService.supports(table, format))
+		{
+			write(response, ApiResponse.failed("Unknown table or format, use drones, medications or battery-history "
+					+ "as ndjson or csv"));
+			return;
+		}
+
+		String fileName = table + "." + format + (gzip ? ".gz" : "");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+		if (gzip)
+			response.setContentType(GZIP);
+		else
+		{
+			response.setContentType(FleetTransferService.CSV.equals(format) ? CSV : NDJSON);
+			response.setCharacterEncoding("UTF-8");
+		}
+
+		try
+		{
+			fleetTransferService.export(table, format, gzip, response.getOutputStream());
+		} catch (IOException | RuntimeException e)
+		{
+			// the status line has already gone out, all we can do is stop
+			logger.error("export of " + table + " failed", e);
+		}
+	}
+
+	/**
+	 * Imports rows of {@code table} in the format its export writes, NDJSON
+	 * (or a JSON array) or CSV with a header row, gzipped or not. Drones whose
+	 * serial number is taken and invalid rows are counted as rejected.
+	 */
+	@PostMapping(value = "/import/{table}", consumes = { MediaType.APPLICATION_JSON_VALUE, NDJSON, CSV, GZIP,
+			MediaType.APPLICATION_OCTET_STREAM_VALUE })
+	public void importRows(@PathVariable String table,
+			@RequestParam(defaultValue = FleetTransferService.NDJSON) String format, InputStream request,
+			HttpServletResponse response) throws IOException
+	{
+		ApiResponse<ImportView> apiResponse;
+
+		try
+		{
+			apiResponse = ApiResponse.successful("Import processed!",
+					fleetTransferService.importRows(table, format, request));
+
+		} catch (Exception e)
+		{
+			logger.error("import of " + table + " failed", e);
+			apiResponse = ApiResponse.failed(e.getMessage());
+		}
+
+		write(response, apiResponse);
+	}
+
+	@GetMapping(value = "/get-battery-audit-status")
+	public void batteryAuditStatus(HttpServletResponse response) throws IOException
+	{
+		write(response, ApiResponse.successful("Battery audit status", batteryAuditScheduler.status()));
+	}
+
+	private void write(HttpServletResponse response, ApiResponse<?> apiResponse) throws IOException
+	{
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		JsonUtil.toJson(apiResponse, response.getWriter());
+	}
+}
@@ -31,6 +31,10 @@ public abstract class AbstractEntity implements Serializable, Cloneable {
         this.id = id;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
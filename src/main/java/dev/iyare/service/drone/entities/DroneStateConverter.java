@@ -0,0 +1,26 @@
+package dev.iyare.service.drone.entities;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import dev.iyare.service.drone.enums.DroneState;
+
+/**
+ * Stores {@link DroneState} as its {@link DroneState#getCode() code} in a
+ * SMALLINT column instead of the enum name or ordinal.
+ */
+@Converter
+public class DroneStateConverter implements AttributeConverter<DroneState, Short>
+{
+	@Override
+	public Short convertToDatabaseColumn(DroneState state)
+	{
+		return state == null ? null : Short.valueOf((short) state.getCode());
+	}
+
+	@Override
+	public DroneState convertToEntityAttribute(Short code)
+	{
+		return code == null ? null : DroneState.fromCode(code);
+	}
+}
@@ -1,6 +1,7 @@
 package dev.iyare.service.drone.entities;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
@@ -8,11 +9,21 @@ import javax.validation.constraints.NotNull;
 
 import org.hibernate.validator.constraints.Length;
 
+import dev.iyare.service.drone.enums.DroneState;
+
 @Entity(name = "drone")
 public class EntityDrone extends AbstractEntity
 {
 	private static final long serialVersionUID = 1L;
 
+	public static final int MIN_LOADING_BATTERY = 25;
+
+	/**
+	 * Battery levels a drone may be registered with, on v1 and v2 alike.
+	 */
+	public static final int MIN_BATTERY_CAPACITY = 25;
+	public static final int MAX_BATTERY_CAPACITY = 100;
+
 	@NotNull(message = "Drone serial number is required")
 	@Column(unique = true)
 	@Length(min = 1, max = 100, message = "Serial number should not be greater than 100 characters")
@@ -24,15 +35,23 @@ public class EntityDrone extends AbstractEntity
 
 	@NotNull(message = "Drone model is required")
 	@Max(value = 500, message = "weight should not be greater than 500 grams")
-	String weight_limit;
+	Integer weight_limit;
 
 	@NotNull(message = "Drone battery capacity is required")
-	@Min(value = 25, message = "Drone battery capacity should not be less than 25")
-	@Max(value = 100, message = "Drone battery capacity should not be greater than 100")
-	String battery_capacity;
+	@Min(value = MIN_BATTERY_CAPACITY, message = "Drone battery capacity should not be less than 25")
+	@Max(value = MAX_BATTERY_CAPACITY, message = "Drone battery capacity should not be greater than 100")
+	Integer battery_capacity;
+
+	/**
+	 * Total weight of the medications attached to the drone, maintained by the
+	 * load path in the same transaction as the medication insert.
+	 */
+	@NotNull
+	Integer loaded_weight = 0;
 
 	@NotNull(message = "Drone state is required i.e. IDLE, LOADING, LOADED, DELIVERING, DELIVERED, RETURNING")
-	String state;
+	@Convert(converter = DroneStateConverter.class)
+	DroneState state;
 
 	public EntityDrone()
 	{
@@ -59,32 +78,42 @@ public class EntityDrone extends AbstractEntity
 		this.model = model;
 	}
 
-	public String getWeight_limit()
+	public Integer getWeight_limit()
 	{
 		return weight_limit;
 	}
 
-	public void setWeight_limit(String weight_limit)
+	public void setWeight_limit(Integer weight_limit)
 	{
 		this.weight_limit = weight_limit;
 	}
 
-	public String getBattery_capacity()
+	public Integer getBattery_capacity()
 	{
 		return battery_capacity;
 	}
 
-	public void setBattery_capacity(String battery_capacity)
+	public void setBattery_capacity(Integer battery_capacity)
 	{
 		this.battery_capacity = battery_capacity;
 	}
 
-	public String getState()
+	public Integer getLoaded_weight()
+	{
+		return loaded_weight;
+	}
+
+	public void setLoaded_weight(Integer loaded_weight)
+	{
+		this.loaded_weight = loaded_weight;
+	}
+
+	public DroneState getState()
 	{
 		return state;
 	}
 
-	public void setState(String state)
+	public void setState(DroneState state)
 	{
 		this.state = state;
 	}
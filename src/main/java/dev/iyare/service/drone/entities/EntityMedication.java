@@ -15,7 +15,7 @@ public class EntityMedication extends AbstractEntity
 	String name;
 
 	@NotNull(message = "Medication weight is required")
-	String weight;
+	Integer weight;
 
 	@NotNull(message = "Medication code is required")
 	String code;
@@ -52,12 +52,12 @@ public class EntityMedication extends AbstractEntity
 		this.name = name;
 	}
 
-	public String getWeight()
+	public Integer getWeight()
 	{
 		return weight;
 	}
 
-	public void setWeight(String weight)
+	public void setWeight(Integer weight)
 	{
 		this.weight = weight;
 	}
@@ -2,23 +2,40 @@ package dev.iyare.service.drone.enums;
 
 public enum Drone
 {
-	LIGHT("125", "LightWeight"), MIDDLE("250", "MiddleWeight"), CRUISER("375", "CruiserWeight"),
-	HEAVY("500", "HeavyWeight");
+	LIGHT(125, "LightWeight"), MIDDLE(250, "MiddleWeight"), CRUISER(375, "CruiserWeight"),
+	HEAVY(500, "HeavyWeight");
 
-	private String weightLimit, model;
+	private int weightLimit;
+	private String model;
 
-	Drone(String weightLimit, String model)
+	Drone(int weightLimit, String model)
 	{
 		this.weightLimit = weightLimit;
 		this.model = model;
 	}
 
-	public String getWeightLimit()
+	/**
+	 * @return the drone type whose model name matches, ignoring case, or null
+	 */
+	public static Drone fromModel(String model)
+	{
+		if (model == null)
+			return null;
+
+		for (Drone drone : values())
+		{
+			if (drone.model.equalsIgnoreCase(model.trim()))
+				return drone;
+		}
+		return null;
+	}
+
+	public int getWeightLimit()
 	{
 		return weightLimit;
 	}
 
-	public void setWeightLimit(String code)
+	public void setWeightLimit(int code)
 	{
 		this.weightLimit = code;
 	}
@@ -1,15 +1,68 @@
 package dev.iyare.service.drone.enums;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The {@code code} is what is stored in the {@code drone.state} column. Codes
+ * are part of the schema: never reorder or reuse them, only append.
+ */
 public enum DroneState
 {
-	IDLE("IDLE"), LOADING("LOADING"), LOADED("LOADED"), DELIVERING("DELIVERING"), DELIVERED("DELIVERED"),
-	RETURNING("RETURNING");
+	IDLE("IDLE", 0), LOADING("LOADING", 1), LOADED("LOADED", 2), DELIVERING("DELIVERING", 3),
+	DELIVERED("DELIVERED", 4), RETURNING("RETURNING", 5);
+
+	/**
+	 * States in which a drone can still take medications.
+	 */
+	public static final Set<DroneState> AVAILABLE = Collections.unmodifiableSet(EnumSet.of(IDLE, LOADING));
+
+	private static final DroneState[] BY_CODE = new DroneState[values().length];
+
+	static
+	{
+		for (DroneState state : values())
+		{
+			BY_CODE[state.code] = state;
+		}
+	}
 
 	private String description;
+	private final int code;
 
-	DroneState(String description)
+	DroneState(String description, int code)
 	{
 		this.description = description;
+		this.code = code;
+	}
+
+	/**
+	 * @return the state with this name, ignoring case, or null
+	 */
+	public static DroneState fromDescription(String description)
+	{
+		if (description == null)
+			return null;
+
+		for (DroneState state : values())
+		{
+			if (state.description.equalsIgnoreCase(description.trim()))
+				return state;
+		}
+		return null;
+	}
+
+	/**
+	 * @return the state stored as {@code code}
+	 * @throws IllegalArgumentException if no state has that code
+	 */
+	public static DroneState fromCode(int code)
+	{
+		if (code < 0 || code >= BY_CODE.length)
+			throw new IllegalArgumentException("Unknown drone state code: " + code);
+
+		return BY_CODE[code];
 	}
 
 	public String getDescription()
@@ -21,4 +74,9 @@ public enum DroneState
 	{
 		this.description = description;
 	}
+
+	public int getCode()
+	{
+		return code;
+	}
 }
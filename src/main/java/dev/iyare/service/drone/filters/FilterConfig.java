@@ -0,0 +1,47 @@
+package dev.iyare.service.drone.filters;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Every request under {@code /drone/app/*} needs a known {@code PublicKey}. v1
+ * also requires {@code Content-Type: application/json} on every request, as it
+ * always has; v2 endpoints declare the media types they consume, so GETs and
+ * NDJSON, CSV or gzip bodies go without a made-up content type.
+ */
+@Configuration
+public class FilterConfig
+{
+	@Bean
+	public FilterRegistrationBean<HeaderAuthenticationFilter> v1HeaderAuthenticationFilter(
+			@Value("${drone.security.public-keys}") List<String> publicKeys)
+	{
+		return register("v1HeaderAuthenticationFilter", new HeaderAuthenticationFilter(publicKeys, true),
+				"/drone/app/v1/*");
+	}
+
+	@Bean
+	public FilterRegistrationBean<HeaderAuthenticationFilter> v2HeaderAuthenticationFilter(
+			@Value("${drone.security.public-keys}") List<String> publicKeys)
+	{
+		return register("v2HeaderAuthenticationFilter", new HeaderAuthenticationFilter(publicKeys, false),
+				"/drone/app/v2/*");
+	}
+
+	private static FilterRegistrationBean<HeaderAuthenticationFilter> register(String name,
+			HeaderAuthenticationFilter filter, String urlPattern)
+	{
+		FilterRegistrationBean<HeaderAuthenticationFilter> registration = new FilterRegistrationBean<HeaderAuthenticationFilter>(
+				filter);
+		// OncePerRequestFilter keys its already-filtered marker on the name
+		registration.setName(name);
+		registration.addUrlPatterns(urlPattern);
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
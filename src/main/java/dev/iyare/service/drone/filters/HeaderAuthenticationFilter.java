@@ -0,0 +1,113 @@
+package dev.iyare.service.drone.filters;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.iyare.service.drone.models.response.AbstractResponse;
+import dev.iyare.service.drone.models.response.RegisterDroneResponse;
+import dev.iyare.service.drone.utils.JsonUtil;
+
+/**
+ * Rejects requests with a missing or wrong {@code PublicKey} header, and, when
+ * {@code requireJson} is set, a {@code Content-Type} other than
+ * {@code application/json}, before the body is read or a controller is
+ * reached. Without {@code requireJson} each endpoint declares the media types
+ * it consumes itself.
+ *
+ * The key is compared in constant time against every configured key: both
+ * sides are hashed to SHA-256 first, so the comparison is always of 32 bytes
+ * and reveals neither the content nor the length of a key. The failure body is
+ * serialized once up front.
+ */
+public class HeaderAuthenticationFilter extends OncePerRequestFilter
+{
+	static final String PUBLIC_KEY = "PublicKey";
+
+	/** SHA-256 digests of the configured keys */
+	private final byte[][] publicKeys;
+	private final boolean requireJson;
+	private final byte[] invalidHeaderBody;
+
+	public HeaderAuthenticationFilter(List<String> publicKeys, boolean requireJson)
+	{
+		this.requireJson = requireJson;
+
+		List<byte[]> keys = new ArrayList<byte[]>();
+		for (String publicKey : publicKeys)
+		{
+			if (publicKey != null && publicKey.trim().isEmpty() == false)
+				keys.add(sha256(publicKey.trim()));
+		}
+		this.publicKeys = keys.toArray(new byte[keys.size()][]);
+
+		AbstractResponse response = new RegisterDroneResponse();
+		response.setResponseCode(AbstractResponse.FAILED_CODE);
+		response.setResponseMessage(AbstractResponse.FAILED);
+		response.setResponseDescription("Missing or Invalid Header(s)");
+		this.invalidHeaderBody = JsonUtil.toJson(response).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException
+	{
+		if ((requireJson == false || isJson(request.getContentType())) && isKnownKey(request.getHeader(PUBLIC_KEY)))
+		{
+			chain.doFilter(request, response);
+			return;
+		}
+
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(invalidHeaderBody.length);
+		response.getOutputStream().write(invalidHeaderBody);
+	}
+
+	static boolean isJson(String contentType)
+	{
+		if (contentType == null)
+			return false;
+
+		int parameters = contentType.indexOf(';');
+		String mediaType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim();
+		return mediaType.equalsIgnoreCase(MediaType.APPLICATION_JSON_VALUE);
+	}
+
+	boolean isKnownKey(String publicKey)
+	{
+		if (publicKey == null || publicKey.isEmpty())
+			return false;
+
+		byte[] candidate = sha256(publicKey);
+		boolean known = false;
+		for (byte[] key : publicKeys)
+		{
+			// no early exit, so timing does not reveal which key, if any, matched
+			known |= MessageDigest.isEqual(candidate, key);
+		}
+		return known;
+	}
+
+	static byte[] sha256(String value)
+	{
+		try
+		{
+			return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e)
+		{
+			// every Java platform is required to provide SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+}
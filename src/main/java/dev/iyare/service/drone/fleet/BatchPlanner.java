@@ -0,0 +1,332 @@
+package dev.iyare.service.drone.fleet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Packs a wave of orders onto the fleet with first-fit decreasing: orders are
+ * placed heaviest first, each on the first drone that still has room for it.
+ * Drones are tried best-charged first, and only drones that may load at all
+ * (see {@link FleetRegistry#loadable()}) are considered.
+ *
+ * <p>
+ * The fleet is partitioned by model. Orders are dealt to the partitions in
+ * proportion to their free capacity, each order only to a partition with a
+ * drone big enough for it, and the partitions are packed in parallel on a
+ * {@link ForkJoinPool}. Whatever a partition could not place gets a second,
+ * sequential pass over the space left on every drone. Each first-fit lookup
+ * is O(log n) in the drones of the partition.
+ */
+public class BatchPlanner
+{
+	static final Comparator<DroneSnapshot> BEST_CHARGED_FIRST = (a, b) ->
+	{
+		int byBattery = Integer.compare(b.getBattery_capacity(), a.getBattery_capacity());
+		return byBattery != 0 ? byBattery : Long.compare(a.getId(), b.getId());
+	};
+
+	final ForkJoinPool pool;
+
+	public BatchPlanner(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+
+	/**
+	 * @param drones
+	 *            the drones that may take a load, with their remaining capacity
+	 * @param weights
+	 *            the total weight of each order
+	 * @throws IllegalArgumentException
+	 *             if an order weighs zero or less, which would give capacity
+	 *             back to its drone
+	 */
+	public Plan plan(List<DroneSnapshot> drones, int[] weights)
+	{
+		for (int i = 0; i < weights.length; i++)
+		{
+			if (weights[i] <= 0)
+				throw new IllegalArgumentException("Invalid weight of order " + i + ": " + weights[i]);
+		}
+
+		List<Partition> partitions = partition(drones);
+		DroneSnapshot[] assignments = new DroneSnapshot[weights.length];
+
+		// heaviest first, ties in request order
+		long[] byWeight = new long[weights.length];
+		for (int i = 0; i < weights.length; i++)
+		{
+			byWeight[i] = ((long) (Integer.MAX_VALUE - weights[i]) << 32) | i;
+		}
+		Arrays.sort(byWeight);
+
+		for (long key : byWeight)
+		{
+			int order = (int) key;
+			Partition target = null;
+			for (Partition partition : partitions)
+			{
+				if (partition.largest >= weights[order]
+						&& (target == null || partition.share(weights[order]) < target.share(weights[order])))
+					target = partition;
+			}
+			if (target != null)
+				target.deal(order, weights[order]);
+		}
+
+		List<ForkJoinTask<int[]>> tasks = new ArrayList<ForkJoinTask<int[]>>(partitions.size());
+		for (Partition partition : partitions)
+		{
+			tasks.add(pool.submit(new PackTask(partition, weights, assignments)));
+		}
+
+		List<Integer> leftover = new ArrayList<Integer>();
+		for (ForkJoinTask<int[]> task : tasks)
+		{
+			for (int order : task.join())
+			{
+				leftover.add(order);
+			}
+		}
+
+		if (!leftover.isEmpty())
+			packLeftover(partitions, leftover, weights, assignments);
+
+		return new Plan(assignments);
+	}
+
+	static List<Partition> partition(List<DroneSnapshot> drones)
+	{
+		Map<String, List<DroneSnapshot>> byModel = new TreeMap<String, List<DroneSnapshot>>();
+		for (DroneSnapshot drone : drones)
+		{
+			String model = drone.getModel() == null ? "" : drone.getModel();
+			List<DroneSnapshot> partition = byModel.get(model);
+			if (partition == null)
+				byModel.put(model, partition = new ArrayList<DroneSnapshot>());
+			partition.add(drone);
+		}
+
+		List<Partition> partitions = new ArrayList<Partition>(byModel.size());
+		for (List<DroneSnapshot> partition : byModel.values())
+		{
+			partitions.add(new Partition(partition));
+		}
+		return partitions;
+	}
+
+	private static void packLeftover(List<Partition> partitions, List<Integer> leftover, int[] weights,
+			DroneSnapshot[] assignments)
+	{
+		List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>();
+		List<Integer> free = new ArrayList<Integer>();
+		for (Partition partition : partitions)
+		{
+			for (int i = 0; i < partition.drones.size(); i++)
+			{
+				drones.add(partition.drones.get(i));
+				free.add(partition.tree.remaining(i));
+			}
+		}
+
+		int[] capacities = new int[free.size()];
+		for (int i = 0; i < capacities.length; i++)
+		{
+			capacities[i] = free.get(i);
+		}
+
+		FirstFitTree tree = new FirstFitTree(capacities);
+		// leftover is already heaviest first within each partition; merge them
+		leftover.sort((a, b) -> weights[a] != weights[b] ? Integer.compare(weights[b], weights[a])
+				: Integer.compare(a, b));
+		for (int order : leftover)
+		{
+			int drone = tree.take(weights[order]);
+			if (drone >= 0)
+				assignments[order] = drones.get(drone);
+		}
+	}
+
+	static final class Partition
+	{
+		final List<DroneSnapshot> drones;
+		final long capacity;
+		final int largest;
+
+		/** built by the partition's {@link PackTask} */
+		FirstFitTree tree;
+
+		int[] orders = new int[16];
+		int size;
+		long dealt;
+
+		Partition(List<DroneSnapshot> drones)
+		{
+			this.drones = drones;
+
+			long capacity = 0;
+			int largest = 0;
+			for (DroneSnapshot drone : drones)
+			{
+				capacity += drone.getRemaining_capacity();
+				largest = Math.max(largest, drone.getRemaining_capacity());
+			}
+			this.capacity = capacity;
+			this.largest = largest;
+		}
+
+		double share(int weight)
+		{
+			return (dealt + weight) / (double) capacity;
+		}
+
+		void deal(int order, int weight)
+		{
+			if (size == orders.length)
+				orders = Arrays.copyOf(orders, size * 2);
+			orders[size++] = order;
+			dealt += weight;
+		}
+	}
+
+	/**
+	 * Orders one partition's drones best-charged first, packs its orders,
+	 * which arrive heaviest first, and returns the ones that did not fit.
+	 */
+	static final class PackTask extends RecursiveTask<int[]>
+	{
+		private static final long serialVersionUID = 1L;
+
+		final Partition partition;
+		final int[] weights;
+		final DroneSnapshot[] assignments;
+
+		PackTask(Partition partition, int[] weights, DroneSnapshot[] assignments)
+		{
+			this.partition = partition;
+			this.weights = weights;
+			this.assignments = assignments;
+		}
+
+		@Override
+		protected int[] compute()
+		{
+			partition.drones.sort(BEST_CHARGED_FIRST);
+			int[] capacities = new int[partition.drones.size()];
+			for (int i = 0; i < capacities.length; i++)
+			{
+				capacities[i] = partition.drones.get(i).getRemaining_capacity();
+			}
+			partition.tree = new FirstFitTree(capacities);
+
+			int[] leftover = new int[partition.size];
+			int count = 0;
+			for (int i = 0; i < partition.size; i++)
+			{
+				int order = partition.orders[i];
+				int drone = partition.tree.take(weights[order]);
+				if (drone >= 0)
+					assignments[order] = partition.drones.get(drone);
+				else
+					leftover[count++] = order;
+			}
+			return Arrays.copyOf(leftover, count);
+		}
+	}
+
+	/**
+	 * Max tree over the remaining capacity of a fixed row of drones, answering
+	 * "first drone with at least w left" in O(log n).
+	 */
+	static final class FirstFitTree
+	{
+		final int leaves;
+		final int[] max;
+
+		FirstFitTree(int[] capacities)
+		{
+			int leaves = 1;
+			while (leaves < capacities.length)
+				leaves <<= 1;
+			this.leaves = leaves;
+			this.max = new int[2 * leaves];
+
+			System.arraycopy(capacities, 0, max, leaves, capacities.length);
+			for (int node = leaves - 1; node > 0; node--)
+			{
+				max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+			}
+		}
+
+		int remaining(int drone)
+		{
+			return max[leaves + drone];
+		}
+
+		/**
+		 * Takes {@code weight} from the first drone that has room for it.
+		 *
+		 * @return that drone's position, or -1 if none has room
+		 */
+		int take(int weight)
+		{
+			if (max[1] < weight)
+				return -1;
+
+			int node = 1;
+			while (node < leaves)
+			{
+				node = max[2 * node] >= weight ? 2 * node : 2 * node + 1;
+			}
+
+			max[node] -= weight;
+			for (int parent = node >> 1; parent > 0; parent >>= 1)
+			{
+				max[parent] = Math.max(max[2 * parent], max[2 * parent + 1]);
+			}
+			return node - leaves;
+		}
+	}
+
+	/**
+	 * The drone chosen for each order, by order position; null where no drone
+	 * had room.
+	 */
+	public static final class Plan
+	{
+		final DroneSnapshot[] assignments;
+
+		Plan(DroneSnapshot[] assignments)
+		{
+			this.assignments = assignments;
+		}
+
+		public DroneSnapshot get(int order)
+		{
+			return assignments[order];
+		}
+
+		public int size()
+		{
+			return assignments.length;
+		}
+
+		public int assigned()
+		{
+			int assigned = 0;
+			for (DroneSnapshot drone : assignments)
+			{
+				if (drone != null)
+					assigned++;
+			}
+			return assigned;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package dev.iyare.service.drone.fleet;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.DroneState;
+
+/**
+ * Immutable copy of one committed {@code drone} row. v1 responses serialize
+ * it through {@code models.response.v1.DroneView}, never directly.
+ */
+public final class DroneSnapshot implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	final String serial_number;
+	final String model;
+	final Integer weight_limit;
+	final Integer battery_capacity;
+	final int loaded_weight;
+	final DroneState state;
+	final Long id;
+	final int version;
+
+	public DroneSnapshot(Long id, int version, String serial_number, String model, Integer weight_limit,
+			Integer battery_capacity, int loaded_weight, DroneState state)
+	{
+		this.id = id;
+		this.version = version;
+		this.serial_number = serial_number;
+		this.model = model;
+		this.weight_limit = weight_limit;
+		this.battery_capacity = battery_capacity;
+		this.loaded_weight = loaded_weight;
+		this.state = state;
+	}
+
+	public static DroneSnapshot of(EntityDrone entityDrone)
+	{
+		return new DroneSnapshot(entityDrone.getId(), entityDrone.getVersion(), entityDrone.getSerial_number(),
+				entityDrone.getModel(), entityDrone.getWeight_limit(), entityDrone.getBattery_capacity(),
+				entityDrone.getLoaded_weight() == null ? 0 : entityDrone.getLoaded_weight(), entityDrone.getState());
+	}
+
+	/**
+	 * @return this drone after a won load transition: {@code weight} more on
+	 *         board, in {@code state}, one version later
+	 */
+	public DroneSnapshot loaded(DroneState state, int weight)
+	{
+		return new DroneSnapshot(id, version + 1, serial_number, model, weight_limit, battery_capacity,
+				loaded_weight + weight, state);
+	}
+
+	/**
+	 * @return this drone at another battery level, same version: battery
+	 *         updates do not take part in the optimistic locking of loads
+	 */
+	public DroneSnapshot withBattery(Integer battery_capacity)
+	{
+		return new DroneSnapshot(id, version, serial_number, model, weight_limit, battery_capacity, loaded_weight,
+				state);
+	}
+
+	/**
+	 * @return the weight that can still be loaded
+	 */
+	public int getRemaining_capacity()
+	{
+		return weight_limit == null ? 0 : weight_limit - loaded_weight;
+	}
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public int getVersion()
+	{
+		return version;
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getModel()
+	{
+		return model;
+	}
+
+	public Integer getWeight_limit()
+	{
+		return weight_limit;
+	}
+
+	public Integer getBattery_capacity()
+	{
+		return battery_capacity;
+	}
+
+	public int getLoaded_weight()
+	{
+		return loaded_weight;
+	}
+
+	public DroneState getState()
+	{
+		return state;
+	}
+}
@@ -0,0 +1,407 @@
+package dev.iyare.service.drone.fleet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+
+/**
+ * In-memory copy of the drone table for the hot read paths: one immutable
+ * {@link DroneSnapshot} per serial number, the drones in each
+ * {@link DroneState} ordered by id, and the drones that can take a load right
+ * now ordered by remaining capacity.
+ *
+ * <p>
+ * Staleness guarantees:
+ * <ul>
+ * <li>Writers publish a drone only after the transaction that changed it has
+ * committed ({@link #putAfterCommit}, {@link #putAllAfterCommit}), on the
+ * writing thread and before the write returns to its caller. A client
+ * therefore always reads its own writes; other readers may see the previous
+ * snapshot for the short window between the database commit and that
+ * callback, never an uncommitted one.</li>
+ * <li>Every write to a drone other than a battery update bumps its version,
+ * and a snapshot never replaces a newer version. One of the same version is
+ * the same row and replaces the one held. Battery updates leave the version
+ * alone and go through {@link #putBattery}, which sets the level whatever the
+ * version held. The battery level of a drone already held is kept when
+ * {@link #put} replaces its snapshot. As a result late or out-of-order
+ * publications cannot roll a drone back, battery level included.</li>
+ * <li>A drone moving between states is removed from its old state index before
+ * it is added to the new one, so a concurrent state scan can miss it for that
+ * instant but never returns it twice or in the wrong state.</li>
+ * <li>Changes made outside the application (SQL console, another instance)
+ * are not seen until {@link #rebuild()}.</li>
+ * </ul>
+ * Anything that must be exact, such as the load path, uses a snapshot only as
+ * a hint and confirms it with a compare-and-set on the version.
+ */
+@Component
+public class FleetRegistry implements SmartLifecycle
+{
+	private static final Log logger = LogFactory.getLog(FleetRegistry.class);
+
+	final ConcurrentHashMap<String, DroneSnapshot> drones = new ConcurrentHashMap<String, DroneSnapshot>();
+
+	/**
+	 * Serial numbers of the drones in each state, keyed and ordered by id, so a
+	 * keyset page starts at {@code afterId} instead of scanning the state.
+	 */
+	final Map<DroneState, ConcurrentSkipListMap<Long, String>> serialsByState = new EnumMap<DroneState, ConcurrentSkipListMap<Long, String>>(
+			DroneState.class);
+
+	/**
+	 * Available drones with enough battery to load, ordered by remaining
+	 * capacity and then id.
+	 */
+	final ConcurrentSkipListSet<CapacityKey> byRemainingCapacity = new ConcurrentSkipListSet<CapacityKey>();
+
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Value("${drone.available.fetch-size:500}")
+	int fetchSize;
+
+	volatile boolean running;
+
+	public FleetRegistry(DroneJdbcRepository droneJdbcRepository)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		for (DroneState state : DroneState.values())
+		{
+			serialsByState.put(state, new ConcurrentSkipListMap<Long, String>());
+		}
+	}
+
+	public DroneSnapshot get(String serialNumber)
+	{
+		return serialNumber == null ? null : drones.get(serialNumber);
+	}
+
+	public int size()
+	{
+		return drones.size();
+	}
+
+	/**
+	 * @return a live, unordered view of every drone held
+	 */
+	public Collection<DroneSnapshot> all()
+	{
+		return Collections.unmodifiableCollection(drones.values());
+	}
+
+	/**
+	 * @return the drones currently in one of {@code states}, ordered by id
+	 */
+	public List<DroneSnapshot> inStates(Collection<DroneState> states)
+	{
+		return available(states, 0, 0, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return up to {@code limit} drones in one of {@code states} with an id
+	 *         above {@code afterId}, at least {@code minBattery} percent charge
+	 *         and a weight limit of at least {@code minWeightLimit}, ordered by
+	 *         id. The states are merged by id from {@code afterId} on, so a page
+	 *         reads only the drones up to its last match.
+	 */
+	public List<DroneSnapshot> available(Collection<DroneState> states, int minBattery, int minWeightLimit,
+			long afterId, int limit)
+	{
+		List<Iterator<Map.Entry<Long, String>>> cursors = new ArrayList<Iterator<Map.Entry<Long, String>>>(
+				states.size());
+		List<Map.Entry<Long, String>> heads = new ArrayList<Map.Entry<Long, String>>(states.size());
+		List<DroneState> headStates = new ArrayList<DroneState>(states.size());
+		for (DroneState state : states)
+		{
+			Iterator<Map.Entry<Long, String>> cursor = serialsByState.get(state).tailMap(afterId, false).entrySet()
+					.iterator();
+			cursors.add(cursor);
+			heads.add(cursor.hasNext() ? cursor.next() : null);
+			headStates.add(state);
+		}
+
+		List<DroneSnapshot> matches = new ArrayList<DroneSnapshot>(Math.min(limit, 64));
+		while (matches.size() < limit)
+		{
+			int next = -1;
+			for (int i = 0; i < heads.size(); i++)
+			{
+				if (heads.get(i) != null && (next < 0 || heads.get(i).getKey() < heads.get(next).getKey()))
+					next = i;
+			}
+			if (next < 0)
+				break;
+
+			Map.Entry<Long, String> head = heads.get(next);
+			heads.set(next, cursors.get(next).hasNext() ? cursors.get(next).next() : null);
+
+			DroneSnapshot drone = drones.get(head.getValue());
+			// the index may briefly lag the map; the snapshot is authoritative
+			if (drone != null && drone.getState() == headStates.get(next) && drone.getBattery_capacity() != null
+					&& drone.getBattery_capacity() >= minBattery && drone.getWeight_limit() != null
+					&& drone.getWeight_limit() >= minWeightLimit)
+				matches.add(drone);
+		}
+		return matches;
+	}
+
+	/**
+	 * Best-fit candidates for a payload: loadable drones with at least
+	 * {@code weight} capacity left, tightest fit first. Finding the first one is
+	 * O(log n) in the fleet size.
+	 *
+	 * @return up to {@code max} serial numbers
+	 */
+	public List<String> bestFit(int weight, int max)
+	{
+		List<String> candidates = new ArrayList<String>(Math.min(max, 16));
+		for (CapacityKey key : byRemainingCapacity.tailSet(new CapacityKey(weight, Long.MIN_VALUE, null)))
+		{
+			if (candidates.size() >= max)
+				break;
+			candidates.add(key.serialNumber);
+		}
+		return candidates;
+	}
+
+	/**
+	 * @return every drone that can take a load right now, least remaining
+	 *         capacity first
+	 */
+	public List<DroneSnapshot> loadable()
+	{
+		List<DroneSnapshot> loadable = new ArrayList<DroneSnapshot>(byRemainingCapacity.size());
+		for (CapacityKey key : byRemainingCapacity)
+		{
+			DroneSnapshot drone = drones.get(key.serialNumber);
+			// the index may briefly lag the map; the snapshot is authoritative
+			if (drone != null && isLoadable(drone))
+				loadable.add(drone);
+		}
+		return loadable;
+	}
+
+	/**
+	 * Publishes a committed snapshot now, unless a newer version is already
+	 * held. The battery level of a drone already held is kept: it only changes
+	 * through {@link #putBattery}, and the snapshot's may predate it.
+	 */
+	public void put(final DroneSnapshot snapshot)
+	{
+		put(snapshot, false);
+	}
+
+	private void put(final DroneSnapshot snapshot, final boolean withBattery)
+	{
+		drones.compute(snapshot.getSerial_number(), (serialNumber, current) ->
+		{
+			if (current != null && current.getVersion() > snapshot.getVersion())
+				return current;
+
+			DroneSnapshot updated = current == null || withBattery ? snapshot
+					: snapshot.withBattery(current.getBattery_capacity());
+			if (current != null)
+				unindex(current);
+			index(updated);
+			return updated;
+		});
+	}
+
+	/**
+	 * Sets the battery level of the drone held, whatever its version, for
+	 * committed battery-only updates that leave the version alone.
+	 *
+	 * @return whether the drone is held
+	 */
+	public boolean putBattery(String serialNumber, final int level)
+	{
+		return drones.computeIfPresent(serialNumber, (serial, current) ->
+		{
+			DroneSnapshot updated = current.withBattery(level);
+			unindex(current);
+			index(updated);
+			return updated;
+		}) != null;
+	}
+
+	private void index(DroneSnapshot drone)
+	{
+		if (drone.getState() != null)
+			serialsByState.get(drone.getState()).put(drone.getId(), drone.getSerial_number());
+		if (isLoadable(drone))
+			byRemainingCapacity.add(CapacityKey.of(drone));
+	}
+
+	private void unindex(DroneSnapshot drone)
+	{
+		if (drone.getState() != null)
+			serialsByState.get(drone.getState()).remove(drone.getId(), drone.getSerial_number());
+		byRemainingCapacity.remove(CapacityKey.of(drone));
+	}
+
+	static boolean isLoadable(DroneSnapshot drone)
+	{
+		return DroneState.AVAILABLE.contains(drone.getState()) && drone.getWeight_limit() != null
+				&& drone.getBattery_capacity() != null
+				&& drone.getBattery_capacity() >= EntityDrone.MIN_LOADING_BATTERY && drone.getRemaining_capacity() > 0;
+	}
+
+	/**
+	 * Publishes {@code snapshot} once the current transaction commits, or now
+	 * if there is none. Nothing is published on rollback.
+	 */
+	public void putAfterCommit(final DroneSnapshot snapshot)
+	{
+		afterCommit(() -> put(snapshot));
+	}
+
+	public void putAllAfterCommit(final Collection<DroneSnapshot> snapshots)
+	{
+		afterCommit(() ->
+		{
+			for (DroneSnapshot snapshot : snapshots)
+			{
+				put(snapshot);
+			}
+		});
+	}
+
+	private void afterCommit(final Runnable action)
+	{
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+		{
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+		{
+			@Override
+			public void afterCommit()
+			{
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * Reloads every drone from the database, battery levels included. Snapshots
+	 * published while the rebuild runs are kept if they are newer than what it
+	 * read; drones that were held before the rebuild and are no longer in the
+	 * table are dropped.
+	 *
+	 * @return the number of drones held afterwards
+	 */
+	public int rebuild()
+	{
+		long start = System.currentTimeMillis();
+
+		final Set<String> missing = new HashSet<String>(drones.keySet());
+		droneJdbcRepository.forEachSnapshot(fetchSize, snapshot ->
+		{
+			missing.remove(snapshot.getSerial_number());
+			put(snapshot, true);
+		});
+
+		for (String serialNumber : missing)
+		{
+			drones.computeIfPresent(serialNumber, (serial, removed) ->
+			{
+				unindex(removed);
+				return null;
+			});
+		}
+
+		logger.info("Fleet registry loaded " + drones.size() + " drone(s) in " + (System.currentTimeMillis() - start)
+				+ "ms");
+		return drones.size();
+	}
+
+	/**
+	 * Filled before the web server starts accepting requests, and after the
+	 * servlet context listener has seeded the database.
+	 */
+	@Override
+	public void start()
+	{
+		rebuild();
+		running = true;
+	}
+
+	@Override
+	public void stop()
+	{
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	@Override
+	public int getPhase()
+	{
+		return 0;
+	}
+
+	static final class CapacityKey implements Comparable<CapacityKey>
+	{
+		final int remainingCapacity;
+		final long id;
+		final String serialNumber;
+
+		CapacityKey(int remainingCapacity, long id, String serialNumber)
+		{
+			this.remainingCapacity = remainingCapacity;
+			this.id = id;
+			this.serialNumber = serialNumber;
+		}
+
+		static CapacityKey of(DroneSnapshot drone)
+		{
+			return new CapacityKey(drone.getRemaining_capacity(), drone.getId(), drone.getSerial_number());
+		}
+
+		@Override
+		public int compareTo(CapacityKey other)
+		{
+			int byCapacity = Integer.compare(remainingCapacity, other.remainingCapacity);
+			return byCapacity != 0 ? byCapacity : Long.compare(id, other.id);
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			return obj instanceof CapacityKey && compareTo((CapacityKey) obj) == 0;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return 31 * remainingCapacity + Long.hashCode(id);
+		}
+	}
+}
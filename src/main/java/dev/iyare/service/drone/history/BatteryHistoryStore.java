@@ -0,0 +1,61 @@
+package dev.iyare.service.drone.history;
+
+import java.util.List;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * Where battery samples are kept. Chosen with {@code drone.history.backend}:
+ * {@code table} (the default) writes {@code battery_history} rows,
+ * {@code segments} writes compressed per-drone blocks to memory-mapped files.
+ */
+public interface BatteryHistoryStore
+{
+	/** level reported for a sample whose battery level was not known */
+	int UNKNOWN_LEVEL = -1;
+
+	interface SampleVisitor
+	{
+		void accept(long timestamp, int level);
+	}
+
+	interface DroneSampleVisitor
+	{
+		void accept(String serialNumber, long timestamp, int level);
+	}
+
+	/**
+	 * Records the current level of every drone, all at {@code timestamp}.
+	 *
+	 * @return the number of samples written
+	 */
+	int recordAll(long timestamp);
+
+	/**
+	 * Records the level of each of {@code drones}, all at {@code timestamp}.
+	 */
+	void record(List<DroneSnapshot> drones, long timestamp);
+
+	/**
+	 * Visits the drone's samples taken in {@code [from, to)}, oldest first.
+	 */
+	void scan(String serialNumber, long from, long to, SampleVisitor visitor);
+
+	/**
+	 * Records the first {@code count} samples, each with its own drone and
+	 * time, as an import does. A drone's samples should come oldest first.
+	 *
+	 * <p>
+	 * A store that only appends skips samples no newer than the drone's
+	 * latest, and sets their serial number to null.
+	 *
+	 * @return the number of samples written
+	 */
+	int recordSamples(String[] serialNumbers, long[] timestamps, int[] levels, int count);
+
+	/**
+	 * Visits every sample of every drone, each drone's oldest first, as they
+	 * are read: nothing is collected first.
+	 */
+	void scanAll(DroneSampleVisitor visitor);
+}
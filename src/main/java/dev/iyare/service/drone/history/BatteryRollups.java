@@ -0,0 +1,361 @@
+package dev.iyare.service.drone.history;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+
+/**
+ * Minute, hour and day min/max/sum/count/last of every drone's battery
+ * samples, updated by {@code BatteryAuditService} as it records them. A
+ * history query reads one rollup slot per minute, hour or day in its range, so
+ * it costs the same whatever the audit period and however many raw samples
+ * the {@link BatteryHistoryStore} holds.
+ *
+ * <p>
+ * Each resolution is a ring of up to {@code drone.history.rollup.*} slots per
+ * drone: by default a day of minutes, 45 days of hours and 400 days of days,
+ * about 44 KB per drone once full. Slots are aligned to UTC. A query uses the
+ * coarsest resolution that divides its step, which is also the one that
+ * reaches furthest back.
+ *
+ * <p>
+ * The rollups live in memory. On startup they are refilled from the store for
+ * the retained range, which is the only time raw samples are read.
+ */
+@Component
+public class BatteryRollups implements SmartLifecycle
+{
+	private static final Log logger = LogFactory.getLog(BatteryRollups.class);
+
+	public static final long MINUTE = 60000L;
+	public static final long HOUR = 60 * MINUTE;
+	public static final long DAY = 24 * HOUR;
+
+	BatteryHistoryStore batteryHistoryStore;
+	FleetRegistry fleetRegistry;
+
+	@Value("${drone.history.rollup.minutes:1440}")
+	int minuteSlots;
+
+	@Value("${drone.history.rollup.hours:1080}")
+	int hourSlots;
+
+	@Value("${drone.history.rollup.days:400}")
+	int daySlots;
+
+	final ConcurrentMap<String, DroneRollups> drones = new ConcurrentHashMap<String, DroneRollups>();
+
+	volatile boolean running;
+
+	public BatteryRollups(BatteryHistoryStore batteryHistoryStore, FleetRegistry fleetRegistry)
+	{
+		this.batteryHistoryStore = batteryHistoryStore;
+		this.fleetRegistry = fleetRegistry;
+	}
+
+	public interface BucketVisitor
+	{
+		void accept(long start, int min, int max, double avg, int last, int samples);
+	}
+
+	/**
+	 * Adds one sample per drone, all taken at {@code timestamp}. Unknown levels
+	 * are left out.
+	 */
+	public void add(Collection<DroneSnapshot> samples, long timestamp)
+	{
+		for (DroneSnapshot drone : samples)
+		{
+			Integer level = drone.getBattery_capacity();
+			if (level != null)
+				add(drone.getSerial_number(), timestamp, level);
+		}
+	}
+
+	/**
+	 * Adds one sample taken at any time, e.g. an imported one. A sample older
+	 * than a ring reaches back is left out of that ring.
+	 */
+	public void add(String serialNumber, long timestamp, int level)
+	{
+		if (level < 0 || level > Byte.MAX_VALUE)
+			return;
+
+		DroneRollups rollups = drones.get(serialNumber);
+		if (rollups == null)
+		{
+			DroneRollups created = new DroneRollups(minuteSlots, hourSlots, daySlots);
+			rollups = drones.putIfAbsent(serialNumber, created);
+			if (rollups == null)
+				rollups = created;
+		}
+		rollups.add(timestamp, level);
+	}
+
+	/**
+	 * The resolution a query with this step is answered from.
+	 *
+	 * @return the coarsest of {@link #DAY}, {@link #HOUR} and {@link #MINUTE}
+	 *         that divides {@code step}, or 0 if none does
+	 */
+	public static long resolution(long step)
+	{
+		if (step <= 0)
+			return 0;
+		if (step % DAY == 0)
+			return DAY;
+		if (step % HOUR == 0)
+			return HOUR;
+		if (step % MINUTE == 0)
+			return MINUTE;
+		return 0;
+	}
+
+	/**
+	 * Visits the non-empty buckets of {@code step} that overlap
+	 * {@code [from, to)}, oldest first. Buckets are aligned to multiples of
+	 * {@code step} since the epoch and always cover a whole step.
+	 *
+	 * @return whether the drone has any rollups
+	 */
+	public boolean query(String serialNumber, long from, long to, long step, BucketVisitor visitor)
+	{
+		long resolution = resolution(step);
+		if (resolution == 0)
+			throw new IllegalArgumentException("step must be a whole number of minutes");
+
+		DroneRollups rollups = drones.get(serialNumber);
+		if (rollups == null)
+			return false;
+
+		Ring ring = rollups.ring(resolution);
+		long perBucket = step / resolution;
+		for (long bucket = Math.floorDiv(from, step); bucket * step < to; bucket++)
+		{
+			rollups.visit(ring, bucket * perBucket, perBucket, bucket * step, visitor);
+		}
+		return true;
+	}
+
+	/**
+	 * Refills the rollups from the store. Runs after the fleet registry is
+	 * loaded and before the audit scheduler starts.
+	 */
+	@Override
+	public void start()
+	{
+		long started = System.currentTimeMillis();
+		long from = started - Math.max(minuteSlots * MINUTE, Math.max(hourSlots * HOUR, daySlots * DAY));
+
+		drones.clear();
+		long samples = 0;
+		for (DroneSnapshot drone : fleetRegistry.all())
+		{
+			final String serialNumber = drone.getSerial_number();
+			final long[] count = new long[1];
+			batteryHistoryStore.scan(serialNumber, from, started, (timestamp, level) -> {
+				add(serialNumber, timestamp, level);
+				count[0]++;
+			});
+			samples += count[0];
+		}
+
+		logger.info("Battery rollups refilled from " + samples + " sample(s) of " + drones.size() + " drone(s) in "
+				+ (System.currentTimeMillis() - started) + "ms");
+		running = true;
+	}
+
+	@Override
+	public void stop()
+	{
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	@Override
+	public int getPhase()
+	{
+		return 1;
+	}
+
+	/**
+	 * One resolution: slot {@code key % slots} holds the bucket {@code key},
+	 * the timestamp divided by the resolution. A slot whose key is older than
+	 * the sample's is reused. The ring starts small and doubles, up to
+	 * {@code maxSlots}, while the drone's history is shorter than that, so a
+	 * large fleet with little history takes little memory.
+	 */
+	static final class Ring
+	{
+		private static final int INITIAL_SLOTS = 8;
+		private static final int EMPTY = Integer.MIN_VALUE;
+
+		final long resolution;
+		final int maxSlots;
+		int oldest = EMPTY;
+		int newest = EMPTY;
+
+		int[] keys;
+		int[] counts;
+		int[] sums;
+		byte[] mins;
+		byte[] maxs;
+		byte[] lasts;
+
+		Ring(long resolution, int maxSlots)
+		{
+			this.resolution = resolution;
+			this.maxSlots = maxSlots;
+			allocate(Math.min(maxSlots, INITIAL_SLOTS));
+		}
+
+		private void allocate(int slots)
+		{
+			keys = new int[slots];
+			counts = new int[slots];
+			sums = new int[slots];
+			mins = new byte[slots];
+			maxs = new byte[slots];
+			lasts = new byte[slots];
+			Arrays.fill(keys, EMPTY);
+		}
+
+		int slot(long key)
+		{
+			return (int) Math.floorMod(key, (long) keys.length);
+		}
+
+		void add(long timestamp, int level)
+		{
+			int key = (int) Math.floorDiv(timestamp, resolution);
+			if (oldest == EMPTY || key < oldest)
+				oldest = key;
+			if (newest == EMPTY || key > newest)
+				newest = key;
+			// an older sample widens the span as much as a newer one
+			if ((long) newest - oldest >= keys.length && keys.length < maxSlots)
+				grow((long) newest - oldest + 1);
+
+			int slot = slot(key);
+			if (keys[slot] != EMPTY && keys[slot] > key)
+				return;
+
+			if (keys[slot] != key)
+			{
+				keys[slot] = key;
+				counts[slot] = 0;
+				sums[slot] = 0;
+				mins[slot] = (byte) level;
+				maxs[slot] = (byte) level;
+			} else
+			{
+				if (level < mins[slot])
+					mins[slot] = (byte) level;
+				if (level > maxs[slot])
+					maxs[slot] = (byte) level;
+			}
+			counts[slot]++;
+			sums[slot] += level;
+			lasts[slot] = (byte) level;
+		}
+
+		/**
+		 * Rehashes into a ring of at least {@code span} slots. Until the ring
+		 * first reaches {@code maxSlots} no key has been overwritten, so every
+		 * held key fits the larger ring.
+		 */
+		private void grow(long span)
+		{
+			int slots = keys.length;
+			while (slots < span && slots < maxSlots)
+			{
+				slots = (int) Math.min(maxSlots, slots * 2L);
+			}
+
+			int[] oldKeys = keys, oldCounts = counts, oldSums = sums;
+			byte[] oldMins = mins, oldMaxs = maxs, oldLasts = lasts;
+			allocate(slots);
+			for (int i = 0; i < oldKeys.length; i++)
+			{
+				if (oldKeys[i] == EMPTY)
+					continue;
+
+				int slot = slot(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				counts[slot] = oldCounts[i];
+				sums[slot] = oldSums[i];
+				mins[slot] = oldMins[i];
+				maxs[slot] = oldMaxs[i];
+				lasts[slot] = oldLasts[i];
+			}
+		}
+	}
+
+	static final class DroneRollups
+	{
+		final Ring minutes;
+		final Ring hours;
+		final Ring days;
+
+		DroneRollups(int minuteSlots, int hourSlots, int daySlots)
+		{
+			this.minutes = new Ring(MINUTE, minuteSlots);
+			this.hours = new Ring(HOUR, hourSlots);
+			this.days = new Ring(DAY, daySlots);
+		}
+
+		Ring ring(long resolution)
+		{
+			return resolution == DAY ? days : resolution == HOUR ? hours : minutes;
+		}
+
+		synchronized void add(long timestamp, int level)
+		{
+			minutes.add(timestamp, level);
+			hours.add(timestamp, level);
+			days.add(timestamp, level);
+		}
+
+		/**
+		 * Merges the slots of keys {@code [firstKey, firstKey + keys)} into one
+		 * bucket.
+		 */
+		synchronized void visit(Ring ring, long firstKey, long keys, long start, BucketVisitor visitor)
+		{
+			int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE, last = 0;
+			long sum = 0, count = 0;
+
+			// a bucket wider than the ring only has the ring's worth of slots
+			for (long key = Math.max(firstKey, firstKey + keys - ring.keys.length); key < firstKey + keys; key++)
+			{
+				int slot = ring.slot(key);
+				if (ring.keys[slot] != key)
+					continue;
+
+				min = Math.min(min, ring.mins[slot]);
+				max = Math.max(max, ring.maxs[slot]);
+				sum += ring.sums[slot];
+				count += ring.counts[slot];
+				last = ring.lasts[slot];
+			}
+
+			if (count > 0)
+				visitor.accept(start, min, max, (double) sum / count, last, (int) count);
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package dev.iyare.service.drone.history;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A run of one drone's samples, compressed the way time-series stores compress
+ * regular series. Timestamps after the first are written as the change in the
+ * gap to the previous sample (delta-of-delta), which is a single 0 bit while
+ * the audit keeps its period. Levels after the first are written as the XOR
+ * with the previous level, a single 0 bit while the level holds.
+ *
+ * <pre>
+ * int    block length in bytes, written last so a torn write reads as empty
+ * short  serial number length, then the UTF-8 serial number
+ * int    sample count
+ * long   first timestamp
+ * long   last timestamp
+ * bits   first level (8), then per sample: timestamp delta-of-delta, level XOR
+ * </pre>
+ *
+ * A delta-of-delta is {@code 0}, or {@code 10}, {@code 110}, {@code 1110}
+ * followed by 7, 9 or 12 bits, or {@code 1111} followed by 40 bits. A level
+ * XOR is {@code 0}, or {@code 1} followed by 8 bits.
+ */
+final class HistoryBlock
+{
+	static final int UNKNOWN_LEVEL_BITS = 0xFF;
+
+	final String serialNumber;
+	final byte[] serialBytes;
+
+	long first;
+	long last;
+	long previousDelta;
+	int previousLevel;
+	int count;
+
+	long[] bits = new long[2];
+	int bitLength;
+
+	HistoryBlock(String serialNumber)
+	{
+		this.serialNumber = serialNumber;
+		this.serialBytes = serialNumber.getBytes(StandardCharsets.UTF_8);
+	}
+
+	void append(long timestamp, int level)
+	{
+		int levelBits = level < 0 || level >= UNKNOWN_LEVEL_BITS ? UNKNOWN_LEVEL_BITS : level;
+
+		if (count == 0)
+		{
+			first = timestamp;
+			write(levelBits, 8);
+		} else
+		{
+			long delta = timestamp - last;
+			writeDeltaOfDelta(delta - previousDelta);
+			previousDelta = delta;
+
+			int xor = levelBits ^ previousLevel;
+			if (xor == 0)
+				write(0, 1);
+			else
+			{
+				write(1, 1);
+				write(xor, 8);
+			}
+		}
+
+		last = timestamp;
+		previousLevel = levelBits;
+		count++;
+	}
+
+	private void writeDeltaOfDelta(long dod)
+	{
+		if (dod == 0)
+			write(0, 1);
+		else if (dod >= -63 && dod <= 64)
+		{
+			write(0b10, 2);
+			write(dod + 63, 7);
+		} else if (dod >= -255 && dod <= 256)
+		{
+			write(0b110, 3);
+			write(dod + 255, 9);
+		} else if (dod >= -2047 && dod <= 2048)
+		{
+			write(0b1110, 4);
+			write(dod + 2047, 12);
+		} else
+		{
+			write(0b1111, 4);
+			write(dod, 40);
+		}
+	}
+
+	/** appends the low {@code width} bits of {@code value}, most significant first */
+	private void write(long value, int width)
+	{
+		if (bitLength + width > bits.length * 64)
+			bits = Arrays.copyOf(bits, bits.length * 2);
+
+		for (int i = width - 1; i >= 0; i--)
+		{
+			if (((value >>> i) & 1) != 0)
+				bits[bitLength >>> 6] |= 1L << (63 - (bitLength & 63));
+			bitLength++;
+		}
+	}
+
+	int headerLength()
+	{
+		return 4 + 2 + serialBytes.length + 4 + 8 + 8;
+	}
+
+	int encodedLength()
+	{
+		return headerLength() + (bitLength + 7) / 8;
+	}
+
+	/**
+	 * Writes the block at {@code offset}, length field last.
+	 */
+	void writeTo(ByteBuffer buffer, int offset)
+	{
+		int position = offset + 4;
+		buffer.putShort(position, (short) serialBytes.length);
+		position += 2;
+		for (byte b : serialBytes)
+		{
+			buffer.put(position++, b);
+		}
+		buffer.putInt(position, count);
+		buffer.putLong(position + 4, first);
+		buffer.putLong(position + 12, last);
+		position += 20;
+
+		for (int i = 0; i < (bitLength + 7) / 8; i++)
+		{
+			buffer.put(position++, (byte) (bits[i >>> 3] >>> (56 - 8 * (i & 7))));
+		}
+		buffer.putInt(offset, position - offset);
+	}
+
+	ByteBuffer toBuffer()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(encodedLength());
+		writeTo(buffer, 0);
+		return buffer;
+	}
+
+	static String readSerialNumber(ByteBuffer buffer, int offset)
+	{
+		byte[] serial = new byte[buffer.getShort(offset + 4)];
+		for (int i = 0; i < serial.length; i++)
+		{
+			serial[i] = buffer.get(offset + 6 + i);
+		}
+		return new String(serial, StandardCharsets.UTF_8);
+	}
+
+	static long readFirst(ByteBuffer buffer, int offset)
+	{
+		return buffer.getLong(offset + 6 + buffer.getShort(offset + 4) + 4);
+	}
+
+	static long readLast(ByteBuffer buffer, int offset)
+	{
+		return buffer.getLong(offset + 6 + buffer.getShort(offset + 4) + 12);
+	}
+
+	/**
+	 * Visits the samples of the block at {@code offset} taken in
+	 * {@code [from, to)}.
+	 */
+	static void decode(ByteBuffer buffer, int offset, long from, long to, BatteryHistoryStore.SampleVisitor visitor)
+	{
+		int position = offset + 6 + buffer.getShort(offset + 4);
+		int count = buffer.getInt(position);
+		long timestamp = buffer.getLong(position + 4);
+		BitReader reader = new BitReader(buffer, position + 20);
+
+		int level = (int) reader.read(8);
+		long delta = 0;
+		for (int i = 0; i < count && timestamp < to; i++)
+		{
+			if (i > 0)
+			{
+				delta += reader.readDeltaOfDelta();
+				timestamp += delta;
+				if (reader.read(1) != 0)
+					level ^= (int) reader.read(8);
+			}
+
+			if (timestamp >= from && timestamp < to)
+				visitor.accept(timestamp,
+						level == UNKNOWN_LEVEL_BITS ? BatteryHistoryStore.UNKNOWN_LEVEL : level);
+		}
+	}
+
+	static final class BitReader
+	{
+		final ByteBuffer buffer;
+		long position;
+
+		BitReader(ByteBuffer buffer, int offset)
+		{
+			this.buffer = buffer;
+			this.position = (long) offset * 8;
+		}
+
+		long read(int width)
+		{
+			long value = 0;
+			for (int i = 0; i < width; i++)
+			{
+				int bit = (buffer.get((int) (position >>> 3)) >>> (7 - (int) (position & 7))) & 1;
+				value = (value << 1) | bit;
+				position++;
+			}
+			return value;
+		}
+
+		long readDeltaOfDelta()
+		{
+			if (read(1) == 0)
+				return 0;
+			if (read(1) == 0)
+				return read(7) - 63;
+			if (read(1) == 0)
+				return read(9) - 255;
+			if (read(1) == 0)
+				return read(12) - 2047;
+			// sign-extend the 40-bit value
+			return (read(40) << 24) >> 24;
+		}
+	}
+}
@@ -0,0 +1,424 @@
+package dev.iyare.service.drone.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+
+/**
+ * Keeps battery history as compressed {@link HistoryBlock}s appended to
+ * fixed-size, memory-mapped segment files in {@code drone.history.dir}.
+ *
+ * <p>
+ * Each drone has one open block in memory. It is sealed, i.e. appended to the
+ * current segment, once it holds {@code drone.history.block-samples} samples or
+ * spans {@code drone.history.block-span-ms}, and on shutdown. A regular audit
+ * costs a couple of bits per sample, so months of history fit in a few MB.
+ *
+ * <p>
+ * The sparse index keeps the time range and position of every sealed block
+ * per drone, in memory, and is rebuilt on startup by walking the block
+ * headers. A range scan binary-searches it for the first block that reaches
+ * {@code from} and then decodes the drone's blocks in order.
+ *
+ * <p>
+ * Samples in open blocks are lost if the process dies without shutting down;
+ * that is at most one block per drone.
+ */
+@Component
+@ConditionalOnProperty(name = "drone.history.backend", havingValue = "segments")
+public class SegmentBatteryHistoryStore implements BatteryHistoryStore
+{
+	private static final Log logger = LogFactory.getLog(SegmentBatteryHistoryStore.class);
+
+	private static final String SEGMENT_PREFIX = "battery-history-";
+	private static final String SEGMENT_SUFFIX = ".seg";
+
+	FleetRegistry fleetRegistry;
+
+	@Value("${drone.history.dir:${user.home}/.drone-service/history}")
+	String directory;
+
+	@Value("${drone.history.segment-bytes:16777216}")
+	int segmentBytes;
+
+	@Value("${drone.history.block-samples:120}")
+	int blockSamples;
+
+	@Value("${drone.history.block-span-ms:3600000}")
+	long blockSpanMillis;
+
+	final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	final List<MappedByteBuffer> segments = new ArrayList<MappedByteBuffer>();
+	final Map<String, DroneHistory> histories = new HashMap<String, DroneHistory>();
+	int writePosition;
+	long storedBytes;
+
+	public SegmentBatteryHistoryStore(FleetRegistry fleetRegistry)
+	{
+		this.fleetRegistry = fleetRegistry;
+	}
+
+	@PostConstruct
+	public void open() throws IOException
+	{
+		Path path = Paths.get(directory);
+		Files.createDirectories(path);
+
+		List<Path> files = new ArrayList<Path>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX))
+		{
+			for (Path file : stream)
+			{
+				files.add(file);
+			}
+		}
+		files.sort(null);
+
+		for (Path file : files)
+		{
+			MappedByteBuffer segment = map(file);
+			segments.add(segment);
+			writePosition = recover(segments.size() - 1, segment);
+		}
+		if (segments.isEmpty())
+			nextSegment();
+
+		logger.info("Battery history: " + histories.size() + " drone(s), " + storedBytes + " bytes in "
+				+ segments.size() + " segment(s) under " + path);
+	}
+
+	/**
+	 * Indexes the sealed blocks of a segment.
+	 *
+	 * @return where the next block goes
+	 */
+	private int recover(int segmentNo, MappedByteBuffer segment)
+	{
+		int offset = 0;
+		int length;
+		while (offset + 4 <= segment.capacity() && (length = segment.getInt(offset)) > 0
+				&& offset + length <= segment.capacity())
+		{
+			history(HistoryBlock.readSerialNumber(segment, offset)).add(HistoryBlock.readFirst(segment, offset),
+					HistoryBlock.readLast(segment, offset), segmentNo, offset);
+			storedBytes += length;
+			offset += length;
+		}
+		return offset;
+	}
+
+	private MappedByteBuffer map(Path file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE))
+		{
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+		}
+	}
+
+	private void nextSegment()
+	{
+		try
+		{
+			segments.add(map(Paths.get(directory, String.format("%s%06d%s", SEGMENT_PREFIX, segments.size(),
+					SEGMENT_SUFFIX))));
+			writePosition = 0;
+		} catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private DroneHistory history(String serialNumber)
+	{
+		DroneHistory history = histories.get(serialNumber);
+		if (history == null)
+			histories.put(serialNumber, history = new DroneHistory());
+		return history;
+	}
+
+	@Override
+	public int recordAll(long timestamp)
+	{
+		List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>(fleetRegistry.all());
+		record(drones, timestamp);
+		return drones.size();
+	}
+
+	/**
+	 * Audits and telemetry take their timestamps on different threads, so one
+	 * can arrive older than a sample already recorded for the drone. Such a
+	 * sample is recorded a millisecond after the drone's latest instead, which
+	 * keeps every drone's samples, and so its blocks, in strictly increasing
+	 * time.
+	 */
+	@Override
+	public void record(List<DroneSnapshot> drones, long timestamp)
+	{
+		lock.writeLock().lock();
+		try
+		{
+			boolean sealed = false;
+			for (DroneSnapshot drone : drones)
+			{
+				DroneHistory history = history(drone.getSerial_number());
+				Integer level = drone.getBattery_capacity();
+				sealed |= append(history, drone.getSerial_number(), Math.max(timestamp, history.latest() + 1),
+						level == null ? UNKNOWN_LEVEL : level);
+			}
+
+			if (sealed)
+				segments.get(segments.size() - 1).force();
+		} finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return whether the drone's open block was sealed to make room
+	 */
+	private boolean append(DroneHistory history, String serialNumber, long timestamp, int level)
+	{
+		boolean sealed = false;
+		HistoryBlock open = history.open;
+		if (open != null && (open.count >= blockSamples || timestamp - open.first >= blockSpanMillis))
+		{
+			seal(history);
+			sealed = true;
+		}
+		if (history.open == null)
+			history.open = new HistoryBlock(serialNumber);
+
+		history.open.append(timestamp, level);
+		return sealed;
+	}
+
+	/**
+	 * Samples no newer than the drone's latest are skipped, as blocks only
+	 * ever extend a drone's history forwards; importing the same file twice
+	 * records it once.
+	 */
+	@Override
+	public int recordSamples(String[] serialNumbers, long[] timestamps, int[] levels, int count)
+	{
+		lock.writeLock().lock();
+		try
+		{
+			boolean sealed = false;
+			int recorded = 0;
+			for (int i = 0; i < count; i++)
+			{
+				DroneHistory history = history(serialNumbers[i]);
+				if (timestamps[i] <= history.latest())
+				{
+					serialNumbers[i] = null;
+					continue;
+				}
+
+				sealed |= append(history, serialNumbers[i], timestamps[i], levels[i]);
+				recorded++;
+			}
+
+			if (sealed)
+				segments.get(segments.size() - 1).force();
+			return recorded;
+		} finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void seal(DroneHistory history)
+	{
+		HistoryBlock block = history.open;
+		int length = block.encodedLength();
+		if (length + 4 > segmentBytes)
+			throw new IllegalStateException("History block of " + length + " bytes exceeds the segment size");
+
+		// the zero length after the last block marks the end of the segment
+		if (writePosition + length + 4 > segmentBytes)
+		{
+			segments.get(segments.size() - 1).force();
+			nextSegment();
+		}
+
+		block.writeTo(segments.get(segments.size() - 1), writePosition);
+		history.add(block.first, block.last, segments.size() - 1, writePosition);
+		writePosition += length;
+		storedBytes += length;
+		history.open = null;
+	}
+
+	@Override
+	public void scan(String serialNumber, long from, long to, SampleVisitor visitor)
+	{
+		lock.readLock().lock();
+		try
+		{
+			DroneHistory history = histories.get(serialNumber);
+			if (history == null)
+				return;
+
+			for (int i = history.firstReaching(from); i < history.blocks && history.first[i] < to; i++)
+			{
+				HistoryBlock.decode(segments.get(history.segment[i]), history.offset[i], from, to, visitor);
+			}
+
+			HistoryBlock open = history.open;
+			if (open != null && open.last >= from && open.first < to)
+				HistoryBlock.decode(open.toBuffer(), 0, from, to, visitor);
+		} finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Scans one drone at a time, so the store is only read-locked for as long
+	 * as a drone's samples take to visit.
+	 */
+	@Override
+	public void scanAll(final DroneSampleVisitor visitor)
+	{
+		List<String> serialNumbers;
+		lock.readLock().lock();
+		try
+		{
+			serialNumbers = new ArrayList<String>(histories.keySet());
+		} finally
+		{
+			lock.readLock().unlock();
+		}
+		serialNumbers.sort(null);
+
+		for (final String serialNumber : serialNumbers)
+		{
+			scan(serialNumber, Long.MIN_VALUE, Long.MAX_VALUE,
+					(timestamp, level) -> visitor.accept(serialNumber, timestamp, level));
+		}
+	}
+
+	/**
+	 * @return the bytes taken by sealed blocks
+	 */
+	public long storedBytes()
+	{
+		lock.readLock().lock();
+		try
+		{
+			return storedBytes;
+		} finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Seals every open block so nothing recorded is lost on a clean shutdown.
+	 */
+	@PreDestroy
+	public void close()
+	{
+		lock.writeLock().lock();
+		try
+		{
+			for (DroneHistory history : histories.values())
+			{
+				if (history.open != null)
+					seal(history);
+			}
+			for (MappedByteBuffer segment : segments)
+			{
+				segment.force();
+			}
+		} finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * One drone's sparse index: the time range and position of each sealed
+	 * block, oldest first, plus the block still being filled.
+	 */
+	static final class DroneHistory
+	{
+		long[] first = new long[4];
+		long[] last = new long[4];
+		int[] segment = new int[4];
+		int[] offset = new int[4];
+		int blocks;
+
+		HistoryBlock open;
+
+		void add(long firstTimestamp, long lastTimestamp, int segmentNo, int blockOffset)
+		{
+			if (blocks == first.length)
+			{
+				first = Arrays.copyOf(first, blocks * 2);
+				last = Arrays.copyOf(last, blocks * 2);
+				segment = Arrays.copyOf(segment, blocks * 2);
+				offset = Arrays.copyOf(offset, blocks * 2);
+			}
+			first[blocks] = firstTimestamp;
+			last[blocks] = lastTimestamp;
+			segment[blocks] = segmentNo;
+			offset[blocks] = blockOffset;
+			blocks++;
+		}
+
+		/**
+		 * @return the time of the drone's latest sample, or
+		 *         {@link Long#MIN_VALUE} when it has none
+		 */
+		long latest()
+		{
+			if (open != null)
+				return open.last;
+			return blocks == 0 ? Long.MIN_VALUE : last[blocks - 1];
+		}
+
+		/**
+		 * @return the first block whose last sample is at or after
+		 *         {@code timestamp}
+		 */
+		int firstReaching(long timestamp)
+		{
+			int low = 0, high = blocks;
+			while (low < high)
+			{
+				int mid = (low + high) >>> 1;
+				if (last[mid] < timestamp)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package dev.iyare.service.drone.history;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import dev.iyare.service.drone.entities.EntityBatteryHistory;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.repositories.BatteryHistoryJdbcRepository;
+import dev.iyare.service.drone.repositories.EntityBatteryHistoryRepository;
+import dev.iyare.service.drone.utils.StringUtil;
+
+/**
+ * One {@code battery_history} row per sample.
+ */
+@Component
+@ConditionalOnProperty(name = "drone.history.backend", havingValue = "table", matchIfMissing = true)
+public class TableBatteryHistoryStore implements BatteryHistoryStore
+{
+	EntityBatteryHistoryRepository entityBatteryHistoryRepository;
+	BatteryHistoryJdbcRepository batteryHistoryJdbcRepository;
+
+	@Value("${drone.history.fetch-size:1000}")
+	int fetchSize;
+
+	public TableBatteryHistoryStore(EntityBatteryHistoryRepository entityBatteryHistoryRepository,
+			BatteryHistoryJdbcRepository batteryHistoryJdbcRepository)
+	{
+		this.entityBatteryHistoryRepository = entityBatteryHistoryRepository;
+		this.batteryHistoryJdbcRepository = batteryHistoryJdbcRepository;
+	}
+
+	/**
+	 * One INSERT ... SELECT from the drone table, so no drone is loaded into
+	 * the application and the cost is a single statement whatever the fleet
+	 * size.
+	 */
+	@Override
+	public int recordAll(long timestamp)
+	{
+		return entityBatteryHistoryRepository.auditAll(new Timestamp(timestamp));
+	}
+
+	@Override
+	public void record(List<DroneSnapshot> drones, long timestamp)
+	{
+		batteryHistoryJdbcRepository.insertAll(drones, new Timestamp(timestamp));
+	}
+
+	@Override
+	public void scan(String serialNumber, long from, long to, SampleVisitor visitor)
+	{
+		for (EntityBatteryHistory sample : entityBatteryHistoryRepository.findBySerialNoBetween(serialNumber,
+				new Timestamp(from), new Timestamp(to)))
+		{
+			Integer level = StringUtil.toInteger(sample.getBattery_capacity());
+			visitor.accept(sample.getDate_audited().getTime(), level == null ? UNKNOWN_LEVEL : level);
+		}
+	}
+
+	@Override
+	public int recordSamples(String[] serialNumbers, long[] timestamps, int[] levels, int count)
+	{
+		batteryHistoryJdbcRepository.insertSamples(serialNumbers, timestamps, levels, count);
+		return count;
+	}
+
+	@Override
+	public void scanAll(DroneSampleVisitor visitor)
+	{
+		batteryHistoryJdbcRepository.forEachSample(fetchSize, rs ->
+		{
+			Integer level = StringUtil.toInteger(rs.getString(3));
+			visitor.accept(rs.getString(1), rs.getTimestamp(2).getTime(), level == null ? UNKNOWN_LEVEL : level);
+		});
+	}
+}
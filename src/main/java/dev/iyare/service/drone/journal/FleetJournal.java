@@ -0,0 +1,705 @@
+package dev.iyare.service.drone.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.MedicationJdbcRepository;
+import dev.iyare.service.drone.repositories.SequenceIdAllocator;
+
+/**
+ * Append-only journal of every committed change to the fleet, so an
+ * application whose database is in memory comes back with its drones and
+ * their loads after a restart.
+ *
+ * <p>
+ * Each commit that registers, loads or moves drones, changes battery levels or
+ * delivers medications is appended as one record to fixed-size, memory-mapped
+ * segment files in {@code drone.journal.dir}:
+ *
+ * <pre>
+ * int length | int CRC32 of the rest | long sequence | byte type | payload
+ * </pre>
+ *
+ * A zero length marks the end. On startup the segments are walked up to the
+ * first record that is torn, fails its CRC or breaks the sequence, and writing
+ * carries on from there.
+ *
+ * <p>
+ * A background thread forces the current segment every
+ * {@code drone.journal.flush-ms}, and compacts the journal into a snapshot,
+ * the fleet as of one sequence number, once {@code drone.journal.snapshot-bytes}
+ * were appended or {@code drone.journal.snapshot-interval-ms} passed, and on
+ * shutdown. The last two snapshots are kept, together with the segments
+ * needed to replay from the older one, so restoring reads one snapshot and
+ * the records after it rather than the whole history.
+ *
+ * <p>
+ * Restoring happens when the bean is created, before the preloaded data and
+ * the fleet registry, and only into an empty {@code drone} table. Delivered
+ * medications and the {@code battery_history} table are not journaled.
+ * Records are in the page cache once appended, so they survive the process
+ * dying; a machine crash can lose the last {@code drone.journal.flush-ms}.
+ */
+@Component
+public class FleetJournal implements SmartLifecycle
+{
+	private static final Log logger = LogFactory.getLog(FleetJournal.class);
+
+	private static final String SEGMENT_PREFIX = "fleet-journal-";
+	private static final String SEGMENT_SUFFIX = ".seg";
+	private static final String SNAPSHOT_PREFIX = "fleet-snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".snap";
+	private static final int SNAPSHOT_MAGIC = 0x464c5431;
+
+	/** length, CRC, sequence and type */
+	private static final int HEADER_BYTES = 17;
+	private static final byte CHANGES = 1;
+
+	DroneJdbcRepository droneJdbcRepository;
+	MedicationJdbcRepository medicationJdbcRepository;
+	SequenceIdAllocator sequenceIdAllocator;
+	TransactionTemplate transactionTemplate;
+
+	@Value("${drone.journal.enabled:false}")
+	boolean enabled;
+
+	@Value("${drone.journal.dir:${user.home}/.drone-service/journal}")
+	String directory;
+
+	@Value("${drone.journal.segment-bytes:67108864}")
+	int segmentBytes;
+
+	@Value("${drone.journal.flush-ms:1000}")
+	long flushMillis;
+
+	@Value("${drone.journal.snapshot-bytes:67108864}")
+	long snapshotBytes;
+
+	@Value("${drone.journal.snapshot-interval-ms:600000}")
+	long snapshotIntervalMillis;
+
+	/** guards the segments, the write position and the sequence */
+	final Object lock = new Object();
+	final List<Segment> segments = new ArrayList<Segment>();
+	int writePosition;
+	long sequence;
+	long bytesSinceSnapshot;
+
+	/** only touched on startup and by the journal thread */
+	long snapshotSequence;
+	long lastSnapshotAt;
+	long replayed;
+
+	ScheduledExecutorService executor;
+	volatile boolean running;
+	volatile boolean restored;
+
+	public FleetJournal(DroneJdbcRepository droneJdbcRepository, MedicationJdbcRepository medicationJdbcRepository,
+			SequenceIdAllocator sequenceIdAllocator, PlatformTransactionManager transactionManager)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.medicationJdbcRepository = medicationJdbcRepository;
+		this.sequenceIdAllocator = sequenceIdAllocator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Recovers the journal and restores the fleet it holds.
+	 */
+	@PostConstruct
+	public void open() throws IOException
+	{
+		if (!enabled)
+			return;
+
+		long start = System.currentTimeMillis();
+		FleetState state = load();
+		restore(state);
+		logger.info("Fleet journal: " + state.drones.size() + " drone(s), " + state.medications().size()
+				+ " medication(s) from snapshot " + snapshotSequence + " and " + replayed + " record(s) after it, "
+				+ (restored ? "restored" : "not restored") + " in " + (System.currentTimeMillis() - start) + " ms");
+	}
+
+	/**
+	 * Reads the newest snapshot and replays the journal after it, leaving the
+	 * journal ready for appends.
+	 *
+	 * @return the fleet as of the last intact record
+	 */
+	FleetState load() throws IOException
+	{
+		Files.createDirectories(Paths.get(directory));
+		FleetState state = new FleetState();
+		snapshotSequence = readLatestSnapshot(state);
+		recover(state);
+		if (sequence < snapshotSequence)
+			sequence = snapshotSequence;
+		lastSnapshotAt = System.currentTimeMillis();
+		return state;
+	}
+
+	/**
+	 * @return true when the drones of the last run were put back on startup
+	 */
+	public boolean isRestored()
+	{
+		return restored;
+	}
+
+	/**
+	 * Walks the segments in order, applying the records after the snapshot to
+	 * {@code state}. Segments after the one holding the first bad record are
+	 * set aside, as nothing after it can be trusted.
+	 */
+	private void recover(final FleetState state) throws IOException
+	{
+		boolean ended = false;
+		for (Path file : list(SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX))
+		{
+			if (ended)
+			{
+				logger.warn("Setting aside " + file + ", which follows a damaged journal record");
+				Files.move(file, Paths.get(file + ".damaged"), StandardCopyOption.REPLACE_EXISTING);
+				continue;
+			}
+
+			final Segment segment = new Segment(number(file), map(file));
+			int end = walk(segment.buffer, segmentBytes, (recordSequence, payload) ->
+			{
+				if (sequence != 0 && recordSequence != sequence + 1)
+					return false;
+				if (recordSequence > snapshotSequence)
+				{
+					state.applyChanges(new DataInputStream(new ByteBufferInputStream(payload)));
+					replayed++;
+				}
+				if (segment.firstSequence == 0)
+					segment.firstSequence = recordSequence;
+				segment.lastSequence = recordSequence;
+				sequence = recordSequence;
+				return true;
+			});
+			segments.add(segment);
+			writePosition = end;
+			ended = end + 4 <= segmentBytes && segment.buffer.getInt(end) != 0;
+		}
+
+		if (!segments.isEmpty() && segments.get(0).firstSequence > snapshotSequence + 1)
+			logger.error("Fleet journal starts at record " + segments.get(0).firstSequence + " but snapshot "
+					+ snapshotSequence + " ends before it; records in between are lost");
+		if (segments.isEmpty())
+			nextSegment();
+	}
+
+	/**
+	 * Puts the fleet back into an empty database.
+	 */
+	private void restore(final FleetState state)
+	{
+		if (state.drones.isEmpty() && state.manifests.isEmpty())
+			return;
+		if (droneJdbcRepository.findIdRange() != null)
+		{
+			logger.warn("The drone table is not empty, the fleet journal is not restored");
+			return;
+		}
+
+		final List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>(state.drones.values());
+		transactionTemplate.executeWithoutResult(status ->
+		{
+			droneJdbcRepository.restoreAll(drones);
+			long maxId = 0;
+			for (DroneSnapshot drone : drones)
+			{
+				maxId = Math.max(maxId, drone.getId());
+			}
+			sequenceIdAllocator.restartAfter(maxId);
+			medicationJdbcRepository.insertAll(state.medications());
+		});
+		restored = true;
+	}
+
+	/**
+	 * Journals registered drones.
+	 */
+	public void appendDrones(Collection<DroneSnapshot> drones)
+	{
+		appendAfterCommit(drones, Collections.<DroneSnapshot> emptyList(), Collections.<String> emptyList(),
+				Collections.<EntityMedication> emptyList());
+	}
+
+	/**
+	 * Journals the battery levels of {@code drones}.
+	 */
+	public void appendBatteries(Collection<DroneSnapshot> drones)
+	{
+		appendAfterCommit(Collections.<DroneSnapshot> emptyList(), drones, Collections.<String> emptyList(),
+				Collections.<EntityMedication> emptyList());
+	}
+
+	/**
+	 * Journals loaded drones along with the medications put on them, or
+	 * medications on no drone when {@code drones} is empty.
+	 */
+	public void appendLoads(Collection<DroneSnapshot> drones, Collection<EntityMedication> medications)
+	{
+		appendAfterCommit(drones, Collections.<DroneSnapshot> emptyList(), Collections.<String> emptyList(),
+				medications);
+	}
+
+	/**
+	 * Journals drones that changed state, dropping the medications of the
+	 * {@code unloaded} ones: delivered, or released before they took off.
+	 */
+	public void appendTransitions(Collection<DroneSnapshot> drones, Collection<String> unloaded)
+	{
+		appendAfterCommit(drones, Collections.<DroneSnapshot> emptyList(), unloaded,
+				Collections.<EntityMedication> emptyList());
+	}
+
+	/**
+	 * Encodes the changes now and appends them once the current transaction
+	 * commits, or now if there is none. Nothing is journaled on rollback.
+	 */
+	private void appendAfterCommit(Collection<DroneSnapshot> drones, Collection<DroneSnapshot> batteries,
+			Collection<String> delivered, Collection<EntityMedication> medications)
+	{
+		if (!enabled || drones.isEmpty() && batteries.isEmpty() && delivered.isEmpty() && medications.isEmpty())
+			return;
+
+		final byte[] payload;
+		try
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			FleetState.writeChanges(new DataOutputStream(bytes), drones, batteries, delivered, medications);
+			payload = bytes.toByteArray();
+		} catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+		{
+			append(CHANGES, payload);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+		{
+			@Override
+			public void afterCommit()
+			{
+				append(CHANGES, payload);
+			}
+		});
+	}
+
+	private void append(byte type, byte[] payload)
+	{
+		int length = HEADER_BYTES + payload.length;
+		if (length + 4 > segmentBytes)
+			throw new IllegalStateException("Journal record of " + length + " bytes exceeds the segment size");
+
+		synchronized (lock)
+		{
+			// the zero length after the last record marks the end of the journal
+			if (writePosition + length + 4 > segmentBytes)
+			{
+				segments.get(segments.size() - 1).buffer.force();
+				nextSegment();
+			}
+
+			Segment segment = segments.get(segments.size() - 1);
+			long recordSequence = sequence + 1;
+			ByteBuffer record = segment.buffer.duplicate();
+			record.position(writePosition + 8);
+			record.putLong(recordSequence).put(type).put(payload);
+			record.putInt(0);
+			segment.buffer.putInt(writePosition + 4, checksum(segment.buffer, writePosition + 8, length - 8));
+			// the length goes last, so a record torn by a crash reads as the end
+			segment.buffer.putInt(writePosition, length);
+
+			sequence = recordSequence;
+			if (segment.firstSequence == 0)
+				segment.firstSequence = recordSequence;
+			segment.lastSequence = recordSequence;
+			writePosition += length;
+			bytesSinceSnapshot += length;
+		}
+	}
+
+	/**
+	 * Visits the valid records of a segment from its start, stopping at the end
+	 * marker, at a torn or corrupt record, or when the visitor declines one.
+	 *
+	 * @return the offset after the last record visited
+	 */
+	private int walk(MappedByteBuffer buffer, int end, RecordVisitor visitor) throws IOException
+	{
+		int offset = 0;
+		while (offset + HEADER_BYTES <= end)
+		{
+			int length = buffer.getInt(offset);
+			if (length < HEADER_BYTES || offset + length > end
+					|| buffer.getInt(offset + 4) != checksum(buffer, offset + 8, length - 8))
+				break;
+
+			ByteBuffer payload = buffer.duplicate();
+			payload.limit(offset + length).position(offset + HEADER_BYTES);
+			if (!visitor.visit(buffer.getLong(offset + 8), payload))
+				break;
+			offset += length;
+		}
+		return offset;
+	}
+
+	private static int checksum(ByteBuffer buffer, int offset, int length)
+	{
+		ByteBuffer range = buffer.duplicate();
+		range.limit(offset + length).position(offset);
+		CRC32 crc = new CRC32();
+		crc.update(range);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Writes the fleet as of the last appended record to a new snapshot, then
+	 * drops what the snapshot before it made redundant. Runs on the journal
+	 * thread, or on shutdown once that has stopped.
+	 */
+	void snapshot() throws IOException
+	{
+		long start = System.currentTimeMillis();
+		final long endSequence;
+		final int endPosition;
+		List<Segment> covered;
+		synchronized (lock)
+		{
+			if (sequence == snapshotSequence)
+				return;
+			endSequence = sequence;
+			endPosition = writePosition;
+			covered = new ArrayList<Segment>(segments);
+			bytesSinceSnapshot = 0;
+		}
+		lastSnapshotAt = start;
+
+		final FleetState state = new FleetState();
+		final long from = readLatestSnapshot(state);
+		for (int i = 0; i < covered.size(); i++)
+		{
+			Segment segment = covered.get(i);
+			if (segment.lastSequence <= from)
+				continue;
+			walk(segment.buffer, i == covered.size() - 1 ? endPosition : segmentBytes, (recordSequence, payload) ->
+			{
+				if (recordSequence > from)
+					state.applyChanges(new DataInputStream(new ByteBufferInputStream(payload)));
+				return recordSequence < endSequence;
+			});
+		}
+
+		writeSnapshot(state, endSequence);
+		long previous = snapshotSequence;
+		snapshotSequence = endSequence;
+		int removed = removeBefore(previous);
+		logger.info("Fleet journal snapshot " + endSequence + ": " + state.drones.size() + " drone(s) in "
+				+ (System.currentTimeMillis() - start) + " ms, " + removed + " segment(s) removed");
+	}
+
+	/**
+	 * Deletes the snapshots older than {@code keep} and the segments holding
+	 * only records it covers, leaving one snapshot to fall back on.
+	 *
+	 * @return the number of segments deleted
+	 */
+	private int removeBefore(long keep) throws IOException
+	{
+		for (Path file : list(SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX))
+		{
+			if (number(file) < keep)
+				Files.delete(file);
+		}
+
+		List<Segment> obsolete = new ArrayList<Segment>();
+		synchronized (lock)
+		{
+			while (segments.size() > 1 && segments.get(0).lastSequence <= keep)
+			{
+				obsolete.add(segments.remove(0));
+			}
+		}
+		for (Segment segment : obsolete)
+		{
+			Files.delete(segmentPath(segment.number));
+		}
+		return obsolete.size();
+	}
+
+	private void writeSnapshot(FleetState state, long snapshot) throws IOException
+	{
+		Path file = Paths.get(directory, String.format("%s%020d%s", SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX));
+		Path temporary = Paths.get(file + ".tmp");
+		try (FileOutputStream stream = new FileOutputStream(temporary.toFile()))
+		{
+			BufferedOutputStream buffered = new BufferedOutputStream(stream, 1 << 16);
+			CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32());
+			DataOutputStream out = new DataOutputStream(checked);
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeLong(snapshot);
+			state.writeSnapshot(out);
+			out.flush();
+			new DataOutputStream(buffered).writeLong(checked.getChecksum().getValue());
+			buffered.flush();
+			stream.getFD().sync();
+		}
+		Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads the newest snapshot that is intact into {@code state}.
+	 *
+	 * @return the sequence it covers, 0 when there is none
+	 */
+	private long readLatestSnapshot(FleetState state) throws IOException
+	{
+		List<Path> files = list(SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX);
+		Collections.reverse(files);
+		for (Path file : files)
+		{
+			try (InputStream stream = Files.newInputStream(file))
+			{
+				BufferedInputStream buffered = new BufferedInputStream(stream, 1 << 16);
+				CheckedInputStream checked = new CheckedInputStream(buffered, new CRC32());
+				DataInputStream in = new DataInputStream(checked);
+				FleetState read = new FleetState();
+				if (in.readInt() != SNAPSHOT_MAGIC)
+					throw new IOException("not a fleet snapshot");
+				long snapshot = in.readLong();
+				read.readSnapshot(in);
+				if (new DataInputStream(buffered).readLong() != checked.getChecksum().getValue())
+					throw new IOException("checksum mismatch");
+
+				state.drones.putAll(read.drones);
+				state.manifests.putAll(read.manifests);
+				return snapshot;
+			} catch (IOException e)
+			{
+				logger.warn("Skipping fleet snapshot " + file + ": " + e.getMessage());
+			}
+		}
+		return 0;
+	}
+
+	private List<Path> list(String glob) throws IOException
+	{
+		List<Path> files = new ArrayList<Path>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(directory), glob))
+		{
+			for (Path file : stream)
+			{
+				files.add(file);
+			}
+		}
+		files.sort(null);
+		return files;
+	}
+
+	private static long number(Path file)
+	{
+		String name = file.getFileName().toString();
+		return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.indexOf('.')));
+	}
+
+	private Path segmentPath(long number)
+	{
+		return Paths.get(directory, String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+	}
+
+	private MappedByteBuffer map(Path file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE))
+		{
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+		}
+	}
+
+	private void nextSegment()
+	{
+		long number = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).number + 1;
+		try
+		{
+			segments.add(new Segment(number, map(segmentPath(number))));
+			writePosition = 0;
+		} catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void flush()
+	{
+		try
+		{
+			boolean due;
+			synchronized (lock)
+			{
+				segments.get(segments.size() - 1).buffer.force();
+				due = bytesSinceSnapshot >= snapshotBytes;
+			}
+			if (due || System.currentTimeMillis() - lastSnapshotAt >= snapshotIntervalMillis)
+				snapshot();
+		} catch (Exception e)
+		{
+			logger.error("Fleet journal flush failed", e);
+		}
+	}
+
+	@Override
+	public void start()
+	{
+		running = true;
+		if (!enabled)
+			return;
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "fleet-journal");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops after the services that append to the journal and leaves a
+	 * snapshot of the final fleet.
+	 */
+	@Override
+	public void stop()
+	{
+		running = false;
+		if (executor == null)
+			return;
+
+		executor.shutdown();
+		try
+		{
+			if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+				logger.warn("Fleet journal did not stop within 30s");
+			snapshot();
+			synchronized (lock)
+			{
+				segments.get(segments.size() - 1).buffer.force();
+			}
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		} catch (IOException e)
+		{
+			logger.error("Fleet journal snapshot on shutdown failed", e);
+		}
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	@Override
+	public int getPhase()
+	{
+		return 1;
+	}
+
+	interface RecordVisitor
+	{
+		/**
+		 * @return false to end the walk at this record
+		 */
+		boolean visit(long sequence, ByteBuffer payload) throws IOException;
+	}
+
+	static final class Segment
+	{
+		final long number;
+		final MappedByteBuffer buffer;
+		long firstSequence;
+		long lastSequence;
+
+		Segment(long number, MappedByteBuffer buffer)
+		{
+			this.number = number;
+			this.buffer = buffer;
+		}
+	}
+
+	static final class ByteBufferInputStream extends InputStream
+	{
+		final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read()
+		{
+			return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length)
+		{
+			if (!buffer.hasRemaining())
+				return -1;
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+	}
+}
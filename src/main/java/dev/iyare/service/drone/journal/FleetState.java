@@ -0,0 +1,219 @@
+package dev.iyare.service.drone.journal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * The fleet as the journal knows it: every drone, and the medications not yet
+ * delivered grouped by the drone carrying them (under {@code null} when on no
+ * drone). Built from a snapshot plus the journal records after it, and written
+ * out as the next snapshot.
+ *
+ * <p>
+ * A journal record is a set of changes committed together, applied in this
+ * order: drones (a drone only ever replaces an older version of itself, and
+ * keeps its battery level), battery levels, deliveries (the drone's
+ * medications are dropped) and medications loaded. Battery updates carry no
+ * version, so the level of a loaded or moved drone, read before the update
+ * committed, must not replace it.
+ */
+final class FleetState
+{
+	final Map<String, DroneSnapshot> drones = new LinkedHashMap<String, DroneSnapshot>();
+	final Map<String, List<EntityMedication>> manifests = new HashMap<String, List<EntityMedication>>();
+
+	/**
+	 * Encodes one journal record.
+	 */
+	static void writeChanges(DataOutput out, Collection<DroneSnapshot> drones, Collection<DroneSnapshot> batteries,
+			Collection<String> delivered, Collection<EntityMedication> medications) throws IOException
+	{
+		out.writeInt(drones.size());
+		for (DroneSnapshot drone : drones)
+		{
+			writeDrone(out, drone);
+		}
+		out.writeInt(batteries.size());
+		for (DroneSnapshot drone : batteries)
+		{
+			writeString(out, drone.getSerial_number());
+			out.writeInt(drone.getBattery_capacity() == null ? -1 : drone.getBattery_capacity());
+		}
+		out.writeInt(delivered.size());
+		for (String serialNumber : delivered)
+		{
+			writeString(out, serialNumber);
+		}
+		out.writeInt(medications.size());
+		for (EntityMedication medication : medications)
+		{
+			writeMedication(out, medication);
+		}
+	}
+
+	/**
+	 * Applies one journal record.
+	 */
+	void applyChanges(DataInput in) throws IOException
+	{
+		for (int i = in.readInt(); i > 0; i--)
+		{
+			put(readDrone(in));
+		}
+		for (int i = in.readInt(); i > 0; i--)
+		{
+			String serialNumber = readString(in);
+			int level = in.readInt();
+			DroneSnapshot drone = drones.get(serialNumber);
+			if (drone != null)
+				drones.put(serialNumber, drone.withBattery(level < 0 ? null : level));
+		}
+		for (int i = in.readInt(); i > 0; i--)
+		{
+			manifests.remove(readString(in));
+		}
+		for (int i = in.readInt(); i > 0; i--)
+		{
+			add(readMedication(in));
+		}
+	}
+
+	private void put(DroneSnapshot drone)
+	{
+		DroneSnapshot current = drones.get(drone.getSerial_number());
+		if (current == null)
+			drones.put(drone.getSerial_number(), drone);
+		else if (current.getVersion() <= drone.getVersion())
+			drones.put(drone.getSerial_number(), drone.withBattery(current.getBattery_capacity()));
+	}
+
+	private void add(EntityMedication medication)
+	{
+		List<EntityMedication> manifest = manifests.get(medication.getDrone_serial_number());
+		if (manifest == null)
+			manifests.put(medication.getDrone_serial_number(), manifest = new ArrayList<EntityMedication>());
+		manifest.add(medication);
+	}
+
+	List<EntityMedication> medications()
+	{
+		List<EntityMedication> medications = new ArrayList<EntityMedication>();
+		for (List<EntityMedication> manifest : manifests.values())
+		{
+			medications.addAll(manifest);
+		}
+		return medications;
+	}
+
+	void writeSnapshot(DataOutput out) throws IOException
+	{
+		out.writeInt(drones.size());
+		for (DroneSnapshot drone : drones.values())
+		{
+			writeDrone(out, drone);
+		}
+		List<EntityMedication> medications = medications();
+		out.writeInt(medications.size());
+		for (EntityMedication medication : medications)
+		{
+			writeMedication(out, medication);
+		}
+	}
+
+	void readSnapshot(DataInput in) throws IOException
+	{
+		for (int i = in.readInt(); i > 0; i--)
+		{
+			put(readDrone(in));
+		}
+		for (int i = in.readInt(); i > 0; i--)
+		{
+			add(readMedication(in));
+		}
+	}
+
+	private static void writeDrone(DataOutput out, DroneSnapshot drone) throws IOException
+	{
+		out.writeLong(drone.getId());
+		out.writeInt(drone.getVersion());
+		writeString(out, drone.getSerial_number());
+		writeString(out, drone.getModel());
+		out.writeInt(drone.getWeight_limit() == null ? -1 : drone.getWeight_limit());
+		out.writeInt(drone.getBattery_capacity() == null ? -1 : drone.getBattery_capacity());
+		out.writeInt(drone.getLoaded_weight());
+		out.writeByte(drone.getState() == null ? -1 : drone.getState().getCode());
+	}
+
+	private static DroneSnapshot readDrone(DataInput in) throws IOException
+	{
+		long id = in.readLong();
+		int version = in.readInt();
+		String serialNumber = readString(in);
+		String model = readString(in);
+		int weightLimit = in.readInt();
+		int battery = in.readInt();
+		int loadedWeight = in.readInt();
+		byte state = in.readByte();
+		return new DroneSnapshot(id, version, serialNumber, model, weightLimit < 0 ? null : weightLimit,
+				battery < 0 ? null : battery, loadedWeight, state < 0 ? null : DroneState.fromCode(state));
+	}
+
+	private static void writeMedication(DataOutput out, EntityMedication medication) throws IOException
+	{
+		writeString(out, medication.getDrone_serial_number());
+		writeString(out, medication.getName());
+		writeString(out, medication.getCode());
+		out.writeInt(medication.getWeight() == null ? -1 : medication.getWeight());
+		writeString(out, medication.getImage());
+	}
+
+	private static EntityMedication readMedication(DataInput in) throws IOException
+	{
+		EntityMedication medication = new EntityMedication();
+		medication.setDrone_serial_number(readString(in));
+		medication.setName(readString(in));
+		medication.setCode(readString(in));
+		int weight = in.readInt();
+		medication.setWeight(weight < 0 ? null : weight);
+		medication.setImage(readString(in));
+		return medication;
+	}
+
+	/**
+	 * Length-prefixed UTF-8, -1 for null: images are far past the 64 KB of
+	 * {@link DataOutput#writeUTF}.
+	 */
+	private static void writeString(DataOutput out, String value) throws IOException
+	{
+		if (value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInput in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,194 @@
+package dev.iyare.service.drone.lifecycle;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel: {@value #LEVELS} wheels of {@value #SLOTS}
+ * slots, the first one tick per slot and each next one {@value #SLOTS} times
+ * coarser, so deadlines up to {@code 64^4} ticks ahead are held without
+ * rounding. A timer sits in a doubly linked list in the slot of the finest
+ * wheel that reaches its deadline; scheduling and cancelling are O(1)
+ * whatever the number of timers.
+ *
+ * <p>
+ * Advancing one tick expires the current slot of the first wheel. Each time a
+ * wheel completes a turn, the next slot of the coarser wheel is emptied and
+ * its timers placed again, now in a finer wheel, so a timer only ever reaches
+ * the first wheel in the slot of its own tick. Timers further out than the
+ * coarsest wheel reaches wait in its furthest slot and are placed again as it
+ * comes round.
+ *
+ * <p>
+ * Not thread-safe: callers serialise access.
+ */
+public final class TimingWheel<T>
+{
+	static final int LEVELS = 4;
+	static final int SLOT_BITS = 6;
+	static final int SLOTS = 1 << SLOT_BITS;
+	static final int SLOT_MASK = SLOTS - 1;
+
+	/** furthest a timer is placed ahead of the current tick */
+	static final long SPAN = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+	public static final class Timer<T>
+	{
+		final T item;
+		final long tick;
+		Timer<T> previous;
+		Timer<T> next;
+
+		Timer(T item, long tick)
+		{
+			this.item = item;
+			this.tick = tick;
+		}
+
+		public T getItem()
+		{
+			return item;
+		}
+
+		public boolean isScheduled()
+		{
+			return previous != null;
+		}
+	}
+
+	final long tickMillis;
+
+	/** one sentinel per slot, wheel by wheel */
+	final Timer<T>[] slots;
+
+	/** the last tick expired */
+	long currentTick;
+	int size;
+
+	@SuppressWarnings("unchecked")
+	public TimingWheel(long tickMillis, long now)
+	{
+		if (tickMillis <= 0)
+			throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+
+		this.tickMillis = tickMillis;
+		this.currentTick = now / tickMillis;
+		this.slots = new Timer[LEVELS * SLOTS];
+		for (int i = 0; i < slots.length; i++)
+		{
+			Timer<T> sentinel = new Timer<T>(null, 0);
+			sentinel.previous = sentinel;
+			sentinel.next = sentinel;
+			slots[i] = sentinel;
+		}
+	}
+
+	/**
+	 * @return the time the wheel has been advanced to
+	 */
+	public long now()
+	{
+		return currentTick * tickMillis;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Schedules {@code item} to expire on the first tick at or after
+	 * {@code deadline}; a deadline already passed expires on the next tick.
+	 */
+	public Timer<T> schedule(T item, long deadline)
+	{
+		Timer<T> timer = new Timer<T>(item, Math.max(currentTick + 1, (deadline + tickMillis - 1) / tickMillis));
+		place(timer);
+		size++;
+		return timer;
+	}
+
+	/**
+	 * @return whether the timer was still scheduled
+	 */
+	public boolean cancel(Timer<T> timer)
+	{
+		if (!timer.isScheduled())
+			return false;
+
+		unlink(timer);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Moves the wheel to {@code now}, handing every timer due by then to
+	 * {@code expired}, earliest tick first.
+	 */
+	public void advance(long now, Consumer<T> expired)
+	{
+		long target = now / tickMillis;
+		if (size == 0 && target > currentTick)
+		{
+			currentTick = target;
+			return;
+		}
+
+		while (currentTick < target)
+		{
+			currentTick++;
+			for (int level = 1; level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++)
+			{
+				cascade(level);
+			}
+
+			Timer<T> sentinel = slots[(int) (currentTick & SLOT_MASK)];
+			while (sentinel.next != sentinel)
+			{
+				Timer<T> timer = sentinel.next;
+				unlink(timer);
+				size--;
+				expired.accept(timer.item);
+			}
+
+			if (size == 0)
+				currentTick = target;
+		}
+	}
+
+	private void cascade(int level)
+	{
+		Timer<T> sentinel = slots[level * SLOTS + (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+		while (sentinel.next != sentinel)
+		{
+			Timer<T> timer = sentinel.next;
+			unlink(timer);
+			place(timer);
+		}
+	}
+
+	private void place(Timer<T> timer)
+	{
+		long tick = Math.min(timer.tick, currentTick + SPAN);
+		long delta = tick - currentTick;
+
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1)))
+		{
+			level++;
+		}
+
+		Timer<T> sentinel = slots[level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+		timer.previous = sentinel.previous;
+		timer.next = sentinel;
+		sentinel.previous.next = timer;
+		sentinel.previous = timer;
+	}
+
+	private static <T> void unlink(Timer<T> timer)
+	{
+		timer.previous.next = timer.next;
+		timer.next.previous = timer.previous;
+		timer.previous = null;
+		timer.next = null;
+	}
+}
@@ -0,0 +1,28 @@
+package dev.iyare.service.drone.models.request;
+
+import java.io.Serializable;
+
+public class TelemetryRequest implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String serial_number;
+
+	String battery_capacity;
+
+	public TelemetryRequest(String serial_number, String battery_capacity)
+	{
+		this.serial_number = serial_number;
+		this.battery_capacity = battery_capacity;
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getBattery_capacity()
+	{
+		return battery_capacity;
+	}
+}
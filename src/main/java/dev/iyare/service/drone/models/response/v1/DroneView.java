@@ -0,0 +1,60 @@
+package dev.iyare.service.drone.models.response.v1;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * A drone as v1 has always returned it: the fields of the original
+ * {@code drone} entity, in its order, with every value as a string. Numbers
+ * stay quoted and fields added since, such as {@code loaded_weight}, stay out.
+ */
+public class DroneView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String serial_number;
+	String model;
+	String weight_limit;
+	String battery_capacity;
+	String state;
+
+	public DroneView(DroneSnapshot drone)
+	{
+		this.serial_number = drone.getSerial_number();
+		this.model = drone.getModel();
+		this.weight_limit = toString(drone.getWeight_limit());
+		this.battery_capacity = toString(drone.getBattery_capacity());
+		this.state = drone.getState() == null ? null : drone.getState().getDescription();
+	}
+
+	static String toString(Integer value)
+	{
+		return value == null ? null : value.toString();
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getModel()
+	{
+		return model;
+	}
+
+	public String getWeight_limit()
+	{
+		return weight_limit;
+	}
+
+	public String getBattery_capacity()
+	{
+		return battery_capacity;
+	}
+
+	public String getState()
+	{
+		return state;
+	}
+}
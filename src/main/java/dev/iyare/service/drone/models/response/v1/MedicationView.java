@@ -0,0 +1,53 @@
+package dev.iyare.service.drone.models.response.v1;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+
+/**
+ * A medication as v1 has always returned it, with the weight as a string.
+ */
+public class MedicationView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String name;
+	String weight;
+	String code;
+	String image;
+	String drone_serial_number;
+
+	public MedicationView(EntityMedication entityMedication)
+	{
+		this.name = entityMedication.getName();
+		this.weight = DroneView.toString(entityMedication.getWeight());
+		this.code = entityMedication.getCode();
+		this.image = entityMedication.getImage();
+		this.drone_serial_number = entityMedication.getDrone_serial_number();
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public String getWeight()
+	{
+		return weight;
+	}
+
+	public String getCode()
+	{
+		return code;
+	}
+
+	public String getImage()
+	{
+		return image;
+	}
+
+	public String getDrone_serial_number()
+	{
+		return drone_serial_number;
+	}
+}
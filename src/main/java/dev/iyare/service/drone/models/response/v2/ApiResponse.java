@@ -0,0 +1,79 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.models.response.AbstractResponse;
+
+/**
+ * v2 response envelope. Unlike {@link AbstractResponse}, {@code data} holds
+ * the typed payload itself, so it is serialized once as nested JSON instead of
+ * as an escaped JSON string.
+ */
+public class ApiResponse<T> implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String responseMessage = AbstractResponse.FAILED;
+	String responseCode = AbstractResponse.FAILED_CODE;
+	String responseDescription;
+	T data;
+
+	public static <T> ApiResponse<T> successful(String description, T data)
+	{
+		ApiResponse<T> response = new ApiResponse<T>();
+		response.setResponseCode(AbstractResponse.SUCCESSFUL_CODE);
+		response.setResponseMessage(AbstractResponse.SUCCESSFUL);
+		response.setResponseDescription(description);
+		response.setData(data);
+		return response;
+	}
+
+	public static <T> ApiResponse<T> failed(String description)
+	{
+		ApiResponse<T> response = new ApiResponse<T>();
+		response.setResponseCode(AbstractResponse.FAILED_CODE);
+		response.setResponseMessage(AbstractResponse.FAILED);
+		response.setResponseDescription(description);
+		return response;
+	}
+
+	public String getResponseMessage()
+	{
+		return responseMessage;
+	}
+
+	public void setResponseMessage(String responseMessage)
+	{
+		this.responseMessage = responseMessage;
+	}
+
+	public String getResponseCode()
+	{
+		return responseCode;
+	}
+
+	public void setResponseCode(String responseCode)
+	{
+		this.responseCode = responseCode;
+	}
+
+	public String getResponseDescription()
+	{
+		return responseDescription;
+	}
+
+	public void setResponseDescription(String responseDescription)
+	{
+		this.responseDescription = responseDescription;
+	}
+
+	public T getData()
+	{
+		return data;
+	}
+
+	public void setData(T data)
+	{
+		this.data = data;
+	}
+}
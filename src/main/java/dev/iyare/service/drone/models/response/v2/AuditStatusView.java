@@ -0,0 +1,103 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Health of the battery audit scheduler. {@code last_lag_ms} is how late the
+ * last run started after the time it was scheduled for, jitter already applied.
+ */
+public class AuditStatusView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	boolean running;
+	String mode;
+	long period_ms;
+	long jitter_ms;
+	long runs;
+	long failures;
+	Date last_started;
+	long last_duration_ms;
+	int last_rows;
+	long last_lag_ms;
+	long max_lag_ms;
+	Date next_run;
+
+	public AuditStatusView(boolean running, String mode, long period_ms, long jitter_ms, long runs, long failures,
+			long last_started, long last_duration_ms, int last_rows, long last_lag_ms, long max_lag_ms, long next_run)
+	{
+		this.running = running;
+		this.mode = mode;
+		this.period_ms = period_ms;
+		this.jitter_ms = jitter_ms;
+		this.runs = runs;
+		this.failures = failures;
+		this.last_started = last_started == 0 ? null : new Date(last_started);
+		this.last_duration_ms = last_duration_ms;
+		this.last_rows = last_rows;
+		this.last_lag_ms = last_lag_ms;
+		this.max_lag_ms = max_lag_ms;
+		this.next_run = next_run == 0 || !running ? null : new Date(next_run);
+	}
+
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	public String getMode()
+	{
+		return mode;
+	}
+
+	public long getPeriod_ms()
+	{
+		return period_ms;
+	}
+
+	public long getJitter_ms()
+	{
+		return jitter_ms;
+	}
+
+	public long getRuns()
+	{
+		return runs;
+	}
+
+	public long getFailures()
+	{
+		return failures;
+	}
+
+	public Date getLast_started()
+	{
+		return last_started;
+	}
+
+	public long getLast_duration_ms()
+	{
+		return last_duration_ms;
+	}
+
+	public int getLast_rows()
+	{
+		return last_rows;
+	}
+
+	public long getLast_lag_ms()
+	{
+		return last_lag_ms;
+	}
+
+	public long getMax_lag_ms()
+	{
+		return max_lag_ms;
+	}
+
+	public Date getNext_run()
+	{
+		return next_run;
+	}
+}
@@ -0,0 +1,46 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class BatchRegistrationView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	int received;
+	int registered;
+	int rejected;
+	List<RegistrationResult> results;
+
+	public BatchRegistrationView(List<RegistrationResult> results)
+	{
+		this.results = results;
+		this.received = results.size();
+		for (RegistrationResult result : results)
+		{
+			if (RegistrationResult.REGISTERED.equals(result.getStatus()))
+				registered++;
+		}
+		this.rejected = received - registered;
+	}
+
+	public int getReceived()
+	{
+		return received;
+	}
+
+	public int getRegistered()
+	{
+		return registered;
+	}
+
+	public int getRejected()
+	{
+		return rejected;
+	}
+
+	public List<RegistrationResult> getResults()
+	{
+		return results;
+	}
+}
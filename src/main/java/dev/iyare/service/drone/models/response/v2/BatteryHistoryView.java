@@ -0,0 +1,118 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A drone's battery history in buckets of {@code step_ms}, answered from the
+ * rollups of {@code resolution_ms}. Buckets without samples are left out.
+ */
+public class BatteryHistoryView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String serial_number;
+	Date from;
+	Date to;
+	long step_ms;
+	long resolution_ms;
+	List<Bucket> buckets = new ArrayList<Bucket>();
+
+	public BatteryHistoryView(String serial_number, long from, long to, long step_ms, long resolution_ms)
+	{
+		this.serial_number = serial_number;
+		this.from = new Date(from);
+		this.to = new Date(to);
+		this.step_ms = step_ms;
+		this.resolution_ms = resolution_ms;
+	}
+
+	public void add(long start, int min, int max, double avg, int last, int samples)
+	{
+		buckets.add(new Bucket(start, min, max, avg, last, samples));
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public Date getFrom()
+	{
+		return from;
+	}
+
+	public Date getTo()
+	{
+		return to;
+	}
+
+	public long getStep_ms()
+	{
+		return step_ms;
+	}
+
+	public long getResolution_ms()
+	{
+		return resolution_ms;
+	}
+
+	public List<Bucket> getBuckets()
+	{
+		return buckets;
+	}
+
+	public static class Bucket implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		Date start;
+		int min;
+		int max;
+		double avg;
+		int last;
+		int samples;
+
+		public Bucket(long start, int min, int max, double avg, int last, int samples)
+		{
+			this.start = new Date(start);
+			this.min = min;
+			this.max = max;
+			this.avg = Math.round(avg * 100) / 100.0;
+			this.last = last;
+			this.samples = samples;
+		}
+
+		public Date getStart()
+		{
+			return start;
+		}
+
+		public int getMin()
+		{
+			return min;
+		}
+
+		public int getMax()
+		{
+			return max;
+		}
+
+		public double getAvg()
+		{
+			return avg;
+		}
+
+		public int getLast()
+		{
+			return last;
+		}
+
+		public int getSamples()
+		{
+			return samples;
+		}
+	}
+}
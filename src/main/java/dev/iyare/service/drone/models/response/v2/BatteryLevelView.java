@@ -0,0 +1,36 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+public class BatteryLevelView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String serial_number;
+	String model;
+	Integer batteryLevel;
+
+	public BatteryLevelView(DroneSnapshot drone)
+	{
+		this.serial_number = drone.getSerial_number();
+		this.model = drone.getModel();
+		this.batteryLevel = drone.getBattery_capacity();
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getModel()
+	{
+		return model;
+	}
+
+	public Integer getBatteryLevel()
+	{
+		return batteryLevel;
+	}
+}
@@ -0,0 +1,53 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * The drone a dispatch was assigned to, as it stands after the load.
+ */
+public class DispatchView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String serial_number;
+	String model;
+	String state;
+	int loaded_weight;
+	int remaining_capacity;
+
+	public DispatchView(DroneSnapshot drone)
+	{
+		this.serial_number = drone.getSerial_number();
+		this.model = drone.getModel();
+		this.state = drone.getState().getDescription();
+		this.loaded_weight = drone.getLoaded_weight();
+		this.remaining_capacity = drone.getRemaining_capacity();
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getModel()
+	{
+		return model;
+	}
+
+	public String getState()
+	{
+		return state;
+	}
+
+	public int getLoaded_weight()
+	{
+		return loaded_weight;
+	}
+
+	public int getRemaining_capacity()
+	{
+		return remaining_capacity;
+	}
+}
@@ -0,0 +1,32 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * One keyset page of drones. Pass {@code next_after} back as {@code after} to
+ * fetch the next page; it is null on the last page.
+ */
+public class DronePage implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	List<DroneView> drones;
+	Long next_after;
+
+	public DronePage(List<DroneView> drones, Long next_after)
+	{
+		this.drones = drones;
+		this.next_after = next_after;
+	}
+
+	public List<DroneView> getDrones()
+	{
+		return drones;
+	}
+
+	public Long getNext_after()
+	{
+		return next_after;
+	}
+}
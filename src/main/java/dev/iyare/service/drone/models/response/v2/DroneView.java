@@ -0,0 +1,57 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+public class DroneView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String serial_number;
+	String model;
+	Integer weight_limit;
+	Integer battery_capacity;
+	String state;
+
+	public DroneView(DroneSnapshot drone)
+	{
+		this(drone.getSerial_number(), drone.getModel(), drone.getWeight_limit(), drone.getBattery_capacity(),
+				drone.getState().getDescription());
+	}
+
+	public DroneView(String serial_number, String model, Integer weight_limit, Integer battery_capacity,
+			String state)
+	{
+		this.serial_number = serial_number;
+		this.model = model;
+		this.weight_limit = weight_limit;
+		this.battery_capacity = battery_capacity;
+		this.state = state;
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getModel()
+	{
+		return model;
+	}
+
+	public Integer getWeight_limit()
+	{
+		return weight_limit;
+	}
+
+	public Integer getBattery_capacity()
+	{
+		return battery_capacity;
+	}
+
+	public String getState()
+	{
+		return state;
+	}
+}
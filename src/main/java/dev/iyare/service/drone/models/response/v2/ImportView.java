@@ -0,0 +1,45 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one import: rows written, and rows left out because they were
+ * invalid or already there.
+ */
+public class ImportView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String table;
+	long imported;
+	long rejected;
+	long duration_ms;
+
+	public ImportView(String table, long imported, long rejected, long duration_ms)
+	{
+		this.table = table;
+		this.imported = imported;
+		this.rejected = rejected;
+		this.duration_ms = duration_ms;
+	}
+
+	public String getTable()
+	{
+		return table;
+	}
+
+	public long getImported()
+	{
+		return imported;
+	}
+
+	public long getRejected()
+	{
+		return rejected;
+	}
+
+	public long getDuration_ms()
+	{
+		return duration_ms;
+	}
+}
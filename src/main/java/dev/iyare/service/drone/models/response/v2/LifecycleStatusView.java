@@ -0,0 +1,97 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+/**
+ * Health of the drone lifecycle engine. {@code scheduled} is drones waiting on
+ * their next transition; {@code retries} counts transitions put off to the
+ * next tick because a batch failed; {@code releases} counts LOADING drones
+ * that timed out and were unloaded back to IDLE.
+ */
+public class LifecycleStatusView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	boolean running;
+	long tick_ms;
+	int scheduled;
+	long transitions;
+	long deliveries;
+	long returns;
+	long releases;
+	long retries;
+	long failures;
+	int last_batch_drones;
+	long last_batch_ms;
+
+	public LifecycleStatusView(boolean running, long tick_ms, int scheduled, long transitions, long deliveries,
+			long returns, long releases, long retries, long failures, int last_batch_drones, long last_batch_ms)
+	{
+		this.running = running;
+		this.tick_ms = tick_ms;
+		this.scheduled = scheduled;
+		this.transitions = transitions;
+		this.deliveries = deliveries;
+		this.returns = returns;
+		this.releases = releases;
+		this.retries = retries;
+		this.failures = failures;
+		this.last_batch_drones = last_batch_drones;
+		this.last_batch_ms = last_batch_ms;
+	}
+
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	public long getTick_ms()
+	{
+		return tick_ms;
+	}
+
+	public int getScheduled()
+	{
+		return scheduled;
+	}
+
+	public long getTransitions()
+	{
+		return transitions;
+	}
+
+	public long getDeliveries()
+	{
+		return deliveries;
+	}
+
+	public long getReturns()
+	{
+		return returns;
+	}
+
+	public long getReleases()
+	{
+		return releases;
+	}
+
+	public long getRetries()
+	{
+		return retries;
+	}
+
+	public long getFailures()
+	{
+		return failures;
+	}
+
+	public int getLast_batch_drones()
+	{
+		return last_batch_drones;
+	}
+
+	public long getLast_batch_ms()
+	{
+		return last_batch_ms;
+	}
+}
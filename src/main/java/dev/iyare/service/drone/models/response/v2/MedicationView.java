@@ -0,0 +1,50 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+
+public class MedicationView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	String name;
+	String code;
+	Integer weight;
+	String image;
+	String drone_serial_number;
+
+	public MedicationView(EntityMedication entityMedication)
+	{
+		this.name = entityMedication.getName();
+		this.code = entityMedication.getCode();
+		this.weight = entityMedication.getWeight();
+		this.image = entityMedication.getImage();
+		this.drone_serial_number = entityMedication.getDrone_serial_number();
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public String getCode()
+	{
+		return code;
+	}
+
+	public Integer getWeight()
+	{
+		return weight;
+	}
+
+	public String getImage()
+	{
+		return image;
+	}
+
+	public String getDrone_serial_number()
+	{
+		return drone_serial_number;
+	}
+}
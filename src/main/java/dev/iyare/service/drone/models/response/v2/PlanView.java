@@ -0,0 +1,53 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A committed dispatch plan: the drone each order was loaded onto, by order
+ * position, or null where no drone had room.
+ */
+public class PlanView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	int orders;
+	int assigned;
+	long plan_ms;
+	long commit_ms;
+	List<String> assignments;
+
+	public PlanView(List<String> assignments, int assigned, long plan_ms, long commit_ms)
+	{
+		this.orders = assignments.size();
+		this.assigned = assigned;
+		this.plan_ms = plan_ms;
+		this.commit_ms = commit_ms;
+		this.assignments = assignments;
+	}
+
+	public int getOrders()
+	{
+		return orders;
+	}
+
+	public int getAssigned()
+	{
+		return assigned;
+	}
+
+	public long getPlan_ms()
+	{
+		return plan_ms;
+	}
+
+	public long getCommit_ms()
+	{
+		return commit_ms;
+	}
+
+	public List<String> getAssignments()
+	{
+		return assignments;
+	}
+}
@@ -0,0 +1,37 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one loaded_weight reconciliation run.
+ */
+public class ReconciliationView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	int partitions;
+	int corrected;
+	long duration_ms;
+
+	public ReconciliationView(int partitions, int corrected, long duration_ms)
+	{
+		this.partitions = partitions;
+		this.corrected = corrected;
+		this.duration_ms = duration_ms;
+	}
+
+	public int getPartitions()
+	{
+		return partitions;
+	}
+
+	public int getCorrected()
+	{
+		return corrected;
+	}
+
+	public long getDuration_ms()
+	{
+		return duration_ms;
+	}
+}
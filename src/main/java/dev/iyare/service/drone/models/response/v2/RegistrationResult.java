@@ -0,0 +1,45 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of registering one drone from a batch.
+ */
+public class RegistrationResult implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	public static final String REGISTERED = "REGISTERED";
+	public static final String DUPLICATE_SERIAL = "DUPLICATE_SERIAL";
+	public static final String INVALID_SERIAL = "INVALID_SERIAL";
+	public static final String INVALID_MODEL = "INVALID_MODEL";
+	public static final String INVALID_WEIGHT_LIMIT = "INVALID_WEIGHT_LIMIT";
+	public static final String INVALID_BATTERY_CAPACITY = "INVALID_BATTERY_CAPACITY";
+	public static final String INVALID_STATE = "INVALID_STATE";
+
+	String serial_number;
+	String status;
+	String message;
+
+	public RegistrationResult(String serial_number, String status, String message)
+	{
+		this.serial_number = serial_number;
+		this.status = status;
+		this.message = message;
+	}
+
+	public String getSerial_number()
+	{
+		return serial_number;
+	}
+
+	public String getStatus()
+	{
+		return status;
+	}
+
+	public String getMessage()
+	{
+		return message;
+	}
+}
@@ -0,0 +1,104 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+/**
+ * Health of telemetry ingestion. {@code backlog} is readings queued and not
+ * yet applied; {@code unknown} counts batched readings for drones that are not
+ * registered.
+ */
+public class TelemetryStatusView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	boolean running;
+	int capacity;
+	long backlog;
+	long accepted;
+	long dropped;
+	long applied;
+	long batches;
+	long unknown;
+	long failures;
+	int last_batch_readings;
+	int last_batch_drones;
+	long last_batch_ms;
+
+	public TelemetryStatusView(boolean running, int capacity, long backlog, long accepted, long dropped, long applied,
+			long batches, long unknown, long failures, int last_batch_readings, int last_batch_drones,
+			long last_batch_ms)
+	{
+		this.running = running;
+		this.capacity = capacity;
+		this.backlog = backlog;
+		this.accepted = accepted;
+		this.dropped = dropped;
+		this.applied = applied;
+		this.batches = batches;
+		this.unknown = unknown;
+		this.failures = failures;
+		this.last_batch_readings = last_batch_readings;
+		this.last_batch_drones = last_batch_drones;
+		this.last_batch_ms = last_batch_ms;
+	}
+
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	public int getCapacity()
+	{
+		return capacity;
+	}
+
+	public long getBacklog()
+	{
+		return backlog;
+	}
+
+	public long getAccepted()
+	{
+		return accepted;
+	}
+
+	public long getDropped()
+	{
+		return dropped;
+	}
+
+	public long getApplied()
+	{
+		return applied;
+	}
+
+	public long getBatches()
+	{
+		return batches;
+	}
+
+	public long getUnknown()
+	{
+		return unknown;
+	}
+
+	public long getFailures()
+	{
+		return failures;
+	}
+
+	public int getLast_batch_readings()
+	{
+		return last_batch_readings;
+	}
+
+	public int getLast_batch_drones()
+	{
+		return last_batch_drones;
+	}
+
+	public long getLast_batch_ms()
+	{
+		return last_batch_ms;
+	}
+}
@@ -0,0 +1,38 @@
+package dev.iyare.service.drone.models.response.v2;
+
+import java.io.Serializable;
+
+/**
+ * What became of the readings of one telemetry request. Accepted readings are
+ * queued, not yet applied; dropped ones found the queue full.
+ */
+public class TelemetryView implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	int accepted;
+	int invalid;
+	int dropped;
+
+	public void add(int accepted, int invalid, int dropped)
+	{
+		this.accepted += accepted;
+		this.invalid += invalid;
+		this.dropped += dropped;
+	}
+
+	public int getAccepted()
+	{
+		return accepted;
+	}
+
+	public int getInvalid()
+	{
+		return invalid;
+	}
+
+	public int getDropped()
+	{
+		return dropped;
+	}
+}
@@ -0,0 +1,114 @@
+package dev.iyare.service.drone.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * Bulk writes to, and cursor reads of, the {@code battery_history} table over
+ * plain JDBC.
+ */
+@Repository
+public class BatteryHistoryJdbcRepository
+{
+	private static final String INSERT_HISTORY = "INSERT INTO \"battery_history\" (\"id\", \"version\", \"serial_number\", \"battery_capacity\", \"date_audited\") VALUES (?, 0, ?, ?, ?)";
+
+	private static final String ALL_SAMPLES = "SELECT \"serial_number\", \"date_audited\", \"battery_capacity\" FROM \"battery_history\" ORDER BY \"serial_number\", \"date_audited\"";
+
+	JdbcTemplate jdbcTemplate;
+	SequenceIdAllocator sequenceIdAllocator;
+
+	public BatteryHistoryJdbcRepository(JdbcTemplate jdbcTemplate, SequenceIdAllocator sequenceIdAllocator)
+	{
+		this.jdbcTemplate = jdbcTemplate;
+		this.sequenceIdAllocator = sequenceIdAllocator;
+	}
+
+	/**
+	 * Records the battery level of each drone as one JDBC batch. An unknown
+	 * level is written as NULL.
+	 */
+	public void insertAll(final List<DroneSnapshot> drones, final Timestamp dateAudited)
+	{
+		if (drones.isEmpty())
+			return;
+
+		final long[] ids = sequenceIdAllocator.allocate(drones.size());
+
+		jdbcTemplate.batchUpdate(INSERT_HISTORY, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				DroneSnapshot drone = drones.get(i);
+				ps.setLong(1, ids[i]);
+				ps.setString(2, drone.getSerial_number());
+				ps.setString(3,
+						drone.getBattery_capacity() == null ? null : drone.getBattery_capacity().toString());
+				ps.setTimestamp(4, dateAudited);
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return drones.size();
+			}
+		});
+	}
+
+	/**
+	 * Records the first {@code count} samples as one JDBC batch, each at its
+	 * own time. A negative level is written as NULL.
+	 */
+	public void insertSamples(final String[] serialNumbers, final long[] timestamps, final int[] levels,
+			final int count)
+	{
+		if (count == 0)
+			return;
+
+		final long[] ids = sequenceIdAllocator.allocate(count);
+
+		jdbcTemplate.batchUpdate(INSERT_HISTORY, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				ps.setLong(1, ids[i]);
+				ps.setString(2, serialNumbers[i]);
+				ps.setString(3, levels[i] < 0 ? null : String.valueOf(levels[i]));
+				ps.setTimestamp(4, new Timestamp(timestamps[i]));
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return count;
+			}
+		});
+	}
+
+	/**
+	 * Walks every row, ordered by drone and time along the
+	 * {@code (serial_number, date_audited)} index, over a forward-only,
+	 * read-only cursor that buffers at most {@code fetchSize} rows.
+	 */
+	public void forEachSample(final int fetchSize, RowCallbackHandler handler)
+	{
+		jdbcTemplate.query(connection ->
+		{
+			PreparedStatement ps = connection.prepareStatement(ALL_SAMPLES, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(fetchSize);
+			return ps;
+		}, handler);
+	}
+}
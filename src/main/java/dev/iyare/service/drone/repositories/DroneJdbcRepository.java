@@ -0,0 +1,400 @@
+package dev.iyare.service.drone.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * Set-based and batched access to the {@code drone} table for the bulk paths
+ * that would otherwise go through JPA one entity at a time.
+ */
+@Repository
+public class DroneJdbcRepository
+{
+	private static final String INSERT_DRONE = "INSERT INTO \"drone\" (\"id\", \"version\", \"serial_number\", \"model\", \"weight_limit\", \"battery_capacity\", \"state\") VALUES (?, 0, ?, ?, ?, ?, ?)";
+
+	private static final String RESTORE_DRONE = "INSERT INTO \"drone\" (\"id\", \"version\", \"serial_number\", \"model\", \"weight_limit\", \"battery_capacity\", \"loaded_weight\", \"state\") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String FIND_SERIALS = "SELECT \"serial_number\" FROM \"drone\" WHERE \"serial_number\" IN (:serial_numbers)";
+
+	private static final String AVAILABLE_DRONES = "SELECT \"serial_number\", \"model\", \"weight_limit\", \"battery_capacity\", \"state\" FROM \"drone\" WHERE \"state\" IN (?, ?) AND \"battery_capacity\" >= ? AND \"weight_limit\" >= ? ORDER BY \"id\"";
+
+	private static final String SNAPSHOT_COLUMNS = "SELECT \"id\", \"version\", \"serial_number\", \"model\", \"weight_limit\", \"battery_capacity\", \"loaded_weight\", \"state\" FROM \"drone\"";
+
+	private static final RowMapper<DroneSnapshot> SNAPSHOT_MAPPER = (rs, rowNum) -> new DroneSnapshot(rs.getLong(1),
+			rs.getInt(2), rs.getString(3), rs.getString(4), (Integer) rs.getObject(5), (Integer) rs.getObject(6),
+			rs.getInt(7), DroneState.fromCode(rs.getInt(8)));
+
+	private static final String ID_RANGE = "SELECT MIN(\"id\"), MAX(\"id\") FROM \"drone\"";
+
+	private static final String LOADED_WEIGHTS = "SELECT d.\"id\", d.\"version\", d.\"loaded_weight\", COALESCE(SUM(m.\"weight\"), 0) FROM \"drone\" d LEFT JOIN \"medication\" m ON m.\"drone_serial_number\" = d.\"serial_number\" WHERE d.\"id\" >= ? AND d.\"id\" < ? GROUP BY d.\"id\", d.\"version\", d.\"loaded_weight\"";
+
+	private static final String LOADED_WEIGHTS_BY_ID = "SELECT d.\"id\", d.\"version\", d.\"loaded_weight\", COALESCE(SUM(m.\"weight\"), 0) FROM \"drone\" d LEFT JOIN \"medication\" m ON m.\"drone_serial_number\" = d.\"serial_number\" WHERE d.\"id\" IN (:ids) GROUP BY d.\"id\", d.\"version\", d.\"loaded_weight\"";
+
+	private static final String ADD_LOAD = "UPDATE \"drone\" SET \"state\" = ?, \"loaded_weight\" = \"loaded_weight\" + ?, \"version\" = \"version\" + 1 WHERE \"id\" = ? AND \"version\" = ? AND \"state\" IN (?, ?) AND \"loaded_weight\" + ? <= \"weight_limit\" AND \"battery_capacity\" >= ?";
+
+	private static final String SET_BATTERY = "UPDATE \"drone\" SET \"battery_capacity\" = ? WHERE \"id\" = ?";
+
+	private static final String ADVANCE_STATE = "UPDATE \"drone\" SET \"state\" = :state, \"version\" = \"version\" + 1 WHERE \"id\" IN (:ids) AND \"state\" IN (:from)";
+
+	private static final String UNLOAD = "UPDATE \"drone\" SET \"state\" = :state, \"loaded_weight\" = 0, \"version\" = \"version\" + 1 WHERE \"id\" IN (:ids) AND \"state\" IN (:from)";
+
+	private static final String SNAPSHOTS_BY_ID = SNAPSHOT_COLUMNS + " WHERE \"id\" IN (:ids)";
+
+	private static final String SET_LOADED_WEIGHT = "UPDATE \"drone\" SET \"loaded_weight\" = ?, \"version\" = \"version\" + 1 WHERE \"id\" = ? AND \"version\" = ?";
+
+	JdbcTemplate jdbcTemplate;
+	NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	SequenceIdAllocator sequenceIdAllocator;
+
+	public DroneJdbcRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+			SequenceIdAllocator sequenceIdAllocator)
+	{
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.sequenceIdAllocator = sequenceIdAllocator;
+	}
+
+	/**
+	 * @return the subset of {@code serialNumbers} that is already registered
+	 */
+	public Set<String> findExistingSerials(Collection<String> serialNumbers)
+	{
+		Set<String> existing = new HashSet<String>();
+		if (serialNumbers.isEmpty())
+			return existing;
+
+		existing.addAll(namedParameterJdbcTemplate.queryForList(FIND_SERIALS,
+				new MapSqlParameterSource("serial_numbers", serialNumbers), String.class));
+		return existing;
+	}
+
+	/**
+	 * Inserts the drones as one JDBC batch, with ids taken from the shared
+	 * sequence in a single round trip.
+	 *
+	 * @return the inserted rows, as they will read once committed
+	 */
+	public List<DroneSnapshot> insertAll(List<EntityDrone> drones)
+	{
+		List<DroneSnapshot> inserted = new ArrayList<DroneSnapshot>(drones.size());
+		if (drones.isEmpty())
+			return inserted;
+
+		final List<EntityDrone> rows = new ArrayList<EntityDrone>(drones);
+		final long[] ids = sequenceIdAllocator.allocate(rows.size());
+
+		jdbcTemplate.batchUpdate(INSERT_DRONE, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				EntityDrone drone = rows.get(i);
+				ps.setLong(1, ids[i]);
+				ps.setString(2, drone.getSerial_number());
+				ps.setString(3, drone.getModel());
+				ps.setInt(4, drone.getWeight_limit());
+				ps.setInt(5, drone.getBattery_capacity());
+				ps.setShort(6, (short) drone.getState().getCode());
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return rows.size();
+			}
+		});
+
+		for (int i = 0; i < rows.size(); i++)
+		{
+			EntityDrone drone = rows.get(i);
+			inserted.add(new DroneSnapshot(ids[i], 0, drone.getSerial_number(), drone.getModel(),
+					drone.getWeight_limit(), drone.getBattery_capacity(), 0, drone.getState()));
+		}
+		return inserted;
+	}
+
+	/**
+	 * Inserts the drones exactly as given, ids and versions included, as one
+	 * JDBC batch. Used to rebuild the table from the fleet journal; the caller
+	 * moves the shared sequence past the highest id.
+	 */
+	public void restoreAll(final List<DroneSnapshot> drones)
+	{
+		if (drones.isEmpty())
+			return;
+
+		jdbcTemplate.batchUpdate(RESTORE_DRONE, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				DroneSnapshot drone = drones.get(i);
+				ps.setLong(1, drone.getId());
+				ps.setInt(2, drone.getVersion());
+				ps.setString(3, drone.getSerial_number());
+				ps.setString(4, drone.getModel());
+				ps.setObject(5, drone.getWeight_limit());
+				ps.setObject(6, drone.getBattery_capacity());
+				ps.setInt(7, drone.getLoaded_weight());
+				ps.setObject(8, drone.getState() == null ? null : (short) drone.getState().getCode());
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return drones.size();
+			}
+		});
+	}
+
+	/**
+	 * Batch form of {@link EntityDroneRepository#compareAndAddLoad}: moves every
+	 * drone from its snapshot to the matching entry of {@code loaded}, each
+	 * guarded by the snapshot's version, an available state, the weight limit
+	 * and the minimum battery level. Must run in the caller's transaction, which is expected to roll
+	 * back unless every drone was updated.
+	 *
+	 * @return whether every drone was updated
+	 */
+	public boolean addLoads(final List<DroneSnapshot> drones, final List<DroneSnapshot> loaded)
+	{
+		if (drones.isEmpty())
+			return true;
+
+		for (int count : jdbcTemplate.batchUpdate(ADD_LOAD, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				DroneSnapshot drone = drones.get(i);
+				DroneSnapshot after = loaded.get(i);
+				int weight = after.getLoaded_weight() - drone.getLoaded_weight();
+				ps.setShort(1, (short) after.getState().getCode());
+				ps.setInt(2, weight);
+				ps.setLong(3, drone.getId());
+				ps.setInt(4, drone.getVersion());
+				ps.setShort(5, (short) DroneState.IDLE.getCode());
+				ps.setShort(6, (short) DroneState.LOADING.getCode());
+				ps.setInt(7, weight);
+				ps.setInt(8, EntityDrone.MIN_LOADING_BATTERY);
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return drones.size();
+			}
+		}))
+		{
+			if (count == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Sets the battery level of each drone, by id. The version is left alone,
+	 * so a battery update never fails a concurrent load; loads check the
+	 * battery in their own compare-and-set instead.
+	 */
+	public void setBatteries(final List<DroneSnapshot> drones)
+	{
+		if (drones.isEmpty())
+			return;
+
+		jdbcTemplate.batchUpdate(SET_BATTERY, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				DroneSnapshot drone = drones.get(i);
+				ps.setInt(1, drone.getBattery_capacity());
+				ps.setLong(2, drone.getId());
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return drones.size();
+			}
+		});
+	}
+
+	/**
+	 * Moves every drone of {@code ids} that is still in one of {@code from} to
+	 * {@code to}, one version on, in a single statement. With {@code unload}
+	 * the drones also drop their load.
+	 *
+	 * @return the number of drones moved
+	 */
+	public int advanceState(Collection<Long> ids, Collection<DroneState> from, DroneState to, boolean unload)
+	{
+		if (ids.isEmpty())
+			return 0;
+
+		List<Short> fromCodes = new ArrayList<Short>(from.size());
+		for (DroneState state : from)
+		{
+			fromCodes.add((short) state.getCode());
+		}
+
+		return namedParameterJdbcTemplate.update(unload ? UNLOAD : ADVANCE_STATE,
+				new MapSqlParameterSource("state", (short) to.getCode()).addValue("ids", ids).addValue("from",
+						fromCodes));
+	}
+
+	/**
+	 * @return the drones of {@code ids} as they read in the current
+	 *         transaction
+	 */
+	public List<DroneSnapshot> findSnapshots(Collection<Long> ids)
+	{
+		if (ids.isEmpty())
+			return new ArrayList<DroneSnapshot>();
+
+		return namedParameterJdbcTemplate.query(SNAPSHOTS_BY_ID, new MapSqlParameterSource("ids", ids),
+				SNAPSHOT_MAPPER);
+	}
+
+	/**
+	 * Walks the available drones over a forward-only, read-only cursor, handing
+	 * each row to {@code handler} as it is fetched. At most {@code fetchSize}
+	 * rows are buffered by the driver at a time, so nothing here grows with the
+	 * size of the fleet. Only drones with at least {@code minBattery} percent
+	 * charge and a weight limit of at least {@code minWeightLimit} are returned.
+	 */
+	public void forEachAvailableDrone(final int minBattery, final int minWeightLimit, final int fetchSize,
+			RowCallbackHandler handler)
+	{
+		jdbcTemplate.query(connection ->
+		{
+			PreparedStatement ps = connection.prepareStatement(AVAILABLE_DRONES, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setShort(1, (short) DroneState.IDLE.getCode());
+			ps.setShort(2, (short) DroneState.LOADING.getCode());
+			ps.setInt(3, minBattery);
+			ps.setInt(4, minWeightLimit);
+			ps.setFetchSize(fetchSize);
+			return ps;
+		}, handler);
+	}
+
+	/**
+	 * Streams every drone to {@code consumer} over a forward-only cursor.
+	 */
+	public void forEachSnapshot(final int fetchSize, final Consumer<DroneSnapshot> consumer)
+	{
+		jdbcTemplate.query(connection ->
+		{
+			PreparedStatement ps = connection.prepareStatement(SNAPSHOT_COLUMNS, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(fetchSize);
+			return ps;
+		}, (RowCallbackHandler) rs -> consumer.accept(SNAPSHOT_MAPPER.mapRow(rs, 0)));
+	}
+
+	/**
+	 * @return the lowest and highest drone id, or null when there are no drones
+	 */
+	public long[] findIdRange()
+	{
+		return jdbcTemplate.queryForObject(ID_RANGE, (rs, rowNum) ->
+		{
+			long min = rs.getLong(1);
+			return rs.wasNull() ? null : new long[] { min, rs.getLong(2) };
+		});
+	}
+
+	/**
+	 * Recomputes {@code loaded_weight} from the medication table for drones with
+	 * {@code fromId <= id < toId} and writes back the ones that drifted. Each
+	 * write is guarded by the version read alongside the sum, so a drone loaded
+	 * in the meantime is left alone rather than overwritten with a stale total.
+	 *
+	 * @return the number of drones corrected
+	 */
+	public int reconcileLoadedWeight(long fromId, long toId)
+	{
+		final List<long[]> drifted = new ArrayList<long[]>();
+		jdbcTemplate.query(LOADED_WEIGHTS, rs ->
+		{
+			addIfDrifted(rs, drifted);
+		}, fromId, toId);
+		return setLoadedWeights(drifted);
+	}
+
+	/**
+	 * Like {@link #reconcileLoadedWeight(long, long)} for the drones of
+	 * {@code ids}.
+	 *
+	 * @return the number of drones corrected
+	 */
+	public int reconcileLoadedWeight(Collection<Long> ids)
+	{
+		if (ids.isEmpty())
+			return 0;
+
+		final List<long[]> drifted = new ArrayList<long[]>();
+		namedParameterJdbcTemplate.query(LOADED_WEIGHTS_BY_ID, new MapSqlParameterSource("ids", ids), rs ->
+		{
+			addIfDrifted(rs, drifted);
+		});
+		return setLoadedWeights(drifted);
+	}
+
+	private static void addIfDrifted(ResultSet rs, List<long[]> drifted) throws SQLException
+	{
+		int actual = rs.getInt(4);
+		if (rs.getInt(3) != actual)
+			drifted.add(new long[] { actual, rs.getLong(1), rs.getInt(2) });
+	}
+
+	private int setLoadedWeights(final List<long[]> drifted)
+	{
+		if (drifted.isEmpty())
+			return 0;
+
+		int corrected = 0;
+		for (int count : jdbcTemplate.batchUpdate(SET_LOADED_WEIGHT, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				long[] row = drifted.get(i);
+				ps.setInt(1, (int) row[0]);
+				ps.setLong(2, row[1]);
+				ps.setInt(3, (int) row[2]);
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return drifted.size();
+			}
+		}))
+		{
+			if (count > 0)
+				corrected += count;
+		}
+		return corrected;
+	}
+}
@@ -1,10 +1,30 @@
 package dev.iyare.service.drone.repositories;
 
+import java.sql.Timestamp;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.iyare.service.drone.entities.EntityBatteryHistory;
 
 public interface EntityBatteryHistoryRepository extends JpaRepository<EntityBatteryHistory, Long>
 {
+	@Query(value = "SELECT * FROM \"battery_history\" WHERE \"serial_number\" = :serial_number AND \"date_audited\" >= :from AND \"date_audited\" < :to ORDER BY \"date_audited\"", nativeQuery = true)
+	List<EntityBatteryHistory> findBySerialNoBetween(@Param("serial_number") String serial_number,
+			@Param("from") Timestamp from, @Param("to") Timestamp to);
 
+	/**
+	 * Records every drone's current battery level in one statement, ids drawn
+	 * from the shared sequence inside the database.
+	 *
+	 * @return the number of rows written
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO \"battery_history\" (\"id\", \"version\", \"serial_number\", \"battery_capacity\", \"date_audited\") SELECT NEXT VALUE FOR \"hibernate_sequence\", 0, \"serial_number\", CAST(\"battery_capacity\" AS VARCHAR), :date_audited FROM \"drone\"", nativeQuery = true)
+	int auditAll(@Param("date_audited") Timestamp date_audited);
 }
@@ -1,5 +1,6 @@
 package dev.iyare.service.drone.repositories;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,20 +10,55 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.DroneState;
 
+/**
+ * Queries that filter on {@code state} are JPQL so the {@link DroneState}
+ * parameters go through the entity's converter rather than hard-coded codes.
+ */
 public interface EntityDroneRepository extends JpaRepository<EntityDrone, Long>
 {
-	@Query(value = "SELECT * FROM \"drone\" WHERE \"serial_number\" = :serial_number AND (\"state\" ='IDLE' OR \"state\" ='LOADING')", nativeQuery = true)
-	EntityDrone verifyDroneAvailable(@Param("serial_number") String serial_number);
+	@Query(value = "SELECT d FROM drone d WHERE d.serial_number = :serial_number AND d.state IN :states")
+	EntityDrone verifyDroneAvailable(@Param("serial_number") String serial_number,
+			@Param("states") Collection<DroneState> states);
 
-	@Query(value = "SELECT * FROM \"drone\" WHERE \"state\" ='IDLE' OR \"state\" ='LOADING'", nativeQuery = true)
-	List<EntityDrone> findAvailableDrones();
+	@Query(value = "SELECT d FROM drone d WHERE d.state IN :states")
+	List<EntityDrone> findAvailableDrones(@Param("states") Collection<DroneState> states);
 
 	@Query(value = "SELECT * FROM \"drone\" WHERE \"serial_number\" = :serial_number", nativeQuery = true)
 	EntityDrone findBySerialNo(@Param("serial_number") String serial_number);
 
 	@Transactional
 	@Modifying
-	@Query(value = "UPDATE \"drone\" SET \"state\" = :state WHERE \"serial_number\" = :serial_number", nativeQuery = true)
-	void updateState(@Param("state") String state, @Param("serial_number") String serial_number);
+	@Query(value = "UPDATE drone d SET d.state = :state, d.version = d.version + 1 WHERE d.serial_number = :serial_number")
+	void updateState(@Param("state") DroneState state, @Param("serial_number") String serial_number);
+
+	/**
+	 * Moves the drone to {@code to_state} only if it is still in one of
+	 * {@code from_states} and nobody has changed it since {@code version} was
+	 * read.
+	 *
+	 * @return 1 if this call won the transition, 0 if the row had moved on
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "UPDATE drone d SET d.state = :to_state, d.version = d.version + 1 WHERE d.serial_number = :serial_number AND d.state IN :from_states AND d.version = :version")
+	int compareAndSetState(@Param("serial_number") String serial_number,
+			@Param("from_states") Collection<DroneState> from_states, @Param("to_state") DroneState to_state,
+			@Param("version") int version);
+
+	/**
+	 * Like {@link #compareAndSetState}, and also adds {@code weight} to
+	 * {@code loaded_weight}, refusing if that would exceed the drone's weight
+	 * limit or the battery is below {@code min_battery}. Battery updates leave
+	 * the version alone, so the battery is checked here rather than through it.
+	 *
+	 * @return 1 if this call won the transition, 0 otherwise
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "UPDATE drone d SET d.state = :to_state, d.loaded_weight = d.loaded_weight + :weight, d.version = d.version + 1 WHERE d.serial_number = :serial_number AND d.state IN :from_states AND d.version = :version AND d.loaded_weight + :weight <= d.weight_limit AND d.battery_capacity >= :min_battery")
+	int compareAndAddLoad(@Param("serial_number") String serial_number,
+			@Param("from_states") Collection<DroneState> from_states, @Param("to_state") DroneState to_state,
+			@Param("weight") int weight, @Param("version") int version, @Param("min_battery") int min_battery);
 }
@@ -0,0 +1,105 @@
+package dev.iyare.service.drone.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+
+/**
+ * Bulk writes to, and cursor reads of, the {@code medication} table over plain
+ * JDBC, for the paths that insert or read far more rows than the JPA
+ * repository handles well.
+ */
+@Repository
+public class MedicationJdbcRepository
+{
+	private static final String INSERT_MEDICATION = "INSERT INTO \"medication\" (\"id\", \"version\", \"code\", \"drone_serial_number\", \"image\", \"name\", \"weight\") VALUES (?, 0, ?, ?, ?, ?, ?)";
+
+	private static final String DETACH = "UPDATE \"medication\" SET \"drone_serial_number\" = NULL WHERE \"drone_serial_number\" IN (:serial_numbers)";
+
+	private static final String ALL_MEDICATIONS = "SELECT \"drone_serial_number\", \"name\", \"code\", \"weight\", \"image\" FROM \"medication\" ORDER BY \"id\"";
+
+	JdbcTemplate jdbcTemplate;
+	NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	SequenceIdAllocator sequenceIdAllocator;
+
+	public MedicationJdbcRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+			SequenceIdAllocator sequenceIdAllocator)
+	{
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.sequenceIdAllocator = sequenceIdAllocator;
+	}
+
+	/**
+	 * Inserts the medications as one JDBC batch, with ids taken from the shared
+	 * sequence in a single round trip.
+	 */
+	public void insertAll(final List<EntityMedication> medications)
+	{
+		if (medications.isEmpty())
+			return;
+
+		final long[] ids = sequenceIdAllocator.allocate(medications.size());
+
+		jdbcTemplate.batchUpdate(INSERT_MEDICATION, new BatchPreparedStatementSetter()
+		{
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException
+			{
+				EntityMedication medication = medications.get(i);
+				ps.setLong(1, ids[i]);
+				ps.setString(2, medication.getCode());
+				ps.setString(3, medication.getDrone_serial_number());
+				ps.setString(4, medication.getImage());
+				ps.setString(5, medication.getName());
+				ps.setInt(6, medication.getWeight());
+			}
+
+			@Override
+			public int getBatchSize()
+			{
+				return medications.size();
+			}
+		});
+	}
+
+	/**
+	 * Takes every medication off the drones of {@code serialNumbers} in a
+	 * single statement.
+	 *
+	 * @return the number of medications detached
+	 */
+	public int detachAll(Collection<String> serialNumbers)
+	{
+		if (serialNumbers.isEmpty())
+			return 0;
+
+		return namedParameterJdbcTemplate.update(DETACH, new MapSqlParameterSource("serial_numbers", serialNumbers));
+	}
+
+	/**
+	 * Walks every medication in id order over a forward-only, read-only cursor
+	 * that buffers at most {@code fetchSize} rows.
+	 */
+	public void forEachMedication(final int fetchSize, RowCallbackHandler handler)
+	{
+		jdbcTemplate.query(connection ->
+		{
+			PreparedStatement ps = connection.prepareStatement(ALL_MEDICATIONS, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(fetchSize);
+			return ps;
+		}, handler);
+	}
+}
@@ -0,0 +1,52 @@
+package dev.iyare.service.drone.repositories;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Hands out primary keys from the {@code hibernate_sequence} that JPA uses for
+ * every {@code GenerationType.AUTO} id, so rows inserted over plain JDBC never
+ * collide with rows saved through the JPA repositories.
+ *
+ * A whole block of ids is fetched in one round trip instead of one
+ * {@code NEXT VALUE} call per row.
+ */
+@Repository
+public class SequenceIdAllocator
+{
+	private static final String NEXT_VALUES = "SELECT NEXT VALUE FOR \"hibernate_sequence\" FROM SYSTEM_RANGE(1, ?)";
+
+	private static final String RESTART = "ALTER SEQUENCE \"hibernate_sequence\" RESTART WITH ";
+
+	JdbcTemplate jdbcTemplate;
+
+	public SequenceIdAllocator(JdbcTemplate jdbcTemplate)
+	{
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public long[] allocate(int count)
+	{
+		long[] ids = new long[count];
+		if (count == 0)
+			return ids;
+
+		List<Long> values = jdbcTemplate.queryForList(NEXT_VALUES, Long.class, count);
+		for (int i = 0; i < count; i++)
+		{
+			ids[i] = values.get(i);
+		}
+		return ids;
+	}
+
+	/**
+	 * Moves the sequence so that the next id handed out is {@code id + 1}, after
+	 * rows were inserted with ids of their own.
+	 */
+	public void restartAfter(long id)
+	{
+		jdbcTemplate.execute(RESTART + (id + 1));
+	}
+}
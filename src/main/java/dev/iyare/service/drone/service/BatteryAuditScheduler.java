@@ -0,0 +1,183 @@
+package dev.iyare.service.drone.service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import dev.iyare.service.drone.models.response.v2.AuditStatusView;
+
+/**
+ * Runs {@link BatteryAuditService#auditBatteries()} on a single scheduler
+ * thread. Each run schedules the next one when it finishes, so runs never
+ * overlap and an idle scheduler is parked, not spinning.
+ *
+ * <ul>
+ * <li>{@code fixed-delay}: the next run starts {@code period} after the
+ * previous one finished.</li>
+ * <li>{@code fixed-rate}: runs start on a grid of {@code period} from the
+ * first one. A run that overruns its slot is followed straight away by the
+ * next one; missed slots are skipped, not queued.</li>
+ * </ul>
+ * Every start is pushed back by a random {@code 0..jitter} so that several
+ * instances do not audit in lockstep; on fixed-rate the jitter does not
+ * accumulate.
+ */
+@Component
+public class BatteryAuditScheduler implements SmartLifecycle
+{
+	private static final Log logger = LogFactory.getLog(BatteryAuditScheduler.class);
+
+	static final String FIXED_RATE = "fixed-rate";
+	static final String FIXED_DELAY = "fixed-delay";
+
+	BatteryAuditService batteryAuditService;
+
+	@Value("${drone.audit.enabled:true}")
+	boolean enabled;
+
+	@Value("${drone.audit.mode:fixed-delay}")
+	String mode;
+
+	@Value("${drone.audit.period-ms:30000}")
+	long periodMillis;
+
+	@Value("${drone.audit.jitter-ms:0}")
+	long jitterMillis;
+
+	ScheduledExecutorService executor;
+
+	/** start of the current fixed-rate slot, before jitter */
+	long slot;
+
+	volatile boolean running;
+	volatile long runs;
+	volatile long failures;
+	volatile long lastStarted;
+	volatile long lastDurationMillis;
+	volatile int lastRows;
+	volatile long lastLagMillis;
+	volatile long maxLagMillis;
+	volatile long nextRun;
+
+	public BatteryAuditScheduler(BatteryAuditService batteryAuditService)
+	{
+		this.batteryAuditService = batteryAuditService;
+	}
+
+	@Override
+	public void start()
+	{
+		if (!FIXED_RATE.equals(mode) && !FIXED_DELAY.equals(mode))
+			throw new IllegalStateException(
+					"drone.audit.mode must be " + FIXED_RATE + " or " + FIXED_DELAY + ": " + mode);
+		if (periodMillis <= 0)
+			throw new IllegalStateException("drone.audit.period-ms must be positive: " + periodMillis);
+
+		running = true;
+		if (!enabled)
+			return;
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "battery-audit");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		slot = System.currentTimeMillis();
+		scheduleAt(slot);
+	}
+
+	private void scheduleAt(long due)
+	{
+		long at = due + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+		nextRun = at;
+		executor.schedule(() -> run(at), Math.max(0, at - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+	}
+
+	private void run(long due)
+	{
+		long start = System.currentTimeMillis();
+		try
+		{
+			lastRows = batteryAuditService.auditBatteries();
+		} catch (Exception e)
+		{
+			failures++;
+			logger.error("Battery audit failed", e);
+		}
+		long end = System.currentTimeMillis();
+
+		lastLagMillis = Math.max(0, start - due);
+		maxLagMillis = Math.max(maxLagMillis, lastLagMillis);
+		lastStarted = start;
+		lastDurationMillis = end - start;
+		runs++;
+
+		if (!running)
+			return;
+
+		if (FIXED_RATE.equals(mode))
+		{
+			slot += periodMillis;
+			if (slot < end)
+			{
+				// overran: skip the slots already missed and start now
+				slot += ((end - slot) / periodMillis) * periodMillis;
+				scheduleAt(end);
+			} else
+				scheduleAt(slot);
+		} else
+			scheduleAt(end + periodMillis);
+	}
+
+	public AuditStatusView status()
+	{
+		return new AuditStatusView(enabled && running, mode, periodMillis, jitterMillis, runs, failures,
+				lastStarted, lastDurationMillis, lastRows, lastLagMillis, maxLagMillis, nextRun);
+	}
+
+	/**
+	 * Stops scheduling and interrupts a run in progress, so the context can
+	 * close without waiting out the period.
+	 */
+	@Override
+	public void stop()
+	{
+		running = false;
+		if (executor == null)
+			return;
+
+		executor.shutdownNow();
+		try
+		{
+			if (!executor.awaitTermination(5, TimeUnit.SECONDS))
+				logger.warn("Battery audit did not stop within 5s");
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	/**
+	 * After the fleet registry and the battery rollups are filled.
+	 */
+	@Override
+	public int getPhase()
+	{
+		return 2;
+	}
+}
@@ -1,108 +1,123 @@
 package dev.iyare.service.drone.service;
 
-import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import dev.iyare.service.drone.entities.EntityBatteryHistory;
-import dev.iyare.service.drone.entities.EntityDrone;
-import dev.iyare.service.drone.repositories.EntityBatteryHistoryRepository;
-import dev.iyare.service.drone.repositories.EntityDroneRepository;
-import dev.iyare.service.drone.utils.SessionUtil;
-
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.history.BatteryHistoryStore;
+import dev.iyare.service.drone.history.BatteryRollups;
+import dev.iyare.service.drone.utils.StringLongMap;
+
+/**
+ * Records drone battery levels in the {@link BatteryHistoryStore}. Runs are
+ * triggered by {@link BatteryAuditScheduler}.
+ *
+ * With {@code drone.audit.record=all} every drone gets a row on every run.
+ * With {@code changes} a drone gets a row only when its level differs from
+ * the last one recorded for it, or when {@code drone.audit.heartbeat-ms} has
+ * passed since that row, so an idle drone still shows up at least once per
+ * heartbeat. Levels are read from the {@link FleetRegistry} and the last
+ * recorded level and time are kept in memory, so skipping a drone costs no
+ * database read. After a restart the first run records every drone.
+ *
+ * Every sample written is also added to the {@link BatteryRollups} that
+ * history queries are answered from.
+ */
 @Service
 public class BatteryAuditService
 {
-	private final static long sleepTime = 30000 * 1L; // Every 30seconds
 	private static final Log logger = LogFactory.getLog(BatteryAuditService.class);
 
-	EntityDroneRepository entityDroneRepository;
+	static final String RECORD_CHANGES = "changes";
+
+	/** level bits of a packed record; 0xFF stands for an unknown level */
+	private static final int LEVEL_BITS = 8;
+	private static final long LEVEL_MASK = (1L << LEVEL_BITS) - 1;
+	private static final long UNKNOWN_LEVEL = LEVEL_MASK;
+
+	BatteryHistoryStore batteryHistoryStore;
+	FleetRegistry fleetRegistry;
+	BatteryRollups batteryRollups;
+
+	@Value("${drone.audit.record:all}")
+	String record;
 
-	EntityBatteryHistoryRepository entityBatteryHistoryRepository;
+	@Value("${drone.audit.heartbeat-ms:3600000}")
+	long heartbeatMillis;
 
-	Thread auditThread;
+	/** serial number to (time recorded << LEVEL_BITS | level) */
+	final StringLongMap lastRecorded = new StringLongMap(1024, -1);
 
-	public BatteryAuditService(EntityDroneRepository entityDroneRepository,
-			EntityBatteryHistoryRepository entityBatteryHistoryRepository)
+	public BatteryAuditService(BatteryHistoryStore batteryHistoryStore, FleetRegistry fleetRegistry,
+			BatteryRollups batteryRollups)
 	{
-		this.entityDroneRepository = entityDroneRepository;
-		this.entityBatteryHistoryRepository = entityBatteryHistoryRepository;
+		this.batteryHistoryStore = batteryHistoryStore;
+		this.fleetRegistry = fleetRegistry;
+		this.batteryRollups = batteryRollups;
 	}
 
-	public void startService()
+	/**
+	 * @return the number of samples written
+	 */
+	public int auditBatteries()
 	{
-		auditThread = new Thread(() ->
-		{
-			while (true)
-			{
-
-				if (SessionUtil.getInstance().isAuditInProgress() == true)
-				{
-					continue;
-				}
-
-				try
-				{
-					if (SessionUtil.getInstance().isStopAudit() == false)
-					{
-
-						auditBatteries();
-
-					} else
-					{
-						if (auditThread.isAlive())
-							auditThread.interrupt();
-						return;
-					}
-
-				} catch (Exception e)
-				{
-					e.printStackTrace();
-					SessionUtil.getInstance().setAuditInProgress(false);
-				}
-
-				sleepAudit();
-			}
-
-		});
-		auditThread.start();
+		return auditBatteries(System.currentTimeMillis());
 	}
 
-	private synchronized void auditBatteries() throws Exception
+	/**
+	 * Audits as of {@code now}, for callers that run on their own clock.
+	 *
+	 * @return the number of samples written
+	 */
+	public int auditBatteries(long now)
 	{
-		logger.info(":::::::::::::::::::::: Auditing Drone batteries. . . ");
+		logger.debug("Auditing drone batteries");
 
-		SessionUtil.getInstance().setAuditInProgress(true);
+		if (RECORD_CHANGES.equals(record))
+			return auditChanges(now);
 
-		List<EntityDrone> entityDroneList = entityDroneRepository.findAll();
+		int recorded = batteryHistoryStore.recordAll(now);
+		// the store may read levels from the table; the registry mirrors it
+		batteryRollups.add(fleetRegistry.all(), now);
+		return recorded;
+	}
 
-		EntityBatteryHistory entityBatteryHistory;
+	/**
+	 * Records only the drones whose level changed or whose heartbeat is due.
+	 * The in-memory record is updated once the rows are written, so a failed
+	 * insert is simply retried on the next run.
+	 */
+	synchronized int auditChanges(long now)
+	{
+		List<DroneSnapshot> due = new ArrayList<DroneSnapshot>();
 
-		for (EntityDrone entityDrone : entityDroneList)
+		for (DroneSnapshot drone : fleetRegistry.all())
 		{
-			entityBatteryHistory = new EntityBatteryHistory();
-			entityBatteryHistory.setBattery_capacity(entityDrone.getBattery_capacity());
-			entityBatteryHistory.setSerial_number(entityDrone.getSerial_number());
-			entityBatteryHistory.setDate_audited(new Timestamp(System.currentTimeMillis()));
-			entityBatteryHistoryRepository.save(entityBatteryHistory);
+			long last = lastRecorded.get(drone.getSerial_number());
+			if (last < 0 || (last & LEVEL_MASK) != level(drone)
+					|| now - (last >>> LEVEL_BITS) >= heartbeatMillis)
+				due.add(drone);
 		}
 
-		SessionUtil.getInstance().setAuditInProgress(false);
-	}
-
-	private void sleepAudit()
-	{
-		try
-		{
-			logger.info(":::::::::::::::::::::: Sleep Audit. . . ");
-			auditThread.sleep(sleepTime);
+		batteryHistoryStore.record(due, now);
+		batteryRollups.add(due, now);
 
-		} catch (InterruptedException e)
+		for (DroneSnapshot drone : due)
 		{
-			e.printStackTrace();
+			lastRecorded.put(drone.getSerial_number(), now << LEVEL_BITS | level(drone));
 		}
+		return due.size();
+	}
+
+	private static long level(DroneSnapshot drone)
+	{
+		Integer level = drone.getBattery_capacity();
+		return level == null || level < 0 || level >= UNKNOWN_LEVEL ? UNKNOWN_LEVEL : level;
 	}
 }
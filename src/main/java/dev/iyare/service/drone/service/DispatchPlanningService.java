@@ -0,0 +1,174 @@
+package dev.iyare.service.drone.service;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.BatchPlanner;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.response.v2.PlanView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.MedicationJdbcRepository;
+
+/**
+ * Plans a whole wave of orders against the fleet registry with
+ * {@link BatchPlanner} and commits the result in one transaction: one guarded
+ * batch update of every drone used, then one batch insert of every
+ * medication. If any drone changed since the plan was made the transaction
+ * rolls back and the wave is planned again against the fresh registry.
+ */
+@Service
+public class DispatchPlanningService
+{
+	private static final Log logger = LogFactory.getLog(DispatchPlanningService.class);
+
+	private static final long BACKOFF_NANOS = 1000000L;
+
+	DroneJdbcRepository droneJdbcRepository;
+	MedicationJdbcRepository medicationJdbcRepository;
+	FleetRegistry fleetRegistry;
+	DroneLifecycleService droneLifecycleService;
+	FleetJournal fleetJournal;
+	TransactionTemplate transactionTemplate;
+	ForkJoinPool pool;
+	BatchPlanner batchPlanner;
+
+	@Value("${drone.load.max-attempts:10}")
+	int maxAttempts;
+
+	public DispatchPlanningService(DroneJdbcRepository droneJdbcRepository,
+			MedicationJdbcRepository medicationJdbcRepository, FleetRegistry fleetRegistry,
+			DroneLifecycleService droneLifecycleService, FleetJournal fleetJournal,
+			PlatformTransactionManager transactionManager,
+			@Value("${drone.plan.parallelism:4}") int parallelism)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.medicationJdbcRepository = medicationJdbcRepository;
+		this.fleetRegistry = fleetRegistry;
+		this.droneLifecycleService = droneLifecycleService;
+		this.fleetJournal = fleetJournal;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.pool = new ForkJoinPool(parallelism);
+		this.batchPlanner = new BatchPlanner(pool);
+	}
+
+	/**
+	 * Assigns and loads already validated orders, each a list of medications
+	 * that travels on one drone.
+	 *
+	 * @return the plan as committed, or null if every attempt lost to a
+	 *         concurrent update
+	 */
+	public PlanView plan(final List<List<EntityMedication>> orders)
+	{
+		final int[] weights = new int[orders.size()];
+		for (int i = 0; i < weights.length; i++)
+		{
+			for (EntityMedication medication : orders.get(i))
+			{
+				weights[i] += medication.getWeight();
+			}
+		}
+
+		for (int attempt = 1; attempt <= maxAttempts; attempt++)
+		{
+			long start = System.nanoTime();
+			final BatchPlanner.Plan plan = batchPlanner.plan(fleetRegistry.loadable(), weights);
+			long planned = System.nanoTime();
+
+			Boolean committed;
+			try
+			{
+				committed = transactionTemplate.execute(status ->
+				{
+					if (commit(orders, weights, plan))
+						return Boolean.TRUE;
+					status.setRollbackOnly();
+					return Boolean.FALSE;
+				});
+			} catch (ConcurrencyFailureException e)
+			{
+				committed = Boolean.FALSE;
+			}
+
+			if (Boolean.TRUE.equals(committed))
+			{
+				List<String> assignments = new ArrayList<String>(plan.size());
+				for (int i = 0; i < plan.size(); i++)
+				{
+					assignments.add(plan.get(i) == null ? null : plan.get(i).getSerial_number());
+				}
+				return new PlanView(assignments, plan.assigned(), (planned - start) / 1000000L,
+						(System.nanoTime() - planned) / 1000000L);
+			}
+
+			logger.debug("Dispatch plan lost attempt " + attempt + ", replanning");
+			LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(BACKOFF_NANOS * attempt));
+		}
+		return null;
+	}
+
+	private boolean commit(List<List<EntityMedication>> orders, int[] weights, BatchPlanner.Plan plan)
+	{
+		Map<DroneSnapshot, Integer> loads = new IdentityHashMap<DroneSnapshot, Integer>();
+		List<EntityMedication> medications = new ArrayList<EntityMedication>();
+		for (int i = 0; i < plan.size(); i++)
+		{
+			DroneSnapshot drone = plan.get(i);
+			if (drone == null)
+				continue;
+
+			Integer load = loads.get(drone);
+			loads.put(drone, load == null ? weights[i] : load + weights[i]);
+			for (EntityMedication medication : orders.get(i))
+			{
+				medication.setDrone_serial_number(drone.getSerial_number());
+				medications.add(medication);
+			}
+		}
+
+		List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>(loads.size());
+		List<DroneSnapshot> loaded = new ArrayList<DroneSnapshot>(loads.size());
+		for (Map.Entry<DroneSnapshot, Integer> load : loads.entrySet())
+		{
+			DroneSnapshot drone = load.getKey();
+			int weight = load.getValue();
+			DroneState target = weight == drone.getRemaining_capacity() ? DroneState.LOADED : DroneState.LOADING;
+			drones.add(drone);
+			loaded.add(drone.loaded(target, weight));
+		}
+
+		if (!droneJdbcRepository.addLoads(drones, loaded))
+			return false;
+
+		medicationJdbcRepository.insertAll(medications);
+		fleetRegistry.putAllAfterCommit(loaded);
+		droneLifecycleService.scheduleAfterCommit(loaded);
+		fleetJournal.appendLoads(loaded, medications);
+		return true;
+	}
+
+	@PreDestroy
+	public void shutdown()
+	{
+		pool.shutdownNow();
+	}
+}
@@ -0,0 +1,477 @@
+package dev.iyare.service.drone.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.lifecycle.TimingWheel;
+import dev.iyare.service.drone.models.response.v2.LifecycleStatusView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.MedicationJdbcRepository;
+
+/**
+ * Moves loaded drones through the rest of their lifecycle on timers:
+ *
+ * <ul>
+ * <li>LOADING to IDLE {@code loading-timeout} after the first load: a drone
+ * still waiting to fill up by then is released, its medications taken off and
+ * its load cleared, so a half-filled reservation is never held forever. With
+ * {@code loading-timeout-action=take-off} it moves to DELIVERING instead and
+ * flies with what it has;</li>
+ * <li>LOADED to DELIVERING {@code dispatch-delay} after it filled up;</li>
+ * <li>DELIVERING to DELIVERED after {@code delivery}, the flight out. The
+ * medications are taken off the drone and its load cleared;</li>
+ * <li>DELIVERED to RETURNING after {@code drop-off};</li>
+ * <li>RETURNING to IDLE after {@code return}.</li>
+ * </ul>
+ *
+ * Every drone outside IDLE has one timer on a {@link TimingWheel}, set when a
+ * committed change puts it in its current state. Each tick the due drones are
+ * grouped by the state they leave and moved with one set-based update per group of up
+ * to {@code batch-size} drones, guarded by the state they are expected in.
+ * The rows are read back in the same transaction, published to the fleet
+ * registry after the commit and given their next timer. A batch that fails,
+ * for example on a row lock held by a telemetry batch, is retried on the next
+ * tick.
+ *
+ * <p>
+ * Timers are not persisted: on startup every drone outside IDLE gets a full
+ * timer for the state it is in. With {@code drone.lifecycle.enabled=false}
+ * nothing advances the wheel except {@link #advance(long)}, which lets a
+ * caller drive it on its own clock.
+ */
+@Service
+public class DroneLifecycleService implements SmartLifecycle
+{
+	private static final Log logger = LogFactory.getLog(DroneLifecycleService.class);
+
+	static final String RELEASE = "release";
+	static final String TAKE_OFF = "take-off";
+
+	static final List<DroneState> DEPARTING = Collections
+			.unmodifiableList(Arrays.asList(DroneState.LOADING, DroneState.LOADED));
+
+	FleetRegistry fleetRegistry;
+	DroneJdbcRepository droneJdbcRepository;
+	MedicationJdbcRepository medicationJdbcRepository;
+	FleetJournal fleetJournal;
+	TransactionTemplate transactionTemplate;
+
+	@Value("${drone.lifecycle.enabled:true}")
+	boolean enabled;
+
+	@Value("${drone.lifecycle.tick-ms:1000}")
+	long tickMillis;
+
+	@Value("${drone.lifecycle.batch-size:1000}")
+	int batchSize;
+
+	@Value("${drone.lifecycle.loading-timeout-ms:300000}")
+	long loadingTimeoutMillis;
+
+	/** {@code release} or {@code take-off} */
+	@Value("${drone.lifecycle.loading-timeout-action:release}")
+	String loadingTimeoutAction;
+
+	@Value("${drone.lifecycle.dispatch-delay-ms:60000}")
+	long dispatchDelayMillis;
+
+	@Value("${drone.lifecycle.delivery-ms:900000}")
+	long deliveryMillis;
+
+	@Value("${drone.lifecycle.drop-off-ms:120000}")
+	long dropOffMillis;
+
+	@Value("${drone.lifecycle.return-ms:900000}")
+	long returnMillis;
+
+	/** guarded by {@link #timers} */
+	TimingWheel<Pending> wheel;
+	final Map<String, TimingWheel.Timer<Pending>> timers = new HashMap<String, TimingWheel.Timer<Pending>>();
+
+	ScheduledExecutorService executor;
+
+	volatile boolean running;
+	volatile long transitions;
+	volatile long deliveries;
+	volatile long returns;
+	volatile long releases;
+	volatile long retries;
+	volatile long failures;
+	volatile int lastBatchDrones;
+	volatile long lastBatchMillis;
+
+	public DroneLifecycleService(FleetRegistry fleetRegistry, DroneJdbcRepository droneJdbcRepository,
+			MedicationJdbcRepository medicationJdbcRepository, FleetJournal fleetJournal,
+			PlatformTransactionManager transactionManager)
+	{
+		this.fleetRegistry = fleetRegistry;
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.medicationJdbcRepository = medicationJdbcRepository;
+		this.fleetJournal = fleetJournal;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Sets the next timer of each drone once the current transaction commits,
+	 * or now if there is none. Nothing is scheduled on rollback.
+	 */
+	public void scheduleAfterCommit(final Collection<DroneSnapshot> drones)
+	{
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+		{
+			scheduleAll(drones);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+		{
+			@Override
+			public void afterCommit()
+			{
+				scheduleAll(drones);
+			}
+		});
+	}
+
+	private void scheduleAll(Collection<DroneSnapshot> drones)
+	{
+		for (DroneSnapshot drone : drones)
+		{
+			schedule(drone);
+		}
+	}
+
+	/**
+	 * Sets the timer for the state {@code drone} is in, replacing the one set
+	 * for an earlier state. A drone that loads again while LOADING keeps the
+	 * timer of its first load, and a snapshot older than the one the current
+	 * timer was set for is ignored.
+	 */
+	void schedule(DroneSnapshot drone)
+	{
+		synchronized (timers)
+		{
+			if (wheel == null)
+				return;
+
+			TimingWheel.Timer<Pending> current = timers.get(drone.getSerial_number());
+			if (current != null)
+			{
+				Pending pending = current.getItem();
+				if (pending.version > drone.getVersion() || pending.state == drone.getState())
+					return;
+
+				wheel.cancel(current);
+				timers.remove(drone.getSerial_number());
+			}
+
+			long delay = delay(drone.getState());
+			if (delay >= 0)
+				scheduleAt(new Pending(drone.getSerial_number(), drone.getState(), drone.getVersion()),
+						wheel.now() + delay);
+		}
+	}
+
+	private void scheduleAt(Pending pending, long deadline)
+	{
+		timers.put(pending.serialNumber, wheel.schedule(pending, deadline));
+	}
+
+	/**
+	 * @return how long a drone stays in {@code state}, or -1 if it stays until
+	 *         something else moves it
+	 */
+	long delay(DroneState state)
+	{
+		if (state == null)
+			return -1;
+
+		switch (state)
+		{
+		case LOADING:
+			return loadingTimeoutMillis;
+		case LOADED:
+			return dispatchDelayMillis;
+		case DELIVERING:
+			return deliveryMillis;
+		case DELIVERED:
+			return dropOffMillis;
+		case RETURNING:
+			return returnMillis;
+		default:
+			return -1;
+		}
+	}
+
+	/**
+	 * @return the state a drone moves to when its timer in {@code state} expires
+	 */
+	DroneState next(DroneState state)
+	{
+		switch (state)
+		{
+		case LOADING:
+			return RELEASE.equals(loadingTimeoutAction) ? DroneState.IDLE : DroneState.DELIVERING;
+		case LOADED:
+			return DroneState.DELIVERING;
+		case DELIVERING:
+			return DroneState.DELIVERED;
+		case DELIVERED:
+			return DroneState.RETURNING;
+		case RETURNING:
+			return DroneState.IDLE;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Moves the wheel to {@code now} and applies every transition due by then.
+	 *
+	 * @return the number of drones moved
+	 */
+	public int advance(long now)
+	{
+		final List<Pending> due = new ArrayList<Pending>();
+		synchronized (timers)
+		{
+			wheel.advance(now, pending ->
+			{
+				timers.remove(pending.serialNumber);
+				due.add(pending);
+			});
+		}
+		if (due.isEmpty())
+			return 0;
+
+		long start = System.currentTimeMillis();
+		Map<DroneState, List<DroneSnapshot>> byState = new EnumMap<DroneState, List<DroneSnapshot>>(
+				DroneState.class);
+		for (Pending pending : due)
+		{
+			DroneSnapshot drone = fleetRegistry.get(pending.serialNumber);
+			if (drone == null)
+				continue;
+			if (drone.getState() != pending.state)
+			{
+				// moved on without this engine; time its current state instead
+				schedule(drone);
+				continue;
+			}
+
+			List<DroneSnapshot> group = byState.get(drone.getState());
+			if (group == null)
+				byState.put(drone.getState(), group = new ArrayList<DroneSnapshot>());
+			group.add(drone);
+		}
+
+		int moved = 0;
+		for (Map.Entry<DroneState, List<DroneSnapshot>> group : byState.entrySet())
+		{
+			List<DroneSnapshot> drones = group.getValue();
+			for (int from = 0; from < drones.size(); from += batchSize)
+			{
+				moved += apply(group.getKey(), next(group.getKey()),
+						drones.subList(from, Math.min(drones.size(), from + batchSize)));
+			}
+		}
+
+		lastBatchDrones = due.size();
+		lastBatchMillis = System.currentTimeMillis() - start;
+		return moved;
+	}
+
+	private int apply(final DroneState state, final DroneState target, List<DroneSnapshot> drones)
+	{
+		final List<Long> ids = new ArrayList<Long>(drones.size());
+		for (DroneSnapshot drone : drones)
+		{
+			ids.add(drone.getId());
+		}
+		final Collection<DroneState> from = target == DroneState.DELIVERING ? DEPARTING
+				: Collections.singleton(state);
+		// a released drone drops its load like a delivered one, but only if it
+		// did not fill up in the meantime
+		final boolean unload = target == DroneState.DELIVERED
+				|| state == DroneState.LOADING && target == DroneState.IDLE;
+
+		List<DroneSnapshot> after;
+		int moved;
+		try
+		{
+			final int[] count = new int[1];
+			after = transactionTemplate.execute(status ->
+			{
+				count[0] = droneJdbcRepository.advanceState(ids, from, target, unload);
+				List<DroneSnapshot> rows = droneJdbcRepository.findSnapshots(ids);
+				List<String> unloaded = new ArrayList<String>();
+				if (unload)
+				{
+					for (DroneSnapshot row : rows)
+					{
+						if (row.getState() == target)
+							unloaded.add(row.getSerial_number());
+					}
+					medicationJdbcRepository.detachAll(unloaded);
+				}
+				fleetJournal.appendTransitions(rows, unloaded);
+				return rows;
+			});
+			moved = count[0];
+		} catch (Exception e)
+		{
+			failures++;
+			retries += drones.size();
+			logger.warn("Moving " + drones.size() + " drone(s) to " + target + " failed, retrying next tick", e);
+			synchronized (timers)
+			{
+				for (DroneSnapshot drone : drones)
+				{
+					if (!timers.containsKey(drone.getSerial_number()))
+						scheduleAt(new Pending(drone.getSerial_number(), drone.getState(), drone.getVersion()),
+								wheel.now() + tickMillis);
+				}
+			}
+			return 0;
+		}
+
+		for (DroneSnapshot drone : after)
+		{
+			fleetRegistry.put(drone);
+			schedule(drone);
+		}
+
+		transitions += moved;
+		if (target == DroneState.DELIVERED)
+			deliveries += moved;
+		else if (state == DroneState.LOADING && target == DroneState.IDLE)
+			releases += moved;
+		else if (target == DroneState.IDLE)
+			returns += moved;
+		return moved;
+	}
+
+	public LifecycleStatusView status()
+	{
+		int scheduled;
+		synchronized (timers)
+		{
+			scheduled = timers.size();
+		}
+		return new LifecycleStatusView(enabled && running, tickMillis, scheduled, transitions, deliveries, returns,
+				releases, retries, failures, lastBatchDrones, lastBatchMillis);
+	}
+
+	private void tick()
+	{
+		try
+		{
+			advance(System.currentTimeMillis());
+		} catch (Exception e)
+		{
+			logger.error("Drone lifecycle tick failed", e);
+		}
+	}
+
+	@Override
+	public void start()
+	{
+		if (tickMillis <= 0)
+			throw new IllegalStateException("drone.lifecycle.tick-ms must be positive: " + tickMillis);
+		if (!RELEASE.equals(loadingTimeoutAction) && !TAKE_OFF.equals(loadingTimeoutAction))
+			throw new IllegalStateException("drone.lifecycle.loading-timeout-action must be " + RELEASE + " or "
+					+ TAKE_OFF + ": " + loadingTimeoutAction);
+
+		synchronized (timers)
+		{
+			wheel = new TimingWheel<Pending>(tickMillis, System.currentTimeMillis());
+		}
+		scheduleAll(fleetRegistry.all());
+		logger.info("Drone lifecycle resumed " + status().getScheduled() + " drone(s) in flight");
+
+		running = true;
+		if (!enabled)
+			return;
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "drone-lifecycle");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void stop()
+	{
+		running = false;
+		if (executor == null)
+			return;
+
+		executor.shutdown();
+		try
+		{
+			if (!executor.awaitTermination(5, TimeUnit.SECONDS))
+				logger.warn("Drone lifecycle did not stop within 5s");
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	/**
+	 * After the fleet registry is filled.
+	 */
+	@Override
+	public int getPhase()
+	{
+		return 2;
+	}
+
+	/**
+	 * A drone waiting to leave {@code state}, as of {@code version}.
+	 */
+	static final class Pending
+	{
+		final String serialNumber;
+		final DroneState state;
+		final int version;
+
+		Pending(String serialNumber, DroneState state, int version)
+		{
+			this.serialNumber = serialNumber;
+			this.state = state;
+			this.version = version;
+		}
+	}
+}
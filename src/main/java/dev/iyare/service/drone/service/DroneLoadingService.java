@@ -0,0 +1,225 @@
+package dev.iyare.service.drone.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.repositories.EntityDroneRepository;
+import dev.iyare.service.drone.repositories.EntityMedicationRepository;
+
+/**
+ * Loads medications onto a drone without locking it. Each attempt reads the
+ * drone, checks the new payload against what is already on board
+ * ({@code loaded_weight}), then moves it to its new state and adds the weight
+ * with a compare-and-set on {@code state}, {@code version} and the battery
+ * level before inserting the medications, all in one transaction. An attempt
+ * that loses the compare-and-set has written nothing; it is rolled back and
+ * retried against the fresh row, so contention on one drone never holds up
+ * loads on another.
+ */
+@Service
+public class DroneLoadingService
+{
+	private static final Log logger = LogFactory.getLog(DroneLoadingService.class);
+
+	private static final long BACKOFF_NANOS = 1000000L;
+
+	public enum Outcome
+	{
+		LOADING, LOADED, NOT_AVAILABLE, BATTERY_LOW, OVERWEIGHT, CONFLICT
+	}
+
+	EntityDroneRepository entityDroneRepository;
+	EntityMedicationRepository entityMedicationRepository;
+	FleetRegistry fleetRegistry;
+	DroneLifecycleService droneLifecycleService;
+	FleetJournal fleetJournal;
+	TransactionTemplate transactionTemplate;
+
+	@Value("${drone.load.max-attempts:10}")
+	int maxAttempts;
+
+	public DroneLoadingService(EntityDroneRepository entityDroneRepository,
+			EntityMedicationRepository entityMedicationRepository, FleetRegistry fleetRegistry,
+			DroneLifecycleService droneLifecycleService, FleetJournal fleetJournal,
+			PlatformTransactionManager transactionManager)
+	{
+		this.entityDroneRepository = entityDroneRepository;
+		this.entityMedicationRepository = entityMedicationRepository;
+		this.fleetRegistry = fleetRegistry;
+		this.droneLifecycleService = droneLifecycleService;
+		this.fleetJournal = fleetJournal;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Loads already validated medications onto the drone.
+	 *
+	 * @return the state the drone moved to, why it was refused, or
+	 *         {@link Outcome#CONFLICT} if every attempt lost to a concurrent
+	 *         update
+	 */
+	public Outcome load(final String serialNumber, final List<EntityMedication> medications)
+	{
+		int totalWeight = totalWeight(medications);
+
+		for (int attempt = 1; attempt <= maxAttempts; attempt++)
+		{
+			Outcome outcome = attempt(serialNumber, medications, totalWeight);
+			if (outcome != Outcome.CONFLICT)
+				return outcome;
+
+			logger.debug("Load of drone " + serialNumber + " lost attempt " + attempt + ", retrying");
+			backOff(attempt);
+		}
+		return Outcome.CONFLICT;
+	}
+
+	/**
+	 * Loads already validated medications onto the best-fitting drone: the
+	 * loadable drone with the least remaining capacity that still takes the
+	 * whole payload, which keeps the roomy drones free for heavy orders. A
+	 * candidate that turns out to be gone or too full is skipped for the next
+	 * best fit; one lost to a concurrent load is looked up again, since it may
+	 * still fit.
+	 *
+	 * @return the serial number of the drone now carrying the medications, or
+	 *         null if no drone could take them
+	 */
+	public String dispatch(final List<EntityMedication> medications)
+	{
+		int totalWeight = totalWeight(medications);
+		Set<String> refused = new HashSet<String>();
+
+		for (int attempt = 1; attempt <= maxAttempts; attempt++)
+		{
+			String serialNumber = null;
+			for (String candidate : fleetRegistry.bestFit(totalWeight, refused.size() + 1))
+			{
+				if (!refused.contains(candidate))
+				{
+					serialNumber = candidate;
+					break;
+				}
+			}
+			if (serialNumber == null)
+				return null;
+
+			Outcome outcome = attempt(serialNumber, medications, totalWeight);
+			if (outcome == Outcome.LOADING || outcome == Outcome.LOADED)
+				return serialNumber;
+
+			if (outcome == Outcome.CONFLICT)
+				backOff(attempt);
+			else
+				refused.add(serialNumber);
+		}
+		return null;
+	}
+
+	private static int totalWeight(List<EntityMedication> medications)
+	{
+		int totalWeight = 0;
+		for (EntityMedication medication : medications)
+		{
+			totalWeight += medication.getWeight();
+		}
+		return totalWeight;
+	}
+
+	/**
+	 * One load attempt in its own transaction, rolled back unless it won.
+	 */
+	private Outcome attempt(final String serialNumber, final List<EntityMedication> medications, final int weight)
+	{
+		for (EntityMedication medication : medications)
+		{
+			medication.setDrone_serial_number(serialNumber);
+		}
+
+		try
+		{
+			return transactionTemplate.execute(status ->
+			{
+				Outcome result = tryLoad(serialNumber, medications, weight);
+				if (result == Outcome.CONFLICT)
+					status.setRollbackOnly();
+				return result;
+			});
+		} catch (ConcurrencyFailureException e)
+		{
+			// the database refused a concurrent write to the same row
+			return Outcome.CONFLICT;
+		}
+	}
+
+	private static void backOff(int attempt)
+	{
+		// jittered so the losers of one round do not collide again in the next
+		LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(BACKOFF_NANOS * attempt));
+	}
+
+	/**
+	 * Tries the registry's snapshot first, which saves the read when it is
+	 * current. Only a won compare-and-set is trusted from it; anything else is
+	 * decided again against the row itself.
+	 */
+	private Outcome tryLoad(String serialNumber, List<EntityMedication> medications, int weight)
+	{
+		DroneSnapshot cached = fleetRegistry.get(serialNumber);
+		if (cached != null && DroneState.AVAILABLE.contains(cached.getState()))
+		{
+			Outcome outcome = tryLoad(cached, medications, weight);
+			if (outcome == Outcome.LOADING || outcome == Outcome.LOADED)
+				return outcome;
+		}
+
+		EntityDrone entityDrone = entityDroneRepository.verifyDroneAvailable(serialNumber, DroneState.AVAILABLE);
+		if (entityDrone == null)
+			return Outcome.NOT_AVAILABLE;
+
+		return tryLoad(DroneSnapshot.of(entityDrone), medications, weight);
+	}
+
+	private Outcome tryLoad(DroneSnapshot drone, List<EntityMedication> medications, int weight)
+	{
+		// an unknown level or limit is refused, as FleetRegistry.isLoadable does
+		if (drone.getBattery_capacity() == null || drone.getBattery_capacity() < EntityDrone.MIN_LOADING_BATTERY)
+			return Outcome.BATTERY_LOW;
+		if (drone.getWeight_limit() == null)
+			return Outcome.NOT_AVAILABLE;
+
+		int loaded = drone.getLoaded_weight() + weight;
+		if (loaded > drone.getWeight_limit())
+			return Outcome.OVERWEIGHT;
+
+		DroneState target = loaded == drone.getWeight_limit() ? DroneState.LOADED : DroneState.LOADING;
+		if (entityDroneRepository.compareAndAddLoad(drone.getSerial_number(), DroneState.AVAILABLE, target, weight,
+				drone.getVersion(), EntityDrone.MIN_LOADING_BATTERY) == 0)
+			return Outcome.CONFLICT;
+
+		entityMedicationRepository.saveAll(medications);
+		DroneSnapshot after = drone.loaded(target, weight);
+		fleetRegistry.putAfterCommit(after);
+		droneLifecycleService.scheduleAfterCommit(Collections.singletonList(after));
+		fleetJournal.appendLoads(Collections.singletonList(after), medications);
+		return target == DroneState.LOADED ? Outcome.LOADED : Outcome.LOADING;
+	}
+}
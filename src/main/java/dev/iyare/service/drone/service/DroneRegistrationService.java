@@ -0,0 +1,223 @@
+package dev.iyare.service.drone.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.Drone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.models.response.v2.RegistrationResult;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.utils.StringUtil;
+
+/**
+ * Registers drones in bulk. Each chunk is validated in memory, checked for
+ * duplicate serial numbers with one query and inserted as one JDBC batch in
+ * its own transaction.
+ */
+@Service
+public class DroneRegistrationService
+{
+	private static final Log logger = LogFactory.getLog(DroneRegistrationService.class);
+
+	DroneJdbcRepository droneJdbcRepository;
+	FleetRegistry fleetRegistry;
+	DroneLifecycleService droneLifecycleService;
+	FleetJournal fleetJournal;
+	TransactionTemplate transactionTemplate;
+
+	public DroneRegistrationService(DroneJdbcRepository droneJdbcRepository, FleetRegistry fleetRegistry,
+			DroneLifecycleService droneLifecycleService, FleetJournal fleetJournal,
+			PlatformTransactionManager transactionManager)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.fleetRegistry = fleetRegistry;
+		this.droneLifecycleService = droneLifecycleService;
+		this.fleetJournal = fleetJournal;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Registers one chunk of drones.
+	 *
+	 * @param seenSerials serial numbers already accepted earlier in the same
+	 *                    batch; updated with the serials accepted here
+	 * @return one result per request, in request order
+	 */
+	public List<RegistrationResult> register(List<RegisterDroneRequest> requests, Set<String> seenSerials)
+	{
+		RegistrationResult[] results = new RegistrationResult[requests.size()];
+		Map<String, Integer> candidates = new LinkedHashMap<String, Integer>();
+		List<EntityDrone> drones = new ArrayList<EntityDrone>();
+
+		for (int i = 0; i < requests.size(); i++)
+		{
+			RegisterDroneRequest request = requests.get(i);
+			RegistrationResult invalid = validate(request);
+
+			if (invalid != null)
+				results[i] = invalid;
+			else if (seenSerials.contains(request.getSerial_number())
+					|| candidates.containsKey(request.getSerial_number()))
+				results[i] = duplicate(request.getSerial_number());
+			else
+				candidates.put(request.getSerial_number(), i);
+		}
+
+		for (String existing : droneJdbcRepository.findExistingSerials(candidates.keySet()))
+		{
+			results[candidates.remove(existing)] = duplicate(existing);
+		}
+
+		for (Integer index : candidates.values())
+		{
+			drones.add(toEntity(requests.get(index)));
+		}
+
+		insert(drones, candidates, results);
+
+		for (int i = 0; i < results.length; i++)
+		{
+			if (RegistrationResult.REGISTERED.equals(results[i].getStatus()))
+				seenSerials.add(results[i].getSerial_number());
+		}
+
+		List<RegistrationResult> resultList = new ArrayList<RegistrationResult>(results.length);
+		Collections.addAll(resultList, results);
+		return resultList;
+	}
+
+	public List<RegistrationResult> register(List<RegisterDroneRequest> requests)
+	{
+		return register(requests, new HashSet<String>());
+	}
+
+	/**
+	 * Drones registered outside IDLE are timed by the lifecycle engine from
+	 * their registration.
+	 */
+	private void publishAfterCommit(List<DroneSnapshot> inserted)
+	{
+		fleetRegistry.putAllAfterCommit(inserted);
+		droneLifecycleService.scheduleAfterCommit(inserted);
+		fleetJournal.appendDrones(inserted);
+	}
+
+	private void insert(final List<EntityDrone> drones, Map<String, Integer> candidates, RegistrationResult[] results)
+	{
+		try
+		{
+			transactionTemplate.executeWithoutResult(status -> publishAfterCommit(droneJdbcRepository.insertAll(drones)));
+
+			for (EntityDrone drone : drones)
+			{
+				results[candidates.get(drone.getSerial_number())] = registered(drone.getSerial_number());
+			}
+
+		} catch (DataIntegrityViolationException e)
+		{
+			// Another request registered one of these serials since the duplicate
+			// check; fall back to one row at a time to find out which.
+			logger.info("Batch insert conflicted, retrying " + drones.size() + " drones individually");
+
+			for (final EntityDrone drone : drones)
+			{
+				int index = candidates.get(drone.getSerial_number());
+				try
+				{
+					transactionTemplate.executeWithoutResult(status -> publishAfterCommit(
+							droneJdbcRepository.insertAll(Collections.singletonList(drone))));
+					results[index] = registered(drone.getSerial_number());
+				} catch (DataIntegrityViolationException duplicate)
+				{
+					results[index] = duplicate(drone.getSerial_number());
+				}
+			}
+		}
+	}
+
+	RegistrationResult validate(RegisterDroneRequest request)
+	{
+		return validate(request, EntityDrone.MIN_BATTERY_CAPACITY);
+	}
+
+	/**
+	 * @param minBatteryCapacity the lowest battery level accepted; registration
+	 *                           takes the same minimum as the v1 entity
+	 */
+	RegistrationResult validate(RegisterDroneRequest request, int minBatteryCapacity)
+	{
+		String serialNumber = request.getSerial_number();
+
+		if (serialNumber == null || serialNumber.trim().isEmpty() || serialNumber.length() > 100)
+			return new RegistrationResult(serialNumber, RegistrationResult.INVALID_SERIAL,
+					"Serial number is required and should not be greater than 100 characters");
+
+		Drone drone = Drone.fromModel(request.getModel());
+		if (drone == null)
+			return new RegistrationResult(serialNumber, RegistrationResult.INVALID_MODEL,
+					"Drone model should be one of LightWeight, MiddleWeight, CruiserWeight, HeavyWeight");
+
+		Integer weightLimit = request.getWeight_limit() == null ? Integer.valueOf(drone.getWeightLimit())
+				: StringUtil.toInteger(request.getWeight_limit());
+		if (weightLimit == null || weightLimit <= 0 || weightLimit > 500)
+			return new RegistrationResult(serialNumber, RegistrationResult.INVALID_WEIGHT_LIMIT,
+					"Weight limit should be between 1 and 500 grams");
+
+		Integer batteryCapacity = StringUtil.toInteger(request.getBattery_capacity());
+		if (batteryCapacity == null || batteryCapacity < minBatteryCapacity
+				|| batteryCapacity > EntityDrone.MAX_BATTERY_CAPACITY)
+			return new RegistrationResult(serialNumber, RegistrationResult.INVALID_BATTERY_CAPACITY,
+					"Battery capacity should be between " + minBatteryCapacity + " and "
+							+ EntityDrone.MAX_BATTERY_CAPACITY);
+
+		if (request.getState() != null && DroneState.fromDescription(request.getState()) == null)
+			return new RegistrationResult(serialNumber, RegistrationResult.INVALID_STATE,
+					"Drone state should be one of IDLE, LOADING, LOADED, DELIVERING, DELIVERED, RETURNING");
+
+		return null;
+	}
+
+	private EntityDrone toEntity(RegisterDroneRequest request)
+	{
+		Drone drone = Drone.fromModel(request.getModel());
+		DroneState state = request.getState() == null ? DroneState.IDLE
+				: DroneState.fromDescription(request.getState());
+
+		EntityDrone entityDrone = new EntityDrone();
+		entityDrone.setSerial_number(request.getSerial_number());
+		entityDrone.setModel(drone.getModel());
+		entityDrone.setWeight_limit(request.getWeight_limit() == null ? drone.getWeightLimit()
+				: StringUtil.toInteger(request.getWeight_limit()));
+		entityDrone.setBattery_capacity(StringUtil.toInteger(request.getBattery_capacity()));
+		entityDrone.setState(state);
+		return entityDrone;
+	}
+
+	private static RegistrationResult registered(String serialNumber)
+	{
+		return new RegistrationResult(serialNumber, RegistrationResult.REGISTERED, null);
+	}
+
+	private static RegistrationResult duplicate(String serialNumber)
+	{
+		return new RegistrationResult(serialNumber, RegistrationResult.DUPLICATE_SERIAL,
+				"A drone with this serial number is already registered");
+	}
+}
@@ -0,0 +1,739 @@
+package dev.iyare.service.drone.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.Drone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.history.BatteryHistoryStore;
+import dev.iyare.service.drone.history.BatteryRollups;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.models.response.v2.ImportView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.MedicationJdbcRepository;
+import dev.iyare.service.drone.repositories.SequenceIdAllocator;
+import dev.iyare.service.drone.utils.BoundedInputStream;
+import dev.iyare.service.drone.utils.BoundedJsonTokenReader;
+import dev.iyare.service.drone.utils.CsvUtil;
+import dev.iyare.service.drone.utils.JsonUtil;
+import dev.iyare.service.drone.utils.RegExPatternUtil;
+import dev.iyare.service.drone.utils.StringUtil;
+
+/**
+ * Exports and imports the drone, medication and battery history tables as
+ * NDJSON or CSV with a header row, for moving a fleet between environments.
+ *
+ * <p>
+ * An export writes each row as the cursor reads it, so it takes the same
+ * memory whatever the table size. An import reads rows one at a time, gzipped
+ * or not, and writes them in batches of {@code drone.transfer.batch-size},
+ * each in its own transaction. Invalid rows, and drones whose serial number is
+ * already registered, are counted and left out. The body is bounded as it is
+ * read, after any gunzip, by {@code drone.transfer.max-body-bytes}, and no
+ * field may be longer than an image ({@code drone.request.max-image-chars}).
+ * Breaking either stops the import; the batches written by then stay.
+ *
+ * <p>
+ * Drones go in with their state and loaded weight. A medication must be on a
+ * registered drone, or on none, and each batch rebuilds the loaded weight of
+ * the drones it loaded from the medication table, so importing drones and then
+ * medications gives the same fleet. Battery history goes through the
+ * configured {@link BatteryHistoryStore} and into the rollups.
+ */
+@Service
+public class FleetTransferService
+{
+	private static final Log logger = LogFactory.getLog(FleetTransferService.class);
+
+	public static final String DRONES = "drones";
+	public static final String MEDICATIONS = "medications";
+	public static final String BATTERY_HISTORY = "battery-history";
+
+	public static final String NDJSON = "ndjson";
+	public static final String CSV = "csv";
+
+	static final String[] DRONE_COLUMNS = { "serial_number", "model", "weight_limit", "battery_capacity",
+			"loaded_weight", "state" };
+	static final String[] MEDICATION_COLUMNS = { "drone_serial_number", "name", "code", "weight", "image" };
+	static final String[] HISTORY_COLUMNS = { "serial_number", "timestamp", "battery_capacity" };
+
+	private static final int BUFFER_BYTES = 65536;
+
+	DroneJdbcRepository droneJdbcRepository;
+	MedicationJdbcRepository medicationJdbcRepository;
+	SequenceIdAllocator sequenceIdAllocator;
+	BatteryHistoryStore batteryHistoryStore;
+	BatteryRollups batteryRollups;
+	DroneRegistrationService droneRegistrationService;
+	FleetRegistry fleetRegistry;
+	DroneLifecycleService droneLifecycleService;
+	FleetJournal fleetJournal;
+	TransactionTemplate transactionTemplate;
+
+	@Value("${drone.transfer.fetch-size:1000}")
+	int fetchSize;
+
+	@Value("${drone.transfer.batch-size:1000}")
+	int batchSize;
+
+	@Value("${drone.transfer.max-body-bytes:1073741824}")
+	long maxBodyBytes;
+
+	@Value("${drone.request.max-image-chars:${drone.request.max-image-bytes:1048576}}")
+	int maxImageChars;
+
+	public FleetTransferService(DroneJdbcRepository droneJdbcRepository,
+			MedicationJdbcRepository medicationJdbcRepository, SequenceIdAllocator sequenceIdAllocator,
+			BatteryHistoryStore batteryHistoryStore, BatteryRollups batteryRollups,
+			DroneRegistrationService droneRegistrationService, FleetRegistry fleetRegistry,
+			DroneLifecycleService droneLifecycleService, FleetJournal fleetJournal,
+			PlatformTransactionManager transactionManager)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.medicationJdbcRepository = medicationJdbcRepository;
+		this.sequenceIdAllocator = sequenceIdAllocator;
+		this.batteryHistoryStore = batteryHistoryStore;
+		this.batteryRollups = batteryRollups;
+		this.droneRegistrationService = droneRegistrationService;
+		this.fleetRegistry = fleetRegistry;
+		this.droneLifecycleService = droneLifecycleService;
+		this.fleetJournal = fleetJournal;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * @return whether {@code table} can be exported and imported as
+	 *         {@code format}
+	 */
+	public static boolean supports(String table, String format)
+	{
+		return (DRONES.equals(table) || MEDICATIONS.equals(table) || BATTERY_HISTORY.equals(table))
+				&& (NDJSON.equals(format) || CSV.equals(format));
+	}
+
+	/**
+	 * Writes every row of {@code table} to {@code out}, gzipped when
+	 * {@code gzip} is set. {@code out} is flushed but not closed.
+	 *
+	 * @return the number of rows written
+	 */
+	public long export(String table, String format, boolean gzip, OutputStream out) throws IOException
+	{
+		if (!supports(table, format))
+			throw new IllegalArgumentException("Cannot export " + table + " as " + format);
+
+		long start = System.currentTimeMillis();
+		GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, BUFFER_BYTES)
+		{
+			{
+				// rows are repetitive enough that level 1 still shrinks them
+				// well, at a fraction of the default level's time
+				def.setLevel(Deflater.BEST_SPEED);
+			}
+		} : null;
+		Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? gzipOut : out, StandardCharsets.UTF_8),
+				BUFFER_BYTES);
+		final long[] rows = new long[1];
+
+		try
+		{
+			if (DRONES.equals(table))
+			{
+				final RowWriter rowWriter = rowWriter(format, writer, DRONE_COLUMNS);
+				droneJdbcRepository.forEachSnapshot(fetchSize, drone ->
+				{
+					try
+					{
+						rowWriter.value(drone.getSerial_number());
+						rowWriter.value(drone.getModel());
+						rowWriter.value(drone.getWeight_limit());
+						rowWriter.value(drone.getBattery_capacity());
+						rowWriter.value(drone.getLoaded_weight());
+						rowWriter.value(drone.getState() == null ? null : drone.getState().getDescription());
+						rowWriter.endRow();
+						rows[0]++;
+					} catch (IOException e)
+					{
+						throw new UncheckedIOException(e);
+					}
+				});
+			} else if (MEDICATIONS.equals(table))
+			{
+				final RowWriter rowWriter = rowWriter(format, writer, MEDICATION_COLUMNS);
+				medicationJdbcRepository.forEachMedication(fetchSize, rs ->
+				{
+					try
+					{
+						rowWriter.value(rs.getString(1));
+						rowWriter.value(rs.getString(2));
+						rowWriter.value(rs.getString(3));
+						rowWriter.value((Integer) rs.getObject(4));
+						rowWriter.value(rs.getString(5));
+						rowWriter.endRow();
+						rows[0]++;
+					} catch (IOException e)
+					{
+						throw new UncheckedIOException(e);
+					}
+				});
+			} else
+			{
+				final RowWriter rowWriter = rowWriter(format, writer, HISTORY_COLUMNS);
+				batteryHistoryStore.scanAll((serialNumber, timestamp, level) ->
+				{
+					try
+					{
+						rowWriter.value(serialNumber);
+						rowWriter.value(timestamp);
+						rowWriter.value(level == BatteryHistoryStore.UNKNOWN_LEVEL ? null : Integer.valueOf(level));
+						rowWriter.endRow();
+						rows[0]++;
+					} catch (IOException e)
+					{
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		} catch (UncheckedIOException e)
+		{
+			throw e.getCause();
+		}
+
+		writer.flush();
+		if (gzip)
+			gzipOut.finish();
+		out.flush();
+
+		logger.info("Exported " + rows[0] + " " + table + " row(s) as " + format + (gzip ? ".gz" : "") + " in "
+				+ (System.currentTimeMillis() - start) + "ms");
+		return rows[0];
+	}
+
+	/**
+	 * Reads rows of {@code table} from {@code body}, which may be gzipped, and
+	 * writes the valid ones.
+	 */
+	public ImportView importRows(String table, String format, InputStream body) throws IOException
+	{
+		if (!supports(table, format))
+			throw new IllegalArgumentException("Cannot import " + table + " as " + format);
+
+		long start = System.currentTimeMillis();
+		// bounded after gunzip, so a small compressed body cannot expand without limit
+		Reader reader = new BufferedReader(new InputStreamReader(
+				new BoundedInputStream(gunzipIfNeeded(body), maxBodyBytes), StandardCharsets.UTF_8), BUFFER_BYTES);
+		RowReader rowReader = CSV.equals(format) ? new CsvRowReader(reader, maxImageChars)
+				: new NdjsonRowReader(new BoundedJsonTokenReader(reader, maxImageChars));
+		long[] counts = new long[2];
+
+		if (DRONES.equals(table))
+			importDrones(rowReader, counts);
+		else if (MEDICATIONS.equals(table))
+			importMedications(rowReader, counts);
+		else
+			importHistory(rowReader, counts);
+
+		long duration = System.currentTimeMillis() - start;
+		logger.info("Imported " + counts[0] + " " + table + " row(s) from " + format + ", rejected " + counts[1]
+				+ ", in " + duration + "ms");
+		return new ImportView(table, counts[0], counts[1], duration);
+	}
+
+	private void importDrones(RowReader reader, long[] counts) throws IOException
+	{
+		List<DroneSnapshot> batch = new ArrayList<DroneSnapshot>(batchSize);
+		Set<String> batchSerials = new HashSet<String>();
+		while (reader.next())
+		{
+			DroneSnapshot drone = toDrone(reader);
+			if (drone == null || !batchSerials.add(drone.getSerial_number()))
+			{
+				counts[1]++;
+				continue;
+			}
+			batch.add(drone);
+			if (batch.size() == batchSize)
+			{
+				insertDrones(batch, counts);
+				batch.clear();
+				batchSerials.clear();
+			}
+		}
+		insertDrones(batch, counts);
+	}
+
+	/**
+	 * @return the drone without an id, or null when the row is invalid
+	 */
+	private DroneSnapshot toDrone(RowReader reader)
+	{
+		RegisterDroneRequest request = new RegisterDroneRequest(reader.get("serial_number"), reader.get("model"),
+				reader.get("weight_limit"), reader.get("battery_capacity"), reader.get("state"));
+		// an exported drone may have drained below the registration minimum
+		if (droneRegistrationService.validate(request, 0) != null)
+			return null;
+
+		Drone model = Drone.fromModel(request.getModel());
+		int weightLimit = request.getWeight_limit() == null ? model.getWeightLimit()
+				: StringUtil.toInteger(request.getWeight_limit());
+		String loaded = reader.get("loaded_weight");
+		Integer loadedWeight = loaded == null ? Integer.valueOf(0) : StringUtil.toInteger(loaded);
+		if (loadedWeight == null || loadedWeight < 0 || loadedWeight > weightLimit)
+			return null;
+
+		return new DroneSnapshot(null, 0, request.getSerial_number(), model.getModel(), weightLimit,
+				StringUtil.toInteger(request.getBattery_capacity()), loadedWeight,
+				request.getState() == null ? DroneState.IDLE : DroneState.fromDescription(request.getState()));
+	}
+
+	/**
+	 * Drones already registered are rejected; the rest are inserted with their
+	 * state and loaded weight, and published like registered ones.
+	 */
+	private void insertDrones(List<DroneSnapshot> batch, long[] counts)
+	{
+		if (batch.isEmpty())
+			return;
+
+		List<String> serialNumbers = new ArrayList<String>(batch.size());
+		for (DroneSnapshot drone : batch)
+		{
+			serialNumbers.add(drone.getSerial_number());
+		}
+		Set<String> existing = droneJdbcRepository.findExistingSerials(serialNumbers);
+
+		final List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>(batch.size() - existing.size());
+		long[] ids = sequenceIdAllocator.allocate(batch.size() - existing.size());
+		for (DroneSnapshot drone : batch)
+		{
+			if (!existing.contains(drone.getSerial_number()))
+				drones.add(new DroneSnapshot(ids[drones.size()], 0, drone.getSerial_number(), drone.getModel(),
+						drone.getWeight_limit(), drone.getBattery_capacity(), drone.getLoaded_weight(),
+						drone.getState()));
+		}
+		counts[1] += existing.size();
+
+		try
+		{
+			transactionTemplate.executeWithoutResult(status ->
+			{
+				droneJdbcRepository.restoreAll(drones);
+				fleetRegistry.putAllAfterCommit(drones);
+				droneLifecycleService.scheduleAfterCommit(drones);
+				fleetJournal.appendDrones(drones);
+			});
+			counts[0] += drones.size();
+		} catch (DataIntegrityViolationException e)
+		{
+			// registered by someone else since the check
+			logger.info("Import of " + drones.size() + " drone(s) conflicted, batch rejected");
+			counts[1] += drones.size();
+		}
+	}
+
+	private void importMedications(RowReader reader, long[] counts) throws IOException
+	{
+		final List<EntityMedication> batch = new ArrayList<EntityMedication>(batchSize);
+		final Set<Long> droneIds = new LinkedHashSet<Long>();
+		while (reader.next())
+		{
+			String serialNumber = reader.get("drone_serial_number");
+			EntityMedication medication = new EntityMedication();
+			medication.setDrone_serial_number(serialNumber == null || serialNumber.isEmpty() ? null : serialNumber);
+			medication.setName(reader.get("name"));
+			medication.setCode(reader.get("code"));
+			medication.setWeight(StringUtil.toInteger(reader.get("weight")));
+			medication.setImage(reader.get("image"));
+			DroneSnapshot drone = medication.getDrone_serial_number() == null ? null
+					: fleetRegistry.get(medication.getDrone_serial_number());
+			if (!RegExPatternUtil.matchMedName(medication.getName())
+					|| !RegExPatternUtil.matchMedCode(medication.getCode()) || medication.getWeight() == null
+					|| medication.getWeight() <= 0 || medication.getImage() == null
+					|| medication.getImage().length() > maxImageChars
+					|| medication.getDrone_serial_number() != null && drone == null)
+			{
+				counts[1]++;
+				continue;
+			}
+			batch.add(medication);
+			if (drone != null)
+				droneIds.add(drone.getId());
+			if (batch.size() == batchSize)
+			{
+				insertMedications(batch, droneIds, counts);
+				batch.clear();
+				droneIds.clear();
+			}
+		}
+		insertMedications(batch, droneIds, counts);
+	}
+
+	/**
+	 * Inserts the medications and brings the loaded weight of the drones
+	 * carrying them in line with the medication table.
+	 */
+	private void insertMedications(final List<EntityMedication> medications, final Set<Long> droneIds,
+			long[] counts)
+	{
+		if (medications.isEmpty())
+			return;
+
+		transactionTemplate.executeWithoutResult(status ->
+		{
+			medicationJdbcRepository.insertAll(medications);
+			List<DroneSnapshot> drones = Collections.<DroneSnapshot> emptyList();
+			if (droneJdbcRepository.reconcileLoadedWeight(droneIds) > 0)
+			{
+				drones = droneJdbcRepository.findSnapshots(droneIds);
+				fleetRegistry.putAllAfterCommit(drones);
+			}
+			fleetJournal.appendLoads(drones, medications);
+		});
+		counts[0] += medications.size();
+	}
+
+	private void importHistory(RowReader reader, long[] counts) throws IOException
+	{
+		String[] serialNumbers = new String[batchSize];
+		long[] timestamps = new long[batchSize];
+		int[] levels = new int[batchSize];
+		int count = 0;
+		while (reader.next())
+		{
+			String serialNumber = reader.get("serial_number");
+			Long timestamp = toLong(reader.get("timestamp"));
+			String battery = reader.get("battery_capacity");
+			Integer level = battery == null ? Integer.valueOf(BatteryHistoryStore.UNKNOWN_LEVEL)
+					: StringUtil.toInteger(battery);
+			if (serialNumber == null || serialNumber.isEmpty() || timestamp == null || level == null
+					|| level < BatteryHistoryStore.UNKNOWN_LEVEL || level > 100)
+			{
+				counts[1]++;
+				continue;
+			}
+			serialNumbers[count] = serialNumber;
+			timestamps[count] = timestamp;
+			levels[count] = level;
+			if (++count == batchSize)
+			{
+				recordSamples(serialNumbers, timestamps, levels, count, counts);
+				count = 0;
+			}
+		}
+		recordSamples(serialNumbers, timestamps, levels, count, counts);
+	}
+
+	private void recordSamples(final String[] serialNumbers, final long[] timestamps, final int[] levels,
+			final int count, long[] counts)
+	{
+		if (count == 0)
+			return;
+
+		int recorded = transactionTemplate
+				.execute(status -> batteryHistoryStore.recordSamples(serialNumbers, timestamps, levels, count));
+		for (int i = 0; i < count; i++)
+		{
+			if (serialNumbers[i] != null)
+				batteryRollups.add(serialNumbers[i], timestamps[i], levels[i]);
+		}
+		counts[0] += recorded;
+		counts[1] += count - recorded;
+	}
+
+	private static Long toLong(String value)
+	{
+		if (value == null)
+			return null;
+
+		try
+		{
+			return Long.valueOf(value.trim());
+		} catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Gzip is recognised by its magic number rather than declared, so either
+	 * kind of body can be posted to the same endpoint.
+	 */
+	static InputStream gunzipIfNeeded(InputStream body) throws IOException
+	{
+		PushbackInputStream in = new PushbackInputStream(body, 2);
+		byte[] magic = new byte[2];
+		int read = 0, n;
+		while (read < 2 && (n = in.read(magic, read, 2 - read)) != -1)
+		{
+			read += n;
+		}
+		in.unread(magic, 0, read);
+		if (read == 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b)
+			return new GZIPInputStream(in, BUFFER_BYTES);
+		return in;
+	}
+
+	static RowWriter rowWriter(String format, Writer out, String[] columns) throws IOException
+	{
+		return CSV.equals(format) ? new CsvRowWriter(out, columns) : new NdjsonRowWriter(out, columns);
+	}
+
+	/**
+	 * Writes the values of a row in column order, then ends the row.
+	 */
+	abstract static class RowWriter
+	{
+		final Writer out;
+		final String[] columns;
+		int column;
+
+		RowWriter(Writer out, String[] columns)
+		{
+			this.out = out;
+			this.columns = columns;
+		}
+
+		abstract void value(String value) throws IOException;
+
+		abstract void value(Integer value) throws IOException;
+
+		abstract void value(long value) throws IOException;
+
+		abstract void endRow() throws IOException;
+	}
+
+	/**
+	 * One JSON object per line, keyed by column name.
+	 */
+	static final class NdjsonRowWriter extends RowWriter
+	{
+		final JsonWriter jsonWriter;
+
+		NdjsonRowWriter(Writer out, String[] columns) throws IOException
+		{
+			super(out, columns);
+			this.jsonWriter = JsonUtil.newJsonWriter(out);
+			// rows go to a file, not a page: no need to escape '=' in images
+			this.jsonWriter.setHtmlSafe(false);
+		}
+
+		private JsonWriter name() throws IOException
+		{
+			if (column == 0)
+				jsonWriter.beginObject();
+			return jsonWriter.name(columns[column++]);
+		}
+
+		@Override
+		void value(String value) throws IOException
+		{
+			name().value(value);
+		}
+
+		@Override
+		void value(Integer value) throws IOException
+		{
+			name().value(value);
+		}
+
+		@Override
+		void value(long value) throws IOException
+		{
+			name().value(value);
+		}
+
+		@Override
+		void endRow() throws IOException
+		{
+			jsonWriter.endObject();
+			out.write('\n');
+			column = 0;
+		}
+	}
+
+	/**
+	 * A header row of column names, then one record per row.
+	 */
+	static final class CsvRowWriter extends RowWriter
+	{
+		CsvRowWriter(Writer out, String[] columns) throws IOException
+		{
+			super(out, columns);
+			CsvUtil.writeRow(out, columns);
+		}
+
+		@Override
+		void value(String value) throws IOException
+		{
+			CsvUtil.writeField(out, value, column++ == 0);
+		}
+
+		@Override
+		void value(Integer value) throws IOException
+		{
+			if (column++ > 0)
+				out.write(',');
+			if (value != null)
+				out.write(Integer.toString(value));
+		}
+
+		@Override
+		void value(long value) throws IOException
+		{
+			if (column++ > 0)
+				out.write(',');
+			out.write(Long.toString(value));
+		}
+
+		@Override
+		void endRow() throws IOException
+		{
+			out.write('\n');
+			column = 0;
+		}
+	}
+
+	/**
+	 * Reads one row at a time; values are looked up by column name, and a
+	 * missing column reads as null.
+	 */
+	interface RowReader
+	{
+		boolean next() throws IOException;
+
+		String get(String column);
+	}
+
+	/**
+	 * NDJSON, or one JSON array of objects. Numbers and booleans are read as
+	 * their text; nested values are skipped. Field lengths are capped by the
+	 * {@link BoundedJsonTokenReader} it is given.
+	 */
+	static final class NdjsonRowReader implements RowReader
+	{
+		final JsonReader reader;
+		final Map<String, String> values = new HashMap<String, String>();
+		boolean array;
+		boolean started;
+
+		NdjsonRowReader(Reader in)
+		{
+			this.reader = new JsonReader(in);
+			this.reader.setLenient(true);
+		}
+
+		@Override
+		public boolean next() throws IOException
+		{
+			if (!started)
+			{
+				started = true;
+				array = reader.peek() == JsonToken.BEGIN_ARRAY;
+				if (array)
+					reader.beginArray();
+			}
+			if (array ? !reader.hasNext() : reader.peek() == JsonToken.END_DOCUMENT)
+				return false;
+
+			values.clear();
+			reader.beginObject();
+			while (reader.hasNext())
+			{
+				String name = reader.nextName();
+				JsonToken token = reader.peek();
+				if (token == JsonToken.NULL)
+					reader.nextNull();
+				else if (token == JsonToken.BOOLEAN)
+					values.put(name, String.valueOf(reader.nextBoolean()));
+				else if (token == JsonToken.STRING || token == JsonToken.NUMBER)
+					values.put(name, reader.nextString());
+				else
+					reader.skipValue();
+			}
+			reader.endObject();
+			return true;
+		}
+
+		@Override
+		public String get(String column)
+		{
+			return values.get(column);
+		}
+	}
+
+	/**
+	 * CSV whose first record names the columns.
+	 */
+	static final class CsvRowReader implements RowReader
+	{
+		final Reader in;
+		final Map<String, Integer> columns = new HashMap<String, Integer>();
+		final List<String> fields = new ArrayList<String>();
+		final StringBuilder buffer = new StringBuilder();
+		final int maxFieldChars;
+
+		CsvRowReader(Reader in, int maxFieldChars) throws IOException
+		{
+			this.in = in;
+			this.maxFieldChars = maxFieldChars;
+			if (CsvUtil.readRow(in, fields, buffer, maxFieldChars))
+			{
+				for (int i = 0; i < fields.size(); i++)
+				{
+					if (fields.get(i) != null)
+						columns.put(fields.get(i).trim(), i);
+				}
+			}
+		}
+
+		@Override
+		public boolean next() throws IOException
+		{
+			return !columns.isEmpty() && CsvUtil.readRow(in, fields, buffer, maxFieldChars);
+		}
+
+		@Override
+		public String get(String column)
+		{
+			Integer index = columns.get(column);
+			return index == null || index >= fields.size() ? null : fields.get(index);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package dev.iyare.service.drone.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.response.v2.ReconciliationView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+
+/**
+ * Rebuilds {@code drone.loaded_weight} from the medication table. The id space
+ * is cut into fixed-size ranges that are reconciled concurrently; each range
+ * is one aggregate query plus one batch of guarded updates, so a run never
+ * holds locks across the whole table and live loads keep going.
+ */
+@Service
+public class LoadedWeightReconciler
+{
+	private static final Log logger = LogFactory.getLog(LoadedWeightReconciler.class);
+
+	DroneJdbcRepository droneJdbcRepository;
+	FleetRegistry fleetRegistry;
+	FleetJournal fleetJournal;
+	ExecutorService executor;
+
+	@Value("${drone.reconcile.partition-size:10000}")
+	long partitionSize;
+
+	public LoadedWeightReconciler(DroneJdbcRepository droneJdbcRepository, FleetRegistry fleetRegistry,
+			FleetJournal fleetJournal, @Value("${drone.reconcile.parallelism:4}") int parallelism)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.fleetRegistry = fleetRegistry;
+		this.fleetJournal = fleetJournal;
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable ->
+		{
+			Thread thread = new Thread(runnable, "loaded-weight-reconciler");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public ReconciliationView reconcile() throws InterruptedException, ExecutionException
+	{
+		long start = System.currentTimeMillis();
+
+		long[] range = droneJdbcRepository.findIdRange();
+		if (range == null)
+			return new ReconciliationView(0, 0, System.currentTimeMillis() - start);
+
+		List<Future<Integer>> partitions = new ArrayList<Future<Integer>>();
+		for (long from = range[0]; from <= range[1]; from += partitionSize)
+		{
+			final long fromId = from;
+			final long toId = Math.min(from + partitionSize, range[1] + 1);
+			partitions.add(executor.submit(() -> droneJdbcRepository.reconcileLoadedWeight(fromId, toId)));
+		}
+
+		int corrected = 0;
+		for (Future<Integer> partition : partitions)
+		{
+			corrected += partition.get();
+		}
+
+		long millis = System.currentTimeMillis() - start;
+		if (corrected > 0)
+		{
+			logger.warn("Corrected loaded_weight on " + corrected + " drone(s) in " + millis + "ms");
+			fleetRegistry.rebuild();
+			fleetJournal.appendDrones(fleetRegistry.all());
+		}
+
+		return new ReconciliationView(partitions.size(), corrected, millis);
+	}
+
+	@PreDestroy
+	public void shutdown()
+	{
+		executor.shutdownNow();
+	}
+}
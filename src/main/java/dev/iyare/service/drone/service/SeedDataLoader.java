@@ -0,0 +1,239 @@
+package dev.iyare.service.drone.service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.Drone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.MedicationJdbcRepository;
+import dev.iyare.service.drone.utils.JsonUtil;
+import dev.iyare.service.drone.utils.StringUtil;
+
+/**
+ * Loads the preloaded drones and medications from the zip at
+ * {@code drone.seed.resource}, read as a stream in entry order:
+ *
+ * <ul>
+ * <li>{@code drones.ndjson}: register-drone bodies; a drone without a serial
+ * number gets a random one;</li>
+ * <li>{@code images/*}: raw image files;</li>
+ * <li>{@code medications.ndjson}: medication rows whose {@code image} names an
+ * image entry earlier in the zip, stored base64 encoded as before.</li>
+ * </ul>
+ *
+ * Rows are inserted over JDBC in batches of {@code drone.seed.batch-size}, all
+ * in one transaction. Nothing is loaded when the fleet journal restored the
+ * fleet or the drone table already holds rows, e.g. on a persistent database.
+ */
+@Service
+public class SeedDataLoader
+{
+	private static final Log logger = LogFactory.getLog(SeedDataLoader.class);
+
+	static final String DRONES = "drones.ndjson";
+	static final String MEDICATIONS = "medications.ndjson";
+	static final String IMAGES = "images/";
+
+	DroneJdbcRepository droneJdbcRepository;
+	MedicationJdbcRepository medicationJdbcRepository;
+	FleetJournal fleetJournal;
+	ResourceLoader resourceLoader;
+	TransactionTemplate transactionTemplate;
+
+	@Value("${drone.seed.enabled:true}")
+	boolean enabled;
+
+	@Value("${drone.seed.resource:classpath:seed/fleet-seed.zip}")
+	String resource;
+
+	@Value("${drone.seed.batch-size:500}")
+	int batchSize;
+
+	public SeedDataLoader(DroneJdbcRepository droneJdbcRepository, MedicationJdbcRepository medicationJdbcRepository,
+			FleetJournal fleetJournal, ResourceLoader resourceLoader, PlatformTransactionManager transactionManager)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.medicationJdbcRepository = medicationJdbcRepository;
+		this.fleetJournal = fleetJournal;
+		this.resourceLoader = resourceLoader;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * @return true when the seed data was loaded, false when it was skipped
+	 */
+	public boolean load()
+	{
+		if (!enabled)
+			return false;
+		if (fleetJournal.isRestored())
+		{
+			logger.info("Fleet restored from the journal, seed data skipped");
+			return false;
+		}
+		if (droneJdbcRepository.findIdRange() != null)
+		{
+			logger.info("Drones already in the database, seed data skipped");
+			return false;
+		}
+
+		long start = System.currentTimeMillis();
+		final int[] counts = new int[2];
+		transactionTemplate.executeWithoutResult(status ->
+		{
+			try
+			{
+				read(resourceLoader.getResource(resource), counts);
+			} catch (IOException e)
+			{
+				throw new UncheckedIOException("Reading seed data from " + resource + " failed", e);
+			}
+		});
+		logger.info("Seed data: " + counts[0] + " drone(s), " + counts[1] + " medication(s) from " + resource
+				+ " in " + (System.currentTimeMillis() - start) + " ms");
+		return true;
+	}
+
+	private void read(Resource seed, int[] counts) throws IOException
+	{
+		Map<String, String> images = new HashMap<String, String>();
+		try (ZipInputStream zip = new ZipInputStream(seed.getInputStream()))
+		{
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null)
+			{
+				if (entry.getName().equals(DRONES))
+					counts[0] += readDrones(entryReader(zip));
+				else if (entry.getName().equals(MEDICATIONS))
+					counts[1] += readMedications(entryReader(zip), images);
+				else if (entry.getName().startsWith(IMAGES) && !entry.isDirectory())
+					images.put(entry.getName(), Base64.getEncoder().encodeToString(readEntry(zip)));
+			}
+		}
+	}
+
+	private int readDrones(BufferedReader reader) throws IOException
+	{
+		int count = 0;
+		List<EntityDrone> batch = new ArrayList<EntityDrone>(batchSize);
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			if (line.trim().isEmpty())
+				continue;
+			batch.add(toDrone(JsonUtil.fromJson(line, RegisterDroneRequest.class)));
+			if (batch.size() == batchSize)
+			{
+				count += insertDrones(batch);
+				batch.clear();
+			}
+		}
+		return count + insertDrones(batch);
+	}
+
+	private int insertDrones(List<EntityDrone> drones)
+	{
+		List<DroneSnapshot> inserted = droneJdbcRepository.insertAll(drones);
+		fleetJournal.appendDrones(inserted);
+		return inserted.size();
+	}
+
+	private int readMedications(BufferedReader reader, Map<String, String> images) throws IOException
+	{
+		int count = 0;
+		List<EntityMedication> batch = new ArrayList<EntityMedication>(batchSize);
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			if (line.trim().isEmpty())
+				continue;
+			EntityMedication medication = JsonUtil.fromJson(line, EntityMedication.class);
+			String image = images.get(medication.getImage());
+			if (image == null)
+				throw new IllegalStateException("Seed image " + medication.getImage() + " of " + medication.getCode()
+						+ " is not in the zip before " + MEDICATIONS);
+			medication.setImage(image);
+			batch.add(medication);
+			if (batch.size() == batchSize)
+			{
+				count += insertMedications(batch);
+				batch.clear();
+			}
+		}
+		return count + insertMedications(batch);
+	}
+
+	private int insertMedications(List<EntityMedication> medications)
+	{
+		medicationJdbcRepository.insertAll(medications);
+		fleetJournal.appendLoads(Collections.<DroneSnapshot> emptyList(), medications);
+		return medications.size();
+	}
+
+	private static EntityDrone toDrone(RegisterDroneRequest request)
+	{
+		Drone drone = Drone.fromModel(request.getModel());
+		if (drone == null)
+			throw new IllegalStateException("Unknown drone model in seed data: " + request.getModel());
+
+		EntityDrone entityDrone = new EntityDrone();
+		entityDrone.setSerial_number(request.getSerial_number() == null ? StringUtil.generateUniqueId(7)
+				: request.getSerial_number());
+		entityDrone.setModel(drone.getModel());
+		entityDrone.setWeight_limit(request.getWeight_limit() == null ? drone.getWeightLimit()
+				: StringUtil.toInteger(request.getWeight_limit()));
+		entityDrone.setBattery_capacity(StringUtil.toInteger(request.getBattery_capacity()));
+		entityDrone.setState(request.getState() == null ? DroneState.IDLE
+				: DroneState.fromDescription(request.getState()));
+		return entityDrone;
+	}
+
+	/**
+	 * Reads the current entry only, and is not closed: that would close the
+	 * zip.
+	 */
+	private static BufferedReader entryReader(ZipInputStream zip)
+	{
+		return new BufferedReader(new InputStreamReader(zip, StandardCharsets.UTF_8));
+	}
+
+	private static byte[] readEntry(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = in.read(buffer)) != -1)
+		{
+			bytes.write(buffer, 0, read);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,286 @@
+package dev.iyare.service.drone.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.history.BatteryHistoryStore;
+import dev.iyare.service.drone.history.BatteryRollups;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.request.TelemetryRequest;
+import dev.iyare.service.drone.models.response.v2.TelemetryStatusView;
+import dev.iyare.service.drone.models.response.v2.TelemetryView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.telemetry.TelemetryRing;
+import dev.iyare.service.drone.utils.StringUtil;
+
+/**
+ * Takes battery readings pushed by drones. Request threads only publish
+ * readings to a {@link TelemetryRing}; a single consumer thread drains
+ * whatever has arrived, keeps the latest reading per drone and applies the
+ * batch in one transaction: one JDBC batch update of the drone table and the
+ * changed levels to the {@link BatteryHistoryStore}. The fleet registry and the
+ * rollups are updated after the commit.
+ *
+ * <p>
+ * A batch is as large as what arrived while the previous one was being
+ * applied, so the faster readings come in, the more of them each transaction
+ * absorbs. When the ring is full a request waits up to
+ * {@code drone.telemetry.offer-timeout-ms} for room and then drops the
+ * readings that did not fit.
+ *
+ * <p>
+ * Only {@code battery_capacity} is written and the version is left alone, so
+ * telemetry never fails a concurrent load. History samples are stamped with
+ * the time the batch is applied.
+ */
+@Service
+public class TelemetryService implements SmartLifecycle
+{
+	private static final Log logger = LogFactory.getLog(TelemetryService.class);
+
+	DroneJdbcRepository droneJdbcRepository;
+	FleetRegistry fleetRegistry;
+	BatteryHistoryStore batteryHistoryStore;
+	BatteryRollups batteryRollups;
+	FleetJournal fleetJournal;
+	TransactionTemplate transactionTemplate;
+
+	@Value("${drone.telemetry.ring-size:65536}")
+	int ringSize;
+
+	@Value("${drone.telemetry.max-batch:65536}")
+	int maxBatch;
+
+	@Value("${drone.telemetry.offer-timeout-ms:100}")
+	long offerTimeoutMillis;
+
+	TelemetryRing ring;
+	Thread consumer;
+	volatile boolean running;
+	volatile boolean consumerParked;
+
+	final LongAdder accepted = new LongAdder();
+	final LongAdder dropped = new LongAdder();
+	volatile long applied;
+	volatile long batches;
+	volatile long unknown;
+	volatile long failures;
+	volatile int lastBatchReadings;
+	volatile int lastBatchDrones;
+	volatile long lastBatchMillis;
+
+	/** latest level per drone in the batch being drained; consumer thread only */
+	final Map<String, Integer> latest = new HashMap<String, Integer>();
+
+	public TelemetryService(DroneJdbcRepository droneJdbcRepository, FleetRegistry fleetRegistry,
+			BatteryHistoryStore batteryHistoryStore, BatteryRollups batteryRollups, FleetJournal fleetJournal,
+			PlatformTransactionManager transactionManager)
+	{
+		this.droneJdbcRepository = droneJdbcRepository;
+		this.fleetRegistry = fleetRegistry;
+		this.batteryHistoryStore = batteryHistoryStore;
+		this.batteryRollups = batteryRollups;
+		this.fleetJournal = fleetJournal;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Publishes the valid readings of {@code readings} and adds the outcome to
+	 * {@code counts}.
+	 */
+	public void offer(List<TelemetryRequest> readings, TelemetryView counts)
+	{
+		List<String> serialNumbers = new ArrayList<String>(readings.size());
+		int[] levels = new int[readings.size()];
+		for (TelemetryRequest reading : readings)
+		{
+			String serialNumber = reading.getSerial_number();
+			Integer level = StringUtil.toInteger(reading.getBattery_capacity());
+			if (serialNumber == null || serialNumber.isEmpty() || level == null || level < 0 || level > 100)
+				continue;
+
+			levels[serialNumbers.size()] = level;
+			serialNumbers.add(serialNumber);
+		}
+
+		int published = publish(serialNumbers, levels);
+		counts.add(published, readings.size() - serialNumbers.size(), serialNumbers.size() - published);
+		accepted.add(published);
+		dropped.add(serialNumbers.size() - published);
+	}
+
+	private int publish(List<String> serialNumbers, int[] levels)
+	{
+		int count = serialNumbers.size();
+		int offset = 0;
+		long deadline = 0;
+
+		while (offset < count && running)
+		{
+			int free = (int) Math.min(count - offset, ring.capacity() - ring.backlog());
+			long first = free > 0 ? ring.tryClaim(free) : -1;
+			if (first >= 0)
+			{
+				for (int i = 0; i < free; i++)
+				{
+					ring.publish(first + i, serialNumbers.get(offset + i), levels[offset + i]);
+				}
+				offset += free;
+				if (consumerParked)
+					LockSupport.unpark(consumer);
+				continue;
+			}
+
+			long now = System.nanoTime();
+			if (deadline == 0)
+				deadline = now + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+			else if (now >= deadline)
+				break;
+			LockSupport.unpark(consumer);
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+		return offset;
+	}
+
+	/**
+	 * The consumer thread's loop; returns once stopped and drained.
+	 */
+	void consume()
+	{
+		while (true)
+		{
+			int drained = ring.drain(maxBatch, (serialNumber, level) -> latest.put(serialNumber, level));
+			if (drained > 0)
+			{
+				apply(drained);
+				continue;
+			}
+
+			if (!running && ring.backlog() == 0)
+				return;
+
+			// park until a producer publishes; a claimed but unpublished slot is
+			// only a few stores away
+			consumerParked = true;
+			if (ring.backlog() == 0)
+				LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+			else
+				Thread.yield();
+			consumerParked = false;
+		}
+	}
+
+	private void apply(int readings)
+	{
+		long start = System.currentTimeMillis();
+		final List<DroneSnapshot> changed = new ArrayList<DroneSnapshot>();
+		int drones = latest.size();
+
+		for (Map.Entry<String, Integer> reading : latest.entrySet())
+		{
+			DroneSnapshot drone = fleetRegistry.get(reading.getKey());
+			if (drone == null)
+				unknown++;
+			else if (!reading.getValue().equals(drone.getBattery_capacity()))
+				changed.add(drone.withBattery(reading.getValue()));
+		}
+		latest.clear();
+
+		try
+		{
+			transactionTemplate.executeWithoutResult(status ->
+			{
+				droneJdbcRepository.setBatteries(changed);
+				batteryHistoryStore.record(changed, start);
+				fleetJournal.appendBatteries(changed);
+			});
+
+			for (DroneSnapshot drone : changed)
+			{
+				fleetRegistry.putBattery(drone.getSerial_number(), drone.getBattery_capacity());
+			}
+			batteryRollups.add(changed, start);
+		} catch (Exception e)
+		{
+			failures++;
+			logger.error("Applying " + readings + " telemetry reading(s) failed", e);
+		}
+
+		applied += readings;
+		batches++;
+		lastBatchReadings = readings;
+		lastBatchDrones = drones;
+		lastBatchMillis = System.currentTimeMillis() - start;
+	}
+
+	public TelemetryStatusView status()
+	{
+		return new TelemetryStatusView(running, ring == null ? 0 : ring.capacity(),
+				ring == null ? 0 : ring.backlog(), accepted.sum(), dropped.sum(), applied, batches, unknown, failures,
+				lastBatchReadings, lastBatchDrones, lastBatchMillis);
+	}
+
+	@Override
+	public void start()
+	{
+		ring = new TelemetryRing(ringSize);
+		running = true;
+		consumer = new Thread(this::consume, "telemetry");
+		consumer.setDaemon(true);
+		consumer.start();
+	}
+
+	/**
+	 * Stops taking readings and waits for the consumer to apply the ones
+	 * already published.
+	 */
+	@Override
+	public void stop()
+	{
+		running = false;
+		if (consumer == null)
+			return;
+
+		LockSupport.unpark(consumer);
+		try
+		{
+			consumer.join(TimeUnit.SECONDS.toMillis(10));
+			if (consumer.isAlive())
+				logger.warn("Telemetry consumer did not drain within 10s, " + ring.backlog() + " reading(s) left");
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	/**
+	 * After the fleet registry and the battery rollups are filled, and stopped
+	 * before them.
+	 */
+	@Override
+	public int getPhase()
+	{
+		return 2;
+	}
+}
@@ -0,0 +1,114 @@
+package dev.iyare.service.drone.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded ring of battery readings with any number of producers and a single
+ * consumer. Slots are preallocated parallel arrays, so publishing a reading
+ * allocates nothing.
+ *
+ * <p>
+ * A producer claims a run of sequence numbers with one CAS on {@link #claimed},
+ * fills the slots and publishes each one by storing its sequence number in
+ * {@link #published}. The consumer reads slots in sequence order while they are
+ * published and then moves {@link #consumed} past them, which frees them for
+ * producers. A claim that would overrun the consumer fails instead of waiting.
+ */
+public final class TelemetryRing
+{
+	public interface ReadingHandler
+	{
+		void accept(String serialNumber, int level);
+	}
+
+	final int mask;
+	final String[] serialNumbers;
+	final int[] levels;
+	final AtomicLongArray published;
+
+	final AtomicLong claimed = new AtomicLong();
+	volatile long consumed;
+
+	/**
+	 * @param capacity rounded up to a power of two
+	 */
+	public TelemetryRing(int capacity)
+	{
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.mask = size - 1;
+		this.serialNumbers = new String[size];
+		this.levels = new int[size];
+		this.published = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++)
+		{
+			published.set(i, -1);
+		}
+	}
+
+	public int capacity()
+	{
+		return mask + 1;
+	}
+
+	/**
+	 * @return the first of {@code count} claimed sequence numbers, or -1 if
+	 *         that many slots are not free
+	 */
+	public long tryClaim(int count)
+	{
+		while (true)
+		{
+			long first = claimed.get();
+			if (first + count - consumed > capacity())
+				return -1;
+			if (claimed.compareAndSet(first, first + count))
+				return first;
+		}
+	}
+
+	/**
+	 * Fills and publishes a claimed slot.
+	 */
+	public void publish(long sequence, String serialNumber, int level)
+	{
+		int slot = (int) sequence & mask;
+		serialNumbers[slot] = serialNumber;
+		levels[slot] = level;
+		published.lazySet(slot, sequence);
+	}
+
+	/**
+	 * Hands the published readings after the last drained one, at most
+	 * {@code max}, to {@code handler} in sequence order, then frees their
+	 * slots. Only the consumer thread may call this.
+	 *
+	 * @return the number of readings drained
+	 */
+	public int drain(int max, ReadingHandler handler)
+	{
+		long next = consumed;
+		int drained = 0;
+		while (drained < max)
+		{
+			int slot = (int) next & mask;
+			if (published.get(slot) != next)
+				break;
+
+			handler.accept(serialNumbers[slot], levels[slot]);
+			serialNumbers[slot] = null;
+			next++;
+			drained++;
+		}
+		consumed = next;
+		return drained;
+	}
+
+	/**
+	 * @return readings claimed and not yet drained
+	 */
+	public long backlog()
+	{
+		return claimed.get() - consumed;
+	}
+}
@@ -0,0 +1,61 @@
+package dev.iyare.service.drone.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes read from the wrapped stream and fails with a
+ * {@link RequestLimitException} once more than {@code maxBytes} have been
+ * consumed, so an oversized body is never buffered in full.
+ */
+public class BoundedInputStream extends FilterInputStream
+{
+	private final long maxBytes;
+	private long count;
+
+	public BoundedInputStream(InputStream in, long maxBytes)
+	{
+		super(in);
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public int read() throws IOException
+	{
+		int b = super.read();
+		if (b != -1)
+			count(1);
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException
+	{
+		int n = super.read(b, off, len);
+		if (n > 0)
+			count(n);
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException
+	{
+		long skipped = super.skip(n);
+		count(skipped);
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported()
+	{
+		return false;
+	}
+
+	private void count(long n) throws RequestLimitException
+	{
+		count += n;
+		if (count > maxBytes)
+			throw new RequestLimitException("Request body exceeds " + maxBytes + " bytes");
+	}
+}
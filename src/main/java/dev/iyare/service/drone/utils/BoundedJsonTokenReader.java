@@ -0,0 +1,96 @@
+package dev.iyare.service.drone.utils;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Fails with a {@link RequestLimitException} as soon as one JSON token, i.e. a
+ * string, name, number or lenient unquoted literal, runs past
+ * {@code maxTokenChars}, so a parser reading through it never buffers an
+ * oversized value in full. Characters are counted as written, escapes
+ * included.
+ */
+public class BoundedJsonTokenReader extends FilterReader
+{
+	private final int maxTokenChars;
+	private int length;
+	private char quote;
+	private boolean escaped;
+
+	public BoundedJsonTokenReader(Reader in, int maxTokenChars)
+	{
+		super(in);
+		this.maxTokenChars = maxTokenChars;
+	}
+
+	@Override
+	public int read() throws IOException
+	{
+		int c = super.read();
+		if (c != -1)
+			scan((char) c);
+		return c;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException
+	{
+		int n = super.read(cbuf, off, len);
+		for (int i = off; i < off + n; i++)
+		{
+			scan(cbuf[i]);
+		}
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException
+	{
+		// skipped characters are scanned too
+		char[] skipped = new char[(int) Math.min(n, 8192)];
+		long total = 0;
+		int read;
+		while (total < n && (read = read(skipped, 0, (int) Math.min(n - total, skipped.length))) != -1)
+		{
+			total += read;
+		}
+		return total;
+	}
+
+	@Override
+	public boolean markSupported()
+	{
+		return false;
+	}
+
+	private void scan(char c) throws RequestLimitException
+	{
+		if (quote != 0)
+		{
+			if (escaped)
+				escaped = false;
+			else if (c == '\\')
+				escaped = true;
+			else if (c == quote)
+			{
+				quote = 0;
+				length = 0;
+				return;
+			}
+		} else if (c == '"' || c == '\'')
+		{
+			quote = c;
+			length = 0;
+			return;
+		} else if (c <= ' ' || c == '{' || c == '}' || c == '[' || c == ']' || c == ',' || c == ':' || c == ';'
+				|| c == '=')
+		{
+			length = 0;
+			return;
+		}
+
+		if (++length > maxTokenChars)
+			throw new RequestLimitException("JSON value exceeds " + maxTokenChars + " characters");
+	}
+}
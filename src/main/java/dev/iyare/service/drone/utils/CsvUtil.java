@@ -0,0 +1,148 @@
+package dev.iyare.service.drone.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV, one field or one record at a time, so rows stream through
+ * without a line or a file ever being held whole. A field is quoted only when
+ * it holds a comma, a quote or a line break; a null field is written empty and
+ * an empty field is read back as null. A reader can cap the length of a
+ * field, which is checked as the field is read.
+ */
+public class CsvUtil
+{
+	/**
+	 * Writes one field, preceded by a comma unless it is the first of its
+	 * record.
+	 */
+	public static void writeField(Writer out, String value, boolean first) throws IOException
+	{
+		if (!first)
+			out.write(',');
+		if (value == null || value.isEmpty())
+			return;
+
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++)
+		{
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote)
+		{
+			out.write(value);
+			return;
+		}
+
+		out.write('"');
+		int start = 0;
+		for (int i = 0; i < value.length(); i++)
+		{
+			if (value.charAt(i) == '"')
+			{
+				out.write(value, start, i + 1 - start);
+				out.write('"');
+				start = i + 1;
+			}
+		}
+		out.write(value, start, value.length() - start);
+		out.write('"');
+	}
+
+	public static void writeRow(Writer out, String... values) throws IOException
+	{
+		for (int i = 0; i < values.length; i++)
+		{
+			writeField(out, values[i], i == 0);
+		}
+		out.write('\n');
+	}
+
+	/**
+	 * Reads the next record into {@code fields}, which is cleared first.
+	 * Records end with LF or CRLF; line breaks inside quotes are kept. Blank
+	 * lines are skipped. {@code buffer} is scratch space, reused across calls.
+	 *
+	 * @return false at the end of the input
+	 */
+	public static boolean readRow(Reader in, List<String> fields, StringBuilder buffer) throws IOException
+	{
+		return readRow(in, fields, buffer, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Like {@link #readRow(Reader, List, StringBuilder)}, failing with a
+	 * {@link RequestLimitException} as soon as a field runs past
+	 * {@code maxFieldChars}.
+	 */
+	public static boolean readRow(Reader in, List<String> fields, StringBuilder buffer, int maxFieldChars)
+			throws IOException
+	{
+		fields.clear();
+		buffer.setLength(0);
+
+		boolean quoted = false, wasQuoted = false;
+		int c;
+		while ((c = in.read()) != -1)
+		{
+			if (quoted)
+			{
+				if (c != '"')
+				{
+					append(buffer, (char) c, maxFieldChars);
+					continue;
+				}
+				if ((c = in.read()) == '"')
+				{
+					append(buffer, '"', maxFieldChars);
+					continue;
+				}
+				quoted = false;
+				if (c == -1)
+					break;
+				// text after a closing quote is kept, as most readers do
+			}
+
+			if (c == '\r')
+				continue;
+			if (c == '\n')
+			{
+				if (fields.isEmpty() && buffer.length() == 0 && !wasQuoted)
+					continue;
+				fields.add(field(buffer, wasQuoted));
+				return true;
+			}
+			if (c == ',')
+			{
+				fields.add(field(buffer, wasQuoted));
+				buffer.setLength(0);
+				wasQuoted = false;
+			} else if (c == '"' && buffer.length() == 0 && !wasQuoted)
+				quoted = wasQuoted = true;
+			else
+				append(buffer, (char) c, maxFieldChars);
+		}
+
+		if (quoted)
+			throw new IOException("Unterminated quoted CSV field");
+		if (fields.isEmpty() && buffer.length() == 0 && !wasQuoted)
+			return false;
+		fields.add(field(buffer, wasQuoted));
+		return true;
+	}
+
+	private static void append(StringBuilder buffer, char c, int maxFieldChars) throws RequestLimitException
+	{
+		if (buffer.length() == maxFieldChars)
+			throw new RequestLimitException("CSV field exceeds " + maxFieldChars + " characters");
+		buffer.append(c);
+	}
+
+	private static String field(StringBuilder buffer, boolean wasQuoted)
+	{
+		return buffer.length() == 0 && !wasQuoted ? null : buffer.toString();
+	}
+}
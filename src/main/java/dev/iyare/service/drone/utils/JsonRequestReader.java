@@ -0,0 +1,269 @@
+package dev.iyare.service.drone.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.iyare.service.drone.models.request.LoadDroneRequest;
+import dev.iyare.service.drone.models.request.LoadedDroneRequest;
+import dev.iyare.service.drone.models.request.MedicationRequest;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.models.request.TelemetryRequest;
+
+/**
+ * Reads request DTOs straight off the request body with a {@link JsonReader},
+ * without first buffering the body into a String or a JSON tree.
+ *
+ * Size limits are checked as the body streams in: the whole body is capped by
+ * a {@link BoundedInputStream}, every JSON value, the image included, by a
+ * {@link BoundedJsonTokenReader}, and the medication count is checked per
+ * element, so oversized loads fail early with a {@link RequestLimitException}
+ * before the value that breaks the limit is buffered in full.
+ */
+@Component
+public class JsonRequestReader
+{
+	private final long maxBodyBytes;
+	private final int maxMedications;
+	private final int maxImageChars;
+	private final int maxBatchItems;
+
+	public JsonRequestReader(@Value("${drone.request.max-body-bytes:4194304}") long maxBodyBytes,
+			@Value("${drone.request.max-medications:50}") int maxMedications,
+			@Value("${drone.request.max-image-chars:${drone.request.max-image-bytes:1048576}}") int maxImageChars,
+			@Value("${drone.request.max-batch-items:20000}") int maxBatchItems)
+	{
+		this.maxBodyBytes = maxBodyBytes;
+		this.maxMedications = maxMedications;
+		this.maxImageChars = maxImageChars;
+		this.maxBatchItems = maxBatchItems;
+	}
+
+	/**
+	 * Reads one element of a batch body.
+	 */
+	public interface ElementReader<T>
+	{
+		T read(JsonReader reader) throws IOException;
+	}
+
+	/**
+	 * Reads a batch body that is either a JSON array or NDJSON (one object per
+	 * line) and hands the elements to {@code handler} in chunks of
+	 * {@code chunkSize}, so at most one chunk is held in memory at a time.
+	 *
+	 * @return the number of elements read
+	 */
+	public <T> int readBatch(InputStream body, int chunkSize, ElementReader<T> elementReader,
+			Consumer<List<T>> handler) throws IOException
+	{
+		JsonReader reader = open(body);
+		List<T> chunk = new ArrayList<T>(chunkSize);
+		int count = 0;
+
+		boolean array = reader.peek() == JsonToken.BEGIN_ARRAY;
+		if (array)
+			reader.beginArray();
+
+		while (array ? reader.hasNext() : reader.peek() != JsonToken.END_DOCUMENT)
+		{
+			if (count == maxBatchItems)
+				throw new RequestLimitException("Too many items in batch, the limit is " + maxBatchItems);
+
+			chunk.add(elementReader.read(reader));
+			count++;
+
+			if (chunk.size() == chunkSize)
+			{
+				handler.accept(chunk);
+				chunk = new ArrayList<T>(chunkSize);
+			}
+		}
+
+		if (array)
+			reader.endArray();
+
+		if (chunk.isEmpty() == false)
+			handler.accept(chunk);
+
+		return count;
+	}
+
+	public JsonReader open(InputStream body)
+	{
+		JsonReader reader = new JsonReader(new BoundedJsonTokenReader(
+				new InputStreamReader(new BoundedInputStream(body, maxBodyBytes), StandardCharsets.UTF_8),
+				maxImageChars));
+		reader.setLenient(true);
+		return reader;
+	}
+
+	public RegisterDroneRequest readRegisterDroneRequest(InputStream body) throws IOException
+	{
+		return readRegisterDroneRequest(open(body));
+	}
+
+	public RegisterDroneRequest readRegisterDroneRequest(JsonReader reader) throws IOException
+	{
+		String serialNumber = null, model = null, weightLimit = null, batteryCapacity = null, state = null;
+
+		reader.beginObject();
+		while (reader.hasNext())
+		{
+			String name = reader.nextName();
+			if ("serial_number".equals(name))
+				serialNumber = nextString(reader);
+			else if ("model".equals(name))
+				model = nextString(reader);
+			else if ("weight_limit".equals(name))
+				weightLimit = nextString(reader);
+			else if ("battery_capacity".equals(name))
+				batteryCapacity = nextString(reader);
+			else if ("state".equals(name))
+				state = nextString(reader);
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+
+		return new RegisterDroneRequest(serialNumber, model, weightLimit, batteryCapacity, state);
+	}
+
+	public TelemetryRequest readTelemetryRequest(JsonReader reader) throws IOException
+	{
+		String serialNumber = null, batteryCapacity = null;
+
+		reader.beginObject();
+		while (reader.hasNext())
+		{
+			String name = reader.nextName();
+			if ("serial_number".equals(name))
+				serialNumber = nextString(reader);
+			else if ("battery_capacity".equals(name))
+				batteryCapacity = nextString(reader);
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+
+		return new TelemetryRequest(serialNumber, batteryCapacity);
+	}
+
+	public LoadedDroneRequest readLoadedDroneRequest(InputStream body) throws IOException
+	{
+		JsonReader reader = open(body);
+		LoadedDroneRequest request = new LoadedDroneRequest();
+
+		reader.beginObject();
+		while (reader.hasNext())
+		{
+			if ("serial_number".equals(reader.nextName()))
+				request.setSerial_number(nextString(reader));
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+
+		return request;
+	}
+
+	public LoadDroneRequest readLoadDroneRequest(InputStream body) throws IOException
+	{
+		return readLoadDroneRequest(open(body));
+	}
+
+	public LoadDroneRequest readLoadDroneRequest(JsonReader reader) throws IOException
+	{
+		LoadDroneRequest request = new LoadDroneRequest();
+
+		reader.beginObject();
+		while (reader.hasNext())
+		{
+			String name = reader.nextName();
+			if ("serial_number".equals(name))
+				request.setSerial_number(nextString(reader));
+			else if ("medications".equals(name))
+				request.setMedications(readMedications(reader));
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+
+		return request;
+	}
+
+	public List<MedicationRequest> readMedications(JsonReader reader) throws IOException
+	{
+		if (reader.peek() == JsonToken.NULL)
+		{
+			reader.nextNull();
+			return null;
+		}
+
+		List<MedicationRequest> medications = new ArrayList<MedicationRequest>();
+
+		reader.beginArray();
+		while (reader.hasNext())
+		{
+			if (medications.size() == maxMedications)
+				throw new RequestLimitException("Too many medications, the limit is " + maxMedications);
+
+			medications.add(readMedication(reader));
+		}
+		reader.endArray();
+
+		return medications;
+	}
+
+	public MedicationRequest readMedication(JsonReader reader) throws IOException
+	{
+		MedicationRequest medication = new MedicationRequest();
+
+		reader.beginObject();
+		while (reader.hasNext())
+		{
+			String name = reader.nextName();
+			if ("name".equals(name))
+				medication.setName(nextString(reader));
+			else if ("weight".equals(name))
+				medication.setWeight(nextString(reader));
+			else if ("code".equals(name))
+				medication.setCode(nextString(reader));
+			else if ("image".equals(name))
+				medication.setImage(nextString(reader));
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+
+		return medication;
+	}
+
+	/**
+	 * Strings, numbers and booleans are all read as text, the same way Gson
+	 * binds them onto the String fields of the request DTOs.
+	 */
+	static String nextString(JsonReader reader) throws IOException
+	{
+		JsonToken token = reader.peek();
+		if (token == JsonToken.NULL)
+		{
+			reader.nextNull();
+			return null;
+		}
+		if (token == JsonToken.BOOLEAN)
+			return Boolean.toString(reader.nextBoolean());
+
+		return reader.nextString();
+	}
+}
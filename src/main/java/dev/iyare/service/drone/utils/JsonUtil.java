@@ -1,46 +1,229 @@
 package dev.iyare.service.drone.utils;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Created by ochoge on 9/21/15.
+ *
+ * The {@link Gson} instance, the exclusion decisions and the
+ * {@link TypeAdapter}s are built once and shared; all of them are thread-safe,
+ * so callers should never construct their own Gson.
  */
 public class JsonUtil
 {
+	public static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
 
-	public static Gson getGson()
+	private static final Gson GSON = createGson();
+
+	/**
+	 * Gson with its defaults, for {@link #fromJsonStringToList}, which has
+	 * never applied the exclusion strategy or the date format.
+	 */
+	private static final Gson PLAIN_GSON = new Gson();
+
+	private static Gson createGson()
 	{
+		SuperclassExclusionStrategy exclusionStrategy = new SuperclassExclusionStrategy();
+
 		GsonBuilder builder = new GsonBuilder();
-		builder.addDeserializationExclusionStrategy(new SuperclassExclusionStrategy());
-		builder.addSerializationExclusionStrategy(new SuperclassExclusionStrategy());
-		builder.setDateFormat("yyyy-MM-dd HH:mm:ss");
-		Gson gson = builder.create();
-		return gson;
+		builder.addDeserializationExclusionStrategy(exclusionStrategy);
+		builder.addSerializationExclusionStrategy(exclusionStrategy);
+		builder.registerTypeAdapter(Date.class, new DateTimeTypeAdapter<Date>()
+		{
+			@Override
+			Date create(long epochMillis)
+			{
+				return new Date(epochMillis);
+			}
+		});
+		builder.registerTypeAdapter(java.sql.Timestamp.class, new DateTimeTypeAdapter<java.sql.Timestamp>()
+		{
+			@Override
+			java.sql.Timestamp create(long epochMillis)
+			{
+				return new java.sql.Timestamp(epochMillis);
+			}
+		});
+		builder.registerTypeAdapter(java.sql.Date.class, new DateTimeTypeAdapter<java.sql.Date>()
+		{
+			@Override
+			java.sql.Date create(long epochMillis)
+			{
+				return new java.sql.Date(epochMillis);
+			}
+		});
+		return builder.create();
+	}
+
+	public static Gson getGson()
+	{
+		return GSON;
+	}
+
+	/**
+	 * The shared Gson's adapter for the class; Gson caches it, so this is cheap
+	 * to call per request.
+	 */
+	public static <T> TypeAdapter<T> getAdapter(Class<T> clazz)
+	{
+		return GSON.getAdapter(clazz);
 	}
 
 	public static <T> T fromJson(String json, Class<T> clazz)
 	{
+		if (json == null)
+			return null;
 
-		return getGson().fromJson(json, clazz);
+		return fromJson(new StringReader(json), clazz);
+	}
+
+	public static <T> T fromJson(Reader json, Class<T> clazz)
+	{
+		return fromJson(GSON.newJsonReader(json), clazz);
+	}
+
+	/**
+	 * Reads the whole document as one value, like {@link Gson#fromJson(Reader,
+	 * Class)}: anything but whitespace after the value is a
+	 * {@link JsonSyntaxException}.
+	 */
+	public static <T> T fromJson(JsonReader reader, Class<T> clazz)
+	{
+		boolean lenient = reader.isLenient();
+		reader.setLenient(true);
+		boolean empty = true;
+		try
+		{
+			reader.peek();
+			empty = false;
+
+			T value = getAdapter(clazz).read(reader);
+			if (reader.peek() != JsonToken.END_DOCUMENT)
+				throw new JsonSyntaxException("JSON document was not fully consumed.");
+			return value;
+		} catch (EOFException e)
+		{
+			// an empty document is null, one that ends mid-value is not
+			if (empty)
+				return null;
+			throw new JsonSyntaxException(e);
+		} catch (IllegalStateException e)
+		{
+			throw new JsonSyntaxException(e);
+		} catch (IOException e)
+		{
+			throw new JsonSyntaxException(e);
+		} finally
+		{
+			reader.setLenient(lenient);
+		}
+	}
+
+	/**
+	 * Parses a date the way dates in request bodies are read: either
+	 * {@link #DATE_FORMAT} in the system time zone, or ISO 8601.
+	 *
+	 * @return epoch milliseconds
+	 * @throws IllegalArgumentException if it is neither
+	 */
+	public static long parseDate(String value)
+	{
+		try
+		{
+			return DateTimeTypeAdapter.parse(value);
+		} catch (ParseException e)
+		{
+			throw new IllegalArgumentException("Invalid date: " + value);
+		}
 	}
 
 	public static <T> String toJson(T object)
 	{
-		return getGson().toJson(object);
+		StringWriter writer = new StringWriter();
+		toJson(object, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Writes the object straight to the given writer, without an intermediate
+	 * String.
+	 */
+	public static <T> void toJson(T object, Writer writer)
+	{
+		try
+		{
+			JsonWriter jsonWriter = newJsonWriter(writer);
+			toJson(object, jsonWriter);
+			jsonWriter.flush();
+		} catch (IOException e)
+		{
+			throw new JsonIOException(e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> void toJson(T object, JsonWriter writer) throws IOException
+	{
+		if (object == null)
+		{
+			writer.nullValue();
+			return;
+		}
+		((TypeAdapter<T>) getAdapter(object.getClass())).write(writer, object);
+	}
+
+	/**
+	 * A {@link JsonWriter} configured exactly like the one {@link Gson#toJson}
+	 * would use, so output stays byte-for-byte identical.
+	 */
+	public static JsonWriter newJsonWriter(Writer writer) throws IOException
+	{
+		JsonWriter jsonWriter = GSON.newJsonWriter(writer);
+		jsonWriter.setHtmlSafe(GSON.htmlSafe());
+		jsonWriter.setLenient(true);
+		return jsonWriter;
 	}
 
 	public static <T> List<T> fromJsonAsList(String json, Class<T> clazz)
@@ -48,7 +231,7 @@ public class JsonUtil
 		Type type = new TypeToken<ArrayList<T>>()
 		{
 		}.getType();
-		ArrayList<T> list = getGson().fromJson(json, type);
+		ArrayList<T> list = GSON.fromJson(json, type);
 		return list;
 	}
 
@@ -57,13 +240,13 @@ public class JsonUtil
 		Type type = new TypeToken<HashSet<T>>()
 		{
 		}.getType();
-		Set<T> set = getGson().fromJson(json, type);
+		Set<T> set = GSON.fromJson(json, type);
 		return set;
 	}
 
 	public static <T> List<T> fromJsonStringToList(String s, Class<T[]> clazz)
 	{
-		T[] arr = new Gson().fromJson(s, clazz);
+		T[] arr = PLAIN_GSON.fromJson(s, clazz);
 		return Arrays.asList(arr);
 	}
 
@@ -72,20 +255,27 @@ public class JsonUtil
 		Type type = new TypeToken<HashMap<String, T>>()
 		{
 		}.getType();
-		Map<String, T> map = getGson().fromJson(json, type);
+		Map<String, T> map = GSON.fromJson(json, type);
 		return map;
 	}
 
 	public static <T, S> T convert(S object, Class<T> tClass)
 	{
-		String json = toJson(object);
-		T expected = fromJson(json, tClass);
-		return expected;
+		if (object == null)
+			return null;
+
+		return getAdapter(tClass).fromJsonTree(getGson().toJsonTree(object));
 	}
 }
 
 class SuperclassExclusionStrategy implements ExclusionStrategy
 {
+	/**
+	 * Names of the fields declared anywhere above a class, resolved once per
+	 * class.
+	 */
+	private final ConcurrentMap<Class<?>, Set<String>> inheritedFieldNames = new ConcurrentHashMap<Class<?>, Set<String>>();
+
 	public boolean shouldSkipClass(Class<?> arg0)
 	{
 		return false;
@@ -101,30 +291,116 @@ class SuperclassExclusionStrategy implements ExclusionStrategy
 
 	private boolean isFieldInSuperclass(Class<?> subclass, String fieldName)
 	{
+		Set<String> names = inheritedFieldNames.get(subclass);
+		if (names == null)
+		{
+			names = collectInheritedFieldNames(subclass);
+			Set<String> existing = inheritedFieldNames.putIfAbsent(subclass, names);
+			if (existing != null)
+				names = existing;
+		}
+		return names.contains(fieldName);
+	}
+
+	private Set<String> collectInheritedFieldNames(Class<?> subclass)
+	{
+		Set<String> names = new HashSet<String>();
 		Class<?> superclass = subclass.getSuperclass();
-		Field field;
 
 		while (superclass != null)
 		{
-			field = getField(superclass, fieldName);
+			for (Field field : superclass.getDeclaredFields())
+			{
+				names.add(field.getName());
+			}
+			superclass = superclass.getSuperclass();
+		}
 
-			if (field != null)
-				return true;
+		return Collections.unmodifiableSet(names);
+	}
+}
 
-			superclass = superclass.getSuperclass();
+/**
+ * Formats dates as {@link JsonUtil#DATE_FORMAT} with an immutable
+ * {@link DateTimeFormatter} instead of a shared, synchronized
+ * {@code SimpleDateFormat}. ISO-8601 input is still accepted when reading.
+ */
+abstract class DateTimeTypeAdapter<T extends Date> extends TypeAdapter<T>
+{
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(JsonUtil.DATE_FORMAT, Locale.US);
+
+	/**
+	 * A date, optionally followed by a time and an offset of {@code Z},
+	 * {@code +hh:mm} or {@code +hhmm}.
+	 */
+	private static final DateTimeFormatter ISO_8601 = new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_LOCAL_DATE)
+			.optionalStart().appendLiteral('T').append(DateTimeFormatter.ISO_LOCAL_TIME)
+			.optionalStart().appendOffset("+HH:MM", "Z").optionalEnd()
+			.optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+			.optionalEnd()
+			.toFormatter(Locale.US);
+
+	abstract T create(long epochMillis);
+
+	@Override
+	public void write(JsonWriter out, T value) throws IOException
+	{
+		if (value == null)
+		{
+			out.nullValue();
+			return;
 		}
+		out.value(FORMATTER.format(Instant.ofEpochMilli(value.getTime()).atZone(ZoneId.systemDefault())));
+	}
 
-		return false;
+	@Override
+	public T read(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+
+		String value = in.nextString();
+		try
+		{
+			return create(parse(value));
+		} catch (ParseException e)
+		{
+			throw new JsonSyntaxException(value, e);
+		}
 	}
 
-	private Field getField(Class<?> theClass, String fieldName)
+	/**
+	 * Parses {@link JsonUtil#DATE_FORMAT} in the system time zone, or ISO 8601.
+	 * An ISO 8601 value without an offset is taken as UTC.
+	 *
+	 * @return epoch milliseconds
+	 */
+	static long parse(String value) throws ParseException
 	{
 		try
 		{
-			return theClass.getDeclaredField(fieldName);
-		} catch (Exception e)
+			return LocalDateTime.parse(value, FORMATTER).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		} catch (DateTimeParseException e)
 		{
-			return null;
+			// not the response format, try ISO 8601
+		}
+
+		try
+		{
+			TemporalAccessor parsed = ISO_8601.parseBest(value, OffsetDateTime::from, LocalDateTime::from,
+					LocalDate::from);
+			if (parsed instanceof OffsetDateTime)
+				return ((OffsetDateTime) parsed).toInstant().toEpochMilli();
+			if (parsed instanceof LocalDateTime)
+				return ((LocalDateTime) parsed).toInstant(ZoneOffset.UTC).toEpochMilli();
+			return ((LocalDate) parsed).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+		} catch (DateTimeParseException e)
+		{
+			throw new ParseException("Not " + JsonUtil.DATE_FORMAT + " or ISO 8601: " + value, e.getErrorIndex());
 		}
 	}
-}
\ No newline at end of file
+}
@@ -4,16 +4,67 @@ import java.util.regex.Pattern;
 
 public class RegExPatternUtil
 {
-	public static String MED_NAME = "[a-zA-Z0-9\\s.-[._]]+"; // allowed only letters, numbers, ‘-‘, ‘_’
-	public static String MED_CODE = "[A-Z0-9\\s._]+"; // allowed only upper case letters, underscore and numbers’
+	public static final String MED_NAME = "[a-zA-Z0-9\\s.-[._]]+"; // allowed only letters, numbers, whitespace, ‘.‘, ‘-‘, ‘_’
+	public static final String MED_CODE = "[A-Z0-9\\s._]+"; // allowed only upper case letters, numbers, whitespace, ‘.‘, underscore
 
-	public static boolean matchMedName(String input)
+	public static final Pattern MED_NAME_PATTERN = Pattern.compile(MED_NAME);
+	public static final Pattern MED_CODE_PATTERN = Pattern.compile(MED_CODE);
+
+	/*
+	 * Both patterns are a single ASCII character class repeated one or more
+	 * times, so they reduce to a lookup table: no Matcher is allocated and every
+	 * character costs one array read.
+	 */
+	private static final boolean[] MED_NAME_CHARS = new boolean[128];
+	private static final boolean[] MED_CODE_CHARS = new boolean[128];
+
+	static
+	{
+		for (char c = 'A'; c <= 'Z'; c++)
+		{
+			MED_NAME_CHARS[c] = true;
+			MED_CODE_CHARS[c] = true;
+			MED_NAME_CHARS[Character.toLowerCase(c)] = true;
+		}
+		for (char c = '0'; c <= '9'; c++)
+		{
+			MED_NAME_CHARS[c] = true;
+			MED_CODE_CHARS[c] = true;
+		}
+		// \s in java.util.regex: space, \t, \n, \x0B, \f, \r
+		for (char c : new char[] { ' ', '\t', '\n', '\u000B', '\f', '\r', '.', '_' })
+		{
+			MED_NAME_CHARS[c] = true;
+			MED_CODE_CHARS[c] = true;
+		}
+		MED_NAME_CHARS['-'] = true;
+	}
+
+	public static boolean matchMedName(CharSequence input)
 	{
-		return Pattern.matches(MED_NAME, input);
+		return matches(MED_NAME_CHARS, input);
 	}
 
-	public static boolean matchMedCode(String input)
+	public static boolean matchMedCode(CharSequence input)
 	{
-		return Pattern.matches(MED_CODE, input);
+		return matches(MED_CODE_CHARS, input);
+	}
+
+	private static boolean matches(boolean[] allowed, CharSequence input)
+	{
+		if (input == null)
+			return false;
+
+		int length = input.length();
+		if (length == 0)
+			return false;
+
+		for (int i = 0; i < length; i++)
+		{
+			char c = input.charAt(i);
+			if (c >= allowed.length || allowed[c] == false)
+				return false;
+		}
+		return true;
 	}
 }
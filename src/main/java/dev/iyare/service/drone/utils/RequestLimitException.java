@@ -0,0 +1,17 @@
+package dev.iyare.service.drone.utils;
+
+import java.io.IOException;
+
+/**
+ * Thrown while a request body is still being read, as soon as it breaks one of
+ * the configured size limits.
+ */
+public class RequestLimitException extends IOException
+{
+	private static final long serialVersionUID = 1L;
+
+	public RequestLimitException(String message)
+	{
+		super(message);
+	}
+}
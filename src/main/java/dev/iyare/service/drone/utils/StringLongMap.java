@@ -0,0 +1,118 @@
+package dev.iyare.service.drone.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from String to primitive long, with linear probing
+ * over two parallel arrays. Unlike a {@code HashMap<String, Long>} it
+ * allocates no entry or boxed value per key, so a map with one entry per
+ * drone stays a few flat arrays however large the fleet gets.
+ *
+ * Not thread-safe. Keys are never removed.
+ */
+public class StringLongMap
+{
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private final long missing;
+
+	private String[] keys;
+	private long[] values;
+	private int size;
+	private int threshold;
+
+	/**
+	 * @param expectedSize
+	 *            number of keys to size the table for
+	 * @param missing
+	 *            value returned by {@link #get} for an absent key
+	 */
+	public StringLongMap(int expectedSize, long missing)
+	{
+		this.missing = missing;
+		allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+	}
+
+	public long get(String key)
+	{
+		int mask = keys.length - 1;
+		for (int slot = hash(key) & mask;; slot = (slot + 1) & mask)
+		{
+			String existing = keys[slot];
+			if (existing == null)
+				return missing;
+			if (existing.equals(key))
+				return values[slot];
+		}
+	}
+
+	public void put(String key, long value)
+	{
+		int mask = keys.length - 1;
+		for (int slot = hash(key) & mask;; slot = (slot + 1) & mask)
+		{
+			String existing = keys[slot];
+			if (existing == null)
+			{
+				keys[slot] = key;
+				values[slot] = value;
+				if (++size > threshold)
+					resize();
+				return;
+			}
+			if (existing.equals(key))
+			{
+				values[slot] = value;
+				return;
+			}
+		}
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	private void resize()
+	{
+		String[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(oldKeys.length * 2);
+
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldKeys[i] == null)
+				continue;
+
+			int slot = hash(oldKeys[i]) & mask;
+			while (keys[slot] != null)
+				slot = (slot + 1) & mask;
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new String[capacity];
+		values = new long[capacity];
+		Arrays.fill(values, missing);
+		threshold = (int) (capacity * LOAD_FACTOR);
+	}
+
+	private static int tableSizeFor(int size)
+	{
+		int capacity = 16;
+		while (capacity < size)
+			capacity <<= 1;
+		return capacity;
+	}
+
+	/** String hashes are cached; spread the high bits over the mask. */
+	private static int hash(String key)
+	{
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+}
@@ -22,4 +22,35 @@ public class StringUtil
 		return uId;
 	}
 
+	/**
+	 * @return the value as an integer, or null when it is missing or not a whole
+	 *         number
+	 */
+	public static Integer toInteger(String value)
+	{
+		if (value == null)
+			return null;
+
+		try
+		{
+			return Integer.valueOf(value.trim());
+		} catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Like {@link #toInteger(String)}, but a missing or malformed value fails
+	 * with a message naming the field.
+	 */
+	public static int parseInteger(String value, String fieldName)
+	{
+		Integer number = toInteger(value);
+		if (number == null)
+			throw new IllegalArgumentException("Invalid " + fieldName + ": " + value);
+
+		return number;
+	}
+
 }
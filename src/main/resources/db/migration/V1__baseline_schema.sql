@@ -0,0 +1,36 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+
+CREATE SEQUENCE "hibernate_sequence" START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE "battery_history" (
+    "id" BIGINT NOT NULL,
+    "version" INTEGER NOT NULL,
+    "battery_capacity" VARCHAR(255),
+    "date_audited" TIMESTAMP,
+    "serial_number" VARCHAR(255),
+    PRIMARY KEY ("id")
+);
+
+CREATE TABLE "drone" (
+    "id" BIGINT NOT NULL,
+    "version" INTEGER NOT NULL,
+    "battery_capacity" VARCHAR(255),
+    "model" VARCHAR(255),
+    "serial_number" VARCHAR(255),
+    "state" VARCHAR(255),
+    "weight_limit" VARCHAR(255),
+    PRIMARY KEY ("id")
+);
+
+CREATE TABLE "medication" (
+    "id" BIGINT NOT NULL,
+    "version" INTEGER NOT NULL,
+    "code" VARCHAR(255),
+    "drone_serial_number" VARCHAR(255),
+    "image" CLOB,
+    "name" VARCHAR(255),
+    "weight" VARCHAR(255),
+    PRIMARY KEY ("id")
+);
+
+ALTER TABLE "drone" ADD CONSTRAINT "UK_drone_serial_number" UNIQUE ("serial_number");
@@ -0,0 +1,17 @@
+-- weight_limit, battery_capacity and medication weight were stored as text.
+-- Values are trimmed; a value that is not then a whole number of up to nine
+-- digits cannot be converted without guessing, so the migration fails naming
+-- the first such row (the CAST of the message is what fails) instead of
+-- dropping it. Fix or clear those rows and run the migration again.
+
+UPDATE "drone" SET "weight_limit" = TRIM("weight_limit") WHERE "weight_limit" IS NOT NULL;
+SELECT CAST(CONCAT('Cannot convert drone.weight_limit of ', "serial_number", ': ', "weight_limit") AS INTEGER) FROM "drone" WHERE "weight_limit" IS NOT NULL AND NOT ("weight_limit" REGEXP '^[0-9]{1,9}$') LIMIT 1;
+ALTER TABLE "drone" ALTER COLUMN "weight_limit" INTEGER;
+
+UPDATE "drone" SET "battery_capacity" = TRIM("battery_capacity") WHERE "battery_capacity" IS NOT NULL;
+SELECT CAST(CONCAT('Cannot convert drone.battery_capacity of ', "serial_number", ': ', "battery_capacity") AS INTEGER) FROM "drone" WHERE "battery_capacity" IS NOT NULL AND NOT ("battery_capacity" REGEXP '^[0-9]{1,9}$') LIMIT 1;
+ALTER TABLE "drone" ALTER COLUMN "battery_capacity" INTEGER;
+
+UPDATE "medication" SET "weight" = TRIM("weight") WHERE "weight" IS NOT NULL;
+SELECT CAST(CONCAT('Cannot convert medication.weight of ', "code", ' (id ', "id", '): ', "weight") AS INTEGER) FROM "medication" WHERE "weight" IS NOT NULL AND NOT ("weight" REGEXP '^[0-9]{1,9}$') LIMIT 1;
+ALTER TABLE "medication" ALTER COLUMN "weight" INTEGER;
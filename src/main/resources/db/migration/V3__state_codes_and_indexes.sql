@@ -0,0 +1,18 @@
+-- drone.state becomes a SMALLINT holding DroneState.getCode(). Values that do
+-- not name a state are left NULL.
+
+ALTER TABLE "drone" ADD COLUMN "state_code" SMALLINT;
+UPDATE "drone" SET "state_code" = CASE UPPER(TRIM("state"))
+    WHEN 'IDLE' THEN 0
+    WHEN 'LOADING' THEN 1
+    WHEN 'LOADED' THEN 2
+    WHEN 'DELIVERING' THEN 3
+    WHEN 'DELIVERED' THEN 4
+    WHEN 'RETURNING' THEN 5
+END;
+ALTER TABLE "drone" DROP COLUMN "state";
+ALTER TABLE "drone" ALTER COLUMN "state_code" RENAME TO "state";
+
+CREATE INDEX "IDX_drone_state" ON "drone" ("state");
+CREATE INDEX "IDX_medication_drone_serial_number" ON "medication" ("drone_serial_number");
+CREATE INDEX "IDX_battery_history_serial_number_date_audited" ON "battery_history" ("serial_number", "date_audited");
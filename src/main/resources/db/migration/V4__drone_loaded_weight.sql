@@ -0,0 +1,6 @@
+-- Running total of the medication weight attached to each drone, kept in step
+-- with the medication table by the load path.
+
+ALTER TABLE "drone" ADD COLUMN "loaded_weight" INTEGER DEFAULT 0 NOT NULL;
+UPDATE "drone" SET "loaded_weight" = COALESCE((SELECT SUM(m."weight") FROM "medication" m
+    WHERE m."drone_serial_number" = "drone"."serial_number"), 0);
@@ -1,13 +1,34 @@
 package dev.iyare.service.drone;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class ApplicationTests {
 
+	@Value("${drone.journal.enabled}")
+	boolean journalEnabled;
+
+	@Value("${drone.journal.dir}")
+	String journalDirectory;
+
+	@Value("${drone.security.public-keys}")
+	String publicKeys;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void testsLayerTheirOwnPropertiesOverTheApplications() {
+		assertFalse(journalEnabled);
+		assertTrue(journalDirectory.contains("drone-test-"), journalDirectory);
+		// everything else still comes from src/main/resources
+		assertFalse(publicKeys.isEmpty());
+	}
+
 }
@@ -0,0 +1,90 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.iyare.service.drone.enums.Drone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.BatchPlanner;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+/**
+ * Plan time for a morning wave of {@value #ORDERS} orders over
+ * {@value #DRONES} drones spread evenly across the {@link Drone} models, with
+ * the model partitions packed on one thread and in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchPlannerBenchmark
+{
+	static final int ORDERS = 10000;
+	static final int DRONES = 5000;
+
+	@Param({ "1", "4" })
+	int parallelism;
+
+	ForkJoinPool pool;
+	BatchPlanner batchPlanner;
+	List<DroneSnapshot> drones;
+	int[] weights;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+		Drone[] models = Drone.values();
+
+		drones = new ArrayList<DroneSnapshot>(DRONES);
+		for (int i = 0; i < DRONES; i++)
+		{
+			Drone model = models[i % models.length];
+			drones.add(new DroneSnapshot((long) i, 0, "S" + i, model.getModel(), model.getWeightLimit(),
+					25 + random.nextInt(76), 0, DroneState.IDLE));
+		}
+
+		// one to four medications of 5g to 100g each
+		weights = new int[ORDERS];
+		for (int i = 0; i < ORDERS; i++)
+		{
+			for (int medications = 1 + random.nextInt(4); medications > 0; medications--)
+			{
+				weights[i] += 5 + random.nextInt(96);
+			}
+		}
+
+		pool = new ForkJoinPool(parallelism);
+		batchPlanner = new BatchPlanner(pool);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public BatchPlanner.Plan plan()
+	{
+		return batchPlanner.plan(drones, weights);
+	}
+}
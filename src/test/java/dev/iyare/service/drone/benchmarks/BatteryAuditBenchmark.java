@@ -0,0 +1,101 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.iyare.service.drone.entities.EntityBatteryHistory;
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.repositories.EntityBatteryHistoryRepository;
+import dev.iyare.service.drone.repositories.EntityDroneRepository;
+import dev.iyare.service.drone.service.BatteryAuditService;
+
+/**
+ * Duration of one battery audit against fleet size: the single
+ * INSERT ... SELECT now used by {@link BatteryAuditService}, and the previous
+ * load-every-entity, save-one-at-a-time loop. Each shot audits into an empty
+ * history table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BatteryAuditBenchmark
+{
+	static final long ID_OFFSET = 1000000000L;
+
+	@Param({ "1000", "10000", "50000" })
+	int drones;
+
+	ConfigurableApplicationContext context;
+	JdbcTemplate jdbcTemplate;
+	EntityDroneRepository entityDroneRepository;
+	EntityBatteryHistoryRepository entityBatteryHistoryRepository;
+	BatteryAuditService batteryAuditService;
+
+	@Setup(Level.Trial)
+	public void start()
+	{
+		context = BenchmarkContext.start();
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		entityDroneRepository = context.getBean(EntityDroneRepository.class);
+		entityBatteryHistoryRepository = context.getBean(EntityBatteryHistoryRepository.class);
+		batteryAuditService = context.getBean(BatteryAuditService.class);
+
+		jdbcTemplate.update("INSERT INTO \"drone\" (\"id\", \"version\", \"serial_number\", \"model\", \"weight_limit\", \"battery_capacity\", \"state\")"
+				+ " SELECT X + ?, 0, 'S' || X, 'HeavyWeight', 500, MOD(X, 100), 0 FROM SYSTEM_RANGE(0, ?)",
+				ID_OFFSET, drones - 1);
+	}
+
+	@Setup(Level.Iteration)
+	public void clearHistory()
+	{
+		jdbcTemplate.execute("TRUNCATE TABLE \"battery_history\"");
+	}
+
+	@TearDown(Level.Trial)
+	public void stop()
+	{
+		context.close();
+	}
+
+	@Benchmark
+	public int insertSelect()
+	{
+		return batteryAuditService.auditBatteries();
+	}
+
+	@Benchmark
+	public int saveEach()
+	{
+		List<EntityDrone> entityDroneList = entityDroneRepository.findAll();
+
+		for (EntityDrone entityDrone : entityDroneList)
+		{
+			EntityBatteryHistory entityBatteryHistory = new EntityBatteryHistory();
+			entityBatteryHistory.setBattery_capacity(String.valueOf(entityDrone.getBattery_capacity()));
+			entityBatteryHistory.setSerial_number(entityDrone.getSerial_number());
+			entityBatteryHistory.setDate_audited(new Timestamp(System.currentTimeMillis()));
+			entityBatteryHistoryRepository.save(entityBatteryHistory);
+		}
+		return entityDroneList.size();
+	}
+}
@@ -0,0 +1,131 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.history.BatteryHistoryStore;
+import dev.iyare.service.drone.history.SegmentBatteryHistoryStore;
+
+/**
+ * Range scans over {@value #DAYS} days of 30-second samples for
+ * {@value #DRONES} drones, from the {@code battery_history} table and from
+ * the memory-mapped segments. The segment store's size is printed after
+ * setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BatteryHistoryStoreBenchmark
+{
+	static final int DRONES = 10;
+	static final int DAYS = 30;
+	static final long PERIOD = 30000L;
+	static final int SAMPLES = (int) (DAYS * 86400000L / PERIOD);
+	static final long START = Timestamp.valueOf("2026-01-01 00:00:00").getTime();
+	static final long DAY = 86400000L;
+
+	@Param({ "table", "segments" })
+	String backend;
+
+	ConfigurableApplicationContext context;
+	BatteryHistoryStore store;
+	Path directory;
+
+	@Setup(Level.Trial)
+	public void start() throws IOException
+	{
+		directory = Files.createTempDirectory("history-bench");
+		context = BenchmarkContext.start("drone.history.backend=" + backend, "drone.history.dir=" + directory);
+		store = context.getBean(BatteryHistoryStore.class);
+
+		if (store instanceof SegmentBatteryHistoryStore)
+		{
+			// the level drops by one every ten minutes and recharges at 25
+			List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>(DRONES);
+			for (int sample = 0; sample < SAMPLES; sample++)
+			{
+				drones.clear();
+				for (int drone = 0; drone < DRONES; drone++)
+				{
+					drones.add(new DroneSnapshot((long) drone, 0, "S" + drone, "HeavyWeight", 500,
+							100 - (sample / 20) % 76, 0, DroneState.IDLE));
+				}
+				store.record(drones, START + sample * PERIOD);
+			}
+			SegmentBatteryHistoryStore segments = (SegmentBatteryHistoryStore) store;
+			segments.close();
+			System.out.println(DRONES * (long) SAMPLES + " samples in " + segments.storedBytes() + " bytes");
+		} else
+		{
+			context.getBean(JdbcTemplate.class).update(
+					"INSERT INTO \"battery_history\" (\"id\", \"version\", \"serial_number\", \"battery_capacity\", \"date_audited\")"
+							+ " SELECT X, 0, 'S' || MOD(X, ?), CAST(100 - MOD(X / ? / 20, 76) AS VARCHAR),"
+							+ " DATEADD('SECOND', X / ? * 30, ?) FROM SYSTEM_RANGE(0, ?)",
+					DRONES, DRONES, DRONES, new Timestamp(START), DRONES * (long) SAMPLES - 1);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() throws IOException
+	{
+		context.close();
+		try (Stream<Path> files = Files.walk(directory))
+		{
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	long randomDay()
+	{
+		return START + ThreadLocalRandom.current().nextInt(DAYS) * DAY;
+	}
+
+	String randomDrone()
+	{
+		return "S" + ThreadLocalRandom.current().nextInt(DRONES);
+	}
+
+	@Benchmark
+	public void scanHour(final Blackhole blackhole)
+	{
+		long from = randomDay() + ThreadLocalRandom.current().nextInt(24) * 3600000L;
+		store.scan(randomDrone(), from, from + 3600000L, (timestamp, level) -> blackhole.consume(level));
+	}
+
+	@Benchmark
+	public void scanDay(final Blackhole blackhole)
+	{
+		long from = randomDay();
+		store.scan(randomDrone(), from, from + DAY, (timestamp, level) -> blackhole.consume(level));
+	}
+}
@@ -0,0 +1,79 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.history.BatteryRollups;
+
+/**
+ * A 30-day, hourly battery history query for one drone audited every
+ * {@code periodSeconds}: the cost should not move with the sample count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatteryRollupsBenchmark
+{
+	static final long START = Timestamp.valueOf("2026-01-01 00:00:00").getTime();
+	static final long END = START + 30 * BatteryRollups.DAY;
+
+	@Param({ "1", "30", "300" })
+	int periodSeconds;
+
+	ConfigurableApplicationContext context;
+	BatteryRollups rollups;
+
+	@Setup(Level.Trial)
+	public void start()
+	{
+		context = BenchmarkContext.start();
+		rollups = context.getBean(BatteryRollups.class);
+
+		long samples = 0;
+		for (long timestamp = START; timestamp < END; timestamp += periodSeconds * 1000L)
+		{
+			int level = 100 - (int) ((timestamp - START) / 600000L % 76);
+			List<DroneSnapshot> drone = Collections.singletonList(
+					new DroneSnapshot(1L, 0, "BENCH", "HeavyWeight", 500, level, 0, DroneState.IDLE));
+			rollups.add(drone, timestamp);
+			samples++;
+		}
+		System.out.println(samples + " samples rolled up");
+	}
+
+	@TearDown(Level.Trial)
+	public void stop()
+	{
+		context.close();
+	}
+
+	@Benchmark
+	public void thirtyDaysHourly(final Blackhole blackhole)
+	{
+		rollups.query("BENCH", START, END, BatteryRollups.HOUR,
+				(start, min, max, avg, last, samples) -> blackhole.consume(avg));
+	}
+}
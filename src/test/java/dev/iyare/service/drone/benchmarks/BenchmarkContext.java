@@ -0,0 +1,42 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import dev.iyare.service.drone.DroneServiceApplication;
+
+/**
+ * Boots the application without the web server, against its own in-memory
+ * database, for benchmarks that need the real repositories and services. The
+ * scheduled battery audit is off so it does not run inside a measurement, and
+ * so is the fleet journal, which would restore the last run's fleet.
+ */
+final class BenchmarkContext
+{
+	private BenchmarkContext()
+	{
+	}
+
+	/**
+	 * Properties are passed as command line arguments, because builder
+	 * properties are defaults that application.properties overrides.
+	 */
+	static ConfigurableApplicationContext start(String... properties)
+	{
+		List<String> args = new ArrayList<String>();
+		args.add("--spring.datasource.url=jdbc:h2:mem:bench" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		args.add("--logging.level.root=WARN");
+		args.add("--drone.audit.enabled=false");
+		args.add("--drone.journal.enabled=false");
+		for (String property : properties)
+		{
+			args.add("--" + property);
+		}
+		return new SpringApplicationBuilder(DroneServiceApplication.class).web(WebApplicationType.NONE)
+				.logStartupInfo(false).run(args.toArray(new String[0]));
+	}
+}
@@ -0,0 +1,99 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.Drone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.repositories.EntityDroneRepository;
+import dev.iyare.service.drone.service.DroneRegistrationService;
+
+/**
+ * Drones registered per second through the single-register path (one JPA save
+ * per drone, as register-drone does) and through the batch path used by
+ * register-drones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DroneRegistrationBenchmark
+{
+	static final int DRONES = 1000;
+
+	ConfigurableApplicationContext context;
+	EntityDroneRepository entityDroneRepository;
+	DroneRegistrationService droneRegistrationService;
+
+	long round;
+	List<RegisterDroneRequest> requests;
+
+	@Setup(Level.Trial)
+	public void start()
+	{
+		context = BenchmarkContext.start();
+		entityDroneRepository = context.getBean(EntityDroneRepository.class);
+		droneRegistrationService = context.getBean(DroneRegistrationService.class);
+	}
+
+	@Setup(Level.Invocation)
+	public void nextRound()
+	{
+		round++;
+		requests = new ArrayList<RegisterDroneRequest>(DRONES);
+		for (int i = 0; i < DRONES; i++)
+		{
+			requests.add(new RegisterDroneRequest(round + "-" + i, Drone.MIDDLE.getModel(),
+					String.valueOf(Drone.MIDDLE.getWeightLimit()), "80", DroneState.IDLE.getDescription()));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stop()
+	{
+		context.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DRONES)
+	public void singleRegister()
+	{
+		for (RegisterDroneRequest request : requests)
+		{
+			EntityDrone entityDrone = new EntityDrone();
+			entityDrone.setSerial_number(request.getSerial_number());
+			entityDrone.setModel(request.getModel());
+			entityDrone.setWeight_limit(Integer.valueOf(request.getWeight_limit()));
+			entityDrone.setBattery_capacity(Integer.valueOf(request.getBattery_capacity()));
+			entityDrone.setState(DroneState.fromDescription(request.getState()));
+			entityDroneRepository.save(entityDrone);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DRONES)
+	public Object batchRegister()
+	{
+		return droneRegistrationService.register(requests);
+	}
+}
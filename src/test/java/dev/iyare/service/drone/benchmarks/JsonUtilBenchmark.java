@@ -0,0 +1,146 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.models.request.LoadDroneRequest;
+import dev.iyare.service.drone.models.response.LoadedDroneResponse;
+import dev.iyare.service.drone.utils.JsonUtil;
+
+/**
+ * Compares the shared {@link JsonUtil} codec with the previous
+ * Gson-per-call implementation (kept below as {@link LegacyJsonUtil}).
+ *
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilBenchmark
+{
+	LoadedDroneResponse response;
+	String loadRequestJson;
+
+	@Setup
+	public void setup()
+	{
+		List<EntityMedication> medications = new ArrayList<EntityMedication>();
+		for (int i = 0; i < 5; i++)
+		{
+			EntityMedication medication = new EntityMedication();
+			medication.setName("PARACETAMOL_" + i);
+			medication.setCode("PCM_" + i);
+			medication.setWeight(20);
+			medication.setImage("/9j/4AAQSkZJRgABAQAASABIAAD/4QFQRXhpZgAATU0AKgAAAAgABAEaAAUAAAABAAAAPgEbAAUAAAAB");
+			medication.setDrone_serial_number("1234567");
+			medications.add(medication);
+		}
+
+		response = new LoadedDroneResponse();
+		response.setResponseCode("00");
+		response.setResponseMessage("SUCCESSFUL");
+		response.setResponseDescription("Loaded medication list found!");
+		response.setData(JsonUtil.toJson(medications));
+
+		loadRequestJson = "{\"serial_number\":\"1234567\",\"medications\":" + JsonUtil.toJson(medications) + "}";
+	}
+
+	@Benchmark
+	public String legacyToJson()
+	{
+		return LegacyJsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public String codecToJson()
+	{
+		return JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public LoadDroneRequest legacyFromJson()
+	{
+		return LegacyJsonUtil.fromJson(loadRequestJson, LoadDroneRequest.class);
+	}
+
+	@Benchmark
+	public LoadDroneRequest codecFromJson()
+	{
+		return JsonUtil.fromJson(loadRequestJson, LoadDroneRequest.class);
+	}
+
+	/**
+	 * The JsonUtil implementation this codec replaced: a new Gson, exclusion
+	 * strategy and date format on every call.
+	 */
+	static class LegacyJsonUtil
+	{
+		static Gson getGson()
+		{
+			GsonBuilder builder = new GsonBuilder();
+			builder.addDeserializationExclusionStrategy(new LegacySuperclassExclusionStrategy());
+			builder.addSerializationExclusionStrategy(new LegacySuperclassExclusionStrategy());
+			builder.setDateFormat(JsonUtil.DATE_FORMAT);
+			return builder.create();
+		}
+
+		static <T> T fromJson(String json, Class<T> clazz)
+		{
+			return getGson().fromJson(json, clazz);
+		}
+
+		static <T> String toJson(T object)
+		{
+			return getGson().toJson(object);
+		}
+	}
+
+	static class LegacySuperclassExclusionStrategy implements ExclusionStrategy
+	{
+		public boolean shouldSkipClass(Class<?> arg0)
+		{
+			return false;
+		}
+
+		public boolean shouldSkipField(FieldAttributes fieldAttributes)
+		{
+			Class<?> superclass = fieldAttributes.getDeclaringClass().getSuperclass();
+
+			while (superclass != null)
+			{
+				try
+				{
+					Field field = superclass.getDeclaredField(fieldAttributes.getName());
+					if (field != null)
+						return true;
+				} catch (Exception e)
+				{
+				}
+				superclass = superclass.getSuperclass();
+			}
+			return false;
+		}
+	}
+}
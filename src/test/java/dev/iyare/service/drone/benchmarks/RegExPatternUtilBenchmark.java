@@ -0,0 +1,52 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.iyare.service.drone.utils.RegExPatternUtil;
+
+/**
+ * Cost of validating one medication (name and code) with the old
+ * {@code Pattern.matches} calls, with precompiled patterns and with the lookup
+ * tables now used by {@link RegExPatternUtil}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegExPatternUtilBenchmark
+{
+	String name = "PARACETAMOL_500-mg";
+	String code = "PCM_500";
+
+	@Benchmark
+	public boolean recompiledPattern()
+	{
+		return Pattern.matches(RegExPatternUtil.MED_NAME, name) & Pattern.matches(RegExPatternUtil.MED_CODE, code);
+	}
+
+	@Benchmark
+	public boolean precompiledPattern()
+	{
+		return RegExPatternUtil.MED_NAME_PATTERN.matcher(name).matches()
+				& RegExPatternUtil.MED_CODE_PATTERN.matcher(code).matches();
+	}
+
+	@Benchmark
+	public boolean lookupTable()
+	{
+		return RegExPatternUtil.matchMedName(name) & RegExPatternUtil.matchMedCode(code);
+	}
+}
@@ -0,0 +1,112 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.iyare.service.drone.entities.EntityBatteryHistory;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.repositories.EntityBatteryHistoryRepository;
+import dev.iyare.service.drone.repositories.EntityMedicationRepository;
+
+/**
+ * Latency of the per-drone lookups as the {@code medication} and
+ * {@code battery_history} tables grow, with the V3 indexes in place and with
+ * them dropped. Every drone owns {@value #ROWS_PER_DRONE} medications and
+ * {@value #ROWS_PER_DRONE} history rows, so only the table size changes.
+ *
+ * The largest size needs a bigger heap, e.g. {@code -jvmArgs -Xmx3g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableLookupBenchmark
+{
+	static final int ROWS_PER_DRONE = 10;
+
+	static final long ID_OFFSET = 1000000000L;
+
+	static final Timestamp START = Timestamp.valueOf("2026-01-01 00:00:00");
+
+	@Param({ "10000", "100000", "1000000" })
+	int rows;
+
+	@Param({ "true", "false" })
+	boolean indexed;
+
+	ConfigurableApplicationContext context;
+	EntityMedicationRepository entityMedicationRepository;
+	EntityBatteryHistoryRepository entityBatteryHistoryRepository;
+
+	int drones;
+
+	@Setup(Level.Trial)
+	public void start()
+	{
+		context = BenchmarkContext.start();
+		entityMedicationRepository = context.getBean(EntityMedicationRepository.class);
+		entityBatteryHistoryRepository = context.getBean(EntityBatteryHistoryRepository.class);
+
+		drones = rows / ROWS_PER_DRONE;
+
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jdbcTemplate.update("INSERT INTO \"medication\" (\"id\", \"version\", \"code\", \"drone_serial_number\", \"name\", \"weight\")"
+				+ " SELECT X + ?, 0, 'CODE_' || X, 'S' || MOD(X, ?), 'MED_' || X, 10 FROM SYSTEM_RANGE(0, ?)",
+				ID_OFFSET, drones, rows - 1);
+		jdbcTemplate.update("INSERT INTO \"battery_history\" (\"id\", \"version\", \"serial_number\", \"battery_capacity\", \"date_audited\")"
+				+ " SELECT X + ?, 0, 'S' || MOD(X, ?), '80', DATEADD('MINUTE', X / ?, ?) FROM SYSTEM_RANGE(0, ?)",
+				ID_OFFSET, drones, drones, START, rows - 1);
+
+		if (!indexed)
+		{
+			jdbcTemplate.execute("DROP INDEX \"IDX_medication_drone_serial_number\"");
+			jdbcTemplate.execute("DROP INDEX \"IDX_battery_history_serial_number_date_audited\"");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stop()
+	{
+		context.close();
+	}
+
+	String randomSerial()
+	{
+		return "S" + ThreadLocalRandom.current().nextInt(drones);
+	}
+
+	@Benchmark
+	public List<EntityMedication> medicationsForDrone()
+	{
+		return entityMedicationRepository.findByDroneSerialNo(randomSerial());
+	}
+
+	@Benchmark
+	public List<EntityBatteryHistory> batteryHistoryForDrone()
+	{
+		// three of the drone's ten readings, one a minute
+		long from = START.getTime() + 60000L * ThreadLocalRandom.current().nextInt(ROWS_PER_DRONE - 3);
+		return entityBatteryHistoryRepository.findBySerialNoBetween(randomSerial(), new Timestamp(from),
+				new Timestamp(from + 3 * 60000L));
+	}
+}
@@ -0,0 +1,97 @@
+package dev.iyare.service.drone.benchmarks;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.iyare.service.drone.lifecycle.TimingWheel;
+
+/**
+ * {@code drones} in flight, each with a timer up to 30 minutes out on 1s
+ * ticks. {@code tick} is one second of the lifecycle engine's wheel: expire
+ * what is due and set those drones' next timers. {@code reschedule} replaces
+ * one drone's timer, as a load does, on the wheel and on a binary heap, where
+ * removing the old timer is a linear scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark
+{
+	static final long TICK = 1000;
+	static final int HORIZON = 1800;
+
+	@Param({ "1000", "100000" })
+	int drones;
+
+	Random random;
+	TimingWheel<Integer> wheel;
+	TimingWheel.Timer<Integer>[] timers;
+	PriorityQueue<long[]> heap;
+	long[][] heapTimers;
+	long now;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void start()
+	{
+		random = new Random(42);
+		wheel = new TimingWheel<Integer>(TICK, 0);
+		timers = new TimingWheel.Timer[drones];
+		heap = new PriorityQueue<long[]>(drones, (a, b) -> Long.compare(a[0], b[0]));
+		heapTimers = new long[drones][];
+		for (int i = 0; i < drones; i++)
+		{
+			long deadline = (1 + random.nextInt(HORIZON)) * TICK;
+			timers[i] = wheel.schedule(i, deadline);
+			heap.add(heapTimers[i] = new long[] { deadline, i });
+		}
+	}
+
+	@Benchmark
+	public int tick()
+	{
+		now += TICK;
+		final int[] expired = new int[1];
+		wheel.advance(now, drone ->
+		{
+			timers[drone] = wheel.schedule(drone, now + (1 + random.nextInt(HORIZON)) * TICK);
+			expired[0]++;
+		});
+		return expired[0];
+	}
+
+	@Benchmark
+	public TimingWheel.Timer<Integer> rescheduleWheel()
+	{
+		int drone = random.nextInt(drones);
+		wheel.cancel(timers[drone]);
+		return timers[drone] = wheel.schedule(drone, wheel.now() + (1 + random.nextInt(HORIZON)) * TICK);
+	}
+
+	@Benchmark
+	public long[] rescheduleHeap()
+	{
+		int drone = random.nextInt(drones);
+		heap.remove(heapTimers[drone]);
+		long[] timer = heapTimers[drone] = new long[] { (1 + random.nextInt(HORIZON)) * TICK, drone };
+		heap.add(timer);
+		return timer;
+	}
+}
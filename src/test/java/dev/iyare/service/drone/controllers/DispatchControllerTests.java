@@ -0,0 +1,110 @@
+package dev.iyare.service.drone.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.service.DroneLoadingService;
+
+/**
+ * Pins the v1 response shapes: every drone and medication value is a string,
+ * in the field order of the original entities, and nothing else is added.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:dispatch-controller-tests",
+		"drone.journal.enabled=false", "drone.lifecycle.enabled=false", "drone.audit.enabled=false",
+		"drone.seed.enabled=false" })
+class DispatchControllerTests {
+
+	private static final AtomicInteger SERIALS = new AtomicInteger();
+
+	@Autowired
+	DispatchController dispatchController;
+
+	@Autowired
+	DroneLoadingService droneLoadingService;
+
+	@Autowired
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Autowired
+	FleetRegistry fleetRegistry;
+
+	@Test
+	void availableDronesKeepTheV1Shape() {
+		DroneSnapshot idle = register(200, 80, DroneState.IDLE);
+		DroneSnapshot delivered = register(300, 90, DroneState.DELIVERED);
+
+		JsonObject response = new JsonParser().parse(dispatchController.availableDrones()).getAsJsonObject();
+		assertEquals("00", response.get("responseCode").getAsString());
+
+		JsonObject drone = find(response, "serial_number", idle.getSerial_number());
+		assertEquals("{\"serial_number\":\"" + idle.getSerial_number()
+				+ "\",\"model\":\"Lightweight\",\"weight_limit\":\"200\",\"battery_capacity\":\"80\",\"state\":\"IDLE\"}",
+				drone.toString());
+		assertNull(find(response, "serial_number", delivered.getSerial_number()));
+	}
+
+	@Test
+	void loadedMedicationsKeepTheV1Shape() {
+		DroneSnapshot drone = register(200, 80, DroneState.IDLE);
+		EntityMedication medication = new EntityMedication();
+		medication.setName("Paracetamol");
+		medication.setCode("PARA_1");
+		medication.setWeight(30);
+		medication.setImage("aW1hZ2U=");
+		assertEquals(DroneLoadingService.Outcome.LOADING,
+				droneLoadingService.load(drone.getSerial_number(), Collections.singletonList(medication)));
+
+		String body = "{\"serial_number\":\"" + drone.getSerial_number() + "\"}";
+		JsonObject response = new JsonParser()
+				.parse(dispatchController
+						.checkMedicationsForDrone(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+				.getAsJsonObject();
+		assertEquals("00", response.get("responseCode").getAsString());
+
+		// Gson's HTML-safe escaping of '=' is part of the contract too
+		assertEquals("[{\"name\":\"Paracetamol\",\"weight\":\"30\",\"code\":\"PARA_1\",\"image\":\"aW1hZ2U\\u003d\",\"drone_serial_number\":\""
+				+ drone.getSerial_number() + "\"}]", response.get("data").getAsString());
+	}
+
+	private DroneSnapshot register(int weightLimit, int battery, DroneState state) {
+		EntityDrone drone = new EntityDrone();
+		drone.setSerial_number("V1-" + SERIALS.incrementAndGet());
+		drone.setModel("Lightweight");
+		drone.setWeight_limit(weightLimit);
+		drone.setBattery_capacity(battery);
+		drone.setState(state);
+		DroneSnapshot registered = droneJdbcRepository.insertAll(Collections.singletonList(drone)).get(0);
+		fleetRegistry.put(registered);
+		return registered;
+	}
+
+	private static JsonObject find(JsonObject response, String field, String value) {
+		JsonArray data = new JsonParser().parse(response.get("data").getAsString()).getAsJsonArray();
+		for (JsonElement element : data) {
+			if (value.equals(element.getAsJsonObject().get(field).getAsString()))
+				return element.getAsJsonObject();
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,104 @@
+package dev.iyare.service.drone.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class HeaderAuthenticationFilterTests {
+
+	private static final String KEY = "TXVzYWxhIHNvZnQgSW50ZXJ2aWV3";
+
+	private final HeaderAuthenticationFilter v1 = new HeaderAuthenticationFilter(Arrays.asList(KEY, " ", "second"),
+			true);
+	private final HeaderAuthenticationFilter v2 = new HeaderAuthenticationFilter(Arrays.asList(KEY), false);
+
+	@Test
+	void passesAValidKeyThrough() throws Exception {
+		assertPassed(v1, request("POST", "application/json", KEY));
+		assertPassed(v1, request("POST", "application/json", "second"));
+		assertPassed(v2, request("POST", "application/json", KEY));
+	}
+
+	@Test
+	void rejectsAMissingKey() throws Exception {
+		assertRejected(v1, request("POST", "application/json", null));
+		assertRejected(v2, request("GET", null, null));
+		assertRejected(v2, request("GET", null, ""));
+	}
+
+	@Test
+	void rejectsAWrongKey() throws Exception {
+		assertRejected(v1, request("POST", "application/json", KEY + "x"));
+		assertRejected(v2, request("GET", null, "second"));
+		// blank configured keys never match
+		assertRejected(v1, request("POST", "application/json", " "));
+	}
+
+	@Test
+	void v1RequiresJsonOnEveryRequest() throws Exception {
+		assertPassed(v1, request("GET", "application/json", KEY));
+		assertPassed(v1, request("POST", "Application/JSON; charset=UTF-8", KEY));
+		assertRejected(v1, request("GET", null, KEY));
+		assertRejected(v1, request("POST", "text/plain", KEY));
+		assertRejected(v1, request("POST", "application/jsonx", KEY));
+	}
+
+	@Test
+	void v2LeavesTheContentTypeToTheEndpoint() throws Exception {
+		assertPassed(v2, request("GET", null, KEY));
+		assertPassed(v2, request("POST", "application/x-ndjson", KEY));
+		assertPassed(v2, request("POST", "text/csv", KEY));
+		assertPassed(v2, request("POST", "application/gzip", KEY));
+	}
+
+	@Test
+	void recognisesJsonMediaTypes() {
+		assertTrue(HeaderAuthenticationFilter.isJson("application/json"));
+		assertTrue(HeaderAuthenticationFilter.isJson(" application/json ;charset=utf-8"));
+		assertFalse(HeaderAuthenticationFilter.isJson(null));
+		assertFalse(HeaderAuthenticationFilter.isJson(""));
+		assertFalse(HeaderAuthenticationFilter.isJson("application/x-ndjson"));
+	}
+
+	private static MockHttpServletRequest request(String method, String contentType, String publicKey) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, "/drone/app/service");
+		if (contentType != null)
+			request.setContentType(contentType);
+		if (publicKey != null)
+			request.addHeader(HeaderAuthenticationFilter.PUBLIC_KEY, publicKey);
+		return request;
+	}
+
+	private static void assertPassed(HeaderAuthenticationFilter filter, MockHttpServletRequest request)
+			throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, response, chain);
+
+		assertNotNull(chain.getRequest());
+		assertEquals("", response.getContentAsString());
+	}
+
+	private static void assertRejected(HeaderAuthenticationFilter filter, MockHttpServletRequest request)
+			throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, response, chain);
+
+		assertNull(chain.getRequest());
+		assertEquals("application/json", response.getContentType());
+		assertEquals(
+				"{\"responseMessage\":\"FAILED\",\"responseCode\":\"99\",\"responseDescription\":\"Missing or Invalid Header(s)\"}",
+				response.getContentAsString());
+	}
+
+}
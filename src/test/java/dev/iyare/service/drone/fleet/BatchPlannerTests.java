@@ -0,0 +1,99 @@
+package dev.iyare.service.drone.fleet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import dev.iyare.service.drone.enums.DroneState;
+
+class BatchPlannerTests {
+
+	final ForkJoinPool pool = new ForkJoinPool(4);
+	final BatchPlanner planner = new BatchPlanner(pool);
+
+	@AfterEach
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void placesHeaviestFirstOnTheBestChargedDroneWithRoom() {
+		DroneSnapshot roomy = drone(1, "Heavyweight", 100, 0, 60);
+		DroneSnapshot charged = drone(2, "Heavyweight", 50, 0, 90);
+		BatchPlanner.Plan plan = planner.plan(Arrays.asList(roomy, charged), new int[] { 40, 60, 50, 101 });
+
+		// 60 only fits the roomy drone, 50 fills the charged one, 40 goes back to the roomy one
+		assertSame(roomy, plan.get(0));
+		assertSame(roomy, plan.get(1));
+		assertSame(charged, plan.get(2));
+		assertEquals(null, plan.get(3));
+		assertEquals(3, plan.assigned());
+	}
+
+	@Test
+	void neverOverfillsADroneAndLeavesOutOnlyOrdersNoDroneHasRoomFor() {
+		Random random = new Random(11);
+		String[] models = { "Lightweight", "Middleweight", "Cruiserweight", "Heavyweight" };
+		List<DroneSnapshot> drones = new ArrayList<DroneSnapshot>();
+		for (int id = 1; id <= 500; id++) {
+			int limit = 100 * (1 + random.nextInt(5));
+			drones.add(drone(id, models[random.nextInt(models.length)], limit, random.nextInt(limit),
+					25 + random.nextInt(76)));
+		}
+		int[] weights = new int[3000];
+		for (int i = 0; i < weights.length; i++) {
+			weights[i] = 1 + random.nextInt(random.nextInt(10) == 0 ? 500 : 60);
+		}
+
+		BatchPlanner.Plan plan = planner.plan(new ArrayList<DroneSnapshot>(drones), weights);
+
+		Map<DroneSnapshot, Integer> remaining = new HashMap<DroneSnapshot, Integer>();
+		for (DroneSnapshot drone : drones) {
+			remaining.put(drone, drone.getRemaining_capacity());
+		}
+		int assigned = 0;
+		for (int i = 0; i < weights.length; i++) {
+			if (plan.get(i) != null) {
+				remaining.put(plan.get(i), remaining.get(plan.get(i)) - weights[i]);
+				assigned++;
+			}
+		}
+		assertEquals(assigned, plan.assigned());
+		assertTrue(assigned > 0 && assigned < weights.length);
+
+		int mostLeft = 0;
+		for (int left : remaining.values()) {
+			assertTrue(left >= 0);
+			mostLeft = Math.max(mostLeft, left);
+		}
+		for (int i = 0; i < weights.length; i++) {
+			if (plan.get(i) == null)
+				assertTrue(weights[i] > mostLeft, "order " + i + " of " + weights[i] + " fits in " + mostLeft);
+		}
+	}
+
+	@Test
+	void refusesOrdersOfZeroOrNegativeWeight() {
+		List<DroneSnapshot> drones = Arrays.asList(drone(1, "Lightweight", 100, 0, 90));
+		assertThrows(IllegalArgumentException.class, () -> planner.plan(drones, new int[] { 10, 0 }));
+		assertThrows(IllegalArgumentException.class, () -> planner.plan(drones, new int[] { -10 }));
+	}
+
+	private static DroneSnapshot drone(long id, String model, int limit, int loaded, int battery) {
+		return new DroneSnapshot(id, 0, "D" + id, model, limit, battery, loaded,
+				loaded == 0 ? DroneState.IDLE : DroneState.LOADING);
+	}
+
+}
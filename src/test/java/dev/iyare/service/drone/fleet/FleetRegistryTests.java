@@ -0,0 +1,164 @@
+package dev.iyare.service.drone.fleet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.iyare.service.drone.enums.DroneState;
+
+class FleetRegistryTests {
+
+	@Test
+	void keepsEveryIndexInStepWithTheSnapshotsThroughOutOfOrderWrites() {
+		FleetRegistry registry = new FleetRegistry(null);
+		Random random = new Random(7);
+		List<DroneSnapshot> published = new ArrayList<DroneSnapshot>();
+		for (long id = 1; id <= 200; id++) {
+			DroneSnapshot drone = new DroneSnapshot(id, 0, "D" + id, "Lightweight", 100 + random.nextInt(400),
+					random.nextInt(101), 0, DroneState.IDLE);
+			registry.put(drone);
+			published.add(drone);
+		}
+
+		for (int i = 0; i < 20000; i++) {
+			DroneSnapshot current = registry.get("D" + (1 + random.nextInt(200)));
+			switch (random.nextInt(4)) {
+			case 0:
+				int weight = 1 + random.nextInt(Math.max(1, current.getRemaining_capacity()));
+				if (DroneState.AVAILABLE.contains(current.getState()) && weight <= current.getRemaining_capacity()) {
+					DroneSnapshot loaded = current.loaded(
+							weight == current.getRemaining_capacity() ? DroneState.LOADED : DroneState.LOADING, weight);
+					registry.put(loaded);
+					published.add(loaded);
+				}
+				break;
+			case 1:
+				DroneState next = DroneState.values()[random.nextInt(DroneState.values().length)];
+				DroneSnapshot moved = new DroneSnapshot(current.getId(), current.getVersion() + 1,
+						current.getSerial_number(), current.getModel(), current.getWeight_limit(),
+						current.getBattery_capacity(), next == DroneState.IDLE ? 0 : current.getLoaded_weight(), next);
+				registry.put(moved);
+				published.add(moved);
+				break;
+			case 2:
+				registry.putBattery(current.getSerial_number(), random.nextInt(101));
+				break;
+			default:
+				// a late publication of an older version is ignored
+				registry.put(published.get(random.nextInt(published.size())));
+			}
+		}
+
+		assertConsistent(registry);
+	}
+
+	@Test
+	void aNewerSnapshotKeepsTheBatteryLevelHeld() {
+		FleetRegistry registry = new FleetRegistry(null);
+		DroneSnapshot drone = new DroneSnapshot(1L, 0, "A", "Lightweight", 200, 90, 0, DroneState.IDLE);
+		registry.put(drone);
+		registry.putBattery("A", 20);
+		// read at 90% before the battery update, published after it
+		registry.put(drone.loaded(DroneState.LOADING, 50));
+
+		assertEquals(1, registry.get("A").getVersion());
+		assertEquals(50, registry.get("A").getLoaded_weight());
+		assertEquals(Integer.valueOf(20), registry.get("A").getBattery_capacity());
+		assertTrue(registry.loadable().isEmpty());
+		assertConsistent(registry);
+	}
+
+	@Test
+	void pagesThroughSeveralStatesInIdOrder() {
+		FleetRegistry registry = new FleetRegistry(null);
+		Random random = new Random(11);
+		List<Long> expected = new ArrayList<Long>();
+		// ids out of insertion order, spread over every state
+		List<Long> ids = new ArrayList<Long>();
+		for (long id = 1; id <= 300; id++) {
+			ids.add(id * 3);
+		}
+		Collections.shuffle(ids, random);
+		for (long id : ids) {
+			DroneState state = DroneState.values()[random.nextInt(DroneState.values().length)];
+			int battery = random.nextInt(101);
+			registry.put(new DroneSnapshot(id, 0, "P" + id, "Lightweight", 200, battery, 0, state));
+			if (DroneState.AVAILABLE.contains(state) && battery >= 30)
+				expected.add(id);
+		}
+		Collections.sort(expected);
+
+		List<Long> paged = new ArrayList<Long>();
+		long after = 0;
+		while (true) {
+			List<DroneSnapshot> page = registry.available(DroneState.AVAILABLE, 30, 0, after, 7);
+			for (DroneSnapshot drone : page) {
+				paged.add(drone.getId());
+			}
+			if (page.size() < 7)
+				break;
+			after = page.get(page.size() - 1).getId();
+		}
+
+		assertEquals(expected, paged);
+		assertEquals(expected, ids(registry.available(DroneState.AVAILABLE, 30, 0, 0, Integer.MAX_VALUE)));
+		// a page may start between ids
+		assertEquals(expected.subList(1, 4),
+				ids(registry.available(DroneState.AVAILABLE, 30, 0, expected.get(0) + 1, 3)));
+		assertEquals(0, registry.available(DroneState.AVAILABLE, 101, 0, 0, 10).size());
+	}
+
+	private static List<Long> ids(List<DroneSnapshot> drones) {
+		List<Long> ids = new ArrayList<Long>();
+		for (DroneSnapshot drone : drones) {
+			ids.add(drone.getId());
+		}
+		return ids;
+	}
+
+	private static void assertConsistent(FleetRegistry registry) {
+		Set<String> expectedLoadable = new HashSet<String>();
+		for (DroneSnapshot drone : registry.all()) {
+			for (DroneState state : DroneState.values()) {
+				assertEquals(state == drone.getState() ? drone.getSerial_number() : null,
+						registry.serialsByState.get(state).get(drone.getId()), drone.toString());
+			}
+			if (FleetRegistry.isLoadable(drone))
+				expectedLoadable.add(drone.getSerial_number());
+		}
+
+		int indexed = 0;
+		for (DroneState state : DroneState.values()) {
+			indexed += registry.serialsByState.get(state).size();
+		}
+		assertEquals(registry.size(), indexed);
+
+		Set<String> loadable = new HashSet<String>();
+		for (FleetRegistry.CapacityKey key : registry.byRemainingCapacity) {
+			DroneSnapshot drone = registry.get(key.serialNumber);
+			assertEquals(FleetRegistry.CapacityKey.of(drone), key);
+			assertTrue(loadable.add(key.serialNumber));
+		}
+		assertEquals(expectedLoadable, loadable);
+
+		// best fit: every candidate takes the weight, tightest first
+		for (int weight : Arrays.asList(1, 50, 150, 400)) {
+			int previous = -1;
+			for (String serialNumber : registry.bestFit(weight, 10)) {
+				int remaining = registry.get(serialNumber).getRemaining_capacity();
+				assertTrue(remaining >= weight && remaining >= previous);
+				previous = remaining;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,173 @@
+package dev.iyare.service.drone.history;
+
+import static dev.iyare.service.drone.history.BatteryRollups.DAY;
+import static dev.iyare.service.drone.history.BatteryRollups.HOUR;
+import static dev.iyare.service.drone.history.BatteryRollups.MINUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BatteryRollupsTests {
+
+	/** A Monday, midnight UTC */
+	private static final long T0 = 1696204800000L;
+
+	@Test
+	void growsByDoublingUpToMaxSlotsAndKeepsEverySlot() {
+		BatteryRollups.Ring ring = new BatteryRollups.Ring(MINUTE, 100);
+		assertEquals(8, ring.keys.length);
+
+		for (int minute = 0; minute < 20; minute++) {
+			ring.add(T0 + minute * MINUTE, minute);
+		}
+		assertEquals(32, ring.keys.length);
+
+		ring.add(T0 + 90 * MINUTE, 90);
+		// capped at maxSlots, not the next power of two
+		assertEquals(100, ring.keys.length);
+
+		List<String> buckets = visit(ring, T0, 91, MINUTE);
+		assertEquals(21, buckets.size());
+		assertEquals(bucket(T0 + 19 * MINUTE, 19, 19, 19, 19, 1), buckets.get(19));
+		assertEquals(bucket(T0 + 90 * MINUTE, 90, 90, 90, 90, 1), buckets.get(20));
+	}
+
+	@Test
+	void wrapsAroundAtMaxSlotsDroppingTheOldest() {
+		BatteryRollups.Ring ring = new BatteryRollups.Ring(MINUTE, 16);
+		for (int minute = 0; minute < 40; minute++) {
+			ring.add(T0 + minute * MINUTE, minute);
+		}
+
+		assertEquals(16, ring.keys.length);
+		List<String> buckets = visit(ring, T0, 40, MINUTE);
+		assertEquals(16, buckets.size());
+		assertEquals(bucket(T0 + 24 * MINUTE, 24, 24, 24, 24, 1), buckets.get(0));
+		assertEquals(bucket(T0 + 39 * MINUTE, 39, 39, 39, 39, 1), buckets.get(15));
+
+		// a slot reused for a newer minute starts over
+		ring.add(T0 + 40 * MINUTE, 1);
+		ring.add(T0 + 40 * MINUTE, 3);
+		assertEquals(Arrays.asList(bucket(T0 + 40 * MINUTE, 1, 3, 2, 3, 2)),
+				visit(ring, T0 + 40 * MINUTE, 1, MINUTE));
+		assertEquals(Collections.emptyList(), visit(ring, T0 + 24 * MINUTE, 1, MINUTE));
+	}
+
+	@Test
+	void keepsOutOfOrderSamplesTheRingStillReaches() {
+		BatteryRollups.Ring ring = new BatteryRollups.Ring(MINUTE, 64);
+		ring.add(T0 + 10 * MINUTE, 50);
+		ring.add(T0 + 17 * MINUTE, 40);
+		// older than anything held, yet within maxSlots of the newest
+		ring.add(T0 + 2 * MINUTE, 90);
+		ring.add(T0 + 12 * MINUTE, 45);
+		ring.add(T0 + 10 * MINUTE + 30000, 48);
+
+		assertEquals(Arrays.asList(bucket(T0 + 2 * MINUTE, 90, 90, 90, 90, 1),
+				bucket(T0 + 10 * MINUTE, 48, 50, 49, 48, 2), bucket(T0 + 12 * MINUTE, 45, 45, 45, 45, 1),
+				bucket(T0 + 17 * MINUTE, 40, 40, 40, 40, 1)), visit(ring, T0, 18, MINUTE));
+	}
+
+	@Test
+	void dropsSamplesOlderThanTheRingReaches() {
+		BatteryRollups.Ring ring = new BatteryRollups.Ring(MINUTE, 8);
+		for (int minute = 0; minute < 20; minute++) {
+			ring.add(T0 + minute * MINUTE, 60);
+		}
+		// its slot holds minute 13 now
+		ring.add(T0 + 5 * MINUTE, 10);
+
+		List<String> buckets = visit(ring, T0, 20, MINUTE);
+		assertEquals(8, buckets.size());
+		assertEquals(bucket(T0 + 12 * MINUTE, 60, 60, 60, 60, 1), buckets.get(0));
+		assertEquals(bucket(T0 + 13 * MINUTE, 60, 60, 60, 60, 1), buckets.get(1));
+	}
+
+	@Test
+	void mergesSlotsIntoBucketsAtEachResolution() {
+		BatteryRollups rollups = rollups(3 * 1440, 48, 10);
+		rollups.add("D1", T0, 50);
+		rollups.add("D1", T0 + 20000, 40);
+		rollups.add("D1", T0 + MINUTE, 60);
+		rollups.add("D1", T0 + 2 * MINUTE, 30);
+		rollups.add("D1", T0 + HOUR + 5 * MINUTE, 80);
+		rollups.add("D1", T0 + DAY + HOUR, 20);
+		rollups.add("D1", T0 + DAY + 3 * HOUR, 24);
+
+		// minutes, two to a bucket
+		assertEquals(Arrays.asList(bucket(T0, 40, 60, 50, 60, 3), bucket(T0 + 2 * MINUTE, 30, 30, 30, 30, 1)),
+				query(rollups, T0, T0 + 4 * MINUTE, 2 * MINUTE));
+		// hours
+		assertEquals(Arrays.asList(bucket(T0, 30, 60, 45, 30, 4), bucket(T0 + HOUR, 80, 80, 80, 80, 1)),
+				query(rollups, T0, T0 + 2 * HOUR, HOUR));
+		// three hours a bucket; the range starts mid-bucket, the bucket is whole
+		assertEquals(
+				Arrays.asList(bucket(T0 + DAY, 20, 20, 20, 20, 1), bucket(T0 + DAY + 3 * HOUR, 24, 24, 24, 24, 1)),
+				query(rollups, T0 + DAY + 2 * HOUR, T0 + DAY + 4 * HOUR, 3 * HOUR));
+		// days
+		assertEquals(Arrays.asList(bucket(T0, 30, 80, 52, 80, 5), bucket(T0 + DAY, 20, 24, 22, 24, 2)),
+				query(rollups, T0, T0 + 2 * DAY, DAY));
+		assertEquals(Arrays.asList(bucket(T0, 20, 80, 304.0 / 7, 24, 7)), query(rollups, T0, T0 + 2 * DAY, 2 * DAY));
+	}
+
+	@Test
+	void answersOnlyWholeMinuteStepsForKnownDrones() {
+		BatteryRollups rollups = rollups(60, 48, 10);
+		rollups.add("D1", T0, 50);
+		// out of range levels are left out
+		rollups.add("D1", T0 + MINUTE, -1);
+		rollups.add("D1", T0 + MINUTE, 128);
+
+		assertEquals(Arrays.asList(bucket(T0, 50, 50, 50, 50, 1)), query(rollups, T0, T0 + 2 * MINUTE, MINUTE));
+		assertFalse(rollups.query("D2", T0, T0 + MINUTE, MINUTE, (start, min, max, avg, last, samples) -> {
+		}));
+		assertThrows(IllegalArgumentException.class,
+				() -> rollups.query("D1", T0, T0 + MINUTE, 90000, (start, min, max, avg, last, samples) -> {
+				}));
+		assertEquals(DAY, BatteryRollups.resolution(7 * DAY));
+		assertEquals(HOUR, BatteryRollups.resolution(90 * MINUTE * 2));
+		assertEquals(MINUTE, BatteryRollups.resolution(90 * MINUTE));
+		assertEquals(0, BatteryRollups.resolution(0));
+	}
+
+	private static BatteryRollups rollups(int minuteSlots, int hourSlots, int daySlots) {
+		BatteryRollups rollups = new BatteryRollups(null, null);
+		rollups.minuteSlots = minuteSlots;
+		rollups.hourSlots = hourSlots;
+		rollups.daySlots = daySlots;
+		return rollups;
+	}
+
+	private static List<String> query(BatteryRollups rollups, long from, long to, long step) {
+		List<String> buckets = new ArrayList<String>();
+		rollups.query("D1", from, to, step,
+				(start, min, max, avg, last, samples) -> buckets.add(bucket(start, min, max, avg, last, samples)));
+		return buckets;
+	}
+
+	/**
+	 * Visits {@code keys} single-slot buckets from {@code from} on.
+	 */
+	private static List<String> visit(BatteryRollups.Ring ring, long from, int keys, long resolution) {
+		BatteryRollups.DroneRollups rollups = new BatteryRollups.DroneRollups(1, 1, 1);
+		List<String> buckets = new ArrayList<String>();
+		for (long key = from / resolution; key < from / resolution + keys; key++) {
+			rollups.visit(ring, key, 1, key * resolution,
+					(start, min, max, avg, last, samples) -> buckets.add(bucket(start, min, max, avg, last, samples)));
+		}
+		return buckets;
+	}
+
+	private static String bucket(long start, int min, int max, double avg, int last, int samples) {
+		return (start - T0) / MINUTE + "m min=" + min + " max=" + max + " avg=" + avg + " last=" + last + " n="
+				+ samples;
+	}
+
+}
@@ -0,0 +1,69 @@
+package dev.iyare.service.drone.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HistoryBlockTests {
+
+	@Test
+	void decodesEveryDeltaOfDeltaWidthAndLevelChange() {
+		// each gap differs from the one before by a value at or just past the
+		// edge of a width, either side of zero, and negative gaps too
+		long[] deltasOfDeltas = { 0, 1, -1, 64, -63, 65, -64, 256, -255, 257, -256, 2048, -2047, 2049, -2048,
+				1L << 38, -(1L << 38), 0, 0, -5, -3000, 7 };
+		int[] levels = { 100, 100, 99, 0, 254, 255, -1, 37, 37, -7, 1, 300 };
+
+		List<long[]> expected = new ArrayList<long[]>();
+		HistoryBlock block = new HistoryBlock("DRONE-1");
+		long timestamp = 1600000000000L, delta = 0;
+		for (int i = 0; i <= deltasOfDeltas.length; i++) {
+			if (i > 0) {
+				delta += deltasOfDeltas[i - 1];
+				timestamp += delta;
+			}
+			int level = levels[i % levels.length];
+			block.append(timestamp, level);
+			// anything outside 0-254 is stored as unknown
+			expected.add(new long[] { timestamp, level < 0 || level > 254 ? BatteryHistoryStore.UNKNOWN_LEVEL : level });
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(block.encodedLength() + 16);
+		block.writeTo(buffer, 16);
+		assertEquals("DRONE-1", HistoryBlock.readSerialNumber(buffer, 16));
+		assertEquals(expected.get(0)[0], HistoryBlock.readFirst(buffer, 16));
+		assertEquals(expected.get(expected.size() - 1)[0], HistoryBlock.readLast(buffer, 16));
+
+		final List<long[]> decoded = new ArrayList<long[]>();
+		HistoryBlock.decode(buffer, 16, Long.MIN_VALUE, Long.MAX_VALUE,
+				(t, level) -> decoded.add(new long[] { t, level }));
+		assertEquals(toString(expected), toString(decoded));
+	}
+
+	@Test
+	void decodesOnlyTheRequestedRange() {
+		HistoryBlock block = new HistoryBlock("DRONE-2");
+		for (int i = 0; i < 10; i++) {
+			block.append(1000 + i * 60000L + (i % 3) * 17, 90 - i);
+		}
+
+		final List<Long> decoded = new ArrayList<Long>();
+		HistoryBlock.decode(block.toBuffer(), 0, 1000 + 2 * 60000L, 1000 + 5 * 60000L,
+				(t, level) -> decoded.add(t));
+		assertEquals(Arrays.asList(1000 + 2 * 60000L + 34, 1000 + 3 * 60000L, 1000 + 4 * 60000L + 17), decoded);
+	}
+
+	private static String toString(List<long[]> samples) {
+		StringBuilder out = new StringBuilder();
+		for (long[] sample : samples) {
+			out.append(sample[0]).append('=').append(sample[1]).append('\n');
+		}
+		return out.toString();
+	}
+
+}
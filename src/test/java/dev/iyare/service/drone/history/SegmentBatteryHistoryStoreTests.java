@@ -0,0 +1,60 @@
+package dev.iyare.service.drone.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+class SegmentBatteryHistoryStoreTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void keepsEachDronesSamplesInIncreasingTimeWhenRecordersInterleave() throws IOException {
+		SegmentBatteryHistoryStore store = open();
+		// an audit at 5000, then telemetry that took its timestamp earlier
+		store.record(Collections.singletonList(drone(80)), 5000);
+		store.record(Collections.singletonList(drone(75)), 4000);
+		store.record(Collections.singletonList(drone(70)), 5001);
+		store.record(Collections.singletonList(drone(65)), 9000);
+		store.record(Collections.singletonList(drone(60)), 9000);
+		store.close();
+
+		// reopened, the sparse index is rebuilt from the sealed blocks
+		store = open();
+		final List<String> samples = new ArrayList<String>();
+		store.scan("DRONE-1", Long.MIN_VALUE, Long.MAX_VALUE, (t, level) -> samples.add(t + "=" + level));
+		assertEquals(Arrays.asList("5000=80", "5001=75", "5002=70", "9000=65", "9001=60"), samples);
+
+		samples.clear();
+		store.scan("DRONE-1", 5002, 9001, (t, level) -> samples.add(t + "=" + level));
+		assertEquals(Arrays.asList("5002=70", "9000=65"), samples);
+		store.close();
+	}
+
+	private SegmentBatteryHistoryStore open() throws IOException {
+		SegmentBatteryHistoryStore store = new SegmentBatteryHistoryStore(null);
+		store.directory = directory.toString();
+		store.segmentBytes = 4096;
+		store.blockSamples = 2;
+		store.blockSpanMillis = 3600000;
+		store.open();
+		return store;
+	}
+
+	private static DroneSnapshot drone(int battery) {
+		return new DroneSnapshot(1L, 0, "DRONE-1", "Lightweight", 125, battery, 0, DroneState.IDLE);
+	}
+
+}
@@ -0,0 +1,130 @@
+package dev.iyare.service.drone.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+
+class FleetJournalTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void replaysTheLatestSnapshotAndTheIntactTailAcrossSegments() throws IOException {
+		FleetJournal journal = journal();
+		journal.load();
+		DroneSnapshot a = new DroneSnapshot(1L, 0, "A", "Lightweight", 200, 90, 0, DroneState.IDLE);
+		DroneSnapshot b = new DroneSnapshot(2L, 0, "B", "Heavyweight", 500, 80, 0, DroneState.IDLE);
+		journal.appendDrones(Arrays.asList(a, b));
+		journal.appendLoads(Collections.<DroneSnapshot> emptyList(),
+				Collections.singletonList(medication(null, "SEEDED", 10)));
+		DroneSnapshot loadedA = a.loaded(DroneState.LOADED, 200);
+		journal.appendLoads(Collections.singletonList(loadedA), Collections.singletonList(medication("A", "PCM", 200)));
+		DroneSnapshot loadedB = b.loaded(DroneState.LOADING, 100);
+		journal.appendLoads(Collections.singletonList(loadedB), Collections.singletonList(medication("B", "ANB", 100)));
+		journal.snapshot();
+
+		// enough battery records to roll over several 4 KB segments
+		for (int level = 0; level < 300; level++) {
+			journal.appendBatteries(Collections.singletonList(loadedB.withBattery(level % 100)));
+		}
+		journal.snapshot();
+		// a stale version changes nothing
+		journal.appendDrones(Collections.singletonList(a));
+		journal.snapshot();
+		// only the segments needed to replay from the older of two snapshots are kept
+		assertEquals(1, journal.segments.size());
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(2, files.filter(file -> file.toString().endsWith(".snap")).count());
+		}
+		DroneSnapshot delivered = loadedA.loaded(DroneState.DELIVERED, -200);
+		journal.appendTransitions(Collections.singletonList(delivered), Collections.singletonList("A"));
+
+		// tear the last record, as a crash halfway through writing it would
+		int torn = journal.writePosition;
+		journal.appendDrones(Collections.singletonList(new DroneSnapshot(3L, 0, "C", "Cruiserweight", 400, 70, 0,
+				DroneState.IDLE)));
+		Path last = directory.resolve(String.format("fleet-journal-%06d.seg",
+				journal.segments.get(journal.segments.size() - 1).number));
+		try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), torn + 20);
+		}
+
+		FleetJournal reopened = journal();
+		FleetState state = reopened.load();
+		assertEquals(1, reopened.replayed);
+		assertEquals(2, state.drones.size());
+		assertEquals(delivered.getVersion(), state.drones.get("A").getVersion());
+		assertEquals(DroneState.DELIVERED, state.drones.get("A").getState());
+		assertEquals(0, state.drones.get("A").getLoaded_weight());
+		assertEquals(Integer.valueOf(99), state.drones.get("B").getBattery_capacity());
+		assertEquals(100, state.drones.get("B").getLoaded_weight());
+		assertNull(state.manifests.get("A"));
+		assertEquals("ANB", state.manifests.get("B").get(0).getCode());
+		assertEquals("SEEDED", state.manifests.get(null).get(0).getName());
+
+		// writing carries on over the torn record
+		reopened.appendDrones(Collections.singletonList(new DroneSnapshot(4L, 0, "D", "Middleweight", 300, 60, 0,
+				DroneState.IDLE)));
+		FleetState again = journal().load();
+		assertFalse(again.drones.containsKey("C"));
+		assertTrue(again.drones.containsKey("D"));
+		List<EntityMedication> medications = again.medications();
+		assertEquals(2, medications.size());
+	}
+
+	@Test
+	void aLoadReadBeforeABatteryUpdateDoesNotRollTheBatteryBack() throws IOException {
+		FleetJournal journal = journal();
+		journal.load();
+		DroneSnapshot a = new DroneSnapshot(1L, 0, "A", "Lightweight", 200, 90, 0, DroneState.IDLE);
+		journal.appendDrones(Collections.singletonList(a));
+		journal.appendBatteries(Collections.singletonList(a.withBattery(40)));
+		// the load read the drone at 90% and committed after the update
+		journal.appendLoads(Collections.singletonList(a.loaded(DroneState.LOADING, 50)),
+				Collections.singletonList(medication("A", "PCM", 50)));
+
+		DroneSnapshot replayed = journal().load().drones.get("A");
+		assertEquals(1, replayed.getVersion());
+		assertEquals(50, replayed.getLoaded_weight());
+		assertEquals(Integer.valueOf(40), replayed.getBattery_capacity());
+	}
+
+	FleetJournal journal() {
+		FleetJournal journal = new FleetJournal(null, null, null, null);
+		journal.enabled = true;
+		journal.directory = directory.toString();
+		journal.segmentBytes = 4096;
+		return journal;
+	}
+
+	static EntityMedication medication(String serialNumber, String code, int weight) {
+		EntityMedication medication = new EntityMedication();
+		medication.setDrone_serial_number(serialNumber);
+		medication.setName(code);
+		medication.setCode(code);
+		medication.setWeight(weight);
+		medication.setImage("aW1hZ2U=");
+		return medication;
+	}
+
+}
@@ -0,0 +1,67 @@
+package dev.iyare.service.drone.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTests {
+
+	@Test
+	void expiresEveryTimerOnItsTickAcrossAllWheels() {
+		TimingWheel<Long> wheel = new TimingWheel<Long>(1000, 0);
+		Random random = new Random(42);
+		Map<Long, TimingWheel.Timer<Long>> timers = new HashMap<Long, TimingWheel.Timer<Long>>();
+		for (long i = 0; i < 20000; i++) {
+			// up to 40 days ahead, past the span of the coarsest wheel
+			long deadline = (long) (Math.pow(random.nextDouble(), 4) * 40 * 86400000L);
+			timers.put(i, wheel.schedule(deadline, deadline));
+		}
+		int cancelled = 0;
+		for (long i = 0; i < 20000; i += 7) {
+			assertTrue(wheel.cancel(timers.remove(i)));
+			cancelled++;
+		}
+		assertEquals(20000 - cancelled, wheel.size());
+
+		final List<Long> mistimed = new ArrayList<Long>();
+		final int[] expired = new int[1];
+		for (long now = 0; now <= 40 * 86400000L; now += 37000) {
+			wheel.advance(now, deadline -> {
+				expired[0]++;
+				// on the first tick at or after its deadline, and never on tick 0
+				if (wheel.now() != Math.max(1000, (deadline + 999) / 1000 * 1000))
+					mistimed.add(deadline);
+			});
+		}
+
+		assertEquals(timers.size(), expired[0]);
+		assertEquals(0, wheel.size());
+		assertTrue(mistimed.isEmpty(), mistimed.toString());
+	}
+
+	@Test
+	void pastDeadlinesExpireOnTheNextTickAndCancelledTimersNever() {
+		TimingWheel<String> wheel = new TimingWheel<String>(1000, 5000);
+		TimingWheel.Timer<String> past = wheel.schedule("past", 1000);
+		TimingWheel.Timer<String> cancelled = wheel.schedule("cancelled", 5500);
+		assertTrue(wheel.cancel(cancelled));
+		assertFalse(wheel.cancel(cancelled));
+
+		List<String> expired = new ArrayList<String>();
+		wheel.advance(5999, expired::add);
+		assertTrue(expired.isEmpty());
+		wheel.advance(6000, expired::add);
+		assertEquals(1, expired.size());
+		assertEquals("past", expired.get(0));
+		assertFalse(past.isScheduled());
+	}
+
+}
@@ -0,0 +1,134 @@
+package dev.iyare.service.drone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+
+/**
+ * The lifecycle timers do not tick here; each test advances the wheel itself.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:drone-lifecycle-tests",
+		"drone.journal.enabled=false", "drone.lifecycle.enabled=false", "drone.audit.enabled=false",
+		"drone.seed.enabled=false" })
+class DroneLifecycleServiceTests {
+
+	private static final AtomicInteger SERIALS = new AtomicInteger();
+
+	@Autowired
+	DroneLifecycleService droneLifecycleService;
+
+	@Autowired
+	DroneLoadingService droneLoadingService;
+
+	@Autowired
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Autowired
+	FleetRegistry fleetRegistry;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void restore() {
+		droneLifecycleService.loadingTimeoutAction = DroneLifecycleService.RELEASE;
+	}
+
+	@Test
+	void releasesALoadingDroneWhenItsTimeoutPasses() {
+		DroneSnapshot drone = register(500);
+		assertEquals(DroneLoadingService.Outcome.LOADING, load(drone, 120));
+		long releases = droneLifecycleService.status().getReleases();
+
+		advancePast(droneLifecycleService.loadingTimeoutMillis);
+
+		DroneSnapshot released = read(drone);
+		assertEquals(DroneState.IDLE, released.getState());
+		assertEquals(0, released.getLoaded_weight());
+		assertEquals(drone.getVersion() + 2, released.getVersion());
+		assertEquals(0, medications(drone));
+		assertEquals(DroneState.IDLE, fleetRegistry.get(drone.getSerial_number()).getState());
+		assertEquals(0, fleetRegistry.get(drone.getSerial_number()).getLoaded_weight());
+		assertEquals(releases + 1, droneLifecycleService.status().getReleases());
+
+		// released drones are free to load again
+		assertEquals(DroneLoadingService.Outcome.LOADING, load(drone, 50));
+	}
+
+	@Test
+	void takesOffWithThePartialLoadWhenConfiguredTo() {
+		droneLifecycleService.loadingTimeoutAction = DroneLifecycleService.TAKE_OFF;
+		DroneSnapshot drone = register(500);
+		assertEquals(DroneLoadingService.Outcome.LOADING, load(drone, 120));
+
+		advancePast(droneLifecycleService.loadingTimeoutMillis);
+
+		DroneSnapshot flying = read(drone);
+		assertEquals(DroneState.DELIVERING, flying.getState());
+		assertEquals(120, flying.getLoaded_weight());
+		assertEquals(1, medications(drone));
+	}
+
+	@Test
+	void neverReleasesADroneThatFilledUp() {
+		DroneSnapshot drone = register(200);
+		assertEquals(DroneLoadingService.Outcome.LOADING, load(drone, 120));
+		assertEquals(DroneLoadingService.Outcome.LOADED, load(drone, 80));
+
+		advancePast(droneLifecycleService.dispatchDelayMillis);
+
+		DroneSnapshot flying = read(drone);
+		assertEquals(DroneState.DELIVERING, flying.getState());
+		assertEquals(200, flying.getLoaded_weight());
+		assertEquals(2, medications(drone));
+	}
+
+	private void advancePast(long delay) {
+		droneLifecycleService.advance(droneLifecycleService.wheel.now() + delay + 2 * droneLifecycleService.tickMillis);
+	}
+
+	private DroneLoadingService.Outcome load(DroneSnapshot drone, int weight) {
+		EntityMedication medication = new EntityMedication();
+		medication.setName("Paracetamol");
+		medication.setCode("PARA_" + SERIALS.incrementAndGet());
+		medication.setWeight(weight);
+		medication.setImage("aW1hZ2U=");
+		return droneLoadingService.load(drone.getSerial_number(), Collections.singletonList(medication));
+	}
+
+	private DroneSnapshot register(int weightLimit) {
+		EntityDrone drone = new EntityDrone();
+		drone.setSerial_number("LC" + SERIALS.incrementAndGet());
+		drone.setModel("Heavyweight");
+		drone.setWeight_limit(weightLimit);
+		drone.setBattery_capacity(90);
+		drone.setState(DroneState.IDLE);
+		DroneSnapshot registered = droneJdbcRepository.insertAll(Collections.singletonList(drone)).get(0);
+		fleetRegistry.put(registered);
+		return registered;
+	}
+
+	private DroneSnapshot read(DroneSnapshot drone) {
+		return droneJdbcRepository.findSnapshots(Collections.singletonList(drone.getId())).get(0);
+	}
+
+	private int medications(DroneSnapshot drone) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"medication\" WHERE \"drone_serial_number\" = ?",
+				Integer.class, drone.getSerial_number());
+	}
+
+}
@@ -0,0 +1,224 @@
+package dev.iyare.service.drone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.EntityDroneRepository;
+
+/**
+ * Runs against its own in-memory database with the journal, the lifecycle
+ * timers, the battery audit and the seed data off, so only the test moves the
+ * drones.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:drone-loading-tests",
+		"drone.journal.enabled=false", "drone.lifecycle.enabled=false", "drone.audit.enabled=false",
+		"drone.seed.enabled=false" })
+class DroneLoadingServiceTests {
+
+	private static final AtomicInteger SERIALS = new AtomicInteger();
+
+	@Autowired
+	DroneLoadingService droneLoadingService;
+
+	@Autowired
+	LoadedWeightReconciler loadedWeightReconciler;
+
+	@Autowired
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Autowired
+	EntityDroneRepository entityDroneRepository;
+
+	@Autowired
+	FleetRegistry fleetRegistry;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	int maxAttempts;
+
+	@BeforeEach
+	void remember() {
+		maxAttempts = droneLoadingService.maxAttempts;
+	}
+
+	@AfterEach
+	void restore() {
+		droneLoadingService.entityDroneRepository = entityDroneRepository;
+		droneLoadingService.maxAttempts = maxAttempts;
+	}
+
+	@Test
+	void concurrentLoadsNeverTakeADronePastItsWeightLimit() throws Exception {
+		final DroneSnapshot drone = register(500, 100);
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		List<Future<DroneLoadingService.Outcome>> outcomes = new ArrayList<Future<DroneLoadingService.Outcome>>();
+		try {
+			for (int i = 0; i < 40; i++) {
+				final int n = i;
+				outcomes.add(executor.submit((Callable<DroneLoadingService.Outcome>) () -> droneLoadingService
+						.load(drone.getSerial_number(), medications(1, 30, "L" + n))));
+			}
+			Map<DroneLoadingService.Outcome, Integer> counts = new EnumMap<DroneLoadingService.Outcome, Integer>(
+					DroneLoadingService.Outcome.class);
+			for (Future<DroneLoadingService.Outcome> outcome : outcomes) {
+				Integer count = counts.get(outcome.get());
+				counts.put(outcome.get(), count == null ? 1 : count + 1);
+			}
+
+			int loads = counts.containsKey(DroneLoadingService.Outcome.LOADING)
+					? counts.get(DroneLoadingService.Outcome.LOADING)
+					: 0;
+			assertTrue(loads > 0 && loads * 30 <= 500, counts.toString());
+			assertEquals(40 - loads, counts.getOrDefault(DroneLoadingService.Outcome.OVERWEIGHT, 0)
+					+ counts.getOrDefault(DroneLoadingService.Outcome.CONFLICT, 0), counts.toString());
+			assertLoaded(drone, loads * 30, loads);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void retriesAnAttemptThatLostTheCompareAndSet() {
+		DroneSnapshot drone = register(200, 80);
+		AtomicInteger calls = loseCompareAndSet(drone, 2);
+
+		// the registry's snapshot and then the row itself lose in the first attempt
+		assertEquals(DroneLoadingService.Outcome.LOADING,
+				droneLoadingService.load(drone.getSerial_number(), medications(2, 20, "R")));
+		assertEquals(3, calls.get());
+		assertLoaded(drone, 40, 2);
+		assertEquals(drone.getVersion() + 1, fleetRegistry.get(drone.getSerial_number()).getVersion());
+	}
+
+	@Test
+	void givesUpWithNothingWrittenWhenEveryAttemptLoses() {
+		DroneSnapshot drone = register(200, 80);
+		droneLoadingService.maxAttempts = 3;
+		AtomicInteger calls = loseCompareAndSet(drone, Integer.MAX_VALUE);
+
+		assertEquals(DroneLoadingService.Outcome.CONFLICT,
+				droneLoadingService.load(drone.getSerial_number(), medications(1, 20, "C")));
+		assertEquals(6, calls.get());
+		assertLoaded(drone, 0, 0);
+		assertEquals(drone.getVersion(), version(drone));
+		assertEquals(DroneState.IDLE, fleetRegistry.get(drone.getSerial_number()).getState());
+	}
+
+	@Test
+	void refusesADroneBelowTheLoadingBatteryEvenWhenTheRegistryIsBehind() {
+		DroneSnapshot drone = register(200, 80);
+		// a battery update the registry has not heard of
+		jdbcTemplate.update("UPDATE \"drone\" SET \"battery_capacity\" = 10 WHERE \"id\" = ?", drone.getId());
+
+		assertEquals(DroneLoadingService.Outcome.BATTERY_LOW,
+				droneLoadingService.load(drone.getSerial_number(), medications(1, 20, "B")));
+		assertLoaded(drone, 0, 0);
+	}
+
+	@Test
+	void reconcilerRestoresLoadedWeightFromTheMedications() throws Exception {
+		DroneSnapshot loaded = register(300, 90);
+		DroneSnapshot empty = register(300, 90);
+		assertEquals(DroneLoadingService.Outcome.LOADING,
+				droneLoadingService.load(loaded.getSerial_number(), medications(3, 25, "W")));
+		jdbcTemplate.update("UPDATE \"drone\" SET \"loaded_weight\" = 7 WHERE \"id\" = ?", loaded.getId());
+		jdbcTemplate.update("UPDATE \"drone\" SET \"loaded_weight\" = 5 WHERE \"id\" = ?", empty.getId());
+
+		assertEquals(2, loadedWeightReconciler.reconcile().getCorrected());
+		assertLoaded(loaded, 75, 3);
+		assertLoaded(empty, 0, 0);
+		assertEquals(0, loadedWeightReconciler.reconcile().getCorrected());
+	}
+
+	private DroneSnapshot register(int weightLimit, int battery) {
+		EntityDrone drone = new EntityDrone();
+		drone.setSerial_number("LT" + SERIALS.incrementAndGet());
+		drone.setModel("Heavyweight");
+		drone.setWeight_limit(weightLimit);
+		drone.setBattery_capacity(battery);
+		drone.setState(DroneState.IDLE);
+		DroneSnapshot registered = droneJdbcRepository.insertAll(Collections.singletonList(drone)).get(0);
+		fleetRegistry.put(registered);
+		return registered;
+	}
+
+	/**
+	 * Makes the first {@code times} compare-and-sets on {@code drone} lose, as
+	 * if another load had moved it on just before: the version is bumped, in the
+	 * same transaction, right before the update.
+	 *
+	 * @return the number of compare-and-sets tried on the drone
+	 */
+	private AtomicInteger loseCompareAndSet(final DroneSnapshot drone, final int times) {
+		final AtomicInteger calls = new AtomicInteger();
+		droneLoadingService.entityDroneRepository = (EntityDroneRepository) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { EntityDroneRepository.class }, (proxy, method, args) -> {
+					if (method.getName().equals("compareAndAddLoad") && calls.incrementAndGet() <= times)
+						jdbcTemplate.update("UPDATE \"drone\" SET \"version\" = \"version\" + 1 WHERE \"id\" = ?",
+								drone.getId());
+					try {
+						return method.invoke(entityDroneRepository, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+		return calls;
+	}
+
+	private void assertLoaded(DroneSnapshot drone, int weight, int medications) {
+		Map<String, Object> row = jdbcTemplate.queryForMap(
+				"SELECT d.\"loaded_weight\", d.\"weight_limit\", COUNT(m.\"id\") AS \"medications\", COALESCE(SUM(m.\"weight\"), 0) AS \"weight\" FROM \"drone\" d LEFT JOIN \"medication\" m ON m.\"drone_serial_number\" = d.\"serial_number\" WHERE d.\"id\" = ? GROUP BY d.\"loaded_weight\", d.\"weight_limit\"",
+				drone.getId());
+		assertEquals(weight, ((Number) row.get("loaded_weight")).intValue());
+		assertEquals(weight, ((Number) row.get("weight")).intValue());
+		assertEquals(medications, ((Number) row.get("medications")).intValue());
+		assertTrue(weight <= ((Number) row.get("weight_limit")).intValue());
+		assertEquals(weight, fleetRegistry.get(drone.getSerial_number()).getLoaded_weight());
+	}
+
+	private int version(DroneSnapshot drone) {
+		return jdbcTemplate.queryForObject("SELECT \"version\" FROM \"drone\" WHERE \"id\" = ?", Integer.class,
+				drone.getId());
+	}
+
+	private static List<EntityMedication> medications(int count, int weight, String code) {
+		List<EntityMedication> medications = new ArrayList<EntityMedication>();
+		for (int i = 0; i < count; i++) {
+			EntityMedication medication = new EntityMedication();
+			medication.setName("Medication-" + code);
+			medication.setCode(code + "_" + i);
+			medication.setWeight(weight);
+			medication.setImage("aW1hZ2U=");
+			medications.add(medication);
+		}
+		return medications;
+	}
+
+}
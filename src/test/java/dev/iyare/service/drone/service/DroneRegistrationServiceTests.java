@@ -0,0 +1,165 @@
+package dev.iyare.service.drone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.models.request.RegisterDroneRequest;
+import dev.iyare.service.drone.models.response.v2.RegistrationResult;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.SequenceIdAllocator;
+
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:drone-registration-tests",
+		"drone.journal.enabled=false", "drone.lifecycle.enabled=false", "drone.audit.enabled=false",
+		"drone.seed.enabled=false" })
+class DroneRegistrationServiceTests {
+
+	private static final AtomicInteger SERIALS = new AtomicInteger();
+
+	@Autowired
+	DroneRegistrationService droneRegistrationService;
+
+	@Autowired
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Autowired
+	FleetRegistry fleetRegistry;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Autowired
+	SequenceIdAllocator sequenceIdAllocator;
+
+	@AfterEach
+	void restore() {
+		droneRegistrationService.droneJdbcRepository = droneJdbcRepository;
+	}
+
+	@Test
+	void givesEveryDroneItsOwnResult() {
+		String registered = serial();
+		droneRegistrationService.register(Collections.singletonList(drone(registered, "80")));
+		String repeated = serial();
+
+		List<RegisterDroneRequest> requests = Arrays.asList(drone(serial(), "25"),
+				new RegisterDroneRequest("", "LightWeight", null, "80", null),
+				new RegisterDroneRequest(serial(), "Featherweight", null, "80", null),
+				new RegisterDroneRequest(serial(), "LightWeight", "501", "80", null),
+				drone(serial(), "24"), drone(serial(), "101"), drone(serial(), "full"),
+				new RegisterDroneRequest(serial(), "LightWeight", null, "80", "FLYING"),
+				drone(repeated, "80"), drone(repeated, "90"), drone(registered, "80"));
+
+		assertEquals(Arrays.asList(RegistrationResult.REGISTERED, RegistrationResult.INVALID_SERIAL,
+				RegistrationResult.INVALID_MODEL, RegistrationResult.INVALID_WEIGHT_LIMIT,
+				RegistrationResult.INVALID_BATTERY_CAPACITY, RegistrationResult.INVALID_BATTERY_CAPACITY,
+				RegistrationResult.INVALID_BATTERY_CAPACITY, RegistrationResult.INVALID_STATE,
+				RegistrationResult.REGISTERED, RegistrationResult.DUPLICATE_SERIAL,
+				RegistrationResult.DUPLICATE_SERIAL), statuses(droneRegistrationService.register(requests)));
+
+		assertEquals(25, fleetRegistry.get(requests.get(0).getSerial_number()).getBattery_capacity().intValue());
+		assertEquals(80, fleetRegistry.get(repeated).getBattery_capacity().intValue());
+		assertNull(fleetRegistry.get(requests.get(4).getSerial_number()));
+	}
+
+	@Test
+	void registrationTakesTheSameBatteryRangeAsTheEntity() {
+		assertEquals(RegistrationResult.INVALID_BATTERY_CAPACITY, droneRegistrationService
+				.validate(drone(serial(), Integer.toString(EntityDrone.MIN_BATTERY_CAPACITY - 1))).getStatus());
+		assertNull(droneRegistrationService
+				.validate(drone(serial(), Integer.toString(EntityDrone.MIN_BATTERY_CAPACITY))));
+		assertNull(droneRegistrationService
+				.validate(drone(serial(), Integer.toString(EntityDrone.MAX_BATTERY_CAPACITY))));
+		assertEquals(RegistrationResult.INVALID_BATTERY_CAPACITY, droneRegistrationService
+				.validate(drone(serial(), Integer.toString(EntityDrone.MAX_BATTERY_CAPACITY + 1))).getStatus());
+	}
+
+	@Test
+	void fallsBackToOneRowAtATimeWhenTheBatchConflicts() {
+		final String raced = serial();
+		final List<Integer> batchSizes = new ArrayList<Integer>();
+		// another request registers one of the serials between the duplicate
+		// check and the batch insert
+		droneRegistrationService.droneJdbcRepository = new DroneJdbcRepository(jdbcTemplate,
+				namedParameterJdbcTemplate, sequenceIdAllocator) {
+			@Override
+			public Set<String> findExistingSerials(Collection<String> serialNumbers) {
+				Set<String> existing = super.findExistingSerials(serialNumbers);
+				if (serialNumbers.contains(raced))
+					droneJdbcRepository.insertAll(Collections.singletonList(entity(raced)));
+				return existing;
+			}
+
+			@Override
+			public List<DroneSnapshot> insertAll(List<EntityDrone> drones) {
+				batchSizes.add(drones.size());
+				return super.insertAll(drones);
+			}
+		};
+
+		List<RegisterDroneRequest> requests = Arrays.asList(drone(serial(), "80"), drone(raced, "80"),
+				drone(serial(), "80"));
+
+		assertEquals(Arrays.asList(RegistrationResult.REGISTERED, RegistrationResult.DUPLICATE_SERIAL,
+				RegistrationResult.REGISTERED), statuses(droneRegistrationService.register(requests)));
+		assertEquals(Arrays.asList(3, 1, 1, 1), batchSizes);
+		// the failed batch left nothing behind; the raced serial is the other request's row
+		assertEquals(1, count(raced));
+		assertEquals(1, count(requests.get(0).getSerial_number()));
+		assertNotNull(fleetRegistry.get(requests.get(2).getSerial_number()));
+	}
+
+	private int count(String serialNumber) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"drone\" WHERE \"serial_number\" = ?",
+				Integer.class, serialNumber);
+	}
+
+	private static List<String> statuses(List<RegistrationResult> results) {
+		List<String> statuses = new ArrayList<String>();
+		for (RegistrationResult result : results) {
+			statuses.add(result.getStatus());
+		}
+		return statuses;
+	}
+
+	private static RegisterDroneRequest drone(String serialNumber, String battery) {
+		return new RegisterDroneRequest(serialNumber, "LightWeight", null, battery, null);
+	}
+
+	private static EntityDrone entity(String serialNumber) {
+		EntityDrone drone = new EntityDrone();
+		drone.setSerial_number(serialNumber);
+		drone.setModel("LightWeight");
+		drone.setWeight_limit(125);
+		drone.setBattery_capacity(80);
+		drone.setState(DroneState.IDLE);
+		return drone;
+	}
+
+	private static String serial() {
+		return "RG" + SERIALS.incrementAndGet();
+	}
+
+}
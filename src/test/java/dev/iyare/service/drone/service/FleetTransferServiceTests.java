@@ -0,0 +1,203 @@
+package dev.iyare.service.drone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.entities.EntityMedication;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.history.BatteryHistoryStore;
+import dev.iyare.service.drone.models.response.v2.ImportView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.repositories.MedicationJdbcRepository;
+
+/**
+ * Every test starts from empty tables.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:fleet-transfer-tests",
+		"drone.journal.enabled=false", "drone.lifecycle.enabled=false", "drone.audit.enabled=false",
+		"drone.seed.enabled=false", "drone.transfer.batch-size=2" })
+class FleetTransferServiceTests {
+
+	/** A Monday, midnight UTC */
+	private static final long T0 = 1696204800000L;
+
+	@Autowired
+	FleetTransferService fleetTransferService;
+
+	@Autowired
+	DroneLoadingService droneLoadingService;
+
+	@Autowired
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Autowired
+	MedicationJdbcRepository medicationJdbcRepository;
+
+	@Autowired
+	BatteryHistoryStore batteryHistoryStore;
+
+	@Autowired
+	FleetRegistry fleetRegistry;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clear() {
+		jdbcTemplate.update("DELETE FROM \"medication\"");
+		jdbcTemplate.update("DELETE FROM \"battery_history\"");
+		jdbcTemplate.update("DELETE FROM \"drone\"");
+		fleetRegistry.rebuild();
+	}
+
+	@Test
+	void roundTripsNdjson() throws IOException {
+		roundTrip(FleetTransferService.NDJSON, false);
+	}
+
+	@Test
+	void roundTripsCsv() throws IOException {
+		roundTrip(FleetTransferService.CSV, false);
+	}
+
+	@Test
+	void roundTripsGzip() throws IOException {
+		roundTrip(FleetTransferService.NDJSON, true);
+		clear();
+		roundTrip(FleetTransferService.CSV, true);
+	}
+
+	@Test
+	void medicationsNeedARegisteredDroneAndRebuildItsLoadedWeight() throws IOException {
+		DroneSnapshot drone = register("TR-C", 500, 80, DroneState.IDLE);
+		String ndjson = medication("TR-C", "MED_1", 40) + medication("TR-UNKNOWN", "MED_2", 10)
+				+ medication(null, "MED_3", 5) + medication("TR-C", "MED_4", 60) + medication("", "MED_5", 5);
+
+		ImportView view = fleetTransferService.importRows(FleetTransferService.MEDICATIONS,
+				FleetTransferService.NDJSON, body(ndjson));
+
+		assertEquals(4, view.getImported());
+		assertEquals(1, view.getRejected());
+		DroneSnapshot loaded = droneJdbcRepository.findSnapshots(Collections.singletonList(drone.getId())).get(0);
+		assertEquals(100, loaded.getLoaded_weight());
+		assertEquals(100, fleetRegistry.get("TR-C").getLoaded_weight());
+		assertEquals(2, medications("TR-C"));
+		assertEquals(0, medications("TR-UNKNOWN"));
+		assertEquals(Integer.valueOf(2),
+				jdbcTemplate.queryForObject(
+						"SELECT COUNT(*) FROM \"medication\" WHERE \"drone_serial_number\" IS NULL",
+						Integer.class));
+	}
+
+	private void roundTrip(String format, boolean gzip) throws IOException {
+		fleet();
+		byte[] drones = export(FleetTransferService.DRONES, format, gzip);
+		byte[] medications = export(FleetTransferService.MEDICATIONS, format, gzip);
+		byte[] history = export(FleetTransferService.BATTERY_HISTORY, format, gzip);
+		clear();
+
+		assertImported(2, fleetTransferService.importRows(FleetTransferService.DRONES, format,
+				new ByteArrayInputStream(drones)));
+		assertImported(3, fleetTransferService.importRows(FleetTransferService.MEDICATIONS, format,
+				new ByteArrayInputStream(medications)));
+		assertImported(4, fleetTransferService.importRows(FleetTransferService.BATTERY_HISTORY, format,
+				new ByteArrayInputStream(history)));
+
+		assertEquals(text(drones, gzip), text(export(FleetTransferService.DRONES, format, gzip), gzip));
+		assertEquals(text(medications, gzip), text(export(FleetTransferService.MEDICATIONS, format, gzip), gzip));
+		assertEquals(text(history, gzip), text(export(FleetTransferService.BATTERY_HISTORY, format, gzip), gzip));
+
+		DroneSnapshot loading = fleetRegistry.get("TR-A");
+		assertEquals(DroneState.LOADING, loading.getState());
+		assertEquals(150, loading.getLoaded_weight());
+		// drained below the registration minimum, and still imported
+		assertEquals(20, fleetRegistry.get("TR-B").getBattery_capacity().intValue());
+	}
+
+	/**
+	 * A loading drone with two medications, a returning one, a medication on
+	 * no drone and two battery samples per drone.
+	 */
+	private void fleet() {
+		DroneSnapshot loading = register("TR-A", 500, 90, DroneState.IDLE);
+		DroneSnapshot returning = register("TR-B", 300, 20, DroneState.RETURNING);
+		assertEquals(DroneLoadingService.Outcome.LOADING, droneLoadingService.load(loading.getSerial_number(),
+				Arrays.asList(entity(null, "MED_A1", 100), entity(null, "MED_A2", 50))));
+		medicationJdbcRepository.insertAll(Collections.singletonList(entity(null, "MED_LOOSE", 30)));
+
+		batteryHistoryStore.record(Arrays.asList(loading, returning), T0);
+		batteryHistoryStore.record(Arrays.asList(loading.withBattery(85), returning.withBattery(18)), T0 + 60000);
+	}
+
+	private byte[] export(String table, String format, boolean gzip) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		fleetTransferService.export(table, format, gzip, out);
+		return out.toByteArray();
+	}
+
+	private DroneSnapshot register(String serialNumber, int weightLimit, int battery, DroneState state) {
+		EntityDrone drone = new EntityDrone();
+		drone.setSerial_number(serialNumber);
+		drone.setModel("HeavyWeight");
+		drone.setWeight_limit(weightLimit);
+		drone.setBattery_capacity(battery);
+		drone.setState(state);
+		DroneSnapshot registered = droneJdbcRepository.insertAll(Collections.singletonList(drone)).get(0);
+		fleetRegistry.put(registered);
+		return registered;
+	}
+
+	private int medications(String serialNumber) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"medication\" WHERE \"drone_serial_number\" = ?",
+				Integer.class, serialNumber);
+	}
+
+	private static void assertImported(long imported, ImportView view) {
+		assertEquals(imported, view.getImported());
+		assertEquals(0, view.getRejected());
+	}
+
+	private static EntityMedication entity(String serialNumber, String code, int weight) {
+		EntityMedication medication = new EntityMedication();
+		medication.setDrone_serial_number(serialNumber);
+		medication.setName("Paracetamol");
+		medication.setCode(code);
+		medication.setWeight(weight);
+		medication.setImage("aW1hZ2U=");
+		return medication;
+	}
+
+	private static String medication(String serialNumber, String code, int weight) {
+		return "{\"drone_serial_number\":" + (serialNumber == null ? "null" : "\"" + serialNumber + "\"")
+				+ ",\"name\":\"Paracetamol\",\"code\":\"" + code + "\",\"weight\":" + weight
+				+ ",\"image\":\"aW1hZ2U=\"}\n";
+	}
+
+	private static String text(byte[] bytes, boolean gzip) throws IOException {
+		InputStream in = new ByteArrayInputStream(bytes);
+		return StreamUtils.copyToString(gzip ? new GZIPInputStream(in) : in, StandardCharsets.UTF_8);
+	}
+
+	private static InputStream body(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
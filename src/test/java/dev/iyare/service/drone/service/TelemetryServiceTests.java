@@ -0,0 +1,157 @@
+package dev.iyare.service.drone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import dev.iyare.service.drone.entities.EntityDrone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.history.BatteryHistoryStore;
+import dev.iyare.service.drone.history.BatteryRollups;
+import dev.iyare.service.drone.journal.FleetJournal;
+import dev.iyare.service.drone.models.request.TelemetryRequest;
+import dev.iyare.service.drone.models.response.v2.TelemetryView;
+import dev.iyare.service.drone.repositories.DroneJdbcRepository;
+import dev.iyare.service.drone.telemetry.TelemetryRing;
+
+/**
+ * Drives a telemetry service of its own with no consumer thread, so the tests
+ * decide when the ring is drained.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:telemetry-service-tests",
+		"drone.journal.enabled=false", "drone.lifecycle.enabled=false", "drone.audit.enabled=false",
+		"drone.seed.enabled=false" })
+class TelemetryServiceTests {
+
+	private static final AtomicInteger SERIALS = new AtomicInteger();
+
+	@Autowired
+	DroneJdbcRepository droneJdbcRepository;
+
+	@Autowired
+	FleetRegistry fleetRegistry;
+
+	@Autowired
+	BatteryHistoryStore batteryHistoryStore;
+
+	@Autowired
+	BatteryRollups batteryRollups;
+
+	@Autowired
+	FleetJournal fleetJournal;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	void dropsWhatDoesNotFitOnceTheTimeoutPasses() {
+		TelemetryService service = service(4, 50);
+		TelemetryView counts = new TelemetryView();
+		List<TelemetryRequest> readings = new ArrayList<TelemetryRequest>();
+		for (int i = 0; i < 6; i++) {
+			readings.add(new TelemetryRequest("D" + i, "50"));
+		}
+		readings.add(new TelemetryRequest("D6", "101"));
+		readings.add(new TelemetryRequest("", "50"));
+
+		long start = System.nanoTime();
+		service.offer(readings, counts);
+
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+		assertEquals(4, counts.getAccepted());
+		assertEquals(2, counts.getInvalid());
+		assertEquals(2, counts.getDropped());
+		assertEquals(4, service.status().getAccepted());
+		assertEquals(2, service.status().getDropped());
+		assertEquals(4, service.status().getBacklog());
+
+		// nothing waits once the ring is full and the service stopped
+		service.running = false;
+		counts = new TelemetryView();
+		service.offer(Collections.singletonList(new TelemetryRequest("D7", "50")), counts);
+		assertEquals(1, counts.getDropped());
+	}
+
+	@Test
+	void appliesOnlyTheLatestReadingOfEachDroneInABatch() {
+		DroneSnapshot first = register(80);
+		DroneSnapshot second = register(60);
+		DroneSnapshot unchanged = register(70);
+		TelemetryService service = service(16, 100);
+		TelemetryView counts = new TelemetryView();
+
+		long start = System.currentTimeMillis();
+		service.offer(Arrays.asList(reading(first, 75), reading(second, 55), reading(first, 72),
+				new TelemetryRequest("NOT-A-DRONE", "10"), reading(unchanged, 70), reading(first, 71)), counts);
+		assertEquals(6, counts.getAccepted());
+
+		service.running = false;
+		service.consume();
+
+		assertEquals(1, service.status().getBatches());
+		assertEquals(6, service.status().getApplied());
+		assertEquals(6, service.status().getLast_batch_readings());
+		assertEquals(4, service.status().getLast_batch_drones());
+		assertEquals(1, service.status().getUnknown());
+		assertEquals(0, service.status().getFailures());
+
+		assertEquals(71, battery(first));
+		assertEquals(55, battery(second));
+		assertEquals(71, fleetRegistry.get(first.getSerial_number()).getBattery_capacity().intValue());
+		assertEquals(Arrays.asList(71), history(first, start));
+		assertEquals(Arrays.asList(55), history(second, start));
+		// a level that did not change is not written again
+		assertEquals(Collections.emptyList(), history(unchanged, start));
+	}
+
+	private TelemetryService service(int ringSize, long offerTimeoutMillis) {
+		TelemetryService service = new TelemetryService(droneJdbcRepository, fleetRegistry, batteryHistoryStore,
+				batteryRollups, fleetJournal, transactionManager);
+		service.ring = new TelemetryRing(ringSize);
+		service.maxBatch = ringSize;
+		service.offerTimeoutMillis = offerTimeoutMillis;
+		service.running = true;
+		return service;
+	}
+
+	private DroneSnapshot register(int battery) {
+		EntityDrone drone = new EntityDrone();
+		drone.setSerial_number("TM" + SERIALS.incrementAndGet());
+		drone.setModel("Lightweight");
+		drone.setWeight_limit(200);
+		drone.setBattery_capacity(battery);
+		drone.setState(DroneState.IDLE);
+		DroneSnapshot registered = droneJdbcRepository.insertAll(Collections.singletonList(drone)).get(0);
+		fleetRegistry.put(registered);
+		return registered;
+	}
+
+	private int battery(DroneSnapshot drone) {
+		return droneJdbcRepository.findSnapshots(Collections.singletonList(drone.getId())).get(0).getBattery_capacity();
+	}
+
+	private List<Integer> history(DroneSnapshot drone, long from) {
+		List<Integer> levels = new ArrayList<Integer>();
+		batteryHistoryStore.scan(drone.getSerial_number(), from, Long.MAX_VALUE,
+				(timestamp, level) -> levels.add(level));
+		return levels;
+	}
+
+	private static TelemetryRequest reading(DroneSnapshot drone, int level) {
+		return new TelemetryRequest(drone.getSerial_number(), Integer.toString(level));
+	}
+
+}
@@ -0,0 +1,464 @@
+package dev.iyare.service.drone.simulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import dev.iyare.service.drone.DroneServiceApplication;
+import dev.iyare.service.drone.enums.Drone;
+import dev.iyare.service.drone.enums.DroneState;
+import dev.iyare.service.drone.fleet.DroneSnapshot;
+import dev.iyare.service.drone.fleet.FleetRegistry;
+import dev.iyare.service.drone.models.response.v2.TelemetryStatusView;
+import dev.iyare.service.drone.service.BatteryAuditService;
+import dev.iyare.service.drone.service.DroneLifecycleService;
+import dev.iyare.service.drone.service.TelemetryService;
+
+/**
+ * Drives a simulated fleet against the real application on a virtual clock,
+ * one virtual minute per tick, and reports endpoint latency percentiles and
+ * database growth. Everything random comes from one seeded {@link Random} and
+ * every step waits for the previous one to land, so a seed replays the same
+ * fleet history.
+ *
+ * <p>
+ * Each tick:
+ * <ul>
+ * <li>batteries drain while DELIVERING or RETURNING and recharge while IDLE;
+ * changed levels are pushed through {@code POST /telemetry};</li>
+ * <li>the drone lifecycle engine is advanced to the virtual time, which takes
+ * loaded drones off to DELIVERING, then DELIVERED (medications dropped off,
+ * load cleared), RETURNING and IDLE;</li>
+ * <li>orders arrive at {@code --orders-per-drone-hour} and go through
+ * {@code POST /dispatch};</li>
+ * <li>a few drones are read through {@code get-drone-battery-level}, and
+ * every ten ticks one chart through {@code battery-history};</li>
+ * <li>every {@code --audit-minutes} the battery audit runs at virtual time.</li>
+ * </ul>
+ *
+ * <pre>
+ * FleetSimulator [--drones=1000,10000,100000] [--hours=4] [--seed=42]
+ *                [--orders-per-drone-hour=0.5] [--audit-minutes=5]
+ * </pre>
+ *
+ * Each fleet size runs against a fresh application and in-memory database,
+ * journaled to a temporary directory. At the end the application is restarted
+ * on an empty database, and every drone and loaded medication is expected back
+ * from the journal.
+ */
+public final class FleetSimulator
+{
+	static final String PUBLIC_KEY = "TXVzYWxhIHNvZnQgSW50ZXJ2aWV3";
+	static final String BASE = "/drone/app/v2/service";
+	static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+	/** battery percent per virtual minute */
+	static final double DRAIN_PER_MINUTE = 0.8;
+	static final double CHARGE_PER_MINUTE = 1.5;
+
+	/** minutes a drone waits for more orders after its first one */
+	static final int LOADING_MINUTES = 5;
+	static final int DROP_OFF_MINUTES = 2;
+	static final int LEG_MINUTES = 19;
+
+	static final int REGISTER_BATCH = 500;
+	static final int TELEMETRY_BATCH = 5000;
+	static final int LEVEL_READS_PER_TICK = 20;
+
+	/** a 1x1 PNG, base64 */
+	static final String IMAGE = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+	final int droneCount;
+	final int hours;
+	final double ordersPerDroneHour;
+	final int auditMinutes;
+	final Random random;
+
+	final LatencyRecorder latencies = new LatencyRecorder();
+	final List<SimulatedDrone> drones = new ArrayList<SimulatedDrone>();
+
+	Path journal;
+	ServletWebServerApplicationContext context;
+	String baseUrl;
+	JdbcTemplate jdbcTemplate;
+	FleetRegistry fleetRegistry;
+	TelemetryService telemetryService;
+	BatteryAuditService batteryAuditService;
+	DroneLifecycleService droneLifecycleService;
+
+	long now;
+	long orders;
+	long undispatched;
+	long telemetryReadings;
+	long auditRows;
+	long registeredHeap;
+
+	FleetSimulator(int droneCount, int hours, long seed, double ordersPerDroneHour, int auditMinutes)
+	{
+		this.droneCount = droneCount;
+		this.hours = hours;
+		this.ordersPerDroneHour = ordersPerDroneHour;
+		this.auditMinutes = auditMinutes;
+		this.random = new Random(seed);
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		String droneCounts = "1000,10000,100000";
+		int hours = 4;
+		long seed = 42;
+		double ordersPerDroneHour = 0.5;
+		int auditMinutes = 5;
+
+		for (String arg : args)
+		{
+			String value = arg.substring(arg.indexOf('=') + 1);
+			if (arg.startsWith("--drones="))
+				droneCounts = value;
+			else if (arg.startsWith("--hours="))
+				hours = Integer.parseInt(value);
+			else if (arg.startsWith("--seed="))
+				seed = Long.parseLong(value);
+			else if (arg.startsWith("--orders-per-drone-hour="))
+				ordersPerDroneHour = Double.parseDouble(value);
+			else if (arg.startsWith("--audit-minutes="))
+				auditMinutes = Integer.parseInt(value);
+			else
+				throw new IllegalArgumentException("Unknown argument: " + arg);
+		}
+
+		for (String droneCount : droneCounts.split(","))
+		{
+			FleetSimulator simulator = new FleetSimulator(Integer.parseInt(droneCount.trim()), hours, seed,
+					ordersPerDroneHour, auditMinutes);
+			simulator.run(System.out);
+		}
+		System.exit(0);
+	}
+
+	void run(PrintStream out) throws IOException
+	{
+		journal = Files.createTempDirectory("fleet-journal");
+		long started = System.nanoTime();
+		start();
+		long startNanos = System.nanoTime() - started;
+		try
+		{
+			long registerStarted = System.nanoTime();
+			register();
+			long registerNanos = System.nanoTime() - registerStarted;
+			registeredHeap = heapAfterGc();
+
+			long simulationStarted = System.nanoTime();
+			for (int tick = 1; tick <= hours * 60; tick++)
+			{
+				tick(tick);
+			}
+			long simulationNanos = System.nanoTime() - simulationStarted;
+
+			report(out, registerNanos, simulationNanos);
+			restart(out, startNanos);
+		} finally
+		{
+			context.close();
+			try (Stream<Path> files = Files.walk(journal))
+			{
+				for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+				{
+					Files.delete(file);
+				}
+			}
+		}
+	}
+
+	void start()
+	{
+		context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(DroneServiceApplication.class)
+				.logStartupInfo(false)
+				.run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:sim" + System.nanoTime()
+						+ ";DB_CLOSE_DELAY=-1", "--logging.level.root=WARN", "--drone.audit.enabled=false",
+						"--drone.lifecycle.enabled=false", "--drone.journal.enabled=true",
+						"--drone.journal.dir=" + journal,
+						"--drone.lifecycle.loading-timeout-ms=" + LOADING_MINUTES * MINUTE,
+						"--drone.lifecycle.loading-timeout-action=take-off",
+						"--drone.lifecycle.dispatch-delay-ms=" + MINUTE,
+						"--drone.lifecycle.delivery-ms=" + LEG_MINUTES * MINUTE,
+						"--drone.lifecycle.drop-off-ms=" + DROP_OFF_MINUTES * MINUTE,
+						"--drone.lifecycle.return-ms=" + LEG_MINUTES * MINUTE);
+		baseUrl = "http://localhost:" + context.getWebServer().getPort() + BASE;
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		fleetRegistry = context.getBean(FleetRegistry.class);
+		telemetryService = context.getBean(TelemetryService.class);
+		batteryAuditService = context.getBean(BatteryAuditService.class);
+		droneLifecycleService = context.getBean(DroneLifecycleService.class);
+		now = System.currentTimeMillis();
+	}
+
+	void register() throws IOException
+	{
+		Drone[] models = Drone.values();
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < droneCount; i++)
+		{
+			Drone model = models[random.nextInt(models.length)];
+			SimulatedDrone drone = new SimulatedDrone(String.format("SIM%07d", i), 30 + random.nextInt(71));
+			drones.add(drone);
+
+			body.append("{\"serial_number\":\"").append(drone.serialNumber).append("\",\"model\":\"")
+					.append(model.getModel()).append("\",\"weight_limit\":").append(model.getWeightLimit())
+					.append(",\"battery_capacity\":").append(drone.reported).append(",\"state\":\"IDLE\"}\n");
+			if ((i + 1) % REGISTER_BATCH == 0 || i == droneCount - 1)
+			{
+				call("register-drones", "POST", "/register-drones", body.toString());
+				body.setLength(0);
+			}
+		}
+	}
+
+	void tick(int tick) throws IOException
+	{
+		now += MINUTE;
+
+		StringBuilder telemetry = new StringBuilder();
+		int readings = 0;
+
+		for (SimulatedDrone drone : drones)
+		{
+			DroneState state = fleetRegistry.get(drone.serialNumber).getState();
+			if (state == DroneState.DELIVERING || state == DroneState.RETURNING)
+				drone.battery = Math.max(0, drone.battery - DRAIN_PER_MINUTE);
+			else if (state == DroneState.IDLE)
+				drone.battery = Math.min(100, drone.battery + CHARGE_PER_MINUTE);
+
+			int level = (int) drone.battery;
+			if (level != drone.reported)
+			{
+				drone.reported = level;
+				telemetry.append("{\"serial_number\":\"").append(drone.serialNumber)
+						.append("\",\"battery_capacity\":").append(level).append("}\n");
+				if (++readings % TELEMETRY_BATCH == 0)
+				{
+					call("telemetry", "POST", "/telemetry", telemetry.toString());
+					telemetry.setLength(0);
+				}
+			}
+		}
+		if (telemetry.length() > 0)
+			call("telemetry", "POST", "/telemetry", telemetry.toString());
+		telemetryReadings += readings;
+
+		// the consumer's batch holds row locks on the drones it updates
+		awaitTelemetry();
+		long started = System.nanoTime();
+		droneLifecycleService.advance(now);
+		latencies.record("(lifecycle tick)", System.nanoTime() - started);
+
+		dispatchOrders();
+
+		for (int i = 0; i < LEVEL_READS_PER_TICK; i++)
+		{
+			call("get-drone-battery-level", "GET", "/get-drone-battery-level/" + randomDrone().serialNumber, null);
+		}
+		if (tick % 10 == 0)
+			call("battery-history", "GET", "/battery-history/" + randomDrone().serialNumber + "?step=1h", null);
+
+		if (tick % auditMinutes == 0)
+		{
+			started = System.nanoTime();
+			auditRows += batteryAuditService.auditBatteries(now);
+			latencies.record("(battery audit)", System.nanoTime() - started);
+		}
+	}
+
+	SimulatedDrone randomDrone()
+	{
+		return drones.get(random.nextInt(drones.size()));
+	}
+
+	void dispatchOrders() throws IOException
+	{
+		double expected = droneCount * ordersPerDroneHour / 60;
+		int count = (int) expected + (random.nextDouble() < expected - (int) expected ? 1 : 0);
+
+		for (int i = 0; i < count; i++)
+		{
+			orders++;
+			StringBuilder body = new StringBuilder("{\"medications\":[");
+			int medications = 1 + random.nextInt(3);
+			for (int m = 0; m < medications; m++)
+			{
+				if (m > 0)
+					body.append(',');
+				body.append("{\"name\":\"Med-").append(random.nextInt(100)).append("\",\"code\":\"MED_")
+						.append(random.nextInt(100)).append("\",\"weight\":").append(10 + random.nextInt(91))
+						.append(",\"image\":\"").append(IMAGE).append("\"}");
+			}
+			body.append("]}");
+
+			JsonObject response = call("dispatch", "POST", "/dispatch", body.toString());
+			if (!"00".equals(response.get("responseCode").getAsString()))
+				undispatched++;
+		}
+	}
+
+	/**
+	 * Waits until the telemetry consumer has applied everything posted, so
+	 * dispatch sees this tick's battery levels.
+	 */
+	void awaitTelemetry()
+	{
+		TelemetryStatusView status;
+		while ((status = telemetryService.status()).getApplied() < status.getAccepted())
+		{
+			Thread.yield();
+		}
+	}
+
+	JsonObject call(String endpoint, String method, String path, String body) throws IOException
+	{
+		long started = System.nanoTime();
+
+		HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+		connection.setRequestMethod(method);
+		connection.setRequestProperty("Content-Type", "application/json");
+		connection.setRequestProperty("PublicKey", PUBLIC_KEY);
+		if (body != null)
+		{
+			connection.setDoOutput(true);
+			try (OutputStream output = connection.getOutputStream())
+			{
+				output.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		ByteArrayOutputStream response = new ByteArrayOutputStream();
+		try (InputStream input = connection.getInputStream())
+		{
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = input.read(buffer)) != -1)
+			{
+				response.write(buffer, 0, read);
+			}
+		}
+
+		latencies.record(endpoint, System.nanoTime() - started);
+		return new JsonParser().parse(new String(response.toByteArray(), StandardCharsets.UTF_8)).getAsJsonObject();
+	}
+
+	void report(PrintStream out, long registerNanos, long simulationNanos)
+	{
+		long simulatedMillis = hours * 60 * MINUTE;
+		out.println();
+		out.println(String.format("%d drones, %d virtual hour(s) in %.1fs (%.0fx), registration %.1fs", droneCount,
+				hours, simulationNanos / 1e9, simulatedMillis / (simulationNanos / 1e6), registerNanos / 1e9));
+		out.println(String.format("  orders %d, undispatched %d, trips completed %d, telemetry readings %d, "
+				+ "audit rows %d", orders, undispatched, droneLifecycleService.status().getReturns(),
+				telemetryReadings, auditRows));
+		latencies.report(out);
+
+		out.print("  rows:");
+		for (String table : new String[] { "drone", "medication", "battery_history" })
+		{
+			out.print(" " + table + "=" + jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"" + table + "\"",
+					Long.class));
+		}
+		out.println();
+		out.println(String.format("  heap after GC: %.1f MB after registration, %.1f MB at the end",
+				registeredHeap / 1048576.0, heapAfterGc() / 1048576.0));
+	}
+
+	/**
+	 * Stops the application, which snapshots the journal, and starts it again
+	 * on a new in-memory database, so the fleet can only come back from the
+	 * journal.
+	 */
+	void restart(PrintStream out, long firstStartNanos)
+	{
+		Map<String, String> before = fleetState();
+		long loaded = loadedMedications();
+		context.close();
+
+		long started = System.nanoTime();
+		start();
+		long restartNanos = System.nanoTime() - started;
+
+		Map<String, String> after = fleetState();
+		int mismatched = 0;
+		for (Map.Entry<String, String> drone : before.entrySet())
+		{
+			if (!drone.getValue().equals(after.get(drone.getKey())))
+				mismatched++;
+		}
+		out.println(String.format("  restart from the journal: %d of %d drone(s) and %d of %d loaded "
+				+ "medication(s), %d mismatched, startup %.1fs (first start %.1fs)", after.size(), before.size(),
+				loadedMedications(), loaded, mismatched, restartNanos / 1e9, firstStartNanos / 1e9));
+	}
+
+	Map<String, String> fleetState()
+	{
+		Map<String, String> drones = new HashMap<String, String>();
+		for (DroneSnapshot drone : fleetRegistry.all())
+		{
+			drones.put(drone.getSerial_number(), drone.getVersion() + " " + drone.getState() + " "
+					+ drone.getLoaded_weight() + " " + drone.getBattery_capacity());
+		}
+		return drones;
+	}
+
+	long loadedMedications()
+	{
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM \"medication\" WHERE \"drone_serial_number\" IS NOT NULL", Long.class);
+	}
+
+	/**
+	 * The database is in memory, so its growth shows up as heap that survives
+	 * a full collection.
+	 */
+	static long heapAfterGc()
+	{
+		System.gc();
+		return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+	}
+
+	/**
+	 * The simulator's view of one drone: the true battery level, which the
+	 * service only learns through telemetry.
+	 */
+	static final class SimulatedDrone
+	{
+		final String serialNumber;
+		double battery;
+		int reported;
+
+		SimulatedDrone(String serialNumber, int battery)
+		{
+			this.serialNumber = serialNumber;
+			this.battery = battery;
+			this.reported = battery;
+		}
+	}
+}
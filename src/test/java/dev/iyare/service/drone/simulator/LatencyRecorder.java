@@ -0,0 +1,55 @@
+package dev.iyare.service.drone.simulator;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Every latency recorded per endpoint, reported as percentiles. Kept whole
+ * rather than bucketed: a run records at most a few million calls.
+ */
+final class LatencyRecorder
+{
+	private final Map<String, Series> series = new TreeMap<String, Series>();
+
+	void record(String endpoint, long nanos)
+	{
+		Series values = series.get(endpoint);
+		if (values == null)
+			series.put(endpoint, values = new Series());
+		values.add(nanos);
+	}
+
+	void report(PrintStream out)
+	{
+		out.println(String.format("  %-28s %9s %9s %9s %9s %9s", "endpoint", "calls", "p50 ms", "p95 ms", "p99 ms",
+				"max ms"));
+		for (Map.Entry<String, Series> entry : series.entrySet())
+		{
+			long[] sorted = Arrays.copyOf(entry.getValue().nanos, entry.getValue().size);
+			Arrays.sort(sorted);
+			out.println(String.format("  %-28s %9d %9.2f %9.2f %9.2f %9.2f", entry.getKey(), sorted.length,
+					percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+					sorted[sorted.length - 1] / 1e6));
+		}
+	}
+
+	private static double percentile(long[] sorted, double fraction)
+	{
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)] / 1e6;
+	}
+
+	private static final class Series
+	{
+		long[] nanos = new long[1024];
+		int size;
+
+		void add(long value)
+		{
+			if (size == nanos.length)
+				nanos = Arrays.copyOf(nanos, size * 2);
+			nanos[size++] = value;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package dev.iyare.service.drone.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TelemetryRingTests {
+
+	@Test
+	void roundsTheCapacityUpToAPowerOfTwo() {
+		assertEquals(2, new TelemetryRing(0).capacity());
+		assertEquals(8, new TelemetryRing(8).capacity());
+		assertEquals(16, new TelemetryRing(9).capacity());
+	}
+
+	@Test
+	void claimsWrapTheRingAndDrainInSequenceOrder() {
+		TelemetryRing ring = new TelemetryRing(8);
+		List<String> drained = new ArrayList<String>();
+		int next = 0;
+
+		// 3 does not divide 8, so claims straddle the end of the array
+		for (int round = 0; round < 10; round++) {
+			long first = ring.tryClaim(3);
+			assertEquals(round * 3, first);
+			for (int i = 0; i < 3; i++) {
+				ring.publish(first + i, "D" + next, next++);
+			}
+			assertEquals(3, ring.backlog());
+			assertEquals(3, ring.drain(8, (serialNumber, level) -> drained.add(serialNumber + "=" + level)));
+			assertEquals(0, ring.backlog());
+		}
+
+		assertEquals(30, drained.size());
+		for (int i = 0; i < 30; i++) {
+			assertEquals("D" + i + "=" + i, drained.get(i));
+		}
+	}
+
+	@Test
+	void refusesAClaimThatWouldOverrunTheConsumer() {
+		TelemetryRing ring = new TelemetryRing(8);
+		assertEquals(0, ring.tryClaim(6));
+		assertEquals(-1, ring.tryClaim(3));
+		assertEquals(6, ring.tryClaim(2));
+		assertEquals(-1, ring.tryClaim(1));
+		for (int i = 0; i < 8; i++) {
+			ring.publish(i, "D" + i, i);
+		}
+
+		assertEquals(3, ring.drain(3, (serialNumber, level) -> {
+		}));
+		// only the drained slots are free again
+		assertEquals(-1, ring.tryClaim(4));
+		assertEquals(8, ring.tryClaim(3));
+		assertEquals(8, ring.backlog());
+	}
+
+	@Test
+	void drainStopsAtTheFirstUnpublishedSlot() {
+		TelemetryRing ring = new TelemetryRing(8);
+		long first = ring.tryClaim(4);
+		ring.publish(first, "D0", 0);
+		ring.publish(first + 2, "D2", 2);
+		ring.publish(first + 3, "D3", 3);
+		List<Integer> levels = new ArrayList<Integer>();
+
+		assertEquals(1, ring.drain(8, (serialNumber, level) -> levels.add(level)));
+		// D2 and D3 wait behind D1
+		assertEquals(0, ring.drain(8, (serialNumber, level) -> levels.add(level)));
+
+		ring.publish(first + 1, "D1", 1);
+		assertEquals(3, ring.drain(8, (serialNumber, level) -> levels.add(level)));
+		assertEquals(Arrays.asList(0, 1, 2, 3), levels);
+	}
+
+	@Test
+	void keepsEachProducersOrderAcrossConcurrentProducers() throws InterruptedException {
+		final int producers = 4;
+		final int readings = 20000;
+		final TelemetryRing ring = new TelemetryRing(64);
+		final CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for (int p = 0; p < producers; p++) {
+			final String serialNumber = "P" + p;
+			Thread producer = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				int level = 0;
+				while (level < readings) {
+					int count = Math.min(1 + level % 5, readings - level);
+					long first = ring.tryClaim(count);
+					if (first < 0) {
+						Thread.yield();
+						continue;
+					}
+					for (int i = 0; i < count; i++) {
+						ring.publish(first + i, serialNumber, level++);
+					}
+				}
+			});
+			producer.start();
+			threads.add(producer);
+		}
+
+		final int[] expected = new int[producers];
+		final List<String> errors = new ArrayList<String>();
+		int drained = 0;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		start.countDown();
+
+		while (drained < producers * readings && System.nanoTime() < deadline) {
+			drained += ring.drain(16, (serialNumber, level) -> {
+				int producer = serialNumber.charAt(1) - '0';
+				if (expected[producer] != level)
+					errors.add(serialNumber + " expected " + expected[producer] + " but was " + level);
+				expected[producer] = level + 1;
+			});
+		}
+		for (Thread producer : threads) {
+			producer.join(TimeUnit.SECONDS.toMillis(5));
+		}
+
+		assertTrue(errors.isEmpty(), errors.toString());
+		assertEquals(producers * readings, drained);
+		for (int p = 0; p < producers; p++) {
+			assertEquals(readings, expected[p]);
+		}
+		assertEquals(0, ring.backlog());
+	}
+
+}
@@ -0,0 +1,44 @@
+package dev.iyare.service.drone.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.stream.JsonReader;
+
+class BoundedJsonTokenReaderTests {
+
+	@Test
+	void passesTokensUpToTheCapAndCountsEachOnItsOwn() throws IOException {
+		// the object as a whole is far longer than the cap, and escapes do not end a string
+		JsonReader reader = new JsonReader(new BoundedJsonTokenReader(new StringReader(
+				"{\"name\": \"abcdef\", \"code\": \"ab\\\"cd\", \"weight\": 123456, 'x': yz}"), 6));
+		reader.setLenient(true);
+		reader.beginObject();
+		assertEquals("name", reader.nextName());
+		assertEquals("abcdef", reader.nextString());
+		assertEquals("code", reader.nextName());
+		assertEquals("ab\"cd", reader.nextString());
+		assertEquals("weight", reader.nextName());
+		assertEquals(123456, reader.nextInt());
+		assertEquals("x", reader.nextName());
+		assertEquals("yz", reader.nextString());
+		reader.endObject();
+	}
+
+	@Test
+	void failsOnAStringOrLiteralPastTheCap() {
+		assertThrows(RequestLimitException.class,
+				() -> new JsonReader(new BoundedJsonTokenReader(new StringReader("[\"abcdefg\"]"), 6)).beginArray());
+		JsonReader literal = new JsonReader(new BoundedJsonTokenReader(new StringReader("[1234567]"), 6));
+		assertThrows(RequestLimitException.class, () -> {
+			literal.beginArray();
+			literal.nextLong();
+		});
+	}
+
+}
@@ -0,0 +1,67 @@
+package dev.iyare.service.drone.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvUtilTests {
+
+	@Test
+	void readsBackWhatItWrites() throws IOException {
+		List<String[]> rows = Arrays.asList(new String[] { "serial_number", "model", "state" },
+				new String[] { "A1", "Lightweight", null },
+				new String[] { "with,comma", "with \"quotes\"", "two\nlines" },
+				new String[] { "", "\"", "end" });
+		StringWriter out = new StringWriter();
+		for (String[] row : rows) {
+			CsvUtil.writeRow(out, row);
+		}
+		assertTrue(out.toString().startsWith("serial_number,model,state\nA1,Lightweight,\n\"with,comma\""));
+
+		StringReader in = new StringReader(out.toString());
+		List<String> fields = new ArrayList<String>();
+		StringBuilder buffer = new StringBuilder();
+		for (String[] row : rows) {
+			assertTrue(CsvUtil.readRow(in, fields, buffer));
+			// empty and null fields are both written empty, and read back as null
+			assertEquals(Arrays.asList(row[0] == null || row[0].isEmpty() ? null : row[0], row[1], row[2]), fields);
+		}
+		assertFalse(CsvUtil.readRow(in, fields, buffer));
+	}
+
+	@Test
+	void acceptsCrlfQuotedEmptyFieldsAndBlankLines() throws IOException {
+		StringReader in = new StringReader("a,\"\",c\r\n\r\n\"x\"\"y\",2\r\nlast,\"no newline\"");
+		List<String> fields = new ArrayList<String>();
+		StringBuilder buffer = new StringBuilder();
+		assertTrue(CsvUtil.readRow(in, fields, buffer));
+		assertEquals(Arrays.asList("a", "", "c"), fields);
+		assertTrue(CsvUtil.readRow(in, fields, buffer));
+		assertEquals(Arrays.asList("x\"y", "2"), fields);
+		assertTrue(CsvUtil.readRow(in, fields, buffer));
+		assertEquals(Arrays.asList("last", "no newline"), fields);
+		assertFalse(CsvUtil.readRow(in, fields, buffer));
+	}
+
+	@Test
+	void failsAsSoonAsAFieldRunsPastTheCap() throws IOException {
+		StringReader in = new StringReader("abcd,\"ab\"\"c\"\n\"abcde");
+		List<String> fields = new ArrayList<String>();
+		StringBuilder buffer = new StringBuilder();
+		assertTrue(CsvUtil.readRow(in, fields, buffer, 4));
+		assertEquals(Arrays.asList("abcd", "ab\"c"), fields);
+		assertThrows(RequestLimitException.class, () -> CsvUtil.readRow(in, fields, buffer, 4));
+		assertEquals(4, buffer.length());
+	}
+
+}
@@ -0,0 +1,127 @@
+package dev.iyare.service.drone.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.iyare.service.drone.models.request.LoadDroneRequest;
+
+class JsonRequestReaderTests {
+
+	private final JsonRequestReader reader = new JsonRequestReader(4096, 3, 64, 10);
+
+	@Test
+	void readsALoadWithinTheLimits() throws IOException {
+		LoadDroneRequest request = reader.readLoadDroneRequest(body(load(3, image(64))));
+
+		assertEquals("SN1", request.getSerial_number());
+		assertEquals(3, request.getMedications().size());
+		assertEquals(image(64), request.getMedications().get(2).getImage());
+		assertEquals("10", request.getMedications().get(0).getWeight());
+	}
+
+	@Test
+	void refusesABodyPastItsLimit() {
+		RequestLimitException e = assertThrows(RequestLimitException.class,
+				() -> new JsonRequestReader(100, 50, 1024, 10).readLoadDroneRequest(body(load(3, image(40)))));
+		assertTrue(e.getMessage().contains("100"), e.getMessage());
+	}
+
+	@Test
+	void refusesMoreMedicationsThanTheLimit() {
+		RequestLimitException e = assertThrows(RequestLimitException.class,
+				() -> reader.readLoadDroneRequest(body(load(4, image(8)))));
+		assertEquals("Too many medications, the limit is 3", e.getMessage());
+	}
+
+	@Test
+	void refusesAnImagePastItsLimit() {
+		RequestLimitException e = assertThrows(RequestLimitException.class,
+				() -> reader.readLoadDroneRequest(body(load(1, image(65)))));
+		assertTrue(e.getMessage().contains("64"), e.getMessage());
+	}
+
+	@Test
+	void refusesAnOversizedImageWhileItStreamsIn() {
+		// an image that never ends, under a body cap that never trips: only a
+		// check made while the string is read can stop it
+		CountingInputStream endless = new CountingInputStream();
+		InputStream body = new SequenceInputStream(
+				new ByteArrayInputStream("{\"serial_number\":\"SN1\",\"medications\":[{\"image\":\""
+						.getBytes(StandardCharsets.UTF_8)),
+				endless);
+
+		assertThrows(RequestLimitException.class,
+				() -> new JsonRequestReader(Long.MAX_VALUE, 50, 1024, 10).readLoadDroneRequest(body));
+		assertTrue(endless.count < 64 * 1024, Long.toString(endless.count));
+	}
+
+	@Test
+	void refusesMoreBatchItemsThanTheLimit() {
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < 11; i++) {
+			ndjson.append("{\"serial_number\":\"SN").append(i).append("\"}\n");
+		}
+		List<Integer> chunks = new ArrayList<Integer>();
+
+		RequestLimitException e = assertThrows(RequestLimitException.class,
+				() -> reader.readBatch(body(ndjson.toString()), 4, reader::readRegisterDroneRequest,
+						chunk -> chunks.add(chunk.size())));
+		assertEquals("Too many items in batch, the limit is 10", e.getMessage());
+		assertEquals(2, chunks.size());
+	}
+
+	private static String load(int medications, String image) {
+		StringBuilder json = new StringBuilder("{\"serial_number\":\"SN1\",\"medications\":[");
+		for (int i = 0; i < medications; i++) {
+			if (i > 0)
+				json.append(',');
+			json.append("{\"name\":\"Med\",\"weight\":10,\"code\":\"MED_").append(i).append("\",\"image\":\"")
+					.append(image).append("\"}");
+		}
+		return json.append("]}").toString();
+	}
+
+	private static String image(int length) {
+		StringBuilder image = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			image.append('A');
+		}
+		return image.toString();
+	}
+
+	private static InputStream body(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static class CountingInputStream extends InputStream {
+
+		long count;
+
+		@Override
+		public int read() {
+			count++;
+			return 'A';
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			for (int i = off; i < off + len; i++) {
+				b[i] = 'A';
+			}
+			count += len;
+			return len;
+		}
+	}
+
+}
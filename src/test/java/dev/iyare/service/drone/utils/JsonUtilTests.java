@@ -0,0 +1,102 @@
+package dev.iyare.service.drone.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
+class JsonUtilTests {
+
+	/**
+	 * What JsonUtil.getGson() used to build on every call.
+	 */
+	private static final Gson LEGACY = new GsonBuilder().setDateFormat(JsonUtil.DATE_FORMAT).create();
+
+	static class Stamped {
+		String name;
+		Date created;
+		Timestamp updated;
+	}
+
+	@Test
+	void readsTheLegacyFormatInTheSystemTimeZone() throws Exception {
+		Date expected = new SimpleDateFormat(JsonUtil.DATE_FORMAT, Locale.US).parse("2023-03-26 01:30:15");
+
+		Stamped stamped = JsonUtil.fromJson(
+				"{\"name\":\"a\",\"created\":\"2023-03-26 01:30:15\",\"updated\":\"2023-03-26 01:30:15\"}",
+				Stamped.class);
+
+		assertEquals(expected, stamped.created);
+		assertEquals(expected.getTime(), stamped.updated.getTime());
+		assertEquals(expected.getTime(), JsonUtil.parseDate("2023-03-26 01:30:15"));
+	}
+
+	@Test
+	void fallsBackToIso8601() {
+		assertEquals(1679794215000L, JsonUtil.parseDate("2023-03-26T01:30:15Z"));
+		assertEquals(1679794215000L, JsonUtil.parseDate("2023-03-26T03:30:15+02:00"));
+		assertEquals(1679794215000L, JsonUtil.parseDate("2023-03-26T03:30:15+0200"));
+		assertEquals(1679794215123L, JsonUtil.parseDate("2023-03-26T01:30:15.123Z"));
+		// no offset is UTC
+		assertEquals(1679794215000L, JsonUtil.parseDate("2023-03-26T01:30:15"));
+		assertEquals(1679788800000L, JsonUtil.parseDate("2023-03-26"));
+
+		assertEquals(1679794215000L, JsonUtil.fromJson("{\"created\":\"2023-03-26T01:30:15Z\"}", Stamped.class).created
+				.getTime());
+	}
+
+	@Test
+	void rejectsDatesInNeitherFormat() {
+		assertThrows(IllegalArgumentException.class, () -> JsonUtil.parseDate("26/03/2023"));
+		assertThrows(JsonSyntaxException.class,
+				() -> JsonUtil.fromJson("{\"created\":\"yesterday\"}", Stamped.class));
+	}
+
+	@Test
+	void writesDatesExactlyLikeTheOldSerializer() {
+		Stamped stamped = new Stamped();
+		stamped.name = "<a & b>";
+		// milliseconds are dropped by the format on both sides
+		stamped.created = new Date(1679794215123L);
+		stamped.updated = new Timestamp(1000000000000L);
+
+		assertEquals(LEGACY.toJson(stamped), JsonUtil.toJson(stamped));
+
+		stamped.created = null;
+		assertEquals(LEGACY.toJson(stamped), JsonUtil.toJson(stamped));
+	}
+
+	@Test
+	void readsBackWhatItWrites() {
+		Stamped stamped = new Stamped();
+		stamped.created = new Date(1679794215000L);
+
+		assertEquals(stamped.created, JsonUtil.fromJson(JsonUtil.toJson(stamped), Stamped.class).created);
+	}
+
+	@Test
+	void rejectsAnythingAfterTheValue() {
+		assertThrows(JsonSyntaxException.class, () -> JsonUtil.fromJson("{\"name\":\"a\"} {}", Stamped.class));
+		assertThrows(JsonSyntaxException.class, () -> JsonUtil.fromJson("{\"name\":\"a\"} trailing", Stamped.class));
+		assertThrows(JsonSyntaxException.class, () -> JsonUtil.fromJson("{\"name\":\"a\"", Stamped.class));
+		assertEquals("a", JsonUtil.fromJson(" {\"name\":\"a\"} \n", Stamped.class).name);
+	}
+
+	@Test
+	void readsAnEmptyDocumentAsNull() {
+		assertNull(JsonUtil.fromJson("", Stamped.class));
+		assertNull(JsonUtil.fromJson("  \n", Stamped.class));
+		assertNull(JsonUtil.fromJson((String) null, Stamped.class));
+	}
+
+}
@@ -0,0 +1,46 @@
+package dev.iyare.service.drone.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RegExPatternUtilTests {
+
+	@Test
+	void everyCharacterIsJudgedLikeTheRegex() {
+		for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+			String input = String.valueOf((char) c);
+			assertEquals(RegExPatternUtil.MED_NAME_PATTERN.matcher(input).matches(),
+					RegExPatternUtil.matchMedName(input), "name char " + c);
+			assertEquals(RegExPatternUtil.MED_CODE_PATTERN.matcher(input).matches(),
+					RegExPatternUtil.matchMedCode(input), "code char " + c);
+		}
+	}
+
+	@Test
+	void randomStringsAreJudgedLikeTheRegex() {
+		String alphabet = "aZ09 _.-[]/\té#";
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			StringBuilder input = new StringBuilder();
+			int length = random.nextInt(8);
+			for (int j = 0; j < length; j++) {
+				input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			assertEquals(RegExPatternUtil.MED_NAME_PATTERN.matcher(input).matches(),
+					RegExPatternUtil.matchMedName(input), input.toString());
+			assertEquals(RegExPatternUtil.MED_CODE_PATTERN.matcher(input).matches(),
+					RegExPatternUtil.matchMedCode(input), input.toString());
+		}
+	}
+
+	@Test
+	void nullIsRejected() {
+		assertFalse(RegExPatternUtil.matchMedName(null));
+		assertFalse(RegExPatternUtil.matchMedCode(null));
+	}
+
+}
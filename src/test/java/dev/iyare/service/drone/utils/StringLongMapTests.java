@@ -0,0 +1,43 @@
+package dev.iyare.service.drone.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class StringLongMapTests {
+
+	@Test
+	void behavesLikeAHashMapThroughResizes() {
+		StringLongMap map = new StringLongMap(1, -1);
+		Map<String, Long> expected = new HashMap<String, Long>();
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			String key = "S" + random.nextInt(20000);
+			long value = random.nextLong() & Long.MAX_VALUE;
+			map.put(key, value);
+			expected.put(key, value);
+		}
+
+		assertEquals(expected.size(), map.size());
+		for (Map.Entry<String, Long> entry : expected.entrySet()) {
+			assertEquals(entry.getValue().longValue(), map.get(entry.getKey()), entry.getKey());
+		}
+	}
+
+	@Test
+	void absentKeysReturnTheMissingValue() {
+		StringLongMap map = new StringLongMap(4, -1);
+		map.put("Aa", 1);
+		// "Aa" and "BB" share a hash code
+		assertEquals(-1, map.get("BB"));
+		map.put("BB", 2);
+		assertEquals(1, map.get("Aa"));
+		assertEquals(2, map.get("BB"));
+		assertEquals(-1, map.get("C"));
+	}
+
+}